@@ -54,6 +54,8 @@ public class JavaLanguageOutput extends FreemarkerLanguageOutput {
             "generate-properties-for-parser-arguments",
             // Generates additional properties to save values of reserved fields for the case that the value differs from the expected value.
             "generate-properties-for-reserved-fields",
+            // Generates parsers reading simple fields directly from byte based read buffers, bypassing the generic field readers.
+            "generate-fast-path-parsers",
             // Map containing the type-names for external types.
             "externalTypes"));
     }
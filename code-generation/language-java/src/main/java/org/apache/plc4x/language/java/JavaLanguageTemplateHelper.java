@@ -381,35 +381,109 @@ public class JavaLanguageTemplateHelper extends BaseFreemarkerLanguageTemplateHe
             SimpleTypeReference simpleTypeReference = typeReference.asSimpleTypeReference().orElseThrow(IllegalStateException::new);
             return getDataReaderCall(simpleTypeReference);
         } else if (typeReference.isComplexTypeReference()) {
-            StringBuilder paramsString = new StringBuilder();
-            ComplexTypeReference complexTypeReference = typeReference.asComplexTypeReference().orElseThrow(IllegalStateException::new);
-            ComplexTypeDefinition typeDefinition = complexTypeReference.getTypeDefinition();
-            String parserCallString = getLanguageTypeNameForTypeReference(typeReference);
-            // In case of DataIo we actually need to use the type name and not what above returns.
-            // (In this case the mspec type name and the result type name differ)
-            if (typeReference.isDataIoTypeReference()) {
-                parserCallString = typeReference.asDataIoTypeReference().orElseThrow().getName();
-            }
-            if (typeDefinition.isDiscriminatedChildTypeDefinition()) {
-                parserCallString = "(" + getLanguageTypeNameForTypeReference(typeReference) + ") " + typeDefinition.getParentType().orElseThrow().getName();
-            }
-            List<Term> paramTerms = complexTypeReference.getParams().orElse(Collections.emptyList());
-            for (int i = 0; i < paramTerms.size(); i++) {
-                Term paramTerm = paramTerms.get(i);
-                final TypeReference argumentType = getArgumentType(complexTypeReference, i);
-                paramsString
-                    .append(", (")
-                    .append(getLanguageTypeNameForTypeReference(argumentType, true))
-                    .append(") (")
-                    .append(toParseExpression(null, argumentType, paramTerm, null))
-                    .append(")");
-            }
-            return "readComplex(() -> " + parserCallString + ".staticParse(readBuffer" + paramsString + "), readBuffer)";
+            return "readComplex(() -> " + getStaticParseCall(typeReference) + ", readBuffer)";
         } else {
             throw new IllegalStateException("What is this type? " + typeReference);
         }
     }
 
+    private String getStaticParseCall(TypeReference typeReference) {
+        StringBuilder paramsString = new StringBuilder();
+        ComplexTypeReference complexTypeReference = typeReference.asComplexTypeReference().orElseThrow(IllegalStateException::new);
+        ComplexTypeDefinition typeDefinition = complexTypeReference.getTypeDefinition();
+        String parserCallString = getLanguageTypeNameForTypeReference(typeReference);
+        // In case of DataIo we actually need to use the type name and not what above returns.
+        // (In this case the mspec type name and the result type name differ)
+        if (typeReference.isDataIoTypeReference()) {
+            parserCallString = typeReference.asDataIoTypeReference().orElseThrow().getName();
+        }
+        if (typeDefinition.isDiscriminatedChildTypeDefinition()) {
+            parserCallString = "(" + getLanguageTypeNameForTypeReference(typeReference) + ") " + typeDefinition.getParentType().orElseThrow().getName();
+        }
+        List<Term> paramTerms = complexTypeReference.getParams().orElse(Collections.emptyList());
+        for (int i = 0; i < paramTerms.size(); i++) {
+            Term paramTerm = paramTerms.get(i);
+            final TypeReference argumentType = getArgumentType(complexTypeReference, i);
+            paramsString
+                .append(", (")
+                .append(getLanguageTypeNameForTypeReference(argumentType, true))
+                .append(") (")
+                .append(toParseExpression(null, argumentType, paramTerm, null))
+                .append(")");
+        }
+        return parserCallString + ".staticParse(readBuffer" + paramsString + ")";
+    }
+
+    /**
+     * Returns the expression reading the given field directly from a {@code ReadBufferByteBased}, without going
+     * through the generic field- and data-readers (which allocate reader instances, varargs arrays, lambdas and box
+     * the value for every field read).
+     *
+     * @param field field to read.
+     * @return the expression reading the field from "_fastReadBuffer" or an empty string, if the field has to be read
+     * the generic way (Fast path parsers not enabled, fields with an encoding or types not supported).
+     */
+    public String getFastPathReadCall(TypedField field) {
+        if (!isGenerateFastPathParsers() || field.getEncoding().isPresent() || field.getAttribute("nullBytesHex").isPresent()) {
+            return "";
+        }
+        final String logicalName = field.asNamedField().map(NamedField::getName).orElse("");
+        final TypeReference typeReference = field.getType();
+        if (typeReference.isEnumTypeReference()) {
+            final String simpleReadCall = getFastPathReadCall(getEnumBaseTypeReference(typeReference), logicalName);
+            if (simpleReadCall.isEmpty()) {
+                return "";
+            }
+            return getLanguageTypeNameForTypeReference(typeReference) + ".enumForValue(" + simpleReadCall + ")";
+        } else if (typeReference.isSimpleTypeReference()) {
+            return getFastPathReadCall(typeReference.asSimpleTypeReference().orElseThrow(), logicalName);
+        } else if (typeReference.isComplexTypeReference() && !typeReference.isDataIoTypeReference()) {
+            return getStaticParseCall(typeReference);
+        }
+        return "";
+    }
+
+    /**
+     * @param field           field to read.
+     * @param parserArguments parser arguments of the current type.
+     * @return the condition under which the expression returned by {@link #getFastPathReadCall(TypedField)}
+     * can be used. Fields with an explicit byte order are only read directly, if it matches the one of the buffer.
+     */
+    public String getFastPathReadCondition(TypedField field, List<Argument> parserArguments) {
+        return field.getByteOrder()
+            .map(term -> "(_fastReadBuffer != null) && (_fastReadBuffer.getByteOrder() == (" + toParseExpression(field, field.getType(), term, parserArguments) + "))")
+            .orElse("_fastReadBuffer != null");
+    }
+
+    private String getFastPathReadCall(SimpleTypeReference simpleTypeReference, String logicalName) {
+        final int sizeInBits = simpleTypeReference.getSizeInBits();
+        final String readerArgs = "(\"" + logicalName + "\", " + sizeInBits + ")";
+        switch (simpleTypeReference.getBaseType()) {
+            case BIT:
+                return "_fastReadBuffer.readBit(\"" + logicalName + "\")";
+            case BYTE:
+                return "_fastReadBuffer.readByte(\"" + logicalName + "\")";
+            case UINT:
+                if (sizeInBits <= 7) return "_fastReadBuffer.readUnsignedByte" + readerArgs;
+                if (sizeInBits <= 15) return "_fastReadBuffer.readUnsignedShort" + readerArgs;
+                if (sizeInBits <= 31) return "_fastReadBuffer.readUnsignedInt" + readerArgs;
+                if (sizeInBits <= 63) return "_fastReadBuffer.readUnsignedLong" + readerArgs;
+                return "";
+            case INT:
+                if (sizeInBits <= 8) return "_fastReadBuffer.readSignedByte" + readerArgs;
+                if (sizeInBits <= 16) return "_fastReadBuffer.readShort" + readerArgs;
+                if (sizeInBits <= 32) return "_fastReadBuffer.readInt" + readerArgs;
+                if (sizeInBits <= 64) return "_fastReadBuffer.readLong" + readerArgs;
+                return "";
+            case FLOAT:
+                if (sizeInBits <= 32) return "_fastReadBuffer.readFloat" + readerArgs;
+                if (sizeInBits <= 64) return "_fastReadBuffer.readDouble" + readerArgs;
+                return "";
+            default:
+                return "";
+        }
+    }
+
     public String getDataReaderCall(SimpleTypeReference simpleTypeReference) {
         final int sizeInBits = simpleTypeReference.getSizeInBits();
         switch (simpleTypeReference.getBaseType()) {
@@ -1324,6 +1398,48 @@ public class JavaLanguageTemplateHelper extends BaseFreemarkerLanguageTemplateHe
             .orElse(false);
     }
 
+    /**
+     * The generated types are immutable (list fields are copied when constructing them), so their length only has to
+     * be computed once. The only exception are types whose length depends on their position inside an array
+     * ("_lastItem"), as only the surrounding type knows this.
+     *
+     * @param complexTypeDefinition type to check (including all its parent types)
+     * @return true if the result of getLengthInBits() can be cached in the instance.
+     */
+    public boolean isLengthInBitsCacheable(ComplexTypeDefinition complexTypeDefinition) {
+        ComplexTypeDefinition curType = complexTypeDefinition;
+        while (curType != null) {
+            for (Field curField : curType.getFields()) {
+                if (isLengthDependingOnVariable(curField, "_lastItem")) {
+                    return false;
+                }
+            }
+            curType = curType.getParentType().orElse(null);
+        }
+        return true;
+    }
+
+    private boolean isLengthDependingOnVariable(Field curField, String variable) {
+        if (requiresVariable(curField, variable)) {
+            return true;
+        }
+        if (curField.asPaddingField().map(paddingField -> paddingField.getPaddingCondition().contains(variable)).orElse(false)) {
+            return true;
+        }
+        if (curField.asManualField().map(manualField -> manualField.getLengthExpression().contains(variable)).orElse(false)) {
+            return true;
+        }
+        if (curField.asManualArrayField().map(manualArrayField -> manualArrayField.getLengthExpression().contains(variable)).orElse(false)) {
+            return true;
+        }
+        return curField.asTypedField()
+            .flatMap(typedField -> typedField.getType().asSimpleTypeReference())
+            .flatMap(SimpleTypeReference::asVstringTypeReference)
+            // Not every string has a length expression.
+            .map(vstringTypeReference -> (vstringTypeReference.getLengthExpression() != null) && vstringTypeReference.getLengthExpression().contains(variable))
+            .orElse(false);
+    }
+
     public String escapeValue(TypeReference typeReference, String valueString) {
         if (valueString == null) {
             return null;
@@ -1392,6 +1508,10 @@ public class JavaLanguageTemplateHelper extends BaseFreemarkerLanguageTemplateHe
         return options.getOrDefault("generate-properties-for-reserved-fields", "false").equals("true");
     }
 
+    public boolean isGenerateFastPathParsers() {
+        return options.getOrDefault("generate-fast-path-parsers", "false").equals("true");
+    }
+
     public String getExternalTypeImports() {
         StringBuilder imports = new StringBuilder();
         if(options.containsKey("externalTypes")) {
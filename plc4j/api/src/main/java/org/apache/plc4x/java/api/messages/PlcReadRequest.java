@@ -31,11 +31,32 @@ public interface PlcReadRequest extends PlcTagRequest {
     @Override
     CompletableFuture<? extends PlcReadResponse> execute();
 
+    /**
+     * @return true, if this request was built with {@link Builder#prepare()}.
+     */
+    default boolean isPrepared() {
+        return false;
+    }
+
     interface Builder extends PlcRequestBuilder {
 
         @Override
         PlcReadRequest build();
 
+        /**
+         * Builds a request, which is meant to be executed over and over again (e.g. for polling).
+         * <p>
+         * As with every request, the tag addresses are only parsed once. Additionally, the driver keeps what
+         * it derives from a prepared request (e.g. how it is split up into sub-requests), so executing it again
+         * only needs to send the sub-requests. This is also shared by prepared requests built anew with the same
+         * {@link PlcTag} instances (See {@link #addTag(String, PlcTag)}) on the same connection.
+         *
+         * @return prepared read request.
+         */
+        default PlcReadRequest prepare() {
+            return build();
+        }
+
         Builder addTagAddress(String name, String tagAddress);
         Builder addTag(String name, PlcTag tag);
     }
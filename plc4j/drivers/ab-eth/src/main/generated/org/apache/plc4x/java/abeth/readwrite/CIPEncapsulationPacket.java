@@ -51,7 +51,10 @@ public abstract class CIPEncapsulationPacket implements Message {
     super();
     this.sessionHandle = sessionHandle;
     this.status = status;
-    this.senderContext = senderContext;
+    this.senderContext =
+        (senderContext == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(senderContext));
     this.options = options;
   }
 
@@ -141,11 +144,16 @@ public abstract class CIPEncapsulationPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     CIPEncapsulationPacket _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Discriminator Field (commandType)
     lengthInBits += 16;
@@ -172,6 +180,7 @@ public abstract class CIPEncapsulationPacket implements Message {
 
     // Length of sub-type elements will be added by sub-type...
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class CIPEncapsulationReadRequest extends CIPEncapsulationPacket implemen
       DF1RequestMessage request) {
     super(sessionHandle, status, senderContext, options);
     this.request = request;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DF1RequestMessage getRequest() {
@@ -81,15 +83,21 @@ public class CIPEncapsulationReadRequest extends CIPEncapsulationPacket implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CIPEncapsulationReadRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (request)
     lengthInBits += request.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
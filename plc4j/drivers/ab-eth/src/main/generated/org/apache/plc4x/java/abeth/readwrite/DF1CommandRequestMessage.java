@@ -53,6 +53,8 @@ public class DF1CommandRequestMessage extends DF1RequestMessage implements Messa
       DF1RequestCommand command) {
     super(destinationAddress, sourceAddress, status, transactionCounter);
     this.command = command;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DF1RequestCommand getCommand() {
@@ -77,15 +79,21 @@ public class DF1CommandRequestMessage extends DF1RequestMessage implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DF1CommandRequestMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (command)
     lengthInBits += command.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,7 +53,9 @@ public class DF1CommandResponseMessageProtectedTypedLogicalRead extends DF1Respo
       int transactionCounter,
       List<Short> data) {
     super(destinationAddress, sourceAddress, status, transactionCounter);
-    this.data = data;
+    this.data = (data == null) ? null : Collections.unmodifiableList(new ArrayList<>(data));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Short> getData() {
@@ -78,17 +80,23 @@ public class DF1CommandResponseMessageProtectedTypedLogicalRead extends DF1Respo
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DF1CommandResponseMessageProtectedTypedLogicalRead _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (data != null) {
       lengthInBits += 8 * data.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
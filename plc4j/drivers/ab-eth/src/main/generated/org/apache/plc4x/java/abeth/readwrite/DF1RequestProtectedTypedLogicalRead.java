@@ -61,6 +61,8 @@ public class DF1RequestProtectedTypedLogicalRead extends DF1RequestCommand imple
     this.fileType = fileType;
     this.elementNumber = elementNumber;
     this.subElementNumber = subElementNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getByteSize() {
@@ -113,11 +115,16 @@ public class DF1RequestProtectedTypedLogicalRead extends DF1RequestCommand imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DF1RequestProtectedTypedLogicalRead _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (byteSize)
     lengthInBits += 8;
@@ -134,6 +141,7 @@ public class DF1RequestProtectedTypedLogicalRead extends DF1RequestCommand imple
     // Simple field (subElementNumber)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
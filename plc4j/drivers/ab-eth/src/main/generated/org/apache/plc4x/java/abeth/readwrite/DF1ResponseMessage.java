@@ -111,11 +111,16 @@ public abstract class DF1ResponseMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DF1ResponseMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -140,6 +145,7 @@ public abstract class DF1ResponseMessage implements Message {
 
     // Length of sub-type elements will be added by sub-type...
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
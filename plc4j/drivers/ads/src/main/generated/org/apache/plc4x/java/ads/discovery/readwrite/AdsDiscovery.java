@@ -58,7 +58,9 @@ public class AdsDiscovery implements Message {
     this.operation = operation;
     this.amsNetId = amsNetId;
     this.portNumber = portNumber;
-    this.blocks = blocks;
+    this.blocks = (blocks == null) ? null : Collections.unmodifiableList(new ArrayList<>(blocks));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getRequestId() {
@@ -149,11 +151,16 @@ public class AdsDiscovery implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AdsDiscovery _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (header)
     lengthInBits += 32;
@@ -182,6 +189,7 @@ public class AdsDiscovery implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
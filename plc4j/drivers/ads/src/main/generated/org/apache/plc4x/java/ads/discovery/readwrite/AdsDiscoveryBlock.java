@@ -73,17 +73,23 @@ public abstract class AdsDiscoveryBlock implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AdsDiscoveryBlock _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Discriminator Field (blockType)
     lengthInBits += 16;
 
     // Length of sub-type elements will be added by sub-type...
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
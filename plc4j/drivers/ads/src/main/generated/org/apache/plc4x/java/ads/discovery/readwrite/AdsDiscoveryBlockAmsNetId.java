@@ -51,6 +51,8 @@ public class AdsDiscoveryBlockAmsNetId extends AdsDiscoveryBlock implements Mess
   public AdsDiscoveryBlockAmsNetId(AmsNetId amsNetId) {
     super();
     this.amsNetId = amsNetId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public AmsNetId getAmsNetId() {
@@ -82,11 +84,16 @@ public class AdsDiscoveryBlockAmsNetId extends AdsDiscoveryBlock implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsDiscoveryBlockAmsNetId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (amsNetIdLength)
     lengthInBits += 16;
@@ -94,6 +101,7 @@ public class AdsDiscoveryBlockAmsNetId extends AdsDiscoveryBlock implements Mess
     // Simple field (amsNetId)
     lengthInBits += amsNetId.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class AdsDiscoveryBlockFingerprint extends AdsDiscoveryBlock implements M
   public AdsDiscoveryBlockFingerprint(byte[] data) {
     super();
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getData() {
@@ -77,11 +79,16 @@ public class AdsDiscoveryBlockFingerprint extends AdsDiscoveryBlock implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsDiscoveryBlockFingerprint _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (dataLen)
     lengthInBits += 16;
@@ -91,6 +98,7 @@ public class AdsDiscoveryBlockFingerprint extends AdsDiscoveryBlock implements M
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class AdsDiscoveryBlockOsData extends AdsDiscoveryBlock implements Messag
   public AdsDiscoveryBlockOsData(byte[] osData) {
     super();
     this.osData = osData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getOsData() {
@@ -77,11 +79,16 @@ public class AdsDiscoveryBlockOsData extends AdsDiscoveryBlock implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsDiscoveryBlockOsData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (osDataLen)
     lengthInBits += 16;
@@ -91,6 +98,7 @@ public class AdsDiscoveryBlockOsData extends AdsDiscoveryBlock implements Messag
       lengthInBits += 8 * osData.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class AdsDiscoveryBlockPassword extends AdsDiscoveryBlock implements Mess
   public AdsDiscoveryBlockPassword(AmsString password) {
     super();
     this.password = password;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public AmsString getPassword() {
@@ -72,15 +74,21 @@ public class AdsDiscoveryBlockPassword extends AdsDiscoveryBlock implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsDiscoveryBlockPassword _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (password)
     lengthInBits += password.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -51,6 +51,8 @@ public class AdsDiscoveryBlockStatus extends AdsDiscoveryBlock implements Messag
   public AdsDiscoveryBlockStatus(Status status) {
     super();
     this.status = status;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Status getStatus() {
@@ -86,11 +88,16 @@ public class AdsDiscoveryBlockStatus extends AdsDiscoveryBlock implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsDiscoveryBlockStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (statusLength)
     lengthInBits += 16;
@@ -98,6 +105,7 @@ public class AdsDiscoveryBlockStatus extends AdsDiscoveryBlock implements Messag
     // Simple field (status)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
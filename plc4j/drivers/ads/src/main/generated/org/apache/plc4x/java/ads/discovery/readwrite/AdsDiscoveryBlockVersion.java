@@ -48,6 +48,8 @@ public class AdsDiscoveryBlockVersion extends AdsDiscoveryBlock implements Messa
   public AdsDiscoveryBlockVersion(byte[] versionData) {
     super();
     this.versionData = versionData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getVersionData() {
@@ -77,11 +79,16 @@ public class AdsDiscoveryBlockVersion extends AdsDiscoveryBlock implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsDiscoveryBlockVersion _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (versionDataLen)
     lengthInBits += 16;
@@ -91,6 +98,7 @@ public class AdsDiscoveryBlockVersion extends AdsDiscoveryBlock implements Messa
       lengthInBits += 8 * versionData.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class AmsNetId implements Message {
     this.octet4 = octet4;
     this.octet5 = octet5;
     this.octet6 = octet6;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getOctet1() {
@@ -111,11 +113,16 @@ public class AmsNetId implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AmsNetId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (octet1)
     lengthInBits += 8;
@@ -135,6 +142,7 @@ public class AmsNetId implements Message {
     // Simple field (octet6)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class AmsString implements Message {
   public AmsString(String text) {
     super();
     this.text = text;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getText() {
@@ -77,11 +79,16 @@ public class AmsString implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AmsString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (strLen)
     lengthInBits += 16;
@@ -92,6 +99,7 @@ public class AmsString implements Message {
     // Reserved Field (reserved)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -75,6 +75,8 @@ public class AdsAddDeviceNotificationRequest extends AmsPacket implements Messag
     this.transmissionMode = transmissionMode;
     this.maxDelayInMs = maxDelayInMs;
     this.cycleTimeInMs = cycleTimeInMs;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getIndexGroup() {
@@ -145,11 +147,16 @@ public class AdsAddDeviceNotificationRequest extends AmsPacket implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsAddDeviceNotificationRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (indexGroup)
     lengthInBits += 32;
@@ -175,6 +182,7 @@ public class AdsAddDeviceNotificationRequest extends AmsPacket implements Messag
     // Reserved Field (reserved)
     lengthInBits += 64;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
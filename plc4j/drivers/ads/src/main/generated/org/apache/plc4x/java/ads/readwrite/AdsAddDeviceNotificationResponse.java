@@ -62,6 +62,8 @@ public class AdsAddDeviceNotificationResponse extends AmsPacket implements Messa
     super(targetAmsNetId, targetAmsPort, sourceAmsNetId, sourceAmsPort, errorCode, invokeId);
     this.result = result;
     this.notificationHandle = notificationHandle;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ReturnCode getResult() {
@@ -96,11 +98,16 @@ public class AdsAddDeviceNotificationResponse extends AmsPacket implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsAddDeviceNotificationResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (result)
     lengthInBits += 32;
@@ -108,6 +115,7 @@ public class AdsAddDeviceNotificationResponse extends AmsPacket implements Messa
     // Simple field (notificationHandle)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -42,6 +42,8 @@ public class AdsConstants implements Message {
 
   public AdsConstants() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getAdsTcpDefaultPort() {
@@ -64,15 +66,21 @@ public class AdsConstants implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AdsConstants _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (adsTcpDefaultPort)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class AdsDataTypeArrayInfo implements Message {
     super();
     this.lowerBound = lowerBound;
     this.numElements = numElements;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getLowerBound() {
@@ -90,11 +92,16 @@ public class AdsDataTypeArrayInfo implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AdsDataTypeArrayInfo _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lowerBound)
     lengthInBits += 32;
@@ -104,6 +111,7 @@ public class AdsDataTypeArrayInfo implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
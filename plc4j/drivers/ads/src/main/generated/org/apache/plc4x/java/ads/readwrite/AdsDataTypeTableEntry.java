@@ -91,9 +91,13 @@ public class AdsDataTypeTableEntry implements Message {
     this.dataTypeName = dataTypeName;
     this.simpleTypeName = simpleTypeName;
     this.comment = comment;
-    this.arrayInfo = arrayInfo;
-    this.children = children;
+    this.arrayInfo =
+        (arrayInfo == null) ? null : Collections.unmodifiableList(new ArrayList<>(arrayInfo));
+    this.children =
+        (children == null) ? null : Collections.unmodifiableList(new ArrayList<>(children));
     this.rest = rest;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getEntryLength() {
@@ -340,11 +344,16 @@ public class AdsDataTypeTableEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AdsDataTypeTableEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (entryLength)
     lengthInBits += 32;
@@ -426,6 +435,7 @@ public class AdsDataTypeTableEntry implements Message {
       lengthInBits += 8 * rest.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -59,6 +59,8 @@ public class AdsDeleteDeviceNotificationRequest extends AmsPacket implements Mes
       long notificationHandle) {
     super(targetAmsNetId, targetAmsPort, sourceAmsNetId, sourceAmsPort, errorCode, invokeId);
     this.notificationHandle = notificationHandle;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getNotificationHandle() {
@@ -82,15 +84,21 @@ public class AdsDeleteDeviceNotificationRequest extends AmsPacket implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsDeleteDeviceNotificationRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (notificationHandle)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -59,6 +59,8 @@ public class AdsDeleteDeviceNotificationResponse extends AmsPacket implements Me
       ReturnCode result) {
     super(targetAmsNetId, targetAmsPort, sourceAmsNetId, sourceAmsPort, errorCode, invokeId);
     this.result = result;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ReturnCode getResult() {
@@ -86,15 +88,21 @@ public class AdsDeleteDeviceNotificationResponse extends AmsPacket implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsDeleteDeviceNotificationResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (result)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -64,7 +64,12 @@ public class AdsDeviceNotificationRequest extends AmsPacket implements Message {
     super(targetAmsNetId, targetAmsPort, sourceAmsNetId, sourceAmsPort, errorCode, invokeId);
     this.length = length;
     this.stamps = stamps;
-    this.adsStampHeaders = adsStampHeaders;
+    this.adsStampHeaders =
+        (adsStampHeaders == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(adsStampHeaders));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getLength() {
@@ -102,11 +107,16 @@ public class AdsDeviceNotificationRequest extends AmsPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsDeviceNotificationRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (length)
     lengthInBits += 32;
@@ -123,6 +133,7 @@ public class AdsDeviceNotificationRequest extends AmsPacket implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class AdsInvalidRequest extends AmsPacket implements Message {
       long errorCode,
       long invokeId) {
     super(targetAmsNetId, targetAmsPort, sourceAmsNetId, sourceAmsPort, errorCode, invokeId);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -70,12 +72,18 @@ public class AdsInvalidRequest extends AmsPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsInvalidRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class AdsMultiRequestItemReadWrite extends AdsMultiRequestItem implements
     this.itemIndexOffset = itemIndexOffset;
     this.itemReadLength = itemReadLength;
     this.itemWriteLength = itemWriteLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getItemIndexGroup() {
@@ -100,11 +102,16 @@ public class AdsMultiRequestItemReadWrite extends AdsMultiRequestItem implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsMultiRequestItemReadWrite _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (itemIndexGroup)
     lengthInBits += 32;
@@ -118,6 +125,7 @@ public class AdsMultiRequestItemReadWrite extends AdsMultiRequestItem implements
     // Simple field (itemWriteLength)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
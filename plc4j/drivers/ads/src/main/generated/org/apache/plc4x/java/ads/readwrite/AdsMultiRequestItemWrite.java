@@ -52,6 +52,8 @@ public class AdsMultiRequestItemWrite extends AdsMultiRequestItem implements Mes
     this.itemIndexGroup = itemIndexGroup;
     this.itemIndexOffset = itemIndexOffset;
     this.itemWriteLength = itemWriteLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getItemIndexGroup() {
@@ -90,11 +92,16 @@ public class AdsMultiRequestItemWrite extends AdsMultiRequestItem implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsMultiRequestItemWrite _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (itemIndexGroup)
     lengthInBits += 32;
@@ -105,6 +112,7 @@ public class AdsMultiRequestItemWrite extends AdsMultiRequestItem implements Mes
     // Simple field (itemWriteLength)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
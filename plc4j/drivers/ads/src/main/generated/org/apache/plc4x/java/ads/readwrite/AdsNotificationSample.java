@@ -47,6 +47,8 @@ public class AdsNotificationSample implements Message {
     this.notificationHandle = notificationHandle;
     this.sampleSize = sampleSize;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getNotificationHandle() {
@@ -83,11 +85,16 @@ public class AdsNotificationSample implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AdsNotificationSample _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (notificationHandle)
     lengthInBits += 32;
@@ -100,6 +107,7 @@ public class AdsNotificationSample implements Message {
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
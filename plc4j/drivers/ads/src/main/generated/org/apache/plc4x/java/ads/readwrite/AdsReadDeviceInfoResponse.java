@@ -71,6 +71,8 @@ public class AdsReadDeviceInfoResponse extends AmsPacket implements Message {
     this.minorVersion = minorVersion;
     this.version = version;
     this.device = device;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ReturnCode getResult() {
@@ -126,11 +128,16 @@ public class AdsReadDeviceInfoResponse extends AmsPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsReadDeviceInfoResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (result)
     lengthInBits += 32;
@@ -149,6 +156,7 @@ public class AdsReadDeviceInfoResponse extends AmsPacket implements Message {
       lengthInBits += 8 * device.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -65,6 +65,8 @@ public class AdsReadRequest extends AmsPacket implements Message {
     this.indexGroup = indexGroup;
     this.indexOffset = indexOffset;
     this.length = length;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getIndexGroup() {
@@ -102,11 +104,16 @@ public class AdsReadRequest extends AmsPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsReadRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (indexGroup)
     lengthInBits += 32;
@@ -117,6 +124,7 @@ public class AdsReadRequest extends AmsPacket implements Message {
     // Simple field (length)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
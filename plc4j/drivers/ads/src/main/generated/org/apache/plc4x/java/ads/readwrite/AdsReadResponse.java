@@ -62,6 +62,8 @@ public class AdsReadResponse extends AmsPacket implements Message {
     super(targetAmsNetId, targetAmsPort, sourceAmsNetId, sourceAmsPort, errorCode, invokeId);
     this.result = result;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ReturnCode getResult() {
@@ -101,11 +103,16 @@ public class AdsReadResponse extends AmsPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsReadResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (result)
     lengthInBits += 32;
@@ -118,6 +125,7 @@ public class AdsReadResponse extends AmsPacket implements Message {
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -65,6 +65,8 @@ public class AdsReadStateResponse extends AmsPacket implements Message {
     this.result = result;
     this.adsState = adsState;
     this.deviceState = deviceState;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ReturnCode getResult() {
@@ -106,11 +108,16 @@ public class AdsReadStateResponse extends AmsPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsReadStateResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (result)
     lengthInBits += 32;
@@ -121,6 +128,7 @@ public class AdsReadStateResponse extends AmsPacket implements Message {
     // Simple field (deviceState)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -69,8 +69,10 @@ public class AdsReadWriteRequest extends AmsPacket implements Message {
     this.indexGroup = indexGroup;
     this.indexOffset = indexOffset;
     this.readLength = readLength;
-    this.items = items;
+    this.items = (items == null) ? null : Collections.unmodifiableList(new ArrayList<>(items));
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getIndexGroup() {
@@ -130,11 +132,16 @@ public class AdsReadWriteRequest extends AmsPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsReadWriteRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (indexGroup)
     lengthInBits += 32;
@@ -162,6 +169,7 @@ public class AdsReadWriteRequest extends AmsPacket implements Message {
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
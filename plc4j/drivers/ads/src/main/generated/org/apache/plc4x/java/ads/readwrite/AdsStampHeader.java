@@ -48,7 +48,12 @@ public class AdsStampHeader implements Message {
     super();
     this.timestamp = timestamp;
     this.samples = samples;
-    this.adsNotificationSamples = adsNotificationSamples;
+    this.adsNotificationSamples =
+        (adsNotificationSamples == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(adsNotificationSamples));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BigInteger getTimestamp() {
@@ -85,11 +90,16 @@ public class AdsStampHeader implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AdsStampHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timestamp)
     lengthInBits += 64;
@@ -106,6 +116,7 @@ public class AdsStampHeader implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
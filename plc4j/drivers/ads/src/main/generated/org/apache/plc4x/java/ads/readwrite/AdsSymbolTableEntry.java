@@ -112,6 +112,8 @@ public class AdsSymbolTableEntry implements Message {
     this.dataTypeName = dataTypeName;
     this.comment = comment;
     this.rest = rest;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getEntryLength() {
@@ -444,11 +446,16 @@ public class AdsSymbolTableEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AdsSymbolTableEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (entryLength)
     lengthInBits += 32;
@@ -542,6 +549,7 @@ public class AdsSymbolTableEntry implements Message {
       lengthInBits += 8 * rest.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
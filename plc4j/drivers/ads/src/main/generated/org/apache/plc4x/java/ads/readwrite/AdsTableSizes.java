@@ -59,6 +59,8 @@ public class AdsTableSizes implements Message {
     this.dataTypeLength = dataTypeLength;
     this.extraCount = extraCount;
     this.extraLength = extraLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getSymbolCount() {
@@ -140,11 +142,16 @@ public class AdsTableSizes implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AdsTableSizes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (symbolCount)
     lengthInBits += 32;
@@ -164,6 +171,7 @@ public class AdsTableSizes implements Message {
     // Simple field (extraLength)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
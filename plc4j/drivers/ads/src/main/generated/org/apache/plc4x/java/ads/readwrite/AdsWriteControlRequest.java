@@ -65,6 +65,8 @@ public class AdsWriteControlRequest extends AmsPacket implements Message {
     this.adsState = adsState;
     this.deviceState = deviceState;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getAdsState() {
@@ -107,11 +109,16 @@ public class AdsWriteControlRequest extends AmsPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdsWriteControlRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (adsState)
     lengthInBits += 16;
@@ -127,6 +134,7 @@ public class AdsWriteControlRequest extends AmsPacket implements Message {
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,6 +62,8 @@ public class AmsSerialFrame implements Message {
     this.length = length;
     this.userdata = userdata;
     this.crc = crc;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getMagicCookie() {
@@ -126,11 +128,16 @@ public class AmsSerialFrame implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AmsSerialFrame _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (magicCookie)
     lengthInBits += 16;
@@ -153,6 +160,7 @@ public class AmsSerialFrame implements Message {
     // Simple field (crc)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -59,6 +59,8 @@ public class AmsSerialResetFrame implements Message {
     this.fragmentNumber = fragmentNumber;
     this.length = length;
     this.crc = crc;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getMagicCookie() {
@@ -116,11 +118,16 @@ public class AmsSerialResetFrame implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AmsSerialResetFrame _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (magicCookie)
     lengthInBits += 16;
@@ -140,6 +147,7 @@ public class AmsSerialResetFrame implements Message {
     // Simple field (crc)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class AmsTCPPacket implements Message {
   public AmsTCPPacket(AmsPacket userdata) {
     super();
     this.userdata = userdata;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public AmsPacket getUserdata() {
@@ -85,11 +87,16 @@ public class AmsTCPPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AmsTCPPacket _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 16;
@@ -100,6 +107,7 @@ public class AmsTCPPacket implements Message {
     // Simple field (userdata)
     lengthInBits += userdata.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -25,6 +25,8 @@ import org.apache.plc4x.java.spi.configuration.ConfigurationParameterConverter;
 import org.apache.plc4x.java.spi.configuration.annotations.*;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.BooleanDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.IntDefaultValue;
+import org.apache.plc4x.java.spi.configuration.annotations.defaults.StringDefaultValue;
+import org.apache.plc4x.java.spi.transaction.TransactionExecutorMode;
 
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -66,6 +68,45 @@ public class AdsConfiguration implements PlcConnectionConfiguration {
     @Description("Configures, if when connecting the data-type- and symbol-table should be read. This is an optimization that can help in cases, where the PLC program is pretty large and downloading the full tables is causing problems. When disabled, symbolic addresses will manually be resolved as soon as an address is used.")
     protected boolean loadSymbolAndDataTypeTables;
 
+    @ConfigurationParameter("transaction-executor")
+    @StringDefaultValue("DEDICATED")
+    @Description("Defines which threads requests are processed on (Defaults to DEDICATED).\n" +
+        "Allowed values are: \n" +
+        " - DEDICATED (every connection uses its own small thread pool)\n" +
+        " - SHARED (all connections share one bounded thread pool)\n" +
+        " - VIRTUAL (every request runs on its own virtual thread, requires Java 21)\n")
+    @Since("0.13.0")
+    private TransactionExecutorMode transactionExecutorMode;
+
+    @ConfigurationParameter("transaction-executor-pool-size")
+    @IntDefaultValue(0)
+    @Description("Number of threads of the shared thread pool used by 'transaction-executor=SHARED' (Defaults to the number of available processors).")
+    @Since("0.13.0")
+    private int transactionExecutorPoolSize;
+
+    @ConfigurationParameter("write-coalescing")
+    @BooleanDefaultValue(false)
+    @Description("If enabled, requests sent at the same time (e.g. the parts of a split up read request) are flushed to the network together.")
+    @Since("0.13.0")
+    private boolean writeCoalescing;
+
+    @ConfigurationParameter("max-sum-command-items")
+    @IntDefaultValue(500)
+    @Description("Maximum number of items read or written with one ADS sum command. Bigger requests are split up into multiple sum commands.")
+    @Since("0.13.0")
+    private int maxSumCommandItems;
+
+    @ConfigurationParameter("max-sum-command-size")
+    @IntDefaultValue(64000)
+    @Description("Maximum number of bytes of data sent or received with one ADS sum command. Bigger requests are split up into multiple sum commands.")
+    @Since("0.13.0")
+    private int maxSumCommandSize;
+
+    @ConfigurationParameter("symbol-table-cache-directory")
+    @Description("Directory in which the data-type and symbol tables uploaded from the PLC are cached. When set, the tables are only uploaded again, if the PLC program changed since they were cached (Defaults to no caching).")
+    @Since("0.13.0")
+    private String symbolTableCacheDirectory;
+
     public AmsNetId getTargetAmsNetId() {
         return targetAmsNetId;
     }
@@ -114,6 +155,57 @@ public class AdsConfiguration implements PlcConnectionConfiguration {
         this.loadSymbolAndDataTypeTables = loadSymbolAndDataTypeTables;
     }
 
+    @Override
+    public TransactionExecutorMode getTransactionExecutorMode() {
+        return transactionExecutorMode;
+    }
+
+    public void setTransactionExecutorMode(TransactionExecutorMode transactionExecutorMode) {
+        this.transactionExecutorMode = transactionExecutorMode;
+    }
+
+    @Override
+    public int getTransactionExecutorPoolSize() {
+        return transactionExecutorPoolSize;
+    }
+
+    public void setTransactionExecutorPoolSize(int transactionExecutorPoolSize) {
+        this.transactionExecutorPoolSize = transactionExecutorPoolSize;
+    }
+
+    @Override
+    public boolean isWriteCoalescing() {
+        return writeCoalescing;
+    }
+
+    public void setWriteCoalescing(boolean writeCoalescing) {
+        this.writeCoalescing = writeCoalescing;
+    }
+
+    public int getMaxSumCommandItems() {
+        return maxSumCommandItems;
+    }
+
+    public void setMaxSumCommandItems(int maxSumCommandItems) {
+        this.maxSumCommandItems = maxSumCommandItems;
+    }
+
+    public int getMaxSumCommandSize() {
+        return maxSumCommandSize;
+    }
+
+    public void setMaxSumCommandSize(int maxSumCommandSize) {
+        this.maxSumCommandSize = maxSumCommandSize;
+    }
+
+    public String getSymbolTableCacheDirectory() {
+        return symbolTableCacheDirectory;
+    }
+
+    public void setSymbolTableCacheDirectory(String symbolTableCacheDirectory) {
+        this.symbolTableCacheDirectory = symbolTableCacheDirectory;
+    }
+
     public static class AmsNetIdConverter implements ConfigurationParameterConverter<AmsNetId> {
 
         @Override
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.ads.model;
+
+import org.apache.plc4x.java.ads.readwrite.DataItem;
+import org.apache.plc4x.java.api.types.PlcValueType;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.spi.generation.ByteOrder;
+import org.apache.plc4x.java.spi.generation.ParseException;
+import org.apache.plc4x.java.spi.generation.ReadBufferByteBased;
+import org.apache.plc4x.java.spi.values.*;
+
+/**
+ * Parser for the data of the notification samples of one subscription.
+ * <p>
+ * The parser is chosen once when subscribing. Fixed size primitive types are decoded directly from the
+ * (little endian) sample data, all other types are parsed with the generated {@link DataItem} parser.
+ */
+@FunctionalInterface
+public interface AdsSampleParser {
+
+    PlcValue parse(byte[] data) throws ParseException;
+
+    static AdsSampleParser of(PlcValueType plcValueType) {
+        AdsSampleParser generic = data -> DataItem.staticParse(
+            new ReadBufferByteBased(data, ByteOrder.LITTLE_ENDIAN), plcValueType, data.length);
+        if (plcValueType == null) {
+            return generic;
+        }
+        switch (plcValueType) {
+            case BOOL:
+                return fixedSize(1, data -> new PlcBOOL((data[0] & 0x01) != 0), generic);
+            case BYTE:
+                return fixedSize(1, data -> new PlcBYTE((short) (data[0] & 0xFF)), generic);
+            case SINT:
+                return fixedSize(1, data -> new PlcSINT(data[0]), generic);
+            case USINT:
+                return fixedSize(1, data -> new PlcUSINT((short) (data[0] & 0xFF)), generic);
+            case WORD:
+                return fixedSize(2, data -> new PlcWORD(readUint16(data)), generic);
+            case INT:
+                return fixedSize(2, data -> new PlcINT((short) readUint16(data)), generic);
+            case UINT:
+                return fixedSize(2, data -> new PlcUINT(readUint16(data)), generic);
+            case DWORD:
+                return fixedSize(4, data -> new PlcDWORD(readInt32(data) & 0xFFFFFFFFL), generic);
+            case DINT:
+                return fixedSize(4, data -> new PlcDINT(readInt32(data)), generic);
+            case UDINT:
+                return fixedSize(4, data -> new PlcUDINT(readInt32(data) & 0xFFFFFFFFL), generic);
+            case REAL:
+                return fixedSize(4, data -> new PlcREAL(Float.intBitsToFloat(readInt32(data))), generic);
+            case LINT:
+                return fixedSize(8, data -> new PlcLINT(readInt64(data)), generic);
+            case LREAL:
+                return fixedSize(8, data -> new PlcLREAL(Double.longBitsToDouble(readInt64(data))), generic);
+            default:
+                return generic;
+        }
+    }
+
+    /**
+     * Only uses the given parser, if there is enough data, otherwise the generic one produces a proper error.
+     */
+    private static AdsSampleParser fixedSize(int size, AdsSampleParser parser, AdsSampleParser generic) {
+        return data -> (data.length >= size) ? parser.parse(data) : generic.parse(data);
+    }
+
+    private static int readUint16(byte[] data) {
+        return (data[0] & 0xFF) | ((data[1] & 0xFF) << 8);
+    }
+
+    private static int readInt32(byte[] data) {
+        return (data[0] & 0xFF) | ((data[1] & 0xFF) << 8) | ((data[2] & 0xFF) << 16) | ((data[3] & 0xFF) << 24);
+    }
+
+    private static long readInt64(byte[] data) {
+        long value = 0;
+        for (int i = 7; i >= 0; i--) {
+            value = (value << 8) | (data[i] & 0xFF);
+        }
+        return value;
+    }
+
+}
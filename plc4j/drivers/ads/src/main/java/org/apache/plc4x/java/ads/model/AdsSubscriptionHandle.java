@@ -19,6 +19,7 @@
 package org.apache.plc4x.java.ads.model;
 
 import org.apache.plc4x.java.ads.readwrite.AdsDataTypeTableEntry;
+import org.apache.plc4x.java.api.types.PlcValueType;
 import org.apache.plc4x.java.spi.messages.PlcSubscriber;
 import org.apache.plc4x.java.spi.model.DefaultPlcSubscriptionHandle;
 
@@ -32,11 +33,14 @@ public class AdsSubscriptionHandle extends DefaultPlcSubscriptionHandle {
 
     private final Long notificationHandle;
 
-    public AdsSubscriptionHandle(PlcSubscriber plcSubscriber, String tagName, AdsDataTypeTableEntry adsDataType, Long notificationHandle) {
+    private final AdsSampleParser sampleParser;
+
+    public AdsSubscriptionHandle(PlcSubscriber plcSubscriber, String tagName, AdsDataTypeTableEntry adsDataType, PlcValueType plcValueType, Long notificationHandle) {
         super(plcSubscriber);
         this.tagName = tagName;
         this.adsDataType = adsDataType;
         this.notificationHandle = notificationHandle;
+        this.sampleParser = AdsSampleParser.of(plcValueType);
     }
 
     public String getTagName() {
@@ -51,6 +55,13 @@ public class AdsSubscriptionHandle extends DefaultPlcSubscriptionHandle {
         return notificationHandle;
     }
 
+    /**
+     * @return parser for the data of the notification samples of this subscription.
+     */
+    public AdsSampleParser getSampleParser() {
+        return sampleParser;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
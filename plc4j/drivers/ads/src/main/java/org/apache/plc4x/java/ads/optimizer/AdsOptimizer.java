@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.ads.optimizer;
+
+import org.apache.plc4x.java.ads.readwrite.ReservedIndexGroups;
+import org.apache.plc4x.java.ads.tag.DirectAdsTag;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Plans the ADS sum commands ({@code ADSIGRP_MULTIPLE_READ} and {@code ADSIGRP_MULTIPLE_WRITE}) used for reading
+ * and writing multiple tags.
+ * <p>
+ * TwinCAT limits the number of sub-commands of a sum command (to about 500) and the size of an AMS frame (to 64KB),
+ * so the tags of a request are distributed over as many sum commands as needed to stay within both limits.
+ * Tags located next to each other in the same index group are merged into one sub-command reading (or writing)
+ * the whole range.
+ * <p>
+ * As the planning requires the resolved addresses and the sizes of the tags, it's done by the protocol logic after
+ * resolving all symbolic addresses and not as part of the generic optimizer chain.
+ */
+public class AdsOptimizer {
+
+    public static final int DEFAULT_MAX_SUM_COMMAND_ITEMS = 500;
+    // Leaves enough room for the AMS/TCP, AMS and ADS headers in a 64KB frame.
+    public static final int DEFAULT_MAX_SUM_COMMAND_SIZE = 64000;
+
+    // Every sub-command is described by index group, index offset and length (4 bytes each).
+    static final int SUB_COMMAND_HEADER_SIZE = 12;
+    // Every sub-command returns a 4 byte result code.
+    static final int SUB_COMMAND_RESULT_SIZE = 4;
+
+    // Index groups of the PLC (%MX, retain and data area) accessing single bits, their index offset is a bit offset.
+    static final long ADSIGRP_PLC_RWMX = 0x4021;
+    static final long ADSIGRP_PLC_RWRX = 0x4031;
+    static final long ADSIGRP_PLC_RWDX = 0x4041;
+
+    private final int maxItems;
+    private final int maxSize;
+
+    public AdsOptimizer() {
+        this(DEFAULT_MAX_SUM_COMMAND_ITEMS, DEFAULT_MAX_SUM_COMMAND_SIZE);
+    }
+
+    /**
+     * @param maxItems maximum number of sub-commands in one sum command.
+     * @param maxSize  maximum size of the data of a sum command (request as well as response).
+     */
+    public AdsOptimizer(int maxItems, int maxSize) {
+        if (maxItems < 1) {
+            throw new IllegalArgumentException("maxItems must be at least 1");
+        }
+        this.maxItems = maxItems;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Plans the sum commands for reading the given items.
+     * Items in the same index group, which overlap or directly follow each other are read by one sub-command.
+     *
+     * @param items items to read.
+     * @return list of sum commands, each being a list of sub-commands.
+     */
+    public List<List<SubCommand>> planReads(List<Item> items) {
+        return pack(merge(items, true), false);
+    }
+
+    /**
+     * Plans the sum commands for writing the given items.
+     * Items in the same index group, which directly follow each other are written by one sub-command.
+     * Overlapping items are never merged, as the order of the writes would not be defined.
+     *
+     * @param items items to write (Each item needs its data).
+     * @return list of sum commands, each being a list of sub-commands.
+     */
+    public List<List<SubCommand>> planWrites(List<Item> items) {
+        return pack(merge(items, false), true);
+    }
+
+    /**
+     * Index groups above {@code ADSIGRP_SYMTAB} are reserved for special services (e.g. access by handle), where the
+     * index offset is not a memory address, so items in these are never merged. The same applies to the index groups
+     * accessing single bits, as their index offset counts bits, but the length of the items bytes.
+     */
+    static boolean isMergeable(long indexGroup) {
+        return (indexGroup < ReservedIndexGroups.ADSIGRP_SYMTAB.getValue()) && !isBitAddressed(indexGroup);
+    }
+
+    private static boolean isBitAddressed(long indexGroup) {
+        return (indexGroup == ADSIGRP_PLC_RWMX) || (indexGroup == ADSIGRP_PLC_RWRX) || (indexGroup == ADSIGRP_PLC_RWDX)
+            || (indexGroup == ReservedIndexGroups.ADSIGRP_IOIMAGE_RWIX.getValue())
+            || (indexGroup == ReservedIndexGroups.ADSIGRP_IOIMAGE_RWOX.getValue());
+    }
+
+    private List<SubCommand> merge(List<Item> items, boolean allowOverlap) {
+        List<Item> sortedItems = new ArrayList<>(items);
+        sortedItems.sort(Comparator.comparingLong((Item item) -> item.getTag().getIndexGroup())
+            .thenComparingLong(item -> item.getTag().getIndexOffset()));
+        List<SubCommand> subCommands = new ArrayList<>(sortedItems.size());
+        SubCommand current = null;
+        for (Item item : sortedItems) {
+            DirectAdsTag tag = item.getTag();
+            if ((current != null) && isMergeable(tag.getIndexGroup()) && (current.indexGroup == tag.getIndexGroup())
+                && (allowOverlap ? tag.getIndexOffset() <= current.getEndOffset() : tag.getIndexOffset() == current.getEndOffset())) {
+                current.add(item);
+            } else {
+                current = new SubCommand(item);
+                subCommands.add(current);
+            }
+        }
+        return subCommands;
+    }
+
+    private List<List<SubCommand>> pack(List<SubCommand> subCommands, boolean write) {
+        List<List<SubCommand>> sumCommands = new ArrayList<>();
+        List<SubCommand> current = new ArrayList<>();
+        long requestSize = 0;
+        long responseSize = 0;
+        for (SubCommand subCommand : subCommands) {
+            long subCommandRequestSize = SUB_COMMAND_HEADER_SIZE + (write ? subCommand.length : 0);
+            long subCommandResponseSize = SUB_COMMAND_RESULT_SIZE + (write ? 0 : subCommand.length);
+            // Sub-commands too big for any sum command are still sent, just on their own.
+            if (!current.isEmpty() && ((current.size() >= maxItems)
+                || (requestSize + subCommandRequestSize > maxSize) || (responseSize + subCommandResponseSize > maxSize))) {
+                sumCommands.add(current);
+                current = new ArrayList<>();
+                requestSize = 0;
+                responseSize = 0;
+            }
+            current.add(subCommand);
+            requestSize += subCommandRequestSize;
+            responseSize += subCommandResponseSize;
+        }
+        if (!current.isEmpty()) {
+            sumCommands.add(current);
+        }
+        return sumCommands;
+    }
+
+    /**
+     * Tag of a request, together with its resolved address.
+     */
+    public static class Item {
+
+        private final String tagName;
+        private final DirectAdsTag tag;
+        private final long size;
+        private final byte[] data;
+
+        /**
+         * @param tagName name of the tag in the request.
+         * @param tag     resolved address of the tag.
+         * @param size    number of bytes occupied by the tag.
+         */
+        public Item(String tagName, DirectAdsTag tag, long size) {
+            this.tagName = tagName;
+            this.tag = tag;
+            this.size = size;
+            this.data = null;
+        }
+
+        /**
+         * @param tagName name of the tag in the request.
+         * @param tag     resolved address of the tag.
+         * @param data    serialized value to write.
+         */
+        public Item(String tagName, DirectAdsTag tag, byte[] data) {
+            this.tagName = tagName;
+            this.tag = tag;
+            this.size = data.length;
+            this.data = data;
+        }
+
+        public String getTagName() {
+            return tagName;
+        }
+
+        public DirectAdsTag getTag() {
+            return tag;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+    }
+
+    /**
+     * Sub-command of a sum command, accessing the range of one or more items.
+     */
+    public static class SubCommand {
+
+        private final long indexGroup;
+        private final long indexOffset;
+        private long length;
+        private final List<Item> items;
+
+        private SubCommand(Item item) {
+            this.indexGroup = item.getTag().getIndexGroup();
+            this.indexOffset = item.getTag().getIndexOffset();
+            this.length = item.getSize();
+            this.items = new ArrayList<>();
+            this.items.add(item);
+        }
+
+        private void add(Item item) {
+            length = Math.max(getEndOffset(), item.getTag().getIndexOffset() + item.getSize()) - indexOffset;
+            items.add(item);
+        }
+
+        private long getEndOffset() {
+            return indexOffset + length;
+        }
+
+        public long getIndexGroup() {
+            return indexGroup;
+        }
+
+        public long getIndexOffset() {
+            return indexOffset;
+        }
+
+        public long getLength() {
+            return length;
+        }
+
+        /**
+         * @return the items accessed by this sub-command (in the order of their address).
+         */
+        public List<Item> getItems() {
+            return Collections.unmodifiableList(items);
+        }
+
+        /**
+         * @param item one of the items of this sub-command.
+         * @return position of the data of the given item in the data of this sub-command.
+         */
+        public int getItemOffset(Item item) {
+            return (int) (item.getTag().getIndexOffset() - indexOffset);
+        }
+
+        /**
+         * @return the data written by this sub-command (Only available when planned for writing).
+         */
+        public byte[] getData() {
+            byte[] data = new byte[(int) length];
+            for (Item item : items) {
+                System.arraycopy(item.getData(), 0, data, getItemOffset(item), item.getData().length);
+            }
+            return data;
+        }
+    }
+
+}
@@ -18,10 +18,13 @@
  */
 package org.apache.plc4x.java.ads.protocol;
 
+import io.netty.util.collection.LongObjectHashMap;
+import io.netty.util.collection.LongObjectMap;
 import org.apache.plc4x.java.ads.configuration.AdsConfiguration;
 import org.apache.plc4x.java.ads.discovery.readwrite.AmsNetId;
 import org.apache.plc4x.java.ads.discovery.readwrite.*;
 import org.apache.plc4x.java.ads.model.AdsSubscriptionHandle;
+import org.apache.plc4x.java.ads.optimizer.AdsOptimizer;
 import org.apache.plc4x.java.ads.readwrite.*;
 import org.apache.plc4x.java.ads.tag.AdsTag;
 import org.apache.plc4x.java.ads.tag.AdsTagHandler;
@@ -53,17 +56,20 @@ import org.apache.plc4x.java.spi.model.DefaultArrayInfo;
 import org.apache.plc4x.java.spi.model.DefaultPlcConsumerRegistration;
 import org.apache.plc4x.java.spi.model.DefaultPlcSubscriptionTag;
 import org.apache.plc4x.java.spi.transaction.RequestTransactionManager;
+import org.apache.plc4x.java.spi.transaction.TransactionPriority;
 import org.apache.plc4x.java.spi.values.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.math.BigInteger;
+import java.io.ByteArrayOutputStream;
 import java.net.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantLock;
@@ -76,6 +82,8 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
     private static final Logger LOGGER = LoggerFactory.getLogger(AdsProtocolLogic.class);
 
     private AdsConfiguration configuration;
+    private AdsOptimizer optimizer = new AdsOptimizer();
+    private AdsSymbolTableCache symbolTableCache;
 
     private String adsVersion;
     private String deviceName;
@@ -84,6 +92,8 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
     private final RequestTransactionManager tm;
 
     private final Map<DefaultPlcConsumerRegistration, Consumer<PlcSubscriptionEvent>> consumers = new ConcurrentHashMap<>();
+    // Consumers of every notification handle, rebuilt whenever a consumer is registered or unregistered.
+    private volatile LongObjectMap<NotificationTarget[]> notificationTargets = new LongObjectHashMap<>();
 
     private final ConcurrentHashMap<SymbolicAdsTag, CompletableFuture<Void>> pendingResolutionRequests;
 
@@ -116,6 +126,11 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
     @Override
     public void setConfiguration(AdsConfiguration configuration) {
         this.configuration = configuration;
+        this.optimizer = new AdsOptimizer(configuration.getMaxSumCommandItems(), configuration.getMaxSumCommandSize());
+        if ((configuration.getSymbolTableCacheDirectory() != null) && !configuration.getSymbolTableCacheDirectory().isEmpty()) {
+            this.symbolTableCache = new AdsSymbolTableCache(Paths.get(configuration.getSymbolTableCacheDirectory()));
+        }
+        tm.setExecutorMode(configuration.getTransactionExecutorMode(), configuration.getTransactionExecutorPoolSize());
     }
 
     @Override
@@ -352,6 +367,18 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
                     AdsTableSizes adsTableSizes = AdsTableSizes.staticParse(readBuffer);
                     LOGGER.debug("PLC contains {} symbols and {} data-types", adsTableSizes.getSymbolCount(), adsTableSizes.getDataTypeCount());
 
+                    // If the tables were already uploaded for the same version of the PLC program, use these.
+                    Optional<AdsSymbolTableCache.Tables> cachedTables = (symbolTableCache == null) ? Optional.empty() :
+                        symbolTableCache.load(configuration.getTargetAmsNetId(), configuration.getTargetAmsPort(),
+                            onlineVersion, symbolVersion, adsTableSizes);
+                    if (cachedTables.isPresent()) {
+                        LOGGER.debug("Using cached data-type and symbol tables");
+                        parseDataTypeTable(cachedTables.get().getDataTypeTable(), adsTableSizes.getDataTypeCount());
+                        parseSymbolTable(cachedTables.get().getSymbolTable(), adsTableSizes.getSymbolCount());
+                        subscribeToVersionChanges(context, future);
+                        return;
+                    }
+
                     // Now we load the datatype definitions.
                     AmsPacket readDataTypeTableRequest = new AdsReadRequest(configuration.getTargetAmsNetId(), configuration.getTargetAmsPort(),
                         configuration.getSourceAmsNetId(), configuration.getSourceAmsPort(), 0, getInvokeId(),
@@ -372,14 +399,10 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
                                 return;
                             }
                             // Parse the result.
-                            ReadBuffer rb = new ReadBufferByteBased(readDataTypeTableResponse.getData());
-                            for (int i = 0; i < adsTableSizes.getDataTypeCount(); i++) {
-                                try {
-                                    AdsDataTypeTableEntry adsDataTypeTableEntry = AdsDataTypeTableEntry.staticParse(rb);
-                                    dataTypeTable.put(adsDataTypeTableEntry.getDataTypeName(), adsDataTypeTableEntry);
-                                } catch (ParseException e) {
-                                    throw new RuntimeException(e);
-                                }
+                            try {
+                                parseDataTypeTable(readDataTypeTableResponse.getData(), adsTableSizes.getDataTypeCount());
+                            } catch (ParseException e) {
+                                throw new RuntimeException(e);
                             }
 
                             // Now we load the symbol definitions
@@ -401,76 +424,20 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
                                         future.completeExceptionally(new PlcException("Reading symbol table failed: " + readSymbolTableResponse.getResult()));
                                         return;
                                     }
-                                    ReadBuffer rb2 = new ReadBufferByteBased(readSymbolTableResponse.getData());
-                                    for (int i = 0; i < adsTableSizes.getSymbolCount(); i++) {
-                                        try {
-                                            AdsSymbolTableEntry adsSymbolTableEntry = AdsSymbolTableEntry.staticParse(rb2);
-                                            symbolTable.put(adsSymbolTableEntry.getName(), adsSymbolTableEntry);
-                                        } catch (ParseException e) {
-                                            throw new RuntimeException(e);
-                                        }
+                                    try {
+                                        parseSymbolTable(readSymbolTableResponse.getData(), adsTableSizes.getSymbolCount());
+                                    } catch (ParseException e) {
+                                        throw new RuntimeException(e);
                                     }
 
-                                    LinkedHashMap<String, PlcTagItem<PlcSubscriptionTag>> subscriptionTags = new LinkedHashMap<>();
-                                    // Subscribe to online-version changes (get the address from the collected data for symbol: "TwinCAT_SystemInfoVarList._AppInfo.OnlineChangeCnt")
-                                    subscriptionTags.put("onlineVersion", new DefaultPlcTagItem<>(new DefaultPlcSubscriptionTag(
-                                        PlcSubscriptionType.CHANGE_OF_STATE,
-                                        new SymbolicAdsTag("TwinCAT_SystemInfoVarList._AppInfo.OnlineChangeCnt", org.apache.plc4x.java.api.types.PlcValueType.UDINT, Collections.emptyList()),
-                                        Duration.ofMillis(1000))));
-                                    // Subscribe to symbol-version changes (Address: GroupID: 0xF008, Offset: 0, Read length: 1)
-                                    subscriptionTags.put("symbolVersion", new DefaultPlcTagItem<>(new DefaultPlcSubscriptionTag(
-                                        PlcSubscriptionType.CHANGE_OF_STATE,
-                                        new DirectAdsTag(0xF008, 0x0000, "USINT", 1),
-                                        Duration.ofMillis(1000))));
-                                    Consumer<PlcSubscriptionEvent> consumer = plcSubscriptionEvent -> {
-                                        for (String tagName : plcSubscriptionEvent.getTagNames()) {
-                                            switch (tagName) {
-                                                case "onlineVersion": {
-                                                    long oldVersion = onlineVersion;
-                                                    long newVersion = plcSubscriptionEvent.getPlcValue("onlineVersion").getLong();
-                                                    if (oldVersion != newVersion) {
-                                                        if (invalidationLock.tryLock()) {
-                                                            LOGGER.info("Detected change of the 'online-version', invalidating data type and symbol information.");
-                                                            CompletableFuture<Void> reloadingFuture = readSymbolTableAndDatatypeTable(context);
-                                                            reloadingFuture.whenComplete((unused, throwable) -> {
-                                                                if (throwable != null) {
-                                                                    LOGGER.error("Error reloading data type and symbol data", throwable);
-                                                                }
-                                                                invalidationLock.unlock();
-                                                            });
-                                                        }
-                                                    }
-                                                    break;
-                                                }
-                                                case "symbolVersion": {
-                                                    int oldVersion = symbolVersion;
-                                                    int newVersion = plcSubscriptionEvent.getPlcValue("symbolVersion").getInteger();
-                                                    if (oldVersion != newVersion) {
-                                                        if (invalidationLock.tryLock()) {
-                                                            LOGGER.info("Detected change of the 'symbol-version', invalidating data type and symbol information.");
-                                                            CompletableFuture<Void> reloadingFuture = readSymbolTableAndDatatypeTable(context);
-                                                            reloadingFuture.whenComplete((unused, throwable) -> {
-                                                                if (throwable != null) {
-                                                                    LOGGER.error("Error reloading data type and symbol data", throwable);
-                                                                }
-                                                                invalidationLock.unlock();
-                                                            });
-                                                        }
-                                                    }
-                                                }
-                                            }
-                                        }
-                                    };
-
-                                    PlcSubscriptionRequest subscriptionRequest = new DefaultPlcSubscriptionRequest(this, subscriptionTags, consumer, Collections.emptyMap());
-                                    CompletableFuture<PlcSubscriptionResponse> subscriptionResponseCompletableFuture = subscribe(subscriptionRequest);
-
-                                    // Wait for the subscription to be finished
-                                    subscriptionResponseCompletableFuture.whenComplete((plcSubscriptionResponse, throwable) -> {
-                                        if (throwable == null) {
-                                            future.complete(null);
-                                        }
-                                    });
+                                    // Remember the tables, so the next connection doesn't have to upload them again.
+                                    if (symbolTableCache != null) {
+                                        symbolTableCache.store(configuration.getTargetAmsNetId(), configuration.getTargetAmsPort(),
+                                            onlineVersion, symbolVersion, adsTableSizes,
+                                            new AdsSymbolTableCache.Tables(readDataTypeTableResponse.getData(), readSymbolTableResponse.getData()));
+                                    }
+
+                                    subscribeToVersionChanges(context, future);
                                 }));
                         }));
                 } catch (ParseException e) {
@@ -480,6 +447,93 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
         return future;
     }
 
+    protected void parseDataTypeTable(byte[] data, long dataTypeCount) throws ParseException {
+        ReadBuffer readBuffer = new ReadBufferByteBased(data);
+        for (int i = 0; i < dataTypeCount; i++) {
+            AdsDataTypeTableEntry adsDataTypeTableEntry = AdsDataTypeTableEntry.staticParse(readBuffer);
+            dataTypeTable.put(adsDataTypeTableEntry.getDataTypeName(), adsDataTypeTableEntry);
+        }
+    }
+
+    protected void parseSymbolTable(byte[] data, long symbolCount) throws ParseException {
+        ReadBuffer readBuffer = new ReadBufferByteBased(data);
+        for (int i = 0; i < symbolCount; i++) {
+            AdsSymbolTableEntry adsSymbolTableEntry = AdsSymbolTableEntry.staticParse(readBuffer);
+            symbolTable.put(adsSymbolTableEntry.getName(), adsSymbolTableEntry);
+        }
+    }
+
+    /**
+     * Subscribes to changes of the online- and symbol-version, in order to reload the tables as soon as the PLC
+     * program changes. The given future is completed as soon as the subscription is set up.
+     */
+    protected void subscribeToVersionChanges(ConversationContext<AmsTCPPacket> context, CompletableFuture<Void> future) {
+        LinkedHashMap<String, PlcTagItem<PlcSubscriptionTag>> subscriptionTags = new LinkedHashMap<>();
+        // Subscribe to online-version changes (get the address from the collected data for symbol: "TwinCAT_SystemInfoVarList._AppInfo.OnlineChangeCnt")
+        subscriptionTags.put("onlineVersion", new DefaultPlcTagItem<>(new DefaultPlcSubscriptionTag(
+            PlcSubscriptionType.CHANGE_OF_STATE,
+            new SymbolicAdsTag("TwinCAT_SystemInfoVarList._AppInfo.OnlineChangeCnt", org.apache.plc4x.java.api.types.PlcValueType.UDINT, Collections.emptyList()),
+            Duration.ofMillis(1000))));
+        // Subscribe to symbol-version changes (Address: GroupID: 0xF008, Offset: 0, Read length: 1)
+        subscriptionTags.put("symbolVersion", new DefaultPlcTagItem<>(new DefaultPlcSubscriptionTag(
+            PlcSubscriptionType.CHANGE_OF_STATE,
+            new DirectAdsTag(0xF008, 0x0000, "USINT", 1),
+            Duration.ofMillis(1000))));
+        Consumer<PlcSubscriptionEvent> consumer = plcSubscriptionEvent -> {
+            for (String tagName : plcSubscriptionEvent.getTagNames()) {
+                switch (tagName) {
+                    case "onlineVersion": {
+                        long oldVersion = onlineVersion;
+                        long newVersion = plcSubscriptionEvent.getPlcValue("onlineVersion").getLong();
+                        if (oldVersion != newVersion) {
+                            if (invalidationLock.tryLock()) {
+                                LOGGER.info("Detected change of the 'online-version', invalidating data type and symbol information.");
+                                // Update the version first, so the reload doesn't pick up the cached tables of the old one.
+                                onlineVersion = newVersion;
+                                CompletableFuture<Void> reloadingFuture = readSymbolTableAndDatatypeTable(context);
+                                reloadingFuture.whenComplete((unused, throwable) -> {
+                                    if (throwable != null) {
+                                        LOGGER.error("Error reloading data type and symbol data", throwable);
+                                    }
+                                    invalidationLock.unlock();
+                                });
+                            }
+                        }
+                        break;
+                    }
+                    case "symbolVersion": {
+                        int oldVersion = symbolVersion;
+                        int newVersion = plcSubscriptionEvent.getPlcValue("symbolVersion").getInteger();
+                        if (oldVersion != newVersion) {
+                            if (invalidationLock.tryLock()) {
+                                LOGGER.info("Detected change of the 'symbol-version', invalidating data type and symbol information.");
+                                // Update the version first, so the reload doesn't pick up the cached tables of the old one.
+                                symbolVersion = newVersion;
+                                CompletableFuture<Void> reloadingFuture = readSymbolTableAndDatatypeTable(context);
+                                reloadingFuture.whenComplete((unused, throwable) -> {
+                                    if (throwable != null) {
+                                        LOGGER.error("Error reloading data type and symbol data", throwable);
+                                    }
+                                    invalidationLock.unlock();
+                                });
+                            }
+                        }
+                    }
+                }
+            }
+        };
+
+        PlcSubscriptionRequest subscriptionRequest = new DefaultPlcSubscriptionRequest(this, subscriptionTags, consumer, Collections.emptyMap());
+        CompletableFuture<PlcSubscriptionResponse> subscriptionResponseCompletableFuture = subscribe(subscriptionRequest);
+
+        // Wait for the subscription to be finished
+        subscriptionResponseCompletableFuture.whenComplete((plcSubscriptionResponse, throwable) -> {
+            if (throwable == null) {
+                future.complete(null);
+            }
+        });
+    }
+
     @Override
     public void onDisconnect(ConversationContext<AmsTCPPacket> context) {
         super.onDisconnect(context);
@@ -694,18 +748,9 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
 
         CompletableFuture<PlcReadResponse> future = new CompletableFuture<>();
 
-        String dataTypeName = directAdsTag.getPlcDataType();
-        AdsDataTypeTableEntry adsDataTypeTableEntry = dataTypeTable.get(dataTypeName);
-        long size;
-        if (adsDataTypeTableEntry == null) {
-            size = AdsDataType.valueOf(dataTypeName).getNumBytes();
-        } else {
-            size = adsDataTypeTableEntry.getSize();
-        }
-
         AmsPacket amsPacket = new AdsReadRequest(configuration.getTargetAmsNetId(), configuration.getTargetAmsPort(),
             configuration.getSourceAmsNetId(), configuration.getSourceAmsPort(), 0, getInvokeId(),
-            directAdsTag.getIndexGroup(), directAdsTag.getIndexOffset(), size * directAdsTag.getNumberOfElements());
+            directAdsTag.getIndexGroup(), directAdsTag.getIndexOffset(), getTagSize(directAdsTag));
         AmsTCPPacket amsTCPPacket = new AmsTCPPacket(amsPacket);
 
         // Start a new request-transaction (Is ended in the response-handler)
@@ -733,52 +778,74 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
     }
 
     protected CompletableFuture<PlcReadResponse> multiRead(PlcReadRequest readRequest, Map<AdsTag, DirectAdsTag> resolvedTags) {
-        CompletableFuture<PlcReadResponse> future = new CompletableFuture<>();
+        Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
 
-        // Create a list of all successfully resolved tags.
-        List<AdsTag> successfullyResolvedTags = readRequest.getTagNames().stream()
-            .map(tagName -> (AdsTag) readRequest.getTag(tagName))
-            .filter(adsTag -> resolvedTags.get(adsTag) != null)
-            .collect(Collectors.toList());
+        // Tags which couldn't be resolved are reported as invalid, all others are read with as few sum commands as possible.
+        List<AdsOptimizer.Item> items = new ArrayList<>(resolvedTags.size());
+        for (String tagName : readRequest.getTagNames()) {
+            DirectAdsTag directAdsTag = resolvedTags.get((AdsTag) readRequest.getTag(tagName));
+            if (directAdsTag == null) {
+                values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.INVALID_ADDRESS, null));
+                continue;
+            }
+            try {
+                items.add(new AdsOptimizer.Item(tagName, directAdsTag, getTagSize(directAdsTag)));
+            } catch (IllegalArgumentException e) {
+                values.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.INVALID_DATATYPE, null));
+            }
+        }
+        List<List<AdsOptimizer.SubCommand>> sumCommands = optimizer.planReads(items);
+        List<CompletableFuture<Map<String, PlcResponseItem<PlcValue>>>> sumCommandFutures = sumCommands.stream()
+            .map(this::sumRead).collect(Collectors.toList());
 
-        // Calculate the expected size of the response data.
-        long expectedResponseDataSize = successfullyResolvedTags.stream().mapToLong(
-            adsTag -> {
-                DirectAdsTag directAdsTag = resolvedTags.get(adsTag);
-                String dataTypeName = directAdsTag.getPlcDataType();
-                AdsDataTypeTableEntry adsDataTypeTableEntry = dataTypeTable.get(dataTypeName);
-                long size;
-                if (adsDataTypeTableEntry == null) {
-                    size = AdsDataType.valueOf(dataTypeName).getNumBytes();
+        CompletableFuture<PlcReadResponse> future = new CompletableFuture<>();
+        CompletableFuture.allOf(sumCommandFutures.toArray(new CompletableFuture[0])).whenComplete((unused, throwable) -> {
+            if ((throwable != null) && sumCommandFutures.stream().allMatch(CompletableFuture::isCompletedExceptionally)) {
+                future.completeExceptionally((throwable instanceof CompletionException) ? throwable.getCause() : throwable);
+                return;
+            }
+            // If only some sum commands failed, only the tags read by these are failed.
+            for (int i = 0; i < sumCommands.size(); i++) {
+                CompletableFuture<Map<String, PlcResponseItem<PlcValue>>> sumCommandFuture = sumCommandFutures.get(i);
+                if (sumCommandFuture.isCompletedExceptionally()) {
+                    LOGGER.warn("Sum read request failed", sumCommandFuture.handle((result, e) -> e).join());
+                    for (AdsOptimizer.SubCommand subCommand : sumCommands.get(i)) {
+                        for (AdsOptimizer.Item item : subCommand.getItems()) {
+                            values.put(item.getTagName(), new DefaultPlcResponseItem<>(PlcResponseCode.REMOTE_ERROR, null));
+                        }
+                    }
                 } else {
-                    size = adsDataTypeTableEntry.getSize();
+                    values.putAll(sumCommandFuture.join());
                 }
-                // Status code + payload size
-                return 4 + (size * directAdsTag.getNumberOfElements());
-            }).sum();
+            }
+            future.complete(new DefaultPlcReadResponse(readRequest, values));
+        });
+        return future;
+    }
+
+    /**
+     * Reads the given sub-commands with one ADS-Sum Read Request.
+     *
+     * @param subCommands sub-commands planned by the optimizer.
+     * @return future completed with the values of all tags read by the given sub-commands.
+     */
+    protected CompletableFuture<Map<String, PlcResponseItem<PlcValue>>> sumRead(List<AdsOptimizer.SubCommand> subCommands) {
+        CompletableFuture<Map<String, PlcResponseItem<PlcValue>>> future = new CompletableFuture<>();
+
+        // Status code + payload size for every sub-command.
+        long expectedResponseDataSize = 0;
+        List<AdsMultiRequestItem> requestItems = new ArrayList<>(subCommands.size());
+        for (AdsOptimizer.SubCommand subCommand : subCommands) {
+            expectedResponseDataSize += 4 + subCommand.getLength();
+            requestItems.add(new AdsMultiRequestItemRead(
+                subCommand.getIndexGroup(), subCommand.getIndexOffset(), subCommand.getLength()));
+        }
 
         // With multi-requests, the index-group is fixed and the index offset indicates the number of elements.
         AmsPacket amsPacket = new AdsReadWriteRequest(configuration.getTargetAmsNetId(), configuration.getTargetAmsPort(),
             configuration.getSourceAmsNetId(), configuration.getSourceAmsPort(),
-            0, getInvokeId(), ReservedIndexGroups.ADSIGRP_MULTIPLE_READ.getValue(), successfullyResolvedTags.size(),
-            expectedResponseDataSize,
-            successfullyResolvedTags.stream().map(tag -> {
-                DirectAdsTag directAdsTag = resolvedTags.get(tag);
-                String dataTypeName = directAdsTag.getPlcDataType();
-                AdsDataTypeTableEntry adsDataTypeTableEntry = dataTypeTable.get(dataTypeName);
-                long size;
-                // If the lookup failed, fallback to something hard-coded in order to access simple
-                // types without type-information being present.
-                if (adsDataTypeTableEntry == null) {
-                    size = AdsDataType.valueOf(dataTypeName).getNumBytes();
-                } else {
-                    size = adsDataTypeTableEntry.getSize();
-                }
-                return new AdsMultiRequestItemRead(
-                    directAdsTag.getIndexGroup(), directAdsTag.getIndexOffset(),
-                    (size * directAdsTag.getNumberOfElements()));
-            }).collect(Collectors.toList()),
-            null);
+            0, getInvokeId(), ReservedIndexGroups.ADSIGRP_MULTIPLE_READ.getValue(), subCommands.size(),
+            expectedResponseDataSize, requestItems, null);
         AmsTCPPacket amsTCPPacket = new AmsTCPPacket(amsPacket);
 
         // Start a new request-transaction (Is ended in the response-handler)
@@ -792,9 +859,8 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
             .only(AdsReadWriteResponse.class)
             .handle(response -> {
                 if (response.getResult() == ReturnCode.OK) {
-                    final PlcReadResponse plcReadResponse = convertToPlc4xReadResponse(readRequest, resolvedTags, response);
                     // Convert the response from the PLC into a PLC4X Response ...
-                    future.complete(plcReadResponse);
+                    future.complete(convertSumReadResponse(subCommands, response.getData()));
                 } else if (response.getResult() == ReturnCode.ADSERR_DEVICE_INVALIDSIZE) {
                     future.completeExceptionally(
                         new PlcException("The parameter size was not correct (Internal error)"));
@@ -807,6 +873,54 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
         return future;
     }
 
+    protected Map<String, PlcResponseItem<PlcValue>> convertSumReadResponse(List<AdsOptimizer.SubCommand> subCommands, byte[] data) {
+        Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
+        // The result codes of all sub-commands come first, followed by the data of all sub-commands.
+        ReadBuffer readBuffer = new ReadBufferByteBased(data, ByteOrder.LITTLE_ENDIAN);
+        int dataOffset = subCommands.size() * 4;
+        for (AdsOptimizer.SubCommand subCommand : subCommands) {
+            PlcResponseCode responseCode;
+            try {
+                responseCode = parsePlcResponseCode(ReturnCode.enumForValue(readBuffer.readUnsignedLong(32)));
+            } catch (ParseException e) {
+                responseCode = PlcResponseCode.INTERNAL_ERROR;
+            }
+            for (AdsOptimizer.Item item : subCommand.getItems()) {
+                if (responseCode != PlcResponseCode.OK) {
+                    values.put(item.getTagName(), new DefaultPlcResponseItem<>(responseCode, null));
+                    continue;
+                }
+                // Every item is parsed from its own slice of the data, so a value being parsed from fewer bytes
+                // than requested doesn't shift the ones following it.
+                int itemStart = Math.min(dataOffset + subCommand.getItemOffset(item), data.length);
+                int itemEnd = (int) Math.min(itemStart + item.getSize(), data.length);
+                ReadBuffer itemReadBuffer = new ReadBufferByteBased(
+                    Arrays.copyOfRange(data, itemStart, itemEnd), ByteOrder.LITTLE_ENDIAN);
+                values.put(item.getTagName(), parseResponseItem(item.getTag(), itemReadBuffer));
+            }
+            dataOffset += (int) subCommand.getLength();
+        }
+        return values;
+    }
+
+    /**
+     * @param directAdsTag resolved tag.
+     * @return number of bytes occupied by the given tag.
+     */
+    protected long getTagSize(DirectAdsTag directAdsTag) {
+        String dataTypeName = directAdsTag.getPlcDataType();
+        AdsDataTypeTableEntry adsDataTypeTableEntry = dataTypeTable.get(dataTypeName);
+        long size;
+        // If the lookup failed, fallback to something hard-coded in order to access simple
+        // types without type-information being present.
+        if (adsDataTypeTableEntry == null) {
+            size = AdsDataType.valueOf(dataTypeName).getNumBytes();
+        } else {
+            size = adsDataTypeTableEntry.getSize();
+        }
+        return size * directAdsTag.getNumberOfElements();
+    }
+
     protected PlcReadResponse convertToPlc4xReadResponse(PlcReadRequest readRequest, Map<AdsTag, DirectAdsTag> resolvedTags, AmsPacket adsData) {
         ReadBuffer readBuffer = null;
         Map<String, PlcResponseCode> responseCodes = new HashMap<>();
@@ -1062,7 +1176,7 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
         AmsTCPPacket amsTCPPacket = new AmsTCPPacket(amsPacket);
 
         // Start a new request-transaction (Is ended in the response-handler)
-        RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
+        RequestTransactionManager.RequestTransaction transaction = tm.startRequest(TransactionPriority.HIGH);
         transaction.submit(() -> conversationContext.sendRequest(amsTCPPacket)
             .expectResponse(AmsTCPPacket.class, Duration.ofMillis(configuration.getTimeoutRequest()))
             .onTimeout(future::completeExceptionally)
@@ -1087,60 +1201,80 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
 
     protected CompletableFuture<PlcWriteResponse> multiWrite(PlcWriteRequest writeRequest, Map<AdsTag, DirectAdsTag> resolvedTags) {
         CompletableFuture<PlcWriteResponse> future = new CompletableFuture<>();
-
-        int numTags = writeRequest.getTags().size();
+        Map<String, PlcResponseCode> responseCodes = new HashMap<>();
 
         // Serialize all tags.
-        List<byte[]> serializedTags = new ArrayList<>(numTags);
-        Map<DirectAdsTag, AdsDataTypeTableEntry> tagDatatypes = new LinkedHashMap<>(numTags);
+        List<AdsOptimizer.Item> items = new ArrayList<>(resolvedTags.size());
         for (String tagName : writeRequest.getTagNames()) {
-            final AdsTag adsTag = (AdsTag) writeRequest.getTag(tagName);
+            final DirectAdsTag directAdsTag = resolvedTags.get((AdsTag) writeRequest.getTag(tagName));
             // Skip invalid addresses.
-            if(resolvedTags.get(adsTag) == null) {
+            if (directAdsTag == null) {
+                responseCodes.put(tagName, PlcResponseCode.INVALID_ADDRESS);
                 continue;
             }
-            final DirectAdsTag directAdsTag = resolvedTags.get(adsTag);
             final PlcValue plcValue = writeRequest.getPlcValue(tagName);
-            final AdsDataTypeTableEntry dataType = dataTypeTable.get(directAdsTag.getPlcDataType());
             try {
-                byte[] serializedValue = serializePlcValue(plcValue, directAdsTag.getPlcDataType());
-                serializedTags.add(serializedValue);
-                tagDatatypes.put(directAdsTag, dataType);
+                items.add(new AdsOptimizer.Item(tagName, directAdsTag, serializePlcValue(plcValue, directAdsTag.getPlcDataType())));
             } catch (Exception e) {
                 future.completeExceptionally(new PlcException("Error serializing data", e));
                 return future;
             }
         }
+        List<List<AdsOptimizer.SubCommand>> sumCommands = optimizer.planWrites(items);
+        List<CompletableFuture<Map<String, PlcResponseCode>>> sumCommandFutures = sumCommands.stream()
+            .map(this::sumWrite).collect(Collectors.toList());
 
-        // Calculate the size of all serialized tags together.
-        int serializedSize = serializedTags.stream().mapToInt(
-            serializedTag -> serializedTag.length).sum();
-
-        // Copy all serialized tags into one buffer.
-        // This is intentionally not "LittleEndian" as we're just concatenating the serialized values.
-        WriteBufferByteBased writeBuffer = new WriteBufferByteBased(serializedSize);
-        for (byte[] serializedTag : serializedTags) {
-            try {
-                writeBuffer.writeByteArray("", serializedTag);
-            } catch (SerializationException e) {
-                future.completeExceptionally(new PlcException("Error serializing data", e));
-                return future;
+        CompletableFuture.allOf(sumCommandFutures.toArray(new CompletableFuture[0])).whenComplete((unused, throwable) -> {
+            if ((throwable != null) && sumCommandFutures.stream().allMatch(CompletableFuture::isCompletedExceptionally)) {
+                future.completeExceptionally((throwable instanceof CompletionException) ? throwable.getCause() : throwable);
+                return;
+            }
+            // If only some sum commands failed, only the tags written by these are failed.
+            for (int i = 0; i < sumCommands.size(); i++) {
+                CompletableFuture<Map<String, PlcResponseCode>> sumCommandFuture = sumCommandFutures.get(i);
+                if (sumCommandFuture.isCompletedExceptionally()) {
+                    LOGGER.warn("Sum write request failed", sumCommandFuture.handle((result, e) -> e).join());
+                    for (AdsOptimizer.SubCommand subCommand : sumCommands.get(i)) {
+                        for (AdsOptimizer.Item item : subCommand.getItems()) {
+                            responseCodes.put(item.getTagName(), PlcResponseCode.REMOTE_ERROR);
+                        }
+                    }
+                } else {
+                    responseCodes.putAll(sumCommandFuture.join());
+                }
             }
+            future.complete(new DefaultPlcWriteResponse(writeRequest, responseCodes));
+        });
+        return future;
+    }
+
+    /**
+     * Writes the given sub-commands with one ADS-Sum Write Request.
+     *
+     * @param subCommands sub-commands planned by the optimizer.
+     * @return future completed with the response codes of all tags written by the given sub-commands.
+     */
+    protected CompletableFuture<Map<String, PlcResponseCode>> sumWrite(List<AdsOptimizer.SubCommand> subCommands) {
+        CompletableFuture<Map<String, PlcResponseCode>> future = new CompletableFuture<>();
+
+        // Copy the data of all sub-commands into one buffer.
+        List<AdsMultiRequestItem> requestItems = new ArrayList<>(subCommands.size());
+        ByteArrayOutputStream data = new ByteArrayOutputStream();
+        for (AdsOptimizer.SubCommand subCommand : subCommands) {
+            requestItems.add(new AdsMultiRequestItemWrite(
+                subCommand.getIndexGroup(), subCommand.getIndexOffset(), subCommand.getLength()));
+            data.writeBytes(subCommand.getData());
         }
 
         // With multi-requests, the index-group is fixed and the index offset indicates the number of elements.
         AmsPacket amsPacket = new AdsReadWriteRequest(configuration.getTargetAmsNetId(), configuration.getTargetAmsPort(),
             configuration.getSourceAmsNetId(), configuration.getSourceAmsPort(),
-            0, getInvokeId(), ReservedIndexGroups.ADSIGRP_MULTIPLE_WRITE.getValue(), serializedTags.size(),
-            (long) numTags * 4,
-            tagDatatypes.entrySet().stream().map(entry -> new AdsMultiRequestItemWrite(
-                    entry.getKey().getIndexGroup(), entry.getKey().getIndexOffset(),
-                    entry.getValue().getSize()))
-                .collect(Collectors.toList()), writeBuffer.getBytes());
+            0, getInvokeId(), ReservedIndexGroups.ADSIGRP_MULTIPLE_WRITE.getValue(), subCommands.size(),
+            (long) subCommands.size() * 4, requestItems, data.toByteArray());
         AmsTCPPacket amsTCPPacket = new AmsTCPPacket(amsPacket);
 
         // Start a new request-transaction (Is ended in the response-handler)
-        RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
+        RequestTransactionManager.RequestTransaction transaction = tm.startRequest(TransactionPriority.HIGH);
         transaction.submit(() -> conversationContext.sendRequest(amsTCPPacket)
             .expectResponse(AmsTCPPacket.class, Duration.ofMillis(configuration.getTimeoutRequest()))
             .onTimeout(future::completeExceptionally)
@@ -1150,9 +1284,8 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
             .only(AdsReadWriteResponse.class)
             .handle(response -> {
                 if (response.getResult() == ReturnCode.OK) {
-                    final PlcWriteResponse plcWriteResponse = convertToPlc4xWriteResponse(writeRequest, resolvedTags, response);
                     // Convert the response from the PLC into a PLC4X Response ...
-                    future.complete(plcWriteResponse);
+                    future.complete(convertSumWriteResponse(subCommands, response.getData()));
                 } else {
                     future.completeExceptionally(new PlcException("Unexpected result " + response.getResult()));
                 }
@@ -1162,6 +1295,23 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
         return future;
     }
 
+    protected Map<String, PlcResponseCode> convertSumWriteResponse(List<AdsOptimizer.SubCommand> subCommands, byte[] data) {
+        Map<String, PlcResponseCode> responseCodes = new HashMap<>();
+        ReadBuffer readBuffer = new ReadBufferByteBased(data, ByteOrder.LITTLE_ENDIAN);
+        for (AdsOptimizer.SubCommand subCommand : subCommands) {
+            PlcResponseCode responseCode;
+            try {
+                responseCode = parsePlcResponseCode(ReturnCode.enumForValue(readBuffer.readUnsignedLong(32)));
+            } catch (ParseException e) {
+                responseCode = PlcResponseCode.INTERNAL_ERROR;
+            }
+            for (AdsOptimizer.Item item : subCommand.getItems()) {
+                responseCodes.put(item.getTagName(), responseCode);
+            }
+        }
+        return responseCodes;
+    }
+
     protected byte[] serializePlcValue(PlcValue plcValue, String datatypeName) throws SerializationException {
         // First check, if we have type information available.
         if (!dataTypeTable.containsKey(datatypeName)) {
@@ -1390,6 +1540,7 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
                             new AdsSubscriptionHandle(this,
                                 tagName,
                                 adsDataTypeTableEntry,
+                                getPlcValueTypeForAdsDataType(adsDataTypeTableEntry),
                                 response.getNotificationHandle())));
 
                         // After receiving the last ADD_DEVICE_NOTIFICATION response, complete the PLC4X response.
@@ -1488,40 +1639,61 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
         };
     }
 
+    @Override
+    protected Object getCorrelationKey(AmsTCPPacket msg) {
+        // Responses always carry the invoke id of their request.
+        return (msg.getUserdata() != null) ? msg.getUserdata().getInvokeId() : null;
+    }
+
     @Override
     protected void decode(ConversationContext<AmsTCPPacket> context, AmsTCPPacket msg) throws Exception {
         if (msg.getUserdata() instanceof AdsDeviceNotificationRequest) {
             AdsDeviceNotificationRequest notificationData = (AdsDeviceNotificationRequest) msg.getUserdata();
-            List<AdsStampHeader> stamps = notificationData.getAdsStampHeaders();
-            for (AdsStampHeader stamp : stamps) {
-                // convert Windows FILETIME format to unix epoch
-                long unixEpochTimestamp = stamp.getTimestamp().divide(BigInteger.valueOf(10000L)).longValue() - 11644473600000L;
-                List<AdsNotificationSample> samples = stamp.getAdsNotificationSamples();
-                for (AdsNotificationSample sample : samples) {
-                    long handle = sample.getNotificationHandle();
-                    for (DefaultPlcConsumerRegistration registration : consumers.keySet()) {
-                        for (PlcSubscriptionHandle subscriptionHandle : registration.getSubscriptionHandles()) {
-                            if (subscriptionHandle instanceof AdsSubscriptionHandle) {
-                                AdsSubscriptionHandle adsHandle = (AdsSubscriptionHandle) subscriptionHandle;
-                                if (adsHandle.getNotificationHandle() == handle)
-                                    consumers.get(registration).accept(
-                                        new DefaultPlcSubscriptionEvent(Instant.ofEpochMilli(unixEpochTimestamp),
-                                            convertSampleToPlc4XResult(adsHandle, sample.getData())));
-                            }
-                        }
+            final LongObjectMap<NotificationTarget[]> targets = notificationTargets;
+            if (targets.isEmpty()) {
+                return;
+            }
+            for (AdsStampHeader stamp : notificationData.getAdsStampHeaders()) {
+                // All samples of a stamp are passed to every consumer as one event.
+                Map<Consumer<PlcSubscriptionEvent>, Map<String, PlcResponseItem<PlcValue>>> events = new HashMap<>(4);
+                for (AdsNotificationSample sample : stamp.getAdsNotificationSamples()) {
+                    NotificationTarget[] sampleTargets = targets.get(sample.getNotificationHandle());
+                    if (sampleTargets == null) {
+                        continue;
+                    }
+                    // All handles of the same notification handle share the data type, so the sample is only parsed once.
+                    PlcResponseItem<PlcValue> responseItem = parseSample(sampleTargets[0].handle, sample.getData());
+                    for (NotificationTarget target : sampleTargets) {
+                        events.computeIfAbsent(target.consumer, consumer -> new HashMap<>())
+                            .put(target.handle.getTagName(), responseItem);
                     }
                 }
+                if (events.isEmpty()) {
+                    continue;
+                }
+                Instant timestamp = Instant.ofEpochMilli(fileTimeToEpochMillis(stamp.getTimestamp().longValue()));
+                for (Map.Entry<Consumer<PlcSubscriptionEvent>, Map<String, PlcResponseItem<PlcValue>>> event : events.entrySet()) {
+                    event.getKey().accept(new DefaultPlcSubscriptionEvent(timestamp, event.getValue()));
+                }
             }
         }
     }
 
-    private Map<String, PlcResponseItem<PlcValue>> convertSampleToPlc4XResult(AdsSubscriptionHandle subscriptionHandle, byte[] data) throws
-        ParseException {
-        Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
-        ReadBufferByteBased readBuffer = new ReadBufferByteBased(data, ByteOrder.LITTLE_ENDIAN);
-        values.put(subscriptionHandle.getTagName(), new DefaultPlcResponseItem<>(PlcResponseCode.OK,
-            DataItem.staticParse(readBuffer, getPlcValueTypeForAdsDataType(subscriptionHandle.getAdsDataType()), data.length)));
-        return values;
+    private PlcResponseItem<PlcValue> parseSample(AdsSubscriptionHandle subscriptionHandle, byte[] data) {
+        try {
+            return new DefaultPlcResponseItem<>(PlcResponseCode.OK, subscriptionHandle.getSampleParser().parse(data));
+        } catch (Exception e) {
+            LOGGER.warn("Error parsing notification sample for tag '{}'", subscriptionHandle.getTagName(), e);
+            return new DefaultPlcResponseItem<>(PlcResponseCode.INTERNAL_ERROR, null);
+        }
+    }
+
+    /**
+     * Converts a Windows FILETIME (100ns intervals since 1601-01-01) to milliseconds since the unix epoch.
+     */
+    static long fileTimeToEpochMillis(long fileTime) {
+        // FILETIME is an unsigned 64 bit value.
+        return Long.divideUnsigned(fileTime, 10000L) - 11644473600000L;
     }
 
     @Override
@@ -1529,6 +1701,7 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
         final DefaultPlcConsumerRegistration consumerRegistration =
             new DefaultPlcConsumerRegistration(this, consumer, handles.toArray(new PlcSubscriptionHandle[0]));
         consumers.put(consumerRegistration, consumer);
+        updateNotificationTargets();
         return consumerRegistration;
     }
 
@@ -1536,6 +1709,48 @@ public class AdsProtocolLogic extends Plc4xProtocolBase<AmsTCPPacket> implements
     public void unregister(PlcConsumerRegistration registration) {
         DefaultPlcConsumerRegistration consumerRegistration = (DefaultPlcConsumerRegistration) registration;
         consumers.remove(consumerRegistration);
+        updateNotificationTargets();
+    }
+
+    /**
+     * (Re-)builds the index of the consumers of every notification handle used when dispatching notifications.
+     * Registrations are rare compared to notifications, so the index is rebuilt instead of being updated.
+     */
+    private synchronized void updateNotificationTargets() {
+        LongObjectMap<List<NotificationTarget>> targetLists = new LongObjectHashMap<>();
+        for (Map.Entry<DefaultPlcConsumerRegistration, Consumer<PlcSubscriptionEvent>> entry : consumers.entrySet()) {
+            for (PlcSubscriptionHandle subscriptionHandle : entry.getKey().getSubscriptionHandles()) {
+                if (subscriptionHandle instanceof AdsSubscriptionHandle) {
+                    AdsSubscriptionHandle adsHandle = (AdsSubscriptionHandle) subscriptionHandle;
+                    long notificationHandle = adsHandle.getNotificationHandle();
+                    List<NotificationTarget> targetList = targetLists.get(notificationHandle);
+                    if (targetList == null) {
+                        targetList = new ArrayList<>(1);
+                        targetLists.put(notificationHandle, targetList);
+                    }
+                    targetList.add(new NotificationTarget(entry.getValue(), adsHandle));
+                }
+            }
+        }
+        LongObjectMap<NotificationTarget[]> targets = new LongObjectHashMap<>(targetLists.size());
+        for (LongObjectMap.PrimitiveEntry<List<NotificationTarget>> entry : targetLists.entries()) {
+            targets.put(entry.key(), entry.value().toArray(new NotificationTarget[0]));
+        }
+        notificationTargets = targets;
+    }
+
+    /**
+     * Consumer a notification sample has to be passed to, together with the handle it subscribed with.
+     */
+    private static class NotificationTarget {
+
+        private final Consumer<PlcSubscriptionEvent> consumer;
+        private final AdsSubscriptionHandle handle;
+
+        private NotificationTarget(Consumer<PlcSubscriptionEvent> consumer, AdsSubscriptionHandle handle) {
+            this.consumer = consumer;
+            this.handle = handle;
+        }
     }
 
     protected CompletableFuture<Map<AdsTag, DirectAdsTag>> getDirectAddresses(List<PlcTag> tags) {
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.ads.protocol;
+
+import org.apache.plc4x.java.ads.readwrite.AdsTableSizes;
+import org.apache.plc4x.java.ads.readwrite.AmsNetId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+
+/**
+ * On-disk cache of the raw data-type and symbol tables uploaded from an ADS device.
+ * <p>
+ * There is one file per AMS-Net-Id and port. Besides the tables it contains the online version, the symbol version
+ * and the table sizes reported by the device when the tables were uploaded. The cached tables are only used, if all
+ * of these still match, so only the (small) version and size requests have to go over the wire as long as the PLC
+ * program wasn't changed. Files are only kept open while loading and replaced atomically when storing, so multiple
+ * connections (and JVMs) can share the same directory. (They are deliberately not memory-mapped: a mapping is only
+ * released by the garbage collector and would keep Windows from replacing the file.)
+ */
+public class AdsSymbolTableCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AdsSymbolTableCache.class);
+
+    private static final int MAGIC = 0x504C4341; // "PLCA"
+    private static final int FORMAT_VERSION = 1;
+    // Magic, format version, online version (8), symbol version, 6 table sizes (8 each), 2 table lengths.
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 4 + (6 * 8) + 4 + 4;
+
+    private final Path directory;
+
+    public AdsSymbolTableCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * @return the cached tables, if they were uploaded for exactly the given versions and table sizes.
+     */
+    public Optional<Tables> load(AmsNetId amsNetId, int amsPort, long onlineVersion, int symbolVersion, AdsTableSizes tableSizes) {
+        Path file = getFile(amsNetId, amsPort);
+        if (!Files.isRegularFile(file)) {
+            return Optional.empty();
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_SIZE) {
+                return Optional.empty();
+            }
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE);
+            readFully(channel, buffer);
+            buffer.flip();
+            if ((buffer.getInt() != MAGIC) || (buffer.getInt() != FORMAT_VERSION)
+                || (buffer.getLong() != onlineVersion) || (buffer.getInt() != symbolVersion)
+                || (buffer.getLong() != tableSizes.getSymbolCount()) || (buffer.getLong() != tableSizes.getSymbolLength())
+                || (buffer.getLong() != tableSizes.getDataTypeCount()) || (buffer.getLong() != tableSizes.getDataTypeLength())
+                || (buffer.getLong() != tableSizes.getExtraCount()) || (buffer.getLong() != tableSizes.getExtraLength())) {
+                LOGGER.debug("Cached symbol tables in {} are outdated", file);
+                return Optional.empty();
+            }
+            int dataTypeTableLength = buffer.getInt();
+            int symbolTableLength = buffer.getInt();
+            if ((dataTypeTableLength < 0) || (symbolTableLength < 0)
+                || (channel.size() - HEADER_SIZE != (long) dataTypeTableLength + symbolTableLength)) {
+                LOGGER.warn("Cached symbol tables in {} are corrupt", file);
+                return Optional.empty();
+            }
+            // Read the tables straight into the arrays handed out.
+            byte[] dataTypeTable = new byte[dataTypeTableLength];
+            readFully(channel, ByteBuffer.wrap(dataTypeTable));
+            byte[] symbolTable = new byte[symbolTableLength];
+            readFully(channel, ByteBuffer.wrap(symbolTable));
+            return Optional.of(new Tables(dataTypeTable, symbolTable));
+        } catch (IOException e) {
+            LOGGER.warn("Error reading cached symbol tables from {}", file, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores the tables uploaded for the given versions and table sizes, replacing any previously cached ones.
+     * Errors are only logged, as the cache is just an optimization.
+     */
+    public void store(AmsNetId amsNetId, int amsPort, long onlineVersion, int symbolVersion, AdsTableSizes tableSizes, Tables tables) {
+        Path file = getFile(amsNetId, amsPort);
+        Path tempFile = null;
+        try {
+            Files.createDirectories(directory);
+            tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE)
+                .putInt(MAGIC).putInt(FORMAT_VERSION)
+                .putLong(onlineVersion).putInt(symbolVersion)
+                .putLong(tableSizes.getSymbolCount()).putLong(tableSizes.getSymbolLength())
+                .putLong(tableSizes.getDataTypeCount()).putLong(tableSizes.getDataTypeLength())
+                .putLong(tableSizes.getExtraCount()).putLong(tableSizes.getExtraLength())
+                .putInt(tables.getDataTypeTable().length).putInt(tables.getSymbolTable().length);
+            header.flip();
+            try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                ByteBuffer[] buffers = {header, ByteBuffer.wrap(tables.getDataTypeTable()), ByteBuffer.wrap(tables.getSymbolTable())};
+                while (buffers[2].hasRemaining()) {
+                    channel.write(buffers);
+                }
+            }
+            Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            tempFile = null;
+        } catch (IOException e) {
+            LOGGER.warn("Error writing symbol tables to {}", file, e);
+        } finally {
+            if (tempFile != null) {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } catch (IOException e) {
+                    LOGGER.debug("Error deleting {}", tempFile, e);
+                }
+            }
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of file");
+            }
+        }
+    }
+
+    Path getFile(AmsNetId amsNetId, int amsPort) {
+        return directory.resolve(String.format("ads-symbols-%d.%d.%d.%d.%d.%d-%d.bin",
+            amsNetId.getOctet1(), amsNetId.getOctet2(), amsNetId.getOctet3(),
+            amsNetId.getOctet4(), amsNetId.getOctet5(), amsNetId.getOctet6(), amsPort));
+    }
+
+    /**
+     * Raw data-type and symbol tables, as uploaded from the device.
+     */
+    public static class Tables {
+
+        private final byte[] dataTypeTable;
+        private final byte[] symbolTable;
+
+        public Tables(byte[] dataTypeTable, byte[] symbolTable) {
+            this.dataTypeTable = dataTypeTable;
+            this.symbolTable = symbolTable;
+        }
+
+        public byte[] getDataTypeTable() {
+            return dataTypeTable;
+        }
+
+        public byte[] getSymbolTable() {
+            return symbolTable;
+        }
+    }
+
+}
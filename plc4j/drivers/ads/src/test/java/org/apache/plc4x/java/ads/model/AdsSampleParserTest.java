@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.ads.model;
+
+import org.apache.plc4x.java.ads.readwrite.DataItem;
+import org.apache.plc4x.java.api.types.PlcValueType;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.spi.generation.ByteOrder;
+import org.apache.plc4x.java.spi.generation.ParseException;
+import org.apache.plc4x.java.spi.generation.ReadBufferByteBased;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdsSampleParserTest {
+
+    private static final byte[] DATA = new byte[]{(byte) 0x81, (byte) 0xF2, 0x03, (byte) 0xC4, 0x05, 0x06, 0x07, (byte) 0x88};
+
+    @ParameterizedTest
+    @EnumSource(value = PlcValueType.class, names = {"BOOL", "BYTE", "SINT", "USINT", "WORD", "INT", "UINT",
+        "DWORD", "DINT", "UDINT", "REAL", "LINT", "LREAL"})
+    void decodesLikeTheGeneratedParser(PlcValueType plcValueType) throws ParseException {
+        PlcValue expected = DataItem.staticParse(new ReadBufferByteBased(DATA, ByteOrder.LITTLE_ENDIAN), plcValueType, DATA.length);
+
+        PlcValue actual = AdsSampleParser.of(plcValueType).parse(DATA);
+
+        assertEquals(expected.getClass(), actual.getClass());
+        assertEquals(expected.getObject(), actual.getObject());
+    }
+
+}
@@ -0,0 +1,125 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.ads.optimizer;
+
+import org.apache.plc4x.java.ads.readwrite.ReservedIndexGroups;
+import org.apache.plc4x.java.ads.tag.DirectAdsTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdsOptimizerTest {
+
+    @Test
+    void mergesNeighbouringTagsOfTheSameIndexGroup() {
+        List<AdsOptimizer.Item> items = List.of(
+            new AdsOptimizer.Item("b", DirectAdsTag.of(0x4020, 4, "DINT", 1), 4),
+            new AdsOptimizer.Item("a", DirectAdsTag.of(0x4020, 0, "DINT", 1), 4),
+            new AdsOptimizer.Item("overlapping", DirectAdsTag.of(0x4020, 6, "INT", 1), 2),
+            new AdsOptimizer.Item("gap", DirectAdsTag.of(0x4020, 12, "DINT", 1), 4),
+            new AdsOptimizer.Item("otherGroup", DirectAdsTag.of(0x4040, 8, "DINT", 1), 4),
+            new AdsOptimizer.Item("handle1", DirectAdsTag.of(ReservedIndexGroups.ADSIGRP_SYM_VALBYHND.getValue(), 1, "DINT", 1), 4),
+            new AdsOptimizer.Item("handle2", DirectAdsTag.of(ReservedIndexGroups.ADSIGRP_SYM_VALBYHND.getValue(), 5, "DINT", 1), 4));
+
+        List<List<AdsOptimizer.SubCommand>> sumCommands = new AdsOptimizer().planReads(items);
+
+        assertEquals(1, sumCommands.size());
+        List<AdsOptimizer.SubCommand> subCommands = sumCommands.get(0);
+        assertEquals(5, subCommands.size());
+        AdsOptimizer.SubCommand range = subCommands.get(0);
+        assertEquals(0, range.getIndexOffset());
+        assertEquals(8, range.getLength());
+        assertEquals(List.of("a", "b", "overlapping"), tagNames(range));
+        assertEquals(6, range.getItemOffset(range.getItems().get(2)));
+    }
+
+    @Test
+    void writesOnlyMergeDirectlyFollowingTags() {
+        List<AdsOptimizer.Item> items = List.of(
+            new AdsOptimizer.Item("a", DirectAdsTag.of(0x4020, 0, "INT", 1), new byte[]{1, 2}),
+            new AdsOptimizer.Item("b", DirectAdsTag.of(0x4020, 2, "INT", 1), new byte[]{3, 4}),
+            new AdsOptimizer.Item("overlapping", DirectAdsTag.of(0x4020, 3, "BYTE", 1), new byte[]{5}));
+
+        List<AdsOptimizer.SubCommand> subCommands = new AdsOptimizer().planWrites(items).get(0);
+
+        assertEquals(2, subCommands.size());
+        assertEquals(List.of("a", "b"), tagNames(subCommands.get(0)));
+        assertArrayEquals(new byte[]{1, 2, 3, 4}, subCommands.get(0).getData());
+        assertEquals(List.of("overlapping"), tagNames(subCommands.get(1)));
+    }
+
+    @Test
+    void bitAddressedTagsAreNeverMerged() {
+        // The index offsets of these groups count bits, so these are bits 0 to 2 and not three bytes.
+        List<AdsOptimizer.Item> reads = new ArrayList<>();
+        List<AdsOptimizer.Item> writes = new ArrayList<>();
+        for (long indexGroup : new long[]{0x4021, ReservedIndexGroups.ADSIGRP_IOIMAGE_RWOX.getValue()}) {
+            for (int bit = 0; bit < 3; bit++) {
+                reads.add(new AdsOptimizer.Item("bit" + bit, DirectAdsTag.of(indexGroup, bit, "BOOL", 1), 1));
+                writes.add(new AdsOptimizer.Item("bit" + bit, DirectAdsTag.of(indexGroup, bit, "BOOL", 1), new byte[]{1}));
+            }
+        }
+
+        List<AdsOptimizer.SubCommand> readCommands = new AdsOptimizer().planReads(reads).get(0);
+        List<AdsOptimizer.SubCommand> writeCommands = new AdsOptimizer().planWrites(writes).get(0);
+
+        assertEquals(6, readCommands.size());
+        assertTrue(readCommands.stream().allMatch(subCommand -> subCommand.getLength() == 1));
+        assertEquals(6, writeCommands.size());
+        assertTrue(writeCommands.stream().allMatch(subCommand -> subCommand.getItems().size() == 1));
+    }
+
+    @Test
+    void splitsBySubCommandCountAndSize() {
+        List<AdsOptimizer.Item> items = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            // Leave gaps, so nothing is merged.
+            items.add(new AdsOptimizer.Item("tag" + i, DirectAdsTag.of(0x4020, i * 8L, "DINT", 1), 4));
+        }
+
+        List<List<AdsOptimizer.SubCommand>> byCount = new AdsOptimizer().planReads(items);
+        assertEquals(List.of(500, 500, 200), byCount.stream().map(List::size).collect(Collectors.toList()));
+
+        // Every sub-command needs 12 bytes in the request (and 8 bytes in the response).
+        List<List<AdsOptimizer.SubCommand>> bySize = new AdsOptimizer(500, 1200).planReads(items);
+        assertEquals(12, bySize.size());
+        assertTrue(bySize.stream().allMatch(subCommands -> subCommands.size() == 100));
+    }
+
+    @Test
+    void oversizedTagsAreSentOnTheirOwn() {
+        List<AdsOptimizer.Item> items = List.of(
+            new AdsOptimizer.Item("small", DirectAdsTag.of(0x4020, 0, "DINT", 1), 4),
+            new AdsOptimizer.Item("huge", DirectAdsTag.of(0x4020, 100, "BYTE", 2000), 2000));
+
+        List<List<AdsOptimizer.SubCommand>> sumCommands = new AdsOptimizer(500, 1000).planReads(items);
+
+        assertEquals(2, sumCommands.size());
+        assertEquals(List.of("huge"), tagNames(sumCommands.get(1).get(0)));
+    }
+
+    private static List<String> tagNames(AdsOptimizer.SubCommand subCommand) {
+        return subCommand.getItems().stream().map(AdsOptimizer.Item::getTagName).collect(Collectors.toList());
+    }
+
+}
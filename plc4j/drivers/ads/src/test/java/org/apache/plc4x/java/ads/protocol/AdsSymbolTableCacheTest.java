@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.ads.protocol;
+
+import org.apache.plc4x.java.ads.readwrite.AdsTableSizes;
+import org.apache.plc4x.java.ads.readwrite.AmsNetId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdsSymbolTableCacheTest {
+
+    private static final AmsNetId AMS_NET_ID = new AmsNetId((short) 192, (short) 168, (short) 23, (short) 20, (short) 1, (short) 1);
+    private static final AdsTableSizes TABLE_SIZES = new AdsTableSizes(2, 3, 1, 4, 0, 0);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void returnsStoredTablesForTheSameVersion() {
+        AdsSymbolTableCache cache = new AdsSymbolTableCache(directory);
+        cache.store(AMS_NET_ID, 851, 12, 3, TABLE_SIZES,
+            new AdsSymbolTableCache.Tables(new byte[]{1, 2, 3, 4}, new byte[]{5, 6, 7}));
+
+        // A new instance, as if it was a new connection.
+        Optional<AdsSymbolTableCache.Tables> tables = new AdsSymbolTableCache(directory).load(AMS_NET_ID, 851, 12, 3, TABLE_SIZES);
+
+        assertTrue(tables.isPresent());
+        assertArrayEquals(new byte[]{1, 2, 3, 4}, tables.get().getDataTypeTable());
+        assertArrayEquals(new byte[]{5, 6, 7}, tables.get().getSymbolTable());
+    }
+
+    @Test
+    void ignoresTablesOfOtherVersions() {
+        AdsSymbolTableCache cache = new AdsSymbolTableCache(directory);
+        cache.store(AMS_NET_ID, 851, 12, 3, TABLE_SIZES,
+            new AdsSymbolTableCache.Tables(new byte[]{1, 2, 3, 4}, new byte[]{5, 6, 7}));
+
+        assertFalse(cache.load(AMS_NET_ID, 851, 13, 3, TABLE_SIZES).isPresent());
+        assertFalse(cache.load(AMS_NET_ID, 851, 12, 4, TABLE_SIZES).isPresent());
+        assertFalse(cache.load(AMS_NET_ID, 851, 12, 3, new AdsTableSizes(2, 3, 1, 5, 0, 0)).isPresent());
+        assertFalse(cache.load(AMS_NET_ID, 852, 12, 3, TABLE_SIZES).isPresent());
+    }
+
+    @Test
+    void replacesTablesAfterLoadingThem() {
+        AdsSymbolTableCache cache = new AdsSymbolTableCache(directory);
+        cache.store(AMS_NET_ID, 851, 12, 3, TABLE_SIZES,
+            new AdsSymbolTableCache.Tables(new byte[]{1, 2, 3, 4}, new byte[]{5, 6, 7}));
+        assertTrue(cache.load(AMS_NET_ID, 851, 12, 3, TABLE_SIZES).isPresent());
+
+        // After a download to the PLC, the loaded file has to be replaceable right away.
+        cache.store(AMS_NET_ID, 851, 13, 3, TABLE_SIZES,
+            new AdsSymbolTableCache.Tables(new byte[]{8}, new byte[]{9}));
+
+        Optional<AdsSymbolTableCache.Tables> tables = cache.load(AMS_NET_ID, 851, 13, 3, TABLE_SIZES);
+        assertTrue(tables.isPresent());
+        assertArrayEquals(new byte[]{8}, tables.get().getDataTypeTable());
+        assertArrayEquals(new byte[]{9}, tables.get().getSymbolTable());
+    }
+
+    @Test
+    void ignoresCorruptFiles() throws Exception {
+        AdsSymbolTableCache cache = new AdsSymbolTableCache(directory);
+        cache.store(AMS_NET_ID, 851, 12, 3, TABLE_SIZES,
+            new AdsSymbolTableCache.Tables(new byte[]{1, 2, 3, 4}, new byte[]{5, 6, 7}));
+        Path file = cache.getFile(AMS_NET_ID, 851);
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 1));
+
+        assertFalse(cache.load(AMS_NET_ID, 851, 12, 3, TABLE_SIZES).isPresent());
+    }
+
+}
@@ -62,6 +62,8 @@ public class APDUAbort extends APDU implements Message {
     this.originalInvokeId = originalInvokeId;
     this.abortReason = abortReason;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getServer() {
@@ -105,11 +107,16 @@ public class APDUAbort extends APDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     APDUAbort _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 3;
@@ -123,6 +130,7 @@ public class APDUAbort extends APDU implements Message {
     // Simple field (abortReason)
     lengthInBits += abortReason.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -77,6 +77,8 @@ public class APDUComplexAck extends APDU implements Message {
     this.segmentServiceChoice = segmentServiceChoice;
     this.segment = segment;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getSegmentedMessage() {
@@ -191,11 +193,16 @@ public class APDUComplexAck extends APDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     APDUComplexAck _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (segmentedMessage)
     lengthInBits += 1;
@@ -238,6 +245,7 @@ public class APDUComplexAck extends APDU implements Message {
       lengthInBits += 8 * segment.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -86,6 +86,8 @@ public class APDUConfirmedRequest extends APDU implements Message {
     this.segmentServiceChoice = segmentServiceChoice;
     this.segment = segment;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getSegmentedMessage() {
@@ -236,11 +238,16 @@ public class APDUConfirmedRequest extends APDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     APDUConfirmedRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (segmentedMessage)
     lengthInBits += 1;
@@ -292,6 +299,7 @@ public class APDUConfirmedRequest extends APDU implements Message {
       lengthInBits += 8 * segment.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
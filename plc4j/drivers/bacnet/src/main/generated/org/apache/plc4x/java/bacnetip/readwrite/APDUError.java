@@ -62,6 +62,8 @@ public class APDUError extends APDU implements Message {
     this.errorChoice = errorChoice;
     this.error = error;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getOriginalInvokeId() {
@@ -112,11 +114,16 @@ public class APDUError extends APDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     APDUError _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 4;
@@ -130,6 +137,7 @@ public class APDUError extends APDU implements Message {
     // Simple field (error)
     lengthInBits += error.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
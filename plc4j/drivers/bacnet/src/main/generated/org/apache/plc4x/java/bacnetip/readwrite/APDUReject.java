@@ -57,6 +57,8 @@ public class APDUReject extends APDU implements Message {
     this.originalInvokeId = originalInvokeId;
     this.rejectReason = rejectReason;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getOriginalInvokeId() {
@@ -93,11 +95,16 @@ public class APDUReject extends APDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     APDUReject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 4;
@@ -108,6 +115,7 @@ public class APDUReject extends APDU implements Message {
     // Simple field (rejectReason)
     lengthInBits += rejectReason.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
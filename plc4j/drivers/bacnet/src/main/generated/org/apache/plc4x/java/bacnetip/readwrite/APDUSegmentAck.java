@@ -68,6 +68,8 @@ public class APDUSegmentAck extends APDU implements Message {
     this.sequenceNumber = sequenceNumber;
     this.actualWindowSize = actualWindowSize;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getNegativeAck() {
@@ -125,11 +127,16 @@ public class APDUSegmentAck extends APDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     APDUSegmentAck _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 2;
@@ -149,6 +156,7 @@ public class APDUSegmentAck extends APDU implements Message {
     // Simple field (actualWindowSize)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
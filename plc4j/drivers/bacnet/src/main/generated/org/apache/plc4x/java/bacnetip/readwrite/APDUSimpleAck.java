@@ -57,6 +57,8 @@ public class APDUSimpleAck extends APDU implements Message {
     this.originalInvokeId = originalInvokeId;
     this.serviceChoice = serviceChoice;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getOriginalInvokeId() {
@@ -100,11 +102,16 @@ public class APDUSimpleAck extends APDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     APDUSimpleAck _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 4;
@@ -115,6 +122,7 @@ public class APDUSimpleAck extends APDU implements Message {
     // Simple field (serviceChoice)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
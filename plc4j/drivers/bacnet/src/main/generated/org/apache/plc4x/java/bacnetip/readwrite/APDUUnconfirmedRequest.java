@@ -55,6 +55,8 @@ public class APDUUnconfirmedRequest extends APDU implements Message {
     super(apduLength);
     this.serviceRequest = serviceRequest;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetUnconfirmedServiceRequest getServiceRequest() {
@@ -84,11 +86,16 @@ public class APDUUnconfirmedRequest extends APDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     APDUUnconfirmedRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 4;
@@ -96,6 +103,7 @@ public class APDUUnconfirmedRequest extends APDU implements Message {
     // Simple field (serviceRequest)
     lengthInBits += serviceRequest.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class APDUUnknown extends APDU implements Message {
     this.unknownTypeRest = unknownTypeRest;
     this.unknownBytes = unknownBytes;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getUnknownTypeRest() {
@@ -84,11 +86,16 @@ public class APDUUnknown extends APDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     APDUUnknown _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (unknownTypeRest)
     lengthInBits += 4;
@@ -98,6 +105,7 @@ public class APDUUnknown extends APDU implements Message {
       lengthInBits += 8 * unknownBytes.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class BACnetAbortReasonTagged implements Message {
     this.value = value;
     this.proprietaryValue = proprietaryValue;
     this.actualLength = actualLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetAbortReason getValue() {
@@ -97,11 +99,16 @@ public class BACnetAbortReasonTagged implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAbortReasonTagged _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Manual Field (value)
     lengthInBits += ((_value.getIsProprietary()) ? 0 : ((actualLength) * (8)));
@@ -111,6 +118,7 @@ public class BACnetAbortReasonTagged implements Message {
     // Manual Field (proprietaryValue)
     lengthInBits += ((_value.getIsProprietary()) ? ((actualLength) * (8)) : 0);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class BACnetAccessCredentialDisableReasonTagged implements Message {
     this.proprietaryValue = proprietaryValue;
     this.tagNumber = tagNumber;
     this.tagClass = tagClass;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTagHeader getHeader() {
@@ -113,11 +115,16 @@ public class BACnetAccessCredentialDisableReasonTagged implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAccessCredentialDisableReasonTagged _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (header)
     lengthInBits += header.getLengthInBits();
@@ -130,6 +137,7 @@ public class BACnetAccessCredentialDisableReasonTagged implements Message {
     // Manual Field (proprietaryValue)
     lengthInBits += ((_value.getIsProprietary()) ? ((header.getActualLength()) * (8)) : 0);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
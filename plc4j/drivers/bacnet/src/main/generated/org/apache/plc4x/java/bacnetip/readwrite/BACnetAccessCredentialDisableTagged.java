@@ -58,6 +58,8 @@ public class BACnetAccessCredentialDisableTagged implements Message {
     this.proprietaryValue = proprietaryValue;
     this.tagNumber = tagNumber;
     this.tagClass = tagClass;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTagHeader getHeader() {
@@ -112,11 +114,16 @@ public class BACnetAccessCredentialDisableTagged implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAccessCredentialDisableTagged _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (header)
     lengthInBits += header.getLengthInBits();
@@ -129,6 +136,7 @@ public class BACnetAccessCredentialDisableTagged implements Message {
     // Manual Field (proprietaryValue)
     lengthInBits += ((_value.getIsProprietary()) ? ((header.getActualLength()) * (8)) : 0);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
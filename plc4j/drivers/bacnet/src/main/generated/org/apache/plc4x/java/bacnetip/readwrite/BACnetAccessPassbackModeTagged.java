@@ -52,6 +52,8 @@ public class BACnetAccessPassbackModeTagged implements Message {
     this.value = value;
     this.tagNumber = tagNumber;
     this.tagClass = tagClass;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTagHeader getHeader() {
@@ -86,11 +88,16 @@ public class BACnetAccessPassbackModeTagged implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAccessPassbackModeTagged _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (header)
     lengthInBits += header.getLengthInBits();
@@ -98,6 +105,7 @@ public class BACnetAccessPassbackModeTagged implements Message {
     // Manual Field (value)
     lengthInBits += (header.getActualLength()) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class BACnetAccessRule implements Message {
     this.locationSpecifier = locationSpecifier;
     this.location = location;
     this.enable = enable;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetAccessRuleTimeRangeSpecifierTagged getTimeRangeSpecifier() {
@@ -108,11 +110,16 @@ public class BACnetAccessRule implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAccessRule _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeRangeSpecifier)
     lengthInBits += timeRangeSpecifier.getLengthInBits();
@@ -133,6 +140,7 @@ public class BACnetAccessRule implements Message {
     // Simple field (enable)
     lengthInBits += enable.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
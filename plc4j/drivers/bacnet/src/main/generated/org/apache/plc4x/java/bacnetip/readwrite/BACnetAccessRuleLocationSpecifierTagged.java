@@ -55,6 +55,8 @@ public class BACnetAccessRuleLocationSpecifierTagged implements Message {
     this.value = value;
     this.tagNumber = tagNumber;
     this.tagClass = tagClass;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTagHeader getHeader() {
@@ -89,11 +91,16 @@ public class BACnetAccessRuleLocationSpecifierTagged implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAccessRuleLocationSpecifierTagged _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (header)
     lengthInBits += header.getLengthInBits();
@@ -101,6 +108,7 @@ public class BACnetAccessRuleLocationSpecifierTagged implements Message {
     // Manual Field (value)
     lengthInBits += (header.getActualLength()) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class BACnetAccessThreatLevel implements Message {
   public BACnetAccessThreatLevel(BACnetApplicationTagUnsignedInteger threatLevel) {
     super();
     this.threatLevel = threatLevel;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getThreatLevel() {
@@ -65,15 +67,21 @@ public class BACnetAccessThreatLevel implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAccessThreatLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (threatLevel)
     lengthInBits += threatLevel.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class BACnetAccumulatorRecord implements Message {
     this.presentValue = presentValue;
     this.accumulatedValue = accumulatedValue;
     this.accumulatorStatus = accumulatorStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDateTimeEnclosed getTimestamp() {
@@ -96,11 +98,16 @@ public class BACnetAccumulatorRecord implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAccumulatorRecord _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timestamp)
     lengthInBits += timestamp.getLengthInBits();
@@ -114,6 +121,7 @@ public class BACnetAccumulatorRecord implements Message {
     // Simple field (accumulatorStatus)
     lengthInBits += accumulatorStatus.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -68,6 +68,8 @@ public class BACnetActionCommand implements Message {
     this.postDelay = postDelay;
     this.quitOnFailure = quitOnFailure;
     this.writeSuccessful = writeSuccessful;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getDeviceIdentifier() {
@@ -146,11 +148,16 @@ public class BACnetActionCommand implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetActionCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (deviceIdentifier)
     if (deviceIdentifier != null) {
@@ -189,6 +196,7 @@ public class BACnetActionCommand implements Message {
     // Simple field (writeSuccessful)
     lengthInBits += writeSuccessful.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
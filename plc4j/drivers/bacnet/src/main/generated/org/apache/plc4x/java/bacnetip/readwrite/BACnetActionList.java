@@ -48,8 +48,10 @@ public class BACnetActionList implements Message {
       BACnetClosingTag innerClosingTag) {
     super();
     this.innerOpeningTag = innerOpeningTag;
-    this.action = action;
+    this.action = (action == null) ? null : Collections.unmodifiableList(new ArrayList<>(action));
     this.innerClosingTag = innerClosingTag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getInnerOpeningTag() {
@@ -86,11 +88,16 @@ public class BACnetActionList implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetActionList _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (innerOpeningTag)
     lengthInBits += innerOpeningTag.getLengthInBits();
@@ -105,6 +112,7 @@ public class BACnetActionList implements Message {
     // Simple field (innerClosingTag)
     lengthInBits += innerClosingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class BACnetAddress implements Message {
     super();
     this.networkNumber = networkNumber;
     this.macAddress = macAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getNetworkNumber() {
@@ -103,11 +105,16 @@ public class BACnetAddress implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkNumber)
     lengthInBits += networkNumber.getLengthInBits();
@@ -121,6 +128,7 @@ public class BACnetAddress implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetAddressBinding implements Message {
     super();
     this.deviceIdentifier = deviceIdentifier;
     this.deviceAddress = deviceAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagObjectIdentifier getDeviceIdentifier() {
@@ -75,11 +77,16 @@ public class BACnetAddressBinding implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAddressBinding _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceIdentifier)
     lengthInBits += deviceIdentifier.getLengthInBits();
@@ -87,6 +94,7 @@ public class BACnetAddressBinding implements Message {
     // Simple field (deviceAddress)
     lengthInBits += deviceAddress.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class BACnetAddressEnclosed implements Message {
     this.address = address;
     this.closingTag = closingTag;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -91,11 +93,16 @@ public class BACnetAddressEnclosed implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAddressEnclosed _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -106,6 +113,7 @@ public class BACnetAddressEnclosed implements Message {
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
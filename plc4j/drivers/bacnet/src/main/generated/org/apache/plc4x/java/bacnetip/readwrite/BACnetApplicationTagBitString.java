@@ -45,6 +45,8 @@ public class BACnetApplicationTagBitString extends BACnetApplicationTag implemen
   public BACnetApplicationTagBitString(BACnetTagHeader header, BACnetTagPayloadBitString payload) {
     super(header);
     this.payload = payload;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTagPayloadBitString getPayload() {
@@ -69,15 +71,21 @@ public class BACnetApplicationTagBitString extends BACnetApplicationTag implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetApplicationTagBitString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class BACnetApplicationTagBoolean extends BACnetApplicationTag implements
   public BACnetApplicationTagBoolean(BACnetTagHeader header, BACnetTagPayloadBoolean payload) {
     super(header);
     this.payload = payload;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTagPayloadBoolean getPayload() {
@@ -77,17 +79,23 @@ public class BACnetApplicationTagBoolean extends BACnetApplicationTag implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetApplicationTagBoolean _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
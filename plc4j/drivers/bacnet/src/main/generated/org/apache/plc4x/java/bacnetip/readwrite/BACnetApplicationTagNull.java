@@ -41,6 +41,8 @@ public class BACnetApplicationTagNull extends BACnetApplicationTag implements Me
 
   public BACnetApplicationTagNull(BACnetTagHeader header) {
     super(header);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -58,12 +60,18 @@ public class BACnetApplicationTagNull extends BACnetApplicationTag implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetApplicationTagNull _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
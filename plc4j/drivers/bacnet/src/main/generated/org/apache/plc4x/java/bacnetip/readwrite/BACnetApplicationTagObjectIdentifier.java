@@ -46,6 +46,8 @@ public class BACnetApplicationTagObjectIdentifier extends BACnetApplicationTag i
       BACnetTagHeader header, BACnetTagPayloadObjectIdentifier payload) {
     super(header);
     this.payload = payload;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTagPayloadObjectIdentifier getPayload() {
@@ -86,11 +88,16 @@ public class BACnetApplicationTagObjectIdentifier extends BACnetApplicationTag i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetApplicationTagObjectIdentifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
@@ -99,6 +106,7 @@ public class BACnetApplicationTagObjectIdentifier extends BACnetApplicationTag i
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetAssignedAccessRights implements Message {
     super();
     this.assignedAccessRights = assignedAccessRights;
     this.enable = enable;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDeviceObjectReferenceEnclosed getAssignedAccessRights() {
@@ -75,11 +77,16 @@ public class BACnetAssignedAccessRights implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAssignedAccessRights _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (assignedAccessRights)
     lengthInBits += assignedAccessRights.getLengthInBits();
@@ -87,6 +94,7 @@ public class BACnetAssignedAccessRights implements Message {
     // Simple field (enable)
     lengthInBits += enable.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
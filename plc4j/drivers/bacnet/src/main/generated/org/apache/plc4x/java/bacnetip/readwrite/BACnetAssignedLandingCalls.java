@@ -43,6 +43,8 @@ public class BACnetAssignedLandingCalls implements Message {
   public BACnetAssignedLandingCalls(BACnetAssignedLandingCallsLandingCallsList landingCalls) {
     super();
     this.landingCalls = landingCalls;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetAssignedLandingCallsLandingCallsList getLandingCalls() {
@@ -65,15 +67,21 @@ public class BACnetAssignedLandingCalls implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAssignedLandingCalls _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (landingCalls)
     lengthInBits += landingCalls.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
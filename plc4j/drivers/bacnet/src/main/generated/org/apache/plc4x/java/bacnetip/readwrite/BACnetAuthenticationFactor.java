@@ -50,6 +50,8 @@ public class BACnetAuthenticationFactor implements Message {
     this.formatType = formatType;
     this.formatClass = formatClass;
     this.value = value;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetAuthenticationFactorTypeTagged getFormatType() {
@@ -86,11 +88,16 @@ public class BACnetAuthenticationFactor implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAuthenticationFactor _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (formatType)
     lengthInBits += formatType.getLengthInBits();
@@ -101,6 +108,7 @@ public class BACnetAuthenticationFactor implements Message {
     // Simple field (value)
     lengthInBits += value.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class BACnetAuthenticationFactorFormat implements Message {
     this.formatType = formatType;
     this.vendorId = vendorId;
     this.vendorFormat = vendorFormat;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetAuthenticationFactorTypeTagged getFormatType() {
@@ -86,11 +88,16 @@ public class BACnetAuthenticationFactorFormat implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAuthenticationFactorFormat _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (formatType)
     lengthInBits += formatType.getLengthInBits();
@@ -105,6 +112,7 @@ public class BACnetAuthenticationFactorFormat implements Message {
       lengthInBits += vendorFormat.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class BACnetAuthenticationPolicy implements Message {
     this.policy = policy;
     this.orderEnforced = orderEnforced;
     this.timeout = timeout;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetAuthenticationPolicyList getPolicy() {
@@ -86,11 +88,16 @@ public class BACnetAuthenticationPolicy implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAuthenticationPolicy _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (policy)
     lengthInBits += policy.getLengthInBits();
@@ -101,6 +108,7 @@ public class BACnetAuthenticationPolicy implements Message {
     // Simple field (timeout)
     lengthInBits += timeout.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetAuthenticationPolicyListEntry implements Message {
     super();
     this.credentialDataInput = credentialDataInput;
     this.index = index;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDeviceObjectReferenceEnclosed getCredentialDataInput() {
@@ -76,11 +78,16 @@ public class BACnetAuthenticationPolicyListEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetAuthenticationPolicyListEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (credentialDataInput)
     lengthInBits += credentialDataInput.getLengthInBits();
@@ -88,6 +95,7 @@ public class BACnetAuthenticationPolicyListEntry implements Message {
     // Simple field (index)
     lengthInBits += index.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetBDTEntry implements Message {
     super();
     this.bbmdAddress = bbmdAddress;
     this.broadcastMask = broadcastMask;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetHostNPortEnclosed getBbmdAddress() {
@@ -75,11 +77,16 @@ public class BACnetBDTEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetBDTEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bbmdAddress)
     lengthInBits += bbmdAddress.getLengthInBits();
@@ -89,6 +96,7 @@ public class BACnetBDTEntry implements Message {
       lengthInBits += broadcastMask.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class BACnetCOVMultipleSubscription implements Message {
     this.timeRemaining = timeRemaining;
     this.maxNotificationDelay = maxNotificationDelay;
     this.listOfCovSubscriptionSpecification = listOfCovSubscriptionSpecification;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetRecipientProcessEnclosed getRecipient() {
@@ -113,11 +115,16 @@ public class BACnetCOVMultipleSubscription implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetCOVMultipleSubscription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (recipient)
     lengthInBits += recipient.getLengthInBits();
@@ -134,6 +141,7 @@ public class BACnetCOVMultipleSubscription implements Message {
     // Simple field (listOfCovSubscriptionSpecification)
     lengthInBits += listOfCovSubscriptionSpecification.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
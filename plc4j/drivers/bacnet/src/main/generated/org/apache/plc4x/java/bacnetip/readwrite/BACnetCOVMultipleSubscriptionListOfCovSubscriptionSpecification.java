@@ -54,9 +54,15 @@ public class BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecification imp
       Short tagNumber) {
     super();
     this.openingTag = openingTag;
-    this.listOfCovSubscriptionSpecificationEntry = listOfCovSubscriptionSpecificationEntry;
+    this.listOfCovSubscriptionSpecificationEntry =
+        (listOfCovSubscriptionSpecificationEntry == null)
+            ? null
+            : Collections.unmodifiableList(
+                new ArrayList<>(listOfCovSubscriptionSpecificationEntry));
     this.closingTag = closingTag;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -97,11 +103,16 @@ public class BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecification imp
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecification _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -116,6 +127,7 @@ public class BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecification imp
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -51,6 +51,8 @@ public class BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecificationEntr
     super();
     this.monitoredObjectIdentifier = monitoredObjectIdentifier;
     this.listOfCovReferences = listOfCovReferences;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getMonitoredObjectIdentifier() {
@@ -82,11 +84,16 @@ public class BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecificationEntr
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecificationEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (monitoredObjectIdentifier)
     lengthInBits += monitoredObjectIdentifier.getLengthInBits();
@@ -94,6 +101,7 @@ public class BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecificationEntr
     // Simple field (listOfCovReferences)
     lengthInBits += listOfCovReferences.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
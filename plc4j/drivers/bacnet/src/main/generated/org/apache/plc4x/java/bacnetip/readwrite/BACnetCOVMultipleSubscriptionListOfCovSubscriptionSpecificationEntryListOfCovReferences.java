@@ -57,9 +57,14 @@ public class BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecificationEntr
       Short tagNumber) {
     super();
     this.openingTag = openingTag;
-    this.listOfCovReferences = listOfCovReferences;
+    this.listOfCovReferences =
+        (listOfCovReferences == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(listOfCovReferences));
     this.closingTag = closingTag;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -100,12 +105,17 @@ public class BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecificationEntr
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecificationEntryListOfCovReferences _value =
         this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -120,6 +130,7 @@ public class BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecificationEntr
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
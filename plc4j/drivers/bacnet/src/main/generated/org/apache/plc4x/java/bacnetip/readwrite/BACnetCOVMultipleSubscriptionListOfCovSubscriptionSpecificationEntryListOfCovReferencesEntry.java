@@ -53,6 +53,8 @@ class BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecificationEntryListOf
     this.monitoredProperty = monitoredProperty;
     this.covIncrement = covIncrement;
     this.timestamped = timestamped;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetPropertyReferenceEnclosed getMonitoredProperty() {
@@ -91,12 +93,17 @@ class BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecificationEntryListOf
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecificationEntryListOfCovReferencesEntry
         _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (monitoredProperty)
     lengthInBits += monitoredProperty.getLengthInBits();
@@ -109,6 +116,7 @@ class BACnetCOVMultipleSubscriptionListOfCovSubscriptionSpecificationEntryListOf
     // Simple field (timestamped)
     lengthInBits += timestamped.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
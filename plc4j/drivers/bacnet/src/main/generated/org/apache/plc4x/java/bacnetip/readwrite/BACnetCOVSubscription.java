@@ -56,6 +56,8 @@ public class BACnetCOVSubscription implements Message {
     this.issueConfirmedNotifications = issueConfirmedNotifications;
     this.timeRemaining = timeRemaining;
     this.covIncrement = covIncrement;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetRecipientProcessEnclosed getRecipient() {
@@ -108,11 +110,16 @@ public class BACnetCOVSubscription implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetCOVSubscription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (recipient)
     lengthInBits += recipient.getLengthInBits();
@@ -131,6 +138,7 @@ public class BACnetCOVSubscription implements Message {
       lengthInBits += covIncrement.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetCalendarEntryWeekNDay extends BACnetCalendarEntry implements
       BACnetTagHeader peekedTagHeader, BACnetWeekNDayTagged weekNDay) {
     super(peekedTagHeader);
     this.weekNDay = weekNDay;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetWeekNDayTagged getWeekNDay() {
@@ -70,15 +72,21 @@ public class BACnetCalendarEntryWeekNDay extends BACnetCalendarEntry implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetCalendarEntryWeekNDay _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (weekNDay)
     lengthInBits += weekNDay.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetChannelValueDouble extends BACnetChannelValue implements Mess
       BACnetTagHeader peekedTagHeader, BACnetApplicationTagDouble doubleValue) {
     super(peekedTagHeader);
     this.doubleValue = doubleValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagDouble getDoubleValue() {
@@ -70,15 +72,21 @@ public class BACnetChannelValueDouble extends BACnetChannelValue implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetChannelValueDouble _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (doubleValue)
     lengthInBits += doubleValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
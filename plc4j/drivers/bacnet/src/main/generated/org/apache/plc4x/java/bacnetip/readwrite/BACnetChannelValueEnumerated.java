@@ -46,6 +46,8 @@ public class BACnetChannelValueEnumerated extends BACnetChannelValue implements
       BACnetTagHeader peekedTagHeader, BACnetApplicationTagEnumerated enumeratedValue) {
     super(peekedTagHeader);
     this.enumeratedValue = enumeratedValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagEnumerated getEnumeratedValue() {
@@ -70,15 +72,21 @@ public class BACnetChannelValueEnumerated extends BACnetChannelValue implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetChannelValueEnumerated _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (enumeratedValue)
     lengthInBits += enumeratedValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetChannelValueTime extends BACnetChannelValue implements Messag
       BACnetTagHeader peekedTagHeader, BACnetApplicationTagTime timeValue) {
     super(peekedTagHeader);
     this.timeValue = timeValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagTime getTimeValue() {
@@ -70,15 +72,21 @@ public class BACnetChannelValueTime extends BACnetChannelValue implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetChannelValueTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeValue)
     lengthInBits += timeValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetClientCOVNone extends BACnetClientCOV implements Message {
       BACnetTagHeader peekedTagHeader, BACnetApplicationTagNull defaultIncrement) {
     super(peekedTagHeader);
     this.defaultIncrement = defaultIncrement;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagNull getDefaultIncrement() {
@@ -70,15 +72,21 @@ public class BACnetClientCOVNone extends BACnetClientCOV implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetClientCOVNone _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (defaultIncrement)
     lengthInBits += defaultIncrement.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetClientCOVObject extends BACnetClientCOV implements Message {
       BACnetTagHeader peekedTagHeader, BACnetApplicationTagReal realIncrement) {
     super(peekedTagHeader);
     this.realIncrement = realIncrement;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagReal getRealIncrement() {
@@ -70,15 +72,21 @@ public class BACnetClientCOVObject extends BACnetClientCOV implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetClientCOVObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (realIncrement)
     lengthInBits += realIncrement.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
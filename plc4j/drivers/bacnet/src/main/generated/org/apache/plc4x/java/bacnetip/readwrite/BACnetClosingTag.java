@@ -47,6 +47,8 @@ public class BACnetClosingTag implements Message {
     super();
     this.header = header;
     this.tagNumberArgument = tagNumberArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTagHeader getHeader() {
@@ -69,15 +71,21 @@ public class BACnetClosingTag implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetClosingTag _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (header)
     lengthInBits += header.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -70,6 +70,8 @@ public class BACnetConfirmedServiceRequestAcknowledgeAlarm extends BACnetConfirm
     this.acknowledgmentSource = acknowledgmentSource;
     this.timeOfAcknowledgment = timeOfAcknowledgment;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getAcknowledgingProcessIdentifier() {
@@ -132,11 +134,16 @@ public class BACnetConfirmedServiceRequestAcknowledgeAlarm extends BACnetConfirm
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestAcknowledgeAlarm _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (acknowledgingProcessIdentifier)
     lengthInBits += acknowledgingProcessIdentifier.getLengthInBits();
@@ -156,6 +163,7 @@ public class BACnetConfirmedServiceRequestAcknowledgeAlarm extends BACnetConfirm
     // Simple field (timeOfAcknowledgment)
     lengthInBits += timeOfAcknowledgment.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
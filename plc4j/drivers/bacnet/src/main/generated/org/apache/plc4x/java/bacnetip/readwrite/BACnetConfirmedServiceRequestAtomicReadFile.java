@@ -58,6 +58,8 @@ public class BACnetConfirmedServiceRequestAtomicReadFile extends BACnetConfirmed
     this.fileIdentifier = fileIdentifier;
     this.accessMethod = accessMethod;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagObjectIdentifier getFileIdentifier() {
@@ -89,11 +91,16 @@ public class BACnetConfirmedServiceRequestAtomicReadFile extends BACnetConfirmed
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestAtomicReadFile _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fileIdentifier)
     lengthInBits += fileIdentifier.getLengthInBits();
@@ -101,6 +108,7 @@ public class BACnetConfirmedServiceRequestAtomicReadFile extends BACnetConfirmed
     // Simple field (accessMethod)
     lengthInBits += accessMethod.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class BACnetConfirmedServiceRequestAtomicReadFileRecord
     super(peekedTagHeader, openingTag, closingTag);
     this.fileStartRecord = fileStartRecord;
     this.requestRecordCount = requestRecordCount;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagSignedInteger getFileStartRecord() {
@@ -84,11 +86,16 @@ public class BACnetConfirmedServiceRequestAtomicReadFileRecord
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestAtomicReadFileRecord _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fileStartRecord)
     lengthInBits += fileStartRecord.getLengthInBits();
@@ -96,6 +103,7 @@ public class BACnetConfirmedServiceRequestAtomicReadFileRecord
     // Simple field (requestRecordCount)
     lengthInBits += requestRecordCount.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class BACnetConfirmedServiceRequestAtomicReadFileStream
     super(peekedTagHeader, openingTag, closingTag);
     this.fileStartPosition = fileStartPosition;
     this.requestOctetCount = requestOctetCount;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagSignedInteger getFileStartPosition() {
@@ -84,11 +86,16 @@ public class BACnetConfirmedServiceRequestAtomicReadFileStream
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestAtomicReadFileStream _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fileStartPosition)
     lengthInBits += fileStartPosition.getLengthInBits();
@@ -96,6 +103,7 @@ public class BACnetConfirmedServiceRequestAtomicReadFileStream
     // Simple field (requestOctetCount)
     lengthInBits += requestOctetCount.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
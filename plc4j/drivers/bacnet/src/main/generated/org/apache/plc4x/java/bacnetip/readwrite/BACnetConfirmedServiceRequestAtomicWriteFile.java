@@ -67,6 +67,8 @@ public class BACnetConfirmedServiceRequestAtomicWriteFile extends BACnetConfirme
     this.fileData = fileData;
     this.closingTag = closingTag;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagObjectIdentifier getDeviceIdentifier() {
@@ -119,11 +121,16 @@ public class BACnetConfirmedServiceRequestAtomicWriteFile extends BACnetConfirme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestAtomicWriteFile _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceIdentifier)
     lengthInBits += deviceIdentifier.getLengthInBits();
@@ -144,6 +151,7 @@ public class BACnetConfirmedServiceRequestAtomicWriteFile extends BACnetConfirme
       lengthInBits += closingTag.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
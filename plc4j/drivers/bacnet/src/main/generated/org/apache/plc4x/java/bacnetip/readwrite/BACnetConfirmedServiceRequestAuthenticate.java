@@ -56,6 +56,8 @@ public class BACnetConfirmedServiceRequestAuthenticate extends BACnetConfirmedSe
     this.bytesOfRemovedService = bytesOfRemovedService;
     this.serviceRequestPayloadLength = serviceRequestPayloadLength;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getBytesOfRemovedService() {
@@ -81,17 +83,23 @@ public class BACnetConfirmedServiceRequestAuthenticate extends BACnetConfirmedSe
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestAuthenticate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (bytesOfRemovedService != null) {
       lengthInBits += 8 * bytesOfRemovedService.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
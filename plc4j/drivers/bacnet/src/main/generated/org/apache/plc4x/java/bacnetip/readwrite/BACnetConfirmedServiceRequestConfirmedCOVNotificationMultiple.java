@@ -67,6 +67,8 @@ public class BACnetConfirmedServiceRequestConfirmedCOVNotificationMultiple
     this.timestamp = timestamp;
     this.listOfCovNotifications = listOfCovNotifications;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getSubscriberProcessIdentifier() {
@@ -121,11 +123,16 @@ public class BACnetConfirmedServiceRequestConfirmedCOVNotificationMultiple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestConfirmedCOVNotificationMultiple _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (subscriberProcessIdentifier)
     lengthInBits += subscriberProcessIdentifier.getLengthInBits();
@@ -144,6 +151,7 @@ public class BACnetConfirmedServiceRequestConfirmedCOVNotificationMultiple
     // Simple field (listOfCovNotifications)
     lengthInBits += listOfCovNotifications.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
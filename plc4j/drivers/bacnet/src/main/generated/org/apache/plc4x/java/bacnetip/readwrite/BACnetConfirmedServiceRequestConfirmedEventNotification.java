@@ -91,6 +91,8 @@ public class BACnetConfirmedServiceRequestConfirmedEventNotification
     this.toState = toState;
     this.eventValues = eventValues;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getProcessIdentifier() {
@@ -200,11 +202,16 @@ public class BACnetConfirmedServiceRequestConfirmedEventNotification
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestConfirmedEventNotification _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (processIdentifier)
     lengthInBits += processIdentifier.getLengthInBits();
@@ -253,6 +260,7 @@ public class BACnetConfirmedServiceRequestConfirmedEventNotification
       lengthInBits += eventValues.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -65,6 +65,8 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessage extends BACnetCon
     this.messagePriority = messagePriority;
     this.message = message;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getTextMessageSourceDevice() {
@@ -111,11 +113,16 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessage extends BACnetCon
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestConfirmedTextMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (textMessageSourceDevice)
     lengthInBits += textMessageSourceDevice.getLengthInBits();
@@ -131,6 +138,7 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessage extends BACnetCon
     // Simple field (message)
     lengthInBits += message.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassCharac
     super(openingTag, peekedTagHeader, closingTag, tagNumber);
     this.characterValue = characterValue;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagCharacterString getCharacterValue() {
@@ -81,15 +83,21 @@ public class BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassCharac
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestConfirmedTextMessageMessageClassCharacter _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (characterValue)
     lengthInBits += characterValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
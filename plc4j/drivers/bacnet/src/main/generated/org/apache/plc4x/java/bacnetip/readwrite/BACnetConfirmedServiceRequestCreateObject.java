@@ -58,6 +58,8 @@ public class BACnetConfirmedServiceRequestCreateObject extends BACnetConfirmedSe
     this.objectSpecifier = objectSpecifier;
     this.listOfValues = listOfValues;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetConfirmedServiceRequestCreateObjectObjectSpecifier getObjectSpecifier() {
@@ -89,11 +91,16 @@ public class BACnetConfirmedServiceRequestCreateObject extends BACnetConfirmedSe
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestCreateObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectSpecifier)
     lengthInBits += objectSpecifier.getLengthInBits();
@@ -103,6 +110,7 @@ public class BACnetConfirmedServiceRequestCreateObject extends BACnetConfirmedSe
       lengthInBits += listOfValues.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
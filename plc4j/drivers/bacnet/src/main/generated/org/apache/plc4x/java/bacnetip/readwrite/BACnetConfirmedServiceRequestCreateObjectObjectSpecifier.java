@@ -58,6 +58,8 @@ public class BACnetConfirmedServiceRequestCreateObjectObjectSpecifier implements
     this.objectIdentifier = objectIdentifier;
     this.closingTag = closingTag;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -127,11 +129,16 @@ public class BACnetConfirmedServiceRequestCreateObjectObjectSpecifier implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetConfirmedServiceRequestCreateObjectObjectSpecifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -155,6 +162,7 @@ public class BACnetConfirmedServiceRequestCreateObjectObjectSpecifier implements
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class BACnetConfirmedServiceRequestDeleteObject extends BACnetConfirmedSe
     super(serviceRequestLength);
     this.objectIdentifier = objectIdentifier;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagObjectIdentifier getObjectIdentifier() {
@@ -78,15 +80,21 @@ public class BACnetConfirmedServiceRequestDeleteObject extends BACnetConfirmedSe
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestDeleteObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,6 +62,8 @@ public class BACnetConfirmedServiceRequestDeviceCommunicationControl
     this.enableDisable = enableDisable;
     this.password = password;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getTimeDuration() {
@@ -101,11 +103,16 @@ public class BACnetConfirmedServiceRequestDeviceCommunicationControl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestDeviceCommunicationControl _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (timeDuration)
     if (timeDuration != null) {
@@ -120,6 +127,7 @@ public class BACnetConfirmedServiceRequestDeviceCommunicationControl
       lengthInBits += password.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -73,6 +73,8 @@ public class BACnetConfirmedServiceRequestGetEnrollmentSummary extends BACnetCon
     this.priorityFilter = priorityFilter;
     this.notificationClassFilter = notificationClassFilter;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetConfirmedServiceRequestGetEnrollmentSummaryAcknowledgementFilterTagged
@@ -135,11 +137,16 @@ public class BACnetConfirmedServiceRequestGetEnrollmentSummary extends BACnetCon
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestGetEnrollmentSummary _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (acknowledgmentFilter)
     lengthInBits += acknowledgmentFilter.getLengthInBits();
@@ -169,6 +176,7 @@ public class BACnetConfirmedServiceRequestGetEnrollmentSummary extends BACnetCon
       lengthInBits += notificationClassFilter.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
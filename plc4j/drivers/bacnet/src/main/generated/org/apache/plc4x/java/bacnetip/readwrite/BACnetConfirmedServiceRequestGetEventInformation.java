@@ -54,6 +54,8 @@ public class BACnetConfirmedServiceRequestGetEventInformation extends BACnetConf
     super(serviceRequestLength);
     this.lastReceivedObjectIdentifier = lastReceivedObjectIdentifier;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getLastReceivedObjectIdentifier() {
@@ -79,17 +81,23 @@ public class BACnetConfirmedServiceRequestGetEventInformation extends BACnetConf
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestGetEventInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (lastReceivedObjectIdentifier)
     if (lastReceivedObjectIdentifier != null) {
       lengthInBits += lastReceivedObjectIdentifier.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
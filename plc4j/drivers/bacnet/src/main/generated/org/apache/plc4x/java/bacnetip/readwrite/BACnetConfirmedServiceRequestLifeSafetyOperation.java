@@ -64,6 +64,8 @@ public class BACnetConfirmedServiceRequestLifeSafetyOperation extends BACnetConf
     this.request = request;
     this.objectIdentifier = objectIdentifier;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getRequestingProcessIdentifier() {
@@ -110,11 +112,16 @@ public class BACnetConfirmedServiceRequestLifeSafetyOperation extends BACnetConf
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestLifeSafetyOperation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestingProcessIdentifier)
     lengthInBits += requestingProcessIdentifier.getLengthInBits();
@@ -130,6 +137,7 @@ public class BACnetConfirmedServiceRequestLifeSafetyOperation extends BACnetConf
       lengthInBits += objectIdentifier.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
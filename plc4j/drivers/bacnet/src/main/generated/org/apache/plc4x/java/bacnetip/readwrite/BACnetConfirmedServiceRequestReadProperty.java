@@ -61,6 +61,8 @@ public class BACnetConfirmedServiceRequestReadProperty extends BACnetConfirmedSe
     this.propertyIdentifier = propertyIdentifier;
     this.arrayIndex = arrayIndex;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getObjectIdentifier() {
@@ -99,11 +101,16 @@ public class BACnetConfirmedServiceRequestReadProperty extends BACnetConfirmedSe
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestReadProperty _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
@@ -116,6 +123,7 @@ public class BACnetConfirmedServiceRequestReadProperty extends BACnetConfirmedSe
       lengthInBits += arrayIndex.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
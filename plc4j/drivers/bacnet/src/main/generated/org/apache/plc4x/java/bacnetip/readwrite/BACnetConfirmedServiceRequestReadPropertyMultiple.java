@@ -55,9 +55,11 @@ public class BACnetConfirmedServiceRequestReadPropertyMultiple extends BACnetCon
       Long serviceRequestPayloadLength,
       Long serviceRequestLength) {
     super(serviceRequestLength);
-    this.data = data;
+    this.data = (data == null) ? null : Collections.unmodifiableList(new ArrayList<>(data));
     this.serviceRequestPayloadLength = serviceRequestPayloadLength;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetReadAccessSpecification> getData() {
@@ -82,11 +84,16 @@ public class BACnetConfirmedServiceRequestReadPropertyMultiple extends BACnetCon
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestReadPropertyMultiple _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (data != null) {
@@ -95,6 +102,7 @@ public class BACnetConfirmedServiceRequestReadPropertyMultiple extends BACnetCon
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
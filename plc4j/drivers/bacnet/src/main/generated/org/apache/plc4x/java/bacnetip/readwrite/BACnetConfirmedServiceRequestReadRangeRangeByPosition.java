@@ -53,6 +53,8 @@ public class BACnetConfirmedServiceRequestReadRangeRangeByPosition
     super(peekedTagHeader, openingTag, closingTag);
     this.referenceIndex = referenceIndex;
     this.count = count;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getReferenceIndex() {
@@ -84,11 +86,16 @@ public class BACnetConfirmedServiceRequestReadRangeRangeByPosition
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestReadRangeRangeByPosition _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referenceIndex)
     lengthInBits += referenceIndex.getLengthInBits();
@@ -96,6 +103,7 @@ public class BACnetConfirmedServiceRequestReadRangeRangeByPosition
     // Simple field (count)
     lengthInBits += count.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class BACnetConfirmedServiceRequestReadRangeRangeByTime
     super(peekedTagHeader, openingTag, closingTag);
     this.referenceTime = referenceTime;
     this.count = count;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDateTime getReferenceTime() {
@@ -84,11 +86,16 @@ public class BACnetConfirmedServiceRequestReadRangeRangeByTime
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestReadRangeRangeByTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referenceTime)
     lengthInBits += referenceTime.getLengthInBits();
@@ -96,6 +103,7 @@ public class BACnetConfirmedServiceRequestReadRangeRangeByTime
     // Simple field (count)
     lengthInBits += count.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -60,6 +60,8 @@ public class BACnetConfirmedServiceRequestReinitializeDevice extends BACnetConfi
     this.reinitializedStateOfDevice = reinitializedStateOfDevice;
     this.password = password;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetConfirmedServiceRequestReinitializeDeviceReinitializedStateOfDeviceTagged
@@ -93,11 +95,16 @@ public class BACnetConfirmedServiceRequestReinitializeDevice extends BACnetConfi
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestReinitializeDevice _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reinitializedStateOfDevice)
     lengthInBits += reinitializedStateOfDevice.getLengthInBits();
@@ -107,6 +114,7 @@ public class BACnetConfirmedServiceRequestReinitializeDevice extends BACnetConfi
       lengthInBits += password.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
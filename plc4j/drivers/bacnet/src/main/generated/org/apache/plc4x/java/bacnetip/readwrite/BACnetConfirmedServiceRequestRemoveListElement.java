@@ -64,6 +64,8 @@ public class BACnetConfirmedServiceRequestRemoveListElement extends BACnetConfir
     this.arrayIndex = arrayIndex;
     this.listOfElements = listOfElements;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getObjectIdentifier() {
@@ -109,11 +111,16 @@ public class BACnetConfirmedServiceRequestRemoveListElement extends BACnetConfir
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestRemoveListElement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
@@ -131,6 +138,7 @@ public class BACnetConfirmedServiceRequestRemoveListElement extends BACnetConfir
       lengthInBits += listOfElements.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -70,6 +70,8 @@ public class BACnetConfirmedServiceRequestSubscribeCOVProperty extends BACnetCon
     this.monitoredPropertyIdentifier = monitoredPropertyIdentifier;
     this.covIncrement = covIncrement;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getSubscriberProcessIdentifier() {
@@ -133,11 +135,16 @@ public class BACnetConfirmedServiceRequestSubscribeCOVProperty extends BACnetCon
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestSubscribeCOVProperty _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (subscriberProcessIdentifier)
     lengthInBits += subscriberProcessIdentifier.getLengthInBits();
@@ -163,6 +170,7 @@ public class BACnetConfirmedServiceRequestSubscribeCOVProperty extends BACnetCon
       lengthInBits += covIncrement.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -70,6 +70,8 @@ public class BACnetConfirmedServiceRequestSubscribeCOVPropertyMultiple
     this.maxNotificationDelay = maxNotificationDelay;
     this.listOfCovSubscriptionSpecifications = listOfCovSubscriptionSpecifications;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getSubscriberProcessIdentifier() {
@@ -129,11 +131,16 @@ public class BACnetConfirmedServiceRequestSubscribeCOVPropertyMultiple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestSubscribeCOVPropertyMultiple _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (subscriberProcessIdentifier)
     lengthInBits += subscriberProcessIdentifier.getLengthInBits();
@@ -156,6 +163,7 @@ public class BACnetConfirmedServiceRequestSubscribeCOVPropertyMultiple
     // Simple field (listOfCovSubscriptionSpecifications)
     lengthInBits += listOfCovSubscriptionSpecifications.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,8 +58,13 @@ class BACnetConfirmedServiceRequestSubscribeCOVPropertyMultipleListOfCovSubscrip
     super();
     this.monitoredObjectIdentifier = monitoredObjectIdentifier;
     this.openingTag = openingTag;
-    this.listOfCovReferences = listOfCovReferences;
+    this.listOfCovReferences =
+        (listOfCovReferences == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(listOfCovReferences));
     this.closingTag = closingTag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getMonitoredObjectIdentifier() {
@@ -108,12 +113,17 @@ class BACnetConfirmedServiceRequestSubscribeCOVPropertyMultipleListOfCovSubscrip
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetConfirmedServiceRequestSubscribeCOVPropertyMultipleListOfCovSubscriptionSpecifications
         _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (monitoredObjectIdentifier)
     lengthInBits += monitoredObjectIdentifier.getLengthInBits();
@@ -131,6 +141,7 @@ class BACnetConfirmedServiceRequestSubscribeCOVPropertyMultipleListOfCovSubscrip
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class BACnetConfirmedServiceRequestUnknown extends BACnetConfirmedService
     this.unknownBytes = unknownBytes;
     this.serviceRequestPayloadLength = serviceRequestPayloadLength;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getUnknownBytes() {
@@ -80,17 +82,23 @@ public class BACnetConfirmedServiceRequestUnknown extends BACnetConfirmedService
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestUnknown _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (unknownBytes != null) {
       lengthInBits += 8 * unknownBytes.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,9 +55,14 @@ public class BACnetConfirmedServiceRequestVTClose extends BACnetConfirmedService
       Long serviceRequestPayloadLength,
       Long serviceRequestLength) {
     super(serviceRequestLength);
-    this.listOfRemoteVtSessionIdentifiers = listOfRemoteVtSessionIdentifiers;
+    this.listOfRemoteVtSessionIdentifiers =
+        (listOfRemoteVtSessionIdentifiers == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(listOfRemoteVtSessionIdentifiers));
     this.serviceRequestPayloadLength = serviceRequestPayloadLength;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetApplicationTagUnsignedInteger> getListOfRemoteVtSessionIdentifiers() {
@@ -83,11 +88,16 @@ public class BACnetConfirmedServiceRequestVTClose extends BACnetConfirmedService
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestVTClose _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (listOfRemoteVtSessionIdentifiers != null) {
@@ -96,6 +106,7 @@ public class BACnetConfirmedServiceRequestVTClose extends BACnetConfirmedService
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
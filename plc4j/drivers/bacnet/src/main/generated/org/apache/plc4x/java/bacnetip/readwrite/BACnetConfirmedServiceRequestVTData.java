@@ -61,6 +61,8 @@ public class BACnetConfirmedServiceRequestVTData extends BACnetConfirmedServiceR
     this.vtNewData = vtNewData;
     this.vtDataFlag = vtDataFlag;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getVtSessionIdentifier() {
@@ -99,11 +101,16 @@ public class BACnetConfirmedServiceRequestVTData extends BACnetConfirmedServiceR
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestVTData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vtSessionIdentifier)
     lengthInBits += vtSessionIdentifier.getLengthInBits();
@@ -114,6 +121,7 @@ public class BACnetConfirmedServiceRequestVTData extends BACnetConfirmedServiceR
     // Simple field (vtDataFlag)
     lengthInBits += vtDataFlag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
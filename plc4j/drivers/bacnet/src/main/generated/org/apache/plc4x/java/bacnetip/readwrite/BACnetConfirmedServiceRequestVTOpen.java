@@ -58,6 +58,8 @@ public class BACnetConfirmedServiceRequestVTOpen extends BACnetConfirmedServiceR
     this.vtClass = vtClass;
     this.localVtSessionIdentifier = localVtSessionIdentifier;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetVTClassTagged getVtClass() {
@@ -90,11 +92,16 @@ public class BACnetConfirmedServiceRequestVTOpen extends BACnetConfirmedServiceR
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestVTOpen _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vtClass)
     lengthInBits += vtClass.getLengthInBits();
@@ -102,6 +109,7 @@ public class BACnetConfirmedServiceRequestVTOpen extends BACnetConfirmedServiceR
     // Simple field (localVtSessionIdentifier)
     lengthInBits += localVtSessionIdentifier.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -67,6 +67,8 @@ public class BACnetConfirmedServiceRequestWriteProperty extends BACnetConfirmedS
     this.propertyValue = propertyValue;
     this.priority = priority;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getObjectIdentifier() {
@@ -119,11 +121,16 @@ public class BACnetConfirmedServiceRequestWriteProperty extends BACnetConfirmedS
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConfirmedServiceRequestWriteProperty _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
@@ -144,6 +151,7 @@ public class BACnetConfirmedServiceRequestWriteProperty extends BACnetConfirmedS
       lengthInBits += priority.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -64,6 +64,8 @@ public class BACnetConstructedDataAPDULength extends BACnetConstructedData imple
     this.apduLength = apduLength;
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getApduLength() {
@@ -96,17 +98,23 @@ public class BACnetConstructedDataAPDULength extends BACnetConstructedData imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataAPDULength _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (apduLength)
     lengthInBits += apduLength.getLengthInBits();
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
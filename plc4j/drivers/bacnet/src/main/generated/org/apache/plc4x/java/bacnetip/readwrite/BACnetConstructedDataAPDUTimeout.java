@@ -64,6 +64,8 @@ public class BACnetConstructedDataAPDUTimeout extends BACnetConstructedData impl
     this.apduTimeout = apduTimeout;
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getApduTimeout() {
@@ -96,17 +98,23 @@ public class BACnetConstructedDataAPDUTimeout extends BACnetConstructedData impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataAPDUTimeout _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (apduTimeout)
     lengthInBits += apduTimeout.getLengthInBits();
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
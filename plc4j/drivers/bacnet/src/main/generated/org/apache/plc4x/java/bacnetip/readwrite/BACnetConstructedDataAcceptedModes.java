@@ -61,9 +61,14 @@ public class BACnetConstructedDataAcceptedModes extends BACnetConstructedData im
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.acceptedModes = acceptedModes;
+    this.acceptedModes =
+        (acceptedModes == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(acceptedModes));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetLifeSafetyModeTagged> getAcceptedModes() {
@@ -88,11 +93,16 @@ public class BACnetConstructedDataAcceptedModes extends BACnetConstructedData im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataAcceptedModes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (acceptedModes != null) {
@@ -101,6 +111,7 @@ public class BACnetConstructedDataAcceptedModes extends BACnetConstructedData im
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
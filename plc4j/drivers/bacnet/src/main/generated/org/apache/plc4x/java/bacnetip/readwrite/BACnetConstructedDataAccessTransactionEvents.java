@@ -62,9 +62,14 @@ public class BACnetConstructedDataAccessTransactionEvents extends BACnetConstruc
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.accessTransactionEvents = accessTransactionEvents;
+    this.accessTransactionEvents =
+        (accessTransactionEvents == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(accessTransactionEvents));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetAccessEventTagged> getAccessTransactionEvents() {
@@ -89,11 +94,16 @@ public class BACnetConstructedDataAccessTransactionEvents extends BACnetConstruc
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataAccessTransactionEvents _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (accessTransactionEvents != null) {
@@ -102,6 +112,7 @@ public class BACnetConstructedDataAccessTransactionEvents extends BACnetConstruc
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
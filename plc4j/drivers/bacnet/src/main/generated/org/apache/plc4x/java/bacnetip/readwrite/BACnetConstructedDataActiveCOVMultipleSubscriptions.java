@@ -62,9 +62,14 @@ public class BACnetConstructedDataActiveCOVMultipleSubscriptions extends BACnetC
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.activeCOVMultipleSubscriptions = activeCOVMultipleSubscriptions;
+    this.activeCOVMultipleSubscriptions =
+        (activeCOVMultipleSubscriptions == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(activeCOVMultipleSubscriptions));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetCOVMultipleSubscription> getActiveCOVMultipleSubscriptions() {
@@ -90,11 +95,16 @@ public class BACnetConstructedDataActiveCOVMultipleSubscriptions extends BACnetC
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataActiveCOVMultipleSubscriptions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (activeCOVMultipleSubscriptions != null) {
@@ -103,6 +113,7 @@ public class BACnetConstructedDataActiveCOVMultipleSubscriptions extends BACnetC
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,9 +62,14 @@ public class BACnetConstructedDataActiveCOVSubscriptions extends BACnetConstruct
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.activeCOVSubscriptions = activeCOVSubscriptions;
+    this.activeCOVSubscriptions =
+        (activeCOVSubscriptions == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(activeCOVSubscriptions));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetCOVSubscription> getActiveCOVSubscriptions() {
@@ -89,11 +94,16 @@ public class BACnetConstructedDataActiveCOVSubscriptions extends BACnetConstruct
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataActiveCOVSubscriptions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (activeCOVSubscriptions != null) {
@@ -102,6 +112,7 @@ public class BACnetConstructedDataActiveCOVSubscriptions extends BACnetConstruct
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -65,9 +65,12 @@ public class BACnetConstructedDataAlarmValues extends BACnetConstructedData impl
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
     this.numberOfDataElements = numberOfDataElements;
-    this.alarmValues = alarmValues;
+    this.alarmValues =
+        (alarmValues == null) ? null : Collections.unmodifiableList(new ArrayList<>(alarmValues));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getNumberOfDataElements() {
@@ -113,11 +116,16 @@ public class BACnetConstructedDataAlarmValues extends BACnetConstructedData impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataAlarmValues _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -133,6 +141,7 @@ public class BACnetConstructedDataAlarmValues extends BACnetConstructedData impl
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
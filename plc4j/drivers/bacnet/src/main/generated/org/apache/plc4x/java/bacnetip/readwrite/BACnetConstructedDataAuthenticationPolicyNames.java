@@ -66,9 +66,14 @@ public class BACnetConstructedDataAuthenticationPolicyNames extends BACnetConstr
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
     this.numberOfDataElements = numberOfDataElements;
-    this.authenticationPolicyNames = authenticationPolicyNames;
+    this.authenticationPolicyNames =
+        (authenticationPolicyNames == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(authenticationPolicyNames));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getNumberOfDataElements() {
@@ -114,11 +119,16 @@ public class BACnetConstructedDataAuthenticationPolicyNames extends BACnetConstr
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataAuthenticationPolicyNames _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -134,6 +144,7 @@ public class BACnetConstructedDataAuthenticationPolicyNames extends BACnetConstr
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -65,6 +65,8 @@ public class BACnetConstructedDataBACnetIPv6UDPPort extends BACnetConstructedDat
     this.ipv6UdpPort = ipv6UdpPort;
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getIpv6UdpPort() {
@@ -97,17 +99,23 @@ public class BACnetConstructedDataBACnetIPv6UDPPort extends BACnetConstructedDat
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataBACnetIPv6UDPPort _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipv6UdpPort)
     lengthInBits += ipv6UdpPort.getLengthInBits();
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,9 +62,14 @@ public class BACnetConstructedDataBBMDBroadcastDistributionTable extends BACnetC
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.bbmdBroadcastDistributionTable = bbmdBroadcastDistributionTable;
+    this.bbmdBroadcastDistributionTable =
+        (bbmdBroadcastDistributionTable == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(bbmdBroadcastDistributionTable));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetBDTEntry> getBbmdBroadcastDistributionTable() {
@@ -90,11 +95,16 @@ public class BACnetConstructedDataBBMDBroadcastDistributionTable extends BACnetC
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataBBMDBroadcastDistributionTable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (bbmdBroadcastDistributionTable != null) {
@@ -103,6 +113,7 @@ public class BACnetConstructedDataBBMDBroadcastDistributionTable extends BACnetC
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -66,9 +66,12 @@ public class BACnetConstructedDataBitStringValueAlarmValues extends BACnetConstr
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
     this.numberOfDataElements = numberOfDataElements;
-    this.alarmValues = alarmValues;
+    this.alarmValues =
+        (alarmValues == null) ? null : Collections.unmodifiableList(new ArrayList<>(alarmValues));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getNumberOfDataElements() {
@@ -114,11 +117,16 @@ public class BACnetConstructedDataBitStringValueAlarmValues extends BACnetConstr
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataBitStringValueAlarmValues _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -134,6 +142,7 @@ public class BACnetConstructedDataBitStringValueAlarmValues extends BACnetConstr
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
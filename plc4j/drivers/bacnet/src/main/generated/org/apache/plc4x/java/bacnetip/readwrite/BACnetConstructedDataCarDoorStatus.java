@@ -65,9 +65,14 @@ public class BACnetConstructedDataCarDoorStatus extends BACnetConstructedData im
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
     this.numberOfDataElements = numberOfDataElements;
-    this.carDoorStatus = carDoorStatus;
+    this.carDoorStatus =
+        (carDoorStatus == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(carDoorStatus));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getNumberOfDataElements() {
@@ -113,11 +118,16 @@ public class BACnetConstructedDataCarDoorStatus extends BACnetConstructedData im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataCarDoorStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -133,6 +143,7 @@ public class BACnetConstructedDataCarDoorStatus extends BACnetConstructedData im
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
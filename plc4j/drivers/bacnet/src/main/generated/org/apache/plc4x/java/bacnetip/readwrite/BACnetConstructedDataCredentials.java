@@ -61,9 +61,12 @@ public class BACnetConstructedDataCredentials extends BACnetConstructedData impl
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.credentials = credentials;
+    this.credentials =
+        (credentials == null) ? null : Collections.unmodifiableList(new ArrayList<>(credentials));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetDeviceObjectReference> getCredentials() {
@@ -88,11 +91,16 @@ public class BACnetConstructedDataCredentials extends BACnetConstructedData impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataCredentials _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (credentials != null) {
@@ -101,6 +109,7 @@ public class BACnetConstructedDataCredentials extends BACnetConstructedData impl
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -64,6 +64,8 @@ public class BACnetConstructedDataElement implements Message {
     this.objectTypeArgument = objectTypeArgument;
     this.propertyIdentifierArgument = propertyIdentifierArgument;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTagHeader getPeekedTagHeader() {
@@ -139,11 +141,16 @@ public class BACnetConstructedDataElement implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetConstructedDataElement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -168,6 +175,7 @@ public class BACnetConstructedDataElement implements Message {
       lengthInBits += constructedData.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
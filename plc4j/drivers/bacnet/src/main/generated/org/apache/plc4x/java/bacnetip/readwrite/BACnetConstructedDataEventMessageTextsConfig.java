@@ -66,9 +66,14 @@ public class BACnetConstructedDataEventMessageTextsConfig extends BACnetConstruc
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
     this.numberOfDataElements = numberOfDataElements;
-    this.eventMessageTextsConfig = eventMessageTextsConfig;
+    this.eventMessageTextsConfig =
+        (eventMessageTextsConfig == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(eventMessageTextsConfig));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getNumberOfDataElements() {
@@ -147,11 +152,16 @@ public class BACnetConstructedDataEventMessageTextsConfig extends BACnetConstruc
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataEventMessageTextsConfig _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -173,6 +183,7 @@ public class BACnetConstructedDataEventMessageTextsConfig extends BACnetConstruc
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,9 +62,14 @@ public class BACnetConstructedDataFailedAttemptEvents extends BACnetConstructedD
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.failedAttemptEvents = failedAttemptEvents;
+    this.failedAttemptEvents =
+        (failedAttemptEvents == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(failedAttemptEvents));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetAccessEventTagged> getFailedAttemptEvents() {
@@ -89,11 +94,16 @@ public class BACnetConstructedDataFailedAttemptEvents extends BACnetConstructedD
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataFailedAttemptEvents _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (failedAttemptEvents != null) {
@@ -102,6 +112,7 @@ public class BACnetConstructedDataFailedAttemptEvents extends BACnetConstructedD
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,9 +62,12 @@ public class BACnetConstructedDataGroupPresentValue extends BACnetConstructedDat
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.presentValue = presentValue;
+    this.presentValue =
+        (presentValue == null) ? null : Collections.unmodifiableList(new ArrayList<>(presentValue));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetReadAccessResult> getPresentValue() {
@@ -89,11 +92,16 @@ public class BACnetConstructedDataGroupPresentValue extends BACnetConstructedDat
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataGroupPresentValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (presentValue != null) {
@@ -102,6 +110,7 @@ public class BACnetConstructedDataGroupPresentValue extends BACnetConstructedDat
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
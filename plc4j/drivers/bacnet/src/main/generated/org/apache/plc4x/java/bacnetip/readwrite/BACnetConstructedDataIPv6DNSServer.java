@@ -65,9 +65,14 @@ public class BACnetConstructedDataIPv6DNSServer extends BACnetConstructedData im
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
     this.numberOfDataElements = numberOfDataElements;
-    this.ipv6DnsServer = ipv6DnsServer;
+    this.ipv6DnsServer =
+        (ipv6DnsServer == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(ipv6DnsServer));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getNumberOfDataElements() {
@@ -113,11 +118,16 @@ public class BACnetConstructedDataIPv6DNSServer extends BACnetConstructedData im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataIPv6DNSServer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -133,6 +143,7 @@ public class BACnetConstructedDataIPv6DNSServer extends BACnetConstructedData im
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,9 +62,12 @@ public class BACnetConstructedDataLiftFaultSignals extends BACnetConstructedData
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.faultSignals = faultSignals;
+    this.faultSignals =
+        (faultSignals == null) ? null : Collections.unmodifiableList(new ArrayList<>(faultSignals));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetLiftFaultTagged> getFaultSignals() {
@@ -89,11 +92,16 @@ public class BACnetConstructedDataLiftFaultSignals extends BACnetConstructedData
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataLiftFaultSignals _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (faultSignals != null) {
@@ -102,6 +110,7 @@ public class BACnetConstructedDataLiftFaultSignals extends BACnetConstructedData
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,9 +62,14 @@ public class BACnetConstructedDataListOfGroupMembers extends BACnetConstructedDa
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.listOfGroupMembers = listOfGroupMembers;
+    this.listOfGroupMembers =
+        (listOfGroupMembers == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(listOfGroupMembers));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetReadAccessSpecification> getListOfGroupMembers() {
@@ -89,11 +94,16 @@ public class BACnetConstructedDataListOfGroupMembers extends BACnetConstructedDa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataListOfGroupMembers _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (listOfGroupMembers != null) {
@@ -102,6 +112,7 @@ public class BACnetConstructedDataListOfGroupMembers extends BACnetConstructedDa
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -65,6 +65,8 @@ public class BACnetConstructedDataMaintenanceRequired extends BACnetConstructedD
     this.maintenanceRequired = maintenanceRequired;
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetMaintenanceTagged getMaintenanceRequired() {
@@ -97,17 +99,23 @@ public class BACnetConstructedDataMaintenanceRequired extends BACnetConstructedD
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataMaintenanceRequired _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maintenanceRequired)
     lengthInBits += maintenanceRequired.getLengthInBits();
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
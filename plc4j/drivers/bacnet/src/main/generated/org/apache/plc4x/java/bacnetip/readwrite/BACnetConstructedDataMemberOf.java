@@ -61,9 +61,11 @@ public class BACnetConstructedDataMemberOf extends BACnetConstructedData impleme
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.zones = zones;
+    this.zones = (zones == null) ? null : Collections.unmodifiableList(new ArrayList<>(zones));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetDeviceObjectReference> getZones() {
@@ -88,11 +90,16 @@ public class BACnetConstructedDataMemberOf extends BACnetConstructedData impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataMemberOf _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (zones != null) {
@@ -101,6 +108,7 @@ public class BACnetConstructedDataMemberOf extends BACnetConstructedData impleme
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,9 +61,12 @@ public class BACnetConstructedDataMembers extends BACnetConstructedData implemen
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.members = members;
+    this.members =
+        (members == null) ? null : Collections.unmodifiableList(new ArrayList<>(members));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetDeviceObjectReference> getMembers() {
@@ -88,11 +91,16 @@ public class BACnetConstructedDataMembers extends BACnetConstructedData implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataMembers _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (members != null) {
@@ -101,6 +109,7 @@ public class BACnetConstructedDataMembers extends BACnetConstructedData implemen
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -66,9 +66,14 @@ public class BACnetConstructedDataNetworkAccessSecurityPolicies extends BACnetCo
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
     this.numberOfDataElements = numberOfDataElements;
-    this.networkAccessSecurityPolicies = networkAccessSecurityPolicies;
+    this.networkAccessSecurityPolicies =
+        (networkAccessSecurityPolicies == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(networkAccessSecurityPolicies));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getNumberOfDataElements() {
@@ -115,11 +120,16 @@ public class BACnetConstructedDataNetworkAccessSecurityPolicies extends BACnetCo
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataNetworkAccessSecurityPolicies _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -135,6 +145,7 @@ public class BACnetConstructedDataNetworkAccessSecurityPolicies extends BACnetCo
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
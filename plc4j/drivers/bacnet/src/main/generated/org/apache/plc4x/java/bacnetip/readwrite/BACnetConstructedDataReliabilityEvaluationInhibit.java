@@ -65,6 +65,8 @@ public class BACnetConstructedDataReliabilityEvaluationInhibit extends BACnetCon
     this.reliabilityEvaluationInhibit = reliabilityEvaluationInhibit;
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagBoolean getReliabilityEvaluationInhibit() {
@@ -98,17 +100,23 @@ public class BACnetConstructedDataReliabilityEvaluationInhibit extends BACnetCon
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataReliabilityEvaluationInhibit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reliabilityEvaluationInhibit)
     lengthInBits += reliabilityEvaluationInhibit.getLengthInBits();
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
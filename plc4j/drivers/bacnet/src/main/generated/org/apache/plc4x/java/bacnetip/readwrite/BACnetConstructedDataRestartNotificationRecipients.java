@@ -62,9 +62,14 @@ public class BACnetConstructedDataRestartNotificationRecipients extends BACnetCo
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.restartNotificationRecipients = restartNotificationRecipients;
+    this.restartNotificationRecipients =
+        (restartNotificationRecipients == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(restartNotificationRecipients));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetRecipient> getRestartNotificationRecipients() {
@@ -90,11 +95,16 @@ public class BACnetConstructedDataRestartNotificationRecipients extends BACnetCo
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataRestartNotificationRecipients _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (restartNotificationRecipients != null) {
@@ -103,6 +113,7 @@ public class BACnetConstructedDataRestartNotificationRecipients extends BACnetCo
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
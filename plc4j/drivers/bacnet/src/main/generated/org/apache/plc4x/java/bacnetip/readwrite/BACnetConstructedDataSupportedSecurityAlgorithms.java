@@ -62,9 +62,14 @@ public class BACnetConstructedDataSupportedSecurityAlgorithms extends BACnetCons
       Short tagNumber,
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber, arrayIndexArgument);
-    this.supportedSecurityAlgorithms = supportedSecurityAlgorithms;
+    this.supportedSecurityAlgorithms =
+        (supportedSecurityAlgorithms == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(supportedSecurityAlgorithms));
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetApplicationTagUnsignedInteger> getSupportedSecurityAlgorithms() {
@@ -90,11 +95,16 @@ public class BACnetConstructedDataSupportedSecurityAlgorithms extends BACnetCons
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataSupportedSecurityAlgorithms _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (supportedSecurityAlgorithms != null) {
@@ -103,6 +113,7 @@ public class BACnetConstructedDataSupportedSecurityAlgorithms extends BACnetCons
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -65,6 +65,8 @@ public class BACnetConstructedDataTimeOfDeviceRestart extends BACnetConstructedD
     this.timeOfDeviceRestart = timeOfDeviceRestart;
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTimeStamp getTimeOfDeviceRestart() {
@@ -97,17 +99,23 @@ public class BACnetConstructedDataTimeOfDeviceRestart extends BACnetConstructedD
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetConstructedDataTimeOfDeviceRestart _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeOfDeviceRestart)
     lengthInBits += timeOfDeviceRestart.getLengthInBits();
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class BACnetContextTagBitString extends BACnetContextTag implements Messa
     super(header, tagNumberArgument);
     this.payload = payload;
     this.tagNumberArgument = tagNumberArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTagPayloadBitString getPayload() {
@@ -77,15 +79,21 @@ public class BACnetContextTagBitString extends BACnetContextTag implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetContextTagBitString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
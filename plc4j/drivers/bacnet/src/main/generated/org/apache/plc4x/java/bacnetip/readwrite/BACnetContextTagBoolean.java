@@ -58,6 +58,8 @@ public class BACnetContextTagBoolean extends BACnetContextTag implements Message
     this.value = value;
     this.payload = payload;
     this.tagNumberArgument = tagNumberArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getValue() {
@@ -97,11 +99,16 @@ public class BACnetContextTagBoolean extends BACnetContextTag implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetContextTagBoolean _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += 8;
@@ -111,6 +118,7 @@ public class BACnetContextTagBoolean extends BACnetContextTag implements Message
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
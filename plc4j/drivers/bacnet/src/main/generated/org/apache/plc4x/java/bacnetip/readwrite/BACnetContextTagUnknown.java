@@ -55,6 +55,8 @@ public class BACnetContextTagUnknown extends BACnetContextTag implements Message
     this.unknownData = unknownData;
     this.actualLength = actualLength;
     this.tagNumberArgument = tagNumberArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getUnknownData() {
@@ -79,17 +81,23 @@ public class BACnetContextTagUnknown extends BACnetContextTag implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetContextTagUnknown _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (unknownData != null) {
       lengthInBits += 8 * unknownData.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetCredentialAuthenticationFactor implements Message {
     super();
     this.disable = disable;
     this.authenticationFactor = authenticationFactor;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetAccessAuthenticationFactorDisableTagged getDisable() {
@@ -76,11 +78,16 @@ public class BACnetCredentialAuthenticationFactor implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetCredentialAuthenticationFactor _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (disable)
     lengthInBits += disable.getLengthInBits();
@@ -88,6 +95,7 @@ public class BACnetCredentialAuthenticationFactor implements Message {
     // Simple field (authenticationFactor)
     lengthInBits += authenticationFactor.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
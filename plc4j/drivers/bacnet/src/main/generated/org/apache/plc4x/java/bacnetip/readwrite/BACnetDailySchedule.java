@@ -46,8 +46,11 @@ public class BACnetDailySchedule implements Message {
       BACnetOpeningTag openingTag, List<BACnetTimeValue> daySchedule, BACnetClosingTag closingTag) {
     super();
     this.openingTag = openingTag;
-    this.daySchedule = daySchedule;
+    this.daySchedule =
+        (daySchedule == null) ? null : Collections.unmodifiableList(new ArrayList<>(daySchedule));
     this.closingTag = closingTag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -84,11 +87,16 @@ public class BACnetDailySchedule implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetDailySchedule _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -103,6 +111,7 @@ public class BACnetDailySchedule implements Message {
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class BACnetDateRange implements Message {
     super();
     this.startDate = startDate;
     this.endDate = endDate;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagDate getStartDate() {
@@ -74,11 +76,16 @@ public class BACnetDateRange implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetDateRange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (startDate)
     lengthInBits += startDate.getLengthInBits();
@@ -86,6 +93,7 @@ public class BACnetDateRange implements Message {
     // Simple field (endDate)
     lengthInBits += endDate.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
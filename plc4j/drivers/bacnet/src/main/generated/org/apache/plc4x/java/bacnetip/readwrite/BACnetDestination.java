@@ -62,6 +62,8 @@ public class BACnetDestination implements Message {
     this.processIdentifier = processIdentifier;
     this.issueConfirmedNotifications = issueConfirmedNotifications;
     this.transitions = transitions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDaysOfWeekTagged getValidDays() {
@@ -127,11 +129,16 @@ public class BACnetDestination implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetDestination _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (validDays)
     lengthInBits += validDays.getLengthInBits();
@@ -154,6 +161,7 @@ public class BACnetDestination implements Message {
     // Simple field (transitions)
     lengthInBits += transitions.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
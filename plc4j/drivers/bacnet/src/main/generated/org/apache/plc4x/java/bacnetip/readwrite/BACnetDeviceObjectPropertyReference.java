@@ -53,6 +53,8 @@ public class BACnetDeviceObjectPropertyReference implements Message {
     this.propertyIdentifier = propertyIdentifier;
     this.arrayIndex = arrayIndex;
     this.deviceIdentifier = deviceIdentifier;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getObjectIdentifier() {
@@ -96,11 +98,16 @@ public class BACnetDeviceObjectPropertyReference implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetDeviceObjectPropertyReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
@@ -118,6 +125,7 @@ public class BACnetDeviceObjectPropertyReference implements Message {
       lengthInBits += deviceIdentifier.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
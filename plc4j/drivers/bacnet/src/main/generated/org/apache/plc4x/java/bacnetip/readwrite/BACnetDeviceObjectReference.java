@@ -47,6 +47,8 @@ public class BACnetDeviceObjectReference implements Message {
     super();
     this.deviceIdentifier = deviceIdentifier;
     this.objectIdentifier = objectIdentifier;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getDeviceIdentifier() {
@@ -76,11 +78,16 @@ public class BACnetDeviceObjectReference implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetDeviceObjectReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (deviceIdentifier)
     if (deviceIdentifier != null) {
@@ -90,6 +97,7 @@ public class BACnetDeviceObjectReference implements Message {
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
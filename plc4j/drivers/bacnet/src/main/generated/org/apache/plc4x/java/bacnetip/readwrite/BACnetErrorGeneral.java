@@ -48,6 +48,8 @@ public class BACnetErrorGeneral extends BACnetError implements Message {
   public BACnetErrorGeneral(Error error) {
     super();
     this.error = error;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Error getError() {
@@ -71,15 +73,21 @@ public class BACnetErrorGeneral extends BACnetError implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetErrorGeneral _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (error)
     lengthInBits += error.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetEventLogRecord implements Message {
     super();
     this.timestamp = timestamp;
     this.logDatum = logDatum;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDateTimeEnclosed getTimestamp() {
@@ -75,11 +77,16 @@ public class BACnetEventLogRecord implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetEventLogRecord _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timestamp)
     lengthInBits += timestamp.getLengthInBits();
@@ -87,6 +94,7 @@ public class BACnetEventLogRecord implements Message {
     // Simple field (logDatum)
     lengthInBits += logDatum.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class BACnetEventLogRecordLogDatumNotification extends BACnetEventLogReco
     this.notification = notification;
     this.innerClosingTag = innerClosingTag;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getInnerOpeningTag() {
@@ -99,11 +101,16 @@ public class BACnetEventLogRecordLogDatumNotification extends BACnetEventLogReco
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetEventLogRecordLogDatumNotification _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (innerOpeningTag)
     lengthInBits += innerOpeningTag.getLengthInBits();
@@ -114,6 +121,7 @@ public class BACnetEventLogRecordLogDatumNotification extends BACnetEventLogReco
     // Simple field (innerClosingTag)
     lengthInBits += innerClosingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class BACnetEventNotificationSubscription implements Message {
     this.processIdentifier = processIdentifier;
     this.issueConfirmedNotifications = issueConfirmedNotifications;
     this.timeRemaining = timeRemaining;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetRecipientEnclosed getRecipient() {
@@ -97,11 +99,16 @@ public class BACnetEventNotificationSubscription implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetEventNotificationSubscription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (recipient)
     lengthInBits += recipient.getLengthInBits();
@@ -117,6 +124,7 @@ public class BACnetEventNotificationSubscription implements Message {
     // Simple field (timeRemaining)
     lengthInBits += timeRemaining.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class BACnetEventParameterAccessEvent extends BACnetEventParameter implem
     this.listOfAccessEvents = listOfAccessEvents;
     this.accessEventTimeReference = accessEventTimeReference;
     this.closingTag = closingTag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -102,11 +104,16 @@ public class BACnetEventParameterAccessEvent extends BACnetEventParameter implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetEventParameterAccessEvent _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -120,6 +127,7 @@ public class BACnetEventParameterAccessEvent extends BACnetEventParameter implem
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
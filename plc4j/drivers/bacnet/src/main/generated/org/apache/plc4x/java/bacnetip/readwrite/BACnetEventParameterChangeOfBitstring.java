@@ -59,6 +59,8 @@ public class BACnetEventParameterChangeOfBitstring extends BACnetEventParameter
     this.bitmask = bitmask;
     this.listOfBitstringValues = listOfBitstringValues;
     this.closingTag = closingTag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -111,11 +113,16 @@ public class BACnetEventParameterChangeOfBitstring extends BACnetEventParameter
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetEventParameterChangeOfBitstring _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -132,6 +139,7 @@ public class BACnetEventParameterChangeOfBitstring extends BACnetEventParameter
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,9 +52,14 @@ public class BACnetEventParameterChangeOfBitstringListOfBitstringValues implemen
       Short tagNumber) {
     super();
     this.openingTag = openingTag;
-    this.listOfBitstringValues = listOfBitstringValues;
+    this.listOfBitstringValues =
+        (listOfBitstringValues == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(listOfBitstringValues));
     this.closingTag = closingTag;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -91,11 +96,16 @@ public class BACnetEventParameterChangeOfBitstringListOfBitstringValues implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetEventParameterChangeOfBitstringListOfBitstringValues _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -110,6 +120,7 @@ public class BACnetEventParameterChangeOfBitstringListOfBitstringValues implemen
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
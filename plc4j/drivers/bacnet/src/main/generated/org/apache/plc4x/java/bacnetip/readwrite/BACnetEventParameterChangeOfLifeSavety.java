@@ -64,6 +64,8 @@ public class BACnetEventParameterChangeOfLifeSavety extends BACnetEventParameter
     this.listOfAlarmValues = listOfAlarmValues;
     this.modePropertyReference = modePropertyReference;
     this.closingTag = closingTag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -125,11 +127,16 @@ public class BACnetEventParameterChangeOfLifeSavety extends BACnetEventParameter
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetEventParameterChangeOfLifeSavety _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -149,6 +156,7 @@ public class BACnetEventParameterChangeOfLifeSavety extends BACnetEventParameter
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
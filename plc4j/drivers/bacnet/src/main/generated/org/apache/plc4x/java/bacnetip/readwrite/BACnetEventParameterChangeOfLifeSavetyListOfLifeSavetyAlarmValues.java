@@ -52,9 +52,14 @@ public class BACnetEventParameterChangeOfLifeSavetyListOfLifeSavetyAlarmValues i
       Short tagNumber) {
     super();
     this.openingTag = openingTag;
-    this.listOfLifeSavetyAlarmValues = listOfLifeSavetyAlarmValues;
+    this.listOfLifeSavetyAlarmValues =
+        (listOfLifeSavetyAlarmValues == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(listOfLifeSavetyAlarmValues));
     this.closingTag = closingTag;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -92,11 +97,16 @@ public class BACnetEventParameterChangeOfLifeSavetyListOfLifeSavetyAlarmValues i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetEventParameterChangeOfLifeSavetyListOfLifeSavetyAlarmValues _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -111,6 +121,7 @@ public class BACnetEventParameterChangeOfLifeSavetyListOfLifeSavetyAlarmValues i
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
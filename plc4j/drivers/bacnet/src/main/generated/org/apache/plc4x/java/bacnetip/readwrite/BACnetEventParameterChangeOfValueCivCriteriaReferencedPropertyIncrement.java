@@ -55,6 +55,8 @@ public class BACnetEventParameterChangeOfValueCivCriteriaReferencedPropertyIncre
     super(openingTag, peekedTagHeader, closingTag, tagNumber);
     this.referencedPropertyIncrement = referencedPropertyIncrement;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagReal getReferencedPropertyIncrement() {
@@ -82,15 +84,21 @@ public class BACnetEventParameterChangeOfValueCivCriteriaReferencedPropertyIncre
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetEventParameterChangeOfValueCivCriteriaReferencedPropertyIncrement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referencedPropertyIncrement)
     lengthInBits += referencedPropertyIncrement.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
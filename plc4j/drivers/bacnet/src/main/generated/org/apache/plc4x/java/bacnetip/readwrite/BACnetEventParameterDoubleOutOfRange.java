@@ -62,6 +62,8 @@ public class BACnetEventParameterDoubleOutOfRange extends BACnetEventParameter i
     this.highLimit = highLimit;
     this.deadband = deadband;
     this.closingTag = closingTag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -121,11 +123,16 @@ public class BACnetEventParameterDoubleOutOfRange extends BACnetEventParameter i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetEventParameterDoubleOutOfRange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -145,6 +152,7 @@ public class BACnetEventParameterDoubleOutOfRange extends BACnetEventParameter i
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
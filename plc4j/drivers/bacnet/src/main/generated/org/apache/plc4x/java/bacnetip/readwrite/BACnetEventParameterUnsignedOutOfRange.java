@@ -63,6 +63,8 @@ public class BACnetEventParameterUnsignedOutOfRange extends BACnetEventParameter
     this.highLimit = highLimit;
     this.deadband = deadband;
     this.closingTag = closingTag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -122,11 +124,16 @@ public class BACnetEventParameterUnsignedOutOfRange extends BACnetEventParameter
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetEventParameterUnsignedOutOfRange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -146,6 +153,7 @@ public class BACnetEventParameterUnsignedOutOfRange extends BACnetEventParameter
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
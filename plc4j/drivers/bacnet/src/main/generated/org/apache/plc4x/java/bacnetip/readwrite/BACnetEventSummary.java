@@ -62,6 +62,8 @@ public class BACnetEventSummary implements Message {
     this.notifyType = notifyType;
     this.eventEnable = eventEnable;
     this.eventPriorities = eventPriorities;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getObjectIdentifier() {
@@ -126,11 +128,16 @@ public class BACnetEventSummary implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetEventSummary _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
@@ -153,6 +160,7 @@ public class BACnetEventSummary implements Message {
     // Simple field (eventPriorities)
     lengthInBits += eventPriorities.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class BACnetEventTimestamps implements Message {
     this.toOffnormal = toOffnormal;
     this.toFault = toFault;
     this.toNormal = toNormal;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTimeStamp getToOffnormal() {
@@ -84,11 +86,16 @@ public class BACnetEventTimestamps implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetEventTimestamps _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (toOffnormal)
     lengthInBits += toOffnormal.getLengthInBits();
@@ -99,6 +106,7 @@ public class BACnetEventTimestamps implements Message {
     // Simple field (toNormal)
     lengthInBits += toNormal.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
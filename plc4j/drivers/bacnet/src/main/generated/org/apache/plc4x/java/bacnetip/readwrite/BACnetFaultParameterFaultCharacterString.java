@@ -54,6 +54,8 @@ public class BACnetFaultParameterFaultCharacterString extends BACnetFaultParamet
     this.openingTag = openingTag;
     this.listOfFaultValues = listOfFaultValues;
     this.closingTag = closingTag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -92,11 +94,16 @@ public class BACnetFaultParameterFaultCharacterString extends BACnetFaultParamet
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetFaultParameterFaultCharacterString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -107,6 +114,7 @@ public class BACnetFaultParameterFaultCharacterString extends BACnetFaultParamet
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetFaultParameterFaultExtendedParametersEntryDate
       BACnetTagHeader peekedTagHeader, BACnetApplicationTagDate dateValue) {
     super(peekedTagHeader);
     this.dateValue = dateValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagDate getDateValue() {
@@ -71,15 +73,21 @@ public class BACnetFaultParameterFaultExtendedParametersEntryDate
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetFaultParameterFaultExtendedParametersEntryDate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dateValue)
     lengthInBits += dateValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetFaultParameterFaultExtendedParametersEntryReference
       BACnetTagHeader peekedTagHeader, BACnetDeviceObjectPropertyReferenceEnclosed reference) {
     super(peekedTagHeader);
     this.reference = reference;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDeviceObjectPropertyReferenceEnclosed getReference() {
@@ -71,15 +73,21 @@ public class BACnetFaultParameterFaultExtendedParametersEntryReference
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetFaultParameterFaultExtendedParametersEntryReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reference)
     lengthInBits += reference.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class BACnetFaultParameterFaultLifeSafety extends BACnetFaultParameter im
     this.listOfFaultValues = listOfFaultValues;
     this.modePropertyReference = modePropertyReference;
     this.closingTag = closingTag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -101,11 +103,16 @@ public class BACnetFaultParameterFaultLifeSafety extends BACnetFaultParameter im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetFaultParameterFaultLifeSafety _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -119,6 +126,7 @@ public class BACnetFaultParameterFaultLifeSafety extends BACnetFaultParameter im
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
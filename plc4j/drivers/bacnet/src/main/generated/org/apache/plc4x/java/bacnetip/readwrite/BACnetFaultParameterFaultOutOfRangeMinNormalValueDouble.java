@@ -55,6 +55,8 @@ public class BACnetFaultParameterFaultOutOfRangeMinNormalValueDouble
     super(openingTag, peekedTagHeader, closingTag, tagNumber);
     this.doubleValue = doubleValue;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagDouble getDoubleValue() {
@@ -79,15 +81,21 @@ public class BACnetFaultParameterFaultOutOfRangeMinNormalValueDouble
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetFaultParameterFaultOutOfRangeMinNormalValueDouble _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (doubleValue)
     lengthInBits += doubleValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class BACnetGroupChannelValue implements Message {
     this.channel = channel;
     this.overridingPriority = overridingPriority;
     this.value = value;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getChannel() {
@@ -86,11 +88,16 @@ public class BACnetGroupChannelValue implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetGroupChannelValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (channel)
     lengthInBits += channel.getLengthInBits();
@@ -103,6 +110,7 @@ public class BACnetGroupChannelValue implements Message {
     // Simple field (value)
     lengthInBits += value.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetHostAddressIpAddress extends BACnetHostAddress implements Mes
       BACnetTagHeader peekedTagHeader, BACnetContextTagOctetString ipAddress) {
     super(peekedTagHeader);
     this.ipAddress = ipAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagOctetString getIpAddress() {
@@ -70,15 +72,21 @@ public class BACnetHostAddressIpAddress extends BACnetHostAddress implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetHostAddressIpAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ipAddress)
     lengthInBits += ipAddress.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
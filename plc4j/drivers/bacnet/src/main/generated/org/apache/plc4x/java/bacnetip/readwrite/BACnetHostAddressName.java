@@ -46,6 +46,8 @@ public class BACnetHostAddressName extends BACnetHostAddress implements Message
       BACnetTagHeader peekedTagHeader, BACnetContextTagCharacterString name) {
     super(peekedTagHeader);
     this.name = name;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagCharacterString getName() {
@@ -70,15 +72,21 @@ public class BACnetHostAddressName extends BACnetHostAddress implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetHostAddressName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class BACnetHostNPort implements Message {
     super();
     this.host = host;
     this.port = port;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetHostAddressEnclosed getHost() {
@@ -74,11 +76,16 @@ public class BACnetHostNPort implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetHostNPort _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (host)
     lengthInBits += host.getLengthInBits();
@@ -86,6 +93,7 @@ public class BACnetHostNPort implements Message {
     // Simple field (port)
     lengthInBits += port.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
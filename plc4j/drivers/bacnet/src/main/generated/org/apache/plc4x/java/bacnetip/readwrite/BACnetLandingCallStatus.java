@@ -50,6 +50,8 @@ public class BACnetLandingCallStatus implements Message {
     this.floorNumber = floorNumber;
     this.command = command;
     this.floorText = floorText;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getFloorNumber() {
@@ -86,11 +88,16 @@ public class BACnetLandingCallStatus implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetLandingCallStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (floorNumber)
     lengthInBits += floorNumber.getLengthInBits();
@@ -103,6 +110,7 @@ public class BACnetLandingCallStatus implements Message {
       lengthInBits += floorText.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetLandingCallStatusCommandDirection extends BACnetLandingCallSt
       BACnetTagHeader peekedTagHeader, BACnetLiftCarDirectionTagged direction) {
     super(peekedTagHeader);
     this.direction = direction;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLiftCarDirectionTagged getDirection() {
@@ -71,15 +73,21 @@ public class BACnetLandingCallStatusCommandDirection extends BACnetLandingCallSt
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetLandingCallStatusCommandDirection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (direction)
     lengthInBits += direction.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
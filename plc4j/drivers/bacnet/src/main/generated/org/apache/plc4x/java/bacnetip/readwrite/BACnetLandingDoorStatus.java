@@ -43,6 +43,8 @@ public class BACnetLandingDoorStatus implements Message {
   public BACnetLandingDoorStatus(BACnetLandingDoorStatusLandingDoorsList landingDoors) {
     super();
     this.landingDoors = landingDoors;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLandingDoorStatusLandingDoorsList getLandingDoors() {
@@ -65,15 +67,21 @@ public class BACnetLandingDoorStatus implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetLandingDoorStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (landingDoors)
     lengthInBits += landingDoors.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,9 +52,12 @@ public class BACnetLandingDoorStatusLandingDoorsList implements Message {
       Short tagNumber) {
     super();
     this.openingTag = openingTag;
-    this.landingDoors = landingDoors;
+    this.landingDoors =
+        (landingDoors == null) ? null : Collections.unmodifiableList(new ArrayList<>(landingDoors));
     this.closingTag = closingTag;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -91,11 +94,16 @@ public class BACnetLandingDoorStatusLandingDoorsList implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetLandingDoorStatusLandingDoorsList _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -110,6 +118,7 @@ public class BACnetLandingDoorStatusLandingDoorsList implements Message {
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetLandingDoorStatusLandingDoorsListEntry implements Message {
     super();
     this.floorNumber = floorNumber;
     this.doorStatus = doorStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getFloorNumber() {
@@ -75,11 +77,16 @@ public class BACnetLandingDoorStatusLandingDoorsListEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetLandingDoorStatusLandingDoorsListEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (floorNumber)
     lengthInBits += floorNumber.getLengthInBits();
@@ -87,6 +94,7 @@ public class BACnetLandingDoorStatusLandingDoorsListEntry implements Message {
     // Simple field (doorStatus)
     lengthInBits += doorStatus.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
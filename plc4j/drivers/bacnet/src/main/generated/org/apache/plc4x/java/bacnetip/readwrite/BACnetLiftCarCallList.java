@@ -43,6 +43,8 @@ public class BACnetLiftCarCallList implements Message {
   public BACnetLiftCarCallList(BACnetLiftCarCallListFloorList floorNumbers) {
     super();
     this.floorNumbers = floorNumbers;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLiftCarCallListFloorList getFloorNumbers() {
@@ -65,15 +67,21 @@ public class BACnetLiftCarCallList implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetLiftCarCallList _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (floorNumbers)
     lengthInBits += floorNumbers.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -59,6 +59,8 @@ public class BACnetLightingCommand implements Message {
     this.stepIncrement = stepIncrement;
     this.fadeTime = fadeTime;
     this.priority = priority;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLightingOperationTagged getLightningOperation() {
@@ -116,11 +118,16 @@ public class BACnetLightingCommand implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetLightingCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lightningOperation)
     lengthInBits += lightningOperation.getLengthInBits();
@@ -150,6 +157,7 @@ public class BACnetLightingCommand implements Message {
       lengthInBits += priority.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
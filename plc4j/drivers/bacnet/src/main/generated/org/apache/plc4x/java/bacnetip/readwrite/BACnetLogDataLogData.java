@@ -57,9 +57,12 @@ public class BACnetLogDataLogData extends BACnetLogData implements Message {
       Short tagNumber) {
     super(openingTag, peekedTagHeader, closingTag, tagNumber);
     this.innerOpeningTag = innerOpeningTag;
-    this.logData = logData;
+    this.logData =
+        (logData == null) ? null : Collections.unmodifiableList(new ArrayList<>(logData));
     this.innerClosingTag = innerClosingTag;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getInnerOpeningTag() {
@@ -98,11 +101,16 @@ public class BACnetLogDataLogData extends BACnetLogData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetLogDataLogData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (innerOpeningTag)
     lengthInBits += innerOpeningTag.getLengthInBits();
@@ -117,6 +125,7 @@ public class BACnetLogDataLogData extends BACnetLogData implements Message {
     // Simple field (innerClosingTag)
     lengthInBits += innerClosingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetLogDataLogDataEntryAnyValue extends BACnetLogDataLogDataEntry
       BACnetTagHeader peekedTagHeader, BACnetConstructedData anyValue) {
     super(peekedTagHeader);
     this.anyValue = anyValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetConstructedData getAnyValue() {
@@ -71,17 +73,23 @@ public class BACnetLogDataLogDataEntryAnyValue extends BACnetLogDataLogDataEntry
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetLogDataLogDataEntryAnyValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (anyValue)
     if (anyValue != null) {
       lengthInBits += anyValue.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
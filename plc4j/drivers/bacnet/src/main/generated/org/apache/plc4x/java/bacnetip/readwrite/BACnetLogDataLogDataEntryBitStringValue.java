@@ -47,6 +47,8 @@ public class BACnetLogDataLogDataEntryBitStringValue extends BACnetLogDataLogDat
       BACnetTagHeader peekedTagHeader, BACnetContextTagBitString bitStringValue) {
     super(peekedTagHeader);
     this.bitStringValue = bitStringValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagBitString getBitStringValue() {
@@ -71,15 +73,21 @@ public class BACnetLogDataLogDataEntryBitStringValue extends BACnetLogDataLogDat
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetLogDataLogDataEntryBitStringValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bitStringValue)
     lengthInBits += bitStringValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
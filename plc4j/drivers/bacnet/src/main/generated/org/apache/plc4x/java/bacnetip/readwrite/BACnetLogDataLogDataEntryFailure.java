@@ -45,6 +45,8 @@ public class BACnetLogDataLogDataEntryFailure extends BACnetLogDataLogDataEntry
   public BACnetLogDataLogDataEntryFailure(BACnetTagHeader peekedTagHeader, ErrorEnclosed failure) {
     super(peekedTagHeader);
     this.failure = failure;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ErrorEnclosed getFailure() {
@@ -69,15 +71,21 @@ public class BACnetLogDataLogDataEntryFailure extends BACnetLogDataLogDataEntry
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetLogDataLogDataEntryFailure _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (failure)
     lengthInBits += failure.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class BACnetLogDataLogStatus extends BACnetLogData implements Message {
     super(openingTag, peekedTagHeader, closingTag, tagNumber);
     this.logStatus = logStatus;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLogStatusTagged getLogStatus() {
@@ -78,15 +80,21 @@ public class BACnetLogDataLogStatus extends BACnetLogData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetLogDataLogStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (logStatus)
     lengthInBits += logStatus.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class BACnetLogMultipleRecord implements Message {
     super();
     this.timestamp = timestamp;
     this.logData = logData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDateTimeEnclosed getTimestamp() {
@@ -74,11 +76,16 @@ public class BACnetLogMultipleRecord implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetLogMultipleRecord _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timestamp)
     lengthInBits += timestamp.getLengthInBits();
@@ -86,6 +93,7 @@ public class BACnetLogMultipleRecord implements Message {
     // Simple field (logData)
     lengthInBits += logData.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class BACnetLogRecord implements Message {
     this.timestamp = timestamp;
     this.logDatum = logDatum;
     this.statusFlags = statusFlags;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDateTimeEnclosed getTimestamp() {
@@ -86,11 +88,16 @@ public class BACnetLogRecord implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetLogRecord _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timestamp)
     lengthInBits += timestamp.getLengthInBits();
@@ -103,6 +110,7 @@ public class BACnetLogRecord implements Message {
       lengthInBits += statusFlags.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class BACnetLogRecordLogDatumBooleanValue extends BACnetLogRecordLogDatum
     super(openingTag, peekedTagHeader, closingTag, tagNumber);
     this.booleanValue = booleanValue;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagBoolean getBooleanValue() {
@@ -79,15 +81,21 @@ public class BACnetLogRecordLogDatumBooleanValue extends BACnetLogRecordLogDatum
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetLogRecordLogDatumBooleanValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (booleanValue)
     lengthInBits += booleanValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class BACnetLogRecordLogDatumTimeChange extends BACnetLogRecordLogDatum i
     super(openingTag, peekedTagHeader, closingTag, tagNumber);
     this.timeChange = timeChange;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagReal getTimeChange() {
@@ -78,15 +80,21 @@ public class BACnetLogRecordLogDatumTimeChange extends BACnetLogRecordLogDatum i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetLogRecordLogDatumTimeChange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeChange)
     lengthInBits += timeChange.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
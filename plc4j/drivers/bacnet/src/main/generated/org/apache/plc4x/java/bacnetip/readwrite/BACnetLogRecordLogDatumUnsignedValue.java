@@ -55,6 +55,8 @@ public class BACnetLogRecordLogDatumUnsignedValue extends BACnetLogRecordLogDatu
     super(openingTag, peekedTagHeader, closingTag, tagNumber);
     this.unsignedValue = unsignedValue;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getUnsignedValue() {
@@ -79,15 +81,21 @@ public class BACnetLogRecordLogDatumUnsignedValue extends BACnetLogRecordLogDatu
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetLogRecordLogDatumUnsignedValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (unsignedValue)
     lengthInBits += unsignedValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -79,6 +79,8 @@ public class BACnetNotificationParametersAccessEvent extends BACnetNotificationP
     this.innerClosingTag = innerClosingTag;
     this.tagNumber = tagNumber;
     this.objectTypeArgument = objectTypeArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getInnerOpeningTag() {
@@ -152,11 +154,16 @@ public class BACnetNotificationParametersAccessEvent extends BACnetNotificationP
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetNotificationParametersAccessEvent _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (innerOpeningTag)
     lengthInBits += innerOpeningTag.getLengthInBits();
@@ -184,6 +191,7 @@ public class BACnetNotificationParametersAccessEvent extends BACnetNotificationP
     // Simple field (innerClosingTag)
     lengthInBits += innerClosingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -70,6 +70,8 @@ public class BACnetNotificationParametersBufferReady extends BACnetNotificationP
     this.innerClosingTag = innerClosingTag;
     this.tagNumber = tagNumber;
     this.objectTypeArgument = objectTypeArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getInnerOpeningTag() {
@@ -122,11 +124,16 @@ public class BACnetNotificationParametersBufferReady extends BACnetNotificationP
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetNotificationParametersBufferReady _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (innerOpeningTag)
     lengthInBits += innerOpeningTag.getLengthInBits();
@@ -143,6 +150,7 @@ public class BACnetNotificationParametersBufferReady extends BACnetNotificationP
     // Simple field (innerClosingTag)
     lengthInBits += innerClosingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
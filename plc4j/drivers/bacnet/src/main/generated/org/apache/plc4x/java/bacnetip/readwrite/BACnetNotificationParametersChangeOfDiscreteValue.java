@@ -67,6 +67,8 @@ public class BACnetNotificationParametersChangeOfDiscreteValue extends BACnetNot
     this.innerClosingTag = innerClosingTag;
     this.tagNumber = tagNumber;
     this.objectTypeArgument = objectTypeArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getInnerOpeningTag() {
@@ -112,11 +114,16 @@ public class BACnetNotificationParametersChangeOfDiscreteValue extends BACnetNot
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetNotificationParametersChangeOfDiscreteValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (innerOpeningTag)
     lengthInBits += innerOpeningTag.getLengthInBits();
@@ -130,6 +137,7 @@ public class BACnetNotificationParametersChangeOfDiscreteValue extends BACnetNot
     // Simple field (innerClosingTag)
     lengthInBits += innerClosingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
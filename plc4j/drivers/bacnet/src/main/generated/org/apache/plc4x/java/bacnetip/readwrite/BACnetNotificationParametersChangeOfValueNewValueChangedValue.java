@@ -55,6 +55,8 @@ public class BACnetNotificationParametersChangeOfValueNewValueChangedValue
     super(openingTag, peekedTagHeader, closingTag, tagNumber);
     this.changedValue = changedValue;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagReal getChangedValue() {
@@ -79,15 +81,21 @@ public class BACnetNotificationParametersChangeOfValueNewValueChangedValue
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetNotificationParametersChangeOfValueNewValueChangedValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (changedValue)
     lengthInBits += changedValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
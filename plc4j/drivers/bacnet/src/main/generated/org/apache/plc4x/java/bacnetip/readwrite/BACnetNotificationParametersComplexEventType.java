@@ -58,6 +58,8 @@ public class BACnetNotificationParametersComplexEventType extends BACnetNotifica
     this.listOfValues = listOfValues;
     this.tagNumber = tagNumber;
     this.objectTypeArgument = objectTypeArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetPropertyValues getListOfValues() {
@@ -82,15 +84,21 @@ public class BACnetNotificationParametersComplexEventType extends BACnetNotifica
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetNotificationParametersComplexEventType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (listOfValues)
     lengthInBits += listOfValues.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
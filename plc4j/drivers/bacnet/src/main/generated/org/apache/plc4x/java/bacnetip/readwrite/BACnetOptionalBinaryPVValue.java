@@ -46,6 +46,8 @@ public class BACnetOptionalBinaryPVValue extends BACnetOptionalBinaryPV implemen
       BACnetTagHeader peekedTagHeader, BACnetBinaryPVTagged binaryPv) {
     super(peekedTagHeader);
     this.binaryPv = binaryPv;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetBinaryPVTagged getBinaryPv() {
@@ -70,15 +72,21 @@ public class BACnetOptionalBinaryPVValue extends BACnetOptionalBinaryPV implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetOptionalBinaryPVValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (binaryPv)
     lengthInBits += binaryPv.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetOptionalCharacterStringValue extends BACnetOptionalCharacterS
       BACnetTagHeader peekedTagHeader, BACnetApplicationTagCharacterString characterstring) {
     super(peekedTagHeader);
     this.characterstring = characterstring;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagCharacterString getCharacterstring() {
@@ -71,15 +73,21 @@ public class BACnetOptionalCharacterStringValue extends BACnetOptionalCharacterS
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetOptionalCharacterStringValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (characterstring)
     lengthInBits += characterstring.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
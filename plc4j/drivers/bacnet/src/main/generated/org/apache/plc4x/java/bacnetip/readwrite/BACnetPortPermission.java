@@ -46,6 +46,8 @@ public class BACnetPortPermission implements Message {
     super();
     this.port = port;
     this.enable = enable;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getPort() {
@@ -75,11 +77,16 @@ public class BACnetPortPermission implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetPortPermission _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (port)
     lengthInBits += port.getLengthInBits();
@@ -89,6 +96,7 @@ public class BACnetPortPermission implements Message {
       lengthInBits += enable.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,10 +55,12 @@ public class BACnetPriorityArray implements Message {
       BACnetTagPayloadUnsignedInteger arrayIndexArgument) {
     super();
     this.numberOfDataElements = numberOfDataElements;
-    this.data = data;
+    this.data = (data == null) ? null : Collections.unmodifiableList(new ArrayList<>(data));
     this.objectTypeArgument = objectTypeArgument;
     this.tagNumber = tagNumber;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getNumberOfDataElements() {
@@ -246,11 +248,16 @@ public class BACnetPriorityArray implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetPriorityArray _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -302,6 +309,7 @@ public class BACnetPriorityArray implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
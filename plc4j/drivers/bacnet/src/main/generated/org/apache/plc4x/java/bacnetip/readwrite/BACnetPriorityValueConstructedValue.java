@@ -52,6 +52,8 @@ public class BACnetPriorityValueConstructedValue extends BACnetPriorityValue imp
     super(peekedTagHeader, objectTypeArgument);
     this.constructedValue = constructedValue;
     this.objectTypeArgument = objectTypeArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetConstructedData getConstructedValue() {
@@ -76,15 +78,21 @@ public class BACnetPriorityValueConstructedValue extends BACnetPriorityValue imp
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPriorityValueConstructedValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (constructedValue)
     lengthInBits += constructedValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
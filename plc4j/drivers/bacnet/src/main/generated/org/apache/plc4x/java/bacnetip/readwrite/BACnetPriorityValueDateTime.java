@@ -52,6 +52,8 @@ public class BACnetPriorityValueDateTime extends BACnetPriorityValue implements
     super(peekedTagHeader, objectTypeArgument);
     this.dateTimeValue = dateTimeValue;
     this.objectTypeArgument = objectTypeArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDateTimeEnclosed getDateTimeValue() {
@@ -76,15 +78,21 @@ public class BACnetPriorityValueDateTime extends BACnetPriorityValue implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPriorityValueDateTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dateTimeValue)
     lengthInBits += dateTimeValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
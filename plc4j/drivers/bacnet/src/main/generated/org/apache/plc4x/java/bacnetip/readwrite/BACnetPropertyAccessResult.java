@@ -56,6 +56,8 @@ public class BACnetPropertyAccessResult implements Message {
     this.propertyArrayIndex = propertyArrayIndex;
     this.deviceIdentifier = deviceIdentifier;
     this.accessResult = accessResult;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getObjectIdentifier() {
@@ -106,11 +108,16 @@ public class BACnetPropertyAccessResult implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetPropertyAccessResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
@@ -131,6 +138,7 @@ public class BACnetPropertyAccessResult implements Message {
     // Simple field (accessResult)
     lengthInBits += accessResult.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -63,6 +63,8 @@ public class BACnetPropertyAccessResultAccessResultPropertyValue
     this.objectTypeArgument = objectTypeArgument;
     this.propertyIdentifierArgument = propertyIdentifierArgument;
     this.propertyArrayIndexArgument = propertyArrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetConstructedData getPropertyValue() {
@@ -87,15 +89,21 @@ public class BACnetPropertyAccessResultAccessResultPropertyValue
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyAccessResultAccessResultPropertyValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (propertyValue)
     lengthInBits += propertyValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetPropertyReference implements Message {
     super();
     this.propertyIdentifier = propertyIdentifier;
     this.arrayIndex = arrayIndex;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetPropertyIdentifierTagged getPropertyIdentifier() {
@@ -76,11 +78,16 @@ public class BACnetPropertyReference implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetPropertyReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (propertyIdentifier)
     lengthInBits += propertyIdentifier.getLengthInBits();
@@ -90,6 +97,7 @@ public class BACnetPropertyReference implements Message {
       lengthInBits += arrayIndex.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class BACnetPropertyStatesAccessCredentialDisableReason extends BACnetPro
       BACnetAccessCredentialDisableReasonTagged accessCredentialDisableReason) {
     super(peekedTagHeader);
     this.accessCredentialDisableReason = accessCredentialDisableReason;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetAccessCredentialDisableReasonTagged getAccessCredentialDisableReason() {
@@ -73,15 +75,21 @@ public class BACnetPropertyStatesAccessCredentialDisableReason extends BACnetPro
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesAccessCredentialDisableReason _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (accessCredentialDisableReason)
     lengthInBits += accessCredentialDisableReason.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
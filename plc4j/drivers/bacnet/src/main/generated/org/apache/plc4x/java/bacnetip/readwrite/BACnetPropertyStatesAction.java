@@ -45,6 +45,8 @@ public class BACnetPropertyStatesAction extends BACnetPropertyStates implements
   public BACnetPropertyStatesAction(BACnetTagHeader peekedTagHeader, BACnetActionTagged action) {
     super(peekedTagHeader);
     this.action = action;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetActionTagged getAction() {
@@ -69,15 +71,21 @@ public class BACnetPropertyStatesAction extends BACnetPropertyStates implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesAction _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (action)
     lengthInBits += action.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
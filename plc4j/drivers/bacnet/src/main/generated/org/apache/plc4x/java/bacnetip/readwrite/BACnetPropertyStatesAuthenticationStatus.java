@@ -47,6 +47,8 @@ public class BACnetPropertyStatesAuthenticationStatus extends BACnetPropertyStat
       BACnetTagHeader peekedTagHeader, BACnetAuthenticationStatusTagged authenticationStatus) {
     super(peekedTagHeader);
     this.authenticationStatus = authenticationStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetAuthenticationStatusTagged getAuthenticationStatus() {
@@ -71,15 +73,21 @@ public class BACnetPropertyStatesAuthenticationStatus extends BACnetPropertyStat
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesAuthenticationStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (authenticationStatus)
     lengthInBits += authenticationStatus.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesBackupState extends BACnetPropertyStates implem
       BACnetTagHeader peekedTagHeader, BACnetBackupStateTagged backupState) {
     super(peekedTagHeader);
     this.backupState = backupState;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetBackupStateTagged getBackupState() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesBackupState extends BACnetPropertyStates implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesBackupState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (backupState)
     lengthInBits += backupState.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesBacnetIpMode extends BACnetPropertyStates imple
       BACnetTagHeader peekedTagHeader, BACnetIPModeTagged bacnetIpMode) {
     super(peekedTagHeader);
     this.bacnetIpMode = bacnetIpMode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetIPModeTagged getBacnetIpMode() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesBacnetIpMode extends BACnetPropertyStates imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesBacnetIpMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bacnetIpMode)
     lengthInBits += bacnetIpMode.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
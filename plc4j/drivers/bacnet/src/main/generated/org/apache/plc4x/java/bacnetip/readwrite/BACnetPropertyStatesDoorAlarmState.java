@@ -46,6 +46,8 @@ public class BACnetPropertyStatesDoorAlarmState extends BACnetPropertyStates imp
       BACnetTagHeader peekedTagHeader, BACnetDoorAlarmStateTagged doorAlarmState) {
     super(peekedTagHeader);
     this.doorAlarmState = doorAlarmState;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDoorAlarmStateTagged getDoorAlarmState() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesDoorAlarmState extends BACnetPropertyStates imp
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesDoorAlarmState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (doorAlarmState)
     lengthInBits += doorAlarmState.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
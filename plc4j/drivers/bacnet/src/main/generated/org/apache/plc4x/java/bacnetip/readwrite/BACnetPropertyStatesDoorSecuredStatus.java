@@ -46,6 +46,8 @@ public class BACnetPropertyStatesDoorSecuredStatus extends BACnetPropertyStates
       BACnetTagHeader peekedTagHeader, BACnetDoorSecuredStatusTagged doorSecuredStatus) {
     super(peekedTagHeader);
     this.doorSecuredStatus = doorSecuredStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDoorSecuredStatusTagged getDoorSecuredStatus() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesDoorSecuredStatus extends BACnetPropertyStates
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesDoorSecuredStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (doorSecuredStatus)
     lengthInBits += doorSecuredStatus.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
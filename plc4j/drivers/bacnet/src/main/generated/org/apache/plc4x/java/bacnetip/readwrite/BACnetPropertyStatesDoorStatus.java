@@ -46,6 +46,8 @@ public class BACnetPropertyStatesDoorStatus extends BACnetPropertyStates impleme
       BACnetTagHeader peekedTagHeader, BACnetDoorStatusTagged doorStatus) {
     super(peekedTagHeader);
     this.doorStatus = doorStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDoorStatusTagged getDoorStatus() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesDoorStatus extends BACnetPropertyStates impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesDoorStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (doorStatus)
     lengthInBits += doorStatus.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesDoorValue extends BACnetPropertyStates implemen
       BACnetTagHeader peekedTagHeader, BACnetDoorValueTagged doorValue) {
     super(peekedTagHeader);
     this.doorValue = doorValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDoorValueTagged getDoorValue() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesDoorValue extends BACnetPropertyStates implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesDoorValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (doorValue)
     lengthInBits += doorValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
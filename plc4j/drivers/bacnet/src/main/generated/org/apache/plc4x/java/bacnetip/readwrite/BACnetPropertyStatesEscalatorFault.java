@@ -46,6 +46,8 @@ public class BACnetPropertyStatesEscalatorFault extends BACnetPropertyStates imp
       BACnetTagHeader peekedTagHeader, BACnetEscalatorFaultTagged escalatorFault) {
     super(peekedTagHeader);
     this.escalatorFault = escalatorFault;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetEscalatorFaultTagged getEscalatorFault() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesEscalatorFault extends BACnetPropertyStates imp
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesEscalatorFault _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (escalatorFault)
     lengthInBits += escalatorFault.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
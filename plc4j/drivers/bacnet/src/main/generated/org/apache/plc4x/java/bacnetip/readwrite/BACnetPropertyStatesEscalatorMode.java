@@ -46,6 +46,8 @@ public class BACnetPropertyStatesEscalatorMode extends BACnetPropertyStates impl
       BACnetTagHeader peekedTagHeader, BACnetEscalatorModeTagged escalatorMode) {
     super(peekedTagHeader);
     this.escalatorMode = escalatorMode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetEscalatorModeTagged getEscalatorMode() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesEscalatorMode extends BACnetPropertyStates impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesEscalatorMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (escalatorMode)
     lengthInBits += escalatorMode.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesEventType extends BACnetPropertyStates implemen
       BACnetTagHeader peekedTagHeader, BACnetEventTypeTagged eventType) {
     super(peekedTagHeader);
     this.eventType = eventType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetEventTypeTagged getEventType() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesEventType extends BACnetPropertyStates implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesEventType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (eventType)
     lengthInBits += eventType.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesFileAccessMethod extends BACnetPropertyStates i
       BACnetTagHeader peekedTagHeader, BACnetFileAccessMethodTagged fileAccessMethod) {
     super(peekedTagHeader);
     this.fileAccessMethod = fileAccessMethod;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetFileAccessMethodTagged getFileAccessMethod() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesFileAccessMethod extends BACnetPropertyStates i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesFileAccessMethod _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fileAccessMethod)
     lengthInBits += fileAccessMethod.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
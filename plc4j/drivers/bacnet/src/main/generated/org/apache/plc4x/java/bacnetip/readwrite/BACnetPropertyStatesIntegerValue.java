@@ -46,6 +46,8 @@ public class BACnetPropertyStatesIntegerValue extends BACnetPropertyStates imple
       BACnetTagHeader peekedTagHeader, BACnetContextTagSignedInteger integerValue) {
     super(peekedTagHeader);
     this.integerValue = integerValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagSignedInteger getIntegerValue() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesIntegerValue extends BACnetPropertyStates imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesIntegerValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (integerValue)
     lengthInBits += integerValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesLifeSafetyMode extends BACnetPropertyStates imp
       BACnetTagHeader peekedTagHeader, BACnetLifeSafetyModeTagged lifeSafetyMode) {
     super(peekedTagHeader);
     this.lifeSafetyMode = lifeSafetyMode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLifeSafetyModeTagged getLifeSafetyMode() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesLifeSafetyMode extends BACnetPropertyStates imp
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesLifeSafetyMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lifeSafetyMode)
     lengthInBits += lifeSafetyMode.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
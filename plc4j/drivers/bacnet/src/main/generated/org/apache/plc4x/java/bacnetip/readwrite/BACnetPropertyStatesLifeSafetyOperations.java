@@ -47,6 +47,8 @@ public class BACnetPropertyStatesLifeSafetyOperations extends BACnetPropertyStat
       BACnetTagHeader peekedTagHeader, BACnetLifeSafetyOperationTagged lifeSafetyOperations) {
     super(peekedTagHeader);
     this.lifeSafetyOperations = lifeSafetyOperations;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLifeSafetyOperationTagged getLifeSafetyOperations() {
@@ -71,15 +73,21 @@ public class BACnetPropertyStatesLifeSafetyOperations extends BACnetPropertyStat
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesLifeSafetyOperations _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lifeSafetyOperations)
     lengthInBits += lifeSafetyOperations.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesLifeSafetyState extends BACnetPropertyStates im
       BACnetTagHeader peekedTagHeader, BACnetLifeSafetyStateTagged lifeSafetyState) {
     super(peekedTagHeader);
     this.lifeSafetyState = lifeSafetyState;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLifeSafetyStateTagged getLifeSafetyState() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesLifeSafetyState extends BACnetPropertyStates im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesLifeSafetyState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lifeSafetyState)
     lengthInBits += lifeSafetyState.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
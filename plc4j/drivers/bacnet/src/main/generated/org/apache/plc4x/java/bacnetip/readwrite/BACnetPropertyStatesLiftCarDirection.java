@@ -46,6 +46,8 @@ public class BACnetPropertyStatesLiftCarDirection extends BACnetPropertyStates i
       BACnetTagHeader peekedTagHeader, BACnetLiftCarDirectionTagged liftCarDirection) {
     super(peekedTagHeader);
     this.liftCarDirection = liftCarDirection;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLiftCarDirectionTagged getLiftCarDirection() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesLiftCarDirection extends BACnetPropertyStates i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesLiftCarDirection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (liftCarDirection)
     lengthInBits += liftCarDirection.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetPropertyStatesLiftCarDoorCommand extends BACnetPropertyStates
       BACnetTagHeader peekedTagHeader, BACnetLiftCarDoorCommandTagged liftCarDoorCommand) {
     super(peekedTagHeader);
     this.liftCarDoorCommand = liftCarDoorCommand;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLiftCarDoorCommandTagged getLiftCarDoorCommand() {
@@ -71,15 +73,21 @@ public class BACnetPropertyStatesLiftCarDoorCommand extends BACnetPropertyStates
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesLiftCarDoorCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (liftCarDoorCommand)
     lengthInBits += liftCarDoorCommand.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
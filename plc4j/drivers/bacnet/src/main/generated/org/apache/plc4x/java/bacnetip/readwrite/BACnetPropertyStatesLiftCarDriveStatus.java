@@ -47,6 +47,8 @@ public class BACnetPropertyStatesLiftCarDriveStatus extends BACnetPropertyStates
       BACnetTagHeader peekedTagHeader, BACnetLiftCarDriveStatusTagged liftCarDriveStatus) {
     super(peekedTagHeader);
     this.liftCarDriveStatus = liftCarDriveStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLiftCarDriveStatusTagged getLiftCarDriveStatus() {
@@ -71,15 +73,21 @@ public class BACnetPropertyStatesLiftCarDriveStatus extends BACnetPropertyStates
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesLiftCarDriveStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (liftCarDriveStatus)
     lengthInBits += liftCarDriveStatus.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesLiftCarMode extends BACnetPropertyStates implem
       BACnetTagHeader peekedTagHeader, BACnetLiftCarModeTagged liftCarMode) {
     super(peekedTagHeader);
     this.liftCarMode = liftCarMode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLiftCarModeTagged getLiftCarMode() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesLiftCarMode extends BACnetPropertyStates implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesLiftCarMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (liftCarMode)
     lengthInBits += liftCarMode.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesLiftFault extends BACnetPropertyStates implemen
       BACnetTagHeader peekedTagHeader, BACnetLiftFaultTagged liftFault) {
     super(peekedTagHeader);
     this.liftFault = liftFault;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLiftFaultTagged getLiftFault() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesLiftFault extends BACnetPropertyStates implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesLiftFault _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (liftFault)
     lengthInBits += liftFault.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
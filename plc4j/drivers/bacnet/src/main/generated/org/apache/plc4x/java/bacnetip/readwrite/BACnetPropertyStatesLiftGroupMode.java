@@ -46,6 +46,8 @@ public class BACnetPropertyStatesLiftGroupMode extends BACnetPropertyStates impl
       BACnetTagHeader peekedTagHeader, BACnetLiftGroupModeTagged liftGroupMode) {
     super(peekedTagHeader);
     this.liftGroupMode = liftGroupMode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLiftGroupModeTagged getLiftGroupMode() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesLiftGroupMode extends BACnetPropertyStates impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesLiftGroupMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (liftGroupMode)
     lengthInBits += liftGroupMode.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetPropertyStatesLightningTransition extends BACnetPropertyState
       BACnetTagHeader peekedTagHeader, BACnetLightingTransitionTagged lightningTransition) {
     super(peekedTagHeader);
     this.lightningTransition = lightningTransition;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetLightingTransitionTagged getLightningTransition() {
@@ -71,15 +73,21 @@ public class BACnetPropertyStatesLightningTransition extends BACnetPropertyState
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesLightningTransition _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lightningTransition)
     lengthInBits += lightningTransition.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
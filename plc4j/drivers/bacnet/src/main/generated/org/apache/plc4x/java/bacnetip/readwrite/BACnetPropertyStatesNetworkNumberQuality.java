@@ -47,6 +47,8 @@ public class BACnetPropertyStatesNetworkNumberQuality extends BACnetPropertyStat
       BACnetTagHeader peekedTagHeader, BACnetNetworkNumberQualityTagged networkNumberQuality) {
     super(peekedTagHeader);
     this.networkNumberQuality = networkNumberQuality;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetNetworkNumberQualityTagged getNetworkNumberQuality() {
@@ -71,15 +73,21 @@ public class BACnetPropertyStatesNetworkNumberQuality extends BACnetPropertyStat
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesNetworkNumberQuality _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkNumberQuality)
     lengthInBits += networkNumberQuality.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
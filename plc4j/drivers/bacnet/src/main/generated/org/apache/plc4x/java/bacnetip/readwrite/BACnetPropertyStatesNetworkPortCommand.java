@@ -47,6 +47,8 @@ public class BACnetPropertyStatesNetworkPortCommand extends BACnetPropertyStates
       BACnetTagHeader peekedTagHeader, BACnetNetworkPortCommandTagged networkPortCommand) {
     super(peekedTagHeader);
     this.networkPortCommand = networkPortCommand;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetNetworkPortCommandTagged getNetworkPortCommand() {
@@ -71,15 +73,21 @@ public class BACnetPropertyStatesNetworkPortCommand extends BACnetPropertyStates
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesNetworkPortCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkPortCommand)
     lengthInBits += networkPortCommand.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesNetworkType extends BACnetPropertyStates implem
       BACnetTagHeader peekedTagHeader, BACnetNetworkTypeTagged networkType) {
     super(peekedTagHeader);
     this.networkType = networkType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetNetworkTypeTagged getNetworkType() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesNetworkType extends BACnetPropertyStates implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesNetworkType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkType)
     lengthInBits += networkType.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
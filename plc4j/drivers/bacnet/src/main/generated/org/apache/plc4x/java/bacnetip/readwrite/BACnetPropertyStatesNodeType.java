@@ -46,6 +46,8 @@ public class BACnetPropertyStatesNodeType extends BACnetPropertyStates implement
       BACnetTagHeader peekedTagHeader, BACnetNodeTypeTagged nodeType) {
     super(peekedTagHeader);
     this.nodeType = nodeType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetNodeTypeTagged getNodeType() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesNodeType extends BACnetPropertyStates implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesNodeType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeType)
     lengthInBits += nodeType.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesNotifyType extends BACnetPropertyStates impleme
       BACnetTagHeader peekedTagHeader, BACnetNotifyTypeTagged notifyType) {
     super(peekedTagHeader);
     this.notifyType = notifyType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetNotifyTypeTagged getNotifyType() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesNotifyType extends BACnetPropertyStates impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesNotifyType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (notifyType)
     lengthInBits += notifyType.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
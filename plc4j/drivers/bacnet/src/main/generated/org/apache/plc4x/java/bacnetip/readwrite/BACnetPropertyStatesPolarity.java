@@ -46,6 +46,8 @@ public class BACnetPropertyStatesPolarity extends BACnetPropertyStates implement
       BACnetTagHeader peekedTagHeader, BACnetPolarityTagged polarity) {
     super(peekedTagHeader);
     this.polarity = polarity;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetPolarityTagged getPolarity() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesPolarity extends BACnetPropertyStates implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesPolarity _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (polarity)
     lengthInBits += polarity.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesProgramChange extends BACnetPropertyStates impl
       BACnetTagHeader peekedTagHeader, BACnetProgramRequestTagged programChange) {
     super(peekedTagHeader);
     this.programChange = programChange;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetProgramRequestTagged getProgramChange() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesProgramChange extends BACnetPropertyStates impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesProgramChange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (programChange)
     lengthInBits += programChange.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
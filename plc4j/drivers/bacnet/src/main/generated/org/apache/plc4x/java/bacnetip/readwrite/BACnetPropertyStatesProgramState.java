@@ -46,6 +46,8 @@ public class BACnetPropertyStatesProgramState extends BACnetPropertyStates imple
       BACnetTagHeader peekedTagHeader, BACnetProgramStateTagged programState) {
     super(peekedTagHeader);
     this.programState = programState;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetProgramStateTagged getProgramState() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesProgramState extends BACnetPropertyStates imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesProgramState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (programState)
     lengthInBits += programState.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
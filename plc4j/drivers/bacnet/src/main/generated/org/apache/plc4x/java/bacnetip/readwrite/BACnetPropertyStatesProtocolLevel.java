@@ -46,6 +46,8 @@ public class BACnetPropertyStatesProtocolLevel extends BACnetPropertyStates impl
       BACnetTagHeader peekedTagHeader, BACnetProtocolLevelTagged protocolLevel) {
     super(peekedTagHeader);
     this.protocolLevel = protocolLevel;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetProtocolLevelTagged getProtocolLevel() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesProtocolLevel extends BACnetPropertyStates impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesProtocolLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (protocolLevel)
     lengthInBits += protocolLevel.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
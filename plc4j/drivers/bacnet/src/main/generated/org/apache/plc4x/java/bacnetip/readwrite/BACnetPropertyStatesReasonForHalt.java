@@ -46,6 +46,8 @@ public class BACnetPropertyStatesReasonForHalt extends BACnetPropertyStates impl
       BACnetTagHeader peekedTagHeader, BACnetProgramErrorTagged reasonForHalt) {
     super(peekedTagHeader);
     this.reasonForHalt = reasonForHalt;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetProgramErrorTagged getReasonForHalt() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesReasonForHalt extends BACnetPropertyStates impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesReasonForHalt _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reasonForHalt)
     lengthInBits += reasonForHalt.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
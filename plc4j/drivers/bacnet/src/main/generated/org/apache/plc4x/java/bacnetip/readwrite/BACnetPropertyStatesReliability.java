@@ -46,6 +46,8 @@ public class BACnetPropertyStatesReliability extends BACnetPropertyStates implem
       BACnetTagHeader peekedTagHeader, BACnetReliabilityTagged reliability) {
     super(peekedTagHeader);
     this.reliability = reliability;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetReliabilityTagged getReliability() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesReliability extends BACnetPropertyStates implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesReliability _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reliability)
     lengthInBits += reliability.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
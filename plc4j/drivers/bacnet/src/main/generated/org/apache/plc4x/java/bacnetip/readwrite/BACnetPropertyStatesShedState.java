@@ -46,6 +46,8 @@ public class BACnetPropertyStatesShedState extends BACnetPropertyStates implemen
       BACnetTagHeader peekedTagHeader, BACnetShedStateTagged shedState) {
     super(peekedTagHeader);
     this.shedState = shedState;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetShedStateTagged getShedState() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesShedState extends BACnetPropertyStates implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesShedState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (shedState)
     lengthInBits += shedState.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
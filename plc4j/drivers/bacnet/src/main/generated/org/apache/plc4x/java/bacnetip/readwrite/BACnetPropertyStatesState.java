@@ -45,6 +45,8 @@ public class BACnetPropertyStatesState extends BACnetPropertyStates implements M
   public BACnetPropertyStatesState(BACnetTagHeader peekedTagHeader, BACnetEventStateTagged state) {
     super(peekedTagHeader);
     this.state = state;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetEventStateTagged getState() {
@@ -69,15 +71,21 @@ public class BACnetPropertyStatesState extends BACnetPropertyStates implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (state)
     lengthInBits += state.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesSystemStatus extends BACnetPropertyStates imple
       BACnetTagHeader peekedTagHeader, BACnetDeviceStatusTagged systemStatus) {
     super(peekedTagHeader);
     this.systemStatus = systemStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDeviceStatusTagged getSystemStatus() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesSystemStatus extends BACnetPropertyStates imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesSystemStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (systemStatus)
     lengthInBits += systemStatus.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
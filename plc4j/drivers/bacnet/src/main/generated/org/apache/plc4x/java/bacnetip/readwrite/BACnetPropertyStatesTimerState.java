@@ -46,6 +46,8 @@ public class BACnetPropertyStatesTimerState extends BACnetPropertyStates impleme
       BACnetTagHeader peekedTagHeader, BACnetTimerStateTagged timerState) {
     super(peekedTagHeader);
     this.timerState = timerState;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTimerStateTagged getTimerState() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesTimerState extends BACnetPropertyStates impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesTimerState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timerState)
     lengthInBits += timerState.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesTimerTransition extends BACnetPropertyStates im
       BACnetTagHeader peekedTagHeader, BACnetTimerTransitionTagged timerTransition) {
     super(peekedTagHeader);
     this.timerTransition = timerTransition;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTimerTransitionTagged getTimerTransition() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesTimerTransition extends BACnetPropertyStates im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesTimerTransition _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timerTransition)
     lengthInBits += timerTransition.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesUnits extends BACnetPropertyStates implements M
       BACnetTagHeader peekedTagHeader, BACnetEngineeringUnitsTagged units) {
     super(peekedTagHeader);
     this.units = units;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetEngineeringUnitsTagged getUnits() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesUnits extends BACnetPropertyStates implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesUnits _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (units)
     lengthInBits += units.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesWriteStatus extends BACnetPropertyStates implem
       BACnetTagHeader peekedTagHeader, BACnetWriteStatusTagged writeStatus) {
     super(peekedTagHeader);
     this.writeStatus = writeStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetWriteStatusTagged getWriteStatus() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesWriteStatus extends BACnetPropertyStates implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesWriteStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (writeStatus)
     lengthInBits += writeStatus.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetPropertyStatesZoneOccupanyState extends BACnetPropertyStates
       BACnetTagHeader peekedTagHeader, BACnetAccessZoneOccupancyStateTagged zoneOccupanyState) {
     super(peekedTagHeader);
     this.zoneOccupanyState = zoneOccupanyState;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetAccessZoneOccupancyStateTagged getZoneOccupanyState() {
@@ -70,15 +72,21 @@ public class BACnetPropertyStatesZoneOccupanyState extends BACnetPropertyStates
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetPropertyStatesZoneOccupanyState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneOccupanyState)
     lengthInBits += zoneOccupanyState.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
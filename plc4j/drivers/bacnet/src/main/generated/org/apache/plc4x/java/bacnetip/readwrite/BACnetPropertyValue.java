@@ -58,6 +58,8 @@ public class BACnetPropertyValue implements Message {
     this.propertyValue = propertyValue;
     this.priority = priority;
     this.objectTypeArgument = objectTypeArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetPropertyIdentifierTagged getPropertyIdentifier() {
@@ -101,11 +103,16 @@ public class BACnetPropertyValue implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetPropertyValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (propertyIdentifier)
     lengthInBits += propertyIdentifier.getLengthInBits();
@@ -125,6 +132,7 @@ public class BACnetPropertyValue implements Message {
       lengthInBits += priority.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
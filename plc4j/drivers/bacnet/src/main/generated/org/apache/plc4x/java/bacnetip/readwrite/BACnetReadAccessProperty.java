@@ -55,6 +55,8 @@ public class BACnetReadAccessProperty implements Message {
     this.arrayIndex = arrayIndex;
     this.readResult = readResult;
     this.objectTypeArgument = objectTypeArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetPropertyIdentifierTagged getPropertyIdentifier() {
@@ -91,11 +93,16 @@ public class BACnetReadAccessProperty implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetReadAccessProperty _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (propertyIdentifier)
     lengthInBits += propertyIdentifier.getLengthInBits();
@@ -110,6 +117,7 @@ public class BACnetReadAccessProperty implements Message {
       lengthInBits += readResult.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class BACnetReadAccessPropertyReadResult implements Message {
     this.objectTypeArgument = objectTypeArgument;
     this.propertyIdentifierArgument = propertyIdentifierArgument;
     this.arrayIndexArgument = arrayIndexArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetTagHeader getPeekedTagHeader() {
@@ -107,11 +109,16 @@ public class BACnetReadAccessPropertyReadResult implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetReadAccessPropertyReadResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -125,6 +132,7 @@ public class BACnetReadAccessPropertyReadResult implements Message {
       lengthInBits += propertyAccessError.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
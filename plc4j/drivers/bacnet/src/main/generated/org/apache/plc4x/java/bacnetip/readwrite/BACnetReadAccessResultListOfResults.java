@@ -54,10 +54,15 @@ public class BACnetReadAccessResultListOfResults implements Message {
       BACnetObjectType objectTypeArgument) {
     super();
     this.openingTag = openingTag;
-    this.listOfReadAccessProperty = listOfReadAccessProperty;
+    this.listOfReadAccessProperty =
+        (listOfReadAccessProperty == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(listOfReadAccessProperty));
     this.closingTag = closingTag;
     this.tagNumber = tagNumber;
     this.objectTypeArgument = objectTypeArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -94,11 +99,16 @@ public class BACnetReadAccessResultListOfResults implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetReadAccessResultListOfResults _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -113,6 +123,7 @@ public class BACnetReadAccessResultListOfResults implements Message {
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
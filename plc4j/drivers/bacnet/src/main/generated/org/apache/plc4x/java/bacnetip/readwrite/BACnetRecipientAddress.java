@@ -46,6 +46,8 @@ public class BACnetRecipientAddress extends BACnetRecipient implements Message {
       BACnetTagHeader peekedTagHeader, BACnetAddressEnclosed addressValue) {
     super(peekedTagHeader);
     this.addressValue = addressValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetAddressEnclosed getAddressValue() {
@@ -70,15 +72,21 @@ public class BACnetRecipientAddress extends BACnetRecipient implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetRecipientAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (addressValue)
     lengthInBits += addressValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
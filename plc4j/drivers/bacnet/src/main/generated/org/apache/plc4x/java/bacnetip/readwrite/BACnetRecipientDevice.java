@@ -46,6 +46,8 @@ public class BACnetRecipientDevice extends BACnetRecipient implements Message {
       BACnetTagHeader peekedTagHeader, BACnetContextTagObjectIdentifier deviceValue) {
     super(peekedTagHeader);
     this.deviceValue = deviceValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getDeviceValue() {
@@ -70,15 +72,21 @@ public class BACnetRecipientDevice extends BACnetRecipient implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetRecipientDevice _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceValue)
     lengthInBits += deviceValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
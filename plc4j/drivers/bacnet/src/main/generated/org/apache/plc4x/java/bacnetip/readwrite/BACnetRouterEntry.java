@@ -53,6 +53,8 @@ public class BACnetRouterEntry implements Message {
     this.macAddress = macAddress;
     this.status = status;
     this.performanceIndex = performanceIndex;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getNetworkNumber() {
@@ -96,11 +98,16 @@ public class BACnetRouterEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetRouterEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkNumber)
     lengthInBits += networkNumber.getLengthInBits();
@@ -116,6 +123,7 @@ public class BACnetRouterEntry implements Message {
       lengthInBits += performanceIndex.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
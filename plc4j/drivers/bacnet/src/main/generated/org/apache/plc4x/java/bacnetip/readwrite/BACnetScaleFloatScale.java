@@ -45,6 +45,8 @@ public class BACnetScaleFloatScale extends BACnetScale implements Message {
   public BACnetScaleFloatScale(BACnetTagHeader peekedTagHeader, BACnetContextTagReal floatScale) {
     super(peekedTagHeader);
     this.floatScale = floatScale;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagReal getFloatScale() {
@@ -68,15 +70,21 @@ public class BACnetScaleFloatScale extends BACnetScale implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetScaleFloatScale _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (floatScale)
     lengthInBits += floatScale.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetScaleIntegerScale extends BACnetScale implements Message {
       BACnetTagHeader peekedTagHeader, BACnetContextTagSignedInteger integerScale) {
     super(peekedTagHeader);
     this.integerScale = integerScale;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagSignedInteger getIntegerScale() {
@@ -69,15 +71,21 @@ public class BACnetScaleIntegerScale extends BACnetScale implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetScaleIntegerScale _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (integerScale)
     lengthInBits += integerScale.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class BACnetSecurityKeySet implements Message {
     this.activationTime = activationTime;
     this.expirationTime = expirationTime;
     this.keyIds = keyIds;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getKeyRevision() {
@@ -96,11 +98,16 @@ public class BACnetSecurityKeySet implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetSecurityKeySet _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (keyRevision)
     lengthInBits += keyRevision.getLengthInBits();
@@ -114,6 +121,7 @@ public class BACnetSecurityKeySet implements Message {
     // Simple field (keyIds)
     lengthInBits += keyIds.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
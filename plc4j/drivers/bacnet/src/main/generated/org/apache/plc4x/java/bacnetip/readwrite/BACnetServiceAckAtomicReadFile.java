@@ -57,6 +57,8 @@ public class BACnetServiceAckAtomicReadFile extends BACnetServiceAck implements
     this.endOfFile = endOfFile;
     this.accessMethod = accessMethod;
     this.serviceAckLength = serviceAckLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagBoolean getEndOfFile() {
@@ -88,11 +90,16 @@ public class BACnetServiceAckAtomicReadFile extends BACnetServiceAck implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetServiceAckAtomicReadFile _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (endOfFile)
     lengthInBits += endOfFile.getLengthInBits();
@@ -100,6 +107,7 @@ public class BACnetServiceAckAtomicReadFile extends BACnetServiceAck implements
     // Simple field (accessMethod)
     lengthInBits += accessMethod.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
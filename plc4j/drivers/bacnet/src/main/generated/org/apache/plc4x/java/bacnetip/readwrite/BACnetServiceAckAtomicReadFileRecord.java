@@ -55,7 +55,12 @@ public class BACnetServiceAckAtomicReadFileRecord
     super(peekedTagHeader, openingTag, closingTag);
     this.fileStartRecord = fileStartRecord;
     this.returnedRecordCount = returnedRecordCount;
-    this.fileRecordData = fileRecordData;
+    this.fileRecordData =
+        (fileRecordData == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(fileRecordData));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagSignedInteger getFileStartRecord() {
@@ -94,11 +99,16 @@ public class BACnetServiceAckAtomicReadFileRecord
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetServiceAckAtomicReadFileRecord _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fileStartRecord)
     lengthInBits += fileStartRecord.getLengthInBits();
@@ -115,6 +125,7 @@ public class BACnetServiceAckAtomicReadFileRecord
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -60,6 +60,8 @@ public class BACnetServiceAckConfirmedPrivateTransfer extends BACnetServiceAck i
     this.serviceNumber = serviceNumber;
     this.resultBlock = resultBlock;
     this.serviceAckLength = serviceAckLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetVendorIdTagged getVendorId() {
@@ -98,11 +100,16 @@ public class BACnetServiceAckConfirmedPrivateTransfer extends BACnetServiceAck i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetServiceAckConfirmedPrivateTransfer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vendorId)
     lengthInBits += vendorId.getLengthInBits();
@@ -115,6 +122,7 @@ public class BACnetServiceAckConfirmedPrivateTransfer extends BACnetServiceAck i
       lengthInBits += resultBlock.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
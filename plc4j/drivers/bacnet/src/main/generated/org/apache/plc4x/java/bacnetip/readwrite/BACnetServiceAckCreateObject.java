@@ -53,6 +53,8 @@ public class BACnetServiceAckCreateObject extends BACnetServiceAck implements Me
     super(serviceAckLength);
     this.objectIdentifier = objectIdentifier;
     this.serviceAckLength = serviceAckLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagObjectIdentifier getObjectIdentifier() {
@@ -77,15 +79,21 @@ public class BACnetServiceAckCreateObject extends BACnetServiceAck implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetServiceAckCreateObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
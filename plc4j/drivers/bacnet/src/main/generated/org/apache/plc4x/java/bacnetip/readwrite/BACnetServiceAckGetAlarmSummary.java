@@ -60,6 +60,8 @@ public class BACnetServiceAckGetAlarmSummary extends BACnetServiceAck implements
     this.eventState = eventState;
     this.acknowledgedTransitions = acknowledgedTransitions;
     this.serviceAckLength = serviceAckLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagObjectIdentifier getObjectIdentifier() {
@@ -98,11 +100,16 @@ public class BACnetServiceAckGetAlarmSummary extends BACnetServiceAck implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetServiceAckGetAlarmSummary _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
@@ -113,6 +120,7 @@ public class BACnetServiceAckGetAlarmSummary extends BACnetServiceAck implements
     // Simple field (acknowledgedTransitions)
     lengthInBits += acknowledgedTransitions.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
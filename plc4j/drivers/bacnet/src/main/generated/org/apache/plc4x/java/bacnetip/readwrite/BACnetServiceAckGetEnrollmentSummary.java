@@ -66,6 +66,8 @@ public class BACnetServiceAckGetEnrollmentSummary extends BACnetServiceAck imple
     this.priority = priority;
     this.notificationClass = notificationClass;
     this.serviceAckLength = serviceAckLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagObjectIdentifier getObjectIdentifier() {
@@ -118,11 +120,16 @@ public class BACnetServiceAckGetEnrollmentSummary extends BACnetServiceAck imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetServiceAckGetEnrollmentSummary _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
@@ -141,6 +148,7 @@ public class BACnetServiceAckGetEnrollmentSummary extends BACnetServiceAck imple
       lengthInBits += notificationClass.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,6 +57,8 @@ public class BACnetServiceAckGetEventInformation extends BACnetServiceAck implem
     this.listOfEventSummaries = listOfEventSummaries;
     this.moreEvents = moreEvents;
     this.serviceAckLength = serviceAckLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetEventSummariesList getListOfEventSummaries() {
@@ -88,11 +90,16 @@ public class BACnetServiceAckGetEventInformation extends BACnetServiceAck implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetServiceAckGetEventInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (listOfEventSummaries)
     lengthInBits += listOfEventSummaries.getLengthInBits();
@@ -100,6 +107,7 @@ public class BACnetServiceAckGetEventInformation extends BACnetServiceAck implem
     // Simple field (moreEvents)
     lengthInBits += moreEvents.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class BACnetServiceAckReadPropertyConditional extends BACnetServiceAck im
     this.bytesOfRemovedService = bytesOfRemovedService;
     this.serviceAckPayloadLength = serviceAckPayloadLength;
     this.serviceAckLength = serviceAckLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getBytesOfRemovedService() {
@@ -80,17 +82,23 @@ public class BACnetServiceAckReadPropertyConditional extends BACnetServiceAck im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetServiceAckReadPropertyConditional _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (bytesOfRemovedService != null) {
       lengthInBits += 8 * bytesOfRemovedService.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
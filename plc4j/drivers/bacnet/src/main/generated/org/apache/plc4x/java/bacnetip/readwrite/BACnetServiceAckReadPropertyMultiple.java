@@ -52,9 +52,11 @@ public class BACnetServiceAckReadPropertyMultiple extends BACnetServiceAck imple
   public BACnetServiceAckReadPropertyMultiple(
       List<BACnetReadAccessResult> data, Long serviceAckPayloadLength, Long serviceAckLength) {
     super(serviceAckLength);
-    this.data = data;
+    this.data = (data == null) ? null : Collections.unmodifiableList(new ArrayList<>(data));
     this.serviceAckPayloadLength = serviceAckPayloadLength;
     this.serviceAckLength = serviceAckLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BACnetReadAccessResult> getData() {
@@ -79,11 +81,16 @@ public class BACnetServiceAckReadPropertyMultiple extends BACnetServiceAck imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetServiceAckReadPropertyMultiple _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (data != null) {
@@ -92,6 +99,7 @@ public class BACnetServiceAckReadPropertyMultiple extends BACnetServiceAck imple
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
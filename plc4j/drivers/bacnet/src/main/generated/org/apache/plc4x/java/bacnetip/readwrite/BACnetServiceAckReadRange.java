@@ -72,6 +72,8 @@ public class BACnetServiceAckReadRange extends BACnetServiceAck implements Messa
     this.itemData = itemData;
     this.firstSequenceNumber = firstSequenceNumber;
     this.serviceAckLength = serviceAckLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getObjectIdentifier() {
@@ -138,11 +140,16 @@ public class BACnetServiceAckReadRange extends BACnetServiceAck implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetServiceAckReadRange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
@@ -171,6 +178,7 @@ public class BACnetServiceAckReadRange extends BACnetServiceAck implements Messa
       lengthInBits += firstSequenceNumber.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
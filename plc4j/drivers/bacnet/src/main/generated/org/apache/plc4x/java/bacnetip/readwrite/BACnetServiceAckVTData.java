@@ -60,6 +60,8 @@ public class BACnetServiceAckVTData extends BACnetServiceAck implements Message
     this.vtNewData = vtNewData;
     this.vtDataFlag = vtDataFlag;
     this.serviceAckLength = serviceAckLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getVtSessionIdentifier() {
@@ -98,11 +100,16 @@ public class BACnetServiceAckVTData extends BACnetServiceAck implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetServiceAckVTData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vtSessionIdentifier)
     lengthInBits += vtSessionIdentifier.getLengthInBits();
@@ -113,6 +120,7 @@ public class BACnetServiceAckVTData extends BACnetServiceAck implements Message
     // Simple field (vtDataFlag)
     lengthInBits += vtDataFlag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class BACnetServiceAckVTOpen extends BACnetServiceAck implements Message
     super(serviceAckLength);
     this.remoteVtSessionIdentifier = remoteVtSessionIdentifier;
     this.serviceAckLength = serviceAckLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getRemoteVtSessionIdentifier() {
@@ -78,15 +80,21 @@ public class BACnetServiceAckVTOpen extends BACnetServiceAck implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetServiceAckVTOpen _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (remoteVtSessionIdentifier)
     lengthInBits += remoteVtSessionIdentifier.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class BACnetSetpointReference implements Message {
   public BACnetSetpointReference(BACnetObjectPropertyReferenceEnclosed setPointReference) {
     super();
     this.setPointReference = setPointReference;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetObjectPropertyReferenceEnclosed getSetPointReference() {
@@ -65,17 +67,23 @@ public class BACnetSetpointReference implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetSetpointReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (setPointReference)
     if (setPointReference != null) {
       lengthInBits += setPointReference.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class BACnetShedLevelAmount extends BACnetShedLevel implements Message {
   public BACnetShedLevelAmount(BACnetTagHeader peekedTagHeader, BACnetContextTagReal amount) {
     super(peekedTagHeader);
     this.amount = amount;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagReal getAmount() {
@@ -69,15 +71,21 @@ public class BACnetShedLevelAmount extends BACnetShedLevel implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetShedLevelAmount _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (amount)
     lengthInBits += amount.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
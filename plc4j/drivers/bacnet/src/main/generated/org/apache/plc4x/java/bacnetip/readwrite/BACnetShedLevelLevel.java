@@ -46,6 +46,8 @@ public class BACnetShedLevelLevel extends BACnetShedLevel implements Message {
       BACnetTagHeader peekedTagHeader, BACnetContextTagUnsignedInteger level) {
     super(peekedTagHeader);
     this.level = level;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getLevel() {
@@ -70,15 +72,21 @@ public class BACnetShedLevelLevel extends BACnetShedLevel implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetShedLevelLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (level)
     lengthInBits += level.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
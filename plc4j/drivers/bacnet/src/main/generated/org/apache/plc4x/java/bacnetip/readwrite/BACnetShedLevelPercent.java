@@ -46,6 +46,8 @@ public class BACnetShedLevelPercent extends BACnetShedLevel implements Message {
       BACnetTagHeader peekedTagHeader, BACnetContextTagUnsignedInteger percent) {
     super(peekedTagHeader);
     this.percent = percent;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getPercent() {
@@ -70,15 +72,21 @@ public class BACnetShedLevelPercent extends BACnetShedLevel implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetShedLevelPercent _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (percent)
     lengthInBits += percent.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class BACnetSpecialEvent implements Message {
     this.period = period;
     this.listOfTimeValues = listOfTimeValues;
     this.eventPriority = eventPriority;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetSpecialEventPeriod getPeriod() {
@@ -86,11 +88,16 @@ public class BACnetSpecialEvent implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetSpecialEvent _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (period)
     lengthInBits += period.getLengthInBits();
@@ -101,6 +108,7 @@ public class BACnetSpecialEvent implements Message {
     // Simple field (eventPriority)
     lengthInBits += eventPriority.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetSpecialEventPeriodCalendarReference extends BACnetSpecialEven
       BACnetTagHeader peekedTagHeader, BACnetContextTagObjectIdentifier calendarReference) {
     super(peekedTagHeader);
     this.calendarReference = calendarReference;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getCalendarReference() {
@@ -71,15 +73,21 @@ public class BACnetSpecialEventPeriodCalendarReference extends BACnetSpecialEven
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetSpecialEventPeriodCalendarReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (calendarReference)
     lengthInBits += calendarReference.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,6 +62,8 @@ public class BACnetTagHeader implements Message {
     this.extLength = extLength;
     this.extExtLength = extExtLength;
     this.extExtExtLength = extExtExtLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getTagNumber() {
@@ -192,11 +194,16 @@ public class BACnetTagHeader implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetTagHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (tagNumber)
     lengthInBits += 4;
@@ -237,6 +244,7 @@ public class BACnetTagHeader implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
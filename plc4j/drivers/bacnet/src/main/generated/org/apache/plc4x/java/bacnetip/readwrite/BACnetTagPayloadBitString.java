@@ -49,9 +49,11 @@ public class BACnetTagPayloadBitString implements Message {
       short unusedBits, List<Boolean> data, List<Boolean> unused, Long actualLength) {
     super();
     this.unusedBits = unusedBits;
-    this.data = data;
-    this.unused = unused;
+    this.data = (data == null) ? null : Collections.unmodifiableList(new ArrayList<>(data));
+    this.unused = (unused == null) ? null : Collections.unmodifiableList(new ArrayList<>(unused));
     this.actualLength = actualLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getUnusedBits() {
@@ -88,11 +90,16 @@ public class BACnetTagPayloadBitString implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetTagPayloadBitString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (unusedBits)
     lengthInBits += 8;
@@ -107,6 +114,7 @@ public class BACnetTagPayloadBitString implements Message {
       lengthInBits += 1 * unused.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class BACnetTagPayloadBoolean implements Message {
   public BACnetTagPayloadBoolean(Long actualLength) {
     super();
     this.actualLength = actualLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getValue() {
@@ -82,11 +84,16 @@ public class BACnetTagPayloadBoolean implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetTagPayloadBoolean _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -94,6 +101,7 @@ public class BACnetTagPayloadBoolean implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class BACnetTagPayloadCharacterString implements Message {
     this.encoding = encoding;
     this.value = value;
     this.actualLength = actualLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetCharacterEncoding getEncoding() {
@@ -98,11 +100,16 @@ public class BACnetTagPayloadCharacterString implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetTagPayloadCharacterString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (encoding)
     lengthInBits += 8;
@@ -112,6 +119,7 @@ public class BACnetTagPayloadCharacterString implements Message {
     // Simple field (value)
     lengthInBits += getActualLengthInBit();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class BACnetTagPayloadDate implements Message {
     this.month = month;
     this.dayOfMonth = dayOfMonth;
     this.dayOfWeek = dayOfWeek;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getYearMinus1900() {
@@ -180,11 +182,16 @@ public class BACnetTagPayloadDate implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetTagPayloadDate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -220,6 +227,7 @@ public class BACnetTagPayloadDate implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class BACnetTagPayloadObjectIdentifier implements Message {
     this.objectType = objectType;
     this.proprietaryValue = proprietaryValue;
     this.instanceNumber = instanceNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetObjectType getObjectType() {
@@ -102,11 +104,16 @@ public class BACnetTagPayloadObjectIdentifier implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetTagPayloadObjectIdentifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Manual Field (objectType)
     lengthInBits += 10;
@@ -119,6 +126,7 @@ public class BACnetTagPayloadObjectIdentifier implements Message {
     // Simple field (instanceNumber)
     lengthInBits += 22;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetTagPayloadOctetString implements Message {
     super();
     this.octets = octets;
     this.actualLength = actualLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getOctets() {
@@ -69,17 +71,23 @@ public class BACnetTagPayloadOctetString implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetTagPayloadOctetString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (octets != null) {
       lengthInBits += 8 * octets.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
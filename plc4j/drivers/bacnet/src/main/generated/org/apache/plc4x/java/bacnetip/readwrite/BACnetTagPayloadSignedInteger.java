@@ -71,6 +71,8 @@ public class BACnetTagPayloadSignedInteger implements Message {
     this.valueInt56 = valueInt56;
     this.valueInt64 = valueInt64;
     this.actualLength = actualLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Byte getValueInt8() {
@@ -229,11 +231,16 @@ public class BACnetTagPayloadSignedInteger implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetTagPayloadSignedInteger _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -293,6 +300,7 @@ public class BACnetTagPayloadSignedInteger implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class BACnetTagPayloadTime implements Message {
     this.minute = minute;
     this.second = second;
     this.fractional = fractional;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getHour() {
@@ -132,11 +134,16 @@ public class BACnetTagPayloadTime implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetTagPayloadTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -160,6 +167,7 @@ public class BACnetTagPayloadTime implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -71,6 +71,8 @@ public class BACnetTagPayloadUnsignedInteger implements Message {
     this.valueUint56 = valueUint56;
     this.valueUint64 = valueUint64;
     this.actualLength = actualLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Short getValueUint8() {
@@ -238,11 +240,16 @@ public class BACnetTagPayloadUnsignedInteger implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetTagPayloadUnsignedInteger _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -302,6 +309,7 @@ public class BACnetTagPayloadUnsignedInteger implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
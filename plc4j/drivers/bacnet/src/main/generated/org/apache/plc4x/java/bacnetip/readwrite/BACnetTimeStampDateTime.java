@@ -46,6 +46,8 @@ public class BACnetTimeStampDateTime extends BACnetTimeStamp implements Message
       BACnetTagHeader peekedTagHeader, BACnetDateTimeEnclosed dateTimeValue) {
     super(peekedTagHeader);
     this.dateTimeValue = dateTimeValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDateTimeEnclosed getDateTimeValue() {
@@ -70,15 +72,21 @@ public class BACnetTimeStampDateTime extends BACnetTimeStamp implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetTimeStampDateTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dateTimeValue)
     lengthInBits += dateTimeValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
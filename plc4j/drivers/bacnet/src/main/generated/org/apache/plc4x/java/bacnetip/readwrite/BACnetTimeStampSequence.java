@@ -46,6 +46,8 @@ public class BACnetTimeStampSequence extends BACnetTimeStamp implements Message
       BACnetTagHeader peekedTagHeader, BACnetContextTagUnsignedInteger sequenceNumber) {
     super(peekedTagHeader);
     this.sequenceNumber = sequenceNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getSequenceNumber() {
@@ -70,15 +72,21 @@ public class BACnetTimeStampSequence extends BACnetTimeStamp implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetTimeStampSequence _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sequenceNumber)
     lengthInBits += sequenceNumber.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
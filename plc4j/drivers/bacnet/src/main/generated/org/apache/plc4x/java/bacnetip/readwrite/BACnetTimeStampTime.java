@@ -45,6 +45,8 @@ public class BACnetTimeStampTime extends BACnetTimeStamp implements Message {
   public BACnetTimeStampTime(BACnetTagHeader peekedTagHeader, BACnetContextTagTime timeValue) {
     super(peekedTagHeader);
     this.timeValue = timeValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagTime getTimeValue() {
@@ -69,15 +71,21 @@ public class BACnetTimeStampTime extends BACnetTimeStamp implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetTimeStampTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeValue)
     lengthInBits += timeValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
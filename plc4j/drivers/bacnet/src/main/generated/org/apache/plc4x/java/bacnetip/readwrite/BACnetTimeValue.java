@@ -45,6 +45,8 @@ public class BACnetTimeValue implements Message {
     super();
     this.timeValue = timeValue;
     this.value = value;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagTime getTimeValue() {
@@ -74,11 +76,16 @@ public class BACnetTimeValue implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetTimeValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeValue)
     lengthInBits += timeValue.getLengthInBits();
@@ -86,6 +93,7 @@ public class BACnetTimeValue implements Message {
     // Simple field (value)
     lengthInBits += value.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
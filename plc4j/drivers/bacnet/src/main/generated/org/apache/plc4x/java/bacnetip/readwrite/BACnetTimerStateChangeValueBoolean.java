@@ -53,6 +53,8 @@ public class BACnetTimerStateChangeValueBoolean extends BACnetTimerStateChangeVa
     super(peekedTagHeader, objectTypeArgument);
     this.booleanValue = booleanValue;
     this.objectTypeArgument = objectTypeArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagBoolean getBooleanValue() {
@@ -77,15 +79,21 @@ public class BACnetTimerStateChangeValueBoolean extends BACnetTimerStateChangeVa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetTimerStateChangeValueBoolean _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (booleanValue)
     lengthInBits += booleanValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -64,6 +64,8 @@ public class BACnetUnconfirmedServiceRequestIAm extends BACnetUnconfirmedService
     this.segmentationSupported = segmentationSupported;
     this.vendorId = vendorId;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagObjectIdentifier getDeviceIdentifier() {
@@ -112,11 +114,16 @@ public class BACnetUnconfirmedServiceRequestIAm extends BACnetUnconfirmedService
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetUnconfirmedServiceRequestIAm _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceIdentifier)
     lengthInBits += deviceIdentifier.getLengthInBits();
@@ -130,6 +137,7 @@ public class BACnetUnconfirmedServiceRequestIAm extends BACnetUnconfirmedService
     // Simple field (vendorId)
     lengthInBits += vendorId.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class BACnetUnconfirmedServiceRequestIHave extends BACnetUnconfirmedServi
     this.objectIdentifier = objectIdentifier;
     this.objectName = objectName;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagObjectIdentifier getDeviceIdentifier() {
@@ -99,11 +101,16 @@ public class BACnetUnconfirmedServiceRequestIHave extends BACnetUnconfirmedServi
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetUnconfirmedServiceRequestIHave _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceIdentifier)
     lengthInBits += deviceIdentifier.getLengthInBits();
@@ -114,6 +121,7 @@ public class BACnetUnconfirmedServiceRequestIHave extends BACnetUnconfirmedServi
     // Simple field (objectName)
     lengthInBits += objectName.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class BACnetUnconfirmedServiceRequestUTCTimeSynchronization
     this.synchronizedDate = synchronizedDate;
     this.synchronizedTime = synchronizedTime;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagDate getSynchronizedDate() {
@@ -89,11 +91,16 @@ public class BACnetUnconfirmedServiceRequestUTCTimeSynchronization
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetUnconfirmedServiceRequestUTCTimeSynchronization _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (synchronizedDate)
     lengthInBits += synchronizedDate.getLengthInBits();
@@ -101,6 +108,7 @@ public class BACnetUnconfirmedServiceRequestUTCTimeSynchronization
     // Simple field (synchronizedTime)
     lengthInBits += synchronizedTime.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
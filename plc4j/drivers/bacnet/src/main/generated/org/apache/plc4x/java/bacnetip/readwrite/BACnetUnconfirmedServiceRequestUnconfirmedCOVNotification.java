@@ -67,6 +67,8 @@ public class BACnetUnconfirmedServiceRequestUnconfirmedCOVNotification
     this.lifetimeInSeconds = lifetimeInSeconds;
     this.listOfValues = listOfValues;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getSubscriberProcessIdentifier() {
@@ -122,11 +124,16 @@ public class BACnetUnconfirmedServiceRequestUnconfirmedCOVNotification
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetUnconfirmedServiceRequestUnconfirmedCOVNotification _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (subscriberProcessIdentifier)
     lengthInBits += subscriberProcessIdentifier.getLengthInBits();
@@ -143,6 +150,7 @@ public class BACnetUnconfirmedServiceRequestUnconfirmedCOVNotification
     // Simple field (listOfValues)
     lengthInBits += listOfValues.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class BACnetUnconfirmedServiceRequestUnconfirmedPrivateTransfer
     this.serviceNumber = serviceNumber;
     this.serviceParameters = serviceParameters;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetVendorIdTagged getVendorId() {
@@ -99,11 +101,16 @@ public class BACnetUnconfirmedServiceRequestUnconfirmedPrivateTransfer
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetUnconfirmedServiceRequestUnconfirmedPrivateTransfer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vendorId)
     lengthInBits += vendorId.getLengthInBits();
@@ -116,6 +123,7 @@ public class BACnetUnconfirmedServiceRequestUnconfirmedPrivateTransfer
       lengthInBits += serviceParameters.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
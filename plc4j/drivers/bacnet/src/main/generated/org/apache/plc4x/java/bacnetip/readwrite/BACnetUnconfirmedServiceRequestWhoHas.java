@@ -61,6 +61,8 @@ public class BACnetUnconfirmedServiceRequestWhoHas extends BACnetUnconfirmedServ
     this.deviceInstanceRangeHighLimit = deviceInstanceRangeHighLimit;
     this.object = object;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getDeviceInstanceRangeLowLimit() {
@@ -104,11 +106,16 @@ public class BACnetUnconfirmedServiceRequestWhoHas extends BACnetUnconfirmedServ
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetUnconfirmedServiceRequestWhoHas _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (deviceInstanceRangeLowLimit)
     if (deviceInstanceRangeLowLimit != null) {
@@ -123,6 +130,7 @@ public class BACnetUnconfirmedServiceRequestWhoHas extends BACnetUnconfirmedServ
     // Simple field (object)
     lengthInBits += object.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class BACnetUnconfirmedServiceRequestWhoHasObjectIdentifier
       BACnetTagHeader peekedTagHeader, BACnetContextTagObjectIdentifier objectIdentifier) {
     super(peekedTagHeader);
     this.objectIdentifier = objectIdentifier;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getObjectIdentifier() {
@@ -71,15 +73,21 @@ public class BACnetUnconfirmedServiceRequestWhoHasObjectIdentifier
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetUnconfirmedServiceRequestWhoHasObjectIdentifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
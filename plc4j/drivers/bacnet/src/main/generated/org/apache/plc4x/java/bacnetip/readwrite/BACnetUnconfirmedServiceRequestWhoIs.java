@@ -58,6 +58,8 @@ public class BACnetUnconfirmedServiceRequestWhoIs extends BACnetUnconfirmedServi
     this.deviceInstanceRangeLowLimit = deviceInstanceRangeLowLimit;
     this.deviceInstanceRangeHighLimit = deviceInstanceRangeHighLimit;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getDeviceInstanceRangeLowLimit() {
@@ -94,11 +96,16 @@ public class BACnetUnconfirmedServiceRequestWhoIs extends BACnetUnconfirmedServi
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetUnconfirmedServiceRequestWhoIs _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (deviceInstanceRangeLowLimit)
     if (deviceInstanceRangeLowLimit != null) {
@@ -110,6 +117,7 @@ public class BACnetUnconfirmedServiceRequestWhoIs extends BACnetUnconfirmedServi
       lengthInBits += deviceInstanceRangeHighLimit.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -64,6 +64,8 @@ public class BACnetUnconfirmedServiceRequestWriteGroup extends BACnetUnconfirmed
     this.changeList = changeList;
     this.inhibitDelay = inhibitDelay;
     this.serviceRequestLength = serviceRequestLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getGroupNumber() {
@@ -109,11 +111,16 @@ public class BACnetUnconfirmedServiceRequestWriteGroup extends BACnetUnconfirmed
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetUnconfirmedServiceRequestWriteGroup _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (groupNumber)
     lengthInBits += groupNumber.getLengthInBits();
@@ -129,6 +136,7 @@ public class BACnetUnconfirmedServiceRequestWriteGroup extends BACnetUnconfirmed
       lengthInBits += inhibitDelay.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class BACnetVMACEntry implements Message {
     super();
     this.virtualMacAddress = virtualMacAddress;
     this.nativeMacAddress = nativeMacAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagOctetString getVirtualMacAddress() {
@@ -75,11 +77,16 @@ public class BACnetVMACEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetVMACEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (virtualMacAddress)
     if (virtualMacAddress != null) {
@@ -91,6 +98,7 @@ public class BACnetVMACEntry implements Message {
       lengthInBits += nativeMacAddress.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
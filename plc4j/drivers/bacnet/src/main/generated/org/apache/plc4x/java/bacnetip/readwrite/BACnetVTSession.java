@@ -50,6 +50,8 @@ public class BACnetVTSession implements Message {
     this.localVtSessionId = localVtSessionId;
     this.removeVtSessionId = removeVtSessionId;
     this.remoteVtAddress = remoteVtAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetApplicationTagUnsignedInteger getLocalVtSessionId() {
@@ -86,11 +88,16 @@ public class BACnetVTSession implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetVTSession _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (localVtSessionId)
     lengthInBits += localVtSessionId.getLengthInBits();
@@ -101,6 +108,7 @@ public class BACnetVTSession implements Message {
     // Simple field (remoteVtAddress)
     lengthInBits += remoteVtAddress.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class BACnetValueSourceAddress extends BACnetValueSource implements Messa
   public BACnetValueSourceAddress(BACnetTagHeader peekedTagHeader, BACnetAddressEnclosed address) {
     super(peekedTagHeader);
     this.address = address;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetAddressEnclosed getAddress() {
@@ -69,15 +71,21 @@ public class BACnetValueSourceAddress extends BACnetValueSource implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetValueSourceAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (address)
     lengthInBits += address.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class BACnetValueSourceNone extends BACnetValueSource implements Message
   public BACnetValueSourceNone(BACnetTagHeader peekedTagHeader, BACnetContextTagNull none) {
     super(peekedTagHeader);
     this.none = none;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagNull getNone() {
@@ -69,15 +71,21 @@ public class BACnetValueSourceNone extends BACnetValueSource implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetValueSourceNone _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (none)
     lengthInBits += none.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
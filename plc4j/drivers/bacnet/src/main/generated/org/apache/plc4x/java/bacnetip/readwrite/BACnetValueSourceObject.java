@@ -46,6 +46,8 @@ public class BACnetValueSourceObject extends BACnetValueSource implements Messag
       BACnetTagHeader peekedTagHeader, BACnetDeviceObjectReferenceEnclosed object) {
     super(peekedTagHeader);
     this.object = object;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetDeviceObjectReferenceEnclosed getObject() {
@@ -70,15 +72,21 @@ public class BACnetValueSourceObject extends BACnetValueSource implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BACnetValueSourceObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (object)
     lengthInBits += object.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
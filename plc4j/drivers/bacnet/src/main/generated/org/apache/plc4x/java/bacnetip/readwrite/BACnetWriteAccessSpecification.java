@@ -51,8 +51,13 @@ public class BACnetWriteAccessSpecification implements Message {
     super();
     this.objectIdentifier = objectIdentifier;
     this.openingTag = openingTag;
-    this.listOfPropertyWriteDefinition = listOfPropertyWriteDefinition;
+    this.listOfPropertyWriteDefinition =
+        (listOfPropertyWriteDefinition == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(listOfPropertyWriteDefinition));
     this.closingTag = closingTag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getObjectIdentifier() {
@@ -97,11 +102,16 @@ public class BACnetWriteAccessSpecification implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BACnetWriteAccessSpecification _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIdentifier)
     lengthInBits += objectIdentifier.getLengthInBits();
@@ -119,6 +129,7 @@ public class BACnetWriteAccessSpecification implements Message {
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,9 +45,14 @@ public class BVLCBroadcastDistributionTableEntry implements Message {
   public BVLCBroadcastDistributionTableEntry(
       List<Short> ip, int port, List<Short> broadcastDistributionMap) {
     super();
-    this.ip = ip;
+    this.ip = (ip == null) ? null : Collections.unmodifiableList(new ArrayList<>(ip));
     this.port = port;
-    this.broadcastDistributionMap = broadcastDistributionMap;
+    this.broadcastDistributionMap =
+        (broadcastDistributionMap == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(broadcastDistributionMap));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Short> getIp() {
@@ -85,11 +90,16 @@ public class BVLCBroadcastDistributionTableEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BVLCBroadcastDistributionTableEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (ip != null) {
@@ -104,6 +114,7 @@ public class BVLCBroadcastDistributionTableEntry implements Message {
       lengthInBits += 8 * broadcastDistributionMap.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,8 +48,10 @@ public class BVLCDeleteForeignDeviceTableEntry extends BVLC implements Message {
 
   public BVLCDeleteForeignDeviceTableEntry(List<Short> ip, int port) {
     super();
-    this.ip = ip;
+    this.ip = (ip == null) ? null : Collections.unmodifiableList(new ArrayList<>(ip));
     this.port = port;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Short> getIp() {
@@ -88,11 +90,16 @@ public class BVLCDeleteForeignDeviceTableEntry extends BVLC implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BVLCDeleteForeignDeviceTableEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (ip != null) {
@@ -102,6 +109,7 @@ public class BVLCDeleteForeignDeviceTableEntry extends BVLC implements Message {
     // Simple field (port)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,10 +46,12 @@ public class BVLCForeignDeviceTableEntry implements Message {
   public BVLCForeignDeviceTableEntry(
       List<Short> ip, int port, int ttl, int secondRemainingBeforePurge) {
     super();
-    this.ip = ip;
+    this.ip = (ip == null) ? null : Collections.unmodifiableList(new ArrayList<>(ip));
     this.port = port;
     this.ttl = ttl;
     this.secondRemainingBeforePurge = secondRemainingBeforePurge;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Short> getIp() {
@@ -96,11 +98,16 @@ public class BVLCForeignDeviceTableEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BVLCForeignDeviceTableEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (ip != null) {
@@ -116,6 +123,7 @@ public class BVLCForeignDeviceTableEntry implements Message {
     // Simple field (secondRemainingBeforePurge)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
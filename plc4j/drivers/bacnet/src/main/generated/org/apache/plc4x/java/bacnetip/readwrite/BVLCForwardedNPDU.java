@@ -52,10 +52,12 @@ public class BVLCForwardedNPDU extends BVLC implements Message {
 
   public BVLCForwardedNPDU(List<Short> ip, int port, NPDU npdu, Integer bvlcPayloadLength) {
     super();
-    this.ip = ip;
+    this.ip = (ip == null) ? null : Collections.unmodifiableList(new ArrayList<>(ip));
     this.port = port;
     this.npdu = npdu;
     this.bvlcPayloadLength = bvlcPayloadLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Short> getIp() {
@@ -102,11 +104,16 @@ public class BVLCForwardedNPDU extends BVLC implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BVLCForwardedNPDU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (ip != null) {
@@ -119,6 +126,7 @@ public class BVLCForwardedNPDU extends BVLC implements Message {
     // Simple field (npdu)
     lengthInBits += npdu.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class BVLCOriginalUnicastNPDU extends BVLC implements Message {
     super();
     this.npdu = npdu;
     this.bvlcPayloadLength = bvlcPayloadLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NPDU getNpdu() {
@@ -76,15 +78,21 @@ public class BVLCOriginalUnicastNPDU extends BVLC implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BVLCOriginalUnicastNPDU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (npdu)
     lengthInBits += npdu.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
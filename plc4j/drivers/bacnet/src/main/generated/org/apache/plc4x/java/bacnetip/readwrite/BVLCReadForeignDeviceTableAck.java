@@ -51,8 +51,10 @@ public class BVLCReadForeignDeviceTableAck extends BVLC implements Message {
   public BVLCReadForeignDeviceTableAck(
       List<BVLCForeignDeviceTableEntry> table, Integer bvlcPayloadLength) {
     super();
-    this.table = table;
+    this.table = (table == null) ? null : Collections.unmodifiableList(new ArrayList<>(table));
     this.bvlcPayloadLength = bvlcPayloadLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<BVLCForeignDeviceTableEntry> getTable() {
@@ -77,11 +79,16 @@ public class BVLCReadForeignDeviceTableAck extends BVLC implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BVLCReadForeignDeviceTableAck _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (table != null) {
@@ -90,6 +97,7 @@ public class BVLCReadForeignDeviceTableAck extends BVLC implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
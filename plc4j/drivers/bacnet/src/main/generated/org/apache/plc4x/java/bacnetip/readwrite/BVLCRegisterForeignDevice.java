@@ -48,6 +48,8 @@ public class BVLCRegisterForeignDevice extends BVLC implements Message {
   public BVLCRegisterForeignDevice(int ttl) {
     super();
     this.ttl = ttl;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getTtl() {
@@ -75,15 +77,21 @@ public class BVLCRegisterForeignDevice extends BVLC implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BVLCRegisterForeignDevice _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (ttl)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
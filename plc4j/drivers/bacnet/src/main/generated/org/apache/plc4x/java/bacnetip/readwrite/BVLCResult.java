@@ -48,6 +48,8 @@ public class BVLCResult extends BVLC implements Message {
   public BVLCResult(BVLCResultCode code) {
     super();
     this.code = code;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BVLCResultCode getCode() {
@@ -77,15 +79,21 @@ public class BVLCResult extends BVLC implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BVLCResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (code)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
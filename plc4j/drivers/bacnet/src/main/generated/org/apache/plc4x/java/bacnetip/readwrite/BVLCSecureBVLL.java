@@ -52,6 +52,8 @@ public class BVLCSecureBVLL extends BVLC implements Message {
     super();
     this.securityWrapper = securityWrapper;
     this.bvlcPayloadLength = bvlcPayloadLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getSecurityWrapper() {
@@ -79,17 +81,23 @@ public class BVLCSecureBVLL extends BVLC implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BVLCSecureBVLL _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (securityWrapper != null) {
       lengthInBits += 8 * securityWrapper.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
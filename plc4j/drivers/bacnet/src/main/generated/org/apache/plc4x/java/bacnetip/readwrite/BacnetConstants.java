@@ -42,6 +42,8 @@ public class BacnetConstants implements Message {
 
   public BacnetConstants() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getBacnetUdpDefaultPort() {
@@ -65,15 +67,21 @@ public class BacnetConstants implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BacnetConstants _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (bacnetUdpDefaultPort)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
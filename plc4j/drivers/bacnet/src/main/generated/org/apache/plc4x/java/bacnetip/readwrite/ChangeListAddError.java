@@ -51,6 +51,8 @@ public class ChangeListAddError extends BACnetError implements Message {
     super();
     this.errorType = errorType;
     this.firstFailedElementNumber = firstFailedElementNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ErrorEnclosed getErrorType() {
@@ -82,11 +84,16 @@ public class ChangeListAddError extends BACnetError implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ChangeListAddError _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (errorType)
     lengthInBits += errorType.getLengthInBits();
@@ -94,6 +101,7 @@ public class ChangeListAddError extends BACnetError implements Message {
     // Simple field (firstFailedElementNumber)
     lengthInBits += firstFailedElementNumber.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
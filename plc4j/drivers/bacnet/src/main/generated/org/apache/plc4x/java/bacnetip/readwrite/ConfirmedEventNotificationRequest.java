@@ -80,6 +80,8 @@ public class ConfirmedEventNotificationRequest implements Message {
     this.fromState = fromState;
     this.toState = toState;
     this.eventValues = eventValues;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagUnsignedInteger getProcessIdentifier() {
@@ -187,11 +189,16 @@ public class ConfirmedEventNotificationRequest implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ConfirmedEventNotificationRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (processIdentifier)
     lengthInBits += processIdentifier.getLengthInBits();
@@ -240,6 +247,7 @@ public class ConfirmedEventNotificationRequest implements Message {
       lengthInBits += eventValues.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class ConfirmedPrivateTransferError extends BACnetError implements Messag
     this.vendorId = vendorId;
     this.serviceNumber = serviceNumber;
     this.errorParameters = errorParameters;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ErrorEnclosed getErrorType() {
@@ -102,11 +104,16 @@ public class ConfirmedPrivateTransferError extends BACnetError implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ConfirmedPrivateTransferError _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (errorType)
     lengthInBits += errorType.getLengthInBits();
@@ -122,6 +129,7 @@ public class ConfirmedPrivateTransferError extends BACnetError implements Messag
       lengthInBits += errorParameters.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class Error implements Message {
     super();
     this.errorClass = errorClass;
     this.errorCode = errorCode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ErrorClassTagged getErrorClass() {
@@ -74,11 +76,16 @@ public class Error implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Error _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (errorClass)
     lengthInBits += errorClass.getLengthInBits();
@@ -86,6 +93,7 @@ public class Error implements Message {
     // Simple field (errorCode)
     lengthInBits += errorCode.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
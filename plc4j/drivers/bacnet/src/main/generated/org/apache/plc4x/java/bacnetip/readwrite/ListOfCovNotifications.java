@@ -51,8 +51,11 @@ public class ListOfCovNotifications implements Message {
     super();
     this.monitoredObjectIdentifier = monitoredObjectIdentifier;
     this.openingTag = openingTag;
-    this.listOfValues = listOfValues;
+    this.listOfValues =
+        (listOfValues == null) ? null : Collections.unmodifiableList(new ArrayList<>(listOfValues));
     this.closingTag = closingTag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetContextTagObjectIdentifier getMonitoredObjectIdentifier() {
@@ -97,11 +100,16 @@ public class ListOfCovNotifications implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ListOfCovNotifications _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (monitoredObjectIdentifier)
     lengthInBits += monitoredObjectIdentifier.getLengthInBits();
@@ -119,6 +127,7 @@ public class ListOfCovNotifications implements Message {
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class ListOfCovNotificationsValue implements Message {
     this.propertyValue = propertyValue;
     this.timeOfChange = timeOfChange;
     this.objectTypeArgument = objectTypeArgument;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetPropertyIdentifierTagged getPropertyIdentifier() {
@@ -101,11 +103,16 @@ public class ListOfCovNotificationsValue implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ListOfCovNotificationsValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (propertyIdentifier)
     lengthInBits += propertyIdentifier.getLengthInBits();
@@ -123,6 +130,7 @@ public class ListOfCovNotificationsValue implements Message {
       lengthInBits += timeOfChange.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,6 +57,8 @@ public class NLMChallengeRequest extends NLM implements Message {
     this.originalMessageId = originalMessageId;
     this.originalTimestamp = originalTimestamp;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getMessageChallenge() {
@@ -94,11 +96,16 @@ public class NLMChallengeRequest extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMChallengeRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (messageChallenge)
     lengthInBits += 8;
@@ -109,6 +116,7 @@ public class NLMChallengeRequest extends NLM implements Message {
     // Simple field (originalTimestamp)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
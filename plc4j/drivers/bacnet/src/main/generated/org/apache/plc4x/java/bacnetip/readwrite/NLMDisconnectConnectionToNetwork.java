@@ -52,6 +52,8 @@ public class NLMDisconnectConnectionToNetwork extends NLM implements Message {
     super(apduLength);
     this.destinationNetworkAddress = destinationNetworkAddress;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getDestinationNetworkAddress() {
@@ -76,15 +78,21 @@ public class NLMDisconnectConnectionToNetwork extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMDisconnectConnectionToNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (destinationNetworkAddress)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
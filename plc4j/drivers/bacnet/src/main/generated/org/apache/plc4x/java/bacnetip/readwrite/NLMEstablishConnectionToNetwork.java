@@ -55,6 +55,8 @@ public class NLMEstablishConnectionToNetwork extends NLM implements Message {
     this.destinationNetworkAddress = destinationNetworkAddress;
     this.terminationTime = terminationTime;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getDestinationNetworkAddress() {
@@ -86,11 +88,16 @@ public class NLMEstablishConnectionToNetwork extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMEstablishConnectionToNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (destinationNetworkAddress)
     lengthInBits += 16;
@@ -98,6 +105,7 @@ public class NLMEstablishConnectionToNetwork extends NLM implements Message {
     // Simple field (terminationTime)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,8 +50,13 @@ public class NLMIAmRouterToNetwork extends NLM implements Message {
 
   public NLMIAmRouterToNetwork(List<Integer> destinationNetworkAddresses, Integer apduLength) {
     super(apduLength);
-    this.destinationNetworkAddresses = destinationNetworkAddresses;
+    this.destinationNetworkAddresses =
+        (destinationNetworkAddresses == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(destinationNetworkAddresses));
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Integer> getDestinationNetworkAddresses() {
@@ -78,17 +83,23 @@ public class NLMIAmRouterToNetwork extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMIAmRouterToNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (destinationNetworkAddresses != null) {
       lengthInBits += 16 * destinationNetworkAddresses.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
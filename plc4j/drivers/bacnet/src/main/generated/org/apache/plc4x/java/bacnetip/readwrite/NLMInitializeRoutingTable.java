@@ -55,8 +55,11 @@ public class NLMInitializeRoutingTable extends NLM implements Message {
       Integer apduLength) {
     super(apduLength);
     this.numberOfPorts = numberOfPorts;
-    this.portMappings = portMappings;
+    this.portMappings =
+        (portMappings == null) ? null : Collections.unmodifiableList(new ArrayList<>(portMappings));
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getNumberOfPorts() {
@@ -87,11 +90,16 @@ public class NLMInitializeRoutingTable extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMInitializeRoutingTable _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numberOfPorts)
     lengthInBits += 8;
@@ -105,6 +113,7 @@ public class NLMInitializeRoutingTable extends NLM implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
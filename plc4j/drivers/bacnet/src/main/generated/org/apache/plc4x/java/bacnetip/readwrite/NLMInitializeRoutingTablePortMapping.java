@@ -50,6 +50,8 @@ public class NLMInitializeRoutingTablePortMapping implements Message {
     this.portId = portId;
     this.portInfoLength = portInfoLength;
     this.portInfo = portInfo;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getDestinationNetworkAddress() {
@@ -94,11 +96,16 @@ public class NLMInitializeRoutingTablePortMapping implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     NLMInitializeRoutingTablePortMapping _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (destinationNetworkAddress)
     lengthInBits += 16;
@@ -114,6 +121,7 @@ public class NLMInitializeRoutingTablePortMapping implements Message {
       lengthInBits += 8 * portInfo.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
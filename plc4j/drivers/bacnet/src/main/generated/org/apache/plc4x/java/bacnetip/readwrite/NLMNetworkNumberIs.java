@@ -57,6 +57,8 @@ public class NLMNetworkNumberIs extends NLM implements Message {
     this.networkNumber = networkNumber;
     this.networkNumberConfigured = networkNumberConfigured;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNetworkNumber() {
@@ -93,11 +95,16 @@ public class NLMNetworkNumberIs extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMNetworkNumberIs _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkNumber)
     lengthInBits += 16;
@@ -108,6 +115,7 @@ public class NLMNetworkNumberIs extends NLM implements Message {
     // Simple field (networkNumberConfigured)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
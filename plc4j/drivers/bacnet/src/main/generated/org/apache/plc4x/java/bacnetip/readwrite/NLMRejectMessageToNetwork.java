@@ -57,6 +57,8 @@ public class NLMRejectMessageToNetwork extends NLM implements Message {
     this.rejectReason = rejectReason;
     this.destinationNetworkAddress = destinationNetworkAddress;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NLMRejectMessageToNetworkRejectReason getRejectReason() {
@@ -95,11 +97,16 @@ public class NLMRejectMessageToNetwork extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMRejectMessageToNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (rejectReason)
     lengthInBits += 8;
@@ -107,6 +114,7 @@ public class NLMRejectMessageToNetwork extends NLM implements Message {
     // Simple field (destinationNetworkAddress)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
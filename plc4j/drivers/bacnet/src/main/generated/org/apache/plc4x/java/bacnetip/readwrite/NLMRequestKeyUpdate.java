@@ -72,6 +72,8 @@ public class NLMRequestKeyUpdate extends NLM implements Message {
     this.set2ExpirationTime = set2ExpirationTime;
     this.distributionKeyRevision = distributionKeyRevision;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getSet1KeyRevision() {
@@ -137,11 +139,16 @@ public class NLMRequestKeyUpdate extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMRequestKeyUpdate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (set1KeyRevision)
     lengthInBits += 8;
@@ -164,6 +171,7 @@ public class NLMRequestKeyUpdate extends NLM implements Message {
     // Simple field (distributionKeyRevision)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,6 +57,8 @@ public class NLMRequestMasterKey extends NLM implements Message {
     this.numberOfSupportedKeyAlgorithms = numberOfSupportedKeyAlgorithms;
     this.encryptionAndSignatureAlgorithms = encryptionAndSignatureAlgorithms;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getNumberOfSupportedKeyAlgorithms() {
@@ -93,11 +95,16 @@ public class NLMRequestMasterKey extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMRequestMasterKey _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numberOfSupportedKeyAlgorithms)
     lengthInBits += 8;
@@ -107,6 +114,7 @@ public class NLMRequestMasterKey extends NLM implements Message {
       lengthInBits += 8 * encryptionAndSignatureAlgorithms.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class NLMReserved extends NLM implements Message {
     super(apduLength);
     this.unknownBytes = unknownBytes;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getUnknownBytes() {
@@ -75,17 +77,23 @@ public class NLMReserved extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMReserved _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (unknownBytes != null) {
       lengthInBits += 8 * unknownBytes.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
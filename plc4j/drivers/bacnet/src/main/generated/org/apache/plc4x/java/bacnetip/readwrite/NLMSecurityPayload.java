@@ -54,6 +54,8 @@ public class NLMSecurityPayload extends NLM implements Message {
     this.payloadLength = payloadLength;
     this.payload = payload;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getPayloadLength() {
@@ -84,11 +86,16 @@ public class NLMSecurityPayload extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMSecurityPayload _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (payloadLength)
     lengthInBits += 16;
@@ -98,6 +105,7 @@ public class NLMSecurityPayload extends NLM implements Message {
       lengthInBits += 8 * payload.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
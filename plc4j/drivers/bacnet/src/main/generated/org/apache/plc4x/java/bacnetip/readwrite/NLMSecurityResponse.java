@@ -63,6 +63,8 @@ public class NLMSecurityResponse extends NLM implements Message {
     this.originalTimestamp = originalTimestamp;
     this.variableParameters = variableParameters;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SecurityResponseCode getResponseCode() {
@@ -114,11 +116,16 @@ public class NLMSecurityResponse extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMSecurityResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseCode)
     lengthInBits += 8;
@@ -134,6 +141,7 @@ public class NLMSecurityResponse extends NLM implements Message {
       lengthInBits += 8 * variableParameters.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class NLMSetMasterKey extends NLM implements Message {
     super(apduLength);
     this.key = key;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NLMUpdateKeyUpdateKeyEntry getKey() {
@@ -75,15 +77,21 @@ public class NLMSetMasterKey extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMSetMasterKey _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (key)
     lengthInBits += key.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class NLMUpdateKeyDistributionKey extends NLM implements Message {
     this.keyRevision = keyRevision;
     this.key = key;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getKeyRevision() {
@@ -85,11 +87,16 @@ public class NLMUpdateKeyDistributionKey extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMUpdateKeyDistributionKey _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (keyRevision)
     lengthInBits += 8;
@@ -97,6 +104,7 @@ public class NLMUpdateKeyDistributionKey extends NLM implements Message {
     // Simple field (key)
     lengthInBits += key.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
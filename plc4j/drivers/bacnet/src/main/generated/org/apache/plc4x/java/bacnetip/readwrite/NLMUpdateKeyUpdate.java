@@ -77,13 +77,17 @@ public class NLMUpdateKeyUpdate extends NLM implements Message {
     this.set1ActivationTime = set1ActivationTime;
     this.set1ExpirationTime = set1ExpirationTime;
     this.set1KeyCount = set1KeyCount;
-    this.set1Keys = set1Keys;
+    this.set1Keys =
+        (set1Keys == null) ? null : Collections.unmodifiableList(new ArrayList<>(set1Keys));
     this.set2KeyRevision = set2KeyRevision;
     this.set2ActivationTime = set2ActivationTime;
     this.set2ExpirationTime = set2ExpirationTime;
     this.set2KeyCount = set2KeyCount;
-    this.set2Keys = set2Keys;
+    this.set2Keys =
+        (set2Keys == null) ? null : Collections.unmodifiableList(new ArrayList<>(set2Keys));
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NLMUpdateKeyUpdateControlFlags getControlFlags() {
@@ -209,11 +213,16 @@ public class NLMUpdateKeyUpdate extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMUpdateKeyUpdate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (controlFlags)
     lengthInBits += controlFlags.getLengthInBits();
@@ -276,6 +285,7 @@ public class NLMUpdateKeyUpdate extends NLM implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -67,6 +67,8 @@ public class NLMUpdateKeyUpdateControlFlags implements Message {
     this.set2ShouldBeCleared = set2ShouldBeCleared;
     this.moreMessagesToBeExpected = moreMessagesToBeExpected;
     this.removeAllKeys = removeAllKeys;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getSet1KeyRevisionActivationTimeExpirationTimePresent() {
@@ -151,11 +153,16 @@ public class NLMUpdateKeyUpdateControlFlags implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     NLMUpdateKeyUpdateControlFlags _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (set1KeyRevisionActivationTimeExpirationTimePresent)
     lengthInBits += 1;
@@ -181,6 +188,7 @@ public class NLMUpdateKeyUpdateControlFlags implements Message {
     // Simple field (removeAllKeys)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class NLMUpdateKeyUpdateKeyEntry implements Message {
     this.keyIdentifier = keyIdentifier;
     this.keySize = keySize;
     this.key = key;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getKeyIdentifier() {
@@ -83,11 +85,16 @@ public class NLMUpdateKeyUpdateKeyEntry implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     NLMUpdateKeyUpdateKeyEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (keyIdentifier)
     lengthInBits += 16;
@@ -100,6 +107,7 @@ public class NLMUpdateKeyUpdateKeyEntry implements Message {
       lengthInBits += 8 * key.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
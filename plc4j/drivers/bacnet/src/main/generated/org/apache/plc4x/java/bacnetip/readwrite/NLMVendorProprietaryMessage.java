@@ -55,6 +55,8 @@ public class NLMVendorProprietaryMessage extends NLM implements Message {
     this.vendorId = vendorId;
     this.proprietaryMessage = proprietaryMessage;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetVendorId getVendorId() {
@@ -90,11 +92,16 @@ public class NLMVendorProprietaryMessage extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMVendorProprietaryMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vendorId)
     lengthInBits += 16;
@@ -104,6 +111,7 @@ public class NLMVendorProprietaryMessage extends NLM implements Message {
       lengthInBits += 8 * proprietaryMessage.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
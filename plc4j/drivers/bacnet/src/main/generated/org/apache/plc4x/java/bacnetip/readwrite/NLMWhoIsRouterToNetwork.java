@@ -52,6 +52,8 @@ public class NLMWhoIsRouterToNetwork extends NLM implements Message {
     super(apduLength);
     this.destinationNetworkAddress = destinationNetworkAddress;
     this.apduLength = apduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Integer getDestinationNetworkAddress() {
@@ -76,17 +78,23 @@ public class NLMWhoIsRouterToNetwork extends NLM implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NLMWhoIsRouterToNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (destinationNetworkAddress)
     if (destinationNetworkAddress != null) {
       lengthInBits += 16;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -71,14 +71,22 @@ public class NPDU implements Message {
     this.control = control;
     this.destinationNetworkAddress = destinationNetworkAddress;
     this.destinationLength = destinationLength;
-    this.destinationAddress = destinationAddress;
+    this.destinationAddress =
+        (destinationAddress == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(destinationAddress));
     this.sourceNetworkAddress = sourceNetworkAddress;
     this.sourceLength = sourceLength;
-    this.sourceAddress = sourceAddress;
+    this.sourceAddress =
+        (sourceAddress == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(sourceAddress));
     this.hopCount = hopCount;
     this.nlm = nlm;
     this.apdu = apdu;
     this.npduLength = npduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getProtocolVersionNumber() {
@@ -223,11 +231,16 @@ public class NPDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     NPDU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (protocolVersionNumber)
     lengthInBits += 8;
@@ -286,6 +299,7 @@ public class NPDU implements Message {
       lengthInBits += apdu.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
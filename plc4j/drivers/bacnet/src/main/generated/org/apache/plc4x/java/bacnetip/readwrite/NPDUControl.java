@@ -60,6 +60,8 @@ public class NPDUControl implements Message {
     this.sourceSpecified = sourceSpecified;
     this.expectingReply = expectingReply;
     this.networkPriority = networkPriority;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getMessageTypeFieldPresent() {
@@ -129,11 +131,16 @@ public class NPDUControl implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     NPDUControl _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (messageTypeFieldPresent)
     lengthInBits += 1;
@@ -156,6 +163,7 @@ public class NPDUControl implements Message {
     // Simple field (networkPriority)
     lengthInBits += 2;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class SubscribeCOVPropertyMultipleErrorFirstFailedSubscription implements
     this.errorType = errorType;
     this.closingTag = closingTag;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -113,11 +115,16 @@ public class SubscribeCOVPropertyMultipleErrorFirstFailedSubscription implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SubscribeCOVPropertyMultipleErrorFirstFailedSubscription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -134,6 +141,7 @@ public class SubscribeCOVPropertyMultipleErrorFirstFailedSubscription implements
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
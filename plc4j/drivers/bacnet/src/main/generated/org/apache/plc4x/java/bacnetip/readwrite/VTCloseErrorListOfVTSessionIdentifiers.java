@@ -52,9 +52,14 @@ public class VTCloseErrorListOfVTSessionIdentifiers implements Message {
       Short tagNumber) {
     super();
     this.openingTag = openingTag;
-    this.listOfVtSessionIdentifiers = listOfVtSessionIdentifiers;
+    this.listOfVtSessionIdentifiers =
+        (listOfVtSessionIdentifiers == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(listOfVtSessionIdentifiers));
     this.closingTag = closingTag;
     this.tagNumber = tagNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BACnetOpeningTag getOpeningTag() {
@@ -92,11 +97,16 @@ public class VTCloseErrorListOfVTSessionIdentifiers implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     VTCloseErrorListOfVTSessionIdentifiers _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (openingTag)
     lengthInBits += openingTag.getLengthInBits();
@@ -111,6 +121,7 @@ public class VTCloseErrorListOfVTSessionIdentifiers implements Message {
     // Simple field (closingTag)
     lengthInBits += closingTag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -51,6 +51,8 @@ public class WritePropertyMultipleError extends BACnetError implements Message {
     super();
     this.errorType = errorType;
     this.firstFailedWriteAttempt = firstFailedWriteAttempt;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ErrorEnclosed getErrorType() {
@@ -81,11 +83,16 @@ public class WritePropertyMultipleError extends BACnetError implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     WritePropertyMultipleError _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (errorType)
     lengthInBits += errorType.getLengthInBits();
@@ -93,6 +100,7 @@ public class WritePropertyMultipleError extends BACnetError implements Message {
     // Simple field (firstFailedWriteAttempt)
     lengthInBits += firstFailedWriteAttempt.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
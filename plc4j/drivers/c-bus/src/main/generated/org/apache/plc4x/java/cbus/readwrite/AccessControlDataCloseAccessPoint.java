@@ -42,6 +42,8 @@ public class AccessControlDataCloseAccessPoint extends AccessControlData impleme
   public AccessControlDataCloseAccessPoint(
       AccessControlCommandTypeContainer commandTypeContainer, byte networkId, byte accessPointId) {
     super(commandTypeContainer, networkId, accessPointId);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -59,12 +61,18 @@ public class AccessControlDataCloseAccessPoint extends AccessControlData impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AccessControlDataCloseAccessPoint _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class AccessControlDataValidAccessRequest extends AccessControlData imple
     super(commandTypeContainer, networkId, accessPointId);
     this.accessControlDirection = accessControlDirection;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public AccessControlDirection getAccessControlDirection() {
@@ -90,11 +92,16 @@ public class AccessControlDataValidAccessRequest extends AccessControlData imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AccessControlDataValidAccessRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (accessControlDirection)
     lengthInBits += 8;
@@ -104,6 +111,7 @@ public class AccessControlDataValidAccessRequest extends AccessControlData imple
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -69,6 +69,8 @@ public class AirConditioningDataHumidityScheduleEntry extends AirConditioningDat
     this.startTime = startTime;
     this.level = level;
     this.rawLevel = rawLevel;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getZoneGroup() {
@@ -144,11 +146,16 @@ public class AirConditioningDataHumidityScheduleEntry extends AirConditioningDat
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AirConditioningDataHumidityScheduleEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -178,6 +185,7 @@ public class AirConditioningDataHumidityScheduleEntry extends AirConditioningDat
       lengthInBits += rawLevel.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -68,6 +68,8 @@ public class AirConditioningDataHvacScheduleEntry extends AirConditioningData im
     this.startTime = startTime;
     this.level = level;
     this.rawLevel = rawLevel;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getZoneGroup() {
@@ -143,11 +145,16 @@ public class AirConditioningDataHvacScheduleEntry extends AirConditioningData im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AirConditioningDataHvacScheduleEntry _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -177,6 +184,7 @@ public class AirConditioningDataHvacScheduleEntry extends AirConditioningData im
       lengthInBits += rawLevel.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class AirConditioningDataRefresh extends AirConditioningData implements M
       AirConditioningCommandTypeContainer commandTypeContainer, byte zoneGroup) {
     super(commandTypeContainer);
     this.zoneGroup = zoneGroup;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getZoneGroup() {
@@ -70,15 +72,21 @@ public class AirConditioningDataRefresh extends AirConditioningData implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AirConditioningDataRefresh _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,6 +57,8 @@ public class AirConditioningDataSetHumidityUpperGuardLimit extends AirConditioni
     this.zoneList = zoneList;
     this.limit = limit;
     this.hvacModeAndFlags = hvacModeAndFlags;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getZoneGroup() {
@@ -102,11 +104,16 @@ public class AirConditioningDataSetHumidityUpperGuardLimit extends AirConditioni
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AirConditioningDataSetHumidityUpperGuardLimit _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -120,6 +127,7 @@ public class AirConditioningDataSetHumidityUpperGuardLimit extends AirConditioni
     // Simple field (hvacModeAndFlags)
     lengthInBits += hvacModeAndFlags.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
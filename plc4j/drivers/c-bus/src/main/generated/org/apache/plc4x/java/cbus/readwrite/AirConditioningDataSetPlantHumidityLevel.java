@@ -66,6 +66,8 @@ public class AirConditioningDataSetPlantHumidityLevel extends AirConditioningDat
     this.level = level;
     this.rawLevel = rawLevel;
     this.auxLevel = auxLevel;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getZoneGroup() {
@@ -145,11 +147,16 @@ public class AirConditioningDataSetPlantHumidityLevel extends AirConditioningDat
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AirConditioningDataSetPlantHumidityLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -178,6 +185,7 @@ public class AirConditioningDataSetPlantHumidityLevel extends AirConditioningDat
       lengthInBits += auxLevel.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
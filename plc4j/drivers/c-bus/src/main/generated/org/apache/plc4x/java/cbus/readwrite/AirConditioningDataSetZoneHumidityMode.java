@@ -65,6 +65,8 @@ public class AirConditioningDataSetZoneHumidityMode extends AirConditioningData
     this.level = level;
     this.rawLevel = rawLevel;
     this.auxLevel = auxLevel;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getZoneGroup() {
@@ -144,11 +146,16 @@ public class AirConditioningDataSetZoneHumidityMode extends AirConditioningData
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AirConditioningDataSetZoneHumidityMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -177,6 +184,7 @@ public class AirConditioningDataSetZoneHumidityMode extends AirConditioningData
       lengthInBits += auxLevel.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -65,6 +65,8 @@ public class AirConditioningDataSetZoneHvacMode extends AirConditioningData impl
     this.level = level;
     this.rawLevel = rawLevel;
     this.auxLevel = auxLevel;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getZoneGroup() {
@@ -138,11 +140,16 @@ public class AirConditioningDataSetZoneHvacMode extends AirConditioningData impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AirConditioningDataSetZoneHvacMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -171,6 +178,7 @@ public class AirConditioningDataSetZoneHvacMode extends AirConditioningData impl
       lengthInBits += auxLevel.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class AirConditioningDataZoneHumidity extends AirConditioningData impleme
     this.zoneList = zoneList;
     this.humidity = humidity;
     this.sensorStatus = sensorStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getZoneGroup() {
@@ -108,11 +110,16 @@ public class AirConditioningDataZoneHumidity extends AirConditioningData impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AirConditioningDataZoneHumidity _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -126,6 +133,7 @@ public class AirConditioningDataZoneHumidity extends AirConditioningData impleme
     // Simple field (sensorStatus)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
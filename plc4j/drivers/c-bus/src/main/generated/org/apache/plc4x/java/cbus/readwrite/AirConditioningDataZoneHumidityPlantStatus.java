@@ -60,6 +60,8 @@ public class AirConditioningDataZoneHumidityPlantStatus extends AirConditioningD
     this.humidityType = humidityType;
     this.humidityStatus = humidityStatus;
     this.humidityErrorCode = humidityErrorCode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getZoneGroup() {
@@ -126,11 +128,16 @@ public class AirConditioningDataZoneHumidityPlantStatus extends AirConditioningD
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AirConditioningDataZoneHumidityPlantStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -147,6 +154,7 @@ public class AirConditioningDataZoneHumidityPlantStatus extends AirConditioningD
     // Simple field (humidityErrorCode)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
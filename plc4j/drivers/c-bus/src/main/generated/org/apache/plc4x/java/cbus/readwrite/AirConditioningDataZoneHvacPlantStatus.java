@@ -59,6 +59,8 @@ public class AirConditioningDataZoneHvacPlantStatus extends AirConditioningData
     this.hvacType = hvacType;
     this.hvacStatus = hvacStatus;
     this.hvacErrorCode = hvacErrorCode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getZoneGroup() {
@@ -119,11 +121,16 @@ public class AirConditioningDataZoneHvacPlantStatus extends AirConditioningData
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AirConditioningDataZoneHvacPlantStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneGroup)
     lengthInBits += 8;
@@ -140,6 +147,7 @@ public class AirConditioningDataZoneHvacPlantStatus extends AirConditioningData
     // Simple field (hvacErrorCode)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class CALDataGetStatus extends CALData implements Message {
     this.paramNo = paramNo;
     this.count = count;
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Parameter getParamNo() {
@@ -90,11 +92,16 @@ public class CALDataGetStatus extends CALData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CALDataGetStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (paramNo)
     lengthInBits += 8;
@@ -102,6 +109,7 @@ public class CALDataGetStatus extends CALData implements Message {
     // Simple field (count)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class CALDataIdentify extends CALData implements Message {
     super(commandTypeContainer, additionalData, requestContext);
     this.attribute = attribute;
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Attribute getAttribute() {
@@ -80,15 +82,21 @@ public class CALDataIdentify extends CALData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CALDataIdentify _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (attribute)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class CALDataIdentifyReply extends CALData implements Message {
     this.attribute = attribute;
     this.identifyReplyCommand = identifyReplyCommand;
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Attribute getAttribute() {
@@ -90,11 +92,16 @@ public class CALDataIdentifyReply extends CALData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CALDataIdentifyReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (attribute)
     lengthInBits += 8;
@@ -102,6 +109,7 @@ public class CALDataIdentifyReply extends CALData implements Message {
     // Simple field (identifyReplyCommand)
     lengthInBits += identifyReplyCommand.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
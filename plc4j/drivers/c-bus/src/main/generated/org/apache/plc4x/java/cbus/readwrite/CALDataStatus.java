@@ -57,8 +57,11 @@ public class CALDataStatus extends CALData implements Message {
     super(commandTypeContainer, additionalData, requestContext);
     this.application = application;
     this.blockStart = blockStart;
-    this.statusBytes = statusBytes;
+    this.statusBytes =
+        (statusBytes == null) ? null : Collections.unmodifiableList(new ArrayList<>(statusBytes));
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ApplicationIdContainer getApplication() {
@@ -103,11 +106,16 @@ public class CALDataStatus extends CALData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CALDataStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (application)
     lengthInBits += 8;
@@ -124,6 +132,7 @@ public class CALDataStatus extends CALData implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
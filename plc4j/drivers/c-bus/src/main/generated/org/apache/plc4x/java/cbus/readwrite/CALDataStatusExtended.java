@@ -62,9 +62,15 @@ public class CALDataStatusExtended extends CALData implements Message {
     this.coding = coding;
     this.application = application;
     this.blockStart = blockStart;
-    this.statusBytes = statusBytes;
-    this.levelInformation = levelInformation;
+    this.statusBytes =
+        (statusBytes == null) ? null : Collections.unmodifiableList(new ArrayList<>(statusBytes));
+    this.levelInformation =
+        (levelInformation == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(levelInformation));
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusCoding getCoding() {
@@ -151,11 +157,16 @@ public class CALDataStatusExtended extends CALData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CALDataStatusExtended _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (coding)
     lengthInBits += 8;
@@ -188,6 +199,7 @@ public class CALDataStatusExtended extends CALData implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
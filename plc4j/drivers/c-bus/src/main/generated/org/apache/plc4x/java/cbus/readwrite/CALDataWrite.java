@@ -59,6 +59,8 @@ public class CALDataWrite extends CALData implements Message {
     this.code = code;
     this.parameterValue = parameterValue;
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Parameter getParamNo() {
@@ -100,11 +102,16 @@ public class CALDataWrite extends CALData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CALDataWrite _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (paramNo)
     lengthInBits += 8;
@@ -115,6 +122,7 @@ public class CALDataWrite extends CALData implements Message {
     // Simple field (parameterValue)
     lengthInBits += parameterValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
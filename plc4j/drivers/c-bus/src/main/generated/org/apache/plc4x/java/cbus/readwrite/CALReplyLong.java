@@ -73,6 +73,8 @@ public class CALReplyLong extends CALReply implements Message {
     this.replyNetwork = replyNetwork;
     this.cBusOptions = cBusOptions;
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getTerminatingByte() {
@@ -144,11 +146,16 @@ public class CALReplyLong extends CALReply implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CALReplyLong _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -178,6 +185,7 @@ public class CALReplyLong extends CALReply implements Message {
       lengthInBits += replyNetwork.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
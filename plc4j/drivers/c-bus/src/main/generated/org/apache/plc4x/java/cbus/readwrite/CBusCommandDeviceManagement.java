@@ -55,6 +55,8 @@ public class CBusCommandDeviceManagement extends CBusCommand implements Message
     this.paramNo = paramNo;
     this.parameterValue = parameterValue;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Parameter getParamNo() {
@@ -96,11 +98,16 @@ public class CBusCommandDeviceManagement extends CBusCommand implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CBusCommandDeviceManagement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (paramNo)
     lengthInBits += 8;
@@ -111,6 +118,7 @@ public class CBusCommandDeviceManagement extends CBusCommand implements Message
     // Simple field (parameterValue)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
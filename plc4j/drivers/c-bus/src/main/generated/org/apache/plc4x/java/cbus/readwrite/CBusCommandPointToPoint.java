@@ -50,6 +50,8 @@ public class CBusCommandPointToPoint extends CBusCommand implements Message {
     super(header, cBusOptions);
     this.command = command;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public CBusPointToPointCommand getCommand() {
@@ -73,15 +75,21 @@ public class CBusCommandPointToPoint extends CBusCommand implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CBusCommandPointToPoint _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (command)
     lengthInBits += command.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class CBusCommandPointToPointToMultiPoint extends CBusCommand implements
     super(header, cBusOptions);
     this.command = command;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public CBusPointToPointToMultiPointCommand getCommand() {
@@ -73,15 +75,21 @@ public class CBusCommandPointToPointToMultiPoint extends CBusCommand implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CBusCommandPointToPointToMultiPoint _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (command)
     lengthInBits += command.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class CBusHeader implements Message {
     this.dp = dp;
     this.rc = rc;
     this.destinationAddressType = destinationAddressType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PriorityClass getPriorityClass() {
@@ -107,11 +109,16 @@ public class CBusHeader implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     CBusHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (priorityClass)
     lengthInBits += 2;
@@ -125,6 +132,7 @@ public class CBusHeader implements Message {
     // Simple field (destinationAddressType)
     lengthInBits += 3;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
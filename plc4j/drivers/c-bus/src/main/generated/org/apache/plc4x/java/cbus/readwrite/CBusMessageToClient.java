@@ -55,6 +55,8 @@ public class CBusMessageToClient extends CBusMessage implements Message {
     this.reply = reply;
     this.requestContext = requestContext;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ReplyOrConfirmation getReply() {
@@ -78,15 +80,21 @@ public class CBusMessageToClient extends CBusMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CBusMessageToClient _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reply)
     lengthInBits += reply.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class CBusMessageToServer extends CBusMessage implements Message {
     this.request = request;
     this.requestContext = requestContext;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Request getRequest() {
@@ -78,15 +80,21 @@ public class CBusMessageToServer extends CBusMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CBusMessageToServer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (request)
     lengthInBits += request.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -68,6 +68,8 @@ public class CBusOptions implements Message {
     this.pun = pun;
     this.pcn = pcn;
     this.srchk = srchk;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getConnect() {
@@ -146,11 +148,16 @@ public class CBusOptions implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     CBusOptions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (connect)
     lengthInBits += 1;
@@ -179,6 +186,7 @@ public class CBusOptions implements Message {
     // Simple field (srchk)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
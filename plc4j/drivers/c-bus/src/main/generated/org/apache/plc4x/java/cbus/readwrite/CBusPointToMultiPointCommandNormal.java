@@ -58,6 +58,8 @@ public class CBusPointToMultiPointCommandNormal extends CBusPointToMultiPointCom
     this.application = application;
     this.salData = salData;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ApplicationIdContainer getApplication() {
@@ -102,11 +104,16 @@ public class CBusPointToMultiPointCommandNormal extends CBusPointToMultiPointCom
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CBusPointToMultiPointCommandNormal _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (application)
     lengthInBits += 8;
@@ -117,6 +124,7 @@ public class CBusPointToMultiPointCommandNormal extends CBusPointToMultiPointCom
     // Simple field (salData)
     lengthInBits += salData.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class CBusPointToMultiPointCommandStatus extends CBusPointToMultiPointCom
     super(peekedApplication, cBusOptions);
     this.statusRequest = statusRequest;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusRequest getStatusRequest() {
@@ -90,11 +92,16 @@ public class CBusPointToMultiPointCommandStatus extends CBusPointToMultiPointCom
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CBusPointToMultiPointCommandStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -105,6 +112,7 @@ public class CBusPointToMultiPointCommandStatus extends CBusPointToMultiPointCom
     // Simple field (statusRequest)
     lengthInBits += statusRequest.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -92,11 +92,16 @@ public abstract class CBusPointToPointCommand implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     CBusPointToPointCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // A virtual field doesn't have any in- or output.
 
@@ -105,6 +110,7 @@ public abstract class CBusPointToPointCommand implements Message {
     // Simple field (calData)
     lengthInBits += calData.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
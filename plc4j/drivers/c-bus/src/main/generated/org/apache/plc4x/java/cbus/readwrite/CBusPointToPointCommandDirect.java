@@ -55,6 +55,8 @@ public class CBusPointToPointCommandDirect extends CBusPointToPointCommand imple
     super(bridgeAddressCountPeek, calData, cBusOptions);
     this.unitAddress = unitAddress;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public UnitAddress getUnitAddress() {
@@ -85,11 +87,16 @@ public class CBusPointToPointCommandDirect extends CBusPointToPointCommand imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CBusPointToPointCommandDirect _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (unitAddress)
     lengthInBits += unitAddress.getLengthInBits();
@@ -97,6 +104,7 @@ public class CBusPointToPointCommandDirect extends CBusPointToPointCommand imple
     // Reserved Field (reserved)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
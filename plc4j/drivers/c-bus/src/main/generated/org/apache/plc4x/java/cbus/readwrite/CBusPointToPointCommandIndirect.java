@@ -59,6 +59,8 @@ public class CBusPointToPointCommandIndirect extends CBusPointToPointCommand imp
     this.networkRoute = networkRoute;
     this.unitAddress = unitAddress;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BridgeAddress getBridgeAddress() {
@@ -97,11 +99,16 @@ public class CBusPointToPointCommandIndirect extends CBusPointToPointCommand imp
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CBusPointToPointCommandIndirect _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bridgeAddress)
     lengthInBits += bridgeAddress.getLengthInBits();
@@ -112,6 +119,7 @@ public class CBusPointToPointCommandIndirect extends CBusPointToPointCommand imp
     // Simple field (unitAddress)
     lengthInBits += unitAddress.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class CBusPointToPointToMultiPointCommandNormal extends CBusPointToPointT
     this.application = application;
     this.salData = salData;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ApplicationIdContainer getApplication() {
@@ -96,11 +98,16 @@ public class CBusPointToPointToMultiPointCommandNormal extends CBusPointToPointT
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CBusPointToPointToMultiPointCommandNormal _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (application)
     lengthInBits += 8;
@@ -108,6 +115,7 @@ public class CBusPointToPointToMultiPointCommandNormal extends CBusPointToPointT
     // Simple field (salData)
     lengthInBits += salData.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,6 +57,8 @@ public class CBusPointToPointToMultiPointCommandStatus extends CBusPointToPointT
     super(bridgeAddress, networkRoute, peekedApplication, cBusOptions);
     this.statusRequest = statusRequest;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusRequest getStatusRequest() {
@@ -87,11 +89,16 @@ public class CBusPointToPointToMultiPointCommandStatus extends CBusPointToPointT
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CBusPointToPointToMultiPointCommandStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -99,6 +106,7 @@ public class CBusPointToPointToMultiPointCommandStatus extends CBusPointToPointT
     // Simple field (statusRequest)
     lengthInBits += statusRequest.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
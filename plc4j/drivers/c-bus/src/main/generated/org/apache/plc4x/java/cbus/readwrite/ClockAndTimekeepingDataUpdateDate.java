@@ -60,6 +60,8 @@ public class ClockAndTimekeepingDataUpdateDate extends ClockAndTimekeepingData i
     this.month = month;
     this.day = day;
     this.dayOfWeek = dayOfWeek;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getYearHigh() {
@@ -112,11 +114,16 @@ public class ClockAndTimekeepingDataUpdateDate extends ClockAndTimekeepingData i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ClockAndTimekeepingDataUpdateDate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (yearHigh)
     lengthInBits += 8;
@@ -133,6 +140,7 @@ public class ClockAndTimekeepingDataUpdateDate extends ClockAndTimekeepingData i
     // Simple field (dayOfWeek)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
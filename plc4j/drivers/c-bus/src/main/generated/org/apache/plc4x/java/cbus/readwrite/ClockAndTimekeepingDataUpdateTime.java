@@ -57,6 +57,8 @@ public class ClockAndTimekeepingDataUpdateTime extends ClockAndTimekeepingData i
     this.minute = minute;
     this.second = second;
     this.daylightSaving = daylightSaving;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getHours() {
@@ -134,11 +136,16 @@ public class ClockAndTimekeepingDataUpdateTime extends ClockAndTimekeepingData i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ClockAndTimekeepingDataUpdateTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (hours)
     lengthInBits += 8;
@@ -160,6 +167,7 @@ public class ClockAndTimekeepingDataUpdateTime extends ClockAndTimekeepingData i
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
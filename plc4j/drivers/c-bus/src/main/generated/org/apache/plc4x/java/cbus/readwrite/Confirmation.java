@@ -47,6 +47,8 @@ public class Confirmation implements Message {
     this.alpha = alpha;
     this.secondAlpha = secondAlpha;
     this.confirmationType = confirmationType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Alpha getAlpha() {
@@ -95,11 +97,16 @@ public class Confirmation implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Confirmation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (alpha)
     lengthInBits += alpha.getLengthInBits();
@@ -114,6 +121,7 @@ public class Confirmation implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class CustomManufacturer implements Message {
     super();
     this.customString = customString;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getCustomString() {
@@ -69,15 +71,21 @@ public class CustomManufacturer implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     CustomManufacturer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (customString)
     lengthInBits += (8) * (numBytes);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
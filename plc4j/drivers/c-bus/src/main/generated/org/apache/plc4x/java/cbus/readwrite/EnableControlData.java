@@ -50,6 +50,8 @@ public class EnableControlData implements Message {
     this.commandTypeContainer = commandTypeContainer;
     this.enableNetworkVariable = enableNetworkVariable;
     this.value = value;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public EnableControlCommandTypeContainer getCommandTypeContainer() {
@@ -101,11 +103,16 @@ public class EnableControlData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     EnableControlData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (commandTypeContainer)
     lengthInBits += 8;
@@ -118,6 +125,7 @@ public class EnableControlData implements Message {
     // Simple field (value)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
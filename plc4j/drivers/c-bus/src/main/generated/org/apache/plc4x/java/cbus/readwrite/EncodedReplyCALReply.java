@@ -52,6 +52,8 @@ public class EncodedReplyCALReply extends EncodedReply implements Message {
     this.calReply = calReply;
     this.cBusOptions = cBusOptions;
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public CALReply getCalReply() {
@@ -75,15 +77,21 @@ public class EncodedReplyCALReply extends EncodedReply implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EncodedReplyCALReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (calReply)
     lengthInBits += calReply.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
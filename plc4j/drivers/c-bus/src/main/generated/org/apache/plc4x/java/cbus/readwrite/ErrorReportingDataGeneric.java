@@ -68,6 +68,8 @@ public class ErrorReportingDataGeneric extends ErrorReportingData implements Mes
     this.deviceId = deviceId;
     this.errorData1 = errorData1;
     this.errorData2 = errorData2;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ErrorReportingSystemCategory getSystemCategory() {
@@ -172,11 +174,16 @@ public class ErrorReportingDataGeneric extends ErrorReportingData implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ErrorReportingDataGeneric _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (systemCategory)
     lengthInBits += systemCategory.getLengthInBits();
@@ -208,6 +215,7 @@ public class ErrorReportingDataGeneric extends ErrorReportingData implements Mes
     // Simple field (errorData2)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
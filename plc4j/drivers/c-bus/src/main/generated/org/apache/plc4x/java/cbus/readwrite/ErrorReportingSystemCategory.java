@@ -50,6 +50,8 @@ public class ErrorReportingSystemCategory implements Message {
     this.systemCategoryClass = systemCategoryClass;
     this.systemCategoryType = systemCategoryType;
     this.systemCategoryVariant = systemCategoryVariant;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ErrorReportingSystemCategoryClass getSystemCategoryClass() {
@@ -100,11 +102,16 @@ public class ErrorReportingSystemCategory implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ErrorReportingSystemCategory _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (systemCategoryClass)
     lengthInBits += 4;
@@ -115,6 +122,7 @@ public class ErrorReportingSystemCategory implements Message {
     // Simple field (systemCategoryVariant)
     lengthInBits += 2;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class ErrorReportingSystemCategoryTypeReserved extends ErrorReportingSyst
   public ErrorReportingSystemCategoryTypeReserved(byte reservedValue) {
     super();
     this.reservedValue = reservedValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getReservedValue() {
@@ -73,15 +75,21 @@ public class ErrorReportingSystemCategoryTypeReserved extends ErrorReportingSyst
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ErrorReportingSystemCategoryTypeReserved _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reservedValue)
     lengthInBits += 4;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
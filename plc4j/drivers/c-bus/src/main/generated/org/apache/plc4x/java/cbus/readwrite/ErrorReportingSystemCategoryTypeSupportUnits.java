@@ -50,6 +50,8 @@ public class ErrorReportingSystemCategoryTypeSupportUnits extends ErrorReporting
       ErrorReportingSystemCategoryTypeForSupportUnits categoryForType) {
     super();
     this.categoryForType = categoryForType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ErrorReportingSystemCategoryTypeForSupportUnits getCategoryForType() {
@@ -81,15 +83,21 @@ public class ErrorReportingSystemCategoryTypeSupportUnits extends ErrorReporting
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ErrorReportingSystemCategoryTypeSupportUnits _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (categoryForType)
     lengthInBits += 4;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class HVACAuxiliaryLevel implements Message {
     super();
     this.fanMode = fanMode;
     this.mode = mode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getFanMode() {
@@ -115,11 +117,16 @@ public class HVACAuxiliaryLevel implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     HVACAuxiliaryLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 1;
@@ -138,6 +145,7 @@ public class HVACAuxiliaryLevel implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -59,6 +59,8 @@ public class HVACHumidityModeAndFlags implements Message {
     this.setback = setback;
     this.level = level;
     this.mode = mode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getAuxiliaryLevel() {
@@ -186,11 +188,16 @@ public class HVACHumidityModeAndFlags implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     HVACHumidityModeAndFlags _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 1;
@@ -226,6 +233,7 @@ public class HVACHumidityModeAndFlags implements Message {
     // Simple field (mode)
     lengthInBits += 3;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
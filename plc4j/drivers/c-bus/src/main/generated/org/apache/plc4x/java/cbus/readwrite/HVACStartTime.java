@@ -43,6 +43,8 @@ public class HVACStartTime implements Message {
   public HVACStartTime(int minutesSinceSunday12AM) {
     super();
     this.minutesSinceSunday12AM = minutesSinceSunday12AM;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getMinutesSinceSunday12AM() {
@@ -106,11 +108,16 @@ public class HVACStartTime implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     HVACStartTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (minutesSinceSunday12AM)
     lengthInBits += 16;
@@ -125,6 +132,7 @@ public class HVACStartTime implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
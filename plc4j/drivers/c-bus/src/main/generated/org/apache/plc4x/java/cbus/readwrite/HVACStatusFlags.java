@@ -65,6 +65,8 @@ public class HVACStatusFlags implements Message {
     this.fanActive = fanActive;
     this.heatingPlant = heatingPlant;
     this.coolingPlant = coolingPlant;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getExpansion() {
@@ -151,11 +153,16 @@ public class HVACStatusFlags implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     HVACStatusFlags _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (expansion)
     lengthInBits += 1;
@@ -185,6 +192,7 @@ public class HVACStatusFlags implements Message {
     // Simple field (coolingPlant)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class HVACTemperature implements Message {
   public HVACTemperature(short temperatureValue) {
     super();
     this.temperatureValue = temperatureValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getTemperatureValue() {
@@ -73,17 +75,23 @@ public class HVACTemperature implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     HVACTemperature _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (temperatureValue)
     lengthInBits += 16;
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
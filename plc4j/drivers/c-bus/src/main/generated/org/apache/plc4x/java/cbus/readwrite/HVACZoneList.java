@@ -65,6 +65,8 @@ public class HVACZoneList implements Message {
     this.zone2 = zone2;
     this.zone1 = zone1;
     this.zone0 = zone0;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getExpansion() {
@@ -144,11 +146,16 @@ public class HVACZoneList implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     HVACZoneList _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (expansion)
     lengthInBits += 1;
@@ -176,6 +183,7 @@ public class HVACZoneList implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
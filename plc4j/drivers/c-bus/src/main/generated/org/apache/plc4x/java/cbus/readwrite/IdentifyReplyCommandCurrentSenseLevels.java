@@ -53,6 +53,8 @@ public class IdentifyReplyCommandCurrentSenseLevels extends IdentifyReplyCommand
     super(numBytes);
     this.currentSenseLevels = currentSenseLevels;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getCurrentSenseLevels() {
@@ -77,17 +79,23 @@ public class IdentifyReplyCommandCurrentSenseLevels extends IdentifyReplyCommand
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandCurrentSenseLevels _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (currentSenseLevels != null) {
       lengthInBits += 8 * currentSenseLevels.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -81,6 +81,8 @@ public class IdentifyReplyCommandDSIStatus extends IdentifyReplyCommand implemen
     this.unitStatus = unitStatus;
     this.dimmingUCRevisionNumber = dimmingUCRevisionNumber;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ChannelStatus getChannelStatus1() {
@@ -212,11 +214,16 @@ public class IdentifyReplyCommandDSIStatus extends IdentifyReplyCommand implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandDSIStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (channelStatus1)
     lengthInBits += 8;
@@ -248,6 +255,7 @@ public class IdentifyReplyCommandDSIStatus extends IdentifyReplyCommand implemen
     // Simple field (dimmingUCRevisionNumber)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class IdentifyReplyCommandDelays extends IdentifyReplyCommand implements
     this.terminalLevels = terminalLevels;
     this.reStrikeDelay = reStrikeDelay;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getTerminalLevels() {
@@ -85,11 +87,16 @@ public class IdentifyReplyCommandDelays extends IdentifyReplyCommand implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandDelays _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (terminalLevels != null) {
@@ -99,6 +106,7 @@ public class IdentifyReplyCommandDelays extends IdentifyReplyCommand implements
     // Simple field (reStrikeDelay)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
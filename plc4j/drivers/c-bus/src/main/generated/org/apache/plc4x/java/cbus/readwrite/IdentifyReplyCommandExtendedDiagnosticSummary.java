@@ -113,6 +113,8 @@ public class IdentifyReplyCommandExtendedDiagnosticSummary extends IdentifyReply
     this.internalStackOverflow = internalStackOverflow;
     this.microPowerReset = microPowerReset;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ApplicationIdContainer getLowApplication() {
@@ -303,11 +305,16 @@ public class IdentifyReplyCommandExtendedDiagnosticSummary extends IdentifyReply
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandExtendedDiagnosticSummary _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lowApplication)
     lengthInBits += 8;
@@ -377,6 +384,7 @@ public class IdentifyReplyCommandExtendedDiagnosticSummary extends IdentifyReply
     // Simple field (microPowerReset)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
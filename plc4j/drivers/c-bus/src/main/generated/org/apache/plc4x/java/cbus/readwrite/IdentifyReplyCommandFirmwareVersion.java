@@ -52,6 +52,8 @@ public class IdentifyReplyCommandFirmwareVersion extends IdentifyReplyCommand im
     super(numBytes);
     this.firmwareVersion = firmwareVersion;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getFirmwareVersion() {
@@ -76,15 +78,21 @@ public class IdentifyReplyCommandFirmwareVersion extends IdentifyReplyCommand im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandFirmwareVersion _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (firmwareVersion)
     lengthInBits += 64;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
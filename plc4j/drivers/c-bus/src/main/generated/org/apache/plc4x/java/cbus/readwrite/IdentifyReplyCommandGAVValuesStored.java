@@ -52,6 +52,8 @@ public class IdentifyReplyCommandGAVValuesStored extends IdentifyReplyCommand im
     super(numBytes);
     this.values = values;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getValues() {
@@ -76,17 +78,23 @@ public class IdentifyReplyCommandGAVValuesStored extends IdentifyReplyCommand im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandGAVValuesStored _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (values != null) {
       lengthInBits += 8 * values.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
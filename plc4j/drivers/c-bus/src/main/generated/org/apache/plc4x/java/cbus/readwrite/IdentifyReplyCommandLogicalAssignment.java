@@ -51,8 +51,13 @@ public class IdentifyReplyCommandLogicalAssignment extends IdentifyReplyCommand
   public IdentifyReplyCommandLogicalAssignment(
       List<LogicAssignment> logicAssigment, Byte numBytes) {
     super(numBytes);
-    this.logicAssigment = logicAssigment;
+    this.logicAssigment =
+        (logicAssigment == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(logicAssigment));
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<LogicAssignment> getLogicAssigment() {
@@ -77,11 +82,16 @@ public class IdentifyReplyCommandLogicalAssignment extends IdentifyReplyCommand
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandLogicalAssignment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (logicAssigment != null) {
@@ -92,6 +102,7 @@ public class IdentifyReplyCommandLogicalAssignment extends IdentifyReplyCommand
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
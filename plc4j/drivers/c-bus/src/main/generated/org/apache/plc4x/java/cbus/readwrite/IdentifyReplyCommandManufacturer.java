@@ -52,6 +52,8 @@ public class IdentifyReplyCommandManufacturer extends IdentifyReplyCommand imple
     super(numBytes);
     this.manufacturerName = manufacturerName;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getManufacturerName() {
@@ -76,15 +78,21 @@ public class IdentifyReplyCommandManufacturer extends IdentifyReplyCommand imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandManufacturer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (manufacturerName)
     lengthInBits += 64;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class IdentifyReplyCommandMinimumLevels extends IdentifyReplyCommand impl
     super(numBytes);
     this.minimumLevels = minimumLevels;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getMinimumLevels() {
@@ -76,17 +78,23 @@ public class IdentifyReplyCommandMinimumLevels extends IdentifyReplyCommand impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandMinimumLevels _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (minimumLevels != null) {
       lengthInBits += 8 * minimumLevels.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
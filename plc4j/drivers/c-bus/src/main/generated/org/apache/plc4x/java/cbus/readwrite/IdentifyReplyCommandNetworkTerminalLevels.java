@@ -53,6 +53,8 @@ public class IdentifyReplyCommandNetworkTerminalLevels extends IdentifyReplyComm
     super(numBytes);
     this.networkTerminalLevels = networkTerminalLevels;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getNetworkTerminalLevels() {
@@ -78,17 +80,23 @@ public class IdentifyReplyCommandNetworkTerminalLevels extends IdentifyReplyComm
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandNetworkTerminalLevels _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (networkTerminalLevels != null) {
       lengthInBits += 8 * networkTerminalLevels.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class IdentifyReplyCommandNetworkVoltage extends IdentifyReplyCommand imp
     this.volts = volts;
     this.voltsDecimalPlace = voltsDecimalPlace;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getVolts() {
@@ -103,11 +105,16 @@ public class IdentifyReplyCommandNetworkVoltage extends IdentifyReplyCommand imp
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandNetworkVoltage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (volts)
     lengthInBits += 16;
@@ -121,6 +128,7 @@ public class IdentifyReplyCommandNetworkVoltage extends IdentifyReplyCommand imp
     // Const Field (v)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -63,6 +63,8 @@ public class IdentifyReplyCommandOutputUnitSummary extends IdentifyReplyCommand
     this.gavStoreEnabledByte2 = gavStoreEnabledByte2;
     this.timeFromLastRecoverOfMainsInSeconds = timeFromLastRecoverOfMainsInSeconds;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public IdentifyReplyCommandUnitSummary getUnitFlags() {
@@ -113,11 +115,16 @@ public class IdentifyReplyCommandOutputUnitSummary extends IdentifyReplyCommand
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandOutputUnitSummary _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (unitFlags)
     lengthInBits += unitFlags.getLengthInBits();
@@ -135,6 +142,7 @@ public class IdentifyReplyCommandOutputUnitSummary extends IdentifyReplyCommand
     // Simple field (timeFromLastRecoverOfMainsInSeconds)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
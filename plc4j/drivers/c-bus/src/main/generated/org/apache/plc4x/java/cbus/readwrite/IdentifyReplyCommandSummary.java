@@ -57,6 +57,8 @@ public class IdentifyReplyCommandSummary extends IdentifyReplyCommand implements
     this.unitServiceType = unitServiceType;
     this.version = version;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getPartName() {
@@ -95,11 +97,16 @@ public class IdentifyReplyCommandSummary extends IdentifyReplyCommand implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandSummary _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (partName)
     lengthInBits += 48;
@@ -110,6 +117,7 @@ public class IdentifyReplyCommandSummary extends IdentifyReplyCommand implements
     // Simple field (version)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class IdentifyReplyCommandTerminalLevels extends IdentifyReplyCommand imp
     super(numBytes);
     this.terminalLevels = terminalLevels;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getTerminalLevels() {
@@ -76,17 +78,23 @@ public class IdentifyReplyCommandTerminalLevels extends IdentifyReplyCommand imp
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandTerminalLevels _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (terminalLevels != null) {
       lengthInBits += 8 * terminalLevels.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class IdentifyReplyCommandType extends IdentifyReplyCommand implements Me
     super(numBytes);
     this.unitType = unitType;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getUnitType() {
@@ -76,15 +78,21 @@ public class IdentifyReplyCommandType extends IdentifyReplyCommand implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentifyReplyCommandType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (unitType)
     lengthInBits += 64;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
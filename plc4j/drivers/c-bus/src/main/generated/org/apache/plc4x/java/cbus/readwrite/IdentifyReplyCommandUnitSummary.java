@@ -65,6 +65,8 @@ public class IdentifyReplyCommandUnitSummary implements Message {
     this.localToggleActiveState = localToggleActiveState;
     this.clockGenerationEnabled = clockGenerationEnabled;
     this.unitGeneratingClock = unitGeneratingClock;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getAssertingNetworkBurden() {
@@ -136,11 +138,16 @@ public class IdentifyReplyCommandUnitSummary implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     IdentifyReplyCommandUnitSummary _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (assertingNetworkBurden)
     lengthInBits += 1;
@@ -166,6 +173,7 @@ public class IdentifyReplyCommandUnitSummary implements Message {
     // Simple field (unitGeneratingClock)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -63,6 +63,8 @@ public class InterfaceOptions1 implements Message {
     this.srchk = srchk;
     this.xonXoff = xonXoff;
     this.connect = connect;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getIdmon() {
@@ -132,11 +134,16 @@ public class InterfaceOptions1 implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     InterfaceOptions1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 1;
@@ -162,6 +169,7 @@ public class InterfaceOptions1 implements Message {
     // Simple field (connect)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class InterfaceOptions1PowerUpSettings implements Message {
   public InterfaceOptions1PowerUpSettings(InterfaceOptions1 interfaceOptions1) {
     super();
     this.interfaceOptions1 = interfaceOptions1;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public InterfaceOptions1 getInterfaceOptions1() {
@@ -65,15 +67,21 @@ public class InterfaceOptions1PowerUpSettings implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     InterfaceOptions1PowerUpSettings _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (interfaceOptions1)
     lengthInBits += interfaceOptions1.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class InterfaceOptions2 implements Message {
     super();
     this.burden = burden;
     this.clockGen = clockGen;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getBurden() {
@@ -118,11 +120,16 @@ public class InterfaceOptions2 implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     InterfaceOptions2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 1;
@@ -148,6 +155,7 @@ public class InterfaceOptions2 implements Message {
     // Simple field (clockGen)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
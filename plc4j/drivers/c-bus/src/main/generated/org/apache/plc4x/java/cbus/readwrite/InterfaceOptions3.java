@@ -55,6 +55,8 @@ public class InterfaceOptions3 implements Message {
     this.pun = pun;
     this.localSal = localSal;
     this.pcn = pcn;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getExstat() {
@@ -122,11 +124,16 @@ public class InterfaceOptions3 implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     InterfaceOptions3 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 1;
@@ -152,6 +159,7 @@ public class InterfaceOptions3 implements Message {
     // Simple field (pcn)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class LevelInformationCorrupted extends LevelInformation implements Messa
     this.corruptedNibble2 = corruptedNibble2;
     this.corruptedNibble3 = corruptedNibble3;
     this.corruptedNibble4 = corruptedNibble4;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getCorruptedNibble1() {
@@ -101,11 +103,16 @@ public class LevelInformationCorrupted extends LevelInformation implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     LevelInformationCorrupted _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (corruptedNibble1)
     lengthInBits += 4;
@@ -119,6 +126,7 @@ public class LevelInformationCorrupted extends LevelInformation implements Messa
     // Simple field (corruptedNibble4)
     lengthInBits += 4;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class LevelInformationNormal extends LevelInformation implements Message
     super(raw);
     this.pair1 = pair1;
     this.pair2 = pair2;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public LevelInformationNibblePair getPair1() {
@@ -109,11 +111,16 @@ public class LevelInformationNormal extends LevelInformation implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     LevelInformationNormal _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pair1)
     lengthInBits += 8;
@@ -125,6 +132,7 @@ public class LevelInformationNormal extends LevelInformation implements Message
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class LightingDataLabel extends LightingData implements Message {
     this.labelOptions = labelOptions;
     this.language = language;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getGroup() {
@@ -105,11 +107,16 @@ public class LightingDataLabel extends LightingData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     LightingDataLabel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (group)
     lengthInBits += 8;
@@ -127,6 +134,7 @@ public class LightingDataLabel extends LightingData implements Message {
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class LightingDataRampToLevel extends LightingData implements Message {
     super(commandTypeContainer);
     this.group = group;
     this.level = level;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getGroup() {
@@ -78,11 +80,16 @@ public class LightingDataRampToLevel extends LightingData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     LightingDataRampToLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (group)
     lengthInBits += 8;
@@ -90,6 +97,7 @@ public class LightingDataRampToLevel extends LightingData implements Message {
     // Simple field (level)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
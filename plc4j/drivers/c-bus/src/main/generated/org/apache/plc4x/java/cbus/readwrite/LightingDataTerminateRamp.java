@@ -45,6 +45,8 @@ public class LightingDataTerminateRamp extends LightingData implements Message {
   public LightingDataTerminateRamp(LightingCommandTypeContainer commandTypeContainer, byte group) {
     super(commandTypeContainer);
     this.group = group;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getGroup() {
@@ -68,15 +70,21 @@ public class LightingDataTerminateRamp extends LightingData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     LightingDataTerminateRamp _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (group)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
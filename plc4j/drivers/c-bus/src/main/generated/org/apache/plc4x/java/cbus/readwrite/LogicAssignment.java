@@ -63,6 +63,8 @@ public class LogicAssignment implements Message {
     this.assignedToGav15 = assignedToGav15;
     this.assignedToGav14 = assignedToGav14;
     this.assignedToGav13 = assignedToGav13;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getGreaterOfOrLogic() {
@@ -132,11 +134,16 @@ public class LogicAssignment implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     LogicAssignment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (greaterOfOrLogic)
     lengthInBits += 1;
@@ -162,6 +169,7 @@ public class LogicAssignment implements Message {
     // Simple field (assignedToGav13)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
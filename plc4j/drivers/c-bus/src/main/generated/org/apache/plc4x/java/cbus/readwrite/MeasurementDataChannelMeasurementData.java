@@ -62,6 +62,8 @@ public class MeasurementDataChannelMeasurementData extends MeasurementData imple
     this.multiplier = multiplier;
     this.msb = msb;
     this.lsb = lsb;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getDeviceId() {
@@ -144,11 +146,16 @@ public class MeasurementDataChannelMeasurementData extends MeasurementData imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MeasurementDataChannelMeasurementData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceId)
     lengthInBits += 8;
@@ -172,6 +179,7 @@ public class MeasurementDataChannelMeasurementData extends MeasurementData imple
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
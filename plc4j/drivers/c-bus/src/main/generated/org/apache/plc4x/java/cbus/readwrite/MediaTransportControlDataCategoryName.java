@@ -49,6 +49,8 @@ public class MediaTransportControlDataCategoryName extends MediaTransportControl
       String categoryName) {
     super(commandTypeContainer, mediaLinkGroup);
     this.categoryName = categoryName;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getCategoryName() {
@@ -76,15 +78,21 @@ public class MediaTransportControlDataCategoryName extends MediaTransportControl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MediaTransportControlDataCategoryName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (categoryName)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (1))) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class MediaTransportControlDataEnumerateCategoriesSelectionTracks
     super(commandTypeContainer, mediaLinkGroup);
     this.enumerateType = enumerateType;
     this.start = start;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getEnumerateType() {
@@ -116,11 +118,16 @@ public class MediaTransportControlDataEnumerateCategoriesSelectionTracks
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MediaTransportControlDataEnumerateCategoriesSelectionTracks _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (enumerateType)
     lengthInBits += 8;
@@ -136,6 +143,7 @@ public class MediaTransportControlDataEnumerateCategoriesSelectionTracks
     // Simple field (start)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
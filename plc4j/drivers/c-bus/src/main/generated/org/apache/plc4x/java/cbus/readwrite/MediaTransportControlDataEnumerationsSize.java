@@ -55,6 +55,8 @@ public class MediaTransportControlDataEnumerationsSize extends MediaTransportCon
     this.sizeType = sizeType;
     this.start = start;
     this.size = size;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getSizeType() {
@@ -126,11 +128,16 @@ public class MediaTransportControlDataEnumerationsSize extends MediaTransportCon
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MediaTransportControlDataEnumerationsSize _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sizeType)
     lengthInBits += 8;
@@ -149,6 +156,7 @@ public class MediaTransportControlDataEnumerationsSize extends MediaTransportCon
     // Simple field (size)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class MediaTransportControlDataNextPreviousCategory extends MediaTranspor
       byte operation) {
     super(commandTypeContainer, mediaLinkGroup);
     this.operation = operation;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getOperation() {
@@ -89,11 +91,16 @@ public class MediaTransportControlDataNextPreviousCategory extends MediaTranspor
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MediaTransportControlDataNextPreviousCategory _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (operation)
     lengthInBits += 8;
@@ -102,6 +109,7 @@ public class MediaTransportControlDataNextPreviousCategory extends MediaTranspor
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
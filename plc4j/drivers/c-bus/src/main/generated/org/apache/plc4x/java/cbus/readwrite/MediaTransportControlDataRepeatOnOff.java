@@ -49,6 +49,8 @@ public class MediaTransportControlDataRepeatOnOff extends MediaTransportControlD
       byte repeatType) {
     super(commandTypeContainer, mediaLinkGroup);
     this.repeatType = repeatType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getRepeatType() {
@@ -97,11 +99,16 @@ public class MediaTransportControlDataRepeatOnOff extends MediaTransportControlD
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MediaTransportControlDataRepeatOnOff _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (repeatType)
     lengthInBits += 8;
@@ -112,6 +119,7 @@ public class MediaTransportControlDataRepeatOnOff extends MediaTransportControlD
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
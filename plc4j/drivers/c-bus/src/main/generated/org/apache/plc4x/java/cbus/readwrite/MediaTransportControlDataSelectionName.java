@@ -49,6 +49,8 @@ public class MediaTransportControlDataSelectionName extends MediaTransportContro
       String selectionName) {
     super(commandTypeContainer, mediaLinkGroup);
     this.selectionName = selectionName;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getSelectionName() {
@@ -76,15 +78,21 @@ public class MediaTransportControlDataSelectionName extends MediaTransportContro
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MediaTransportControlDataSelectionName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (selectionName)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (1))) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
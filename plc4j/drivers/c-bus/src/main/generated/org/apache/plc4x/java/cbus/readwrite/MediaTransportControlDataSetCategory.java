@@ -49,6 +49,8 @@ public class MediaTransportControlDataSetCategory extends MediaTransportControlD
       short categoryNumber) {
     super(commandTypeContainer, mediaLinkGroup);
     this.categoryNumber = categoryNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getCategoryNumber() {
@@ -73,15 +75,21 @@ public class MediaTransportControlDataSetCategory extends MediaTransportControlD
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MediaTransportControlDataSetCategory _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (categoryNumber)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class MediaTransportControlDataSetSelection extends MediaTransportControl
     super(commandTypeContainer, mediaLinkGroup);
     this.selectionHi = selectionHi;
     this.selectionLo = selectionLo;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getSelectionHi() {
@@ -83,11 +85,16 @@ public class MediaTransportControlDataSetSelection extends MediaTransportControl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MediaTransportControlDataSetSelection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (selectionHi)
     lengthInBits += 8;
@@ -95,6 +102,7 @@ public class MediaTransportControlDataSetSelection extends MediaTransportControl
     // Simple field (selectionLo)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class MediaTransportControlDataSetTrack extends MediaTransportControlData
     this.trackMMSB = trackMMSB;
     this.trackMLSB = trackMLSB;
     this.trackLSB = trackLSB;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getTrackMSB() {
@@ -103,11 +105,16 @@ public class MediaTransportControlDataSetTrack extends MediaTransportControlData
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MediaTransportControlDataSetTrack _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (trackMSB)
     lengthInBits += 8;
@@ -121,6 +128,7 @@ public class MediaTransportControlDataSetTrack extends MediaTransportControlData
     // Simple field (trackLSB)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class MediaTransportControlDataSourcePowerControl extends MediaTransportC
       byte state) {
     super(commandTypeContainer, mediaLinkGroup);
     this.state = state;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getState() {
@@ -89,11 +91,16 @@ public class MediaTransportControlDataSourcePowerControl extends MediaTransportC
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MediaTransportControlDataSourcePowerControl _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (state)
     lengthInBits += 8;
@@ -102,6 +109,7 @@ public class MediaTransportControlDataSourcePowerControl extends MediaTransportC
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class MediaTransportControlDataTotalTracks extends MediaTransportControlD
     this.totalTracksMMSB = totalTracksMMSB;
     this.totalTracksMLSB = totalTracksMLSB;
     this.totalTracksLSB = totalTracksLSB;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getTotalTracksMSB() {
@@ -103,11 +105,16 @@ public class MediaTransportControlDataTotalTracks extends MediaTransportControlD
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MediaTransportControlDataTotalTracks _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (totalTracksMSB)
     lengthInBits += 8;
@@ -121,6 +128,7 @@ public class MediaTransportControlDataTotalTracks extends MediaTransportControlD
     // Simple field (totalTracksLSB)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
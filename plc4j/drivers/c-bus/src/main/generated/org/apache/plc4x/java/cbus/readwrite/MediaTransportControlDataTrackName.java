@@ -49,6 +49,8 @@ public class MediaTransportControlDataTrackName extends MediaTransportControlDat
       String trackName) {
     super(commandTypeContainer, mediaLinkGroup);
     this.trackName = trackName;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getTrackName() {
@@ -76,15 +78,21 @@ public class MediaTransportControlDataTrackName extends MediaTransportControlDat
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MediaTransportControlDataTrackName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (trackName)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (1))) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class MeteringDataDrinkingWaterConsumption extends MeteringData implement
       MeteringCommandTypeContainer commandTypeContainer, byte argument, long kL) {
     super(commandTypeContainer, argument);
     this.kL = kL;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getKL() {
@@ -69,15 +71,21 @@ public class MeteringDataDrinkingWaterConsumption extends MeteringData implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MeteringDataDrinkingWaterConsumption _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (kL)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class MeteringDataElectricityConsumption extends MeteringData implements
       MeteringCommandTypeContainer commandTypeContainer, byte argument, long kWhr) {
     super(commandTypeContainer, argument);
     this.kWhr = kWhr;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getKWhr() {
@@ -69,15 +71,21 @@ public class MeteringDataElectricityConsumption extends MeteringData implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MeteringDataElectricityConsumption _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (kWhr)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
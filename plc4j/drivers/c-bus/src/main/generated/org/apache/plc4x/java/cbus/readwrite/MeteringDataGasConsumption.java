@@ -46,6 +46,8 @@ public class MeteringDataGasConsumption extends MeteringData implements Message
       MeteringCommandTypeContainer commandTypeContainer, byte argument, long mJ) {
     super(commandTypeContainer, argument);
     this.mJ = mJ;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getMJ() {
@@ -69,15 +71,21 @@ public class MeteringDataGasConsumption extends MeteringData implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MeteringDataGasConsumption _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (mJ)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -42,6 +42,8 @@ public class MeteringDataMeasureElectricity extends MeteringData implements Mess
   public MeteringDataMeasureElectricity(
       MeteringCommandTypeContainer commandTypeContainer, byte argument) {
     super(commandTypeContainer, argument);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -58,12 +60,18 @@ public class MeteringDataMeasureElectricity extends MeteringData implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MeteringDataMeasureElectricity _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
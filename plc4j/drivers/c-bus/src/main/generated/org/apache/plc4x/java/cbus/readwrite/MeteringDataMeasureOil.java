@@ -41,6 +41,8 @@ public class MeteringDataMeasureOil extends MeteringData implements Message {
 
   public MeteringDataMeasureOil(MeteringCommandTypeContainer commandTypeContainer, byte argument) {
     super(commandTypeContainer, argument);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -57,12 +59,18 @@ public class MeteringDataMeasureOil extends MeteringData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MeteringDataMeasureOil _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -72,6 +72,8 @@ public class MonitoredSALLongFormSmartMode extends MonitoredSAL implements Messa
     this.replyNetwork = replyNetwork;
     this.salData = salData;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getTerminatingByte() {
@@ -157,11 +159,16 @@ public class MonitoredSALLongFormSmartMode extends MonitoredSAL implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MonitoredSALLongFormSmartMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -196,6 +203,7 @@ public class MonitoredSALLongFormSmartMode extends MonitoredSAL implements Messa
       lengthInBits += salData.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
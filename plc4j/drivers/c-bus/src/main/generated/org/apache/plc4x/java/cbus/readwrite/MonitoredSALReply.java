@@ -55,6 +55,8 @@ public class MonitoredSALReply extends EncodedReply implements Message {
     this.monitoredSAL = monitoredSAL;
     this.cBusOptions = cBusOptions;
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public MonitoredSAL getMonitoredSAL() {
@@ -78,15 +80,21 @@ public class MonitoredSALReply extends EncodedReply implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MonitoredSALReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (monitoredSAL)
     lengthInBits += monitoredSAL.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
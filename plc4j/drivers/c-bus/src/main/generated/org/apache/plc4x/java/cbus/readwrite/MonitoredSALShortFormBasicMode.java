@@ -67,6 +67,8 @@ public class MonitoredSALShortFormBasicMode extends MonitoredSAL implements Mess
     this.application = application;
     this.salData = salData;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getCounts() {
@@ -134,11 +136,16 @@ public class MonitoredSALShortFormBasicMode extends MonitoredSAL implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MonitoredSALShortFormBasicMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (bridgeCount)
     if (bridgeCount != null) {
@@ -163,6 +170,7 @@ public class MonitoredSALShortFormBasicMode extends MonitoredSAL implements Mess
       lengthInBits += salData.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class NetworkProtocolControlInformation implements Message {
     super();
     this.stackCounter = stackCounter;
     this.stackDepth = stackDepth;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getStackCounter() {
@@ -83,11 +85,16 @@ public class NetworkProtocolControlInformation implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     NetworkProtocolControlInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 2;
@@ -98,6 +105,7 @@ public class NetworkProtocolControlInformation implements Message {
     // Simple field (stackDepth)
     lengthInBits += 3;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
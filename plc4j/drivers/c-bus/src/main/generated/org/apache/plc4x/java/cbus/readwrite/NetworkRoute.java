@@ -45,7 +45,12 @@ public class NetworkRoute implements Message {
       NetworkProtocolControlInformation networkPCI, List<BridgeAddress> additionalBridgeAddresses) {
     super();
     this.networkPCI = networkPCI;
-    this.additionalBridgeAddresses = additionalBridgeAddresses;
+    this.additionalBridgeAddresses =
+        (additionalBridgeAddresses == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(additionalBridgeAddresses));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NetworkProtocolControlInformation getNetworkPCI() {
@@ -75,11 +80,16 @@ public class NetworkRoute implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     NetworkRoute _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkPCI)
     lengthInBits += networkPCI.getLengthInBits();
@@ -93,6 +103,7 @@ public class NetworkRoute implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class ParameterChange implements Message {
 
   public ParameterChange() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getSpecialChar1() {
@@ -72,11 +74,16 @@ public class ParameterChange implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ParameterChange _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (specialChar1)
     lengthInBits += 8;
@@ -84,6 +91,7 @@ public class ParameterChange implements Message {
     // Const Field (specialChar2)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class ParameterChangeReply extends Reply implements Message {
     this.parameterChange = parameterChange;
     this.cBusOptions = cBusOptions;
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ParameterChange getParameterChange() {
@@ -78,15 +80,21 @@ public class ParameterChangeReply extends Reply implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ParameterChangeReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (parameterChange)
     lengthInBits += parameterChange.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
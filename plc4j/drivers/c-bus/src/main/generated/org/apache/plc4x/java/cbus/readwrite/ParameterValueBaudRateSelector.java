@@ -54,6 +54,8 @@ public class ParameterValueBaudRateSelector extends ParameterValue implements Me
     this.value = value;
     this.data = data;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BaudRateSelector getValue() {
@@ -92,11 +94,16 @@ public class ParameterValueBaudRateSelector extends ParameterValue implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ParameterValueBaudRateSelector _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += 8;
@@ -106,6 +113,7 @@ public class ParameterValueBaudRateSelector extends ParameterValue implements Me
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class ParameterValueCustomTypes extends ParameterValue implements Message
     super(numBytes);
     this.value = value;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public CustomTypes getValue() {
@@ -76,15 +78,21 @@ public class ParameterValueCustomTypes extends ParameterValue implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ParameterValueCustomTypes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += value.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class ParameterValueInterfaceOptions1 extends ParameterValue implements M
     this.value = value;
     this.data = data;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public InterfaceOptions1 getValue() {
@@ -85,11 +87,16 @@ public class ParameterValueInterfaceOptions1 extends ParameterValue implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ParameterValueInterfaceOptions1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += value.getLengthInBits();
@@ -99,6 +106,7 @@ public class ParameterValueInterfaceOptions1 extends ParameterValue implements M
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class ParameterValueInterfaceOptions1PowerUpSettings extends ParameterVal
     super(numBytes);
     this.value = value;
     this.numBytes = numBytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public InterfaceOptions1PowerUpSettings getValue() {
@@ -78,15 +80,21 @@ public class ParameterValueInterfaceOptions1PowerUpSettings extends ParameterVal
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ParameterValueInterfaceOptions1PowerUpSettings _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += value.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class PowerUpReply extends Reply implements Message {
     this.powerUpIndicator = powerUpIndicator;
     this.cBusOptions = cBusOptions;
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PowerUp getPowerUpIndicator() {
@@ -78,15 +80,21 @@ public class PowerUpReply extends Reply implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PowerUpReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (powerUpIndicator)
     lengthInBits += powerUpIndicator.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
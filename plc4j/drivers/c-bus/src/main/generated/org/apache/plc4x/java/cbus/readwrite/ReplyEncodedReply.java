@@ -58,6 +58,8 @@ public class ReplyEncodedReply extends Reply implements Message {
     this.chksum = chksum;
     this.cBusOptions = cBusOptions;
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public EncodedReply getEncodedReply() {
@@ -114,11 +116,16 @@ public class ReplyEncodedReply extends Reply implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ReplyEncodedReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Manual Field (encodedReply)
     lengthInBits += (((encodedReply.getLengthInBytes()) * (2))) * (8);
@@ -130,6 +137,7 @@ public class ReplyEncodedReply extends Reply implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class ReplyNetwork implements Message {
     super();
     this.networkRoute = networkRoute;
     this.unitAddress = unitAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NetworkRoute getNetworkRoute() {
@@ -74,11 +76,16 @@ public class ReplyNetwork implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ReplyNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkRoute)
     lengthInBits += networkRoute.getLengthInBits();
@@ -86,6 +93,7 @@ public class ReplyNetwork implements Message {
     // Simple field (unitAddress)
     lengthInBits += unitAddress.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class ReplyOrConfirmationConfirmation extends ReplyOrConfirmation impleme
     this.embeddedReply = embeddedReply;
     this.cBusOptions = cBusOptions;
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Confirmation getConfirmation() {
@@ -89,11 +91,16 @@ public class ReplyOrConfirmationConfirmation extends ReplyOrConfirmation impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ReplyOrConfirmationConfirmation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (confirmation)
     lengthInBits += confirmation.getLengthInBits();
@@ -103,6 +110,7 @@ public class ReplyOrConfirmationConfirmation extends ReplyOrConfirmation impleme
       lengthInBits += embeddedReply.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class ReplyOrConfirmationReply extends ReplyOrConfirmation implements Mes
     this.termination = termination;
     this.cBusOptions = cBusOptions;
     this.requestContext = requestContext;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Reply getReply() {
@@ -89,11 +91,16 @@ public class ReplyOrConfirmationReply extends ReplyOrConfirmation implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ReplyOrConfirmationReply _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reply)
     lengthInBits += reply.getLengthInBits();
@@ -101,6 +108,7 @@ public class ReplyOrConfirmationReply extends ReplyOrConfirmation implements Mes
     // Simple field (termination)
     lengthInBits += termination.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -136,11 +136,16 @@ public abstract class Request implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Request _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (startingCR)
     if (startingCR != null) {
@@ -159,6 +164,7 @@ public abstract class Request implements Message {
     // Simple field (termination)
     lengthInBits += termination.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -65,6 +65,8 @@ public class RequestCommand extends Request implements Message {
     this.chksum = chksum;
     this.alpha = alpha;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public CBusCommand getCbusCommand() {
@@ -135,11 +137,16 @@ public class RequestCommand extends Request implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RequestCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (initiator)
     lengthInBits += 8;
@@ -159,6 +166,7 @@ public class RequestCommand extends Request implements Message {
       lengthInBits += alpha.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
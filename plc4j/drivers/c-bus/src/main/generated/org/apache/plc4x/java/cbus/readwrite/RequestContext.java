@@ -43,6 +43,8 @@ public class RequestContext implements Message {
   public RequestContext(boolean sendIdentifyRequestBefore) {
     super();
     this.sendIdentifyRequestBefore = sendIdentifyRequestBefore;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getSendIdentifyRequestBefore() {
@@ -66,15 +68,21 @@ public class RequestContext implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     RequestContext _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sendIdentifyRequestBefore)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,6 +62,8 @@ public class RequestDirectCommandAccess extends Request implements Message {
     this.calData = calData;
     this.alpha = alpha;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public CALData getCalData() {
@@ -112,11 +114,16 @@ public class RequestDirectCommandAccess extends Request implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RequestDirectCommandAccess _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (at)
     lengthInBits += 8;
@@ -131,6 +138,7 @@ public class RequestDirectCommandAccess extends Request implements Message {
       lengthInBits += alpha.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -59,6 +59,8 @@ public class RequestObsolete extends Request implements Message {
     this.calData = calData;
     this.alpha = alpha;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public CALData getCalData() {
@@ -102,11 +104,16 @@ public class RequestObsolete extends Request implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RequestObsolete _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Manual Field (calData)
     lengthInBits += (((calData.getLengthInBytes()) * (2))) * (8);
@@ -118,6 +125,7 @@ public class RequestObsolete extends Request implements Message {
       lengthInBits += alpha.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
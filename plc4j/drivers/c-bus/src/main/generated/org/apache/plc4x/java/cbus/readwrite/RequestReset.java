@@ -65,6 +65,8 @@ public class RequestReset extends Request implements Message {
     this.tildePeek2 = tildePeek2;
     this.thirdTilde = thirdTilde;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public RequestType getTildePeek() {
@@ -113,11 +115,16 @@ public class RequestReset extends Request implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RequestReset _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (secondTilde)
     if (secondTilde != null) {
@@ -129,6 +136,7 @@ public class RequestReset extends Request implements Message {
       lengthInBits += 8;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
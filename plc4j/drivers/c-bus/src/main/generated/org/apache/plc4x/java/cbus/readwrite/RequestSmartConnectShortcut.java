@@ -62,6 +62,8 @@ public class RequestSmartConnectShortcut extends Request implements Message {
     this.pipePeek = pipePeek;
     this.secondPipe = secondPipe;
     this.cBusOptions = cBusOptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public RequestType getPipePeek() {
@@ -100,11 +102,16 @@ public class RequestSmartConnectShortcut extends Request implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RequestSmartConnectShortcut _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (pipe)
     lengthInBits += 8;
@@ -114,6 +121,7 @@ public class RequestSmartConnectShortcut extends Request implements Message {
       lengthInBits += 8;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class ResponseTermination implements Message {
 
   public ResponseTermination() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getCr() {
@@ -72,11 +74,16 @@ public class ResponseTermination implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ResponseTermination _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (cr)
     lengthInBits += 8;
@@ -84,6 +91,7 @@ public class ResponseTermination implements Message {
     // Const Field (lf)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
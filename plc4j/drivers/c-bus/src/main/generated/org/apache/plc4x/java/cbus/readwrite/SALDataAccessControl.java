@@ -48,6 +48,8 @@ public class SALDataAccessControl extends SALData implements Message {
   public SALDataAccessControl(SALData salData, AccessControlData accessControlData) {
     super(salData);
     this.accessControlData = accessControlData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public AccessControlData getAccessControlData() {
@@ -71,15 +73,21 @@ public class SALDataAccessControl extends SALData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SALDataAccessControl _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (accessControlData)
     lengthInBits += accessControlData.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
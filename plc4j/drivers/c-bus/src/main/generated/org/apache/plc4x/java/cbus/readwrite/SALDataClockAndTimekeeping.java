@@ -49,6 +49,8 @@ public class SALDataClockAndTimekeeping extends SALData implements Message {
       SALData salData, ClockAndTimekeepingData clockAndTimekeepingData) {
     super(salData);
     this.clockAndTimekeepingData = clockAndTimekeepingData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ClockAndTimekeepingData getClockAndTimekeepingData() {
@@ -72,15 +74,21 @@ public class SALDataClockAndTimekeeping extends SALData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SALDataClockAndTimekeeping _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (clockAndTimekeepingData)
     lengthInBits += clockAndTimekeepingData.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
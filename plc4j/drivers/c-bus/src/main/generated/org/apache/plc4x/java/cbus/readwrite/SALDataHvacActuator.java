@@ -48,6 +48,8 @@ public class SALDataHvacActuator extends SALData implements Message {
   public SALDataHvacActuator(SALData salData, LightingData hvacActuatorData) {
     super(salData);
     this.hvacActuatorData = hvacActuatorData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public LightingData getHvacActuatorData() {
@@ -71,15 +73,21 @@ public class SALDataHvacActuator extends SALData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SALDataHvacActuator _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (hvacActuatorData)
     lengthInBits += hvacActuatorData.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class SALDataMediaTransport extends SALData implements Message {
       SALData salData, MediaTransportControlData mediaTransportControlData) {
     super(salData);
     this.mediaTransportControlData = mediaTransportControlData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public MediaTransportControlData getMediaTransportControlData() {
@@ -73,15 +75,21 @@ public class SALDataMediaTransport extends SALData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SALDataMediaTransport _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (mediaTransportControlData)
     lengthInBits += mediaTransportControlData.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class SALDataPoolsSpasPondsFountainsControl extends SALData implements Me
       SALData salData, LightingData poolsSpaPondsFountainsData) {
     super(salData);
     this.poolsSpaPondsFountainsData = poolsSpaPondsFountainsData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public LightingData getPoolsSpaPondsFountainsData() {
@@ -73,15 +75,21 @@ public class SALDataPoolsSpasPondsFountainsControl extends SALData implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SALDataPoolsSpasPondsFountainsControl _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (poolsSpaPondsFountainsData)
     lengthInBits += poolsSpaPondsFountainsData.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
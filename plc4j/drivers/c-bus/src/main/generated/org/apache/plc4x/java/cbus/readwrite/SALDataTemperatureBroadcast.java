@@ -49,6 +49,8 @@ public class SALDataTemperatureBroadcast extends SALData implements Message {
       SALData salData, TemperatureBroadcastData temperatureBroadcastData) {
     super(salData);
     this.temperatureBroadcastData = temperatureBroadcastData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public TemperatureBroadcastData getTemperatureBroadcastData() {
@@ -73,15 +75,21 @@ public class SALDataTemperatureBroadcast extends SALData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SALDataTemperatureBroadcast _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (temperatureBroadcastData)
     lengthInBits += temperatureBroadcastData.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
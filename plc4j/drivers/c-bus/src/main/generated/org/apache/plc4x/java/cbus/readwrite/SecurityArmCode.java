@@ -43,6 +43,8 @@ public class SecurityArmCode implements Message {
   public SecurityArmCode(short code) {
     super();
     this.code = code;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getCode() {
@@ -105,11 +107,16 @@ public class SecurityArmCode implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SecurityArmCode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (code)
     lengthInBits += 8;
@@ -124,6 +131,7 @@ public class SecurityArmCode implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class SecurityDataArmSystem extends SecurityData implements Message {
       SecurityCommandTypeContainer commandTypeContainer, byte argument, byte armMode) {
     super(commandTypeContainer, argument);
     this.armMode = armMode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getArmMode() {
@@ -119,11 +121,16 @@ public class SecurityDataArmSystem extends SecurityData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SecurityDataArmSystem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (armMode)
     lengthInBits += 8;
@@ -140,6 +147,7 @@ public class SecurityDataArmSystem extends SecurityData implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
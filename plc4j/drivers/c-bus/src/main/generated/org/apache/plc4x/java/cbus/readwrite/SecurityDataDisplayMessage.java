@@ -46,6 +46,8 @@ public class SecurityDataDisplayMessage extends SecurityData implements Message
       SecurityCommandTypeContainer commandTypeContainer, byte argument, String message) {
     super(commandTypeContainer, argument);
     this.message = message;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getMessage() {
@@ -72,15 +74,21 @@ public class SecurityDataDisplayMessage extends SecurityData implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SecurityDataDisplayMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (message)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (1))) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class SecurityDataEmulatedKeypad extends SecurityData implements Message
       SecurityCommandTypeContainer commandTypeContainer, byte argument, byte key) {
     super(commandTypeContainer, argument);
     this.key = key;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getKey() {
@@ -157,11 +159,16 @@ public class SecurityDataEmulatedKeypad extends SecurityData implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SecurityDataEmulatedKeypad _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (key)
     lengthInBits += 8;
@@ -188,6 +195,7 @@ public class SecurityDataEmulatedKeypad extends SecurityData implements Message
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
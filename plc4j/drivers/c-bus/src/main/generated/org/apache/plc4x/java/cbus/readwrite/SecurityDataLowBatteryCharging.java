@@ -46,6 +46,8 @@ public class SecurityDataLowBatteryCharging extends SecurityData implements Mess
       SecurityCommandTypeContainer commandTypeContainer, byte argument, byte startStop) {
     super(commandTypeContainer, argument);
     this.startStop = startStop;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getStartStop() {
@@ -85,11 +87,16 @@ public class SecurityDataLowBatteryCharging extends SecurityData implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SecurityDataLowBatteryCharging _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (startStop)
     lengthInBits += 8;
@@ -98,6 +105,7 @@ public class SecurityDataLowBatteryCharging extends SecurityData implements Mess
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class SecurityDataPasswordEntryStatus extends SecurityData implements Mes
       SecurityCommandTypeContainer commandTypeContainer, byte argument, byte code) {
     super(commandTypeContainer, argument);
     this.code = code;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getCode() {
@@ -109,11 +111,16 @@ public class SecurityDataPasswordEntryStatus extends SecurityData implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SecurityDataPasswordEntryStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (code)
     lengthInBits += 8;
@@ -128,6 +135,7 @@ public class SecurityDataPasswordEntryStatus extends SecurityData implements Mes
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
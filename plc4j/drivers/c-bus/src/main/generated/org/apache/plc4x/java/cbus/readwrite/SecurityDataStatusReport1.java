@@ -56,7 +56,10 @@ public class SecurityDataStatusReport1 extends SecurityData implements Message {
     this.armCodeType = armCodeType;
     this.tamperStatus = tamperStatus;
     this.panicStatus = panicStatus;
-    this.zoneStatus = zoneStatus;
+    this.zoneStatus =
+        (zoneStatus == null) ? null : Collections.unmodifiableList(new ArrayList<>(zoneStatus));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SecurityArmCode getArmCodeType() {
@@ -101,11 +104,16 @@ public class SecurityDataStatusReport1 extends SecurityData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SecurityDataStatusReport1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (armCodeType)
     lengthInBits += armCodeType.getLengthInBits();
@@ -125,6 +133,7 @@ public class SecurityDataStatusReport1 extends SecurityData implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,7 +47,10 @@ public class SecurityDataStatusReport2 extends SecurityData implements Message {
       byte argument,
       List<ZoneStatus> zoneStatus) {
     super(commandTypeContainer, argument);
-    this.zoneStatus = zoneStatus;
+    this.zoneStatus =
+        (zoneStatus == null) ? null : Collections.unmodifiableList(new ArrayList<>(zoneStatus));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<ZoneStatus> getZoneStatus() {
@@ -71,11 +74,16 @@ public class SecurityDataStatusReport2 extends SecurityData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SecurityDataStatusReport2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (zoneStatus != null) {
@@ -86,6 +94,7 @@ public class SecurityDataStatusReport2 extends SecurityData implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class SecurityDataSystemArmedDisarmed extends SecurityData implements Mes
       SecurityArmCode armCodeType) {
     super(commandTypeContainer, argument);
     this.armCodeType = armCodeType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SecurityArmCode getArmCodeType() {
@@ -71,15 +73,21 @@ public class SecurityDataSystemArmedDisarmed extends SecurityData implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SecurityDataSystemArmedDisarmed _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (armCodeType)
     lengthInBits += armCodeType.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
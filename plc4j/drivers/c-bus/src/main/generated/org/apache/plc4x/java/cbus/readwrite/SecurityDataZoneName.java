@@ -51,6 +51,8 @@ public class SecurityDataZoneName extends SecurityData implements Message {
     super(commandTypeContainer, argument);
     this.zoneNumber = zoneNumber;
     this.zoneName = zoneName;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getZoneNumber() {
@@ -81,11 +83,16 @@ public class SecurityDataZoneName extends SecurityData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SecurityDataZoneName _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneNumber)
     lengthInBits += 8;
@@ -93,6 +100,7 @@ public class SecurityDataZoneName extends SecurityData implements Message {
     // Simple field (zoneName)
     lengthInBits += 88;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,6 +46,8 @@ public class SecurityDataZoneOpen extends SecurityData implements Message {
       SecurityCommandTypeContainer commandTypeContainer, byte argument, short zoneNumber) {
     super(commandTypeContainer, argument);
     this.zoneNumber = zoneNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getZoneNumber() {
@@ -69,15 +71,21 @@ public class SecurityDataZoneOpen extends SecurityData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SecurityDataZoneOpen _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (zoneNumber)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
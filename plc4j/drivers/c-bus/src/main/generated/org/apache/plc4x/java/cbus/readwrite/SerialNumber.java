@@ -49,6 +49,8 @@ public class SerialNumber implements Message {
     this.octet2 = octet2;
     this.octet3 = octet3;
     this.octet4 = octet4;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getOctet1() {
@@ -92,11 +94,16 @@ public class SerialNumber implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SerialNumber _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (octet1)
     lengthInBits += 8;
@@ -110,6 +117,7 @@ public class SerialNumber implements Message {
     // Simple field (octet4)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
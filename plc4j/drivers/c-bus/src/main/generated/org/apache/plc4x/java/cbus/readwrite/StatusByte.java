@@ -49,6 +49,8 @@ public class StatusByte implements Message {
     this.gav2 = gav2;
     this.gav1 = gav1;
     this.gav0 = gav0;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public GAVState getGav3() {
@@ -108,11 +110,16 @@ public class StatusByte implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     StatusByte _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (gav3)
     lengthInBits += 2;
@@ -126,6 +133,7 @@ public class StatusByte implements Message {
     // Simple field (gav0)
     lengthInBits += 2;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class StatusRequestBinaryState extends StatusRequest implements Message {
   public StatusRequestBinaryState(byte statusType, ApplicationIdContainer application) {
     super(statusType);
     this.application = application;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ApplicationIdContainer getApplication() {
@@ -92,11 +94,16 @@ public class StatusRequestBinaryState extends StatusRequest implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     StatusRequestBinaryState _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -107,6 +114,7 @@ public class StatusRequestBinaryState extends StatusRequest implements Message {
     // Reserved Field (reserved)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
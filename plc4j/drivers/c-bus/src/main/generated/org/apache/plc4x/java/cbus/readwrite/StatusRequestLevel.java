@@ -52,6 +52,8 @@ public class StatusRequestLevel extends StatusRequest implements Message {
     super(statusType);
     this.application = application;
     this.startingGroupAddressLabel = startingGroupAddressLabel;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ApplicationIdContainer getApplication() {
@@ -103,11 +105,16 @@ public class StatusRequestLevel extends StatusRequest implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     StatusRequestLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -121,6 +128,7 @@ public class StatusRequestLevel extends StatusRequest implements Message {
     // Simple field (startingGroupAddressLabel)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
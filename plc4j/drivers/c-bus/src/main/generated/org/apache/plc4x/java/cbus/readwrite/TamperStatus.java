@@ -43,6 +43,8 @@ public class TamperStatus implements Message {
   public TamperStatus(short status) {
     super();
     this.status = status;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getStatus() {
@@ -89,11 +91,16 @@ public class TamperStatus implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     TamperStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (status)
     lengthInBits += 8;
@@ -104,6 +111,7 @@ public class TamperStatus implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
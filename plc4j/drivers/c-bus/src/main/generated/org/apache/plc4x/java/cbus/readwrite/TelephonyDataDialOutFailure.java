@@ -48,6 +48,8 @@ public class TelephonyDataDialOutFailure extends TelephonyData implements Messag
       DialOutFailureReason reason) {
     super(commandTypeContainer, argument);
     this.reason = reason;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DialOutFailureReason getReason() {
@@ -79,15 +81,21 @@ public class TelephonyDataDialOutFailure extends TelephonyData implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TelephonyDataDialOutFailure _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reason)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
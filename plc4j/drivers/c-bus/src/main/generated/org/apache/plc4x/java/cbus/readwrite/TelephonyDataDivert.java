@@ -46,6 +46,8 @@ public class TelephonyDataDivert extends TelephonyData implements Message {
       TelephonyCommandTypeContainer commandTypeContainer, byte argument, String number) {
     super(commandTypeContainer, argument);
     this.number = number;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getNumber() {
@@ -73,15 +75,21 @@ public class TelephonyDataDivert extends TelephonyData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TelephonyDataDivert _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (number)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (1))) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
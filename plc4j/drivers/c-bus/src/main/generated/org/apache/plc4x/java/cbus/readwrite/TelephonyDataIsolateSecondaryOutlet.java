@@ -46,6 +46,8 @@ public class TelephonyDataIsolateSecondaryOutlet extends TelephonyData implement
       TelephonyCommandTypeContainer commandTypeContainer, byte argument, byte isolateStatus) {
     super(commandTypeContainer, argument);
     this.isolateStatus = isolateStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getIsolateStatus() {
@@ -86,11 +88,16 @@ public class TelephonyDataIsolateSecondaryOutlet extends TelephonyData implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TelephonyDataIsolateSecondaryOutlet _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (isolateStatus)
     lengthInBits += 8;
@@ -99,6 +106,7 @@ public class TelephonyDataIsolateSecondaryOutlet extends TelephonyData implement
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -51,6 +51,8 @@ public class TelephonyDataLineOffHook extends TelephonyData implements Message {
     super(commandTypeContainer, argument);
     this.reason = reason;
     this.number = number;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public LineOffHookReason getReason() {
@@ -92,11 +94,16 @@ public class TelephonyDataLineOffHook extends TelephonyData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TelephonyDataLineOffHook _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (reason)
     lengthInBits += 8;
@@ -104,6 +111,7 @@ public class TelephonyDataLineOffHook extends TelephonyData implements Message {
     // Simple field (number)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (2))) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -51,6 +51,8 @@ public class TelephonyDataRecallLastNumber extends TelephonyData implements Mess
     super(commandTypeContainer, argument);
     this.recallLastNumberType = recallLastNumberType;
     this.number = number;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getRecallLastNumberType() {
@@ -101,11 +103,16 @@ public class TelephonyDataRecallLastNumber extends TelephonyData implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TelephonyDataRecallLastNumber _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (recallLastNumberType)
     lengthInBits += 8;
@@ -117,6 +124,7 @@ public class TelephonyDataRecallLastNumber extends TelephonyData implements Mess
     // Simple field (number)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (2))) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
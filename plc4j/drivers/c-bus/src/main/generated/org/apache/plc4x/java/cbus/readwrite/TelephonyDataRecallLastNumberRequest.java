@@ -48,6 +48,8 @@ public class TelephonyDataRecallLastNumberRequest extends TelephonyData implemen
       byte recallLastNumberType) {
     super(commandTypeContainer, argument);
     this.recallLastNumberType = recallLastNumberType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getRecallLastNumberType() {
@@ -88,11 +90,16 @@ public class TelephonyDataRecallLastNumberRequest extends TelephonyData implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TelephonyDataRecallLastNumberRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (recallLastNumberType)
     lengthInBits += 8;
@@ -101,6 +108,7 @@ public class TelephonyDataRecallLastNumberRequest extends TelephonyData implemen
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class TelephonyDataRinging extends TelephonyData implements Message {
       TelephonyCommandTypeContainer commandTypeContainer, byte argument, String number) {
     super(commandTypeContainer, argument);
     this.number = number;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getNumber() {
@@ -82,11 +84,16 @@ public class TelephonyDataRinging extends TelephonyData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TelephonyDataRinging _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -94,6 +101,7 @@ public class TelephonyDataRinging extends TelephonyData implements Message {
     // Simple field (number)
     lengthInBits += (((commandTypeContainer.getNumBytes()) - (2))) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
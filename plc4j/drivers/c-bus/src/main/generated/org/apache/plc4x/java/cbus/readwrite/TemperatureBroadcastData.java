@@ -50,6 +50,8 @@ public class TemperatureBroadcastData implements Message {
     this.commandTypeContainer = commandTypeContainer;
     this.temperatureGroup = temperatureGroup;
     this.temperatureByte = temperatureByte;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public TemperatureBroadcastCommandTypeContainer getCommandTypeContainer() {
@@ -109,11 +111,16 @@ public class TemperatureBroadcastData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     TemperatureBroadcastData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (commandTypeContainer)
     lengthInBits += 8;
@@ -128,6 +135,7 @@ public class TemperatureBroadcastData implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
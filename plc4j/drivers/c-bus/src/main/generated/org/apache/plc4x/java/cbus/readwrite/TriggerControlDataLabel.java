@@ -57,6 +57,8 @@ public class TriggerControlDataLabel extends TriggerControlData implements Messa
     this.actionSelector = actionSelector;
     this.language = language;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public TriggerControlLabelOptions getTriggerControlOptions() {
@@ -107,11 +109,16 @@ public class TriggerControlDataLabel extends TriggerControlData implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TriggerControlDataLabel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (triggerControlOptions)
     lengthInBits += triggerControlOptions.getLengthInBits();
@@ -129,6 +136,7 @@ public class TriggerControlDataLabel extends TriggerControlData implements Messa
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class TriggerControlDataTriggerEvent extends TriggerControlData implement
       byte actionSelector) {
     super(commandTypeContainer, triggerGroup);
     this.actionSelector = actionSelector;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getActionSelector() {
@@ -72,15 +74,21 @@ public class TriggerControlDataTriggerEvent extends TriggerControlData implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TriggerControlDataTriggerEvent _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (actionSelector)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class TriggerControlLabelOptions implements Message {
     super();
     this.labelFlavour = labelFlavour;
     this.labelType = labelType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public TriggerControlLabelFlavour getLabelFlavour() {
@@ -119,11 +121,16 @@ public class TriggerControlLabelOptions implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     TriggerControlLabelOptions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 1;
@@ -143,6 +150,7 @@ public class TriggerControlLabelOptions implements Message {
     // Reserved Field (reserved)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class ZoneStatus implements Message {
   public ZoneStatus(ZoneStatusTemp value) {
     super();
     this.value = value;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ZoneStatusTemp getValue() {
@@ -70,15 +72,21 @@ public class ZoneStatus implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ZoneStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += 2;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
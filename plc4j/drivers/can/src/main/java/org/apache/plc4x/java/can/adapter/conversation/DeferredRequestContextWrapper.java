@@ -52,6 +52,12 @@ public class DeferredRequestContextWrapper<T> implements SendRequestContext<T> {
         return this;
     }
 
+    @Override
+    public SendRequestContext<T> correlationKey(Object correlationKey) {
+        delegate.correlationKey(correlationKey);
+        return this;
+    }
+
     @Override
     public SendRequestContext<T> expectResponse(Class<T> clazz, Duration timeout) {
         throw new IllegalStateException("Response type is already specified");
@@ -50,6 +50,12 @@ public class ResolvedSendRequestContextWrapper<T> implements SendRequestContext<
         return this;
     }
 
+    @Override
+    public SendRequestContext<T> correlationKey(Object correlationKey) {
+        delegate.correlationKey(correlationKey);
+        return this;
+    }
+
     @Override
     public SendRequestContext<T> expectResponse(Class<T> clazz, Duration timeout) {
         throw new IllegalStateException("Response type is already specified");
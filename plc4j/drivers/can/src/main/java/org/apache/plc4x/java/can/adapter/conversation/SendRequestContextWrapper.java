@@ -53,6 +53,12 @@ public class SendRequestContextWrapper<C, T> implements SendRequestContext<T> {
         return this;
     }
 
+    @Override
+    public SendRequestContext<T> correlationKey(Object correlationKey) {
+        delegate.correlationKey(correlationKey);
+        return this;
+    }
+
     @Override
     public SendRequestContext<T> expectResponse(Class<T> clazz, Duration timeout) {
         DeferredErrorHandler<C, ?> errorHandler = new DeferredErrorHandler<>(null);
@@ -50,6 +50,8 @@ public class CANOpenFrame implements Message {
     this.nodeId = nodeId;
     this.service = service;
     this.payload = payload;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getNodeId() {
@@ -119,11 +121,16 @@ public class CANOpenFrame implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     CANOpenFrame _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeId)
     lengthInBits += 8;
@@ -143,6 +150,7 @@ public class CANOpenFrame implements Message {
       lengthInBits += 8;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class CANOpenNetworkPayload extends CANOpenPayload implements Message {
     super();
     this.request = request;
     this.node = node;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NMTStateRequest getRequest() {
@@ -89,11 +91,16 @@ public class CANOpenNetworkPayload extends CANOpenPayload implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CANOpenNetworkPayload _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (request)
     lengthInBits += 8;
@@ -104,6 +111,7 @@ public class CANOpenNetworkPayload extends CANOpenPayload implements Message {
     // Simple field (node)
     lengthInBits += 7;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class CANOpenPDOPayload extends CANOpenPayload implements Message {
   public CANOpenPDOPayload(CANOpenPDO pdo) {
     super();
     this.pdo = pdo;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public CANOpenPDO getPdo() {
@@ -72,15 +74,21 @@ public class CANOpenPDOPayload extends CANOpenPayload implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CANOpenPDOPayload _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pdo)
     lengthInBits += pdo.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class CANOpenSDORequest extends CANOpenPayload implements Message {
     super();
     this.command = command;
     this.request = request;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SDORequestCommand getCommand() {
@@ -88,11 +90,16 @@ public class CANOpenSDORequest extends CANOpenPayload implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CANOpenSDORequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (command)
     lengthInBits += 3;
@@ -100,6 +107,7 @@ public class CANOpenSDORequest extends CANOpenPayload implements Message {
     // Simple field (request)
     lengthInBits += request.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class CANOpenTime implements Message {
     super();
     this.millis = millis;
     this.days = days;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getMillis() {
@@ -82,11 +84,16 @@ public class CANOpenTime implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     CANOpenTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (millis)
     lengthInBits += 32;
@@ -96,6 +103,7 @@ public class CANOpenTime implements Message {
     // Simple field (days)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class CANOpenTimeSynchronization extends CANOpenPayload implements Messag
   public CANOpenTimeSynchronization(CANOpenTime timeOfDay) {
     super();
     this.timeOfDay = timeOfDay;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public CANOpenTime getTimeOfDay() {
@@ -72,15 +74,21 @@ public class CANOpenTimeSynchronization extends CANOpenPayload implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CANOpenTimeSynchronization _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeOfDay)
     lengthInBits += timeOfDay.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class IndexAddress implements Message {
     super();
     this.index = index;
     this.subindex = subindex;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getIndex() {
@@ -74,11 +76,16 @@ public class IndexAddress implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     IndexAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (index)
     lengthInBits += 16;
@@ -86,6 +93,7 @@ public class IndexAddress implements Message {
     // Simple field (subindex)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class SDOAbort implements Message {
     super();
     this.address = address;
     this.code = code;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public IndexAddress getAddress() {
@@ -77,11 +79,16 @@ public class SDOAbort implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SDOAbort _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 5;
@@ -92,6 +99,7 @@ public class SDOAbort implements Message {
     // Simple field (code)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
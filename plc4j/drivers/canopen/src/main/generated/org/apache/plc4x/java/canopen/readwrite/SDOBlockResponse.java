@@ -48,6 +48,8 @@ public class SDOBlockResponse extends SDOResponse implements Message {
   public SDOBlockResponse(SDOBlockData block) {
     super();
     this.block = block;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SDOBlockData getBlock() {
@@ -71,15 +73,21 @@ public class SDOBlockResponse extends SDOResponse implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SDOBlockResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (block)
     lengthInBits += block.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class SDOInitiateDownloadRequest extends SDORequest implements Message {
     this.indicated = indicated;
     this.address = address;
     this.payload = payload;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getExpedited() {
@@ -113,11 +115,16 @@ public class SDOInitiateDownloadRequest extends SDORequest implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SDOInitiateDownloadRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 1;
@@ -137,6 +144,7 @@ public class SDOInitiateDownloadRequest extends SDORequest implements Message {
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class SDOInitiateExpeditedUploadResponse extends SDOInitiateUploadRespons
   public SDOInitiateExpeditedUploadResponse(byte[] data) {
     super();
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getData() {
@@ -81,11 +83,16 @@ public class SDOInitiateExpeditedUploadResponse extends SDOInitiateUploadRespons
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SDOInitiateExpeditedUploadResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (data != null) {
@@ -98,6 +105,7 @@ public class SDOInitiateExpeditedUploadResponse extends SDOInitiateUploadRespons
       lengthInBits += 8;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class SDOInitiateSegmentedReservedResponse extends SDOInitiateUploadRespo
 
   public SDOInitiateSegmentedReservedResponse() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -69,15 +71,21 @@ public class SDOInitiateSegmentedReservedResponse extends SDOInitiateUploadRespo
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SDOInitiateSegmentedReservedResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
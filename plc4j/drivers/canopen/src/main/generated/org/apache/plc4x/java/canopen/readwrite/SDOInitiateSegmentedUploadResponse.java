@@ -53,6 +53,8 @@ public class SDOInitiateSegmentedUploadResponse extends SDOInitiateUploadRespons
   public SDOInitiateSegmentedUploadResponse(long bytes) {
     super();
     this.bytes = bytes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getBytes() {
@@ -77,15 +79,21 @@ public class SDOInitiateSegmentedUploadResponse extends SDOInitiateUploadRespons
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SDOInitiateSegmentedUploadResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bytes)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
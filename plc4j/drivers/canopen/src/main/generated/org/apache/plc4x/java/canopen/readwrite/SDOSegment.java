@@ -49,6 +49,8 @@ public class SDOSegment implements Message {
     this.indicated = indicated;
     this.address = address;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getExpedited() {
@@ -104,11 +106,16 @@ public class SDOSegment implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SDOSegment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 1;
@@ -136,6 +143,7 @@ public class SDOSegment implements Message {
       lengthInBits += 8;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
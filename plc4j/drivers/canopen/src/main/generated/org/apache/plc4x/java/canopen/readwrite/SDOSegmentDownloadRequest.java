@@ -52,6 +52,8 @@ public class SDOSegmentDownloadRequest extends SDORequest implements Message {
     this.toggle = toggle;
     this.last = last;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getToggle() {
@@ -98,11 +100,16 @@ public class SDOSegmentDownloadRequest extends SDORequest implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SDOSegmentDownloadRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (toggle)
     lengthInBits += 1;
@@ -124,6 +131,7 @@ public class SDOSegmentDownloadRequest extends SDORequest implements Message {
       lengthInBits += 8;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class SDOSegmentUploadRequest extends SDORequest implements Message {
   public SDOSegmentUploadRequest(boolean toggle) {
     super();
     this.toggle = toggle;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getToggle() {
@@ -77,11 +79,16 @@ public class SDOSegmentUploadRequest extends SDORequest implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SDOSegmentUploadRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (toggle)
     lengthInBits += 1;
@@ -92,6 +99,7 @@ public class SDOSegmentUploadRequest extends SDORequest implements Message {
     // Reserved Field (reserved)
     lengthInBits += 56;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
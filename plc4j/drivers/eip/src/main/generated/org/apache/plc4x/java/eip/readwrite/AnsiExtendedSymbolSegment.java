@@ -50,6 +50,8 @@ public class AnsiExtendedSymbolSegment extends DataSegmentType implements Messag
     super();
     this.symbol = symbol;
     this.pad = pad;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getSymbol() {
@@ -86,11 +88,16 @@ public class AnsiExtendedSymbolSegment extends DataSegmentType implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AnsiExtendedSymbolSegment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (dataSize)
     lengthInBits += 8;
@@ -103,6 +110,7 @@ public class AnsiExtendedSymbolSegment extends DataSegmentType implements Messag
       lengthInBits += 8;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -46,10 +46,13 @@ public class CIPAttributes implements Message {
   public CIPAttributes(
       List<Integer> classId, Integer numberAvailable, Integer numberActive, byte[] data) {
     super();
-    this.classId = classId;
+    this.classId =
+        (classId == null) ? null : Collections.unmodifiableList(new ArrayList<>(classId));
     this.numberAvailable = numberAvailable;
     this.numberActive = numberActive;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Integer> getClassId() {
@@ -98,11 +101,16 @@ public class CIPAttributes implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     CIPAttributes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (numberOfClasses)
     lengthInBits += 16;
@@ -127,6 +135,7 @@ public class CIPAttributes implements Message {
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
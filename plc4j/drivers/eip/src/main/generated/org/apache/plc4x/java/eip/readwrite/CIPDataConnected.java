@@ -45,6 +45,8 @@ public class CIPDataConnected implements Message {
     super();
     this.value = value;
     this.tagStatus = tagStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getValue() {
@@ -74,11 +76,16 @@ public class CIPDataConnected implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     CIPDataConnected _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += 32;
@@ -86,6 +93,7 @@ public class CIPDataConnected implements Message {
     // Simple field (tagStatus)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
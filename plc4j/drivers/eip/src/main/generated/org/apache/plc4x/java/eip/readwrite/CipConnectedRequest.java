@@ -56,6 +56,8 @@ public class CipConnectedRequest extends CipService implements Message {
   public CipConnectedRequest(byte[] pathSegments) {
     super();
     this.pathSegments = pathSegments;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getPathSegments() {
@@ -90,11 +92,16 @@ public class CipConnectedRequest extends CipService implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CipConnectedRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (requestPathSize)
     lengthInBits += 8;
@@ -110,6 +117,7 @@ public class CipConnectedRequest extends CipService implements Message {
     // Reserved Field (reserved)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -60,6 +60,8 @@ public class CipConnectedResponse extends CipService implements Message {
     this.status = status;
     this.additionalStatusWords = additionalStatusWords;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getStatus() {
@@ -101,11 +103,16 @@ public class CipConnectedResponse extends CipService implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CipConnectedResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -121,6 +128,7 @@ public class CipConnectedResponse extends CipService implements Message {
       lengthInBits += data.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -86,7 +86,12 @@ public class CipConnectionManagerCloseRequest extends CipService implements Mess
     this.originatorVendorId = originatorVendorId;
     this.originatorSerialNumber = originatorSerialNumber;
     this.connectionPathSize = connectionPathSize;
-    this.connectionPaths = connectionPaths;
+    this.connectionPaths =
+        (connectionPaths == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(connectionPaths));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getRequestPathSize() {
@@ -185,11 +190,16 @@ public class CipConnectionManagerCloseRequest extends CipService implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CipConnectionManagerCloseRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestPathSize)
     lengthInBits += 8;
@@ -231,6 +241,7 @@ public class CipConnectionManagerCloseRequest extends CipService implements Mess
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -72,6 +72,8 @@ public class CipConnectionManagerCloseResponse extends CipService implements Mes
     this.originatorVendorId = originatorVendorId;
     this.originatorSerialNumber = originatorSerialNumber;
     this.applicationReplySize = applicationReplySize;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getStatus() {
@@ -140,11 +142,16 @@ public class CipConnectionManagerCloseResponse extends CipService implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CipConnectionManagerCloseResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -170,6 +177,7 @@ public class CipConnectionManagerCloseResponse extends CipService implements Mes
     // Reserved Field (reserved)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -107,7 +107,12 @@ public class CipConnectionManagerRequest extends CipService implements Message {
     this.toConnectionParameters = toConnectionParameters;
     this.transportType = transportType;
     this.connectionPathSize = connectionPathSize;
-    this.connectionPaths = connectionPaths;
+    this.connectionPaths =
+        (connectionPaths == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(connectionPaths));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PathSegment getClassSegment() {
@@ -263,11 +268,16 @@ public class CipConnectionManagerRequest extends CipService implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CipConnectionManagerRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (requestPathSize)
     lengthInBits += 8;
@@ -333,6 +343,7 @@ public class CipConnectionManagerRequest extends CipService implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -75,6 +75,8 @@ public class CipConnectionManagerResponse extends CipService implements Message
     this.originatorSerialNumber = originatorSerialNumber;
     this.otApi = otApi;
     this.toApi = toApi;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getOtConnectionId() {
@@ -153,11 +155,16 @@ public class CipConnectionManagerResponse extends CipService implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CipConnectionManagerResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 24;
@@ -189,6 +196,7 @@ public class CipConnectionManagerResponse extends CipService implements Message
     // Reserved Field (reserved)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
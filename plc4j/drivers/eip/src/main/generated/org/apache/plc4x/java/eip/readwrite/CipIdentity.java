@@ -79,7 +79,10 @@ public class CipIdentity extends CommandSpecificDataItem implements Message {
     this.encapsulationProtocolVersion = encapsulationProtocolVersion;
     this.socketAddressFamily = socketAddressFamily;
     this.socketAddressPort = socketAddressPort;
-    this.socketAddressAddress = socketAddressAddress;
+    this.socketAddressAddress =
+        (socketAddressAddress == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(socketAddressAddress));
     this.vendorId = vendorId;
     this.deviceType = deviceType;
     this.productCode = productCode;
@@ -89,6 +92,8 @@ public class CipIdentity extends CommandSpecificDataItem implements Message {
     this.serialNumber = serialNumber;
     this.productName = productName;
     this.state = state;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getEncapsulationProtocolVersion() {
@@ -235,11 +240,16 @@ public class CipIdentity extends CommandSpecificDataItem implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CipIdentity _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (itemLength)
     lengthInBits += 16;
@@ -294,6 +304,7 @@ public class CipIdentity extends CommandSpecificDataItem implements Message {
     // Simple field (state)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
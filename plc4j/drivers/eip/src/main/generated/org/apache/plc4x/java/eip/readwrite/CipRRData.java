@@ -66,7 +66,10 @@ public class CipRRData extends EipPacket implements Message {
     super(sessionHandle, status, senderContext, options);
     this.interfaceHandle = interfaceHandle;
     this.timeout = timeout;
-    this.typeIds = typeIds;
+    this.typeIds =
+        (typeIds == null) ? null : Collections.unmodifiableList(new ArrayList<>(typeIds));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getInterfaceHandle() {
@@ -109,11 +112,16 @@ public class CipRRData extends EipPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CipRRData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (interfaceHandle)
     lengthInBits += 32;
@@ -133,6 +141,7 @@ public class CipRRData extends EipPacket implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
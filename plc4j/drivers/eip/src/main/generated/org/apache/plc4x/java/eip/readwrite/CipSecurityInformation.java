@@ -47,7 +47,12 @@ public class CipSecurityInformation extends CommandSpecificDataItem implements M
 
   public CipSecurityInformation(List<Short> todoImplement) {
     super();
-    this.todoImplement = todoImplement;
+    this.todoImplement =
+        (todoImplement == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(todoImplement));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Short> getTodoImplement() {
@@ -77,11 +82,16 @@ public class CipSecurityInformation extends CommandSpecificDataItem implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CipSecurityInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (itemLength)
     lengthInBits += 16;
@@ -91,6 +101,7 @@ public class CipSecurityInformation extends CommandSpecificDataItem implements M
       lengthInBits += 8 * todoImplement.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -72,6 +72,8 @@ public class CipUnconnectedRequest extends CipService implements Message {
     this.unconnectedService = unconnectedService;
     this.backPlane = backPlane;
     this.slot = slot;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PathSegment getClassSegment() {
@@ -146,11 +148,16 @@ public class CipUnconnectedRequest extends CipService implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CipUnconnectedRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (requestPathSize)
     lengthInBits += 8;
@@ -179,6 +186,7 @@ public class CipUnconnectedRequest extends CipService implements Message {
     // Simple field (slot)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class ClassSegment implements Message {
     this.logicalSegmentType = logicalSegmentType;
     this.logicalSegmentFormat = logicalSegmentFormat;
     this.classSegment = classSegment;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getPathSegmentType() {
@@ -97,11 +99,16 @@ public class ClassSegment implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ClassSegment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pathSegmentType)
     lengthInBits += 3;
@@ -115,6 +122,7 @@ public class ClassSegment implements Message {
     // Simple field (classSegment)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
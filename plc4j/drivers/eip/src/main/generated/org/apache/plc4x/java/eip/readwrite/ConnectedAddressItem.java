@@ -48,6 +48,8 @@ public class ConnectedAddressItem extends TypeId implements Message {
   public ConnectedAddressItem(long connectionId) {
     super();
     this.connectionId = connectionId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getConnectionId() {
@@ -74,11 +76,16 @@ public class ConnectedAddressItem extends TypeId implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ConnectedAddressItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 16;
@@ -86,6 +93,7 @@ public class ConnectedAddressItem extends TypeId implements Message {
     // Simple field (connectionId)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
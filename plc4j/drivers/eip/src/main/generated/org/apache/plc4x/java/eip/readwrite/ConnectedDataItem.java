@@ -50,6 +50,8 @@ public class ConnectedDataItem extends TypeId implements Message {
     super();
     this.sequenceCount = sequenceCount;
     this.service = service;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getSequenceCount() {
@@ -85,11 +87,16 @@ public class ConnectedDataItem extends TypeId implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ConnectedDataItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (packetSize)
     lengthInBits += 16;
@@ -100,6 +107,7 @@ public class ConnectedDataItem extends TypeId implements Message {
     // Simple field (service)
     lengthInBits += service.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
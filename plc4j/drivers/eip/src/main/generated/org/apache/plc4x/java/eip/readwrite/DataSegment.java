@@ -48,6 +48,8 @@ public class DataSegment extends PathSegment implements Message {
   public DataSegment(DataSegmentType segmentType) {
     super();
     this.segmentType = segmentType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DataSegmentType getSegmentType() {
@@ -71,15 +73,21 @@ public class DataSegment extends PathSegment implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DataSegment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (segmentType)
     lengthInBits += segmentType.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
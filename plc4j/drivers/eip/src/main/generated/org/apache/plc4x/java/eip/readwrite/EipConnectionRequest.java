@@ -56,6 +56,8 @@ public class EipConnectionRequest extends EipPacket implements Message {
 
   public EipConnectionRequest(long sessionHandle, long status, byte[] senderContext, long options) {
     super(sessionHandle, status, senderContext, options);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getProtocolVersion() {
@@ -86,11 +88,16 @@ public class EipConnectionRequest extends EipPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EipConnectionRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (protocolVersion)
     lengthInBits += 16;
@@ -98,6 +105,7 @@ public class EipConnectionRequest extends EipPacket implements Message {
     // Const Field (flags)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class EipConstants implements Message {
 
   public EipConstants() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getEipUdpDiscoveryDefaultPort() {
@@ -75,11 +77,16 @@ public class EipConstants implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     EipConstants _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (eipUdpDiscoveryDefaultPort)
     lengthInBits += 16;
@@ -87,6 +94,7 @@ public class EipConstants implements Message {
     // Const Field (eipTcpDefaultPort)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class EipDisconnectRequest extends EipPacket implements Message {
 
   public EipDisconnectRequest(long sessionHandle, long status, byte[] senderContext, long options) {
     super(sessionHandle, status, senderContext, options);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -68,12 +70,18 @@ public class EipDisconnectRequest extends EipPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EipDisconnectRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -60,7 +60,9 @@ public class EipListIdentityResponse extends EipPacket implements Message {
       long options,
       List<CommandSpecificDataItem> items) {
     super(sessionHandle, status, senderContext, options);
-    this.items = items;
+    this.items = (items == null) ? null : Collections.unmodifiableList(new ArrayList<>(items));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<CommandSpecificDataItem> getItems() {
@@ -89,11 +91,16 @@ public class EipListIdentityResponse extends EipPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EipListIdentityResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (itemCount)
     lengthInBits += 16;
@@ -107,6 +114,7 @@ public class EipListIdentityResponse extends EipPacket implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class GetAttributeAllRequest extends CipService implements Message {
     super();
     this.classSegment = classSegment;
     this.instanceSegment = instanceSegment;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PathSegment getClassSegment() {
@@ -96,11 +98,16 @@ public class GetAttributeAllRequest extends CipService implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     GetAttributeAllRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (requestPathSize)
     lengthInBits += 8;
@@ -111,6 +118,7 @@ public class GetAttributeAllRequest extends CipService implements Message {
     // Simple field (instanceSegment)
     lengthInBits += instanceSegment.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -60,6 +60,8 @@ public class GetAttributeAllResponse extends CipService implements Message {
     this.status = status;
     this.extStatus = extStatus;
     this.attributes = attributes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getStatus() {
@@ -100,11 +102,16 @@ public class GetAttributeAllResponse extends CipService implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     GetAttributeAllResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -120,6 +127,7 @@ public class GetAttributeAllResponse extends CipService implements Message {
       lengthInBits += attributes.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
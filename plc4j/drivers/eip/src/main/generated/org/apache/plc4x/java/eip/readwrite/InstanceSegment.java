@@ -50,6 +50,8 @@ public class InstanceSegment implements Message {
     this.logicalSegmentType = logicalSegmentType;
     this.logicalSegmentFormat = logicalSegmentFormat;
     this.instance = instance;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getPathSegmentType() {
@@ -94,11 +96,16 @@ public class InstanceSegment implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     InstanceSegment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pathSegmentType)
     lengthInBits += 3;
@@ -112,6 +119,7 @@ public class InstanceSegment implements Message {
     // Simple field (instance)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
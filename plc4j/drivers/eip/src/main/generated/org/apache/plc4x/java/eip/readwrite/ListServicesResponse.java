@@ -56,7 +56,10 @@ public class ListServicesResponse extends EipPacket implements Message {
   public ListServicesResponse(
       long sessionHandle, long status, byte[] senderContext, long options, List<TypeId> typeIds) {
     super(sessionHandle, status, senderContext, options);
-    this.typeIds = typeIds;
+    this.typeIds =
+        (typeIds == null) ? null : Collections.unmodifiableList(new ArrayList<>(typeIds));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<TypeId> getTypeIds() {
@@ -85,11 +88,16 @@ public class ListServicesResponse extends EipPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ListServicesResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (typeIdCount)
     lengthInBits += 16;
@@ -103,6 +111,7 @@ public class ListServicesResponse extends EipPacket implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
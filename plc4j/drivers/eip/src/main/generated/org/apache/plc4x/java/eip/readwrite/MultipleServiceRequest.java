@@ -60,6 +60,8 @@ public class MultipleServiceRequest extends CipService implements Message {
   public MultipleServiceRequest(Services data) {
     super();
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Services getData() {
@@ -97,11 +99,16 @@ public class MultipleServiceRequest extends CipService implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MultipleServiceRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (requestPathSize)
     lengthInBits += 8;
@@ -112,6 +119,7 @@ public class MultipleServiceRequest extends CipService implements Message {
     // Simple field (data)
     lengthInBits += data.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
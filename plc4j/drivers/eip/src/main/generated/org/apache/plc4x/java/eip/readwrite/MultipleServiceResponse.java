@@ -63,8 +63,11 @@ public class MultipleServiceResponse extends CipService implements Message {
     this.status = status;
     this.extStatus = extStatus;
     this.serviceNb = serviceNb;
-    this.offsets = offsets;
+    this.offsets =
+        (offsets == null) ? null : Collections.unmodifiableList(new ArrayList<>(offsets));
     this.servicesData = servicesData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getStatus() {
@@ -119,11 +122,16 @@ public class MultipleServiceResponse extends CipService implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MultipleServiceResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -147,6 +155,7 @@ public class MultipleServiceResponse extends CipService implements Message {
       lengthInBits += 8 * servicesData.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
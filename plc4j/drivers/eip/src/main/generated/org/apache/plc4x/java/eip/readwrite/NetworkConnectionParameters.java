@@ -56,6 +56,8 @@ public class NetworkConnectionParameters implements Message {
     this.connectionType = connectionType;
     this.priority = priority;
     this.connectionSizeType = connectionSizeType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getConnectionSize() {
@@ -115,11 +117,16 @@ public class NetworkConnectionParameters implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     NetworkConnectionParameters _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (connectionSize)
     lengthInBits += 16;
@@ -145,6 +152,7 @@ public class NetworkConnectionParameters implements Message {
     // Reserved Field (reserved)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class PortSegmentExtended extends PortSegmentType implements Message {
     this.port = port;
     this.linkAddressSize = linkAddressSize;
     this.address = address;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getPort() {
@@ -101,11 +103,16 @@ public class PortSegmentExtended extends PortSegmentType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PortSegmentExtended _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (port)
     lengthInBits += 4;
@@ -118,6 +125,7 @@ public class PortSegmentExtended extends PortSegmentType implements Message {
     // Simple field (address)
     lengthInBits += (((getLinkAddressSize()) * (8))) + (((getPaddingByte()) * (8)));
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
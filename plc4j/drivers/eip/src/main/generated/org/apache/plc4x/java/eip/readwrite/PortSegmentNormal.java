@@ -50,6 +50,8 @@ public class PortSegmentNormal extends PortSegmentType implements Message {
     super();
     this.port = port;
     this.linkAddress = linkAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getPort() {
@@ -81,11 +83,16 @@ public class PortSegmentNormal extends PortSegmentType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PortSegmentNormal _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (port)
     lengthInBits += 4;
@@ -93,6 +100,7 @@ public class PortSegmentNormal extends PortSegmentType implements Message {
     // Simple field (linkAddress)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
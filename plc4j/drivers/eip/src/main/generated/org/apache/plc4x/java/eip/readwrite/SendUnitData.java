@@ -66,7 +66,10 @@ public class SendUnitData extends EipPacket implements Message {
       List<TypeId> typeIds) {
     super(sessionHandle, status, senderContext, options);
     this.timeout = timeout;
-    this.typeIds = typeIds;
+    this.typeIds =
+        (typeIds == null) ? null : Collections.unmodifiableList(new ArrayList<>(typeIds));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getTimeout() {
@@ -109,11 +112,16 @@ public class SendUnitData extends EipPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SendUnitData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (interfaceHandle)
     lengthInBits += 32;
@@ -133,6 +141,7 @@ public class SendUnitData extends EipPacket implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
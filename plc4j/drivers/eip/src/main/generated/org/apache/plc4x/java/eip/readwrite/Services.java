@@ -43,8 +43,12 @@ public class Services implements Message {
 
   public Services(List<Integer> offsets, List<CipService> services) {
     super();
-    this.offsets = offsets;
-    this.services = services;
+    this.offsets =
+        (offsets == null) ? null : Collections.unmodifiableList(new ArrayList<>(offsets));
+    this.services =
+        (services == null) ? null : Collections.unmodifiableList(new ArrayList<>(services));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Integer> getOffsets() {
@@ -79,11 +83,16 @@ public class Services implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Services _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (serviceNb)
     lengthInBits += 16;
@@ -102,6 +111,7 @@ public class Services implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class ServicesResponse extends TypeId implements Message {
     this.supportsCIPEncapsulation = supportsCIPEncapsulation;
     this.supportsUDP = supportsUDP;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getEncapsulationProtocol() {
@@ -115,11 +117,16 @@ public class ServicesResponse extends TypeId implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ServicesResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (serviceLen)
     lengthInBits += 16;
@@ -144,6 +151,7 @@ public class ServicesResponse extends TypeId implements Message {
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
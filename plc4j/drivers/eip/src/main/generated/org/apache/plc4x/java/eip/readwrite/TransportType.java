@@ -47,6 +47,8 @@ public class TransportType implements Message {
     this.direction = direction;
     this.trigger = trigger;
     this.classTransport = classTransport;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getDirection() {
@@ -83,11 +85,16 @@ public class TransportType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     TransportType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (direction)
     lengthInBits += 1;
@@ -98,6 +105,7 @@ public class TransportType implements Message {
     // Simple field (classTransport)
     lengthInBits += 4;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
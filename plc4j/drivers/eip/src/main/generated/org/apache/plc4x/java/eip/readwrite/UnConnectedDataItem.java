@@ -48,6 +48,8 @@ public class UnConnectedDataItem extends TypeId implements Message {
   public UnConnectedDataItem(CipService service) {
     super();
     this.service = service;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public CipService getService() {
@@ -76,11 +78,16 @@ public class UnConnectedDataItem extends TypeId implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     UnConnectedDataItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (packetSize)
     lengthInBits += 16;
@@ -88,6 +95,7 @@ public class UnConnectedDataItem extends TypeId implements Message {
     // Simple field (service)
     lengthInBits += service.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class FirmataCommandSetDigitalPinValue extends FirmataCommand implements
     super();
     this.pin = pin;
     this.on = on;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getPin() {
@@ -84,11 +86,16 @@ public class FirmataCommandSetDigitalPinValue extends FirmataCommand implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     FirmataCommandSetDigitalPinValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pin)
     lengthInBits += 8;
@@ -99,6 +106,7 @@ public class FirmataCommandSetDigitalPinValue extends FirmataCommand implements
     // Simple field (on)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
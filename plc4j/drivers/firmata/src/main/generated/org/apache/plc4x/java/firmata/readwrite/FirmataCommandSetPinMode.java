@@ -50,6 +50,8 @@ public class FirmataCommandSetPinMode extends FirmataCommand implements Message
     super();
     this.pin = pin;
     this.mode = mode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getPin() {
@@ -85,11 +87,16 @@ public class FirmataCommandSetPinMode extends FirmataCommand implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     FirmataCommandSetPinMode _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pin)
     lengthInBits += 8;
@@ -97,6 +104,7 @@ public class FirmataCommandSetPinMode extends FirmataCommand implements Message
     // Simple field (mode)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class FirmataCommandSysex extends FirmataCommand implements Message {
   public FirmataCommandSysex(SysexCommand command) {
     super();
     this.command = command;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SysexCommand getCommand() {
@@ -75,11 +77,16 @@ public class FirmataCommandSysex extends FirmataCommand implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     FirmataCommandSysex _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (command)
     lengthInBits += command.getLengthInBits();
@@ -87,6 +94,7 @@ public class FirmataCommandSysex extends FirmataCommand implements Message {
     // Reserved Field (reserved)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,7 +49,9 @@ public class FirmataMessageAnalogIO extends FirmataMessage implements Message {
   public FirmataMessageAnalogIO(byte pin, List<Byte> data) {
     super();
     this.pin = pin;
-    this.data = data;
+    this.data = (data == null) ? null : Collections.unmodifiableList(new ArrayList<>(data));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getPin() {
@@ -89,11 +91,16 @@ public class FirmataMessageAnalogIO extends FirmataMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     FirmataMessageAnalogIO _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pin)
     lengthInBits += 4;
@@ -103,6 +110,7 @@ public class FirmataMessageAnalogIO extends FirmataMessage implements Message {
       lengthInBits += 8 * data.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
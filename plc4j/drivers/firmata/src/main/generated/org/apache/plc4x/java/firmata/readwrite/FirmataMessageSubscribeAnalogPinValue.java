@@ -50,6 +50,8 @@ public class FirmataMessageSubscribeAnalogPinValue extends FirmataMessage implem
     super();
     this.pin = pin;
     this.enable = enable;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getPin() {
@@ -96,11 +98,16 @@ public class FirmataMessageSubscribeAnalogPinValue extends FirmataMessage implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     FirmataMessageSubscribeAnalogPinValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pin)
     lengthInBits += 4;
@@ -111,6 +118,7 @@ public class FirmataMessageSubscribeAnalogPinValue extends FirmataMessage implem
     // Simple field (enable)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class SysexCommandAnalogMappingQueryResponse extends SysexCommand impleme
   public SysexCommandAnalogMappingQueryResponse(short pin) {
     super();
     this.pin = pin;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getPin() {
@@ -75,15 +77,21 @@ public class SysexCommandAnalogMappingQueryResponse extends SysexCommand impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SysexCommandAnalogMappingQueryResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pin)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -51,7 +51,9 @@ public class SysexCommandExtendedId extends SysexCommand implements Message {
 
   public SysexCommandExtendedId(List<Byte> id) {
     super();
-    this.id = id;
+    this.id = (id == null) ? null : Collections.unmodifiableList(new ArrayList<>(id));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Byte> getId() {
@@ -75,17 +77,23 @@ public class SysexCommandExtendedId extends SysexCommand implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SysexCommandExtendedId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (id != null) {
       lengthInBits += 8 * id.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
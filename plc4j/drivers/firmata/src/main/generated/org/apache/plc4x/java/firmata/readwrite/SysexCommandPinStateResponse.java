@@ -56,6 +56,8 @@ public class SysexCommandPinStateResponse extends SysexCommand implements Messag
     this.pin = pin;
     this.pinMode = pinMode;
     this.pinState = pinState;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getPin() {
@@ -93,11 +95,16 @@ public class SysexCommandPinStateResponse extends SysexCommand implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SysexCommandPinStateResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pin)
     lengthInBits += 8;
@@ -108,6 +115,7 @@ public class SysexCommandPinStateResponse extends SysexCommand implements Messag
     // Simple field (pinState)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,6 +57,8 @@ public class SysexCommandReportFirmwareResponse extends SysexCommand implements
     this.majorVersion = majorVersion;
     this.minorVersion = minorVersion;
     this.fileName = fileName;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getMajorVersion() {
@@ -100,11 +102,16 @@ public class SysexCommandReportFirmwareResponse extends SysexCommand implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SysexCommandReportFirmwareResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (majorVersion)
     lengthInBits += 8;
@@ -116,6 +123,7 @@ public class SysexCommandReportFirmwareResponse extends SysexCommand implements
     lengthInBits +=
         org.apache.plc4x.java.firmata.readwrite.utils.StaticHelper.lengthSysexString(fileName) * 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
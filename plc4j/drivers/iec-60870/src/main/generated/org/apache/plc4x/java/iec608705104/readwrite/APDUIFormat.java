@@ -47,6 +47,8 @@ public class APDUIFormat extends APDU implements Message {
     super(command);
     this.receiveSequenceNo = receiveSequenceNo;
     this.asdu = asdu;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getReceiveSequenceNo() {
@@ -82,11 +84,16 @@ public class APDUIFormat extends APDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     APDUIFormat _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (receiveSequenceNo)
     lengthInBits += 16;
@@ -94,6 +101,7 @@ public class APDUIFormat extends APDU implements Message {
     // Simple field (asdu)
     lengthInBits += asdu.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
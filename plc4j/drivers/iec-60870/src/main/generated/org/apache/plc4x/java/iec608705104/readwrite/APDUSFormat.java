@@ -45,6 +45,8 @@ public class APDUSFormat extends APDU implements Message {
   public APDUSFormat(int command, int receiveSequenceNo) {
     super(command);
     this.receiveSequenceNo = receiveSequenceNo;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getReceiveSequenceNo() {
@@ -72,15 +74,21 @@ public class APDUSFormat extends APDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     APDUSFormat _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (receiveSequenceNo)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
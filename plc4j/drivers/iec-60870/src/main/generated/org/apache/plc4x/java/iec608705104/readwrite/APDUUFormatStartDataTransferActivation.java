@@ -41,6 +41,8 @@ public class APDUUFormatStartDataTransferActivation extends APDU implements Mess
 
   public APDUUFormatStartDataTransferActivation(int command) {
     super(command);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -65,11 +67,16 @@ public class APDUUFormatStartDataTransferActivation extends APDU implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     APDUUFormatStartDataTransferActivation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Padding Field (padding)
     int _timesPadding = (int) (2);
@@ -77,6 +84,7 @@ public class APDUUFormatStartDataTransferActivation extends APDU implements Mess
       lengthInBits += 8;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -42,7 +42,9 @@ public class APDUs implements Message {
 
   public APDUs(List<APDU> apdus) {
     super();
-    this.apdus = apdus;
+    this.apdus = (apdus == null) ? null : Collections.unmodifiableList(new ArrayList<>(apdus));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<APDU> getApdus() {
@@ -65,11 +67,16 @@ public class APDUs implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     APDUs _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (apdus != null) {
@@ -78,6 +85,7 @@ public class APDUs implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
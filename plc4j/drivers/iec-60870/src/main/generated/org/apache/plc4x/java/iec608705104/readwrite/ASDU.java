@@ -64,7 +64,12 @@ public class ASDU implements Message {
     this.causeOfTransmission = causeOfTransmission;
     this.originatorAddress = originatorAddress;
     this.asduAddressField = asduAddressField;
-    this.informationObjects = informationObjects;
+    this.informationObjects =
+        (informationObjects == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(informationObjects));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public TypeIdentification getTypeIdentification() {
@@ -182,11 +187,16 @@ public class ASDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ASDU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (typeIdentification)
     lengthInBits += 8;
@@ -221,6 +231,7 @@ public class ASDU implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -39,6 +39,8 @@ public class AcknowledgeFileOrSectionQualifier implements Message {
 
   public AcknowledgeFileOrSectionQualifier() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public void serialize(WriteBuffer writeBuffer) throws SerializationException {
@@ -54,12 +56,18 @@ public class AcknowledgeFileOrSectionQualifier implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AcknowledgeFileOrSectionQualifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class BinaryCounterReading implements Message {
     this.counterAdjusted = counterAdjusted;
     this.carry = carry;
     this.sequenceNumber = sequenceNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCounterValue() {
@@ -126,11 +128,16 @@ public class BinaryCounterReading implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BinaryCounterReading _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (counterValue)
     lengthInBits += 32;
@@ -147,6 +154,7 @@ public class BinaryCounterReading implements Message {
     // Simple field (sequenceNumber)
     lengthInBits += 5;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class BinaryStateInformation implements Message {
   public BinaryStateInformation(long bits) {
     super();
     this.bits = bits;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getBits() {
@@ -69,15 +71,21 @@ public class BinaryStateInformation implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     BinaryStateInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bits)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
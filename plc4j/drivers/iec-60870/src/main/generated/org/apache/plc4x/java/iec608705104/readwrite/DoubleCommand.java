@@ -45,6 +45,8 @@ public class DoubleCommand implements Message {
     super();
     this.qoc = qoc;
     this.dcs = dcs;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public QualifierOfCommand getQoc() {
@@ -79,11 +81,16 @@ public class DoubleCommand implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DoubleCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (qoc)
     lengthInBits += qoc.getLengthInBits();
@@ -91,6 +98,7 @@ public class DoubleCommand implements Message {
     // Simple field (dcs)
     lengthInBits += 2;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,6 +57,8 @@ public class InformationObjectWithSevenByteTime_BITSTRING_OF_32_BIT
     this.bsi = bsi;
     this.qds = qds;
     this.cp56Time2a = cp56Time2a;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BinaryStateInformation getBsi() {
@@ -101,11 +103,16 @@ public class InformationObjectWithSevenByteTime_BITSTRING_OF_32_BIT
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithSevenByteTime_BITSTRING_OF_32_BIT _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bsi)
     lengthInBits += bsi.getLengthInBits();
@@ -116,6 +123,7 @@ public class InformationObjectWithSevenByteTime_BITSTRING_OF_32_BIT
     // Simple field (cp56Time2a)
     lengthInBits += cp56Time2a.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class InformationObjectWithSevenByteTime_MEASURED_VALUE_NORMALISED_VALUE
     this.nva = nva;
     this.qds = qds;
     this.cp56Time2a = cp56Time2a;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NormalizedValue getNva() {
@@ -98,11 +100,16 @@ public class InformationObjectWithSevenByteTime_MEASURED_VALUE_NORMALISED_VALUE
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithSevenByteTime_MEASURED_VALUE_NORMALISED_VALUE _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nva)
     lengthInBits += nva.getLengthInBits();
@@ -113,6 +120,7 @@ public class InformationObjectWithSevenByteTime_MEASURED_VALUE_NORMALISED_VALUE
     // Simple field (cp56Time2a)
     lengthInBits += cp56Time2a.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
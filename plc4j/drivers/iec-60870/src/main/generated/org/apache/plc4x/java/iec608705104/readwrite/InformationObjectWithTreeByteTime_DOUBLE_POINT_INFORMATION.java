@@ -52,6 +52,8 @@ public class InformationObjectWithTreeByteTime_DOUBLE_POINT_INFORMATION
     super(address);
     this.diq = diq;
     this.cp24Time2a = cp24Time2a;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DoublePointInformation getDiq() {
@@ -88,11 +90,16 @@ public class InformationObjectWithTreeByteTime_DOUBLE_POINT_INFORMATION
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithTreeByteTime_DOUBLE_POINT_INFORMATION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (diq)
     lengthInBits += diq.getLengthInBits();
@@ -100,6 +107,7 @@ public class InformationObjectWithTreeByteTime_DOUBLE_POINT_INFORMATION
     // Simple field (cp24Time2a)
     lengthInBits += cp24Time2a.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
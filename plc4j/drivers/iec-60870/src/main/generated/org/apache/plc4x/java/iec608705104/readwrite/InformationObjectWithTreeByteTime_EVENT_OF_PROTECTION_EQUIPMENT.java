@@ -52,6 +52,8 @@ public class InformationObjectWithTreeByteTime_EVENT_OF_PROTECTION_EQUIPMENT
     super(address);
     this.cp16Time2a = cp16Time2a;
     this.cp24Time2a = cp24Time2a;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public TwoOctetBinaryTime getCp16Time2a() {
@@ -91,11 +93,16 @@ public class InformationObjectWithTreeByteTime_EVENT_OF_PROTECTION_EQUIPMENT
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithTreeByteTime_EVENT_OF_PROTECTION_EQUIPMENT _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (cp16Time2a)
     lengthInBits += cp16Time2a.getLengthInBits();
@@ -103,6 +110,7 @@ public class InformationObjectWithTreeByteTime_EVENT_OF_PROTECTION_EQUIPMENT
     // Simple field (cp24Time2a)
     lengthInBits += cp24Time2a.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class InformationObjectWithTreeByteTime_INTEGRATED_TOTALS
     super(address);
     this.bcr = bcr;
     this.cp24Time2a = cp24Time2a;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BinaryCounterReading getBcr() {
@@ -88,11 +90,16 @@ public class InformationObjectWithTreeByteTime_INTEGRATED_TOTALS
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithTreeByteTime_INTEGRATED_TOTALS _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bcr)
     lengthInBits += bcr.getLengthInBits();
@@ -100,6 +107,7 @@ public class InformationObjectWithTreeByteTime_INTEGRATED_TOTALS
     // Simple field (cp24Time2a)
     lengthInBits += cp24Time2a.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
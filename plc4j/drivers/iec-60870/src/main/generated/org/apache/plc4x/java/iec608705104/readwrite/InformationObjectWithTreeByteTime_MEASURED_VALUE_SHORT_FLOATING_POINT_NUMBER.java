@@ -54,6 +54,8 @@ public class InformationObjectWithTreeByteTime_MEASURED_VALUE_SHORT_FLOATING_POI
     this.value = value;
     this.qds = qds;
     this.cp24Time2a = cp24Time2a;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public float getValue() {
@@ -103,11 +105,16 @@ public class InformationObjectWithTreeByteTime_MEASURED_VALUE_SHORT_FLOATING_POI
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithTreeByteTime_MEASURED_VALUE_SHORT_FLOATING_POINT_NUMBER _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += 32;
@@ -118,6 +125,7 @@ public class InformationObjectWithTreeByteTime_MEASURED_VALUE_SHORT_FLOATING_POI
     // Simple field (cp24Time2a)
     lengthInBits += cp24Time2a.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
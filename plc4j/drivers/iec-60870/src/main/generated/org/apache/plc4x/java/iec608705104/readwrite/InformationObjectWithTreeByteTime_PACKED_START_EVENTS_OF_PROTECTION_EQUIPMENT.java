@@ -60,6 +60,8 @@ public class InformationObjectWithTreeByteTime_PACKED_START_EVENTS_OF_PROTECTION
     this.qdp = qdp;
     this.cp16Time2a = cp16Time2a;
     this.cp24Time2a = cp24Time2a;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SingleEventOfProtectionEquipment getSep() {
@@ -117,11 +119,16 @@ public class InformationObjectWithTreeByteTime_PACKED_START_EVENTS_OF_PROTECTION
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithTreeByteTime_PACKED_START_EVENTS_OF_PROTECTION_EQUIPMENT _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sep)
     lengthInBits += sep.getLengthInBits();
@@ -135,6 +142,7 @@ public class InformationObjectWithTreeByteTime_PACKED_START_EVENTS_OF_PROTECTION
     // Simple field (cp24Time2a)
     lengthInBits += cp24Time2a.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
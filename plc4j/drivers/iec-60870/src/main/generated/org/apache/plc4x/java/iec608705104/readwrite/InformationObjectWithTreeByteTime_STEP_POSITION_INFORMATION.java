@@ -57,6 +57,8 @@ public class InformationObjectWithTreeByteTime_STEP_POSITION_INFORMATION
     this.vti = vti;
     this.qds = qds;
     this.cp24Time2a = cp24Time2a;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ValueWithTransientStateIndication getVti() {
@@ -101,11 +103,16 @@ public class InformationObjectWithTreeByteTime_STEP_POSITION_INFORMATION
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithTreeByteTime_STEP_POSITION_INFORMATION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vti)
     lengthInBits += vti.getLengthInBits();
@@ -116,6 +123,7 @@ public class InformationObjectWithTreeByteTime_STEP_POSITION_INFORMATION
     // Simple field (cp24Time2a)
     lengthInBits += cp24Time2a.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
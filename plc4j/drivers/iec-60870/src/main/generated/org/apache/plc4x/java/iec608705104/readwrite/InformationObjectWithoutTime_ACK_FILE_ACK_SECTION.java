@@ -54,6 +54,8 @@ public class InformationObjectWithoutTime_ACK_FILE_ACK_SECTION extends Informati
     this.nof = nof;
     this.nos = nos;
     this.afq = afq;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NameOfFile getNof() {
@@ -95,11 +97,16 @@ public class InformationObjectWithoutTime_ACK_FILE_ACK_SECTION extends Informati
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_ACK_FILE_ACK_SECTION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nof)
     lengthInBits += nof.getLengthInBits();
@@ -110,6 +117,7 @@ public class InformationObjectWithoutTime_ACK_FILE_ACK_SECTION extends Informati
     // Simple field (afq)
     lengthInBits += afq.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class InformationObjectWithoutTime_BITSTRING_32_BIT_COMMAND
       int address, BinaryStateInformation bsi) {
     super(address);
     this.bsi = bsi;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BinaryStateInformation getBsi() {
@@ -75,15 +77,21 @@ public class InformationObjectWithoutTime_BITSTRING_32_BIT_COMMAND
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_BITSTRING_32_BIT_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bsi)
     lengthInBits += bsi.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
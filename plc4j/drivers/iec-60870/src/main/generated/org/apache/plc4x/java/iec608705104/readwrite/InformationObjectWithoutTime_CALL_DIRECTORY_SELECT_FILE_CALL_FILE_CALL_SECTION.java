@@ -54,6 +54,8 @@ public class InformationObjectWithoutTime_CALL_DIRECTORY_SELECT_FILE_CALL_FILE_C
     this.nof = nof;
     this.nos = nos;
     this.scq = scq;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NameOfFile getNof() {
@@ -97,11 +99,16 @@ public class InformationObjectWithoutTime_CALL_DIRECTORY_SELECT_FILE_CALL_FILE_C
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_CALL_DIRECTORY_SELECT_FILE_CALL_FILE_CALL_SECTION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nof)
     lengthInBits += nof.getLengthInBits();
@@ -112,6 +119,7 @@ public class InformationObjectWithoutTime_CALL_DIRECTORY_SELECT_FILE_CALL_FILE_C
     // Simple field (scq)
     lengthInBits += scq.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class InformationObjectWithoutTime_DELAY_ACQUISITION_COMMAND
       int address, TwoOctetBinaryTime cp16Time2a) {
     super(address);
     this.cp16Time2a = cp16Time2a;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public TwoOctetBinaryTime getCp16Time2a() {
@@ -78,15 +80,21 @@ public class InformationObjectWithoutTime_DELAY_ACQUISITION_COMMAND
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_DELAY_ACQUISITION_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (cp16Time2a)
     lengthInBits += cp16Time2a.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -60,6 +60,8 @@ public class InformationObjectWithoutTime_DIRECTORY extends InformationObjectWit
     this.lof = lof;
     this.sof = sof;
     this.cp56Time2a = cp56Time2a;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NameOfFile getNof() {
@@ -112,11 +114,16 @@ public class InformationObjectWithoutTime_DIRECTORY extends InformationObjectWit
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_DIRECTORY _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nof)
     lengthInBits += nof.getLengthInBits();
@@ -130,6 +137,7 @@ public class InformationObjectWithoutTime_DIRECTORY extends InformationObjectWit
     // Simple field (cp56Time2a)
     lengthInBits += cp56Time2a.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class InformationObjectWithoutTime_DOUBLE_COMMAND extends InformationObje
   public InformationObjectWithoutTime_DOUBLE_COMMAND(int address, DoubleCommand dco) {
     super(address);
     this.dco = dco;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DoubleCommand getDco() {
@@ -74,15 +76,21 @@ public class InformationObjectWithoutTime_DOUBLE_COMMAND extends InformationObje
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_DOUBLE_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dco)
     lengthInBits += dco.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class InformationObjectWithoutTime_DOUBLE_POINT_INFORMATION
       int address, DoublePointInformation diq) {
     super(address);
     this.diq = diq;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DoublePointInformation getDiq() {
@@ -75,15 +77,21 @@ public class InformationObjectWithoutTime_DOUBLE_POINT_INFORMATION
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_DOUBLE_POINT_INFORMATION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (diq)
     lengthInBits += diq.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class InformationObjectWithoutTime_END_OF_INITIALISATION extends Informat
       int address, CauseOfInitialization coi) {
     super(address);
     this.coi = coi;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public CauseOfInitialization getCoi() {
@@ -75,15 +77,21 @@ public class InformationObjectWithoutTime_END_OF_INITIALISATION extends Informat
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_END_OF_INITIALISATION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (coi)
     lengthInBits += coi.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
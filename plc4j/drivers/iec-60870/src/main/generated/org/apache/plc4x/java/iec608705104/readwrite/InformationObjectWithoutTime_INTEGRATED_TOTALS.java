@@ -49,6 +49,8 @@ public class InformationObjectWithoutTime_INTEGRATED_TOTALS extends InformationO
   public InformationObjectWithoutTime_INTEGRATED_TOTALS(int address, BinaryCounterReading bcr) {
     super(address);
     this.bcr = bcr;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public BinaryCounterReading getBcr() {
@@ -74,15 +76,21 @@ public class InformationObjectWithoutTime_INTEGRATED_TOTALS extends InformationO
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_INTEGRATED_TOTALS _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bcr)
     lengthInBits += bcr.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
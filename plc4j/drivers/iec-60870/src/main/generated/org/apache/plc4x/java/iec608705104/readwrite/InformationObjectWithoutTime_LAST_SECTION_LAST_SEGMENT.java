@@ -60,6 +60,8 @@ public class InformationObjectWithoutTime_LAST_SECTION_LAST_SEGMENT
     this.nos = nos;
     this.lsq = lsq;
     this.chs = chs;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NameOfFile getNof() {
@@ -109,11 +111,16 @@ public class InformationObjectWithoutTime_LAST_SECTION_LAST_SEGMENT
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_LAST_SECTION_LAST_SEGMENT _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nof)
     lengthInBits += nof.getLengthInBits();
@@ -127,6 +134,7 @@ public class InformationObjectWithoutTime_LAST_SECTION_LAST_SEGMENT
     // Simple field (chs)
     lengthInBits += chs.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_NORMALIZED_VALUE_WITHOU
       int address, NormalizedValue nva) {
     super(address);
     this.nva = nva;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NormalizedValue getNva() {
@@ -77,16 +79,22 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_NORMALIZED_VALUE_WITHOU
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_MEASURED_VALUE_NORMALIZED_VALUE_WITHOUT_QUALITY_DESCRIPTOR _value =
         this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nva)
     lengthInBits += nva.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
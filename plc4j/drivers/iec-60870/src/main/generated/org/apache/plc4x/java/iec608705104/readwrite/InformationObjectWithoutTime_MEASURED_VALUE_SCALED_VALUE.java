@@ -52,6 +52,8 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_SCALED_VALUE
     super(address);
     this.sva = sva;
     this.qds = qds;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ScaledValue getSva() {
@@ -85,11 +87,16 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_SCALED_VALUE
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_MEASURED_VALUE_SCALED_VALUE _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sva)
     lengthInBits += sva.getLengthInBits();
@@ -97,6 +104,7 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_SCALED_VALUE
     // Simple field (qds)
     lengthInBits += qds.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_SHORT_FLOATING_POINT_NU
     super(address);
     this.value = value;
     this.qds = qds;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public float getValue() {
@@ -90,11 +92,16 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_SHORT_FLOATING_POINT_NU
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_MEASURED_VALUE_SHORT_FLOATING_POINT_NUMBER _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += 32;
@@ -102,6 +109,7 @@ public class InformationObjectWithoutTime_MEASURED_VALUE_SHORT_FLOATING_POINT_NU
     // Simple field (qds)
     lengthInBits += qds.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ class InformationObjectWithoutTime_PACKED_SINGLE_POINT_INFORMATION_WITH_STATUS_C
     super(address);
     this.scd = scd;
     this.qds = qds;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusChangeDetection getScd() {
@@ -88,12 +90,17 @@ class InformationObjectWithoutTime_PACKED_SINGLE_POINT_INFORMATION_WITH_STATUS_C
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_PACKED_SINGLE_POINT_INFORMATION_WITH_STATUS_CHANGE_DETECTION
         _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (scd)
     lengthInBits += scd.getLengthInBits();
@@ -101,6 +108,7 @@ class InformationObjectWithoutTime_PACKED_SINGLE_POINT_INFORMATION_WITH_STATUS_C
     // Simple field (qds)
     lengthInBits += qds.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_NORMALIZE
     super(address);
     this.nva = nva;
     this.qpm = qpm;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NormalizedValue getNva() {
@@ -87,11 +89,16 @@ public class InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_NORMALIZE
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_NORMALIZED_VALUE _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nva)
     lengthInBits += nva.getLengthInBits();
@@ -99,6 +106,7 @@ public class InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_NORMALIZE
     // Simple field (qpm)
     lengthInBits += qpm.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
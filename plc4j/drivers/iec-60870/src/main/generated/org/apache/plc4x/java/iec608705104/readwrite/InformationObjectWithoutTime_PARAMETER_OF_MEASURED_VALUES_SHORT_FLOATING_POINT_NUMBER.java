@@ -52,6 +52,8 @@ public class InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_SHORT_FLO
     super(address);
     this.value = value;
     this.qpm = qpm;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public float getValue() {
@@ -90,12 +92,17 @@ public class InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_SHORT_FLO
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_SHORT_FLOATING_POINT_NUMBER _value =
         this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += 32;
@@ -103,6 +110,7 @@ public class InformationObjectWithoutTime_PARAMETER_OF_MEASURED_VALUES_SHORT_FLO
     // Simple field (qpm)
     lengthInBits += qpm.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class InformationObjectWithoutTime_SECTION_READY extends InformationObjec
     this.nos = nos;
     this.lof = lof;
     this.srq = srq;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NameOfFile getNof() {
@@ -105,11 +107,16 @@ public class InformationObjectWithoutTime_SECTION_READY extends InformationObjec
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_SECTION_READY _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nof)
     lengthInBits += nof.getLengthInBits();
@@ -123,6 +130,7 @@ public class InformationObjectWithoutTime_SECTION_READY extends InformationObjec
     // Simple field (srq)
     lengthInBits += srq.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
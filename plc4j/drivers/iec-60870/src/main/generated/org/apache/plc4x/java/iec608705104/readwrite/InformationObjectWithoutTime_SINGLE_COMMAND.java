@@ -49,6 +49,8 @@ public class InformationObjectWithoutTime_SINGLE_COMMAND extends InformationObje
   public InformationObjectWithoutTime_SINGLE_COMMAND(int address, SingleCommand sco) {
     super(address);
     this.sco = sco;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SingleCommand getSco() {
@@ -74,15 +76,21 @@ public class InformationObjectWithoutTime_SINGLE_COMMAND extends InformationObje
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_SINGLE_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sco)
     lengthInBits += sco.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class InformationObjectWithoutTime_STEP_POSITION_INFORMATION
     super(address);
     this.vti = vti;
     this.qds = qds;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ValueWithTransientStateIndication getVti() {
@@ -85,11 +87,16 @@ public class InformationObjectWithoutTime_STEP_POSITION_INFORMATION
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_STEP_POSITION_INFORMATION _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vti)
     lengthInBits += vti.getLengthInBits();
@@ -97,6 +104,7 @@ public class InformationObjectWithoutTime_STEP_POSITION_INFORMATION
     // Simple field (qds)
     lengthInBits += qds.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class InformationObjectWithoutTime_TEST_COMMAND extends InformationObject
   public InformationObjectWithoutTime_TEST_COMMAND(int address, FixedTestBitPatternTwoOctet fbp) {
     super(address);
     this.fbp = fbp;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public FixedTestBitPatternTwoOctet getFbp() {
@@ -74,15 +76,21 @@ public class InformationObjectWithoutTime_TEST_COMMAND extends InformationObject
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     InformationObjectWithoutTime_TEST_COMMAND _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fbp)
     lengthInBits += fbp.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
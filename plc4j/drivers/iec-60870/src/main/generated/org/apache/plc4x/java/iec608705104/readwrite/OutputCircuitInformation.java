@@ -53,6 +53,8 @@ public class OutputCircuitInformation implements Message {
     this.stateOfOperationPhaseL2 = stateOfOperationPhaseL2;
     this.stateOfOperationPhaseL1 = stateOfOperationPhaseL1;
     this.generalStartOfOperation = generalStartOfOperation;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getStateOfOperationPhaseL3() {
@@ -119,11 +121,16 @@ public class OutputCircuitInformation implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     OutputCircuitInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 4;
@@ -140,6 +147,7 @@ public class OutputCircuitInformation implements Message {
     // Simple field (generalStartOfOperation)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class QualifierOfCounterInterrogationCommand implements Message {
     super();
     this.freeze = freeze;
     this.request = request;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getFreeze() {
@@ -82,11 +84,16 @@ public class QualifierOfCounterInterrogationCommand implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     QualifierOfCounterInterrogationCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (freeze)
     lengthInBits += 2;
@@ -94,6 +101,7 @@ public class QualifierOfCounterInterrogationCommand implements Message {
     // Simple field (request)
     lengthInBits += 6;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class QualifierOfInterrogation implements Message {
   public QualifierOfInterrogation(short qualifierOfCommand) {
     super();
     this.qualifierOfCommand = qualifierOfCommand;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getQualifierOfCommand() {
@@ -69,15 +71,21 @@ public class QualifierOfInterrogation implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     QualifierOfInterrogation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (qualifierOfCommand)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
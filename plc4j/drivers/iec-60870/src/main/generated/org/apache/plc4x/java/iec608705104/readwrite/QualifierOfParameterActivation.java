@@ -43,6 +43,8 @@ public class QualifierOfParameterActivation implements Message {
   public QualifierOfParameterActivation(short qualifier) {
     super();
     this.qualifier = qualifier;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getQualifier() {
@@ -69,15 +71,21 @@ public class QualifierOfParameterActivation implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     QualifierOfParameterActivation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (qualifier)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
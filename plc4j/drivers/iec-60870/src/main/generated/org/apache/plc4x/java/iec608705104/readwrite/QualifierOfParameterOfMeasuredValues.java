@@ -48,6 +48,8 @@ public class QualifierOfParameterOfMeasuredValues implements Message {
     this.parameterInOperation = parameterInOperation;
     this.localParameterChange = localParameterChange;
     this.kindOfParameter = kindOfParameter;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getParameterInOperation() {
@@ -96,11 +98,16 @@ public class QualifierOfParameterOfMeasuredValues implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     QualifierOfParameterOfMeasuredValues _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (parameterInOperation)
     lengthInBits += 1;
@@ -111,6 +118,7 @@ public class QualifierOfParameterOfMeasuredValues implements Message {
     // Simple field (kindOfParameter)
     lengthInBits += 6;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
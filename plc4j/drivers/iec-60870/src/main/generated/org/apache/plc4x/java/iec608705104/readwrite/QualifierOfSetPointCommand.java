@@ -45,6 +45,8 @@ public class QualifierOfSetPointCommand implements Message {
     super();
     this.select = select;
     this.qualifier = qualifier;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getSelect() {
@@ -82,11 +84,16 @@ public class QualifierOfSetPointCommand implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     QualifierOfSetPointCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (select)
     lengthInBits += 1;
@@ -94,6 +101,7 @@ public class QualifierOfSetPointCommand implements Message {
     // Simple field (qualifier)
     lengthInBits += 7;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
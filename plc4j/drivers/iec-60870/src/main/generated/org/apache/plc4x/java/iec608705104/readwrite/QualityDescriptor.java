@@ -52,6 +52,8 @@ public class QualityDescriptor implements Message {
     this.substituted = substituted;
     this.blocked = blocked;
     this.overflow = overflow;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getInvalid() {
@@ -129,11 +131,16 @@ public class QualityDescriptor implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     QualityDescriptor _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (invalid)
     lengthInBits += 1;
@@ -153,6 +160,7 @@ public class QualityDescriptor implements Message {
     // Simple field (overflow)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
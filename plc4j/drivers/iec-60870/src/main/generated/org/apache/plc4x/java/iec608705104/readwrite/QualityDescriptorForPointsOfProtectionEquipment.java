@@ -56,6 +56,8 @@ public class QualityDescriptorForPointsOfProtectionEquipment implements Message
     this.substituted = substituted;
     this.blocked = blocked;
     this.elapsedTimeInvalid = elapsedTimeInvalid;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getInvalid() {
@@ -133,11 +135,16 @@ public class QualityDescriptorForPointsOfProtectionEquipment implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     QualityDescriptorForPointsOfProtectionEquipment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (invalid)
     lengthInBits += 1;
@@ -157,6 +164,7 @@ public class QualityDescriptorForPointsOfProtectionEquipment implements Message
     // Reserved Field (reserved)
     lengthInBits += 3;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -71,6 +71,8 @@ public class SevenOctetBinaryTime implements Message {
     this.day = day;
     this.month = month;
     this.year = year;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getMilliseconds() {
@@ -217,11 +219,16 @@ public class SevenOctetBinaryTime implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SevenOctetBinaryTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (milliseconds)
     lengthInBits += 16;
@@ -262,6 +269,7 @@ public class SevenOctetBinaryTime implements Message {
     // Simple field (year)
     lengthInBits += 7;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
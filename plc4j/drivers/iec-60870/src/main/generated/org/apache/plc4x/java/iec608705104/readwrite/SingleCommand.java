@@ -45,6 +45,8 @@ public class SingleCommand implements Message {
     super();
     this.qoc = qoc;
     this.commandOn = commandOn;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public QualifierOfCommand getQoc() {
@@ -86,11 +88,16 @@ public class SingleCommand implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SingleCommand _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (qoc)
     lengthInBits += qoc.getLengthInBits();
@@ -101,6 +108,7 @@ public class SingleCommand implements Message {
     // Simple field (commandOn)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -59,6 +59,8 @@ public class SingleEventOfProtectionEquipment implements Message {
     this.blocked = blocked;
     this.elapsedTimeInvalid = elapsedTimeInvalid;
     this.eventState = eventState;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getInvalid() {
@@ -147,11 +149,16 @@ public class SingleEventOfProtectionEquipment implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SingleEventOfProtectionEquipment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (invalid)
     lengthInBits += 1;
@@ -174,6 +181,7 @@ public class SingleEventOfProtectionEquipment implements Message {
     // Simple field (eventState)
     lengthInBits += 2;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
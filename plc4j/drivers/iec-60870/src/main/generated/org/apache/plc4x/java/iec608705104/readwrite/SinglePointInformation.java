@@ -52,6 +52,8 @@ public class SinglePointInformation implements Message {
     this.substituted = substituted;
     this.blocked = blocked;
     this.stausOn = stausOn;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getInvalid() {
@@ -129,11 +131,16 @@ public class SinglePointInformation implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SinglePointInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (invalid)
     lengthInBits += 1;
@@ -153,6 +160,7 @@ public class SinglePointInformation implements Message {
     // Simple field (stausOn)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -59,6 +59,8 @@ public class StartEventsOfProtectionEquipment implements Message {
     this.stateOfOperationPhaseL2 = stateOfOperationPhaseL2;
     this.stateOfOperationPhaseL1 = stateOfOperationPhaseL1;
     this.generalStartOfOperation = generalStartOfOperation;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getStartOfOperationInReverseDirection() {
@@ -147,11 +149,16 @@ public class StartEventsOfProtectionEquipment implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     StartEventsOfProtectionEquipment _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 2;
@@ -174,6 +181,7 @@ public class StartEventsOfProtectionEquipment implements Message {
     // Simple field (generalStartOfOperation)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
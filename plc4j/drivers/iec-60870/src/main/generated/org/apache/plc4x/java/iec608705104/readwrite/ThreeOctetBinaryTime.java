@@ -47,6 +47,8 @@ public class ThreeOctetBinaryTime implements Message {
     this.milliseconds = milliseconds;
     this.invalid = invalid;
     this.minutes = minutes;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getMilliseconds() {
@@ -102,11 +104,16 @@ public class ThreeOctetBinaryTime implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ThreeOctetBinaryTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (milliseconds)
     lengthInBits += 16;
@@ -120,6 +127,7 @@ public class ThreeOctetBinaryTime implements Message {
     // Simple field (minutes)
     lengthInBits += 6;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class ApduDataContainer extends Apdu implements Message {
   public ApduDataContainer(boolean numbered, byte counter, ApduData dataApdu) {
     super(numbered, counter);
     this.dataApdu = dataApdu;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ApduData getDataApdu() {
@@ -71,15 +73,21 @@ public class ApduDataContainer extends Apdu implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataContainer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dataApdu)
     lengthInBits += dataApdu.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class ApduDataDeviceDescriptorRead extends ApduData implements Message {
   public ApduDataDeviceDescriptorRead(byte descriptorType) {
     super();
     this.descriptorType = descriptorType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getDescriptorType() {
@@ -71,15 +73,21 @@ public class ApduDataDeviceDescriptorRead extends ApduData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataDeviceDescriptorRead _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (descriptorType)
     lengthInBits += 6;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
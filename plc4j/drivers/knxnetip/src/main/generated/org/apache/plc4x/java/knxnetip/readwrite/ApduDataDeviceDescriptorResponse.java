@@ -50,6 +50,8 @@ public class ApduDataDeviceDescriptorResponse extends ApduData implements Messag
     super();
     this.descriptorType = descriptorType;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getDescriptorType() {
@@ -80,11 +82,16 @@ public class ApduDataDeviceDescriptorResponse extends ApduData implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataDeviceDescriptorResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (descriptorType)
     lengthInBits += 6;
@@ -94,6 +101,7 @@ public class ApduDataDeviceDescriptorResponse extends ApduData implements Messag
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
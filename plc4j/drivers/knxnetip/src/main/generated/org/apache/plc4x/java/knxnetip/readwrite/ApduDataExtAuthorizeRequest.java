@@ -50,6 +50,8 @@ public class ApduDataExtAuthorizeRequest extends ApduDataExt implements Message
     super();
     this.level = level;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getLevel() {
@@ -80,11 +82,16 @@ public class ApduDataExtAuthorizeRequest extends ApduDataExt implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataExtAuthorizeRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (level)
     lengthInBits += 8;
@@ -94,6 +101,7 @@ public class ApduDataExtAuthorizeRequest extends ApduDataExt implements Message
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class ApduDataExtIndividualAddressSerialNumberResponse extends ApduDataEx
 
   public ApduDataExtIndividualAddressSerialNumberResponse() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -61,12 +63,18 @@ public class ApduDataExtIndividualAddressSerialNumberResponse extends ApduDataEx
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataExtIndividualAddressSerialNumberResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class ApduDataExtPropertyDescriptionRead extends ApduDataExt implements M
     this.objectIndex = objectIndex;
     this.propertyId = propertyId;
     this.index = index;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getObjectIndex() {
@@ -89,11 +91,16 @@ public class ApduDataExtPropertyDescriptionRead extends ApduDataExt implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataExtPropertyDescriptionRead _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIndex)
     lengthInBits += 8;
@@ -104,6 +111,7 @@ public class ApduDataExtPropertyDescriptionRead extends ApduDataExt implements M
     // Simple field (index)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
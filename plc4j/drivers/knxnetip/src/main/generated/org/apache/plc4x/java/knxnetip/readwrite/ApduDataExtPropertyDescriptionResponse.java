@@ -70,6 +70,8 @@ public class ApduDataExtPropertyDescriptionResponse extends ApduDataExt implemen
     this.maxNrOfElements = maxNrOfElements;
     this.readLevel = readLevel;
     this.writeLevel = writeLevel;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getObjectIndex() {
@@ -163,11 +165,16 @@ public class ApduDataExtPropertyDescriptionResponse extends ApduDataExt implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataExtPropertyDescriptionResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIndex)
     lengthInBits += 8;
@@ -199,6 +206,7 @@ public class ApduDataExtPropertyDescriptionResponse extends ApduDataExt implemen
     // Simple field (writeLevel)
     lengthInBits += 4;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class ApduDataExtPropertyValueRead extends ApduDataExt implements Message
     this.propertyId = propertyId;
     this.count = count;
     this.index = index;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getObjectIndex() {
@@ -99,11 +101,16 @@ public class ApduDataExtPropertyValueRead extends ApduDataExt implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataExtPropertyValueRead _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIndex)
     lengthInBits += 8;
@@ -117,6 +124,7 @@ public class ApduDataExtPropertyValueRead extends ApduDataExt implements Message
     // Simple field (index)
     lengthInBits += 12;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
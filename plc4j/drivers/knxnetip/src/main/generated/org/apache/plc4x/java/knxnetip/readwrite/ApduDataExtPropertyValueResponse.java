@@ -57,6 +57,8 @@ public class ApduDataExtPropertyValueResponse extends ApduDataExt implements Mes
     this.count = count;
     this.index = index;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getObjectIndex() {
@@ -108,11 +110,16 @@ public class ApduDataExtPropertyValueResponse extends ApduDataExt implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataExtPropertyValueResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectIndex)
     lengthInBits += 8;
@@ -131,6 +138,7 @@ public class ApduDataExtPropertyValueResponse extends ApduDataExt implements Mes
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -44,6 +44,8 @@ public class ApduDataGroupValueRead extends ApduData implements Message {
 
   public ApduDataGroupValueRead() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -63,15 +65,21 @@ public class ApduDataGroupValueRead extends ApduData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataGroupValueRead _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 6;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class ApduDataGroupValueResponse extends ApduData implements Message {
     super();
     this.dataFirstByte = dataFirstByte;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getDataFirstByte() {
@@ -80,11 +82,16 @@ public class ApduDataGroupValueResponse extends ApduData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataGroupValueResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dataFirstByte)
     lengthInBits += 6;
@@ -94,6 +101,7 @@ public class ApduDataGroupValueResponse extends ApduData implements Message {
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class ApduDataMemoryRead extends ApduData implements Message {
     super();
     this.numBytes = numBytes;
     this.address = address;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getNumBytes() {
@@ -80,11 +82,16 @@ public class ApduDataMemoryRead extends ApduData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataMemoryRead _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numBytes)
     lengthInBits += 6;
@@ -92,6 +99,7 @@ public class ApduDataMemoryRead extends ApduData implements Message {
     // Simple field (address)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class ApduDataMemoryResponse extends ApduData implements Message {
     super();
     this.address = address;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getAddress() {
@@ -85,11 +87,16 @@ public class ApduDataMemoryResponse extends ApduData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataMemoryResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (numBytes)
     lengthInBits += 6;
@@ -102,6 +109,7 @@ public class ApduDataMemoryResponse extends ApduData implements Message {
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
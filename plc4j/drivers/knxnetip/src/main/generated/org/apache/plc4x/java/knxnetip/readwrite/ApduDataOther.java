@@ -48,6 +48,8 @@ public class ApduDataOther extends ApduData implements Message {
   public ApduDataOther(ApduDataExt extendedApdu) {
     super();
     this.extendedApdu = extendedApdu;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ApduDataExt getExtendedApdu() {
@@ -71,15 +73,21 @@ public class ApduDataOther extends ApduData implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApduDataOther _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (extendedApdu)
     lengthInBits += extendedApdu.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -68,6 +68,8 @@ public class CEMIAdditionalInformationBusmonitorInfo extends CEMIAdditionalInfor
     this.unknownFlag = unknownFlag;
     this.lostFlag = lostFlag;
     this.sequenceNumber = sequenceNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getFrameErrorFlag() {
@@ -134,11 +136,16 @@ public class CEMIAdditionalInformationBusmonitorInfo extends CEMIAdditionalInfor
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CEMIAdditionalInformationBusmonitorInfo _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (len)
     lengthInBits += 8;
@@ -161,6 +168,7 @@ public class CEMIAdditionalInformationBusmonitorInfo extends CEMIAdditionalInfor
     // Simple field (sequenceNumber)
     lengthInBits += 3;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
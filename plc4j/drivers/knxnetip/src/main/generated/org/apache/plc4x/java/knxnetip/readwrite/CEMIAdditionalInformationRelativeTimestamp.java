@@ -52,6 +52,8 @@ public class CEMIAdditionalInformationRelativeTimestamp extends CEMIAdditionalIn
   public CEMIAdditionalInformationRelativeTimestamp(RelativeTimestamp relativeTimestamp) {
     super();
     this.relativeTimestamp = relativeTimestamp;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public RelativeTimestamp getRelativeTimestamp() {
@@ -83,11 +85,16 @@ public class CEMIAdditionalInformationRelativeTimestamp extends CEMIAdditionalIn
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CEMIAdditionalInformationRelativeTimestamp _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (len)
     lengthInBits += 8;
@@ -95,6 +102,7 @@ public class CEMIAdditionalInformationRelativeTimestamp extends CEMIAdditionalIn
     // Simple field (relativeTimestamp)
     lengthInBits += relativeTimestamp.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class ChannelInformation implements Message {
     super();
     this.numChannels = numChannels;
     this.channelCode = channelCode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getNumChannels() {
@@ -74,11 +76,16 @@ public class ChannelInformation implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ChannelInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numChannels)
     lengthInBits += 3;
@@ -86,6 +93,7 @@ public class ChannelInformation implements Message {
     // Simple field (channelCode)
     lengthInBits += 13;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
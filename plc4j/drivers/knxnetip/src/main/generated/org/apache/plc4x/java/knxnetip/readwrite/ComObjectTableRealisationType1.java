@@ -54,7 +54,12 @@ public class ComObjectTableRealisationType1 extends ComObjectTable implements Me
     super();
     this.numEntries = numEntries;
     this.ramFlagsTablePointer = ramFlagsTablePointer;
-    this.comObjectDescriptors = comObjectDescriptors;
+    this.comObjectDescriptors =
+        (comObjectDescriptors == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(comObjectDescriptors));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getNumEntries() {
@@ -94,11 +99,16 @@ public class ComObjectTableRealisationType1 extends ComObjectTable implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ComObjectTableRealisationType1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numEntries)
     lengthInBits += 8;
@@ -115,6 +125,7 @@ public class ComObjectTableRealisationType1 extends ComObjectTable implements Me
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class ComObjectTableRealisationType6 extends ComObjectTable implements Me
       GroupObjectDescriptorRealisationType6 comObjectDescriptors) {
     super();
     this.comObjectDescriptors = comObjectDescriptors;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public GroupObjectDescriptorRealisationType6 getComObjectDescriptors() {
@@ -73,15 +75,21 @@ public class ComObjectTableRealisationType6 extends ComObjectTable implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ComObjectTableRealisationType6 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (comObjectDescriptors)
     lengthInBits += comObjectDescriptors.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class ConnectionRequestInformationTunnelConnection extends ConnectionRequ
   public ConnectionRequestInformationTunnelConnection(KnxLayer knxLayer) {
     super();
     this.knxLayer = knxLayer;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public KnxLayer getKnxLayer() {
@@ -80,11 +82,16 @@ public class ConnectionRequestInformationTunnelConnection extends ConnectionRequ
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ConnectionRequestInformationTunnelConnection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (knxLayer)
     lengthInBits += 8;
@@ -92,6 +99,7 @@ public class ConnectionRequestInformationTunnelConnection extends ConnectionRequ
     // Reserved Field (reserved)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
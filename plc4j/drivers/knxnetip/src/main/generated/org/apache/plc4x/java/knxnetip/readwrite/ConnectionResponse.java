@@ -58,6 +58,8 @@ public class ConnectionResponse extends KnxNetIpMessage implements Message {
     this.status = status;
     this.hpaiDataEndpoint = hpaiDataEndpoint;
     this.connectionResponseDataBlock = connectionResponseDataBlock;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getCommunicationChannelId() {
@@ -120,11 +122,16 @@ public class ConnectionResponse extends KnxNetIpMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ConnectionResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (communicationChannelId)
     lengthInBits += 8;
@@ -142,6 +149,7 @@ public class ConnectionResponse extends KnxNetIpMessage implements Message {
       lengthInBits += connectionResponseDataBlock.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class ConnectionResponseDataBlockTunnelConnection extends ConnectionRespo
   public ConnectionResponseDataBlockTunnelConnection(KnxAddress knxAddress) {
     super();
     this.knxAddress = knxAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public KnxAddress getKnxAddress() {
@@ -73,15 +75,21 @@ public class ConnectionResponseDataBlockTunnelConnection extends ConnectionRespo
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ConnectionResponseDataBlockTunnelConnection _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (knxAddress)
     lengthInBits += knxAddress.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
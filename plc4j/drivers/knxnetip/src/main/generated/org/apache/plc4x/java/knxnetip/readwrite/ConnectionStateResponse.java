@@ -50,6 +50,8 @@ public class ConnectionStateResponse extends KnxNetIpMessage implements Message
     super();
     this.communicationChannelId = communicationChannelId;
     this.status = status;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getCommunicationChannelId() {
@@ -90,11 +92,16 @@ public class ConnectionStateResponse extends KnxNetIpMessage implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ConnectionStateResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (communicationChannelId)
     lengthInBits += 8;
@@ -102,6 +109,7 @@ public class ConnectionStateResponse extends KnxNetIpMessage implements Message
     // Simple field (status)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
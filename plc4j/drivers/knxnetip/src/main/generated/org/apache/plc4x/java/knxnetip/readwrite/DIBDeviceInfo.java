@@ -68,6 +68,8 @@ public class DIBDeviceInfo implements Message {
     this.knxNetIpDeviceMulticastAddress = knxNetIpDeviceMulticastAddress;
     this.knxNetIpDeviceMacAddress = knxNetIpDeviceMacAddress;
     this.deviceFriendlyName = deviceFriendlyName;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getDescriptionType() {
@@ -161,11 +163,16 @@ public class DIBDeviceInfo implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DIBDeviceInfo _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (structureLength)
     lengthInBits += 8;
@@ -201,6 +208,7 @@ public class DIBDeviceInfo implements Message {
       lengthInBits += 8 * deviceFriendlyName.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -44,7 +44,10 @@ public class DIBSuppSvcFamilies implements Message {
   public DIBSuppSvcFamilies(short descriptionType, List<ServiceId> serviceIds) {
     super();
     this.descriptionType = descriptionType;
-    this.serviceIds = serviceIds;
+    this.serviceIds =
+        (serviceIds == null) ? null : Collections.unmodifiableList(new ArrayList<>(serviceIds));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getDescriptionType() {
@@ -79,11 +82,16 @@ public class DIBSuppSvcFamilies implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DIBSuppSvcFamilies _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (structureLength)
     lengthInBits += 8;
@@ -98,6 +106,7 @@ public class DIBSuppSvcFamilies implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
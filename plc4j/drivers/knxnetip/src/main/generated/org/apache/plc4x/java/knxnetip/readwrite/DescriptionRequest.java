@@ -48,6 +48,8 @@ public class DescriptionRequest extends KnxNetIpMessage implements Message {
   public DescriptionRequest(HPAIControlEndpoint hpaiControlEndpoint) {
     super();
     this.hpaiControlEndpoint = hpaiControlEndpoint;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public HPAIControlEndpoint getHpaiControlEndpoint() {
@@ -76,15 +78,21 @@ public class DescriptionRequest extends KnxNetIpMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DescriptionRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (hpaiControlEndpoint)
     lengthInBits += hpaiControlEndpoint.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
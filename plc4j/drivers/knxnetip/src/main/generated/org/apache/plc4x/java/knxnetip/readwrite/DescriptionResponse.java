@@ -50,6 +50,8 @@ public class DescriptionResponse extends KnxNetIpMessage implements Message {
     super();
     this.dibDeviceInfo = dibDeviceInfo;
     this.dibSuppSvcFamilies = dibSuppSvcFamilies;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DIBDeviceInfo getDibDeviceInfo() {
@@ -89,11 +91,16 @@ public class DescriptionResponse extends KnxNetIpMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DescriptionResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dibDeviceInfo)
     lengthInBits += dibDeviceInfo.getLengthInBits();
@@ -101,6 +108,7 @@ public class DescriptionResponse extends KnxNetIpMessage implements Message {
     // Simple field (dibSuppSvcFamilies)
     lengthInBits += dibSuppSvcFamilies.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class DeviceConfigurationAck extends KnxNetIpMessage implements Message {
   public DeviceConfigurationAck(DeviceConfigurationAckDataBlock deviceConfigurationAckDataBlock) {
     super();
     this.deviceConfigurationAckDataBlock = deviceConfigurationAckDataBlock;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DeviceConfigurationAckDataBlock getDeviceConfigurationAckDataBlock() {
@@ -76,15 +78,21 @@ public class DeviceConfigurationAck extends KnxNetIpMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DeviceConfigurationAck _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceConfigurationAckDataBlock)
     lengthInBits += deviceConfigurationAckDataBlock.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
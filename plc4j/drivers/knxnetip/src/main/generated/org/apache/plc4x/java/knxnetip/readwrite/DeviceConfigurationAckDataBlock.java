@@ -48,6 +48,8 @@ public class DeviceConfigurationAckDataBlock implements Message {
     this.communicationChannelId = communicationChannelId;
     this.sequenceCounter = sequenceCounter;
     this.status = status;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getCommunicationChannelId() {
@@ -94,11 +96,16 @@ public class DeviceConfigurationAckDataBlock implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DeviceConfigurationAckDataBlock _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (structureLength)
     lengthInBits += 8;
@@ -112,6 +119,7 @@ public class DeviceConfigurationAckDataBlock implements Message {
     // Simple field (status)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -51,6 +51,8 @@ public class DeviceConfigurationRequest extends KnxNetIpMessage implements Messa
     super();
     this.deviceConfigurationRequestDataBlock = deviceConfigurationRequestDataBlock;
     this.cemi = cemi;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DeviceConfigurationRequestDataBlock getDeviceConfigurationRequestDataBlock() {
@@ -87,11 +89,16 @@ public class DeviceConfigurationRequest extends KnxNetIpMessage implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DeviceConfigurationRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (deviceConfigurationRequestDataBlock)
     lengthInBits += deviceConfigurationRequestDataBlock.getLengthInBits();
@@ -99,6 +106,7 @@ public class DeviceConfigurationRequest extends KnxNetIpMessage implements Messa
     // Simple field (cemi)
     lengthInBits += cemi.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -71,6 +71,8 @@ public class DeviceDescriptorType2 implements Message {
     this.channelInfo2 = channelInfo2;
     this.channelInfo3 = channelInfo3;
     this.channelInfo4 = channelInfo4;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getManufacturerId() {
@@ -156,11 +158,16 @@ public class DeviceDescriptorType2 implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DeviceDescriptorType2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (manufacturerId)
     lengthInBits += 16;
@@ -192,6 +199,7 @@ public class DeviceDescriptorType2 implements Message {
     // Simple field (channelInfo4)
     lengthInBits += channelInfo4.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
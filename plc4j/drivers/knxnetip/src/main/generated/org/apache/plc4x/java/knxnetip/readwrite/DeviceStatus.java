@@ -43,6 +43,8 @@ public class DeviceStatus implements Message {
   public DeviceStatus(boolean programMode) {
     super();
     this.programMode = programMode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getProgramMode() {
@@ -68,11 +70,16 @@ public class DeviceStatus implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DeviceStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 7;
@@ -80,6 +87,7 @@ public class DeviceStatus implements Message {
     // Simple field (programMode)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
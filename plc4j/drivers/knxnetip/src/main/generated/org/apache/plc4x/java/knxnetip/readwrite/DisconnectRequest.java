@@ -50,6 +50,8 @@ public class DisconnectRequest extends KnxNetIpMessage implements Message {
     super();
     this.communicationChannelId = communicationChannelId;
     this.hpaiControlEndpoint = hpaiControlEndpoint;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getCommunicationChannelId() {
@@ -96,11 +98,16 @@ public class DisconnectRequest extends KnxNetIpMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DisconnectRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (communicationChannelId)
     lengthInBits += 8;
@@ -111,6 +118,7 @@ public class DisconnectRequest extends KnxNetIpMessage implements Message {
     // Simple field (hpaiControlEndpoint)
     lengthInBits += hpaiControlEndpoint.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -65,6 +65,8 @@ public class GroupObjectDescriptorRealisationType1 implements Message {
     this.communicationEnable = communicationEnable;
     this.priority = priority;
     this.valueType = valueType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getDataPointer() {
@@ -150,11 +152,16 @@ public class GroupObjectDescriptorRealisationType1 implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     GroupObjectDescriptorRealisationType1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dataPointer)
     lengthInBits += 8;
@@ -183,6 +190,7 @@ public class GroupObjectDescriptorRealisationType1 implements Message {
     // Simple field (valueType)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
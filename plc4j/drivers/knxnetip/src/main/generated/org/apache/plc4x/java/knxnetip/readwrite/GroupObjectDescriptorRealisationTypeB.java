@@ -65,6 +65,8 @@ public class GroupObjectDescriptorRealisationTypeB implements Message {
     this.communicationEnable = communicationEnable;
     this.priority = priority;
     this.valueType = valueType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getUpdateEnable() {
@@ -147,11 +149,16 @@ public class GroupObjectDescriptorRealisationTypeB implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     GroupObjectDescriptorRealisationTypeB _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (updateEnable)
     lengthInBits += 1;
@@ -177,6 +184,7 @@ public class GroupObjectDescriptorRealisationTypeB implements Message {
     // Simple field (valueType)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
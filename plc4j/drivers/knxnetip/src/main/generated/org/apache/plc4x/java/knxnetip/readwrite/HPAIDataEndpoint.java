@@ -47,6 +47,8 @@ public class HPAIDataEndpoint implements Message {
     this.hostProtocolCode = hostProtocolCode;
     this.ipAddress = ipAddress;
     this.ipPort = ipPort;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public HostProtocolCode getHostProtocolCode() {
@@ -95,11 +97,16 @@ public class HPAIDataEndpoint implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     HPAIDataEndpoint _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (structureLength)
     lengthInBits += 8;
@@ -113,6 +120,7 @@ public class HPAIDataEndpoint implements Message {
     // Simple field (ipPort)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class IPAddress implements Message {
   public IPAddress(byte[] addr) {
     super();
     this.addr = addr;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getAddr() {
@@ -65,17 +67,23 @@ public class IPAddress implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     IPAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (addr != null) {
       lengthInBits += 8 * addr.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class KnxAddress implements Message {
     this.mainGroup = mainGroup;
     this.middleGroup = middleGroup;
     this.subGroup = subGroup;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getMainGroup() {
@@ -83,11 +85,16 @@ public class KnxAddress implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     KnxAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (mainGroup)
     lengthInBits += 4;
@@ -98,6 +105,7 @@ public class KnxAddress implements Message {
     // Simple field (subGroup)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class KnxGroupAddress2Level extends KnxGroupAddress implements Message {
     super();
     this.mainGroup = mainGroup;
     this.subGroup = subGroup;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getMainGroup() {
@@ -81,11 +83,16 @@ public class KnxGroupAddress2Level extends KnxGroupAddress implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     KnxGroupAddress2Level _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (mainGroup)
     lengthInBits += 5;
@@ -93,6 +100,7 @@ public class KnxGroupAddress2Level extends KnxGroupAddress implements Message {
     // Simple field (subGroup)
     lengthInBits += 11;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
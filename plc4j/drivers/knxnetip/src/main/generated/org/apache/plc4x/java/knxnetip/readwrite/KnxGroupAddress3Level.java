@@ -52,6 +52,8 @@ public class KnxGroupAddress3Level extends KnxGroupAddress implements Message {
     this.mainGroup = mainGroup;
     this.middleGroup = middleGroup;
     this.subGroup = subGroup;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getMainGroup() {
@@ -90,11 +92,16 @@ public class KnxGroupAddress3Level extends KnxGroupAddress implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     KnxGroupAddress3Level _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (mainGroup)
     lengthInBits += 5;
@@ -105,6 +112,7 @@ public class KnxGroupAddress3Level extends KnxGroupAddress implements Message {
     // Simple field (subGroup)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
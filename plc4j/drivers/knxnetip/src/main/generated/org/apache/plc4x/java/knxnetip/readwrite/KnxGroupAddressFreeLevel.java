@@ -48,6 +48,8 @@ public class KnxGroupAddressFreeLevel extends KnxGroupAddress implements Message
   public KnxGroupAddressFreeLevel(int subGroup) {
     super();
     this.subGroup = subGroup;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getSubGroup() {
@@ -72,15 +74,21 @@ public class KnxGroupAddressFreeLevel extends KnxGroupAddress implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     KnxGroupAddressFreeLevel _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (subGroup)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,9 +55,14 @@ public class LBusmonInd extends CEMI implements Message {
       Short crc) {
     super();
     this.additionalInformationLength = additionalInformationLength;
-    this.additionalInformation = additionalInformation;
+    this.additionalInformation =
+        (additionalInformation == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(additionalInformation));
     this.dataFrame = dataFrame;
     this.crc = crc;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getAdditionalInformationLength() {
@@ -105,11 +110,16 @@ public class LBusmonInd extends CEMI implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     LBusmonInd _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (additionalInformationLength)
     lengthInBits += 8;
@@ -129,6 +139,7 @@ public class LBusmonInd extends CEMI implements Message {
       lengthInBits += 8;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -73,6 +73,8 @@ public class LDataExtended extends LDataFrame implements Message {
     this.sourceAddress = sourceAddress;
     this.destinationAddress = destinationAddress;
     this.apdu = apdu;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getGroupAddress() {
@@ -136,11 +138,16 @@ public class LDataExtended extends LDataFrame implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     LDataExtended _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (groupAddress)
     lengthInBits += 1;
@@ -165,6 +172,7 @@ public class LDataExtended extends LDataFrame implements Message {
     // Simple field (apdu)
     lengthInBits += apdu.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class LDataFrameACK extends LDataFrame implements Message {
       boolean acknowledgeRequested,
       boolean errorFlag) {
     super(frameType, notRepeated, priority, acknowledgeRequested, errorFlag);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -69,12 +71,18 @@ public class LDataFrameACK extends LDataFrame implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     LDataFrameACK _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,8 +53,13 @@ public class LDataReq extends CEMI implements Message {
       LDataFrame dataFrame) {
     super();
     this.additionalInformationLength = additionalInformationLength;
-    this.additionalInformation = additionalInformation;
+    this.additionalInformation =
+        (additionalInformation == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(additionalInformation));
     this.dataFrame = dataFrame;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getAdditionalInformationLength() {
@@ -95,11 +100,16 @@ public class LDataReq extends CEMI implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     LDataReq _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (additionalInformationLength)
     lengthInBits += 8;
@@ -114,6 +124,7 @@ public class LDataReq extends CEMI implements Message {
     // Simple field (dataFrame)
     lengthInBits += dataFrame.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
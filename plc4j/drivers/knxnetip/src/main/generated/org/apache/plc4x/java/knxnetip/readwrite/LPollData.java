@@ -64,6 +64,8 @@ public class LPollData extends LDataFrame implements Message {
     this.sourceAddress = sourceAddress;
     this.targetAddress = targetAddress;
     this.numberExpectedPollData = numberExpectedPollData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public KnxAddress getSourceAddress() {
@@ -105,11 +107,16 @@ public class LPollData extends LDataFrame implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     LPollData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sourceAddress)
     lengthInBits += sourceAddress.getLengthInBits();
@@ -125,6 +132,7 @@ public class LPollData extends LDataFrame implements Message {
     // Simple field (numberExpectedPollData)
     lengthInBits += 6;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
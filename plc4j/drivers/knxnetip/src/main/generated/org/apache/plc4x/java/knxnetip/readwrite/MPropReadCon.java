@@ -64,6 +64,8 @@ public class MPropReadCon extends CEMI implements Message {
     this.numberOfElements = numberOfElements;
     this.startIndex = startIndex;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getInterfaceObjectType() {
@@ -122,11 +124,16 @@ public class MPropReadCon extends CEMI implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MPropReadCon _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (interfaceObjectType)
     lengthInBits += 16;
@@ -146,6 +153,7 @@ public class MPropReadCon extends CEMI implements Message {
     // Simple field (data)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class MPropReadReq extends CEMI implements Message {
     this.propertyId = propertyId;
     this.numberOfElements = numberOfElements;
     this.startIndex = startIndex;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getInterfaceObjectType() {
@@ -112,11 +114,16 @@ public class MPropReadReq extends CEMI implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MPropReadReq _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (interfaceObjectType)
     lengthInBits += 16;
@@ -133,6 +140,7 @@ public class MPropReadReq extends CEMI implements Message {
     // Simple field (startIndex)
     lengthInBits += 12;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class ProjectInstallationIdentifier implements Message {
     super();
     this.projectNumber = projectNumber;
     this.installationNumber = installationNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getProjectNumber() {
@@ -74,11 +76,16 @@ public class ProjectInstallationIdentifier implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ProjectInstallationIdentifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (projectNumber)
     lengthInBits += 8;
@@ -86,6 +93,7 @@ public class ProjectInstallationIdentifier implements Message {
     // Simple field (installationNumber)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class SearchRequest extends KnxNetIpMessage implements Message {
   public SearchRequest(HPAIDiscoveryEndpoint hpaiIDiscoveryEndpoint) {
     super();
     this.hpaiIDiscoveryEndpoint = hpaiIDiscoveryEndpoint;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public HPAIDiscoveryEndpoint getHpaiIDiscoveryEndpoint() {
@@ -76,15 +78,21 @@ public class SearchRequest extends KnxNetIpMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SearchRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (hpaiIDiscoveryEndpoint)
     lengthInBits += hpaiIDiscoveryEndpoint.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class SearchResponse extends KnxNetIpMessage implements Message {
     this.hpaiControlEndpoint = hpaiControlEndpoint;
     this.dibDeviceInfo = dibDeviceInfo;
     this.dibSuppSvcFamilies = dibSuppSvcFamilies;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public HPAIControlEndpoint getHpaiControlEndpoint() {
@@ -105,11 +107,16 @@ public class SearchResponse extends KnxNetIpMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SearchResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (hpaiControlEndpoint)
     lengthInBits += hpaiControlEndpoint.getLengthInBits();
@@ -120,6 +127,7 @@ public class SearchResponse extends KnxNetIpMessage implements Message {
     // Simple field (dibSuppSvcFamilies)
     lengthInBits += dibSuppSvcFamilies.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
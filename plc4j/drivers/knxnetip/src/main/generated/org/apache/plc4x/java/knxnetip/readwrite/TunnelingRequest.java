@@ -50,6 +50,8 @@ public class TunnelingRequest extends KnxNetIpMessage implements Message {
     super();
     this.tunnelingRequestDataBlock = tunnelingRequestDataBlock;
     this.cemi = cemi;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public TunnelingRequestDataBlock getTunnelingRequestDataBlock() {
@@ -86,11 +88,16 @@ public class TunnelingRequest extends KnxNetIpMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TunnelingRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (tunnelingRequestDataBlock)
     lengthInBits += tunnelingRequestDataBlock.getLengthInBits();
@@ -98,6 +105,7 @@ public class TunnelingRequest extends KnxNetIpMessage implements Message {
     // Simple field (cemi)
     lengthInBits += cemi.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
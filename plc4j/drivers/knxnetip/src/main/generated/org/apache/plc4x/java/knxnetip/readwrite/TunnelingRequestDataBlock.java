@@ -45,6 +45,8 @@ public class TunnelingRequestDataBlock implements Message {
     super();
     this.communicationChannelId = communicationChannelId;
     this.sequenceCounter = sequenceCounter;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getCommunicationChannelId() {
@@ -83,11 +85,16 @@ public class TunnelingRequestDataBlock implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     TunnelingRequestDataBlock _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (structureLength)
     lengthInBits += 8;
@@ -101,6 +108,7 @@ public class TunnelingRequestDataBlock implements Message {
     // Reserved Field (reserved)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class UnknownMessage extends KnxNetIpMessage implements Message {
   public UnknownMessage(byte[] unknownData) {
     super();
     this.unknownData = unknownData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getUnknownData() {
@@ -76,17 +78,23 @@ public class UnknownMessage extends KnxNetIpMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     UnknownMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (unknownData != null) {
       lengthInBits += 8 * unknownData.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -63,14 +63,20 @@ public abstract class ModbusADU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ModbusADU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Length of sub-type elements will be added by sub-type...
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -79,6 +85,9 @@ public abstract class ModbusADU implements Message {
     readBuffer.pullContext("ModbusADU");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
 
     // Switch Field (Depending on the discriminator values, passes the instantiation to a sub-type)
     ModbusADUBuilder builder = null;
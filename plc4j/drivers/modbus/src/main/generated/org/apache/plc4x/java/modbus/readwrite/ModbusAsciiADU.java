@@ -50,6 +50,8 @@ public class ModbusAsciiADU extends ModbusADU implements Message {
     super();
     this.address = address;
     this.pdu = pdu;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getAddress() {
@@ -93,11 +95,16 @@ public class ModbusAsciiADU extends ModbusADU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusAsciiADU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (address)
     lengthInBits += 8;
@@ -108,6 +115,7 @@ public class ModbusAsciiADU extends ModbusADU implements Message {
     // Checksum Field (checksum)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -116,18 +124,26 @@ public class ModbusAsciiADU extends ModbusADU implements Message {
     readBuffer.pullContext("ModbusAsciiADU");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
 
     short address =
-        readSimpleField(
-            "address",
-            readUnsignedShort(readBuffer, 8),
-            WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
+        ((_fastReadBuffer != null) && (_fastReadBuffer.getByteOrder() == (ByteOrder.BIG_ENDIAN)))
+            ? _fastReadBuffer.readUnsignedShort("address", 8)
+            : readSimpleField(
+                "address",
+                readUnsignedShort(readBuffer, 8),
+                WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
 
     ModbusPDU pdu =
-        readSimpleField(
-            "pdu",
-            readComplex(() -> ModbusPDU.staticParse(readBuffer, (boolean) (response)), readBuffer),
-            WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
+        ((_fastReadBuffer != null) && (_fastReadBuffer.getByteOrder() == (ByteOrder.BIG_ENDIAN)))
+            ? ModbusPDU.staticParse(readBuffer, (boolean) (response))
+            : readSimpleField(
+                "pdu",
+                readComplex(
+                    () -> ModbusPDU.staticParse(readBuffer, (boolean) (response)), readBuffer),
+                WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
 
     short crc =
         readChecksumField(
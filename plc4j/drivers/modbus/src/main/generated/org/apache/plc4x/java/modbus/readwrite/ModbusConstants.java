@@ -42,6 +42,8 @@ public class ModbusConstants implements Message {
 
   public ModbusConstants() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getModbusTcpDefaultPort() {
@@ -65,15 +67,21 @@ public class ModbusConstants implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ModbusConstants _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (modbusTcpDefaultPort)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -81,6 +89,9 @@ public class ModbusConstants implements Message {
     readBuffer.pullContext("ModbusConstants");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
 
     int modbusTcpDefaultPort =
         readConstField(
@@ -45,6 +45,8 @@ public class ModbusDeviceInformationObject implements Message {
     super();
     this.objectId = objectId;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getObjectId() {
@@ -79,11 +81,16 @@ public class ModbusDeviceInformationObject implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ModbusDeviceInformationObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectId)
     lengthInBits += 8;
@@ -96,6 +103,7 @@ public class ModbusDeviceInformationObject implements Message {
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -104,10 +112,19 @@ public class ModbusDeviceInformationObject implements Message {
     readBuffer.pullContext("ModbusDeviceInformationObject");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    short objectId = readSimpleField("objectId", readUnsignedShort(readBuffer, 8));
-
-    short objectLength = readImplicitField("objectLength", readUnsignedShort(readBuffer, 8));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    short objectId =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("objectId", 8)
+            : readSimpleField("objectId", readUnsignedShort(readBuffer, 8));
+
+    short objectLength =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("objectLength", 8)
+            : readImplicitField("objectLength", readUnsignedShort(readBuffer, 8));
 
     byte[] data = readBuffer.readByteArray("data", Math.toIntExact(objectLength));
 
@@ -73,11 +73,16 @@ public abstract class ModbusPDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ModbusPDU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Discriminator Field (errorFlag)
     lengthInBits += 1;
@@ -87,6 +92,7 @@ public abstract class ModbusPDU implements Message {
 
     // Length of sub-type elements will be added by sub-type...
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -95,10 +101,19 @@ public abstract class ModbusPDU implements Message {
     readBuffer.pullContext("ModbusPDU");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
 
-    boolean errorFlag = readDiscriminatorField("errorFlag", readBoolean(readBuffer));
+    boolean errorFlag =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readBit("errorFlag")
+            : readDiscriminatorField("errorFlag", readBoolean(readBuffer));
 
-    byte functionFlag = readDiscriminatorField("functionFlag", readUnsignedByte(readBuffer, 7));
+    byte functionFlag =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedByte("functionFlag", 7)
+            : readDiscriminatorField("functionFlag", readUnsignedByte(readBuffer, 7));
 
     // Switch Field (Depending on the discriminator values, passes the instantiation to a sub-type)
     ModbusPDUBuilder builder = null;
@@ -58,6 +58,8 @@ public class ModbusPDUDiagnosticResponse extends ModbusPDU implements Message {
     super();
     this.subFunction = subFunction;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getSubFunction() {
@@ -88,11 +90,16 @@ public class ModbusPDUDiagnosticResponse extends ModbusPDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUDiagnosticResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (subFunction)
     lengthInBits += 16;
@@ -100,6 +107,7 @@ public class ModbusPDUDiagnosticResponse extends ModbusPDU implements Message {
     // Simple field (data)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -108,10 +116,19 @@ public class ModbusPDUDiagnosticResponse extends ModbusPDU implements Message {
     readBuffer.pullContext("ModbusPDUDiagnosticResponse");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    int subFunction = readSimpleField("subFunction", readUnsignedInt(readBuffer, 16));
-
-    int data = readSimpleField("data", readUnsignedInt(readBuffer, 16));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    int subFunction =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("subFunction", 16)
+            : readSimpleField("subFunction", readUnsignedInt(readBuffer, 16));
+
+    int data =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("data", 16)
+            : readSimpleField("data", readUnsignedInt(readBuffer, 16));
 
     readBuffer.closeContext("ModbusPDUDiagnosticResponse");
     // Create the instance
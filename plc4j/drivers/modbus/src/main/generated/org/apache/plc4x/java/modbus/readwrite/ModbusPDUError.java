@@ -56,6 +56,8 @@ public class ModbusPDUError extends ModbusPDU implements Message {
   public ModbusPDUError(ModbusErrorCode exceptionCode) {
     super();
     this.exceptionCode = exceptionCode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ModbusErrorCode getExceptionCode() {
@@ -84,15 +86,21 @@ public class ModbusPDUError extends ModbusPDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUError _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (exceptionCode)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -101,12 +109,17 @@ public class ModbusPDUError extends ModbusPDU implements Message {
     readBuffer.pullContext("ModbusPDUError");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
 
     ModbusErrorCode exceptionCode =
-        readEnumField(
-            "exceptionCode",
-            "ModbusErrorCode",
-            readEnum(ModbusErrorCode::enumForValue, readUnsignedShort(readBuffer, 8)));
+        (_fastReadBuffer != null)
+            ? ModbusErrorCode.enumForValue(_fastReadBuffer.readUnsignedShort("exceptionCode", 8))
+            : readEnumField(
+                "exceptionCode",
+                "ModbusErrorCode",
+                readEnum(ModbusErrorCode::enumForValue, readUnsignedShort(readBuffer, 8)));
 
     readBuffer.closeContext("ModbusPDUError");
     // Create the instance
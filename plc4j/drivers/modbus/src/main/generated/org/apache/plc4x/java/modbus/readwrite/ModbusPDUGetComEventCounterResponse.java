@@ -58,6 +58,8 @@ public class ModbusPDUGetComEventCounterResponse extends ModbusPDU implements Me
     super();
     this.status = status;
     this.eventCount = eventCount;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getStatus() {
@@ -88,11 +90,16 @@ public class ModbusPDUGetComEventCounterResponse extends ModbusPDU implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUGetComEventCounterResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (status)
     lengthInBits += 16;
@@ -100,6 +107,7 @@ public class ModbusPDUGetComEventCounterResponse extends ModbusPDU implements Me
     // Simple field (eventCount)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -108,10 +116,19 @@ public class ModbusPDUGetComEventCounterResponse extends ModbusPDU implements Me
     readBuffer.pullContext("ModbusPDUGetComEventCounterResponse");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    int status = readSimpleField("status", readUnsignedInt(readBuffer, 16));
-
-    int eventCount = readSimpleField("eventCount", readUnsignedInt(readBuffer, 16));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    int status =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("status", 16)
+            : readSimpleField("status", readUnsignedInt(readBuffer, 16));
+
+    int eventCount =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("eventCount", 16)
+            : readSimpleField("eventCount", readUnsignedInt(readBuffer, 16));
 
     readBuffer.closeContext("ModbusPDUGetComEventCounterResponse");
     // Create the instance
@@ -63,6 +63,8 @@ public class ModbusPDUGetComEventLogResponse extends ModbusPDU implements Messag
     this.eventCount = eventCount;
     this.messageCount = messageCount;
     this.events = events;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getStatus() {
@@ -112,11 +114,16 @@ public class ModbusPDUGetComEventLogResponse extends ModbusPDU implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUGetComEventLogResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (byteCount)
     lengthInBits += 8;
@@ -135,6 +142,7 @@ public class ModbusPDUGetComEventLogResponse extends ModbusPDU implements Messag
       lengthInBits += 8 * events.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -143,14 +151,29 @@ public class ModbusPDUGetComEventLogResponse extends ModbusPDU implements Messag
     readBuffer.pullContext("ModbusPDUGetComEventLogResponse");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    short byteCount = readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
-
-    int status = readSimpleField("status", readUnsignedInt(readBuffer, 16));
-
-    int eventCount = readSimpleField("eventCount", readUnsignedInt(readBuffer, 16));
-
-    int messageCount = readSimpleField("messageCount", readUnsignedInt(readBuffer, 16));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    short byteCount =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("byteCount", 8)
+            : readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
+
+    int status =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("status", 16)
+            : readSimpleField("status", readUnsignedInt(readBuffer, 16));
+
+    int eventCount =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("eventCount", 16)
+            : readSimpleField("eventCount", readUnsignedInt(readBuffer, 16));
+
+    int messageCount =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("messageCount", 16)
+            : readSimpleField("messageCount", readUnsignedInt(readBuffer, 16));
 
     byte[] events = readBuffer.readByteArray("events", Math.toIntExact((byteCount) - (6)));
 
@@ -60,6 +60,8 @@ public class ModbusPDUMaskWriteHoldingRegisterResponse extends ModbusPDU impleme
     this.referenceAddress = referenceAddress;
     this.andMask = andMask;
     this.orMask = orMask;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getReferenceAddress() {
@@ -97,11 +99,16 @@ public class ModbusPDUMaskWriteHoldingRegisterResponse extends ModbusPDU impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUMaskWriteHoldingRegisterResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referenceAddress)
     lengthInBits += 16;
@@ -112,6 +119,7 @@ public class ModbusPDUMaskWriteHoldingRegisterResponse extends ModbusPDU impleme
     // Simple field (orMask)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -120,12 +128,24 @@ public class ModbusPDUMaskWriteHoldingRegisterResponse extends ModbusPDU impleme
     readBuffer.pullContext("ModbusPDUMaskWriteHoldingRegisterResponse");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    int referenceAddress = readSimpleField("referenceAddress", readUnsignedInt(readBuffer, 16));
-
-    int andMask = readSimpleField("andMask", readUnsignedInt(readBuffer, 16));
-
-    int orMask = readSimpleField("orMask", readUnsignedInt(readBuffer, 16));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    int referenceAddress =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("referenceAddress", 16)
+            : readSimpleField("referenceAddress", readUnsignedInt(readBuffer, 16));
+
+    int andMask =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("andMask", 16)
+            : readSimpleField("andMask", readUnsignedInt(readBuffer, 16));
+
+    int orMask =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("orMask", 16)
+            : readSimpleField("orMask", readUnsignedInt(readBuffer, 16));
 
     readBuffer.closeContext("ModbusPDUMaskWriteHoldingRegisterResponse");
     // Create the instance
@@ -56,6 +56,8 @@ public class ModbusPDUReadCoilsResponse extends ModbusPDU implements Message {
   public ModbusPDUReadCoilsResponse(byte[] value) {
     super();
     this.value = value;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getValue() {
@@ -84,11 +86,16 @@ public class ModbusPDUReadCoilsResponse extends ModbusPDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUReadCoilsResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (byteCount)
     lengthInBits += 8;
@@ -98,6 +105,7 @@ public class ModbusPDUReadCoilsResponse extends ModbusPDU implements Message {
       lengthInBits += 8 * value.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -106,8 +114,14 @@ public class ModbusPDUReadCoilsResponse extends ModbusPDU implements Message {
     readBuffer.pullContext("ModbusPDUReadCoilsResponse");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    short byteCount = readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    short byteCount =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("byteCount", 8)
+            : readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
 
     byte[] value = readBuffer.readByteArray("value", Math.toIntExact(byteCount));
 
@@ -62,6 +62,8 @@ public class ModbusPDUReadDeviceIdentificationRequest extends ModbusPDU implemen
     super();
     this.level = level;
     this.objectId = objectId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ModbusDeviceInformationLevel getLevel() {
@@ -106,11 +108,16 @@ public class ModbusPDUReadDeviceIdentificationRequest extends ModbusPDU implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUReadDeviceIdentificationRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (meiType)
     lengthInBits += 8;
@@ -121,6 +128,7 @@ public class ModbusPDUReadDeviceIdentificationRequest extends ModbusPDU implemen
     // Simple field (objectId)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -129,6 +137,9 @@ public class ModbusPDUReadDeviceIdentificationRequest extends ModbusPDU implemen
     readBuffer.pullContext("ModbusPDUReadDeviceIdentificationRequest");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
 
     short meiType =
         readConstField(
@@ -137,12 +148,19 @@ public class ModbusPDUReadDeviceIdentificationRequest extends ModbusPDU implemen
             ModbusPDUReadDeviceIdentificationRequest.MEITYPE);
 
     ModbusDeviceInformationLevel level =
-        readEnumField(
-            "level",
-            "ModbusDeviceInformationLevel",
-            readEnum(ModbusDeviceInformationLevel::enumForValue, readUnsignedShort(readBuffer, 8)));
-
-    short objectId = readSimpleField("objectId", readUnsignedShort(readBuffer, 8));
+        (_fastReadBuffer != null)
+            ? ModbusDeviceInformationLevel.enumForValue(
+                _fastReadBuffer.readUnsignedShort("level", 8))
+            : readEnumField(
+                "level",
+                "ModbusDeviceInformationLevel",
+                readEnum(
+                    ModbusDeviceInformationLevel::enumForValue, readUnsignedShort(readBuffer, 8)));
+
+    short objectId =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("objectId", 8)
+            : readSimpleField("objectId", readUnsignedShort(readBuffer, 8));
 
     readBuffer.closeContext("ModbusPDUReadDeviceIdentificationRequest");
     // Create the instance
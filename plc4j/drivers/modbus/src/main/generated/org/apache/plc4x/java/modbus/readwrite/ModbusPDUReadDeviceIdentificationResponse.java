@@ -74,7 +74,10 @@ public class ModbusPDUReadDeviceIdentificationResponse extends ModbusPDU impleme
     this.conformityLevel = conformityLevel;
     this.moreFollows = moreFollows;
     this.nextObjectId = nextObjectId;
-    this.objects = objects;
+    this.objects =
+        (objects == null) ? null : Collections.unmodifiableList(new ArrayList<>(objects));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ModbusDeviceInformationLevel getLevel() {
@@ -166,11 +169,16 @@ public class ModbusPDUReadDeviceIdentificationResponse extends ModbusPDU impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUReadDeviceIdentificationResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (meiType)
     lengthInBits += 8;
@@ -202,6 +210,7 @@ public class ModbusPDUReadDeviceIdentificationResponse extends ModbusPDU impleme
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -210,6 +219,9 @@ public class ModbusPDUReadDeviceIdentificationResponse extends ModbusPDU impleme
     readBuffer.pullContext("ModbusPDUReadDeviceIdentificationResponse");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
 
     short meiType =
         readConstField(
@@ -218,32 +230,51 @@ public class ModbusPDUReadDeviceIdentificationResponse extends ModbusPDU impleme
             ModbusPDUReadDeviceIdentificationResponse.MEITYPE);
 
     ModbusDeviceInformationLevel level =
-        readEnumField(
-            "level",
-            "ModbusDeviceInformationLevel",
-            readEnum(ModbusDeviceInformationLevel::enumForValue, readUnsignedShort(readBuffer, 8)));
-
-    boolean individualAccess = readSimpleField("individualAccess", readBoolean(readBuffer));
+        (_fastReadBuffer != null)
+            ? ModbusDeviceInformationLevel.enumForValue(
+                _fastReadBuffer.readUnsignedShort("level", 8))
+            : readEnumField(
+                "level",
+                "ModbusDeviceInformationLevel",
+                readEnum(
+                    ModbusDeviceInformationLevel::enumForValue, readUnsignedShort(readBuffer, 8)));
+
+    boolean individualAccess =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readBit("individualAccess")
+            : readSimpleField("individualAccess", readBoolean(readBuffer));
 
     ModbusDeviceInformationConformityLevel conformityLevel =
-        readEnumField(
-            "conformityLevel",
-            "ModbusDeviceInformationConformityLevel",
-            readEnum(
-                ModbusDeviceInformationConformityLevel::enumForValue,
-                readUnsignedByte(readBuffer, 7)));
+        (_fastReadBuffer != null)
+            ? ModbusDeviceInformationConformityLevel.enumForValue(
+                _fastReadBuffer.readUnsignedByte("conformityLevel", 7))
+            : readEnumField(
+                "conformityLevel",
+                "ModbusDeviceInformationConformityLevel",
+                readEnum(
+                    ModbusDeviceInformationConformityLevel::enumForValue,
+                    readUnsignedByte(readBuffer, 7)));
 
     ModbusDeviceInformationMoreFollows moreFollows =
-        readEnumField(
-            "moreFollows",
-            "ModbusDeviceInformationMoreFollows",
-            readEnum(
-                ModbusDeviceInformationMoreFollows::enumForValue,
-                readUnsignedShort(readBuffer, 8)));
-
-    short nextObjectId = readSimpleField("nextObjectId", readUnsignedShort(readBuffer, 8));
-
-    short numberOfObjects = readImplicitField("numberOfObjects", readUnsignedShort(readBuffer, 8));
+        (_fastReadBuffer != null)
+            ? ModbusDeviceInformationMoreFollows.enumForValue(
+                _fastReadBuffer.readUnsignedShort("moreFollows", 8))
+            : readEnumField(
+                "moreFollows",
+                "ModbusDeviceInformationMoreFollows",
+                readEnum(
+                    ModbusDeviceInformationMoreFollows::enumForValue,
+                    readUnsignedShort(readBuffer, 8)));
+
+    short nextObjectId =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("nextObjectId", 8)
+            : readSimpleField("nextObjectId", readUnsignedShort(readBuffer, 8));
+
+    short numberOfObjects =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("numberOfObjects", 8)
+            : readImplicitField("numberOfObjects", readUnsignedShort(readBuffer, 8));
 
     List<ModbusDeviceInformationObject> objects =
         readCountArrayField(
@@ -58,6 +58,8 @@ public class ModbusPDUReadDiscreteInputsRequest extends ModbusPDU implements Mes
     super();
     this.startingAddress = startingAddress;
     this.quantity = quantity;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getStartingAddress() {
@@ -88,11 +90,16 @@ public class ModbusPDUReadDiscreteInputsRequest extends ModbusPDU implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUReadDiscreteInputsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (startingAddress)
     lengthInBits += 16;
@@ -100,6 +107,7 @@ public class ModbusPDUReadDiscreteInputsRequest extends ModbusPDU implements Mes
     // Simple field (quantity)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -108,10 +116,19 @@ public class ModbusPDUReadDiscreteInputsRequest extends ModbusPDU implements Mes
     readBuffer.pullContext("ModbusPDUReadDiscreteInputsRequest");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    int startingAddress = readSimpleField("startingAddress", readUnsignedInt(readBuffer, 16));
-
-    int quantity = readSimpleField("quantity", readUnsignedInt(readBuffer, 16));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    int startingAddress =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("startingAddress", 16)
+            : readSimpleField("startingAddress", readUnsignedInt(readBuffer, 16));
+
+    int quantity =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("quantity", 16)
+            : readSimpleField("quantity", readUnsignedInt(readBuffer, 16));
 
     readBuffer.closeContext("ModbusPDUReadDiscreteInputsRequest");
     // Create the instance
@@ -52,6 +52,8 @@ public class ModbusPDUReadExceptionStatusRequest extends ModbusPDU implements Me
 
   public ModbusPDUReadExceptionStatusRequest() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -68,12 +70,18 @@ public class ModbusPDUReadExceptionStatusRequest extends ModbusPDU implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUReadExceptionStatusRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -82,6 +90,9 @@ public class ModbusPDUReadExceptionStatusRequest extends ModbusPDU implements Me
     readBuffer.pullContext("ModbusPDUReadExceptionStatusRequest");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
 
     readBuffer.closeContext("ModbusPDUReadExceptionStatusRequest");
     // Create the instance
@@ -56,6 +56,8 @@ public class ModbusPDUReadExceptionStatusResponse extends ModbusPDU implements M
   public ModbusPDUReadExceptionStatusResponse(short value) {
     super();
     this.value = value;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getValue() {
@@ -79,15 +81,21 @@ public class ModbusPDUReadExceptionStatusResponse extends ModbusPDU implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUReadExceptionStatusResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -96,8 +104,14 @@ public class ModbusPDUReadExceptionStatusResponse extends ModbusPDU implements M
     readBuffer.pullContext("ModbusPDUReadExceptionStatusResponse");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    short value = readSimpleField("value", readUnsignedShort(readBuffer, 8));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    short value =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("value", 8)
+            : readSimpleField("value", readUnsignedShort(readBuffer, 8));
 
     readBuffer.closeContext("ModbusPDUReadExceptionStatusResponse");
     // Create the instance
@@ -56,6 +56,8 @@ public class ModbusPDUReadFifoQueueRequest extends ModbusPDU implements Message
   public ModbusPDUReadFifoQueueRequest(int fifoPointerAddress) {
     super();
     this.fifoPointerAddress = fifoPointerAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getFifoPointerAddress() {
@@ -79,15 +81,21 @@ public class ModbusPDUReadFifoQueueRequest extends ModbusPDU implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUReadFifoQueueRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (fifoPointerAddress)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -96,8 +104,14 @@ public class ModbusPDUReadFifoQueueRequest extends ModbusPDU implements Message
     readBuffer.pullContext("ModbusPDUReadFifoQueueRequest");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    int fifoPointerAddress = readSimpleField("fifoPointerAddress", readUnsignedInt(readBuffer, 16));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    int fifoPointerAddress =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("fifoPointerAddress", 16)
+            : readSimpleField("fifoPointerAddress", readUnsignedInt(readBuffer, 16));
 
     readBuffer.closeContext("ModbusPDUReadFifoQueueRequest");
     // Create the instance
@@ -55,7 +55,10 @@ public class ModbusPDUReadFifoQueueResponse extends ModbusPDU implements Message
 
   public ModbusPDUReadFifoQueueResponse(List<Integer> fifoValue) {
     super();
-    this.fifoValue = fifoValue;
+    this.fifoValue =
+        (fifoValue == null) ? null : Collections.unmodifiableList(new ArrayList<>(fifoValue));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Integer> getFifoValue() {
@@ -89,11 +92,16 @@ public class ModbusPDUReadFifoQueueResponse extends ModbusPDU implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUReadFifoQueueResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (byteCount)
     lengthInBits += 16;
@@ -106,6 +114,7 @@ public class ModbusPDUReadFifoQueueResponse extends ModbusPDU implements Message
       lengthInBits += 16 * fifoValue.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -114,10 +123,19 @@ public class ModbusPDUReadFifoQueueResponse extends ModbusPDU implements Message
     readBuffer.pullContext("ModbusPDUReadFifoQueueResponse");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    int byteCount = readImplicitField("byteCount", readUnsignedInt(readBuffer, 16));
-
-    int fifoCount = readImplicitField("fifoCount", readUnsignedInt(readBuffer, 16));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    int byteCount =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("byteCount", 16)
+            : readImplicitField("byteCount", readUnsignedInt(readBuffer, 16));
+
+    int fifoCount =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("fifoCount", 16)
+            : readImplicitField("fifoCount", readUnsignedInt(readBuffer, 16));
 
     List<Integer> fifoValue =
         readCountArrayField("fifoValue", readUnsignedInt(readBuffer, 16), fifoCount);
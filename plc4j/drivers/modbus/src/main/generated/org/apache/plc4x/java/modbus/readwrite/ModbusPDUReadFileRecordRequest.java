@@ -55,7 +55,9 @@ public class ModbusPDUReadFileRecordRequest extends ModbusPDU implements Message
 
   public ModbusPDUReadFileRecordRequest(List<ModbusPDUReadFileRecordRequestItem> items) {
     super();
-    this.items = items;
+    this.items = (items == null) ? null : Collections.unmodifiableList(new ArrayList<>(items));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<ModbusPDUReadFileRecordRequestItem> getItems() {
@@ -84,11 +86,16 @@ public class ModbusPDUReadFileRecordRequest extends ModbusPDU implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUReadFileRecordRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (byteCount)
     lengthInBits += 8;
@@ -100,6 +107,7 @@ public class ModbusPDUReadFileRecordRequest extends ModbusPDU implements Message
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -108,8 +116,14 @@ public class ModbusPDUReadFileRecordRequest extends ModbusPDU implements Message
     readBuffer.pullContext("ModbusPDUReadFileRecordRequest");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    short byteCount = readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    short byteCount =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("byteCount", 8)
+            : readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
 
     List<ModbusPDUReadFileRecordRequestItem> items =
         readLengthArrayField(
@@ -45,6 +45,8 @@ public class ModbusPDUReadFileRecordResponseItem implements Message {
     super();
     this.referenceType = referenceType;
     this.data = data;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getReferenceType() {
@@ -79,11 +81,16 @@ public class ModbusPDUReadFileRecordResponseItem implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ModbusPDUReadFileRecordResponseItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (dataLength)
     lengthInBits += 8;
@@ -96,6 +103,7 @@ public class ModbusPDUReadFileRecordResponseItem implements Message {
       lengthInBits += 8 * data.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -104,10 +112,19 @@ public class ModbusPDUReadFileRecordResponseItem implements Message {
     readBuffer.pullContext("ModbusPDUReadFileRecordResponseItem");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    short dataLength = readImplicitField("dataLength", readUnsignedShort(readBuffer, 8));
-
-    short referenceType = readSimpleField("referenceType", readUnsignedShort(readBuffer, 8));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    short dataLength =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("dataLength", 8)
+            : readImplicitField("dataLength", readUnsignedShort(readBuffer, 8));
+
+    short referenceType =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("referenceType", 8)
+            : readSimpleField("referenceType", readUnsignedShort(readBuffer, 8));
 
     byte[] data = readBuffer.readByteArray("data", Math.toIntExact((dataLength) - (1)));
 
@@ -70,6 +70,8 @@ public class ModbusPDUReadWriteMultipleHoldingRegistersRequest extends ModbusPDU
     this.writeStartingAddress = writeStartingAddress;
     this.writeQuantity = writeQuantity;
     this.value = value;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getReadStartingAddress() {
@@ -127,11 +129,16 @@ public class ModbusPDUReadWriteMultipleHoldingRegistersRequest extends ModbusPDU
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUReadWriteMultipleHoldingRegistersRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (readStartingAddress)
     lengthInBits += 16;
@@ -153,6 +160,7 @@ public class ModbusPDUReadWriteMultipleHoldingRegistersRequest extends ModbusPDU
       lengthInBits += 8 * value.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -161,18 +169,34 @@ public class ModbusPDUReadWriteMultipleHoldingRegistersRequest extends ModbusPDU
     readBuffer.pullContext("ModbusPDUReadWriteMultipleHoldingRegistersRequest");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
 
     int readStartingAddress =
-        readSimpleField("readStartingAddress", readUnsignedInt(readBuffer, 16));
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("readStartingAddress", 16)
+            : readSimpleField("readStartingAddress", readUnsignedInt(readBuffer, 16));
 
-    int readQuantity = readSimpleField("readQuantity", readUnsignedInt(readBuffer, 16));
+    int readQuantity =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("readQuantity", 16)
+            : readSimpleField("readQuantity", readUnsignedInt(readBuffer, 16));
 
     int writeStartingAddress =
-        readSimpleField("writeStartingAddress", readUnsignedInt(readBuffer, 16));
-
-    int writeQuantity = readSimpleField("writeQuantity", readUnsignedInt(readBuffer, 16));
-
-    short byteCount = readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("writeStartingAddress", 16)
+            : readSimpleField("writeStartingAddress", readUnsignedInt(readBuffer, 16));
+
+    int writeQuantity =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("writeQuantity", 16)
+            : readSimpleField("writeQuantity", readUnsignedInt(readBuffer, 16));
+
+    short byteCount =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("byteCount", 8)
+            : readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
 
     byte[] value = readBuffer.readByteArray("value", Math.toIntExact(byteCount));
 
@@ -50,6 +50,8 @@ public class ModbusPDUWriteFileRecordResponseItem implements Message {
     this.fileNumber = fileNumber;
     this.recordNumber = recordNumber;
     this.recordData = recordData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getReferenceType() {
@@ -98,11 +100,16 @@ public class ModbusPDUWriteFileRecordResponseItem implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ModbusPDUWriteFileRecordResponseItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referenceType)
     lengthInBits += 8;
@@ -121,6 +128,7 @@ public class ModbusPDUWriteFileRecordResponseItem implements Message {
       lengthInBits += 8 * recordData.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -129,14 +137,29 @@ public class ModbusPDUWriteFileRecordResponseItem implements Message {
     readBuffer.pullContext("ModbusPDUWriteFileRecordResponseItem");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    short referenceType = readSimpleField("referenceType", readUnsignedShort(readBuffer, 8));
-
-    int fileNumber = readSimpleField("fileNumber", readUnsignedInt(readBuffer, 16));
-
-    int recordNumber = readSimpleField("recordNumber", readUnsignedInt(readBuffer, 16));
-
-    int recordLength = readImplicitField("recordLength", readUnsignedInt(readBuffer, 16));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    short referenceType =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("referenceType", 8)
+            : readSimpleField("referenceType", readUnsignedShort(readBuffer, 8));
+
+    int fileNumber =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("fileNumber", 16)
+            : readSimpleField("fileNumber", readUnsignedInt(readBuffer, 16));
+
+    int recordNumber =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("recordNumber", 16)
+            : readSimpleField("recordNumber", readUnsignedInt(readBuffer, 16));
+
+    int recordLength =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("recordLength", 16)
+            : readImplicitField("recordLength", readUnsignedInt(readBuffer, 16));
 
     byte[] recordData = readBuffer.readByteArray("recordData", Math.toIntExact(recordLength));
 
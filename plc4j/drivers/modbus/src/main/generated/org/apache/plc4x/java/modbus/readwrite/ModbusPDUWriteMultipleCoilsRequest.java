@@ -60,6 +60,8 @@ public class ModbusPDUWriteMultipleCoilsRequest extends ModbusPDU implements Mes
     this.startingAddress = startingAddress;
     this.quantity = quantity;
     this.value = value;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getStartingAddress() {
@@ -102,11 +104,16 @@ public class ModbusPDUWriteMultipleCoilsRequest extends ModbusPDU implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUWriteMultipleCoilsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (startingAddress)
     lengthInBits += 16;
@@ -122,6 +129,7 @@ public class ModbusPDUWriteMultipleCoilsRequest extends ModbusPDU implements Mes
       lengthInBits += 8 * value.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -130,12 +138,24 @@ public class ModbusPDUWriteMultipleCoilsRequest extends ModbusPDU implements Mes
     readBuffer.pullContext("ModbusPDUWriteMultipleCoilsRequest");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    int startingAddress = readSimpleField("startingAddress", readUnsignedInt(readBuffer, 16));
-
-    int quantity = readSimpleField("quantity", readUnsignedInt(readBuffer, 16));
-
-    short byteCount = readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    int startingAddress =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("startingAddress", 16)
+            : readSimpleField("startingAddress", readUnsignedInt(readBuffer, 16));
+
+    int quantity =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("quantity", 16)
+            : readSimpleField("quantity", readUnsignedInt(readBuffer, 16));
+
+    short byteCount =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedShort("byteCount", 8)
+            : readImplicitField("byteCount", readUnsignedShort(readBuffer, 8));
 
     byte[] value = readBuffer.readByteArray("value", Math.toIntExact(byteCount));
 
@@ -58,6 +58,8 @@ public class ModbusPDUWriteSingleCoilRequest extends ModbusPDU implements Messag
     super();
     this.address = address;
     this.value = value;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getAddress() {
@@ -88,11 +90,16 @@ public class ModbusPDUWriteSingleCoilRequest extends ModbusPDU implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusPDUWriteSingleCoilRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (address)
     lengthInBits += 16;
@@ -100,6 +107,7 @@ public class ModbusPDUWriteSingleCoilRequest extends ModbusPDU implements Messag
     // Simple field (value)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -108,10 +116,19 @@ public class ModbusPDUWriteSingleCoilRequest extends ModbusPDU implements Messag
     readBuffer.pullContext("ModbusPDUWriteSingleCoilRequest");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
-
-    int address = readSimpleField("address", readUnsignedInt(readBuffer, 16));
-
-    int value = readSimpleField("value", readUnsignedInt(readBuffer, 16));
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
+
+    int address =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("address", 16)
+            : readSimpleField("address", readUnsignedInt(readBuffer, 16));
+
+    int value =
+        (_fastReadBuffer != null)
+            ? _fastReadBuffer.readUnsignedInt("value", 16)
+            : readSimpleField("value", readUnsignedInt(readBuffer, 16));
 
     readBuffer.closeContext("ModbusPDUWriteSingleCoilRequest");
     // Create the instance
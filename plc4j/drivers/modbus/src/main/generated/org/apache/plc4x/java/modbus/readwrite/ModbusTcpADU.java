@@ -55,6 +55,8 @@ public class ModbusTcpADU extends ModbusADU implements Message {
     this.transactionIdentifier = transactionIdentifier;
     this.unitIdentifier = unitIdentifier;
     this.pdu = pdu;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getTransactionIdentifier() {
@@ -121,11 +123,16 @@ public class ModbusTcpADU extends ModbusADU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModbusTcpADU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (transactionIdentifier)
     lengthInBits += 16;
@@ -142,6 +149,7 @@ public class ModbusTcpADU extends ModbusADU implements Message {
     // Simple field (pdu)
     lengthInBits += pdu.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -150,12 +158,17 @@ public class ModbusTcpADU extends ModbusADU implements Message {
     readBuffer.pullContext("ModbusTcpADU");
     PositionAware positionAware = readBuffer;
     boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
+    // Byte based buffers are read directly, all others go through the generic field readers.
+    ReadBufferByteBased _fastReadBuffer =
+        (readBuffer instanceof ReadBufferByteBased) ? (ReadBufferByteBased) readBuffer : null;
 
     int transactionIdentifier =
-        readSimpleField(
-            "transactionIdentifier",
-            readUnsignedInt(readBuffer, 16),
-            WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
+        ((_fastReadBuffer != null) && (_fastReadBuffer.getByteOrder() == (ByteOrder.BIG_ENDIAN)))
+            ? _fastReadBuffer.readUnsignedInt("transactionIdentifier", 16)
+            : readSimpleField(
+                "transactionIdentifier",
+                readUnsignedInt(readBuffer, 16),
+                WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
 
     int protocolIdentifier =
         readConstField(
@@ -165,22 +178,29 @@ public class ModbusTcpADU extends ModbusADU implements Message {
             WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
 
     int length =
-        readImplicitField(
-            "length",
-            readUnsignedInt(readBuffer, 16),
-            WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
+        ((_fastReadBuffer != null) && (_fastReadBuffer.getByteOrder() == (ByteOrder.BIG_ENDIAN)))
+            ? _fastReadBuffer.readUnsignedInt("length", 16)
+            : readImplicitField(
+                "length",
+                readUnsignedInt(readBuffer, 16),
+                WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
 
     short unitIdentifier =
-        readSimpleField(
-            "unitIdentifier",
-            readUnsignedShort(readBuffer, 8),
-            WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
+        ((_fastReadBuffer != null) && (_fastReadBuffer.getByteOrder() == (ByteOrder.BIG_ENDIAN)))
+            ? _fastReadBuffer.readUnsignedShort("unitIdentifier", 8)
+            : readSimpleField(
+                "unitIdentifier",
+                readUnsignedShort(readBuffer, 8),
+                WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
 
     ModbusPDU pdu =
-        readSimpleField(
-            "pdu",
-            readComplex(() -> ModbusPDU.staticParse(readBuffer, (boolean) (response)), readBuffer),
-            WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
+        ((_fastReadBuffer != null) && (_fastReadBuffer.getByteOrder() == (ByteOrder.BIG_ENDIAN)))
+            ? ModbusPDU.staticParse(readBuffer, (boolean) (response))
+            : readSimpleField(
+                "pdu",
+                readComplex(
+                    () -> ModbusPDU.staticParse(readBuffer, (boolean) (response)), readBuffer),
+                WithOption.WithByteOrder(ByteOrder.BIG_ENDIAN));
 
     readBuffer.closeContext("ModbusTcpADU");
     // Create the instance
@@ -25,6 +25,7 @@ import org.apache.plc4x.java.spi.configuration.annotations.Description;
 import org.apache.plc4x.java.spi.configuration.annotations.Since;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.IntDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.StringDefaultValue;
+import org.apache.plc4x.java.spi.transaction.TransactionExecutorMode;
 
 public class ModbusAsciiConfiguration implements PlcConnectionConfiguration {
 
@@ -61,6 +62,22 @@ public class ModbusAsciiConfiguration implements PlcConnectionConfiguration {
     @Since("0.13.0")
     private int maxRegistersPerRequest;
 
+    @ConfigurationParameter("transaction-executor")
+    @StringDefaultValue("DEDICATED")
+    @Description("Defines which threads requests are processed on (Defaults to DEDICATED).\n" +
+        "Allowed values are: \n" +
+        " - DEDICATED (every connection uses its own small thread pool)\n" +
+        " - SHARED (all connections share one bounded thread pool)\n" +
+        " - VIRTUAL (every request runs on its own virtual thread, requires Java 21)\n")
+    @Since("0.13.0")
+    private TransactionExecutorMode transactionExecutorMode;
+
+    @ConfigurationParameter("transaction-executor-pool-size")
+    @IntDefaultValue(0)
+    @Description("Number of threads of the shared thread pool used by 'transaction-executor=SHARED' (Defaults to the number of available processors).")
+    @Since("0.13.0")
+    private int transactionExecutorPoolSize;
+
     public int getRequestTimeout() {
         return requestTimeout;
     }
@@ -101,6 +118,24 @@ public class ModbusAsciiConfiguration implements PlcConnectionConfiguration {
         this.maxRegistersPerRequest = maxRegistersPerRequest;
     }
 
+    @Override
+    public TransactionExecutorMode getTransactionExecutorMode() {
+        return transactionExecutorMode;
+    }
+
+    public void setTransactionExecutorMode(TransactionExecutorMode transactionExecutorMode) {
+        this.transactionExecutorMode = transactionExecutorMode;
+    }
+
+    @Override
+    public int getTransactionExecutorPoolSize() {
+        return transactionExecutorPoolSize;
+    }
+
+    public void setTransactionExecutorPoolSize(int transactionExecutorPoolSize) {
+        this.transactionExecutorPoolSize = transactionExecutorPoolSize;
+    }
+
     @Override
     public String toString() {
         return "ModbusAsciiConfiguration{" +
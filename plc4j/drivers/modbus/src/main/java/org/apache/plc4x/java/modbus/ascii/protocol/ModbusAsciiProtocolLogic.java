@@ -36,6 +36,7 @@ import org.apache.plc4x.java.spi.generation.ParseException;
 import org.apache.plc4x.java.spi.messages.*;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
 import org.apache.plc4x.java.spi.transaction.RequestTransactionManager;
+import org.apache.plc4x.java.spi.transaction.TransactionPriority;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -52,7 +53,8 @@ public class ModbusAsciiProtocolLogic extends ModbusProtocolLogic<ModbusAsciiADU
         this.requestTimeout = Duration.ofMillis(configuration.getRequestTimeout());
         this.unitIdentifier = configuration.getDefaultUnitIdentifier();
         this.defaultPayloadByteOrder = configuration.getDefaultPayloadByteOrder();
-        this.tm = new RequestTransactionManager(1);
+        this.tm = new RequestTransactionManager(1, configuration.getTransactionExecutorMode(),
+            configuration.getTransactionExecutorPoolSize());
     }
 
     @Override
@@ -175,7 +177,7 @@ public class ModbusAsciiProtocolLogic extends ModbusProtocolLogic<ModbusAsciiADU
             final ModbusPDU requestPdu = getWriteRequestPdu(tag, writeRequest.getPlcValue(tagName));
             final short unitId = getUnitId(tag);
             ModbusAsciiADU modbusAsciiADU = new ModbusAsciiADU(unitId, requestPdu);
-            RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
+            RequestTransactionManager.RequestTransaction transaction = tm.startRequest(TransactionPriority.HIGH);
             transaction.submit(() -> conversationContext.sendRequest(modbusAsciiADU)
                 .expectResponse(ModbusAsciiADU.class, requestTimeout)
                 .onTimeout(future::completeExceptionally)
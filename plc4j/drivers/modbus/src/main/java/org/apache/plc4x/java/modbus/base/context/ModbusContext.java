@@ -27,6 +27,8 @@ public abstract class ModbusContext implements DriverContext {
     private ModbusByteOrder byteOrder;
     private int maxCoilsPerRequest;
     private int maxRegistersPerRequest;
+    // Serial connections are strictly request/response.
+    private int maxOutstandingRequests = 1;
 
     public ModbusByteOrder getByteOrder() {
         return byteOrder;
@@ -52,4 +54,12 @@ public abstract class ModbusContext implements DriverContext {
         this.maxRegistersPerRequest = maxRegistersPerRequest;
     }
 
+    public int getMaxOutstandingRequests() {
+        return maxOutstandingRequests;
+    }
+
+    public void setMaxOutstandingRequests(int maxOutstandingRequests) {
+        this.maxOutstandingRequests = maxOutstandingRequests;
+    }
+
 }
@@ -21,6 +21,8 @@ package org.apache.plc4x.java.modbus.base.optimizer;
 
 import org.apache.plc4x.java.api.messages.PlcReadRequest;
 import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.messages.PlcWriteRequest;
+import org.apache.plc4x.java.api.messages.PlcWriteResponse;
 import org.apache.plc4x.java.api.model.PlcTag;
 import org.apache.plc4x.java.api.types.PlcResponseCode;
 import org.apache.plc4x.java.api.value.PlcValue;
@@ -28,9 +30,11 @@ import org.apache.plc4x.java.modbus.base.context.ModbusContext;
 import org.apache.plc4x.java.modbus.base.protocol.ModbusProtocolLogic;
 import org.apache.plc4x.java.modbus.base.tag.ModbusTag;
 import org.apache.plc4x.java.modbus.base.tag.ModbusTagCoil;
+import org.apache.plc4x.java.modbus.base.tag.ModbusTagCoilBlock;
 import org.apache.plc4x.java.modbus.base.tag.ModbusTagDiscreteInput;
 import org.apache.plc4x.java.modbus.base.tag.ModbusTagExtendedRegister;
 import org.apache.plc4x.java.modbus.base.tag.ModbusTagHoldingRegister;
+import org.apache.plc4x.java.modbus.base.tag.ModbusTagHoldingRegisterBlock;
 import org.apache.plc4x.java.modbus.base.tag.ModbusTagInputRegister;
 import org.apache.plc4x.java.modbus.readwrite.DataItem;
 import org.apache.plc4x.java.modbus.readwrite.ModbusDataType;
@@ -44,13 +48,18 @@ import org.apache.plc4x.java.spi.generation.SerializationException;
 import org.apache.plc4x.java.spi.generation.WriteBufferXmlBased;
 import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
 import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
+import org.apache.plc4x.java.spi.messages.DefaultPlcWriteRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcWriteResponse;
 import org.apache.plc4x.java.spi.messages.PlcReader;
+import org.apache.plc4x.java.spi.messages.PlcWriter;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagValueItem;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
 import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
 import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
 import org.apache.plc4x.java.spi.optimizer.SingleTagOptimizer;
 import org.apache.plc4x.java.spi.values.PlcBOOL;
+import org.apache.plc4x.java.spi.values.PlcList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -61,15 +70,22 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.TreeSet;
 
 /**
  * In order to read more data more efficiently, this optimizer for modbus joins together individual items
- * and reads larger arrays of data.
+ * and reads larger arrays of data. Writes to adjacent registers or coils are joined the same way.
  */
 public class ModbusOptimizer extends SingleTagOptimizer {
     private final Logger logger = LoggerFactory.getLogger(ModbusOptimizer.class);
 
+    // Maximum number of registers (FC16) and coils (FC15) a write request can carry.
+    static final int MAX_REGISTERS_PER_WRITE = 123;
+    static final int MAX_COILS_PER_WRITE = 1968;
+
+    private static final String BLOCK_TAG_NAME_PREFIX = "__modbus_block_";
+
     /**
      * Per default the number of registers that can be read are 125 registers.
      * The number of coils that can be read in one request are 2000 coils.
@@ -158,8 +174,9 @@ public class ModbusOptimizer extends SingleTagOptimizer {
             // This data should contain all the bits needed to create the response of the original request.
             Map<String, List<Response>> responses = new HashMap<>();
             for (PlcReadRequest optimizedReadRequest : readResponses.keySet()) {
-                PlcReadResponse optimizedReadResponse = readResponses.get(optimizedReadRequest).getResponse();
-                if (optimizedReadResponse == null) {
+                SubResponse<PlcReadResponse> subResponse = readResponses.get(optimizedReadRequest);
+                PlcReadResponse optimizedReadResponse = subResponse.getResponse();
+                if ((optimizedReadResponse == null) && subResponse.isSuccess()) {
                     continue;
                 }
                 // Optimized read requests only contain one ModbusTag.
@@ -172,7 +189,9 @@ public class ModbusOptimizer extends SingleTagOptimizer {
                 if (!responses.containsKey(tagType)) {
                     responses.put(tagType, new ArrayList<>());
                 }
-                PlcResponseCode responseCode = optimizedReadResponse.getResponseCode(tagName);
+                // If the whole sub-request failed, all tags in its range get the same response code.
+                PlcResponseCode responseCode = subResponse.isSuccess() ?
+                    optimizedReadResponse.getResponseCode(tagName) : getResponseCode(subResponse.getThrowable());
                 int startingAddress = modbusTag.getAddress();
                 int endingAddressRegister = modbusTag.getAddress() + modbusTag.getNumberOfElements();
                 int endingAddressCoil = modbusTag.getAddress() + modbusTag.getNumberOfElements();
@@ -195,10 +214,7 @@ public class ModbusOptimizer extends SingleTagOptimizer {
                     if(modbusTag instanceof ModbusTagCoil) {
                         if(response.matchesCoil(modbusTag)) {
                             // If this response was invalid, return all associated addresses as equally invalid.
-                            // TODO: Possibly it would be worth doing a single item request for each of these
-                            //  tags in order to find out which ones are actually invalid as if one item in the
-                            //  current request exceeds the address range, all items in this chunk will fail, even
-                            //  if only one element was invalid.
+                            // (The BaseOptimizer retries them in smaller chunks to find out which ones actually are)
                             if(response.getResponseCode() != PlcResponseCode.OK) {
                                 values.put(tagName, new DefaultPlcResponseItem<>(response.getResponseCode(), null));
                                 break;
@@ -220,10 +236,7 @@ public class ModbusOptimizer extends SingleTagOptimizer {
                     // Read a normal register.
                     else if (response.matchesRegister(modbusTag)) {
                         // If this response was invalid, return all associated addresses as equally invalid.
-                        // TODO: Possibly it would be worth doing a single item request for each of these
-                        //  tags in order to find out which ones are actually invalid as if one item in the
-                        //  current request exceeds the address range, all items in this chunk will fail, even
-                        //  if only one element was invalid.
+                        // (The BaseOptimizer retries them in smaller chunks to find out which ones actually are)
                         if(response.getResponseCode() != PlcResponseCode.OK) {
                             values.put(tagName, new DefaultPlcResponseItem<>(response.getResponseCode(), null));
                             break;
@@ -279,6 +292,108 @@ public class ModbusOptimizer extends SingleTagOptimizer {
         }
     }
 
+    /**
+     * Send as many blocks in parallel, as the connection keeps requests outstanding (Only Modbus TCP pipelines).
+     */
+    @Override
+    protected int getMaxInFlightSubRequests(DriverContext driverContext) {
+        return Math.max(1, ((ModbusContext) driverContext).getMaxOutstandingRequests());
+    }
+
+    /**
+     * Every sub-request reads one block of coils or registers, covering all tags of the same type located in it.
+     * They are returned ordered by their address, so bisecting retries split the block in its lower and upper half.
+     */
+    @Override
+    protected List<String> getCoveredTagNames(PlcReadRequest readRequest, PlcReadRequest subRequest, String subTagName) {
+        if (!(subRequest.getTag(subTagName) instanceof ModbusTag)) {
+            return super.getCoveredTagNames(readRequest, subRequest, subTagName);
+        }
+        ModbusTag blockTag = (ModbusTag) subRequest.getTag(subTagName);
+        int endingAddress = blockTag.getAddress() + blockTag.getNumberOfElements();
+        Response block = new Response(null, blockTag.getAddress(), endingAddress, endingAddress, null);
+        List<String> coveredTagNames = new ArrayList<>();
+        for (String tagName : readRequest.getTagNames()) {
+            PlcTag tag = readRequest.getTag(tagName);
+            if (tag.getClass() != blockTag.getClass()) {
+                continue;
+            }
+            ModbusTag modbusTag = (ModbusTag) tag;
+            if ((modbusTag instanceof ModbusTagCoil) ? block.matchesCoil(modbusTag) : block.matchesRegister(modbusTag)) {
+                coveredTagNames.add(tagName);
+            }
+        }
+        coveredTagNames.sort(Comparator.comparingInt(tagName -> ((ModbusTag) readRequest.getTag(tagName)).getAddress()));
+        return coveredTagNames;
+    }
+
+    /**
+     * Writes to adjacent holding registers or boolean coils are merged into one write-multiple request (FC16 / FC15)
+     * per block of consecutive addresses, limited to the maximum number of registers or coils a single write request
+     * can carry. Gaps between tags aren't bridged, as this would overwrite the addresses in between. All other tags
+     * are written one by one.
+     */
+    @Override
+    protected List<PlcWriteRequest> processWriteRequest(PlcWriteRequest writeRequest, DriverContext driverContext) {
+        ModbusContext modbusContext = (ModbusContext) driverContext;
+        PlcWriter writer = ((DefaultPlcWriteRequest) writeRequest).getWriter();
+
+        List<PlcWriteRequest> subRequests = new ArrayList<>();
+        List<String> registerTagNames = new ArrayList<>();
+        List<String> coilTagNames = new ArrayList<>();
+        for (String tagName : writeRequest.getTagNames()) {
+            PlcTag tag = writeRequest.getTag(tagName);
+            if (isMergeableRegister(tag)) {
+                registerTagNames.add(tagName);
+            } else if (isMergeableCoil(tag, writeRequest.getPlcValue(tagName))) {
+                coilTagNames.add(tagName);
+            } else {
+                subRequests.add(createWriteRequest(writer, tagName, tag, writeRequest.getPlcValue(tagName)));
+            }
+        }
+
+        int maxRegisters = getLimit(modbusContext.getMaxRegistersPerRequest(), MAX_REGISTERS_PER_WRITE);
+        for (List<String> block : getWriteBlocks(writeRequest, registerTagNames, maxRegisters)) {
+            subRequests.add(createRegisterWriteRequest(writer, writeRequest, block));
+        }
+        int maxCoils = getLimit(modbusContext.getMaxCoilsPerRequest(), MAX_COILS_PER_WRITE);
+        for (List<String> block : getWriteBlocks(writeRequest, coilTagNames, maxCoils)) {
+            subRequests.add(createCoilWriteRequest(writer, writeRequest, block));
+        }
+        return subRequests;
+    }
+
+    /**
+     * The response code of a merged write applies to all tags of the block.
+     */
+    @Override
+    protected PlcWriteResponse processWriteResponses(PlcWriteRequest writeRequest,
+                                                     Map<PlcWriteRequest, SubResponse<PlcWriteResponse>> writeResponses,
+                                                     DriverContext driverContext) {
+        Map<String, PlcResponseCode> responseCodes = new HashMap<>();
+        for (Map.Entry<PlcWriteRequest, SubResponse<PlcWriteResponse>> entry : writeResponses.entrySet()) {
+            PlcWriteRequest subRequest = entry.getKey();
+            SubResponse<PlcWriteResponse> subResponse = entry.getValue();
+            for (String subTagName : subRequest.getTagNames()) {
+                PlcResponseCode responseCode = subResponse.isSuccess() ?
+                    subResponse.getResponse().getResponseCode(subTagName) : getResponseCode(subResponse.getThrowable());
+                PlcTag subTag = subRequest.getTag(subTagName);
+                List<String> tagNames;
+                if (subTag instanceof ModbusTagHoldingRegisterBlock) {
+                    tagNames = ((ModbusTagHoldingRegisterBlock) subTag).getTagNames();
+                } else if (subTag instanceof ModbusTagCoilBlock) {
+                    tagNames = ((ModbusTagCoilBlock) subTag).getTagNames();
+                } else {
+                    tagNames = Collections.singletonList(subTagName);
+                }
+                for (String tagName : tagNames) {
+                    responseCodes.put(tagName, responseCode);
+                }
+            }
+        }
+        return new DefaultPlcWriteResponse(writeRequest, responseCodes);
+    }
+
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
     // Internal
     ////////////////////////////////////////////////////////////////////////////////////////////////////////////////////
@@ -368,6 +483,131 @@ public class ModbusOptimizer extends SingleTagOptimizer {
         return subRequests;
     }
 
+    private static boolean isMergeableRegister(PlcTag tag) {
+        if (tag.getClass() != ModbusTagHoldingRegister.class) {
+            return false;
+        }
+        // Only tags occupying whole registers can be put next to each other.
+        ModbusTag modbusTag = (ModbusTag) tag;
+        return (modbusTag.getLengthWords() > 0) && (modbusTag.getLengthBytes() == modbusTag.getLengthWords() * 2);
+    }
+
+    private static boolean isMergeableCoil(PlcTag tag, PlcValue value) {
+        if ((tag.getClass() != ModbusTagCoil.class) || (((ModbusTag) tag).getDataType() != ModbusDataType.BOOL)) {
+            return false;
+        }
+        int numberOfElements = ((ModbusTag) tag).getNumberOfElements();
+        if (value instanceof PlcBOOL) {
+            return numberOfElements == 1;
+        }
+        return (value instanceof PlcList) && (value.getLength() == numberOfElements)
+            && value.getList().stream().allMatch(PlcBOOL.class::isInstance);
+    }
+
+    private static int getLimit(int configured, int protocolLimit) {
+        return (configured > 0) ? Math.min(configured, protocolLimit) : protocolLimit;
+    }
+
+    private static int getSize(ModbusTag tag) {
+        return (tag instanceof ModbusTagCoil) ? tag.getNumberOfElements() : tag.getLengthWords();
+    }
+
+    /**
+     * Groups the given tags into blocks of consecutive addresses of the same unit (and byte order, as coil blocks
+     * are encoded as a whole), each not exceeding the given size.
+     */
+    private static List<List<String>> getWriteBlocks(PlcWriteRequest writeRequest, List<String> tagNames, int maxSize) {
+        List<String> sortedTagNames = new ArrayList<>(tagNames);
+        sortedTagNames.sort(Comparator
+            .comparingInt((String tagName) -> {
+                Short unitId = ((ModbusTag) writeRequest.getTag(tagName)).getUnitId();
+                return (unitId == null) ? -1 : unitId;
+            })
+            .thenComparingInt(tagName -> ((ModbusTag) writeRequest.getTag(tagName)).getAddress()));
+
+        List<List<String>> blocks = new ArrayList<>();
+        List<String> block = null;
+        ModbusTag firstTag = null;
+        int nextAddress = -1;
+        int blockSize = 0;
+        for (String tagName : sortedTagNames) {
+            ModbusTag tag = (ModbusTag) writeRequest.getTag(tagName);
+            int size = getSize(tag);
+            boolean continuesBlock = (block != null) && (tag.getAddress() == nextAddress)
+                && (blockSize + size <= maxSize)
+                && Objects.equals(tag.getUnitId(), firstTag.getUnitId())
+                && Objects.equals(tag.getByteOrder(), firstTag.getByteOrder());
+            if (!continuesBlock) {
+                block = new ArrayList<>();
+                blocks.add(block);
+                firstTag = tag;
+                blockSize = 0;
+            }
+            block.add(tagName);
+            blockSize += size;
+            nextAddress = tag.getAddress() + size;
+        }
+        return blocks;
+    }
+
+    private static PlcWriteRequest createWriteRequest(PlcWriter writer, String tagName, PlcTag tag, PlcValue value) {
+        return new DefaultPlcWriteRequest(writer,
+            new LinkedHashMap<>(Collections.singletonMap(tagName, new DefaultPlcTagValueItem<>(tag, value))));
+    }
+
+    private static PlcWriteRequest createRegisterWriteRequest(PlcWriter writer, PlcWriteRequest writeRequest, List<String> block) {
+        if (block.size() == 1) {
+            String tagName = block.get(0);
+            return createWriteRequest(writer, tagName, writeRequest.getTag(tagName), writeRequest.getPlcValue(tagName));
+        }
+        LinkedHashMap<String, ModbusTag> tags = new LinkedHashMap<>();
+        List<PlcValue> values = new ArrayList<>(block.size());
+        int quantity = 0;
+        for (String tagName : block) {
+            ModbusTag tag = (ModbusTag) writeRequest.getTag(tagName);
+            tags.put(tagName, tag);
+            values.add(writeRequest.getPlcValue(tagName));
+            quantity += tag.getLengthWords();
+        }
+        ModbusTag firstTag = tags.values().iterator().next();
+        ModbusTagHoldingRegisterBlock blockTag = new ModbusTagHoldingRegisterBlock(
+            firstTag.getAddress(), quantity, getBlockConfig(firstTag, false), tags);
+        return createWriteRequest(writer, BLOCK_TAG_NAME_PREFIX + block.get(0), blockTag, new PlcList(values));
+    }
+
+    private static PlcWriteRequest createCoilWriteRequest(PlcWriter writer, PlcWriteRequest writeRequest, List<String> block) {
+        if (block.size() == 1) {
+            String tagName = block.get(0);
+            return createWriteRequest(writer, tagName, writeRequest.getTag(tagName), writeRequest.getPlcValue(tagName));
+        }
+        LinkedHashMap<String, ModbusTag> tags = new LinkedHashMap<>();
+        List<PlcValue> values = new ArrayList<>();
+        for (String tagName : block) {
+            tags.put(tagName, (ModbusTag) writeRequest.getTag(tagName));
+            PlcValue value = writeRequest.getPlcValue(tagName);
+            if (value instanceof PlcList) {
+                values.addAll(value.getList());
+            } else {
+                values.add(value);
+            }
+        }
+        ModbusTag firstTag = tags.values().iterator().next();
+        ModbusTagCoilBlock blockTag = new ModbusTagCoilBlock(
+            firstTag.getAddress(), values.size(), getBlockConfig(firstTag, true), tags);
+        return createWriteRequest(writer, BLOCK_TAG_NAME_PREFIX + block.get(0), blockTag, new PlcList(values));
+    }
+
+    private static Map<String, String> getBlockConfig(ModbusTag firstTag, boolean withByteOrder) {
+        Map<String, String> config = new HashMap<>();
+        if (firstTag.getUnitId() != null) {
+            config.put("unit-id", firstTag.getUnitId().toString());
+        }
+        if (withByteOrder && (firstTag.getByteOrder() != null)) {
+            config.put("byte-order", firstTag.getByteOrder().name());
+        }
+        return config;
+    }
+
     protected static class Response {
         private final PlcResponseCode responseCode;
         private final int startingAddress;
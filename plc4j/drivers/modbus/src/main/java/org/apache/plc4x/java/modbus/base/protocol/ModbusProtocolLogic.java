@@ -39,7 +39,6 @@ import java.util.Arrays;
 import java.util.BitSet;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class ModbusProtocolLogic<T extends ModbusADU> extends Plc4xProtocolBase<T> {
 
@@ -50,7 +49,6 @@ public abstract class ModbusProtocolLogic<T extends ModbusADU> extends Plc4xProt
     protected ModbusByteOrder defaultPayloadByteOrder;
 
     protected RequestTransactionManager tm;
-    protected final AtomicInteger transactionIdentifierGenerator = new AtomicInteger(1);
     protected final static int FC_EXTENDED_REGISTERS_GROUP_HEADER_LENGTH = 2;
     protected final static int FC_EXTENDED_REGISTERS_FILE_RECORD_LENGTH = 10000;
 
@@ -151,7 +149,25 @@ public abstract class ModbusProtocolLogic<T extends ModbusADU> extends Plc4xProt
     }
 
     protected ModbusPDU getWriteRequestPdu(PlcTag tag, PlcValue plcValue) {
-        if (tag instanceof ModbusTagCoil) {
+        if (tag instanceof ModbusTagHoldingRegisterBlock) {
+            // Merged writes of multiple tags, each one is encoded with its own data type and byte order.
+            ModbusTagHoldingRegisterBlock block = (ModbusTagHoldingRegisterBlock) tag;
+            List<PlcValue> values = ((PlcList) plcValue).getList();
+            byte[] data = new byte[block.getLengthWords() * 2];
+            int offset = 0;
+            int index = 0;
+            for (ModbusTag blockTag : block.getTags().values()) {
+                ModbusByteOrder byteOrder = (blockTag.getByteOrder() != null) ? blockTag.getByteOrder() : defaultPayloadByteOrder;
+                byte[] tagData = fromPlcValue(blockTag, values.get(index++), byteOrder);
+                if ((tagData.length != blockTag.getLengthWords() * 2) || (offset + tagData.length > data.length)) {
+                    throw new PlcRuntimeException("Number of requested values (" + tagData.length / 2 +
+                        ") doesn't match number of requested addresses (" + blockTag.getLengthWords() + ")");
+                }
+                System.arraycopy(tagData, 0, data, offset, tagData.length);
+                offset += tagData.length;
+            }
+            return new ModbusPDUWriteMultipleHoldingRegistersRequest(block.getAddress(), block.getLengthWords(), data);
+        } else if (tag instanceof ModbusTagCoil) {
             ModbusTagCoil coil = (ModbusTagCoil) tag;
             ModbusByteOrder byteOrder = defaultPayloadByteOrder;
             if(coil.getByteOrder() != null) {
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.base.tag;
+
+import org.apache.plc4x.java.modbus.readwrite.ModbusDataType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Block of adjacent holding registers written with one request, created by the ModbusOptimizer when merging the
+ * writes of multiple tags. The value written to the block is a list of the values of the individual tags, in the
+ * same order. Each of them is encoded according to its own tag.
+ */
+public class ModbusTagHoldingRegisterBlock extends ModbusTagHoldingRegister {
+
+    private final LinkedHashMap<String, ModbusTag> tags;
+
+    public ModbusTagHoldingRegisterBlock(int address, int quantity, Map<String, String> config, LinkedHashMap<String, ModbusTag> tags) {
+        super(address, quantity, ModbusDataType.WORD, config);
+        this.tags = tags;
+    }
+
+    /**
+     * @return the tags written by this block (by tag name, ordered by address).
+     */
+    public Map<String, ModbusTag> getTags() {
+        return Collections.unmodifiableMap(tags);
+    }
+
+    public List<String> getTagNames() {
+        return new ArrayList<>(tags.keySet());
+    }
+
+}
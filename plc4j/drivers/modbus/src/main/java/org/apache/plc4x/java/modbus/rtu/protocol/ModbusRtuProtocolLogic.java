@@ -36,6 +36,7 @@ import org.apache.plc4x.java.spi.generation.ParseException;
 import org.apache.plc4x.java.spi.messages.*;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
 import org.apache.plc4x.java.spi.transaction.RequestTransactionManager;
+import org.apache.plc4x.java.spi.transaction.TransactionPriority;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -52,7 +53,8 @@ public class ModbusRtuProtocolLogic extends ModbusProtocolLogic<ModbusRtuADU> im
         this.requestTimeout = Duration.ofMillis(configuration.getRequestTimeout());
         this.unitIdentifier = (short) configuration.getDefaultUnitIdentifier();
         this.defaultPayloadByteOrder = configuration.getDefaultPayloadByteOrder();
-        this.tm = new RequestTransactionManager(1);
+        this.tm = new RequestTransactionManager(1, configuration.getTransactionExecutorMode(),
+            configuration.getTransactionExecutorPoolSize());
     }
 
     @Override
@@ -175,7 +177,7 @@ public class ModbusRtuProtocolLogic extends ModbusProtocolLogic<ModbusRtuADU> im
             final ModbusPDU requestPdu = getWriteRequestPdu(tag, writeRequest.getPlcValue(tagName));
             final short unitId = getUnitId(tag);
             ModbusRtuADU modbusRtuADU = new ModbusRtuADU(unitId, requestPdu);
-            RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
+            RequestTransactionManager.RequestTransaction transaction = tm.startRequest(TransactionPriority.HIGH);
             transaction.submit(() -> conversationContext.sendRequest(modbusRtuADU)
                 .expectResponse(ModbusRtuADU.class, requestTimeout)
                 .onTimeout(future::completeExceptionally)
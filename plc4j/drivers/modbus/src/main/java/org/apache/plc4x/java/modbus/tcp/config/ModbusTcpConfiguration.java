@@ -23,8 +23,10 @@ import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
 import org.apache.plc4x.java.spi.configuration.annotations.ConfigurationParameter;
 import org.apache.plc4x.java.spi.configuration.annotations.Description;
 import org.apache.plc4x.java.spi.configuration.annotations.Since;
+import org.apache.plc4x.java.spi.configuration.annotations.defaults.BooleanDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.IntDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.StringDefaultValue;
+import org.apache.plc4x.java.spi.transaction.TransactionExecutorMode;
 
 public class ModbusTcpConfiguration implements PlcConnectionConfiguration {
 
@@ -66,6 +68,36 @@ public class ModbusTcpConfiguration implements PlcConnectionConfiguration {
     @Since("0.13.0")
     private int maxRegistersPerRequest;
 
+    @ConfigurationParameter("max-outstanding-requests")
+    @IntDefaultValue(1)
+    @Description("Maximum number of requests sent without waiting for the responses of the previous ones (Defaults to 1).\n" +
+        "Responses are matched by transaction identifier, so higher values speed up polling over high latency links, " +
+        "if the device or gateway accepts multiple requests at a time.")
+    @Since("0.13.0")
+    private int maxOutstandingRequests;
+
+    @ConfigurationParameter("transaction-executor")
+    @StringDefaultValue("DEDICATED")
+    @Description("Defines which threads requests are processed on (Defaults to DEDICATED).\n" +
+        "Allowed values are: \n" +
+        " - DEDICATED (every connection uses its own small thread pool)\n" +
+        " - SHARED (all connections share one bounded thread pool)\n" +
+        " - VIRTUAL (every request runs on its own virtual thread, requires Java 21)\n")
+    @Since("0.13.0")
+    private TransactionExecutorMode transactionExecutorMode;
+
+    @ConfigurationParameter("transaction-executor-pool-size")
+    @IntDefaultValue(0)
+    @Description("Number of threads of the shared thread pool used by 'transaction-executor=SHARED' (Defaults to the number of available processors).")
+    @Since("0.13.0")
+    private int transactionExecutorPoolSize;
+
+    @ConfigurationParameter("write-coalescing")
+    @BooleanDefaultValue(false)
+    @Description("If enabled, requests sent at the same time (e.g. the parts of a split up read request) are flushed to the network together.")
+    @Since("0.13.0")
+    private boolean writeCoalescing;
+
     public int getRequestTimeout() {
         return requestTimeout;
     }
@@ -114,6 +146,41 @@ public class ModbusTcpConfiguration implements PlcConnectionConfiguration {
         this.maxRegistersPerRequest = maxRegistersPerRequest;
     }
 
+    public int getMaxOutstandingRequests() {
+        return maxOutstandingRequests;
+    }
+
+    public void setMaxOutstandingRequests(int maxOutstandingRequests) {
+        this.maxOutstandingRequests = maxOutstandingRequests;
+    }
+
+    @Override
+    public TransactionExecutorMode getTransactionExecutorMode() {
+        return transactionExecutorMode;
+    }
+
+    public void setTransactionExecutorMode(TransactionExecutorMode transactionExecutorMode) {
+        this.transactionExecutorMode = transactionExecutorMode;
+    }
+
+    @Override
+    public int getTransactionExecutorPoolSize() {
+        return transactionExecutorPoolSize;
+    }
+
+    public void setTransactionExecutorPoolSize(int transactionExecutorPoolSize) {
+        this.transactionExecutorPoolSize = transactionExecutorPoolSize;
+    }
+
+    @Override
+    public boolean isWriteCoalescing() {
+        return writeCoalescing;
+    }
+
+    public void setWriteCoalescing(boolean writeCoalescing) {
+        this.writeCoalescing = writeCoalescing;
+    }
+
     @Override
     public String toString() {
         return "ModbusTcpConfiguration{" +
@@ -123,6 +190,7 @@ public class ModbusTcpConfiguration implements PlcConnectionConfiguration {
             ", defaultPayloadByteOrder=" + defaultPayloadByteOrder +
             ", maxCoilsPerRequest=" + maxCoilsPerRequest +
             ", maxRegistersPerRequest=" + maxRegistersPerRequest +
+            ", maxOutstandingRequests=" + maxOutstandingRequests +
             '}';
     }
 
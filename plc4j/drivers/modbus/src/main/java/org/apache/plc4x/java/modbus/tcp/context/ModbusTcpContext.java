@@ -30,6 +30,7 @@ public class ModbusTcpContext extends ModbusContext implements HasConfiguration<
         setByteOrder(configuration.getDefaultPayloadByteOrder());
         setMaxCoilsPerRequest(configuration.getMaxCoilsPerRequest());
         setMaxRegistersPerRequest(configuration.getMaxRegistersPerRequest());
+        setMaxOutstandingRequests(configuration.getMaxOutstandingRequests());
     }
 
 }
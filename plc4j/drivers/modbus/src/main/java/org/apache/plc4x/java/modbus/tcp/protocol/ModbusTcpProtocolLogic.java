@@ -36,6 +36,7 @@ import org.apache.plc4x.java.spi.generation.ParseException;
 import org.apache.plc4x.java.spi.messages.*;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
 import org.apache.plc4x.java.spi.transaction.RequestTransactionManager;
+import org.apache.plc4x.java.spi.transaction.TransactionPriority;
 
 import java.time.Duration;
 import java.util.Collections;
@@ -43,6 +44,9 @@ import java.util.concurrent.CompletableFuture;
 
 public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> implements HasConfiguration<ModbusTcpConfiguration> {
 
+    // Responses are matched by transaction identifier, so it must be unique among the outstanding requests.
+    private final ModbusTcpTransactionIdentifiers transactionIdentifiers = new ModbusTcpTransactionIdentifiers();
+
     public ModbusTcpProtocolLogic() {
         super(DriverType.MODBUS_TCP);
     }
@@ -53,7 +57,9 @@ public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> im
         this.unitIdentifier = (short) configuration.getDefaultUnitIdentifier();
         this.pingAddress = new ModbusTagHandler().parseTag(configuration.getPingAddress());
         this.defaultPayloadByteOrder = configuration.getDefaultPayloadByteOrder();
-        this.tm = new RequestTransactionManager(1);
+        this.tm = new RequestTransactionManager(Math.max(configuration.getMaxOutstandingRequests(), 1),
+            configuration.getTransactionExecutorMode(),
+            configuration.getTransactionExecutorPoolSize());
     }
 
     @Override
@@ -75,22 +81,27 @@ public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> im
         // have any holding-register:1, it should still gracefully respond.
         ModbusPDU readRequestPdu = getReadRequestPdu(pingAddress);
         final short unitId = getUnitId(pingAddress);
-        int transactionIdentifier = transactionIdentifierGenerator.getAndIncrement();
-        // If we've reached the max value for a 16 bit transaction identifier, reset back to 1
-        if (transactionIdentifierGenerator.get() == 0xFFFF) {
-            transactionIdentifierGenerator.set(1);
-        }
+        int transactionIdentifier = transactionIdentifiers.acquire();
         ModbusTcpADU modbusTcpADU = new ModbusTcpADU(transactionIdentifier, unitId, readRequestPdu);
 
         RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
         transaction.submit(() -> conversationContext.sendRequest(modbusTcpADU)
             .expectResponse(ModbusTcpADU.class, requestTimeout)
-            .onTimeout(future::completeExceptionally)
-            .onError((p, e) -> future.completeExceptionally(e))
+            .onTimeout(e -> {
+                transactionIdentifiers.release(transactionIdentifier);
+                transaction.failRequest(e);
+                future.completeExceptionally(e);
+            })
+            .onError((p, e) -> {
+                transactionIdentifiers.release(transactionIdentifier);
+                transaction.failRequest(e);
+                future.completeExceptionally(e);
+            })
             .check(p -> ((p.getTransactionIdentifier() == transactionIdentifier) &&
                 (p.getUnitIdentifier() == unitId)))
             .unwrap(ModbusTcpADU::getPdu)
             .handle(responsePdu -> {
+                transactionIdentifiers.release(transactionIdentifier);
                 transaction.endRequest();
                 // We really don't care about what we got back. As long as it's a Modbus PDU, we're ok.
                 future.complete(new DefaultPlcPingResponse(pingRequest, PlcResponseCode.OK));
@@ -119,21 +130,26 @@ public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> im
             final ModbusPDU requestPdu = getReadRequestPdu(tag);
             final short unitId = getUnitId(tag);
 
-            int transactionIdentifier = transactionIdentifierGenerator.getAndIncrement();
-            // If we've reached the max value for a 16 bit transaction identifier, reset back to 1
-            if (transactionIdentifierGenerator.get() == 0xFFFF) {
-                transactionIdentifierGenerator.set(1);
-            }
+            int transactionIdentifier = transactionIdentifiers.acquire();
             ModbusTcpADU modbusTcpADU = new ModbusTcpADU(transactionIdentifier, unitId, requestPdu);
             RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
             transaction.submit(() -> conversationContext.sendRequest(modbusTcpADU)
                 .expectResponse(ModbusTcpADU.class, requestTimeout)
-                .onTimeout(future::completeExceptionally)
-                .onError((p, e) -> future.completeExceptionally(e))
+                .onTimeout(e -> {
+                    transactionIdentifiers.release(transactionIdentifier);
+                    transaction.failRequest(e);
+                    future.completeExceptionally(e);
+                })
+                .onError((p, e) -> {
+                    transactionIdentifiers.release(transactionIdentifier);
+                    transaction.failRequest(e);
+                    future.completeExceptionally(e);
+                })
                 .check(p -> ((p.getTransactionIdentifier() == transactionIdentifier) &&
                     (p.getUnitIdentifier() == unitId)))
                 .unwrap(ModbusTcpADU::getPdu)
                 .handle(responsePdu -> {
+                    transactionIdentifiers.release(transactionIdentifier);
                     // Try to decode the response data based on the corresponding request.
                     PlcValue plcValue = null;
                     PlcResponseCode responseCode;
@@ -189,20 +205,25 @@ public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> im
             PlcTag tag = request.getTag(tagName);
             final ModbusPDU requestPdu = getWriteRequestPdu(tag, writeRequest.getPlcValue(tagName));
             final short unitId = getUnitId(tag);
-            int transactionIdentifier = transactionIdentifierGenerator.getAndIncrement();
-            // If we've reached the max value for a 16 bit transaction identifier, reset back to 1
-            if (transactionIdentifierGenerator.get() == 0xFFFF) {
-                transactionIdentifierGenerator.set(1);
-            }
+            int transactionIdentifier = transactionIdentifiers.acquire();
             ModbusTcpADU modbusTcpADU = new ModbusTcpADU(transactionIdentifier, unitId, requestPdu);
-            RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
+            RequestTransactionManager.RequestTransaction transaction = tm.startRequest(TransactionPriority.HIGH);
             transaction.submit(() -> conversationContext.sendRequest(modbusTcpADU)
                 .expectResponse(ModbusTcpADU.class, requestTimeout)
-                .onTimeout(future::completeExceptionally)
-                .onError((p, e) -> future.completeExceptionally(e))
+                .onTimeout(e -> {
+                    transactionIdentifiers.release(transactionIdentifier);
+                    transaction.failRequest(e);
+                    future.completeExceptionally(e);
+                })
+                .onError((p, e) -> {
+                    transactionIdentifiers.release(transactionIdentifier);
+                    transaction.failRequest(e);
+                    future.completeExceptionally(e);
+                })
                 .check(p -> p.getTransactionIdentifier() == transactionIdentifier)
                 .unwrap(ModbusTcpADU::getPdu)
                 .handle(responsePdu -> {
+                    transactionIdentifiers.release(transactionIdentifier);
                     // Try to decode the response data based on the corresponding request.
                     PlcResponseCode responseCode;
 
@@ -239,4 +260,9 @@ public class ModbusTcpProtocolLogic extends ModbusProtocolLogic<ModbusTcpADU> im
         return future;
     }
 
+    @Override
+    protected Object getCorrelationKey(ModbusTcpADU msg) {
+        return msg.getTransactionIdentifier();
+    }
+
 }
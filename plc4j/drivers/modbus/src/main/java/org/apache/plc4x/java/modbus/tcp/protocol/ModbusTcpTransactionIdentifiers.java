@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.tcp.protocol;
+
+import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
+
+import java.util.BitSet;
+
+/**
+ * Hands out the 16 bit transaction identifiers of Modbus TCP ADUs.
+ * <p>
+ * With multiple requests outstanding, responses are matched to their requests by transaction identifier only, so an
+ * identifier must not be used again while a request using it is still outstanding. Identifiers are handed out in
+ * ascending order, wrapping around from 0xFFFF to 1, and skipping the ones still in use.
+ */
+public class ModbusTcpTransactionIdentifiers {
+
+    static final int MIN_IDENTIFIER = 1;
+    static final int MAX_IDENTIFIER = 0xFFFF;
+
+    private final BitSet inUse = new BitSet(MAX_IDENTIFIER + 1);
+    private int next = MIN_IDENTIFIER;
+
+    /**
+     * @return an identifier not used by any outstanding request.
+     */
+    public synchronized int acquire() {
+        for (int i = MIN_IDENTIFIER; i <= MAX_IDENTIFIER; i++) {
+            int identifier = next;
+            next = (next == MAX_IDENTIFIER) ? MIN_IDENTIFIER : next + 1;
+            if (!inUse.get(identifier)) {
+                inUse.set(identifier);
+                return identifier;
+            }
+        }
+        throw new PlcRuntimeException("All transaction identifiers are in use");
+    }
+
+    /**
+     * Makes the identifier available again, as soon as the request using it got answered, failed or timed out.
+     */
+    public synchronized void release(int identifier) {
+        inUse.clear(identifier);
+    }
+
+    public synchronized int getNumberOfIdentifiersInUse() {
+        return inUse.cardinality();
+    }
+
+}
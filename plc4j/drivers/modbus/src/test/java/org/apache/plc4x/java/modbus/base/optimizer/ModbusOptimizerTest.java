@@ -20,25 +20,46 @@
 package org.apache.plc4x.java.modbus.base.optimizer;
 
 import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcWriteRequest;
+import org.apache.plc4x.java.api.messages.PlcWriteResponse;
 import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.api.value.PlcValue;
 import org.apache.plc4x.java.modbus.base.context.ModbusContext;
+import org.apache.plc4x.java.modbus.base.tag.ModbusTag;
 import org.apache.plc4x.java.modbus.base.tag.ModbusTagCoil;
+import org.apache.plc4x.java.modbus.base.tag.ModbusTagCoilBlock;
 import org.apache.plc4x.java.modbus.base.tag.ModbusTagHoldingRegister;
+import org.apache.plc4x.java.modbus.base.tag.ModbusTagHoldingRegisterBlock;
 import org.apache.plc4x.java.modbus.readwrite.ModbusDataType;
 import org.apache.plc4x.java.modbus.types.ModbusByteOrder;
 import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcWriteRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcWriteResponse;
 import org.apache.plc4x.java.spi.messages.PlcReader;
+import org.apache.plc4x.java.spi.messages.PlcWriter;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagValueItem;
 import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagValueItem;
+import org.apache.plc4x.java.spi.optimizer.BaseOptimizer;
+import org.apache.plc4x.java.spi.values.PlcBOOL;
+import org.apache.plc4x.java.spi.values.PlcDINT;
+import org.apache.plc4x.java.spi.values.PlcINT;
+import org.apache.plc4x.java.spi.values.PlcList;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mockito;
 import org.opentest4j.AssertionFailedError;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -237,6 +258,104 @@ class ModbusOptimizerTest {
         check.isValid(plcReadRequests);
     }
 
+    @Test
+    void adjacentRegisterWritesAreMerged() {
+        LinkedHashMap<String, PlcTagValueItem<PlcTag>> tags = new LinkedHashMap<>();
+        tags.put("a", register(0, ModbusDataType.INT, new PlcINT(1)));
+        tags.put("b", register(1, ModbusDataType.DINT, new PlcDINT(2)));
+        tags.put("c", register(3, ModbusDataType.INT, new PlcINT(3)));
+        // Gaps aren't bridged, as this would overwrite register 4.
+        tags.put("d", register(5, ModbusDataType.INT, new PlcINT(4)));
+
+        List<PlcWriteRequest> writeRequests = processWriteRequest(tags);
+
+        assertEquals(2, writeRequests.size());
+        PlcTag blockTag = writeRequests.get(0).getTags().get(0);
+        assertInstanceOf(ModbusTagHoldingRegisterBlock.class, blockTag);
+        ModbusTagHoldingRegisterBlock block = (ModbusTagHoldingRegisterBlock) blockTag;
+        assertEquals(0, block.getAddress());
+        assertEquals(4, block.getLengthWords());
+        assertEquals(List.of("a", "b", "c"), block.getTagNames());
+        assertEquals(3, ((DefaultPlcWriteRequest) writeRequests.get(0)).getPlcValues().get(0).getLength());
+        assertEquals(List.of("d"), new ArrayList<>(writeRequests.get(1).getTagNames()));
+    }
+
+    @Test
+    void registerWritesAreSplitAtTheWriteLimit() {
+        LinkedHashMap<String, PlcTagValueItem<PlcTag>> tags = new LinkedHashMap<>();
+        for (int i = 0; i < 130; i++) {
+            tags.put("tag" + i, register(i, ModbusDataType.INT, new PlcINT(i)));
+        }
+
+        List<PlcWriteRequest> writeRequests = processWriteRequest(tags);
+
+        assertEquals(2, writeRequests.size());
+        assertEquals(ModbusOptimizer.MAX_REGISTERS_PER_WRITE, ((ModbusTag) writeRequests.get(0).getTags().get(0)).getLengthWords());
+        assertEquals(130 - ModbusOptimizer.MAX_REGISTERS_PER_WRITE, ((ModbusTag) writeRequests.get(1).getTags().get(0)).getLengthWords());
+    }
+
+    @Test
+    void adjacentCoilWritesAreMerged() {
+        LinkedHashMap<String, PlcTagValueItem<PlcTag>> tags = new LinkedHashMap<>();
+        tags.put("b", new DefaultPlcTagValueItem<>(new ModbusTagCoil(1, 2, ModbusDataType.BOOL, Collections.emptyMap()),
+            new PlcList(List.of(new PlcBOOL(false), new PlcBOOL(true)))));
+        tags.put("a", new DefaultPlcTagValueItem<>(new ModbusTagCoil(0, 1, ModbusDataType.BOOL, Collections.emptyMap()), new PlcBOOL(true)));
+
+        List<PlcWriteRequest> writeRequests = processWriteRequest(tags);
+
+        assertEquals(1, writeRequests.size());
+        ModbusTagCoilBlock block = (ModbusTagCoilBlock) writeRequests.get(0).getTags().get(0);
+        assertEquals(0, block.getAddress());
+        assertEquals(3, block.getNumberOfElements());
+        assertEquals(List.of("a", "b"), block.getTagNames());
+        PlcValue value = ((DefaultPlcWriteRequest) writeRequests.get(0)).getPlcValues().get(0);
+        assertEquals(3, value.getLength());
+        assertTrue(value.getIndex(0).getBoolean());
+        assertFalse(value.getIndex(1).getBoolean());
+        assertTrue(value.getIndex(2).getBoolean());
+    }
+
+    @Test
+    void blockResponseCodesApplyToAllTags() {
+        LinkedHashMap<String, PlcTagValueItem<PlcTag>> tags = new LinkedHashMap<>();
+        tags.put("a", register(0, ModbusDataType.INT, new PlcINT(1)));
+        tags.put("b", register(1, ModbusDataType.INT, new PlcINT(2)));
+        tags.put("c", register(7, ModbusDataType.INT, new PlcINT(3)));
+        PlcWriteRequest writeRequest = new DefaultPlcWriteRequest(Mockito.mock(PlcWriter.class), tags);
+        List<PlcWriteRequest> writeRequests = processWriteRequest(tags);
+
+        Map<PlcWriteRequest, BaseOptimizer.SubResponse<PlcWriteResponse>> subResponses = new HashMap<>();
+        PlcWriteRequest blockRequest = writeRequests.get(0);
+        subResponses.put(blockRequest, new BaseOptimizer.SubResponse<>(new DefaultPlcWriteResponse(blockRequest,
+            Collections.singletonMap(blockRequest.getTagNames().iterator().next(), PlcResponseCode.INVALID_ADDRESS))));
+        PlcWriteRequest singleRequest = writeRequests.get(1);
+        subResponses.put(singleRequest, new BaseOptimizer.SubResponse<>(new DefaultPlcWriteResponse(singleRequest,
+            Collections.singletonMap("c", PlcResponseCode.OK))));
+
+        PlcWriteResponse response = new ModbusOptimizer().processWriteResponses(writeRequest, subResponses, driverContext());
+
+        assertEquals(PlcResponseCode.INVALID_ADDRESS, response.getResponseCode("a"));
+        assertEquals(PlcResponseCode.INVALID_ADDRESS, response.getResponseCode("b"));
+        assertEquals(PlcResponseCode.OK, response.getResponseCode("c"));
+    }
+
+    private static PlcTagValueItem<PlcTag> register(int address, ModbusDataType dataType, PlcValue value) {
+        return new DefaultPlcTagValueItem<>(new ModbusTagHoldingRegister(address, 1, dataType, Collections.emptyMap()), value);
+    }
+
+    private static List<PlcWriteRequest> processWriteRequest(LinkedHashMap<String, PlcTagValueItem<PlcTag>> tags) {
+        PlcWriter writer = Mockito.mock(PlcWriter.class);
+        return new ModbusOptimizer().processWriteRequest(new DefaultPlcWriteRequest(writer, tags), driverContext());
+    }
+
+    private static ModbusContext driverContext() {
+        ModbusContext driverContext = Mockito.mock(ModbusContext.class);
+        Mockito.when(driverContext.getByteOrder()).thenReturn(ModbusByteOrder.BIG_ENDIAN);
+        Mockito.when(driverContext.getMaxCoilsPerRequest()).thenReturn(2000);
+        Mockito.when(driverContext.getMaxRegistersPerRequest()).thenReturn(125);
+        return driverContext;
+    }
+
     @FunctionalInterface
     protected interface CheckResult {
         void isValid(List<PlcReadRequest> readRequests) throws AssertionFailedError;
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.modbus.tcp.protocol;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ModbusTcpTransactionIdentifiersTest {
+
+    @Test
+    void wrapsAroundToOne() {
+        ModbusTcpTransactionIdentifiers identifiers = new ModbusTcpTransactionIdentifiers();
+        for (int i = ModbusTcpTransactionIdentifiers.MIN_IDENTIFIER; i <= ModbusTcpTransactionIdentifiers.MAX_IDENTIFIER; i++) {
+            assertEquals(i, identifiers.acquire());
+            identifiers.release(i);
+        }
+
+        assertEquals(1, identifiers.acquire());
+    }
+
+    @Test
+    void skipsIdentifiersStillInUse() {
+        ModbusTcpTransactionIdentifiers identifiers = new ModbusTcpTransactionIdentifiers();
+        // Identifier 1 belongs to a request, that is still outstanding after a full wrap-around.
+        int outstanding = identifiers.acquire();
+        for (int i = 2; i <= ModbusTcpTransactionIdentifiers.MAX_IDENTIFIER; i++) {
+            identifiers.release(identifiers.acquire());
+        }
+
+        assertEquals(2, identifiers.acquire());
+        assertEquals(2, identifiers.getNumberOfIdentifiersInUse());
+
+        identifiers.release(outstanding);
+        assertEquals(1, identifiers.getNumberOfIdentifiersInUse());
+    }
+
+}
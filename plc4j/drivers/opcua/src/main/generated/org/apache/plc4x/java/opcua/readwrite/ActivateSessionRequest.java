@@ -65,11 +65,17 @@ public class ActivateSessionRequest extends ExtensionObjectDefinition implements
     this.requestHeader = requestHeader;
     this.clientSignature = clientSignature;
     this.noOfClientSoftwareCertificates = noOfClientSoftwareCertificates;
-    this.clientSoftwareCertificates = clientSoftwareCertificates;
+    this.clientSoftwareCertificates =
+        (clientSoftwareCertificates == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(clientSoftwareCertificates));
     this.noOfLocaleIds = noOfLocaleIds;
-    this.localeIds = localeIds;
+    this.localeIds =
+        (localeIds == null) ? null : Collections.unmodifiableList(new ArrayList<>(localeIds));
     this.userIdentityToken = userIdentityToken;
     this.userTokenSignature = userTokenSignature;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -147,11 +153,16 @@ public class ActivateSessionRequest extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ActivateSessionRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -189,6 +200,7 @@ public class ActivateSessionRequest extends ExtensionObjectDefinition implements
     // Simple field (userTokenSignature)
     lengthInBits += userTokenSignature.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,9 +61,15 @@ public class ActivateSessionResponse extends ExtensionObjectDefinition implement
     this.responseHeader = responseHeader;
     this.serverNonce = serverNonce;
     this.noOfResults = noOfResults;
-    this.results = results;
+    this.results =
+        (results == null) ? null : Collections.unmodifiableList(new ArrayList<>(results));
     this.noOfDiagnosticInfos = noOfDiagnosticInfos;
-    this.diagnosticInfos = diagnosticInfos;
+    this.diagnosticInfos =
+        (diagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(diagnosticInfos));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -123,11 +129,16 @@ public class ActivateSessionResponse extends ExtensionObjectDefinition implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ActivateSessionResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -159,6 +170,7 @@ public class ActivateSessionResponse extends ExtensionObjectDefinition implement
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -67,6 +67,8 @@ public class AddNodesItem extends ExtensionObjectDefinition implements Message {
     this.nodeClass = nodeClass;
     this.nodeAttributes = nodeAttributes;
     this.typeDefinition = typeDefinition;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExpandedNodeId getParentNodeId() {
@@ -137,11 +139,16 @@ public class AddNodesItem extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AddNodesItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (parentNodeId)
     lengthInBits += parentNodeId.getLengthInBits();
@@ -164,6 +171,7 @@ public class AddNodesItem extends ExtensionObjectDefinition implements Message {
     // Simple field (typeDefinition)
     lengthInBits += typeDefinition.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,7 +54,10 @@ public class AddNodesRequest extends ExtensionObjectDefinition implements Messag
     super();
     this.requestHeader = requestHeader;
     this.noOfNodesToAdd = noOfNodesToAdd;
-    this.nodesToAdd = nodesToAdd;
+    this.nodesToAdd =
+        (nodesToAdd == null) ? null : Collections.unmodifiableList(new ArrayList<>(nodesToAdd));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -93,11 +96,16 @@ public class AddNodesRequest extends ExtensionObjectDefinition implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AddNodesRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -114,6 +122,7 @@ public class AddNodesRequest extends ExtensionObjectDefinition implements Messag
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -64,6 +64,8 @@ public class AddReferencesItem extends ExtensionObjectDefinition implements Mess
     this.targetServerUri = targetServerUri;
     this.targetNodeId = targetNodeId;
     this.targetNodeClass = targetNodeClass;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getSourceNodeId() {
@@ -130,11 +132,16 @@ public class AddReferencesItem extends ExtensionObjectDefinition implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AddReferencesItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sourceNodeId)
     lengthInBits += sourceNodeId.getLengthInBits();
@@ -157,6 +164,7 @@ public class AddReferencesItem extends ExtensionObjectDefinition implements Mess
     // Simple field (targetNodeClass)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
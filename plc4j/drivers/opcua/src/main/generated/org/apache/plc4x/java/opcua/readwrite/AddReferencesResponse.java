@@ -58,9 +58,15 @@ public class AddReferencesResponse extends ExtensionObjectDefinition implements
     super();
     this.responseHeader = responseHeader;
     this.noOfResults = noOfResults;
-    this.results = results;
+    this.results =
+        (results == null) ? null : Collections.unmodifiableList(new ArrayList<>(results));
     this.noOfDiagnosticInfos = noOfDiagnosticInfos;
-    this.diagnosticInfos = diagnosticInfos;
+    this.diagnosticInfos =
+        (diagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(diagnosticInfos));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -113,11 +119,16 @@ public class AddReferencesResponse extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AddReferencesResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -146,6 +157,7 @@ public class AddReferencesResponse extends ExtensionObjectDefinition implements
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
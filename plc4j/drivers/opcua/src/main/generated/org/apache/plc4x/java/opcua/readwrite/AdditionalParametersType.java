@@ -49,7 +49,10 @@ public class AdditionalParametersType extends ExtensionObjectDefinition implemen
   public AdditionalParametersType(int noOfParameters, List<ExtensionObjectDefinition> parameters) {
     super();
     this.noOfParameters = noOfParameters;
-    this.parameters = parameters;
+    this.parameters =
+        (parameters == null) ? null : Collections.unmodifiableList(new ArrayList<>(parameters));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNoOfParameters() {
@@ -81,11 +84,16 @@ public class AdditionalParametersType extends ExtensionObjectDefinition implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AdditionalParametersType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (noOfParameters)
     lengthInBits += 32;
@@ -99,6 +107,7 @@ public class AdditionalParametersType extends ExtensionObjectDefinition implemen
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class AggregateConfiguration extends ExtensionObjectDefinition implements
     this.percentDataBad = percentDataBad;
     this.percentDataGood = percentDataGood;
     this.useSlopedExtrapolation = useSlopedExtrapolation;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getTreatUncertainAsBad() {
@@ -120,11 +122,16 @@ public class AggregateConfiguration extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AggregateConfiguration _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 6;
@@ -147,6 +154,7 @@ public class AggregateConfiguration extends ExtensionObjectDefinition implements
     // Simple field (useSlopedExtrapolation)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
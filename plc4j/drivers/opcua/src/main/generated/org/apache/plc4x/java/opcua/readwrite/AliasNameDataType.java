@@ -52,7 +52,12 @@ public class AliasNameDataType extends ExtensionObjectDefinition implements Mess
     super();
     this.aliasName = aliasName;
     this.noOfReferencedNodes = noOfReferencedNodes;
-    this.referencedNodes = referencedNodes;
+    this.referencedNodes =
+        (referencedNodes == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(referencedNodes));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public QualifiedName getAliasName() {
@@ -91,11 +96,16 @@ public class AliasNameDataType extends ExtensionObjectDefinition implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AliasNameDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (aliasName)
     lengthInBits += aliasName.getLengthInBits();
@@ -112,6 +122,7 @@ public class AliasNameDataType extends ExtensionObjectDefinition implements Mess
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
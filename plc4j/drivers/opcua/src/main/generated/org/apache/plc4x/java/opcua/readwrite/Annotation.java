@@ -52,6 +52,8 @@ public class Annotation extends ExtensionObjectDefinition implements Message {
     this.message = message;
     this.userName = userName;
     this.annotationTime = annotationTime;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getMessage() {
@@ -90,11 +92,16 @@ public class Annotation extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     Annotation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (message)
     lengthInBits += message.getLengthInBits();
@@ -105,6 +112,7 @@ public class Annotation extends ExtensionObjectDefinition implements Message {
     // Simple field (annotationTime)
     lengthInBits += 64;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class AnnotationDataType extends ExtensionObjectDefinition implements Mes
     this.annotation = annotation;
     this.discipline = discipline;
     this.uri = uri;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getAnnotation() {
@@ -90,11 +92,16 @@ public class AnnotationDataType extends ExtensionObjectDefinition implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AnnotationDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (annotation)
     lengthInBits += annotation.getLengthInBits();
@@ -105,6 +112,7 @@ public class AnnotationDataType extends ExtensionObjectDefinition implements Mes
     // Simple field (uri)
     lengthInBits += uri.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
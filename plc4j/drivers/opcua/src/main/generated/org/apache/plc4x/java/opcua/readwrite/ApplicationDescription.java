@@ -69,7 +69,12 @@ public class ApplicationDescription extends ExtensionObjectDefinition implements
     this.gatewayServerUri = gatewayServerUri;
     this.discoveryProfileUri = discoveryProfileUri;
     this.noOfDiscoveryUrls = noOfDiscoveryUrls;
-    this.discoveryUrls = discoveryUrls;
+    this.discoveryUrls =
+        (discoveryUrls == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(discoveryUrls));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getApplicationUri() {
@@ -148,11 +153,16 @@ public class ApplicationDescription extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ApplicationDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (applicationUri)
     lengthInBits += applicationUri.getLengthInBits();
@@ -184,6 +194,7 @@ public class ApplicationDescription extends ExtensionObjectDefinition implements
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
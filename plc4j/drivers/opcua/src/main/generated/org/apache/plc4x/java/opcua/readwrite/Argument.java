@@ -62,8 +62,13 @@ public class Argument extends ExtensionObjectDefinition implements Message {
     this.dataType = dataType;
     this.valueRank = valueRank;
     this.noOfArrayDimensions = noOfArrayDimensions;
-    this.arrayDimensions = arrayDimensions;
+    this.arrayDimensions =
+        (arrayDimensions == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(arrayDimensions));
     this.description = description;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getName() {
@@ -124,11 +129,16 @@ public class Argument extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     Argument _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -150,6 +160,7 @@ public class Argument extends ExtensionObjectDefinition implements Message {
     // Simple field (description)
     lengthInBits += description.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -63,7 +63,10 @@ public class AxisInformation extends ExtensionObjectDefinition implements Messag
     this.title = title;
     this.axisScaleType = axisScaleType;
     this.noOfAxisSteps = noOfAxisSteps;
-    this.axisSteps = axisSteps;
+    this.axisSteps =
+        (axisSteps == null) ? null : Collections.unmodifiableList(new ArrayList<>(axisSteps));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getEngineeringUnits() {
@@ -130,11 +133,16 @@ public class AxisInformation extends ExtensionObjectDefinition implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     AxisInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (engineeringUnits)
     lengthInBits += engineeringUnits.getLengthInBits();
@@ -156,6 +164,7 @@ public class AxisInformation extends ExtensionObjectDefinition implements Messag
       lengthInBits += 64 * axisSteps.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class BinaryPayload extends Payload implements Message {
   public BinaryPayload(SequenceHeader sequenceHeader, byte[] payload) {
     super(sequenceHeader);
     this.payload = payload;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getPayload() {
@@ -71,17 +73,23 @@ public class BinaryPayload extends Payload implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BinaryPayload _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (payload != null) {
       lengthInBits += 8 * payload.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
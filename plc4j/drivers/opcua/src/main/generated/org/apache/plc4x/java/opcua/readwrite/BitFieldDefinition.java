@@ -58,6 +58,8 @@ public class BitFieldDefinition extends ExtensionObjectDefinition implements Mes
     this.description = description;
     this.startingBitPosition = startingBitPosition;
     this.endingBitPosition = endingBitPosition;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getName() {
@@ -110,11 +112,16 @@ public class BitFieldDefinition extends ExtensionObjectDefinition implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BitFieldDefinition _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -134,6 +141,7 @@ public class BitFieldDefinition extends ExtensionObjectDefinition implements Mes
     // Simple field (endingBitPosition)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
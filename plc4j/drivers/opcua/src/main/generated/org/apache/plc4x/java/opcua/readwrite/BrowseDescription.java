@@ -64,6 +64,8 @@ public class BrowseDescription extends ExtensionObjectDefinition implements Mess
     this.includeSubtypes = includeSubtypes;
     this.nodeClassMask = nodeClassMask;
     this.resultMask = resultMask;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getNodeId() {
@@ -131,11 +133,16 @@ public class BrowseDescription extends ExtensionObjectDefinition implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BrowseDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeId)
     lengthInBits += nodeId.getLengthInBits();
@@ -158,6 +165,7 @@ public class BrowseDescription extends ExtensionObjectDefinition implements Mess
     // Simple field (resultMask)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
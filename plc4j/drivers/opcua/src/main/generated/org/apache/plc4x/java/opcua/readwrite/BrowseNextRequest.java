@@ -57,7 +57,12 @@ public class BrowseNextRequest extends ExtensionObjectDefinition implements Mess
     this.requestHeader = requestHeader;
     this.releaseContinuationPoints = releaseContinuationPoints;
     this.noOfContinuationPoints = noOfContinuationPoints;
-    this.continuationPoints = continuationPoints;
+    this.continuationPoints =
+        (continuationPoints == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(continuationPoints));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -108,11 +113,16 @@ public class BrowseNextRequest extends ExtensionObjectDefinition implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BrowseNextRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -135,6 +145,7 @@ public class BrowseNextRequest extends ExtensionObjectDefinition implements Mess
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class BrowsePath extends ExtensionObjectDefinition implements Message {
     super();
     this.startingNode = startingNode;
     this.relativePath = relativePath;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getStartingNode() {
@@ -81,11 +83,16 @@ public class BrowsePath extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BrowsePath _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (startingNode)
     lengthInBits += startingNode.getLengthInBits();
@@ -93,6 +100,7 @@ public class BrowsePath extends ExtensionObjectDefinition implements Message {
     // Simple field (relativePath)
     lengthInBits += relativePath.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
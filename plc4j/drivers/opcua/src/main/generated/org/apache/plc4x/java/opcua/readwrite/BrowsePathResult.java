@@ -52,7 +52,10 @@ public class BrowsePathResult extends ExtensionObjectDefinition implements Messa
     super();
     this.statusCode = statusCode;
     this.noOfTargets = noOfTargets;
-    this.targets = targets;
+    this.targets =
+        (targets == null) ? null : Collections.unmodifiableList(new ArrayList<>(targets));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusCode getStatusCode() {
@@ -91,11 +94,16 @@ public class BrowsePathResult extends ExtensionObjectDefinition implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BrowsePathResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -112,6 +120,7 @@ public class BrowsePathResult extends ExtensionObjectDefinition implements Messa
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
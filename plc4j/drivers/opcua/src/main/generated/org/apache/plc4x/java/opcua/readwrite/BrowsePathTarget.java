@@ -50,6 +50,8 @@ public class BrowsePathTarget extends ExtensionObjectDefinition implements Messa
     super();
     this.targetId = targetId;
     this.remainingPathIndex = remainingPathIndex;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExpandedNodeId getTargetId() {
@@ -81,11 +83,16 @@ public class BrowsePathTarget extends ExtensionObjectDefinition implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BrowsePathTarget _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (targetId)
     lengthInBits += targetId.getLengthInBits();
@@ -93,6 +100,7 @@ public class BrowsePathTarget extends ExtensionObjectDefinition implements Messa
     // Simple field (remainingPathIndex)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -60,7 +60,12 @@ public class BrowseRequest extends ExtensionObjectDefinition implements Message
     this.view = view;
     this.requestedMaxReferencesPerNode = requestedMaxReferencesPerNode;
     this.noOfNodesToBrowse = noOfNodesToBrowse;
-    this.nodesToBrowse = nodesToBrowse;
+    this.nodesToBrowse =
+        (nodesToBrowse == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(nodesToBrowse));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -116,11 +121,16 @@ public class BrowseRequest extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BrowseRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -143,6 +153,7 @@ public class BrowseRequest extends ExtensionObjectDefinition implements Message
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
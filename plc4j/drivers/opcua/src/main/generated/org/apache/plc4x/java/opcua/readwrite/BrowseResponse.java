@@ -58,9 +58,15 @@ public class BrowseResponse extends ExtensionObjectDefinition implements Message
     super();
     this.responseHeader = responseHeader;
     this.noOfResults = noOfResults;
-    this.results = results;
+    this.results =
+        (results == null) ? null : Collections.unmodifiableList(new ArrayList<>(results));
     this.noOfDiagnosticInfos = noOfDiagnosticInfos;
-    this.diagnosticInfos = diagnosticInfos;
+    this.diagnosticInfos =
+        (diagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(diagnosticInfos));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -113,11 +119,16 @@ public class BrowseResponse extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BrowseResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -146,6 +157,7 @@ public class BrowseResponse extends ExtensionObjectDefinition implements Message
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,7 +57,10 @@ public class BrowseResult extends ExtensionObjectDefinition implements Message {
     this.statusCode = statusCode;
     this.continuationPoint = continuationPoint;
     this.noOfReferences = noOfReferences;
-    this.references = references;
+    this.references =
+        (references == null) ? null : Collections.unmodifiableList(new ArrayList<>(references));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusCode getStatusCode() {
@@ -103,11 +106,16 @@ public class BrowseResult extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BrowseResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -127,6 +135,7 @@ public class BrowseResult extends ExtensionObjectDefinition implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -64,6 +64,8 @@ public class BuildInfo extends ExtensionObjectDefinition implements Message {
     this.softwareVersion = softwareVersion;
     this.buildNumber = buildNumber;
     this.buildDate = buildDate;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getProductUri() {
@@ -123,11 +125,16 @@ public class BuildInfo extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     BuildInfo _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (productUri)
     lengthInBits += productUri.getLengthInBits();
@@ -147,6 +154,7 @@ public class BuildInfo extends ExtensionObjectDefinition implements Message {
     // Simple field (buildDate)
     lengthInBits += 64;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,7 +54,12 @@ public class CallMethodRequest extends ExtensionObjectDefinition implements Mess
     this.objectId = objectId;
     this.methodId = methodId;
     this.noOfInputArguments = noOfInputArguments;
-    this.inputArguments = inputArguments;
+    this.inputArguments =
+        (inputArguments == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(inputArguments));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getObjectId() {
@@ -100,11 +105,16 @@ public class CallMethodRequest extends ExtensionObjectDefinition implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CallMethodRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (objectId)
     lengthInBits += objectId.getLengthInBits();
@@ -124,6 +134,7 @@ public class CallMethodRequest extends ExtensionObjectDefinition implements Mess
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,11 +62,22 @@ public class CallMethodResult extends ExtensionObjectDefinition implements Messa
     super();
     this.statusCode = statusCode;
     this.noOfInputArgumentResults = noOfInputArgumentResults;
-    this.inputArgumentResults = inputArgumentResults;
+    this.inputArgumentResults =
+        (inputArgumentResults == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(inputArgumentResults));
     this.noOfInputArgumentDiagnosticInfos = noOfInputArgumentDiagnosticInfos;
-    this.inputArgumentDiagnosticInfos = inputArgumentDiagnosticInfos;
+    this.inputArgumentDiagnosticInfos =
+        (inputArgumentDiagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(inputArgumentDiagnosticInfos));
     this.noOfOutputArguments = noOfOutputArguments;
-    this.outputArguments = outputArguments;
+    this.outputArguments =
+        (outputArguments == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(outputArguments));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusCode getStatusCode() {
@@ -138,11 +149,16 @@ public class CallMethodResult extends ExtensionObjectDefinition implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CallMethodResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -183,6 +199,7 @@ public class CallMethodResult extends ExtensionObjectDefinition implements Messa
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class ChannelSecurityToken extends ExtensionObjectDefinition implements M
     this.tokenId = tokenId;
     this.createdAt = createdAt;
     this.revisedLifetime = revisedLifetime;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getChannelId() {
@@ -99,11 +101,16 @@ public class ChannelSecurityToken extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ChannelSecurityToken _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (channelId)
     lengthInBits += 32;
@@ -117,6 +124,7 @@ public class ChannelSecurityToken extends ExtensionObjectDefinition implements M
     // Simple field (revisedLifetime)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class CloseSessionRequest extends ExtensionObjectDefinition implements Me
     super();
     this.requestHeader = requestHeader;
     this.deleteSubscriptions = deleteSubscriptions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -84,11 +86,16 @@ public class CloseSessionRequest extends ExtensionObjectDefinition implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CloseSessionRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -99,6 +106,7 @@ public class CloseSessionRequest extends ExtensionObjectDefinition implements Me
     // Simple field (deleteSubscriptions)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
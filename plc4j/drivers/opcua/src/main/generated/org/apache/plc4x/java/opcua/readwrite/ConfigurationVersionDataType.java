@@ -50,6 +50,8 @@ public class ConfigurationVersionDataType extends ExtensionObjectDefinition impl
     super();
     this.majorVersion = majorVersion;
     this.minorVersion = minorVersion;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getMajorVersion() {
@@ -81,11 +83,16 @@ public class ConfigurationVersionDataType extends ExtensionObjectDefinition impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ConfigurationVersionDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (majorVersion)
     lengthInBits += 32;
@@ -93,6 +100,7 @@ public class ConfigurationVersionDataType extends ExtensionObjectDefinition impl
     // Simple field (minorVersion)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,7 +52,12 @@ public class ContentFilterElement extends ExtensionObjectDefinition implements M
     super();
     this.filterOperator = filterOperator;
     this.noOfFilterOperands = noOfFilterOperands;
-    this.filterOperands = filterOperands;
+    this.filterOperands =
+        (filterOperands == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(filterOperands));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public FilterOperator getFilterOperator() {
@@ -96,11 +101,16 @@ public class ContentFilterElement extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ContentFilterElement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (filterOperator)
     lengthInBits += 32;
@@ -117,6 +127,7 @@ public class ContentFilterElement extends ExtensionObjectDefinition implements M
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
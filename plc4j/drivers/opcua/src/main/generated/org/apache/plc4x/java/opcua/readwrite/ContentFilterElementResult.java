@@ -58,9 +58,17 @@ public class ContentFilterElementResult extends ExtensionObjectDefinition implem
     super();
     this.statusCode = statusCode;
     this.noOfOperandStatusCodes = noOfOperandStatusCodes;
-    this.operandStatusCodes = operandStatusCodes;
+    this.operandStatusCodes =
+        (operandStatusCodes == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(operandStatusCodes));
     this.noOfOperandDiagnosticInfos = noOfOperandDiagnosticInfos;
-    this.operandDiagnosticInfos = operandDiagnosticInfos;
+    this.operandDiagnosticInfos =
+        (operandDiagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(operandDiagnosticInfos));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusCode getStatusCode() {
@@ -115,11 +123,16 @@ public class ContentFilterElementResult extends ExtensionObjectDefinition implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ContentFilterElementResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -148,6 +161,7 @@ public class ContentFilterElementResult extends ExtensionObjectDefinition implem
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,9 +55,17 @@ public class ContentFilterResult extends ExtensionObjectDefinition implements Me
       List<DiagnosticInfo> elementDiagnosticInfos) {
     super();
     this.noOfElementResults = noOfElementResults;
-    this.elementResults = elementResults;
+    this.elementResults =
+        (elementResults == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(elementResults));
     this.noOfElementDiagnosticInfos = noOfElementDiagnosticInfos;
-    this.elementDiagnosticInfos = elementDiagnosticInfos;
+    this.elementDiagnosticInfos =
+        (elementDiagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(elementDiagnosticInfos));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNoOfElementResults() {
@@ -104,11 +112,16 @@ public class ContentFilterResult extends ExtensionObjectDefinition implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ContentFilterResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (noOfElementResults)
     lengthInBits += 32;
@@ -134,6 +147,7 @@ public class ContentFilterResult extends ExtensionObjectDefinition implements Me
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -60,7 +60,12 @@ public class CreateMonitoredItemsRequest extends ExtensionObjectDefinition imple
     this.subscriptionId = subscriptionId;
     this.timestampsToReturn = timestampsToReturn;
     this.noOfItemsToCreate = noOfItemsToCreate;
-    this.itemsToCreate = itemsToCreate;
+    this.itemsToCreate =
+        (itemsToCreate == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(itemsToCreate));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -120,11 +125,16 @@ public class CreateMonitoredItemsRequest extends ExtensionObjectDefinition imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CreateMonitoredItemsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -147,6 +157,7 @@ public class CreateMonitoredItemsRequest extends ExtensionObjectDefinition imple
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
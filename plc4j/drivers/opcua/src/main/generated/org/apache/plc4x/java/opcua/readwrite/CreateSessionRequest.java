@@ -73,6 +73,8 @@ public class CreateSessionRequest extends ExtensionObjectDefinition implements M
     this.clientCertificate = clientCertificate;
     this.requestedSessionTimeout = requestedSessionTimeout;
     this.maxResponseMessageSize = maxResponseMessageSize;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -155,11 +157,16 @@ public class CreateSessionRequest extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CreateSessionRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -188,6 +195,7 @@ public class CreateSessionRequest extends ExtensionObjectDefinition implements M
     // Simple field (maxResponseMessageSize)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
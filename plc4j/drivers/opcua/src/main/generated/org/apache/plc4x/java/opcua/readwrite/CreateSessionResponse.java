@@ -77,11 +77,19 @@ public class CreateSessionResponse extends ExtensionObjectDefinition implements
     this.serverNonce = serverNonce;
     this.serverCertificate = serverCertificate;
     this.noOfServerEndpoints = noOfServerEndpoints;
-    this.serverEndpoints = serverEndpoints;
+    this.serverEndpoints =
+        (serverEndpoints == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(serverEndpoints));
     this.noOfServerSoftwareCertificates = noOfServerSoftwareCertificates;
-    this.serverSoftwareCertificates = serverSoftwareCertificates;
+    this.serverSoftwareCertificates =
+        (serverSoftwareCertificates == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(serverSoftwareCertificates));
     this.serverSignature = serverSignature;
     this.maxRequestMessageSize = maxRequestMessageSize;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -188,11 +196,16 @@ public class CreateSessionResponse extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CreateSessionResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -242,6 +255,7 @@ public class CreateSessionResponse extends ExtensionObjectDefinition implements
     // Simple field (maxRequestMessageSize)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -67,6 +67,8 @@ public class CreateSubscriptionRequest extends ExtensionObjectDefinition impleme
     this.maxNotificationsPerPublish = maxNotificationsPerPublish;
     this.publishingEnabled = publishingEnabled;
     this.priority = priority;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -144,11 +146,16 @@ public class CreateSubscriptionRequest extends ExtensionObjectDefinition impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CreateSubscriptionRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -174,6 +181,7 @@ public class CreateSubscriptionRequest extends ExtensionObjectDefinition impleme
     // Simple field (priority)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
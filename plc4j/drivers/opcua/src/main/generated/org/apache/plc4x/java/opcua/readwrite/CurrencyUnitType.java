@@ -55,6 +55,8 @@ public class CurrencyUnitType extends ExtensionObjectDefinition implements Messa
     this.exponent = exponent;
     this.alphabeticCode = alphabeticCode;
     this.currency = currency;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getNumericCode() {
@@ -100,11 +102,16 @@ public class CurrencyUnitType extends ExtensionObjectDefinition implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CurrencyUnitType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numericCode)
     lengthInBits += 16;
@@ -118,6 +125,7 @@ public class CurrencyUnitType extends ExtensionObjectDefinition implements Messa
     // Simple field (currency)
     lengthInBits += currency.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
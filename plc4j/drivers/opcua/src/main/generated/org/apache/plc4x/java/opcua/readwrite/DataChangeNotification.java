@@ -55,9 +55,17 @@ public class DataChangeNotification extends ExtensionObjectDefinition implements
       List<DiagnosticInfo> diagnosticInfos) {
     super();
     this.noOfMonitoredItems = noOfMonitoredItems;
-    this.monitoredItems = monitoredItems;
+    this.monitoredItems =
+        (monitoredItems == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(monitoredItems));
     this.noOfDiagnosticInfos = noOfDiagnosticInfos;
-    this.diagnosticInfos = diagnosticInfos;
+    this.diagnosticInfos =
+        (diagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(diagnosticInfos));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNoOfMonitoredItems() {
@@ -108,11 +116,16 @@ public class DataChangeNotification extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DataChangeNotification _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (notificationLength)
     lengthInBits += 32;
@@ -141,6 +154,7 @@ public class DataChangeNotification extends ExtensionObjectDefinition implements
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
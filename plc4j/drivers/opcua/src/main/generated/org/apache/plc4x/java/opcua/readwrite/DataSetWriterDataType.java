@@ -73,9 +73,14 @@ public class DataSetWriterDataType extends ExtensionObjectDefinition implements
     this.keyFrameCount = keyFrameCount;
     this.dataSetName = dataSetName;
     this.noOfDataSetWriterProperties = noOfDataSetWriterProperties;
-    this.dataSetWriterProperties = dataSetWriterProperties;
+    this.dataSetWriterProperties =
+        (dataSetWriterProperties == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(dataSetWriterProperties));
     this.transportSettings = transportSettings;
     this.messageSettings = messageSettings;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getName() {
@@ -176,11 +181,16 @@ public class DataSetWriterDataType extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DataSetWriterDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -221,6 +231,7 @@ public class DataSetWriterDataType extends ExtensionObjectDefinition implements
     // Simple field (messageSettings)
     lengthInBits += messageSettings.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class DataTypeDescription extends ExtensionObjectDefinition implements Me
     super();
     this.dataTypeId = dataTypeId;
     this.name = name;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getDataTypeId() {
@@ -81,11 +83,16 @@ public class DataTypeDescription extends ExtensionObjectDefinition implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DataTypeDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dataTypeId)
     lengthInBits += dataTypeId.getLengthInBits();
@@ -93,6 +100,7 @@ public class DataTypeDescription extends ExtensionObjectDefinition implements Me
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -63,13 +63,25 @@ public class DataTypeSchemaHeader extends ExtensionObjectDefinition implements M
       List<DataTypeDescription> simpleDataTypes) {
     super();
     this.noOfNamespaces = noOfNamespaces;
-    this.namespaces = namespaces;
+    this.namespaces =
+        (namespaces == null) ? null : Collections.unmodifiableList(new ArrayList<>(namespaces));
     this.noOfStructureDataTypes = noOfStructureDataTypes;
-    this.structureDataTypes = structureDataTypes;
+    this.structureDataTypes =
+        (structureDataTypes == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(structureDataTypes));
     this.noOfEnumDataTypes = noOfEnumDataTypes;
-    this.enumDataTypes = enumDataTypes;
+    this.enumDataTypes =
+        (enumDataTypes == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(enumDataTypes));
     this.noOfSimpleDataTypes = noOfSimpleDataTypes;
-    this.simpleDataTypes = simpleDataTypes;
+    this.simpleDataTypes =
+        (simpleDataTypes == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(simpleDataTypes));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNoOfNamespaces() {
@@ -144,11 +156,16 @@ public class DataTypeSchemaHeader extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DataTypeSchemaHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (noOfNamespaces)
     lengthInBits += 32;
@@ -198,6 +215,7 @@ public class DataTypeSchemaHeader extends ExtensionObjectDefinition implements M
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
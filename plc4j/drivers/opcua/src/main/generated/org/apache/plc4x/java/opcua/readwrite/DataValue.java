@@ -77,6 +77,8 @@ public class DataValue implements Message {
     this.sourcePicoseconds = sourcePicoseconds;
     this.serverTimestamp = serverTimestamp;
     this.serverPicoseconds = serverPicoseconds;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getServerPicosecondsSpecified() {
@@ -183,11 +185,16 @@ public class DataValue implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DataValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 2;
@@ -240,6 +247,7 @@ public class DataValue implements Message {
       lengthInBits += 16;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,7 +57,12 @@ public class DeleteMonitoredItemsRequest extends ExtensionObjectDefinition imple
     this.requestHeader = requestHeader;
     this.subscriptionId = subscriptionId;
     this.noOfMonitoredItemIds = noOfMonitoredItemIds;
-    this.monitoredItemIds = monitoredItemIds;
+    this.monitoredItemIds =
+        (monitoredItemIds == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(monitoredItemIds));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -104,11 +109,16 @@ public class DeleteMonitoredItemsRequest extends ExtensionObjectDefinition imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DeleteMonitoredItemsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -124,6 +134,7 @@ public class DeleteMonitoredItemsRequest extends ExtensionObjectDefinition imple
       lengthInBits += 32 * monitoredItemIds.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class DeleteNodesItem extends ExtensionObjectDefinition implements Messag
     super();
     this.nodeId = nodeId;
     this.deleteTargetReferences = deleteTargetReferences;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getNodeId() {
@@ -84,11 +86,16 @@ public class DeleteNodesItem extends ExtensionObjectDefinition implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DeleteNodesItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeId)
     lengthInBits += nodeId.getLengthInBits();
@@ -99,6 +106,7 @@ public class DeleteNodesItem extends ExtensionObjectDefinition implements Messag
     // Simple field (deleteTargetReferences)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class DeleteReferencesItem extends ExtensionObjectDefinition implements M
     this.isForward = isForward;
     this.targetNodeId = targetNodeId;
     this.deleteBidirectional = deleteBidirectional;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getSourceNodeId() {
@@ -119,11 +121,16 @@ public class DeleteReferencesItem extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DeleteReferencesItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sourceNodeId)
     lengthInBits += sourceNodeId.getLengthInBits();
@@ -146,6 +153,7 @@ public class DeleteReferencesItem extends ExtensionObjectDefinition implements M
     // Simple field (deleteBidirectional)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,7 +54,12 @@ public class DeleteSubscriptionsRequest extends ExtensionObjectDefinition implem
     super();
     this.requestHeader = requestHeader;
     this.noOfSubscriptionIds = noOfSubscriptionIds;
-    this.subscriptionIds = subscriptionIds;
+    this.subscriptionIds =
+        (subscriptionIds == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(subscriptionIds));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -94,11 +99,16 @@ public class DeleteSubscriptionsRequest extends ExtensionObjectDefinition implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DeleteSubscriptionsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -111,6 +121,7 @@ public class DeleteSubscriptionsRequest extends ExtensionObjectDefinition implem
       lengthInBits += 32 * subscriptionIds.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
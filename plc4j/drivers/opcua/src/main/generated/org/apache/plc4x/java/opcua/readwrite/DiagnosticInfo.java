@@ -83,6 +83,8 @@ public class DiagnosticInfo implements Message {
     this.additionalInfo = additionalInfo;
     this.innerStatusCode = innerStatusCode;
     this.innerDiagnosticInfo = innerDiagnosticInfo;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getInnerDiagnosticInfoSpecified() {
@@ -201,11 +203,16 @@ public class DiagnosticInfo implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DiagnosticInfo _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 1;
@@ -266,6 +273,7 @@ public class DiagnosticInfo implements Message {
       lengthInBits += innerDiagnosticInfo.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
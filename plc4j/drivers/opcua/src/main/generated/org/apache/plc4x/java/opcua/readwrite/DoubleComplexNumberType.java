@@ -50,6 +50,8 @@ public class DoubleComplexNumberType extends ExtensionObjectDefinition implement
     super();
     this.real = real;
     this.imaginary = imaginary;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public double getReal() {
@@ -81,11 +83,16 @@ public class DoubleComplexNumberType extends ExtensionObjectDefinition implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DoubleComplexNumberType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (real)
     lengthInBits += 64;
@@ -93,6 +100,7 @@ public class DoubleComplexNumberType extends ExtensionObjectDefinition implement
     // Simple field (imaginary)
     lengthInBits += 64;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
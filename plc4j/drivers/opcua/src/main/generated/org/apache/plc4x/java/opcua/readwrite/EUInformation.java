@@ -55,6 +55,8 @@ public class EUInformation extends ExtensionObjectDefinition implements Message
     this.unitId = unitId;
     this.displayName = displayName;
     this.description = description;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getNamespaceUri() {
@@ -100,11 +102,16 @@ public class EUInformation extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EUInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (namespaceUri)
     lengthInBits += namespaceUri.getLengthInBits();
@@ -118,6 +125,7 @@ public class EUInformation extends ExtensionObjectDefinition implements Message
     // Simple field (description)
     lengthInBits += description.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
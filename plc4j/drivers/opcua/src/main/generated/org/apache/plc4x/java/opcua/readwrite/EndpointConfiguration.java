@@ -73,6 +73,8 @@ public class EndpointConfiguration extends ExtensionObjectDefinition implements
     this.maxBufferSize = maxBufferSize;
     this.channelLifetime = channelLifetime;
     this.securityTokenLifetime = securityTokenLifetime;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getOperationTimeout() {
@@ -157,11 +159,16 @@ public class EndpointConfiguration extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EndpointConfiguration _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (operationTimeout)
     lengthInBits += 32;
@@ -193,6 +200,7 @@ public class EndpointConfiguration extends ExtensionObjectDefinition implements
     // Simple field (securityTokenLifetime)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -70,9 +70,14 @@ public class EndpointDescription extends ExtensionObjectDefinition implements Me
     this.securityMode = securityMode;
     this.securityPolicyUri = securityPolicyUri;
     this.noOfUserIdentityTokens = noOfUserIdentityTokens;
-    this.userIdentityTokens = userIdentityTokens;
+    this.userIdentityTokens =
+        (userIdentityTokens == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(userIdentityTokens));
     this.transportProfileUri = transportProfileUri;
     this.securityLevel = securityLevel;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getEndpointUrl() {
@@ -161,11 +166,16 @@ public class EndpointDescription extends ExtensionObjectDefinition implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EndpointDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (endpointUrl)
     lengthInBits += endpointUrl.getLengthInBits();
@@ -200,6 +210,7 @@ public class EndpointDescription extends ExtensionObjectDefinition implements Me
     // Simple field (securityLevel)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class EndpointType extends ExtensionObjectDefinition implements Message {
     this.securityMode = securityMode;
     this.securityPolicyUri = securityPolicyUri;
     this.transportProfileUri = transportProfileUri;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getEndpointUrl() {
@@ -110,11 +112,16 @@ public class EndpointType extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EndpointType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (endpointUrl)
     lengthInBits += endpointUrl.getLengthInBits();
@@ -128,6 +135,7 @@ public class EndpointType extends ExtensionObjectDefinition implements Message {
     // Simple field (transportProfileUri)
     lengthInBits += transportProfileUri.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
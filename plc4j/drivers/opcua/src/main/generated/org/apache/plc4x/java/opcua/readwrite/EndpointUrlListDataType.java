@@ -49,7 +49,12 @@ public class EndpointUrlListDataType extends ExtensionObjectDefinition implement
   public EndpointUrlListDataType(int noOfEndpointUrlList, List<PascalString> endpointUrlList) {
     super();
     this.noOfEndpointUrlList = noOfEndpointUrlList;
-    this.endpointUrlList = endpointUrlList;
+    this.endpointUrlList =
+        (endpointUrlList == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(endpointUrlList));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNoOfEndpointUrlList() {
@@ -81,11 +86,16 @@ public class EndpointUrlListDataType extends ExtensionObjectDefinition implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EndpointUrlListDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (noOfEndpointUrlList)
     lengthInBits += 32;
@@ -99,6 +109,7 @@ public class EndpointUrlListDataType extends ExtensionObjectDefinition implement
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
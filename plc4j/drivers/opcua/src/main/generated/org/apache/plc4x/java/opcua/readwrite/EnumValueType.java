@@ -52,6 +52,8 @@ public class EnumValueType extends ExtensionObjectDefinition implements Message
     this.value = value;
     this.displayName = displayName;
     this.description = description;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getValue() {
@@ -90,11 +92,16 @@ public class EnumValueType extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EnumValueType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (value)
     lengthInBits += 64;
@@ -105,6 +112,7 @@ public class EnumValueType extends ExtensionObjectDefinition implements Message
     // Simple field (description)
     lengthInBits += description.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class EphemeralKeyType extends ExtensionObjectDefinition implements Messa
     super();
     this.publicKey = publicKey;
     this.signature = signature;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalByteString getPublicKey() {
@@ -81,11 +83,16 @@ public class EphemeralKeyType extends ExtensionObjectDefinition implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EphemeralKeyType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (publicKey)
     lengthInBits += publicKey.getLengthInBits();
@@ -93,6 +100,7 @@ public class EphemeralKeyType extends ExtensionObjectDefinition implements Messa
     // Simple field (signature)
     lengthInBits += signature.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -51,7 +51,10 @@ public class EventFieldList extends ExtensionObjectDefinition implements Message
     super();
     this.clientHandle = clientHandle;
     this.noOfEventFields = noOfEventFields;
-    this.eventFields = eventFields;
+    this.eventFields =
+        (eventFields == null) ? null : Collections.unmodifiableList(new ArrayList<>(eventFields));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getClientHandle() {
@@ -90,11 +93,16 @@ public class EventFieldList extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EventFieldList _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (clientHandle)
     lengthInBits += 32;
@@ -111,6 +119,7 @@ public class EventFieldList extends ExtensionObjectDefinition implements Message
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
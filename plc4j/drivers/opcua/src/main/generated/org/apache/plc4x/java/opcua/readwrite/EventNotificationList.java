@@ -49,7 +49,9 @@ public class EventNotificationList extends ExtensionObjectDefinition implements
   public EventNotificationList(int noOfEvents, List<ExtensionObjectDefinition> events) {
     super();
     this.noOfEvents = noOfEvents;
-    this.events = events;
+    this.events = (events == null) ? null : Collections.unmodifiableList(new ArrayList<>(events));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNoOfEvents() {
@@ -86,11 +88,16 @@ public class EventNotificationList extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     EventNotificationList _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (notificationLength)
     lengthInBits += 32;
@@ -107,6 +114,7 @@ public class EventNotificationList extends ExtensionObjectDefinition implements
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class ExpandedNodeId implements Message {
     this.nodeId = nodeId;
     this.namespaceURI = namespaceURI;
     this.serverIndex = serverIndex;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getNamespaceURISpecified() {
@@ -114,11 +116,16 @@ public class ExpandedNodeId implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ExpandedNodeId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (namespaceURISpecified)
     lengthInBits += 1;
@@ -141,6 +148,7 @@ public class ExpandedNodeId implements Message {
       lengthInBits += 32;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
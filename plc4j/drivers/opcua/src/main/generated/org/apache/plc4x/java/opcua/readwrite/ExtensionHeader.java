@@ -45,6 +45,8 @@ public class ExtensionHeader implements Message {
     super();
     this.xmlbody = xmlbody;
     this.binaryBody = binaryBody;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getXmlbody() {
@@ -77,11 +79,16 @@ public class ExtensionHeader implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ExtensionHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 5;
@@ -92,6 +99,7 @@ public class ExtensionHeader implements Message {
     // Simple field (binaryBody)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class ExtensionObject implements Message {
     this.typeId = typeId;
     this.encodingMask = encodingMask;
     this.body = body;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExpandedNodeId getTypeId() {
@@ -94,11 +96,16 @@ public class ExtensionObject implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ExtensionObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (typeId)
     lengthInBits += typeId.getLengthInBits();
@@ -113,6 +120,7 @@ public class ExtensionObject implements Message {
     // Simple field (body)
     lengthInBits += body.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
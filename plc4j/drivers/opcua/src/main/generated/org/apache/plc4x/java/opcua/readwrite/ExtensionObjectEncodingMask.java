@@ -47,6 +47,8 @@ public class ExtensionObjectEncodingMask implements Message {
     this.typeIdSpecified = typeIdSpecified;
     this.xmlbody = xmlbody;
     this.binaryBody = binaryBody;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getTypeIdSpecified() {
@@ -86,11 +88,16 @@ public class ExtensionObjectEncodingMask implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     ExtensionObjectEncodingMask _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 5;
@@ -104,6 +111,7 @@ public class ExtensionObjectEncodingMask implements Message {
     // Simple field (binaryBody)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -77,11 +77,17 @@ public class FieldMetaData extends ExtensionObjectDefinition implements Message
     this.dataType = dataType;
     this.valueRank = valueRank;
     this.noOfArrayDimensions = noOfArrayDimensions;
-    this.arrayDimensions = arrayDimensions;
+    this.arrayDimensions =
+        (arrayDimensions == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(arrayDimensions));
     this.maxStringLength = maxStringLength;
     this.dataSetFieldId = dataSetFieldId;
     this.noOfProperties = noOfProperties;
-    this.properties = properties;
+    this.properties =
+        (properties == null) ? null : Collections.unmodifiableList(new ArrayList<>(properties));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getName() {
@@ -191,11 +197,16 @@ public class FieldMetaData extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     FieldMetaData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -241,6 +252,7 @@ public class FieldMetaData extends ExtensionObjectDefinition implements Message
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -67,6 +67,8 @@ public class FieldTargetDataType extends ExtensionObjectDefinition implements Me
     this.writeIndexRange = writeIndexRange;
     this.overrideValueHandling = overrideValueHandling;
     this.overrideValue = overrideValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public GuidValue getDataSetFieldId() {
@@ -140,11 +142,16 @@ public class FieldTargetDataType extends ExtensionObjectDefinition implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     FieldTargetDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dataSetFieldId)
     lengthInBits += dataSetFieldId.getLengthInBits();
@@ -167,6 +174,7 @@ public class FieldTargetDataType extends ExtensionObjectDefinition implements Me
     // Simple field (overrideValue)
     lengthInBits += overrideValue.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
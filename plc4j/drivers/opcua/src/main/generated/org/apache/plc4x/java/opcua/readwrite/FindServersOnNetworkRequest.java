@@ -60,7 +60,12 @@ public class FindServersOnNetworkRequest extends ExtensionObjectDefinition imple
     this.startingRecordId = startingRecordId;
     this.maxRecordsToReturn = maxRecordsToReturn;
     this.noOfServerCapabilityFilter = noOfServerCapabilityFilter;
-    this.serverCapabilityFilter = serverCapabilityFilter;
+    this.serverCapabilityFilter =
+        (serverCapabilityFilter == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(serverCapabilityFilter));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -114,11 +119,16 @@ public class FindServersOnNetworkRequest extends ExtensionObjectDefinition imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     FindServersOnNetworkRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -141,6 +151,7 @@ public class FindServersOnNetworkRequest extends ExtensionObjectDefinition imple
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
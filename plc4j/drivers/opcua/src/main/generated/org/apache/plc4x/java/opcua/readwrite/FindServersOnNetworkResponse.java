@@ -57,7 +57,10 @@ public class FindServersOnNetworkResponse extends ExtensionObjectDefinition impl
     this.responseHeader = responseHeader;
     this.lastCounterResetTime = lastCounterResetTime;
     this.noOfServers = noOfServers;
-    this.servers = servers;
+    this.servers =
+        (servers == null) ? null : Collections.unmodifiableList(new ArrayList<>(servers));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -104,11 +107,16 @@ public class FindServersOnNetworkResponse extends ExtensionObjectDefinition impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     FindServersOnNetworkResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -128,6 +136,7 @@ public class FindServersOnNetworkResponse extends ExtensionObjectDefinition impl
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
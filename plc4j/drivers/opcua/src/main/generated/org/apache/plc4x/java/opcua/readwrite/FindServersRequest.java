@@ -61,9 +61,13 @@ public class FindServersRequest extends ExtensionObjectDefinition implements Mes
     this.requestHeader = requestHeader;
     this.endpointUrl = endpointUrl;
     this.noOfLocaleIds = noOfLocaleIds;
-    this.localeIds = localeIds;
+    this.localeIds =
+        (localeIds == null) ? null : Collections.unmodifiableList(new ArrayList<>(localeIds));
     this.noOfServerUris = noOfServerUris;
-    this.serverUris = serverUris;
+    this.serverUris =
+        (serverUris == null) ? null : Collections.unmodifiableList(new ArrayList<>(serverUris));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -123,11 +127,16 @@ public class FindServersRequest extends ExtensionObjectDefinition implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     FindServersRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -159,6 +168,7 @@ public class FindServersRequest extends ExtensionObjectDefinition implements Mes
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,7 +54,10 @@ public class FindServersResponse extends ExtensionObjectDefinition implements Me
     super();
     this.responseHeader = responseHeader;
     this.noOfServers = noOfServers;
-    this.servers = servers;
+    this.servers =
+        (servers == null) ? null : Collections.unmodifiableList(new ArrayList<>(servers));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -93,11 +96,16 @@ public class FindServersResponse extends ExtensionObjectDefinition implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     FindServersResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -114,6 +122,7 @@ public class FindServersResponse extends ExtensionObjectDefinition implements Me
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class FourByteNodeId implements Message {
     super();
     this.namespaceIndex = namespaceIndex;
     this.identifier = identifier;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getNamespaceIndex() {
@@ -74,11 +76,16 @@ public class FourByteNodeId implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     FourByteNodeId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (namespaceIndex)
     lengthInBits += 8;
@@ -86,6 +93,7 @@ public class FourByteNodeId implements Message {
     // Simple field (identifier)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,9 +61,13 @@ public class GetEndpointsRequest extends ExtensionObjectDefinition implements Me
     this.requestHeader = requestHeader;
     this.endpointUrl = endpointUrl;
     this.noOfLocaleIds = noOfLocaleIds;
-    this.localeIds = localeIds;
+    this.localeIds =
+        (localeIds == null) ? null : Collections.unmodifiableList(new ArrayList<>(localeIds));
     this.noOfProfileUris = noOfProfileUris;
-    this.profileUris = profileUris;
+    this.profileUris =
+        (profileUris == null) ? null : Collections.unmodifiableList(new ArrayList<>(profileUris));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -123,11 +127,16 @@ public class GetEndpointsRequest extends ExtensionObjectDefinition implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     GetEndpointsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -159,6 +168,7 @@ public class GetEndpointsRequest extends ExtensionObjectDefinition implements Me
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,7 +54,10 @@ public class GetEndpointsResponse extends ExtensionObjectDefinition implements M
     super();
     this.responseHeader = responseHeader;
     this.noOfEndpoints = noOfEndpoints;
-    this.endpoints = endpoints;
+    this.endpoints =
+        (endpoints == null) ? null : Collections.unmodifiableList(new ArrayList<>(endpoints));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -93,11 +96,16 @@ public class GetEndpointsResponse extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     GetEndpointsResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -114,6 +122,7 @@ public class GetEndpointsResponse extends ExtensionObjectDefinition implements M
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
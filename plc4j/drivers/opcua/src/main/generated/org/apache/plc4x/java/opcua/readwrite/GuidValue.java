@@ -51,6 +51,8 @@ public class GuidValue implements Message {
     this.data3 = data3;
     this.data4 = data4;
     this.data5 = data5;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getData1() {
@@ -101,11 +103,16 @@ public class GuidValue implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     GuidValue _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (data1)
     lengthInBits += 32;
@@ -126,6 +133,7 @@ public class GuidValue implements Message {
       lengthInBits += 8 * data5.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
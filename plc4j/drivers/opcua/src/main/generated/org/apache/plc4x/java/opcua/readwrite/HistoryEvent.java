@@ -49,7 +49,9 @@ public class HistoryEvent extends ExtensionObjectDefinition implements Message {
   public HistoryEvent(int noOfEvents, List<ExtensionObjectDefinition> events) {
     super();
     this.noOfEvents = noOfEvents;
-    this.events = events;
+    this.events = (events == null) ? null : Collections.unmodifiableList(new ArrayList<>(events));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNoOfEvents() {
@@ -81,11 +83,16 @@ public class HistoryEvent extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     HistoryEvent _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (noOfEvents)
     lengthInBits += 32;
@@ -99,6 +106,7 @@ public class HistoryEvent extends ExtensionObjectDefinition implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
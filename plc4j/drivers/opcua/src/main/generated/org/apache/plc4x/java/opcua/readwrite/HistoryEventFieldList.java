@@ -49,7 +49,10 @@ public class HistoryEventFieldList extends ExtensionObjectDefinition implements
   public HistoryEventFieldList(int noOfEventFields, List<Variant> eventFields) {
     super();
     this.noOfEventFields = noOfEventFields;
-    this.eventFields = eventFields;
+    this.eventFields =
+        (eventFields == null) ? null : Collections.unmodifiableList(new ArrayList<>(eventFields));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNoOfEventFields() {
@@ -81,11 +84,16 @@ public class HistoryEventFieldList extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     HistoryEventFieldList _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (noOfEventFields)
     lengthInBits += 32;
@@ -99,6 +107,7 @@ public class HistoryEventFieldList extends ExtensionObjectDefinition implements
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
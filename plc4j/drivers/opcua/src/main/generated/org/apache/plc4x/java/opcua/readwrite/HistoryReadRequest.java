@@ -63,7 +63,10 @@ public class HistoryReadRequest extends ExtensionObjectDefinition implements Mes
     this.timestampsToReturn = timestampsToReturn;
     this.releaseContinuationPoints = releaseContinuationPoints;
     this.noOfNodesToRead = noOfNodesToRead;
-    this.nodesToRead = nodesToRead;
+    this.nodesToRead =
+        (nodesToRead == null) ? null : Collections.unmodifiableList(new ArrayList<>(nodesToRead));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -134,11 +137,16 @@ public class HistoryReadRequest extends ExtensionObjectDefinition implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     HistoryReadRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -167,6 +175,7 @@ public class HistoryReadRequest extends ExtensionObjectDefinition implements Mes
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class HistoryReadResult extends ExtensionObjectDefinition implements Mess
     this.statusCode = statusCode;
     this.continuationPoint = continuationPoint;
     this.historyData = historyData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusCode getStatusCode() {
@@ -91,11 +93,16 @@ public class HistoryReadResult extends ExtensionObjectDefinition implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     HistoryReadResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -106,6 +113,7 @@ public class HistoryReadResult extends ExtensionObjectDefinition implements Mess
     // Simple field (historyData)
     lengthInBits += historyData.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
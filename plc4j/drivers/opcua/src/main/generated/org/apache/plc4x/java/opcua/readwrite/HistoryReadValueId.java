@@ -58,6 +58,8 @@ public class HistoryReadValueId extends ExtensionObjectDefinition implements Mes
     this.indexRange = indexRange;
     this.dataEncoding = dataEncoding;
     this.continuationPoint = continuationPoint;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getNodeId() {
@@ -103,11 +105,16 @@ public class HistoryReadValueId extends ExtensionObjectDefinition implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     HistoryReadValueId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeId)
     lengthInBits += nodeId.getLengthInBits();
@@ -121,6 +128,7 @@ public class HistoryReadValueId extends ExtensionObjectDefinition implements Mes
     // Simple field (continuationPoint)
     lengthInBits += continuationPoint.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
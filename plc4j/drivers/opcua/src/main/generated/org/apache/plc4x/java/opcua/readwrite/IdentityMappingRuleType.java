@@ -50,6 +50,8 @@ public class IdentityMappingRuleType extends ExtensionObjectDefinition implement
     super();
     this.criteriaType = criteriaType;
     this.criteria = criteria;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public IdentityCriteriaType getCriteriaType() {
@@ -88,11 +90,16 @@ public class IdentityMappingRuleType extends ExtensionObjectDefinition implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IdentityMappingRuleType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (criteriaType)
     lengthInBits += 32;
@@ -100,6 +107,7 @@ public class IdentityMappingRuleType extends ExtensionObjectDefinition implement
     // Simple field (criteria)
     lengthInBits += criteria.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
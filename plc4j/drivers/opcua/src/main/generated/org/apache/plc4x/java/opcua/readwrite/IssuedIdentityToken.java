@@ -50,6 +50,8 @@ public class IssuedIdentityToken extends UserIdentityTokenDefinition implements
     super();
     this.tokenData = tokenData;
     this.encryptionAlgorithm = encryptionAlgorithm;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalByteString getTokenData() {
@@ -81,11 +83,16 @@ public class IssuedIdentityToken extends UserIdentityTokenDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IssuedIdentityToken _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (tokenData)
     lengthInBits += tokenData.getLengthInBits();
@@ -93,6 +100,7 @@ public class IssuedIdentityToken extends UserIdentityTokenDefinition implements
     // Simple field (encryptionAlgorithm)
     lengthInBits += encryptionAlgorithm.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class LinearConversionDataType extends ExtensionObjectDefinition implemen
     this.multiplicand = multiplicand;
     this.divisor = divisor;
     this.finalAddend = finalAddend;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public float getInitialAddend() {
@@ -100,11 +102,16 @@ public class LinearConversionDataType extends ExtensionObjectDefinition implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     LinearConversionDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (initialAddend)
     lengthInBits += 32;
@@ -118,6 +125,7 @@ public class LinearConversionDataType extends ExtensionObjectDefinition implemen
     // Simple field (finalAddend)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class LocalizedText implements Message {
     this.localeSpecified = localeSpecified;
     this.locale = locale;
     this.text = text;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getTextSpecified() {
@@ -96,11 +98,16 @@ public class LocalizedText implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     LocalizedText _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 6;
@@ -121,6 +128,7 @@ public class LocalizedText implements Message {
       lengthInBits += text.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class ModelChangeStructureDataType extends ExtensionObjectDefinition impl
     this.affected = affected;
     this.affectedType = affectedType;
     this.verb = verb;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getAffected() {
@@ -90,11 +92,16 @@ public class ModelChangeStructureDataType extends ExtensionObjectDefinition impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModelChangeStructureDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (affected)
     lengthInBits += affected.getLengthInBits();
@@ -105,6 +112,7 @@ public class ModelChangeStructureDataType extends ExtensionObjectDefinition impl
     // Simple field (verb)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class ModificationInfo extends ExtensionObjectDefinition implements Messa
     this.modificationTime = modificationTime;
     this.updateType = updateType;
     this.userName = userName;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getModificationTime() {
@@ -98,11 +100,16 @@ public class ModificationInfo extends ExtensionObjectDefinition implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModificationInfo _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (modificationTime)
     lengthInBits += 64;
@@ -113,6 +120,7 @@ public class ModificationInfo extends ExtensionObjectDefinition implements Messa
     // Simple field (userName)
     lengthInBits += userName.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
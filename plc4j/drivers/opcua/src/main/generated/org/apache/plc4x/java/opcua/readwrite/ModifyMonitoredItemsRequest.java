@@ -60,7 +60,12 @@ public class ModifyMonitoredItemsRequest extends ExtensionObjectDefinition imple
     this.subscriptionId = subscriptionId;
     this.timestampsToReturn = timestampsToReturn;
     this.noOfItemsToModify = noOfItemsToModify;
-    this.itemsToModify = itemsToModify;
+    this.itemsToModify =
+        (itemsToModify == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(itemsToModify));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -120,11 +125,16 @@ public class ModifyMonitoredItemsRequest extends ExtensionObjectDefinition imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModifyMonitoredItemsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -147,6 +157,7 @@ public class ModifyMonitoredItemsRequest extends ExtensionObjectDefinition imple
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
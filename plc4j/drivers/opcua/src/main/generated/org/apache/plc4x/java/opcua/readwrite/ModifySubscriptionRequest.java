@@ -67,6 +67,8 @@ public class ModifySubscriptionRequest extends ExtensionObjectDefinition impleme
     this.requestedMaxKeepAliveCount = requestedMaxKeepAliveCount;
     this.maxNotificationsPerPublish = maxNotificationsPerPublish;
     this.priority = priority;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -141,11 +143,16 @@ public class ModifySubscriptionRequest extends ExtensionObjectDefinition impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModifySubscriptionRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -168,6 +175,7 @@ public class ModifySubscriptionRequest extends ExtensionObjectDefinition impleme
     // Simple field (priority)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class ModifySubscriptionResponse extends ExtensionObjectDefinition implem
     this.revisedPublishingInterval = revisedPublishingInterval;
     this.revisedLifetimeCount = revisedLifetimeCount;
     this.revisedMaxKeepAliveCount = revisedMaxKeepAliveCount;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -106,11 +108,16 @@ public class ModifySubscriptionResponse extends ExtensionObjectDefinition implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ModifySubscriptionResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -124,6 +131,7 @@ public class ModifySubscriptionResponse extends ExtensionObjectDefinition implem
     // Simple field (revisedMaxKeepAliveCount)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class MonitoredItemCreateRequest extends ExtensionObjectDefinition implem
     this.itemToMonitor = itemToMonitor;
     this.monitoringMode = monitoringMode;
     this.requestedParameters = requestedParameters;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getItemToMonitor() {
@@ -98,11 +100,16 @@ public class MonitoredItemCreateRequest extends ExtensionObjectDefinition implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MonitoredItemCreateRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (itemToMonitor)
     lengthInBits += itemToMonitor.getLengthInBits();
@@ -113,6 +120,7 @@ public class MonitoredItemCreateRequest extends ExtensionObjectDefinition implem
     // Simple field (requestedParameters)
     lengthInBits += requestedParameters.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
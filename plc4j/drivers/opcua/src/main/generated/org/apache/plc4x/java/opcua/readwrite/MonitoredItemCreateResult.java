@@ -61,6 +61,8 @@ public class MonitoredItemCreateResult extends ExtensionObjectDefinition impleme
     this.revisedSamplingInterval = revisedSamplingInterval;
     this.revisedQueueSize = revisedQueueSize;
     this.filterResult = filterResult;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusCode getStatusCode() {
@@ -114,11 +116,16 @@ public class MonitoredItemCreateResult extends ExtensionObjectDefinition impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MonitoredItemCreateResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -135,6 +142,7 @@ public class MonitoredItemCreateResult extends ExtensionObjectDefinition impleme
     // Simple field (filterResult)
     lengthInBits += filterResult.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -51,6 +51,8 @@ public class MonitoredItemModifyRequest extends ExtensionObjectDefinition implem
     super();
     this.monitoredItemId = monitoredItemId;
     this.requestedParameters = requestedParameters;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getMonitoredItemId() {
@@ -82,11 +84,16 @@ public class MonitoredItemModifyRequest extends ExtensionObjectDefinition implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MonitoredItemModifyRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (monitoredItemId)
     lengthInBits += 32;
@@ -94,6 +101,7 @@ public class MonitoredItemModifyRequest extends ExtensionObjectDefinition implem
     // Simple field (requestedParameters)
     lengthInBits += requestedParameters.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class MonitoredItemModifyResult extends ExtensionObjectDefinition impleme
     this.revisedSamplingInterval = revisedSamplingInterval;
     this.revisedQueueSize = revisedQueueSize;
     this.filterResult = filterResult;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusCode getStatusCode() {
@@ -104,11 +106,16 @@ public class MonitoredItemModifyResult extends ExtensionObjectDefinition impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MonitoredItemModifyResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -122,6 +129,7 @@ public class MonitoredItemModifyResult extends ExtensionObjectDefinition impleme
     // Simple field (filterResult)
     lengthInBits += filterResult.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class MonitoringParameters extends ExtensionObjectDefinition implements M
     this.filter = filter;
     this.queueSize = queueSize;
     this.discardOldest = discardOldest;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getClientHandle() {
@@ -116,11 +118,16 @@ public class MonitoringParameters extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     MonitoringParameters _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (clientHandle)
     lengthInBits += 32;
@@ -140,6 +147,7 @@ public class MonitoringParameters extends ExtensionObjectDefinition implements M
     // Simple field (discardOldest)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class NetworkAddressDataType extends ExtensionObjectDefinition implements
   public NetworkAddressDataType(PascalString networkInterface) {
     super();
     this.networkInterface = networkInterface;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getNetworkInterface() {
@@ -72,15 +74,21 @@ public class NetworkAddressDataType extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NetworkAddressDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (networkInterface)
     lengthInBits += networkInterface.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,7 +52,10 @@ public class NetworkGroupDataType extends ExtensionObjectDefinition implements M
     super();
     this.serverUri = serverUri;
     this.noOfNetworkPaths = noOfNetworkPaths;
-    this.networkPaths = networkPaths;
+    this.networkPaths =
+        (networkPaths == null) ? null : Collections.unmodifiableList(new ArrayList<>(networkPaths));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getServerUri() {
@@ -91,11 +94,16 @@ public class NetworkGroupDataType extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NetworkGroupDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (serverUri)
     lengthInBits += serverUri.getLengthInBits();
@@ -112,6 +120,7 @@ public class NetworkGroupDataType extends ExtensionObjectDefinition implements M
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
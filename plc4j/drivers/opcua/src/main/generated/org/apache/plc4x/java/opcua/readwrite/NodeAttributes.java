@@ -61,6 +61,8 @@ public class NodeAttributes extends ExtensionObjectDefinition implements Message
     this.description = description;
     this.writeMask = writeMask;
     this.userWriteMask = userWriteMask;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getSpecifiedAttributes() {
@@ -114,11 +116,16 @@ public class NodeAttributes extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NodeAttributes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (specifiedAttributes)
     lengthInBits += 32;
@@ -135,6 +142,7 @@ public class NodeAttributes extends ExtensionObjectDefinition implements Message
     // Simple field (userWriteMask)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
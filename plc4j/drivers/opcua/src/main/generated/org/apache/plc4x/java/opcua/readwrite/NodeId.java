@@ -43,6 +43,8 @@ public class NodeId implements Message {
   public NodeId(NodeIdTypeDefinition nodeId) {
     super();
     this.nodeId = nodeId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeIdTypeDefinition getNodeId() {
@@ -76,11 +78,16 @@ public class NodeId implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     NodeId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 2;
@@ -90,6 +97,7 @@ public class NodeId implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
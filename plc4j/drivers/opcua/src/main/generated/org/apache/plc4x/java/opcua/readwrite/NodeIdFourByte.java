@@ -50,6 +50,8 @@ public class NodeIdFourByte extends NodeIdTypeDefinition implements Message {
     super();
     this.namespaceIndex = namespaceIndex;
     this.id = id;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getNamespaceIndex() {
@@ -89,11 +91,16 @@ public class NodeIdFourByte extends NodeIdTypeDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NodeIdFourByte _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (namespaceIndex)
     lengthInBits += 8;
@@ -103,6 +110,7 @@ public class NodeIdFourByte extends NodeIdTypeDefinition implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
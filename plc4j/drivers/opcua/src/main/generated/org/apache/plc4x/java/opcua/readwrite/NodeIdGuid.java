@@ -50,6 +50,8 @@ public class NodeIdGuid extends NodeIdTypeDefinition implements Message {
     super();
     this.namespaceIndex = namespaceIndex;
     this.id = id;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNamespaceIndex() {
@@ -89,11 +91,16 @@ public class NodeIdGuid extends NodeIdTypeDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NodeIdGuid _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (namespaceIndex)
     lengthInBits += 16;
@@ -105,6 +112,7 @@ public class NodeIdGuid extends NodeIdTypeDefinition implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -60,7 +60,12 @@ public class NodeReference extends ExtensionObjectDefinition implements Message
     this.referenceTypeId = referenceTypeId;
     this.isForward = isForward;
     this.noOfReferencedNodeIds = noOfReferencedNodeIds;
-    this.referencedNodeIds = referencedNodeIds;
+    this.referencedNodeIds =
+        (referencedNodeIds == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(referencedNodeIds));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getNodeId() {
@@ -117,11 +122,16 @@ public class NodeReference extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NodeReference _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeId)
     lengthInBits += nodeId.getLengthInBits();
@@ -147,6 +157,7 @@ public class NodeReference extends ExtensionObjectDefinition implements Message
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
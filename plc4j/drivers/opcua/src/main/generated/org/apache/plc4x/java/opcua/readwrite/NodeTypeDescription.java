@@ -57,7 +57,10 @@ public class NodeTypeDescription extends ExtensionObjectDefinition implements Me
     this.typeDefinitionNode = typeDefinitionNode;
     this.includeSubTypes = includeSubTypes;
     this.noOfDataToReturn = noOfDataToReturn;
-    this.dataToReturn = dataToReturn;
+    this.dataToReturn =
+        (dataToReturn == null) ? null : Collections.unmodifiableList(new ArrayList<>(dataToReturn));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExpandedNodeId getTypeDefinitionNode() {
@@ -106,11 +109,16 @@ public class NodeTypeDescription extends ExtensionObjectDefinition implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NodeTypeDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (typeDefinitionNode)
     lengthInBits += typeDefinitionNode.getLengthInBits();
@@ -133,6 +141,7 @@ public class NodeTypeDescription extends ExtensionObjectDefinition implements Me
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
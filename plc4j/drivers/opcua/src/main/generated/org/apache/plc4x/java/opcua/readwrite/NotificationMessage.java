@@ -57,7 +57,12 @@ public class NotificationMessage extends ExtensionObjectDefinition implements Me
     this.sequenceNumber = sequenceNumber;
     this.publishTime = publishTime;
     this.noOfNotificationData = noOfNotificationData;
-    this.notificationData = notificationData;
+    this.notificationData =
+        (notificationData == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(notificationData));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getSequenceNumber() {
@@ -103,11 +108,16 @@ public class NotificationMessage extends ExtensionObjectDefinition implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     NotificationMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sequenceNumber)
     lengthInBits += 32;
@@ -127,6 +137,7 @@ public class NotificationMessage extends ExtensionObjectDefinition implements Me
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class OpcuaAPU implements Message {
   public OpcuaAPU(MessagePDU message) {
     super();
     this.message = message;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public MessagePDU getMessage() {
@@ -69,15 +71,21 @@ public class OpcuaAPU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     OpcuaAPU _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (message)
     lengthInBits += message.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,6 +57,8 @@ public class OpcuaHelloRequest extends MessagePDU implements Message {
     this.version = version;
     this.limits = limits;
     this.endpoint = endpoint;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getVersion() {
@@ -94,11 +96,16 @@ public class OpcuaHelloRequest extends MessagePDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpcuaHelloRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (version)
     lengthInBits += 32;
@@ -109,6 +116,7 @@ public class OpcuaHelloRequest extends MessagePDU implements Message {
     // Simple field (endpoint)
     lengthInBits += endpoint.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
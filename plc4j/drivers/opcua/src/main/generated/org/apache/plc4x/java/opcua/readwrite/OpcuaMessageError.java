@@ -54,6 +54,8 @@ public class OpcuaMessageError extends MessagePDU implements Message {
     super(chunk);
     this.error = error;
     this.reason = reason;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public OpcuaStatusCode getError() {
@@ -89,11 +91,16 @@ public class OpcuaMessageError extends MessagePDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpcuaMessageError _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (error)
     lengthInBits += 32;
@@ -101,6 +108,7 @@ public class OpcuaMessageError extends MessagePDU implements Message {
     // Simple field (reason)
     lengthInBits += reason.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
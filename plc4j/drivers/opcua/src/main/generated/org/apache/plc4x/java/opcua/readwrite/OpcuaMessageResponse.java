@@ -54,6 +54,8 @@ public class OpcuaMessageResponse extends MessagePDU implements Message {
     super(chunk);
     this.securityHeader = securityHeader;
     this.message = message;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SecurityHeader getSecurityHeader() {
@@ -84,11 +86,16 @@ public class OpcuaMessageResponse extends MessagePDU implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpcuaMessageResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (securityHeader)
     lengthInBits += securityHeader.getLengthInBits();
@@ -96,6 +103,7 @@ public class OpcuaMessageResponse extends MessagePDU implements Message {
     // Simple field (message)
     lengthInBits += message.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
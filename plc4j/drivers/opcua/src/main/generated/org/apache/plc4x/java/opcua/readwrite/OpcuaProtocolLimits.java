@@ -50,6 +50,8 @@ public class OpcuaProtocolLimits implements Message {
     this.sendBufferSize = sendBufferSize;
     this.maxMessageSize = maxMessageSize;
     this.maxChunkCount = maxChunkCount;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getReceiveBufferSize() {
@@ -93,11 +95,16 @@ public class OpcuaProtocolLimits implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     OpcuaProtocolLimits _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (receiveBufferSize)
     lengthInBits += 32;
@@ -111,6 +118,7 @@ public class OpcuaProtocolLimits implements Message {
     // Simple field (maxChunkCount)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
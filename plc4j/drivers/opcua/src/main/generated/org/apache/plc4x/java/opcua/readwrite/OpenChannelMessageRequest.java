@@ -58,6 +58,8 @@ public class OpenChannelMessageRequest extends OpenChannelMessage implements Mes
     this.endpoint = endpoint;
     this.senderCertificate = senderCertificate;
     this.receiverCertificateThumbprint = receiverCertificateThumbprint;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getSecureChannelId() {
@@ -104,11 +106,16 @@ public class OpenChannelMessageRequest extends OpenChannelMessage implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenChannelMessageRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (secureChannelId)
     lengthInBits += 32;
@@ -122,6 +129,7 @@ public class OpenChannelMessageRequest extends OpenChannelMessage implements Mes
     // Simple field (receiverCertificateThumbprint)
     lengthInBits += receiverCertificateThumbprint.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -64,6 +64,8 @@ public class OpenSecureChannelRequest extends ExtensionObjectDefinition implemen
     this.securityMode = securityMode;
     this.clientNonce = clientNonce;
     this.requestedLifetime = requestedLifetime;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -138,11 +140,16 @@ public class OpenSecureChannelRequest extends ExtensionObjectDefinition implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenSecureChannelRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -162,6 +169,7 @@ public class OpenSecureChannelRequest extends ExtensionObjectDefinition implemen
     // Simple field (requestedLifetime)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class OpenSecureChannelResponse extends ExtensionObjectDefinition impleme
     this.serverProtocolVersion = serverProtocolVersion;
     this.securityToken = securityToken;
     this.serverNonce = serverNonce;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -104,11 +106,16 @@ public class OpenSecureChannelResponse extends ExtensionObjectDefinition impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenSecureChannelResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -122,6 +129,7 @@ public class OpenSecureChannelResponse extends ExtensionObjectDefinition impleme
     // Simple field (serverNonce)
     lengthInBits += serverNonce.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
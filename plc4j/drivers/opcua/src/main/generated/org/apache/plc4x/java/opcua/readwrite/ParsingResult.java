@@ -58,9 +58,17 @@ public class ParsingResult extends ExtensionObjectDefinition implements Message
     super();
     this.statusCode = statusCode;
     this.noOfDataStatusCodes = noOfDataStatusCodes;
-    this.dataStatusCodes = dataStatusCodes;
+    this.dataStatusCodes =
+        (dataStatusCodes == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(dataStatusCodes));
     this.noOfDataDiagnosticInfos = noOfDataDiagnosticInfos;
-    this.dataDiagnosticInfos = dataDiagnosticInfos;
+    this.dataDiagnosticInfos =
+        (dataDiagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(dataDiagnosticInfos));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusCode getStatusCode() {
@@ -114,11 +122,16 @@ public class ParsingResult extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ParsingResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -147,6 +160,7 @@ public class ParsingResult extends ExtensionObjectDefinition implements Message
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
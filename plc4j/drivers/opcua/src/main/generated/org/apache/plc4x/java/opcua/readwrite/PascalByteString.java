@@ -45,6 +45,8 @@ public class PascalByteString implements Message {
     super();
     this.stringLength = stringLength;
     this.stringValue = stringValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getStringLength() {
@@ -74,11 +76,16 @@ public class PascalByteString implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PascalByteString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (stringLength)
     lengthInBits += 32;
@@ -88,6 +95,7 @@ public class PascalByteString implements Message {
       lengthInBits += 8 * stringValue.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class PriorityMappingEntryType extends ExtensionObjectDefinition implemen
     this.priorityLabel = priorityLabel;
     this.priorityValue_PCP = priorityValue_PCP;
     this.priorityValue_DSCP = priorityValue_DSCP;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getMappingUri() {
@@ -103,11 +105,16 @@ public class PriorityMappingEntryType extends ExtensionObjectDefinition implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PriorityMappingEntryType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (mappingUri)
     lengthInBits += mappingUri.getLengthInBits();
@@ -121,6 +128,7 @@ public class PriorityMappingEntryType extends ExtensionObjectDefinition implemen
     // Simple field (priorityValue_DSCP)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
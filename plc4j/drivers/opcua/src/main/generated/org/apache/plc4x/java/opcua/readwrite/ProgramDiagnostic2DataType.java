@@ -85,15 +85,29 @@ public class ProgramDiagnostic2DataType extends ExtensionObjectDefinition implem
     this.lastMethodCall = lastMethodCall;
     this.lastMethodSessionId = lastMethodSessionId;
     this.noOfLastMethodInputArguments = noOfLastMethodInputArguments;
-    this.lastMethodInputArguments = lastMethodInputArguments;
+    this.lastMethodInputArguments =
+        (lastMethodInputArguments == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(lastMethodInputArguments));
     this.noOfLastMethodOutputArguments = noOfLastMethodOutputArguments;
-    this.lastMethodOutputArguments = lastMethodOutputArguments;
+    this.lastMethodOutputArguments =
+        (lastMethodOutputArguments == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(lastMethodOutputArguments));
     this.noOfLastMethodInputValues = noOfLastMethodInputValues;
-    this.lastMethodInputValues = lastMethodInputValues;
+    this.lastMethodInputValues =
+        (lastMethodInputValues == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(lastMethodInputValues));
     this.noOfLastMethodOutputValues = noOfLastMethodOutputValues;
-    this.lastMethodOutputValues = lastMethodOutputValues;
+    this.lastMethodOutputValues =
+        (lastMethodOutputValues == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(lastMethodOutputValues));
     this.lastMethodCallTime = lastMethodCallTime;
     this.lastMethodReturnStatus = lastMethodReturnStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getCreateSessionId() {
@@ -232,11 +246,16 @@ public class ProgramDiagnostic2DataType extends ExtensionObjectDefinition implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ProgramDiagnostic2DataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (createSessionId)
     lengthInBits += createSessionId.getLengthInBits();
@@ -310,6 +329,7 @@ public class ProgramDiagnostic2DataType extends ExtensionObjectDefinition implem
     // Simple field (lastMethodReturnStatus)
     lengthInBits += lastMethodReturnStatus.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -77,11 +77,19 @@ public class ProgramDiagnosticDataType extends ExtensionObjectDefinition impleme
     this.lastMethodCall = lastMethodCall;
     this.lastMethodSessionId = lastMethodSessionId;
     this.noOfLastMethodInputArguments = noOfLastMethodInputArguments;
-    this.lastMethodInputArguments = lastMethodInputArguments;
+    this.lastMethodInputArguments =
+        (lastMethodInputArguments == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(lastMethodInputArguments));
     this.noOfLastMethodOutputArguments = noOfLastMethodOutputArguments;
-    this.lastMethodOutputArguments = lastMethodOutputArguments;
+    this.lastMethodOutputArguments =
+        (lastMethodOutputArguments == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(lastMethodOutputArguments));
     this.lastMethodCallTime = lastMethodCallTime;
     this.lastMethodReturnStatus = lastMethodReturnStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getCreateSessionId() {
@@ -190,11 +198,16 @@ public class ProgramDiagnosticDataType extends ExtensionObjectDefinition impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ProgramDiagnosticDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (createSessionId)
     lengthInBits += createSessionId.getLengthInBits();
@@ -244,6 +257,7 @@ public class ProgramDiagnosticDataType extends ExtensionObjectDefinition impleme
     // Simple field (lastMethodReturnStatus)
     lengthInBits += lastMethodReturnStatus.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
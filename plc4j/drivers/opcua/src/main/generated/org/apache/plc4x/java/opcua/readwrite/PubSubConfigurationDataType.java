@@ -57,10 +57,16 @@ public class PubSubConfigurationDataType extends ExtensionObjectDefinition imple
       boolean enabled) {
     super();
     this.noOfPublishedDataSets = noOfPublishedDataSets;
-    this.publishedDataSets = publishedDataSets;
+    this.publishedDataSets =
+        (publishedDataSets == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(publishedDataSets));
     this.noOfConnections = noOfConnections;
-    this.connections = connections;
+    this.connections =
+        (connections == null) ? null : Collections.unmodifiableList(new ArrayList<>(connections));
     this.enabled = enabled;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNoOfPublishedDataSets() {
@@ -117,11 +123,16 @@ public class PubSubConfigurationDataType extends ExtensionObjectDefinition imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PubSubConfigurationDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (noOfPublishedDataSets)
     lengthInBits += 32;
@@ -153,6 +164,7 @@ public class PubSubConfigurationDataType extends ExtensionObjectDefinition imple
     // Simple field (enabled)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
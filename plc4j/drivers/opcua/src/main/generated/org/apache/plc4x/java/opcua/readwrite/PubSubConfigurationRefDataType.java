@@ -58,6 +58,8 @@ public class PubSubConfigurationRefDataType extends ExtensionObjectDefinition im
     this.elementIndex = elementIndex;
     this.connectionIndex = connectionIndex;
     this.groupIndex = groupIndex;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PubSubConfigurationRefMask getConfigurationMask() {
@@ -110,11 +112,16 @@ public class PubSubConfigurationRefDataType extends ExtensionObjectDefinition im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PubSubConfigurationRefDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (configurationMask)
     lengthInBits += 32;
@@ -128,6 +135,7 @@ public class PubSubConfigurationRefDataType extends ExtensionObjectDefinition im
     // Simple field (groupIndex)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -76,12 +76,19 @@ public class PubSubConnectionDataType extends ExtensionObjectDefinition implemen
     this.transportProfileUri = transportProfileUri;
     this.address = address;
     this.noOfConnectionProperties = noOfConnectionProperties;
-    this.connectionProperties = connectionProperties;
+    this.connectionProperties =
+        (connectionProperties == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(connectionProperties));
     this.transportSettings = transportSettings;
     this.noOfWriterGroups = noOfWriterGroups;
-    this.writerGroups = writerGroups;
+    this.writerGroups =
+        (writerGroups == null) ? null : Collections.unmodifiableList(new ArrayList<>(writerGroups));
     this.noOfReaderGroups = noOfReaderGroups;
-    this.readerGroups = readerGroups;
+    this.readerGroups =
+        (readerGroups == null) ? null : Collections.unmodifiableList(new ArrayList<>(readerGroups));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getName() {
@@ -187,11 +194,16 @@ public class PubSubConnectionDataType extends ExtensionObjectDefinition implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PubSubConnectionDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -250,6 +262,7 @@ public class PubSubConnectionDataType extends ExtensionObjectDefinition implemen
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
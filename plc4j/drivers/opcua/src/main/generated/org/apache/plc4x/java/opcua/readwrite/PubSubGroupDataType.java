@@ -69,10 +69,18 @@ public class PubSubGroupDataType extends ExtensionObjectDefinition implements Me
     this.securityMode = securityMode;
     this.securityGroupId = securityGroupId;
     this.noOfSecurityKeyServices = noOfSecurityKeyServices;
-    this.securityKeyServices = securityKeyServices;
+    this.securityKeyServices =
+        (securityKeyServices == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(securityKeyServices));
     this.maxNetworkMessageSize = maxNetworkMessageSize;
     this.noOfGroupProperties = noOfGroupProperties;
-    this.groupProperties = groupProperties;
+    this.groupProperties =
+        (groupProperties == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(groupProperties));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getName() {
@@ -165,11 +173,16 @@ public class PubSubGroupDataType extends ExtensionObjectDefinition implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PubSubGroupDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -213,6 +226,7 @@ public class PubSubGroupDataType extends ExtensionObjectDefinition implements Me
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
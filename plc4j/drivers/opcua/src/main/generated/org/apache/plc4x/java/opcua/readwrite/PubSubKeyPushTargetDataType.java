@@ -72,16 +72,27 @@ public class PubSubKeyPushTargetDataType extends ExtensionObjectDefinition imple
     super();
     this.applicationUri = applicationUri;
     this.noOfPushTargetFolder = noOfPushTargetFolder;
-    this.pushTargetFolder = pushTargetFolder;
+    this.pushTargetFolder =
+        (pushTargetFolder == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(pushTargetFolder));
     this.endpointUrl = endpointUrl;
     this.securityPolicyUri = securityPolicyUri;
     this.userTokenType = userTokenType;
     this.requestedKeyCount = requestedKeyCount;
     this.retryInterval = retryInterval;
     this.noOfPushTargetProperties = noOfPushTargetProperties;
-    this.pushTargetProperties = pushTargetProperties;
+    this.pushTargetProperties =
+        (pushTargetProperties == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(pushTargetProperties));
     this.noOfSecurityGroups = noOfSecurityGroups;
-    this.securityGroups = securityGroups;
+    this.securityGroups =
+        (securityGroups == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(securityGroups));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getApplicationUri() {
@@ -184,11 +195,16 @@ public class PubSubKeyPushTargetDataType extends ExtensionObjectDefinition imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PubSubKeyPushTargetDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (applicationUri)
     lengthInBits += applicationUri.getLengthInBits();
@@ -244,6 +260,7 @@ public class PubSubKeyPushTargetDataType extends ExtensionObjectDefinition imple
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
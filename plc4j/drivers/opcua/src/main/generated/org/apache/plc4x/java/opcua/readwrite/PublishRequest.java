@@ -54,7 +54,12 @@ public class PublishRequest extends ExtensionObjectDefinition implements Message
     super();
     this.requestHeader = requestHeader;
     this.noOfSubscriptionAcknowledgements = noOfSubscriptionAcknowledgements;
-    this.subscriptionAcknowledgements = subscriptionAcknowledgements;
+    this.subscriptionAcknowledgements =
+        (subscriptionAcknowledgements == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(subscriptionAcknowledgements));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -97,11 +102,16 @@ public class PublishRequest extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PublishRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -118,6 +128,7 @@ public class PublishRequest extends ExtensionObjectDefinition implements Message
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
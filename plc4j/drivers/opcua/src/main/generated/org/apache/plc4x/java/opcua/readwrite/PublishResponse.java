@@ -69,13 +69,22 @@ public class PublishResponse extends ExtensionObjectDefinition implements Messag
     this.responseHeader = responseHeader;
     this.subscriptionId = subscriptionId;
     this.noOfAvailableSequenceNumbers = noOfAvailableSequenceNumbers;
-    this.availableSequenceNumbers = availableSequenceNumbers;
+    this.availableSequenceNumbers =
+        (availableSequenceNumbers == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(availableSequenceNumbers));
     this.moreNotifications = moreNotifications;
     this.notificationMessage = notificationMessage;
     this.noOfResults = noOfResults;
-    this.results = results;
+    this.results =
+        (results == null) ? null : Collections.unmodifiableList(new ArrayList<>(results));
     this.noOfDiagnosticInfos = noOfDiagnosticInfos;
-    this.diagnosticInfos = diagnosticInfos;
+    this.diagnosticInfos =
+        (diagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(diagnosticInfos));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -170,11 +179,16 @@ public class PublishResponse extends ExtensionObjectDefinition implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PublishResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -223,6 +237,7 @@ public class PublishResponse extends ExtensionObjectDefinition implements Messag
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -72,7 +72,12 @@ public class PublishedVariableDataType extends ExtensionObjectDefinition impleme
     this.indexRange = indexRange;
     this.substituteValue = substituteValue;
     this.noOfMetaDataProperties = noOfMetaDataProperties;
-    this.metaDataProperties = metaDataProperties;
+    this.metaDataProperties =
+        (metaDataProperties == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(metaDataProperties));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getPublishedVariable() {
@@ -154,11 +159,16 @@ public class PublishedVariableDataType extends ExtensionObjectDefinition impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PublishedVariableDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (publishedVariable)
     lengthInBits += publishedVariable.getLengthInBits();
@@ -193,6 +203,7 @@ public class PublishedVariableDataType extends ExtensionObjectDefinition impleme
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -70,6 +70,8 @@ public class QuantityDimension extends ExtensionObjectDefinition implements Mess
     this.luminousIntensityExponent = luminousIntensityExponent;
     this.absoluteTemperatureExponent = absoluteTemperatureExponent;
     this.dimensionlessExponent = dimensionlessExponent;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getMassExponent() {
@@ -150,11 +152,16 @@ public class QuantityDimension extends ExtensionObjectDefinition implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     QuantityDimension _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (massExponent)
     lengthInBits += 8;
@@ -180,6 +187,7 @@ public class QuantityDimension extends ExtensionObjectDefinition implements Mess
     // Simple field (dimensionlessExponent)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class QueryDataDescription extends ExtensionObjectDefinition implements M
     this.relativePath = relativePath;
     this.attributeId = attributeId;
     this.indexRange = indexRange;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRelativePath() {
@@ -91,11 +93,16 @@ public class QueryDataDescription extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     QueryDataDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (relativePath)
     lengthInBits += relativePath.getLengthInBits();
@@ -106,6 +113,7 @@ public class QueryDataDescription extends ExtensionObjectDefinition implements M
     // Simple field (indexRange)
     lengthInBits += indexRange.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,7 +57,9 @@ public class QueryDataSet extends ExtensionObjectDefinition implements Message {
     this.nodeId = nodeId;
     this.typeDefinitionNode = typeDefinitionNode;
     this.noOfValues = noOfValues;
-    this.values = values;
+    this.values = (values == null) ? null : Collections.unmodifiableList(new ArrayList<>(values));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExpandedNodeId getNodeId() {
@@ -103,11 +105,16 @@ public class QueryDataSet extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     QueryDataSet _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeId)
     lengthInBits += nodeId.getLengthInBits();
@@ -127,6 +134,7 @@ public class QueryDataSet extends ExtensionObjectDefinition implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
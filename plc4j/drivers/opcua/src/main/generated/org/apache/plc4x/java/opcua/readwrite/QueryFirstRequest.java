@@ -63,10 +63,13 @@ public class QueryFirstRequest extends ExtensionObjectDefinition implements Mess
     this.requestHeader = requestHeader;
     this.view = view;
     this.noOfNodeTypes = noOfNodeTypes;
-    this.nodeTypes = nodeTypes;
+    this.nodeTypes =
+        (nodeTypes == null) ? null : Collections.unmodifiableList(new ArrayList<>(nodeTypes));
     this.filter = filter;
     this.maxDataSetsToReturn = maxDataSetsToReturn;
     this.maxReferencesToReturn = maxReferencesToReturn;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -135,11 +138,16 @@ public class QueryFirstRequest extends ExtensionObjectDefinition implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     QueryFirstRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -168,6 +176,7 @@ public class QueryFirstRequest extends ExtensionObjectDefinition implements Mess
     // Simple field (maxReferencesToReturn)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -66,13 +66,24 @@ public class QueryFirstResponse extends ExtensionObjectDefinition implements Mes
     super();
     this.responseHeader = responseHeader;
     this.noOfQueryDataSets = noOfQueryDataSets;
-    this.queryDataSets = queryDataSets;
+    this.queryDataSets =
+        (queryDataSets == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(queryDataSets));
     this.continuationPoint = continuationPoint;
     this.noOfParsingResults = noOfParsingResults;
-    this.parsingResults = parsingResults;
+    this.parsingResults =
+        (parsingResults == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(parsingResults));
     this.noOfDiagnosticInfos = noOfDiagnosticInfos;
-    this.diagnosticInfos = diagnosticInfos;
+    this.diagnosticInfos =
+        (diagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(diagnosticInfos));
     this.filterResult = filterResult;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -153,11 +164,16 @@ public class QueryFirstResponse extends ExtensionObjectDefinition implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     QueryFirstResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -204,6 +220,7 @@ public class QueryFirstResponse extends ExtensionObjectDefinition implements Mes
     // Simple field (filterResult)
     lengthInBits += filterResult.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class QueryNextRequest extends ExtensionObjectDefinition implements Messa
     this.requestHeader = requestHeader;
     this.releaseContinuationPoint = releaseContinuationPoint;
     this.continuationPoint = continuationPoint;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -97,11 +99,16 @@ public class QueryNextRequest extends ExtensionObjectDefinition implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     QueryNextRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -115,6 +122,7 @@ public class QueryNextRequest extends ExtensionObjectDefinition implements Messa
     // Simple field (continuationPoint)
     lengthInBits += continuationPoint.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,8 +56,13 @@ public class QueryNextResponse extends ExtensionObjectDefinition implements Mess
     super();
     this.responseHeader = responseHeader;
     this.noOfQueryDataSets = noOfQueryDataSets;
-    this.queryDataSets = queryDataSets;
+    this.queryDataSets =
+        (queryDataSets == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(queryDataSets));
     this.revisedContinuationPoint = revisedContinuationPoint;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -104,11 +109,16 @@ public class QueryNextResponse extends ExtensionObjectDefinition implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     QueryNextResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -128,6 +138,7 @@ public class QueryNextResponse extends ExtensionObjectDefinition implements Mess
     // Simple field (revisedContinuationPoint)
     lengthInBits += revisedContinuationPoint.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
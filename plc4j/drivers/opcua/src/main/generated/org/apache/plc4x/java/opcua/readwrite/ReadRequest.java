@@ -60,7 +60,10 @@ public class ReadRequest extends ExtensionObjectDefinition implements Message {
     this.maxAge = maxAge;
     this.timestampsToReturn = timestampsToReturn;
     this.noOfNodesToRead = noOfNodesToRead;
-    this.nodesToRead = nodesToRead;
+    this.nodesToRead =
+        (nodesToRead == null) ? null : Collections.unmodifiableList(new ArrayList<>(nodesToRead));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -120,11 +123,16 @@ public class ReadRequest extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ReadRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -147,6 +155,7 @@ public class ReadRequest extends ExtensionObjectDefinition implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class ReadValueId extends ExtensionObjectDefinition implements Message {
     this.attributeId = attributeId;
     this.indexRange = indexRange;
     this.dataEncoding = dataEncoding;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getNodeId() {
@@ -100,11 +102,16 @@ public class ReadValueId extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ReadValueId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (nodeId)
     lengthInBits += nodeId.getLengthInBits();
@@ -118,6 +125,7 @@ public class ReadValueId extends ExtensionObjectDefinition implements Message {
     // Simple field (dataEncoding)
     lengthInBits += dataEncoding.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class RedundantServerDataType extends ExtensionObjectDefinition implement
     this.serverId = serverId;
     this.serviceLevel = serviceLevel;
     this.serverState = serverState;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getServerId() {
@@ -95,11 +97,16 @@ public class RedundantServerDataType extends ExtensionObjectDefinition implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RedundantServerDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (serverId)
     lengthInBits += serverId.getLengthInBits();
@@ -110,6 +117,7 @@ public class RedundantServerDataType extends ExtensionObjectDefinition implement
     // Simple field (serverState)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
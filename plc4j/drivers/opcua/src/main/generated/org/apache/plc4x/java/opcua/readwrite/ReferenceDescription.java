@@ -67,6 +67,8 @@ public class ReferenceDescription extends ExtensionObjectDefinition implements M
     this.displayName = displayName;
     this.nodeClass = nodeClass;
     this.typeDefinition = typeDefinition;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getReferenceTypeId() {
@@ -140,11 +142,16 @@ public class ReferenceDescription extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ReferenceDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referenceTypeId)
     lengthInBits += referenceTypeId.getLengthInBits();
@@ -170,6 +177,7 @@ public class ReferenceDescription extends ExtensionObjectDefinition implements M
     // Simple field (typeDefinition)
     lengthInBits += typeDefinition.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class ReferenceDescriptionDataType extends ExtensionObjectDefinition impl
     this.referenceType = referenceType;
     this.isForward = isForward;
     this.targetNode = targetNode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getSourceNode() {
@@ -103,11 +105,16 @@ public class ReferenceDescriptionDataType extends ExtensionObjectDefinition impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ReferenceDescriptionDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sourceNode)
     lengthInBits += sourceNode.getLengthInBits();
@@ -124,6 +131,7 @@ public class ReferenceDescriptionDataType extends ExtensionObjectDefinition impl
     // Simple field (targetNode)
     lengthInBits += targetNode.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
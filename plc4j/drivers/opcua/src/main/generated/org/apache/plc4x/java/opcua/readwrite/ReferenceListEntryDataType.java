@@ -53,6 +53,8 @@ public class ReferenceListEntryDataType extends ExtensionObjectDefinition implem
     this.referenceType = referenceType;
     this.isForward = isForward;
     this.targetNode = targetNode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getReferenceType() {
@@ -94,11 +96,16 @@ public class ReferenceListEntryDataType extends ExtensionObjectDefinition implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ReferenceListEntryDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referenceType)
     lengthInBits += referenceType.getLengthInBits();
@@ -112,6 +119,7 @@ public class ReferenceListEntryDataType extends ExtensionObjectDefinition implem
     // Simple field (targetNode)
     lengthInBits += targetNode.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,7 +54,12 @@ public class RegisterNodesRequest extends ExtensionObjectDefinition implements M
     super();
     this.requestHeader = requestHeader;
     this.noOfNodesToRegister = noOfNodesToRegister;
-    this.nodesToRegister = nodesToRegister;
+    this.nodesToRegister =
+        (nodesToRegister == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(nodesToRegister));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -93,11 +98,16 @@ public class RegisterNodesRequest extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RegisterNodesRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -114,6 +124,7 @@ public class RegisterNodesRequest extends ExtensionObjectDefinition implements M
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
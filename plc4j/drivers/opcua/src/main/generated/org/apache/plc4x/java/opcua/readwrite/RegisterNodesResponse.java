@@ -54,7 +54,12 @@ public class RegisterNodesResponse extends ExtensionObjectDefinition implements
     super();
     this.responseHeader = responseHeader;
     this.noOfRegisteredNodeIds = noOfRegisteredNodeIds;
-    this.registeredNodeIds = registeredNodeIds;
+    this.registeredNodeIds =
+        (registeredNodeIds == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(registeredNodeIds));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -94,11 +99,16 @@ public class RegisterNodesResponse extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RegisterNodesResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -115,6 +125,7 @@ public class RegisterNodesResponse extends ExtensionObjectDefinition implements
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,7 +57,12 @@ public class RegisterServer2Request extends ExtensionObjectDefinition implements
     this.requestHeader = requestHeader;
     this.server = server;
     this.noOfDiscoveryConfiguration = noOfDiscoveryConfiguration;
-    this.discoveryConfiguration = discoveryConfiguration;
+    this.discoveryConfiguration =
+        (discoveryConfiguration == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(discoveryConfiguration));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -104,11 +109,16 @@ public class RegisterServer2Request extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RegisterServer2Request _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -128,6 +138,7 @@ public class RegisterServer2Request extends ExtensionObjectDefinition implements
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
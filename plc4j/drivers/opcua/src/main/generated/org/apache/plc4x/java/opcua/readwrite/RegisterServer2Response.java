@@ -58,9 +58,17 @@ public class RegisterServer2Response extends ExtensionObjectDefinition implement
     super();
     this.responseHeader = responseHeader;
     this.noOfConfigurationResults = noOfConfigurationResults;
-    this.configurationResults = configurationResults;
+    this.configurationResults =
+        (configurationResults == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(configurationResults));
     this.noOfDiagnosticInfos = noOfDiagnosticInfos;
-    this.diagnosticInfos = diagnosticInfos;
+    this.diagnosticInfos =
+        (diagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(diagnosticInfos));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -114,11 +122,16 @@ public class RegisterServer2Response extends ExtensionObjectDefinition implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RegisterServer2Response _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -147,6 +160,7 @@ public class RegisterServer2Response extends ExtensionObjectDefinition implement
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -51,6 +51,8 @@ public class RegisterServerRequest extends ExtensionObjectDefinition implements
     super();
     this.requestHeader = requestHeader;
     this.server = server;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -82,11 +84,16 @@ public class RegisterServerRequest extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RegisterServerRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -94,6 +101,7 @@ public class RegisterServerRequest extends ExtensionObjectDefinition implements
     // Simple field (server)
     lengthInBits += server.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -69,13 +69,19 @@ public class RegisteredServer extends ExtensionObjectDefinition implements Messa
     this.serverUri = serverUri;
     this.productUri = productUri;
     this.noOfServerNames = noOfServerNames;
-    this.serverNames = serverNames;
+    this.serverNames =
+        (serverNames == null) ? null : Collections.unmodifiableList(new ArrayList<>(serverNames));
     this.serverType = serverType;
     this.gatewayServerUri = gatewayServerUri;
     this.noOfDiscoveryUrls = noOfDiscoveryUrls;
-    this.discoveryUrls = discoveryUrls;
+    this.discoveryUrls =
+        (discoveryUrls == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(discoveryUrls));
     this.semaphoreFilePath = semaphoreFilePath;
     this.isOnline = isOnline;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getServerUri() {
@@ -171,11 +177,16 @@ public class RegisteredServer extends ExtensionObjectDefinition implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RegisteredServer _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (serverUri)
     lengthInBits += serverUri.getLengthInBits();
@@ -222,6 +233,7 @@ public class RegisteredServer extends ExtensionObjectDefinition implements Messa
     // Simple field (isOnline)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
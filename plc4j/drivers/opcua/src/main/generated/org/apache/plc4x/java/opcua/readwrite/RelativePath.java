@@ -49,7 +49,10 @@ public class RelativePath extends ExtensionObjectDefinition implements Message {
   public RelativePath(int noOfElements, List<ExtensionObjectDefinition> elements) {
     super();
     this.noOfElements = noOfElements;
-    this.elements = elements;
+    this.elements =
+        (elements == null) ? null : Collections.unmodifiableList(new ArrayList<>(elements));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNoOfElements() {
@@ -81,11 +84,16 @@ public class RelativePath extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RelativePath _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (noOfElements)
     lengthInBits += 32;
@@ -99,6 +107,7 @@ public class RelativePath extends ExtensionObjectDefinition implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -58,6 +58,8 @@ public class RelativePathElement extends ExtensionObjectDefinition implements Me
     this.includeSubtypes = includeSubtypes;
     this.isInverse = isInverse;
     this.targetName = targetName;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getReferenceTypeId() {
@@ -106,11 +108,16 @@ public class RelativePathElement extends ExtensionObjectDefinition implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RelativePathElement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (referenceTypeId)
     lengthInBits += referenceTypeId.getLengthInBits();
@@ -127,6 +134,7 @@ public class RelativePathElement extends ExtensionObjectDefinition implements Me
     // Simple field (targetName)
     lengthInBits += targetName.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class RepublishRequest extends ExtensionObjectDefinition implements Messa
     this.requestHeader = requestHeader;
     this.subscriptionId = subscriptionId;
     this.retransmitSequenceNumber = retransmitSequenceNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -92,11 +94,16 @@ public class RepublishRequest extends ExtensionObjectDefinition implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RepublishRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -107,6 +114,7 @@ public class RepublishRequest extends ExtensionObjectDefinition implements Messa
     // Simple field (retransmitSequenceNumber)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
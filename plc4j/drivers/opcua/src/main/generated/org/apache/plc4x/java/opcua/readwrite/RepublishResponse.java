@@ -51,6 +51,8 @@ public class RepublishResponse extends ExtensionObjectDefinition implements Mess
     super();
     this.responseHeader = responseHeader;
     this.notificationMessage = notificationMessage;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -82,11 +84,16 @@ public class RepublishResponse extends ExtensionObjectDefinition implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RepublishResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -94,6 +101,7 @@ public class RepublishResponse extends ExtensionObjectDefinition implements Mess
     // Simple field (notificationMessage)
     lengthInBits += notificationMessage.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
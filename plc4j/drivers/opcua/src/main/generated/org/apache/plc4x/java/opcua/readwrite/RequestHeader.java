@@ -67,6 +67,8 @@ public class RequestHeader extends ExtensionObjectDefinition implements Message
     this.auditEntryId = auditEntryId;
     this.timeoutHint = timeoutHint;
     this.additionalHeader = additionalHeader;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getAuthenticationToken() {
@@ -133,11 +135,16 @@ public class RequestHeader extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RequestHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (authenticationToken)
     lengthInBits += authenticationToken.getLengthInBits();
@@ -160,6 +167,7 @@ public class RequestHeader extends ExtensionObjectDefinition implements Message
     // Simple field (additionalHeader)
     lengthInBits += additionalHeader.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
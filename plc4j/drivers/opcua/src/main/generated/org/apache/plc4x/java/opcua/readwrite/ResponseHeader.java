@@ -65,8 +65,11 @@ public class ResponseHeader extends ExtensionObjectDefinition implements Message
     this.serviceResult = serviceResult;
     this.serviceDiagnostics = serviceDiagnostics;
     this.noOfStringTable = noOfStringTable;
-    this.stringTable = stringTable;
+    this.stringTable =
+        (stringTable == null) ? null : Collections.unmodifiableList(new ArrayList<>(stringTable));
     this.additionalHeader = additionalHeader;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getTimestamp() {
@@ -133,11 +136,16 @@ public class ResponseHeader extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ResponseHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timestamp)
     lengthInBits += 64;
@@ -166,6 +174,7 @@ public class ResponseHeader extends ExtensionObjectDefinition implements Message
     // Simple field (additionalHeader)
     lengthInBits += additionalHeader.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class RolePermissionType extends ExtensionObjectDefinition implements Mes
     super();
     this.roleId = roleId;
     this.permissions = permissions;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getRoleId() {
@@ -86,11 +88,16 @@ public class RolePermissionType extends ExtensionObjectDefinition implements Mes
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     RolePermissionType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (roleId)
     lengthInBits += roleId.getLengthInBits();
@@ -98,6 +105,7 @@ public class RolePermissionType extends ExtensionObjectDefinition implements Mes
     // Simple field (permissions)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -59,6 +59,8 @@ public class SamplingIntervalDiagnosticsDataType extends ExtensionObjectDefiniti
     this.monitoredItemCount = monitoredItemCount;
     this.maxMonitoredItemCount = maxMonitoredItemCount;
     this.disabledMonitoredItemCount = disabledMonitoredItemCount;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public double getSamplingInterval() {
@@ -108,11 +110,16 @@ public class SamplingIntervalDiagnosticsDataType extends ExtensionObjectDefiniti
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SamplingIntervalDiagnosticsDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (samplingInterval)
     lengthInBits += 64;
@@ -126,6 +133,7 @@ public class SamplingIntervalDiagnosticsDataType extends ExtensionObjectDefiniti
     // Simple field (disabledMonitoredItemCount)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
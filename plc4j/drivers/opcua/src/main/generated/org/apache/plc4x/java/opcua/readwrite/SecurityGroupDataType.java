@@ -72,16 +72,27 @@ public class SecurityGroupDataType extends ExtensionObjectDefinition implements
     super();
     this.name = name;
     this.noOfSecurityGroupFolder = noOfSecurityGroupFolder;
-    this.securityGroupFolder = securityGroupFolder;
+    this.securityGroupFolder =
+        (securityGroupFolder == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(securityGroupFolder));
     this.keyLifetime = keyLifetime;
     this.securityPolicyUri = securityPolicyUri;
     this.maxFutureKeyCount = maxFutureKeyCount;
     this.maxPastKeyCount = maxPastKeyCount;
     this.securityGroupId = securityGroupId;
     this.noOfRolePermissions = noOfRolePermissions;
-    this.rolePermissions = rolePermissions;
+    this.rolePermissions =
+        (rolePermissions == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(rolePermissions));
     this.noOfGroupProperties = noOfGroupProperties;
-    this.groupProperties = groupProperties;
+    this.groupProperties =
+        (groupProperties == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(groupProperties));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getName() {
@@ -184,11 +195,16 @@ public class SecurityGroupDataType extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SecurityGroupDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -244,6 +260,7 @@ public class SecurityGroupDataType extends ExtensionObjectDefinition implements
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
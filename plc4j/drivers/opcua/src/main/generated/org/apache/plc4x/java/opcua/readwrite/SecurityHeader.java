@@ -45,6 +45,8 @@ public class SecurityHeader implements Message {
     super();
     this.secureChannelId = secureChannelId;
     this.secureTokenId = secureTokenId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getSecureChannelId() {
@@ -74,11 +76,16 @@ public class SecurityHeader implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SecurityHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (secureChannelId)
     lengthInBits += 32;
@@ -86,6 +93,7 @@ public class SecurityHeader implements Message {
     // Simple field (secureTokenId)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
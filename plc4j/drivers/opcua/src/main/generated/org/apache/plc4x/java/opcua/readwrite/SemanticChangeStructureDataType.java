@@ -50,6 +50,8 @@ public class SemanticChangeStructureDataType extends ExtensionObjectDefinition i
     super();
     this.affected = affected;
     this.affectedType = affectedType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getAffected() {
@@ -81,11 +83,16 @@ public class SemanticChangeStructureDataType extends ExtensionObjectDefinition i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SemanticChangeStructureDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (affected)
     lengthInBits += affected.getLengthInBits();
@@ -93,6 +100,7 @@ public class SemanticChangeStructureDataType extends ExtensionObjectDefinition i
     // Simple field (affectedType)
     lengthInBits += affectedType.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
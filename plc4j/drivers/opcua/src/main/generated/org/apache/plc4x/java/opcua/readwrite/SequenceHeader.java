@@ -45,6 +45,8 @@ public class SequenceHeader implements Message {
     super();
     this.sequenceNumber = sequenceNumber;
     this.requestId = requestId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getSequenceNumber() {
@@ -74,11 +76,16 @@ public class SequenceHeader implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SequenceHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sequenceNumber)
     lengthInBits += 32;
@@ -86,6 +93,7 @@ public class SequenceHeader implements Message {
     // Simple field (requestId)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
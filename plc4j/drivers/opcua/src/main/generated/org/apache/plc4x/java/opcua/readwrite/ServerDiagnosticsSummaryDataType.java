@@ -82,6 +82,8 @@ public class ServerDiagnosticsSummaryDataType extends ExtensionObjectDefinition
     this.publishingIntervalCount = publishingIntervalCount;
     this.securityRejectedRequestsCount = securityRejectedRequestsCount;
     this.rejectedRequestsCount = rejectedRequestsCount;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getServerViewCount() {
@@ -199,11 +201,16 @@ public class ServerDiagnosticsSummaryDataType extends ExtensionObjectDefinition
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ServerDiagnosticsSummaryDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (serverViewCount)
     lengthInBits += 32;
@@ -241,6 +248,7 @@ public class ServerDiagnosticsSummaryDataType extends ExtensionObjectDefinition
     // Simple field (rejectedRequestsCount)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -60,7 +60,12 @@ public class ServerOnNetwork extends ExtensionObjectDefinition implements Messag
     this.serverName = serverName;
     this.discoveryUrl = discoveryUrl;
     this.noOfServerCapabilities = noOfServerCapabilities;
-    this.serverCapabilities = serverCapabilities;
+    this.serverCapabilities =
+        (serverCapabilities == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(serverCapabilities));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getRecordId() {
@@ -114,11 +119,16 @@ public class ServerOnNetwork extends ExtensionObjectDefinition implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ServerOnNetwork _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (recordId)
     lengthInBits += 32;
@@ -141,6 +151,7 @@ public class ServerOnNetwork extends ExtensionObjectDefinition implements Messag
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -64,6 +64,8 @@ public class ServerStatusDataType extends ExtensionObjectDefinition implements M
     this.buildInfo = buildInfo;
     this.secondsTillShutdown = secondsTillShutdown;
     this.shutdownReason = shutdownReason;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getStartTime() {
@@ -128,11 +130,16 @@ public class ServerStatusDataType extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ServerStatusDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (startTime)
     lengthInBits += 64;
@@ -152,6 +159,7 @@ public class ServerStatusDataType extends ExtensionObjectDefinition implements M
     // Simple field (shutdownReason)
     lengthInBits += shutdownReason.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -140,7 +140,8 @@ public class SessionDiagnosticsDataType extends ExtensionObjectDefinition implem
     this.serverUri = serverUri;
     this.endpointUrl = endpointUrl;
     this.noOfLocaleIds = noOfLocaleIds;
-    this.localeIds = localeIds;
+    this.localeIds =
+        (localeIds == null) ? null : Collections.unmodifiableList(new ArrayList<>(localeIds));
     this.actualSessionTimeout = actualSessionTimeout;
     this.maxResponseMessageSize = maxResponseMessageSize;
     this.clientConnectionTime = clientConnectionTime;
@@ -178,6 +179,8 @@ public class SessionDiagnosticsDataType extends ExtensionObjectDefinition implem
     this.queryNextCount = queryNextCount;
     this.registerNodesCount = registerNodesCount;
     this.unregisterNodesCount = unregisterNodesCount;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getSessionId() {
@@ -522,11 +525,16 @@ public class SessionDiagnosticsDataType extends ExtensionObjectDefinition implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SessionDiagnosticsDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sessionId)
     lengthInBits += sessionId.getLengthInBits();
@@ -666,6 +674,7 @@ public class SessionDiagnosticsDataType extends ExtensionObjectDefinition implem
     // Simple field (unregisterNodesCount)
     lengthInBits += unregisterNodesCount.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
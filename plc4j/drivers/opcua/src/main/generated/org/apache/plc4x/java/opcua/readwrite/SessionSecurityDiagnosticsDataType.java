@@ -70,13 +70,18 @@ public class SessionSecurityDiagnosticsDataType extends ExtensionObjectDefinitio
     this.sessionId = sessionId;
     this.clientUserIdOfSession = clientUserIdOfSession;
     this.noOfClientUserIdHistory = noOfClientUserIdHistory;
-    this.clientUserIdHistory = clientUserIdHistory;
+    this.clientUserIdHistory =
+        (clientUserIdHistory == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(clientUserIdHistory));
     this.authenticationMechanism = authenticationMechanism;
     this.encoding = encoding;
     this.transportProtocol = transportProtocol;
     this.securityMode = securityMode;
     this.securityPolicyUri = securityPolicyUri;
     this.clientCertificate = clientCertificate;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getSessionId() {
@@ -172,11 +177,16 @@ public class SessionSecurityDiagnosticsDataType extends ExtensionObjectDefinitio
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SessionSecurityDiagnosticsDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sessionId)
     lengthInBits += sessionId.getLengthInBits();
@@ -214,6 +224,7 @@ public class SessionSecurityDiagnosticsDataType extends ExtensionObjectDefinitio
     // Simple field (clientCertificate)
     lengthInBits += clientCertificate.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
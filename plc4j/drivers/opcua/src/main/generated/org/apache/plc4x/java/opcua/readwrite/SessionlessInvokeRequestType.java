@@ -64,12 +64,19 @@ public class SessionlessInvokeRequestType extends ExtensionObjectDefinition impl
     super();
     this.urisVersion = urisVersion;
     this.noOfNamespaceUris = noOfNamespaceUris;
-    this.namespaceUris = namespaceUris;
+    this.namespaceUris =
+        (namespaceUris == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(namespaceUris));
     this.noOfServerUris = noOfServerUris;
-    this.serverUris = serverUris;
+    this.serverUris =
+        (serverUris == null) ? null : Collections.unmodifiableList(new ArrayList<>(serverUris));
     this.noOfLocaleIds = noOfLocaleIds;
-    this.localeIds = localeIds;
+    this.localeIds =
+        (localeIds == null) ? null : Collections.unmodifiableList(new ArrayList<>(localeIds));
     this.serviceId = serviceId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getUrisVersion() {
@@ -143,11 +150,16 @@ public class SessionlessInvokeRequestType extends ExtensionObjectDefinition impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SessionlessInvokeRequestType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (urisVersion)
     lengthInBits += 32;
@@ -191,6 +203,7 @@ public class SessionlessInvokeRequestType extends ExtensionObjectDefinition impl
     // Simple field (serviceId)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,10 +57,16 @@ public class SessionlessInvokeResponseType extends ExtensionObjectDefinition imp
       long serviceId) {
     super();
     this.noOfNamespaceUris = noOfNamespaceUris;
-    this.namespaceUris = namespaceUris;
+    this.namespaceUris =
+        (namespaceUris == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(namespaceUris));
     this.noOfServerUris = noOfServerUris;
-    this.serverUris = serverUris;
+    this.serverUris =
+        (serverUris == null) ? null : Collections.unmodifiableList(new ArrayList<>(serverUris));
     this.serviceId = serviceId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getNoOfNamespaceUris() {
@@ -113,11 +119,16 @@ public class SessionlessInvokeResponseType extends ExtensionObjectDefinition imp
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SessionlessInvokeResponseType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (noOfNamespaceUris)
     lengthInBits += 32;
@@ -146,6 +157,7 @@ public class SessionlessInvokeResponseType extends ExtensionObjectDefinition imp
     // Simple field (serviceId)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
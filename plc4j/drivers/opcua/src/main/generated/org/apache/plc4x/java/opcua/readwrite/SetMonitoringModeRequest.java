@@ -60,7 +60,12 @@ public class SetMonitoringModeRequest extends ExtensionObjectDefinition implemen
     this.subscriptionId = subscriptionId;
     this.monitoringMode = monitoringMode;
     this.noOfMonitoredItemIds = noOfMonitoredItemIds;
-    this.monitoredItemIds = monitoredItemIds;
+    this.monitoredItemIds =
+        (monitoredItemIds == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(monitoredItemIds));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -119,11 +124,16 @@ public class SetMonitoringModeRequest extends ExtensionObjectDefinition implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SetMonitoringModeRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -142,6 +152,7 @@ public class SetMonitoringModeRequest extends ExtensionObjectDefinition implemen
       lengthInBits += 32 * monitoredItemIds.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
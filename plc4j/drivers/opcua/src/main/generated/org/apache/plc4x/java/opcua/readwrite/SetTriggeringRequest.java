@@ -64,9 +64,15 @@ public class SetTriggeringRequest extends ExtensionObjectDefinition implements M
     this.subscriptionId = subscriptionId;
     this.triggeringItemId = triggeringItemId;
     this.noOfLinksToAdd = noOfLinksToAdd;
-    this.linksToAdd = linksToAdd;
+    this.linksToAdd =
+        (linksToAdd == null) ? null : Collections.unmodifiableList(new ArrayList<>(linksToAdd));
     this.noOfLinksToRemove = noOfLinksToRemove;
-    this.linksToRemove = linksToRemove;
+    this.linksToRemove =
+        (linksToRemove == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(linksToRemove));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -133,11 +139,16 @@ public class SetTriggeringRequest extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SetTriggeringRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -164,6 +175,7 @@ public class SetTriggeringRequest extends ExtensionObjectDefinition implements M
       lengthInBits += 32 * linksToRemove.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
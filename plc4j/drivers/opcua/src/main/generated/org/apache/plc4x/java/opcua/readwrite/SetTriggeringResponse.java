@@ -66,13 +66,25 @@ public class SetTriggeringResponse extends ExtensionObjectDefinition implements
     super();
     this.responseHeader = responseHeader;
     this.noOfAddResults = noOfAddResults;
-    this.addResults = addResults;
+    this.addResults =
+        (addResults == null) ? null : Collections.unmodifiableList(new ArrayList<>(addResults));
     this.noOfAddDiagnosticInfos = noOfAddDiagnosticInfos;
-    this.addDiagnosticInfos = addDiagnosticInfos;
+    this.addDiagnosticInfos =
+        (addDiagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(addDiagnosticInfos));
     this.noOfRemoveResults = noOfRemoveResults;
-    this.removeResults = removeResults;
+    this.removeResults =
+        (removeResults == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(removeResults));
     this.noOfRemoveDiagnosticInfos = noOfRemoveDiagnosticInfos;
-    this.removeDiagnosticInfos = removeDiagnosticInfos;
+    this.removeDiagnosticInfos =
+        (removeDiagnosticInfos == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(removeDiagnosticInfos));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getResponseHeader() {
@@ -155,11 +167,16 @@ public class SetTriggeringResponse extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SetTriggeringResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (responseHeader)
     lengthInBits += responseHeader.getLengthInBits();
@@ -212,6 +229,7 @@ public class SetTriggeringResponse extends ExtensionObjectDefinition implements
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
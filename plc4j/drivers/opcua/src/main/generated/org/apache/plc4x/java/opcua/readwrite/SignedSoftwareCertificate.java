@@ -50,6 +50,8 @@ public class SignedSoftwareCertificate extends ExtensionObjectDefinition impleme
     super();
     this.certificateData = certificateData;
     this.signature = signature;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalByteString getCertificateData() {
@@ -81,11 +83,16 @@ public class SignedSoftwareCertificate extends ExtensionObjectDefinition impleme
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SignedSoftwareCertificate _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (certificateData)
     lengthInBits += certificateData.getLengthInBits();
@@ -93,6 +100,7 @@ public class SignedSoftwareCertificate extends ExtensionObjectDefinition impleme
     // Simple field (signature)
     lengthInBits += signature.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class StatusChangeNotification extends ExtensionObjectDefinition implemen
     super();
     this.status = status;
     this.diagnosticInfo = diagnosticInfo;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusCode getStatus() {
@@ -86,11 +88,16 @@ public class StatusChangeNotification extends ExtensionObjectDefinition implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     StatusChangeNotification _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (notificationLength)
     lengthInBits += 32;
@@ -101,6 +108,7 @@ public class StatusChangeNotification extends ExtensionObjectDefinition implemen
     // Simple field (diagnosticInfo)
     lengthInBits += diagnosticInfo.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class StatusResult extends ExtensionObjectDefinition implements Message {
     super();
     this.statusCode = statusCode;
     this.diagnosticInfo = diagnosticInfo;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusCode getStatusCode() {
@@ -81,11 +83,16 @@ public class StatusResult extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     StatusResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -93,6 +100,7 @@ public class StatusResult extends ExtensionObjectDefinition implements Message {
     // Simple field (diagnosticInfo)
     lengthInBits += diagnosticInfo.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
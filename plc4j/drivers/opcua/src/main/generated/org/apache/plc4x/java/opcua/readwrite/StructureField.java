@@ -67,9 +67,14 @@ public class StructureField extends ExtensionObjectDefinition implements Message
     this.dataType = dataType;
     this.valueRank = valueRank;
     this.noOfArrayDimensions = noOfArrayDimensions;
-    this.arrayDimensions = arrayDimensions;
+    this.arrayDimensions =
+        (arrayDimensions == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(arrayDimensions));
     this.maxStringLength = maxStringLength;
     this.isOptional = isOptional;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getName() {
@@ -147,11 +152,16 @@ public class StructureField extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     StructureField _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (name)
     lengthInBits += name.getLengthInBits();
@@ -182,6 +192,7 @@ public class StructureField extends ExtensionObjectDefinition implements Message
     // Simple field (isOptional)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class SubscriptionAcknowledgement extends ExtensionObjectDefinition imple
     super();
     this.subscriptionId = subscriptionId;
     this.sequenceNumber = sequenceNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getSubscriptionId() {
@@ -81,11 +83,16 @@ public class SubscriptionAcknowledgement extends ExtensionObjectDefinition imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SubscriptionAcknowledgement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (subscriptionId)
     lengthInBits += 32;
@@ -93,6 +100,7 @@ public class SubscriptionAcknowledgement extends ExtensionObjectDefinition imple
     // Simple field (sequenceNumber)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
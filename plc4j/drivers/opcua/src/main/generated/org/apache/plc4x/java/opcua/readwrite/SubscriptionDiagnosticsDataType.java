@@ -139,6 +139,8 @@ public class SubscriptionDiagnosticsDataType extends ExtensionObjectDefinition i
     this.monitoringQueueOverflowCount = monitoringQueueOverflowCount;
     this.nextSequenceNumber = nextSequenceNumber;
     this.eventQueueOverFlowCount = eventQueueOverFlowCount;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getSessionId() {
@@ -410,11 +412,16 @@ public class SubscriptionDiagnosticsDataType extends ExtensionObjectDefinition i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     SubscriptionDiagnosticsDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (sessionId)
     lengthInBits += sessionId.getLengthInBits();
@@ -512,6 +519,7 @@ public class SubscriptionDiagnosticsDataType extends ExtensionObjectDefinition i
     // Simple field (eventQueueOverFlowCount)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class TimeZoneDataType extends ExtensionObjectDefinition implements Messa
     super();
     this.offset = offset;
     this.daylightSavingInOffset = daylightSavingInOffset;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getOffset() {
@@ -84,11 +86,16 @@ public class TimeZoneDataType extends ExtensionObjectDefinition implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TimeZoneDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (offset)
     lengthInBits += 16;
@@ -99,6 +106,7 @@ public class TimeZoneDataType extends ExtensionObjectDefinition implements Messa
     // Simple field (daylightSavingInOffset)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class TransactionErrorType extends ExtensionObjectDefinition implements M
     this.targetId = targetId;
     this.error = error;
     this.message = message;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getTargetId() {
@@ -90,11 +92,16 @@ public class TransactionErrorType extends ExtensionObjectDefinition implements M
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TransactionErrorType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (targetId)
     lengthInBits += targetId.getLengthInBits();
@@ -105,6 +112,7 @@ public class TransactionErrorType extends ExtensionObjectDefinition implements M
     // Simple field (message)
     lengthInBits += message.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,7 +54,12 @@ public class TransferResult extends ExtensionObjectDefinition implements Message
     super();
     this.statusCode = statusCode;
     this.noOfAvailableSequenceNumbers = noOfAvailableSequenceNumbers;
-    this.availableSequenceNumbers = availableSequenceNumbers;
+    this.availableSequenceNumbers =
+        (availableSequenceNumbers == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(availableSequenceNumbers));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public StatusCode getStatusCode() {
@@ -97,11 +102,16 @@ public class TransferResult extends ExtensionObjectDefinition implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TransferResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (statusCode)
     lengthInBits += statusCode.getLengthInBits();
@@ -114,6 +124,7 @@ public class TransferResult extends ExtensionObjectDefinition implements Message
       lengthInBits += 32 * availableSequenceNumbers.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,8 +56,13 @@ public class TransferSubscriptionsRequest extends ExtensionObjectDefinition impl
     super();
     this.requestHeader = requestHeader;
     this.noOfSubscriptionIds = noOfSubscriptionIds;
-    this.subscriptionIds = subscriptionIds;
+    this.subscriptionIds =
+        (subscriptionIds == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(subscriptionIds));
     this.sendInitialValues = sendInitialValues;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -107,11 +112,16 @@ public class TransferSubscriptionsRequest extends ExtensionObjectDefinition impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TransferSubscriptionsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -130,6 +140,7 @@ public class TransferSubscriptionsRequest extends ExtensionObjectDefinition impl
     // Simple field (sendInitialValues)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,7 +55,10 @@ public class TranslateBrowsePathsToNodeIdsRequest extends ExtensionObjectDefinit
     super();
     this.requestHeader = requestHeader;
     this.noOfBrowsePaths = noOfBrowsePaths;
-    this.browsePaths = browsePaths;
+    this.browsePaths =
+        (browsePaths == null) ? null : Collections.unmodifiableList(new ArrayList<>(browsePaths));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -94,11 +97,16 @@ public class TranslateBrowsePathsToNodeIdsRequest extends ExtensionObjectDefinit
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TranslateBrowsePathsToNodeIdsRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -115,6 +123,7 @@ public class TranslateBrowsePathsToNodeIdsRequest extends ExtensionObjectDefinit
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -66,13 +66,23 @@ public class TrustListDataType extends ExtensionObjectDefinition implements Mess
     super();
     this.specifiedLists = specifiedLists;
     this.noOfTrustedCertificates = noOfTrustedCertificates;
-    this.trustedCertificates = trustedCertificates;
+    this.trustedCertificates =
+        (trustedCertificates == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(trustedCertificates));
     this.noOfTrustedCrls = noOfTrustedCrls;
-    this.trustedCrls = trustedCrls;
+    this.trustedCrls =
+        (trustedCrls == null) ? null : Collections.unmodifiableList(new ArrayList<>(trustedCrls));
     this.noOfIssuerCertificates = noOfIssuerCertificates;
-    this.issuerCertificates = issuerCertificates;
+    this.issuerCertificates =
+        (issuerCertificates == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(issuerCertificates));
     this.noOfIssuerCrls = noOfIssuerCrls;
-    this.issuerCrls = issuerCrls;
+    this.issuerCrls =
+        (issuerCrls == null) ? null : Collections.unmodifiableList(new ArrayList<>(issuerCrls));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getSpecifiedLists() {
@@ -155,11 +165,16 @@ public class TrustListDataType extends ExtensionObjectDefinition implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TrustListDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (specifiedLists)
     lengthInBits += 32;
@@ -212,6 +227,7 @@ public class TrustListDataType extends ExtensionObjectDefinition implements Mess
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
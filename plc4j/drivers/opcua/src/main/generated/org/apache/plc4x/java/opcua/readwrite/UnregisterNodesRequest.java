@@ -54,7 +54,12 @@ public class UnregisterNodesRequest extends ExtensionObjectDefinition implements
     super();
     this.requestHeader = requestHeader;
     this.noOfNodesToUnregister = noOfNodesToUnregister;
-    this.nodesToUnregister = nodesToUnregister;
+    this.nodesToUnregister =
+        (nodesToUnregister == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(nodesToUnregister));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -94,11 +99,16 @@ public class UnregisterNodesRequest extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     UnregisterNodesRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -115,6 +125,7 @@ public class UnregisterNodesRequest extends ExtensionObjectDefinition implements
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
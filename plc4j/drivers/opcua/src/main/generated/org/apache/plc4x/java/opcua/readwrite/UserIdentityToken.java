@@ -51,6 +51,8 @@ public class UserIdentityToken extends ExtensionObjectDefinition implements Mess
     super();
     this.policyId = policyId;
     this.userIdentityTokenDefinition = userIdentityTokenDefinition;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getPolicyId() {
@@ -91,11 +93,16 @@ public class UserIdentityToken extends ExtensionObjectDefinition implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     UserIdentityToken _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (policyLength)
     lengthInBits += 32;
@@ -106,6 +113,7 @@ public class UserIdentityToken extends ExtensionObjectDefinition implements Mess
     // Simple field (userIdentityTokenDefinition)
     lengthInBits += userIdentityTokenDefinition.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
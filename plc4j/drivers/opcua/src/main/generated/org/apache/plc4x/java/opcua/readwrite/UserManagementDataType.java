@@ -53,6 +53,8 @@ public class UserManagementDataType extends ExtensionObjectDefinition implements
     this.userName = userName;
     this.userConfiguration = userConfiguration;
     this.description = description;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getUserName() {
@@ -98,11 +100,16 @@ public class UserManagementDataType extends ExtensionObjectDefinition implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     UserManagementDataType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (userName)
     lengthInBits += userName.getLengthInBits();
@@ -113,6 +120,7 @@ public class UserManagementDataType extends ExtensionObjectDefinition implements
     // Simple field (description)
     lengthInBits += description.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class UserNameIdentityToken extends UserIdentityTokenDefinition implement
     this.userName = userName;
     this.password = password;
     this.encryptionAlgorithm = encryptionAlgorithm;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getUserName() {
@@ -91,11 +93,16 @@ public class UserNameIdentityToken extends UserIdentityTokenDefinition implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     UserNameIdentityToken _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (userName)
     lengthInBits += userName.getLengthInBits();
@@ -106,6 +113,7 @@ public class UserNameIdentityToken extends UserIdentityTokenDefinition implement
     // Simple field (encryptionAlgorithm)
     lengthInBits += encryptionAlgorithm.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class UserTokenPolicy extends ExtensionObjectDefinition implements Messag
     this.issuedTokenType = issuedTokenType;
     this.issuerEndpointUrl = issuerEndpointUrl;
     this.securityPolicyUri = securityPolicyUri;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalString getPolicyId() {
@@ -118,11 +120,16 @@ public class UserTokenPolicy extends ExtensionObjectDefinition implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     UserTokenPolicy _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (policyId)
     lengthInBits += policyId.getLengthInBits();
@@ -139,6 +146,7 @@ public class UserTokenPolicy extends ExtensionObjectDefinition implements Messag
     // Simple field (securityPolicyUri)
     lengthInBits += securityPolicyUri.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,7 +55,10 @@ public abstract class Variant implements Message {
     this.arrayLengthSpecified = arrayLengthSpecified;
     this.arrayDimensionsSpecified = arrayDimensionsSpecified;
     this.noOfArrayDimensions = noOfArrayDimensions;
-    this.arrayDimensions = arrayDimensions;
+    this.arrayDimensions =
+        (arrayDimensions == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(arrayDimensions));
   }
 
   public boolean getArrayLengthSpecified() {
@@ -109,11 +112,16 @@ public abstract class Variant implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Variant _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (arrayLengthSpecified)
     lengthInBits += 1;
@@ -136,6 +144,7 @@ public abstract class Variant implements Message {
       lengthInBits += 1 * arrayDimensions.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,7 +55,9 @@ public class VariantByteString extends Variant implements Message {
       List<ByteStringArray> value) {
     super(arrayLengthSpecified, arrayDimensionsSpecified, noOfArrayDimensions, arrayDimensions);
     this.arrayLength = arrayLength;
-    this.value = value;
+    this.value = (value == null) ? null : Collections.unmodifiableList(new ArrayList<>(value));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Integer getArrayLength() {
@@ -86,11 +88,16 @@ public class VariantByteString extends Variant implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     VariantByteString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (arrayLength)
     if (arrayLength != null) {
@@ -106,6 +113,7 @@ public class VariantByteString extends Variant implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,7 +55,9 @@ public class VariantDateTime extends Variant implements Message {
       List<Long> value) {
     super(arrayLengthSpecified, arrayDimensionsSpecified, noOfArrayDimensions, arrayDimensions);
     this.arrayLength = arrayLength;
-    this.value = value;
+    this.value = (value == null) ? null : Collections.unmodifiableList(new ArrayList<>(value));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Integer getArrayLength() {
@@ -86,11 +88,16 @@ public class VariantDateTime extends Variant implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     VariantDateTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Optional Field (arrayLength)
     if (arrayLength != null) {
@@ -102,6 +109,7 @@ public class VariantDateTime extends Variant implements Message {
       lengthInBits += 64 * value.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
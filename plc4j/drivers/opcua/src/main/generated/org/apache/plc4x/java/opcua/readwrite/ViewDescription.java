@@ -52,6 +52,8 @@ public class ViewDescription extends ExtensionObjectDefinition implements Messag
     this.viewId = viewId;
     this.timestamp = timestamp;
     this.viewVersion = viewVersion;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public NodeId getViewId() {
@@ -90,11 +92,16 @@ public class ViewDescription extends ExtensionObjectDefinition implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     ViewDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (viewId)
     lengthInBits += viewId.getLengthInBits();
@@ -105,6 +112,7 @@ public class ViewDescription extends ExtensionObjectDefinition implements Messag
     // Simple field (viewVersion)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
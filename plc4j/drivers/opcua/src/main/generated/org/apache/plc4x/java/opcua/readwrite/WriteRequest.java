@@ -54,7 +54,10 @@ public class WriteRequest extends ExtensionObjectDefinition implements Message {
     super();
     this.requestHeader = requestHeader;
     this.noOfNodesToWrite = noOfNodesToWrite;
-    this.nodesToWrite = nodesToWrite;
+    this.nodesToWrite =
+        (nodesToWrite == null) ? null : Collections.unmodifiableList(new ArrayList<>(nodesToWrite));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ExtensionObjectDefinition getRequestHeader() {
@@ -93,11 +96,16 @@ public class WriteRequest extends ExtensionObjectDefinition implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     WriteRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestHeader)
     lengthInBits += requestHeader.getLengthInBits();
@@ -114,6 +122,7 @@ public class WriteRequest extends ExtensionObjectDefinition implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class X509IdentityToken extends UserIdentityTokenDefinition implements Me
   public X509IdentityToken(PascalByteString certificateData) {
     super();
     this.certificateData = certificateData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PascalByteString getCertificateData() {
@@ -72,15 +74,21 @@ public class X509IdentityToken extends UserIdentityTokenDefinition implements Me
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     X509IdentityToken _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (certificateData)
     lengthInBits += certificateData.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -44,7 +44,9 @@ public class XmlElement implements Message {
   public XmlElement(int length, List<String> value) {
     super();
     this.length = length;
-    this.value = value;
+    this.value = (value == null) ? null : Collections.unmodifiableList(new ArrayList<>(value));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getLength() {
@@ -74,11 +76,16 @@ public class XmlElement implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     XmlElement _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (length)
     lengthInBits += 32;
@@ -88,6 +95,7 @@ public class XmlElement implements Message {
       lengthInBits += 8 * value.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.opcua;
+
+import org.apache.plc4x.java.api.PlcConnection;
+import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
+import org.apache.plc4x.java.opcua.protocol.OpcuaProtocolLogic;
+import org.apache.plc4x.java.opcua.tag.OpcuaTag;
+import org.apache.plc4x.java.spi.connection.AbstractPlcConnection;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+/**
+ * OPC UA specific operations on connections created by the {@link OpcuaPlcDriver}.
+ */
+public final class OpcuaConnectionUtils {
+
+    private OpcuaConnectionUtils() {
+        // Utility class
+    }
+
+    /**
+     * Registers the nodes of the given tags right away, instead of waiting for them to be polled often enough
+     * (see the "node-registration-threshold" option). Useful before starting to poll a known set of string or
+     * GUID nodes. The registrations are redone automatically, if the session has to be re-created.
+     *
+     * @param connection   connected OPC UA connection.
+     * @param tagAddresses addresses of the tags to register.
+     * @return future completed as soon as the nodes are registered.
+     */
+    public static CompletableFuture<Void> warmUp(PlcConnection connection, Collection<String> tagAddresses) {
+        if (!(connection instanceof AbstractPlcConnection)
+            || !(((AbstractPlcConnection) connection).getProtocol() instanceof OpcuaProtocolLogic)) {
+            throw new PlcRuntimeException("Not an OPC UA connection: " + connection);
+        }
+        OpcuaProtocolLogic protocol = (OpcuaProtocolLogic) ((AbstractPlcConnection) connection).getProtocol();
+        List<OpcuaTag> tags = tagAddresses.stream().map(OpcuaTag::of).collect(Collectors.toList());
+        return protocol.registerNodes(tags);
+    }
+
+}
@@ -30,9 +30,12 @@ import org.apache.plc4x.java.opcua.security.SecurityPolicy;
 import org.apache.plc4x.java.spi.configuration.annotations.ComplexConfigurationParameter;
 import org.apache.plc4x.java.spi.configuration.annotations.ConfigurationParameter;
 import org.apache.plc4x.java.spi.configuration.annotations.Description;
+import org.apache.plc4x.java.spi.configuration.annotations.Since;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.BooleanDefaultValue;
+import org.apache.plc4x.java.spi.configuration.annotations.defaults.IntDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.LongDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.StringDefaultValue;
+import org.apache.plc4x.java.spi.transaction.TransactionExecutorMode;
 
 public class OpcuaConfiguration implements PlcConnectionConfiguration {
 
@@ -143,6 +146,40 @@ public class OpcuaConfiguration implements PlcConnectionConfiguration {
     @Description("Endpoint port used to establish secure channel")
     private Integer endpointPort;
 
+    @ConfigurationParameter("transaction-executor")
+    @StringDefaultValue("DEDICATED")
+    @Description("Defines which threads requests are processed on (Defaults to DEDICATED).\n" +
+        "Allowed values are: \n" +
+        " - DEDICATED (every connection uses its own small thread pool)\n" +
+        " - SHARED (all connections share one bounded thread pool)\n" +
+        " - VIRTUAL (every request runs on its own virtual thread, requires Java 21)\n")
+    @Since("0.13.0")
+    private TransactionExecutorMode transactionExecutorMode;
+
+    @ConfigurationParameter("transaction-executor-pool-size")
+    @IntDefaultValue(0)
+    @Description("Number of threads of the shared thread pool used by 'transaction-executor=SHARED' (Defaults to the number of available processors).")
+    @Since("0.13.0")
+    private int transactionExecutorPoolSize;
+
+    @ConfigurationParameter("node-registration-threshold")
+    @IntDefaultValue(2)
+    @Description("Number of reads or writes of a string or GUID node, after which it is registered with the server's RegisterNodes service and accessed by the registered node id (0 disables registering nodes).")
+    @Since("0.13.0")
+    private int nodeRegistrationThreshold;
+
+    @ConfigurationParameter("registered-nodes-cache-size")
+    @IntDefaultValue(10000)
+    @Description("Maximum number of registered nodes, the least recently used ones are unregistered when exceeding it.")
+    @Since("0.13.0")
+    private int registeredNodesCacheSize;
+
+    @ConfigurationParameter("outstanding-publish-requests")
+    @IntDefaultValue(3)
+    @Description("Number of publish requests kept outstanding at the server while there are subscriptions, so notifications can be sent without waiting for the next request.")
+    @Since("0.13.0")
+    private int outstandingPublishRequests;
+
     public String getProtocolCode() {
         return protocolCode;
     }
@@ -244,6 +281,28 @@ public class OpcuaConfiguration implements PlcConnectionConfiguration {
         return endpointPort;
     }
 
+    @Override
+    public TransactionExecutorMode getTransactionExecutorMode() {
+        return transactionExecutorMode;
+    }
+
+    @Override
+    public int getTransactionExecutorPoolSize() {
+        return transactionExecutorPoolSize;
+    }
+
+    public int getNodeRegistrationThreshold() {
+        return nodeRegistrationThreshold;
+    }
+
+    public int getRegisteredNodesCacheSize() {
+        return registeredNodesCacheSize;
+    }
+
+    public int getOutstandingPublishRequests() {
+        return outstandingPublishRequests;
+    }
+
     @Override
     public String toString() {
         return "OpcuaConfiguration{" +
@@ -61,7 +61,6 @@ import org.apache.plc4x.java.opcua.readwrite.OpcuaMessageResponse;
 import org.apache.plc4x.java.opcua.readwrite.OpcuaOpenRequest;
 import org.apache.plc4x.java.opcua.readwrite.OpcuaOpenResponse;
 import org.apache.plc4x.java.opcua.readwrite.OpcuaProtocolLimits;
-import org.apache.plc4x.java.opcua.readwrite.OpcuaStatusCode;
 import org.apache.plc4x.java.opcua.readwrite.PascalString;
 import org.apache.plc4x.java.opcua.readwrite.Payload;
 import org.apache.plc4x.java.opcua.readwrite.RequestHeader;
@@ -260,7 +259,15 @@ public class Conversation {
     }
 
     public <T extends ExtensionObjectDefinition, R extends ExtensionObjectDefinition> CompletableFuture<R> submit(T object, Class<R> replyType) {
-        return submit(object).thenApply(response -> {
+        return submit(object, replyType, configuration.getRequestTimeout());
+    }
+
+    /**
+     * Like {@link #submit(ExtensionObjectDefinition, Class)}, but with a custom timeout for requests the server is
+     * expected to hold back (like publish requests).
+     */
+    public <T extends ExtensionObjectDefinition, R extends ExtensionObjectDefinition> CompletableFuture<R> submit(T object, Class<R> replyType, long timeout) {
+        return submit(object, timeout).thenApply(response -> {
             if (replyType.isInstance(response)) {
                 return replyType.cast(response);
             }
@@ -268,7 +275,7 @@ public class Conversation {
         });
     }
 
-    private CompletableFuture<Object> submit(ExtensionObjectDefinition requestDefinition) {
+    private CompletableFuture<Object> submit(ExtensionObjectDefinition requestDefinition, long timeout) {
         Integer requestId = tm.getTransactionIdentifier();
 
         ExpandedNodeId expandedNodeId = new ExpandedNodeId(
@@ -296,43 +303,31 @@ public class Conversation {
         for (int count = chunks.size(), index = 0; index < count; index++) {
             boolean last = index + 1 == count;
             if (last) {
-                BiFunction<OpcuaMessageResponse, BinaryPayload, OpcuaMessageResponse> chunkAssembler = (src, chunkPayload) ->
-                    new OpcuaMessageResponse(src.getChunk(), src.getSecurityHeader(), chunkPayload);
-
-                sendRequest(chunks.get(index), future, configuration.getRequestTimeout())
+                sendRequest(chunks.get(index), future, timeout)
                     .unwrap(OpcuaAPU::getMessage)
                     .check(OpcuaMessageResponse.class::isInstance)
                     .unwrap(OpcuaMessageResponse.class::cast)
                     .unwrap(msg -> encryptionHandler.decodeMessage(msg))
                     .check(OpcuaMessageResponse.class::isInstance)
                     .unwrap(OpcuaMessageResponse.class::cast)
-                    .check(OpcuaMessageResponse.class::isInstance)
-                    .unwrap(OpcuaMessageResponse.class::cast)
                     .check(msg -> msg.getMessage().getSequenceHeader().getRequestId() == requestId)
                     .check(reply -> sequenceValidator.test(reply.getMessage().getSequenceHeader(), future))
                     .check(msg -> accumulateChunkUntilFinal(chunkStorage, msg.getChunk(), msg.getMessage()))
-                    .unwrap(msg -> mergeChunks(chunkStorage, msg, msg.getMessage().getSequenceHeader(), chunkAssembler))
                     .handle(response -> {
                         if (response.getChunk().equals(FINAL)) {
                             logger.debug("Received response made of {} bytes for message id: {}, channel id:{}, token:{}",
-                                response.getLengthInBytes(), requestId, response.getSecurityHeader().getSecureChannelId(),
+                                chunkStorage.size(), requestId, response.getSecurityHeader().getSecureChannelId(),
                                 response.getSecurityHeader().getSecureTokenId()
                             );
                             securityHeader.set(response.getSecurityHeader());
 
-                            Payload message = response.getMessage();
+                            // Parse the body straight from the received chunks, instead of assembling them first.
                             ExtensionObjectDefinition extensionObjectBody;
-                            if (message instanceof ExtensiblePayload) {
-                                extensionObjectBody = (((ExtensiblePayload) message).getPayload()).getBody();
-                            } else {
-                                try {
-                                    BinaryPayload binary = (BinaryPayload) message;
-                                    ReadBufferByteBased buffer = new ReadBufferByteBased(binary.getPayload(), org.apache.plc4x.java.spi.generation.ByteOrder.LITTLE_ENDIAN);
-                                    extensionObjectBody = ExtensionObject.staticParse(buffer, false).getBody();
-                                } catch (ParseException e) {
-                                    future.completeExceptionally(e);
-                                    return;
-                                }
+                            try {
+                                extensionObjectBody = ExtensionObject.staticParse(chunkStorage.getReadBuffer(), false).getBody();
+                            } catch (ParseException e) {
+                                future.completeExceptionally(e);
+                                return;
                             }
 
                             if (extensionObjectBody instanceof ServiceFault) {
@@ -415,9 +410,7 @@ public class Conversation {
     static PlcProtocolException toProtocolException(ServiceFault fault) {
         if (fault.getResponseHeader() instanceof ResponseHeader) {
             ResponseHeader responseHeader = (ResponseHeader) fault.getResponseHeader();
-            long statusCode = responseHeader.getServiceResult().getStatusCode();
-            String statusName = OpcuaStatusCode.isDefined(statusCode) ? OpcuaStatusCode.enumForValue(statusCode).name() : "<unknown>";
-            return new PlcProtocolException("Server returned error " + statusName + " (0x" + Long.toHexString(statusCode) + ")");
+            return new OpcuaServiceFaultException(responseHeader.getServiceResult().getStatusCode());
         }
         return new PlcProtocolException("Unexpected service fault");
     }
@@ -26,7 +26,9 @@ import java.security.GeneralSecurityException;
 import java.util.Optional;
 import org.apache.commons.codec.digest.DigestUtils;
 import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
+import org.apache.plc4x.java.opcua.config.Limits;
 import org.apache.plc4x.java.opcua.config.OpcuaConfiguration;
+import org.apache.plc4x.java.opcua.readwrite.OpcuaProtocolLimits;
 import org.apache.plc4x.java.opcua.readwrite.PascalByteString;
 import org.apache.plc4x.java.opcua.security.CertificateVerifier;
 import org.apache.plc4x.java.opcua.security.PermissiveCertificateVerifier;
@@ -79,6 +81,13 @@ public class OpcuaDriverContext implements DriverContext, HasConfiguration<Opcua
 
     private CertificateVerifier certificateVerifier = new PermissiveCertificateVerifier();
 
+    // Encoding limits negotiated with the server (Until then the configured ones).
+    private OpcuaProtocolLimits protocolLimits;
+    // Operation limits of the server (0 = no limit).
+    private long maxNodesPerRead;
+    private long maxNodesPerWrite;
+    private long maxNodesPerRegisterNodes;
+
 
     public void openKeyStore(OpcuaConfiguration configuration) throws IOException, GeneralSecurityException {
         String serverKeyStore = configuration.getKeyStoreFile();
@@ -149,6 +158,14 @@ public class OpcuaDriverContext implements DriverContext, HasConfiguration<Opcua
         String portAddition = port != null ? ":" + port : "";
         endpoint = "opc." + code + "://" + host + portAddition + transportEndpoint;
 
+        Limits encodingLimits = configuration.getEncodingLimits();
+        protocolLimits = new OpcuaProtocolLimits(
+            encodingLimits.getReceiveBufferSize(),
+            encodingLimits.getSendBufferSize(),
+            encodingLimits.getMaxMessageSize(),
+            encodingLimits.getMaxChunkCount()
+        );
+
         if (configuration.getSecurityPolicy() != null && configuration.getSecurityPolicy() != SecurityPolicy.NONE) {
             try {
                 openKeyStore(configuration);
@@ -183,6 +200,38 @@ public class OpcuaDriverContext implements DriverContext, HasConfiguration<Opcua
         return certificateVerifier;
     }
 
+    public OpcuaProtocolLimits getProtocolLimits() {
+        return protocolLimits;
+    }
+
+    public void setProtocolLimits(OpcuaProtocolLimits protocolLimits) {
+        this.protocolLimits = protocolLimits;
+    }
+
+    public long getMaxNodesPerRead() {
+        return maxNodesPerRead;
+    }
+
+    public void setMaxNodesPerRead(long maxNodesPerRead) {
+        this.maxNodesPerRead = maxNodesPerRead;
+    }
+
+    public long getMaxNodesPerWrite() {
+        return maxNodesPerWrite;
+    }
+
+    public void setMaxNodesPerWrite(long maxNodesPerWrite) {
+        this.maxNodesPerWrite = maxNodesPerWrite;
+    }
+
+    public long getMaxNodesPerRegisterNodes() {
+        return maxNodesPerRegisterNodes;
+    }
+
+    public void setMaxNodesPerRegisterNodes(long maxNodesPerRegisterNodes) {
+        this.maxNodesPerRegisterNodes = maxNodesPerRegisterNodes;
+    }
+
     private static KeyStore openKeyStore(String keyStoreFile, String keyStoreType, char[] password) throws IOException, GeneralSecurityException {
         File serverKeyStore = null;
         if (keyStoreFile != null) {
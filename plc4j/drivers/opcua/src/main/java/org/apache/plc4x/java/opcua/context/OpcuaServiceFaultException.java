@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.opcua.context;
+
+import org.apache.plc4x.java.api.exceptions.PlcProtocolException;
+import org.apache.plc4x.java.opcua.readwrite.OpcuaStatusCode;
+
+/**
+ * Service fault returned by the server, carrying the status code of the fault.
+ */
+public class OpcuaServiceFaultException extends PlcProtocolException {
+
+    private final long statusCode;
+
+    public OpcuaServiceFaultException(long statusCode) {
+        super("Server returned error " + getStatusName(statusCode) + " (0x" + Long.toHexString(statusCode) + ")");
+        this.statusCode = statusCode;
+    }
+
+    public long getStatusCode() {
+        return statusCode;
+    }
+
+    /**
+     * @return the status code, or null if it isn't a known one.
+     */
+    public OpcuaStatusCode getOpcuaStatusCode() {
+        return OpcuaStatusCode.isDefined(statusCode) ? OpcuaStatusCode.enumForValue(statusCode) : null;
+    }
+
+    /**
+     * @param throwable error of a request (possibly wrapping the service fault).
+     * @return the status code of the service fault causing the error, or null if it wasn't caused by a (known) one.
+     */
+    public static OpcuaStatusCode getOpcuaStatusCode(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if (cause instanceof OpcuaServiceFaultException) {
+                return ((OpcuaServiceFaultException) cause).getOpcuaStatusCode();
+            }
+        }
+        return null;
+    }
+
+    private static String getStatusName(long statusCode) {
+        return OpcuaStatusCode.isDefined(statusCode) ? OpcuaStatusCode.enumForValue(statusCode).name() : "<unknown>";
+    }
+
+}
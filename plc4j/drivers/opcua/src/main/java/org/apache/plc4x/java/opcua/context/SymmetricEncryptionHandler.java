@@ -42,6 +42,8 @@ public class SymmetricEncryptionHandler extends BaseEncryptionHandler {
 
     private SymmetricKeys keys = null;
     private byte[] senderNonce;
+    // Initialized ciphers and MACs for the current keys, they are only rebuilt when the security token is renewed.
+    private ChannelCrypto crypto = null;
 
     public SymmetricEncryptionHandler(Conversation channel, SecurityPolicy policy) {
         super(channel, policy);
@@ -49,17 +51,16 @@ public class SymmetricEncryptionHandler extends BaseEncryptionHandler {
 
     protected void verify(WriteBufferByteBased buffer, Chunk chunk, int messageLength) throws Exception {
         int signatureStart = messageLength - chunk.getSignatureSize();
-        byte[] message = buffer.getBytes(0, signatureStart);
-        byte[] signatureData = buffer.getBytes(signatureStart, signatureStart + chunk.getSignatureSize());
+        byte[] chunkBytes = buffer.getBytes(0, messageLength);
 
-        SymmetricKeys symmetricKeys = getSymmetricKeys(conversation.getLocalNonce(), conversation.getRemoteNonce());
-        MacSignatureAlgorithm algorithm = securityPolicy.getSymmetricSignatureAlgorithm();
-        Mac signature = algorithm.getSignature();
-        signature.init(new SecretKeySpec(symmetricKeys.getServerKeys().getSignatureKey(), algorithm.getName()));
-        signature.update(message);
-        byte[] signatureBytes = signature.doFinal();
+        Mac signature = getCrypto().serverSignature;
+        byte[] signatureBytes;
+        synchronized (signature) {
+            signature.update(chunkBytes, 0, signatureStart);
+            signatureBytes = signature.doFinal();
+        }
 
-        if (!MessageDigest.isEqual(signatureData, signatureBytes)) {
+        if (!MessageDigest.isEqual(Arrays.copyOfRange(chunkBytes, signatureStart, messageLength), signatureBytes)) {
             throw new IllegalArgumentException("Invalid signature");
         }
     }
@@ -68,44 +69,48 @@ public class SymmetricEncryptionHandler extends BaseEncryptionHandler {
         int bodyStart = 12 + chunk.getSecurityHeaderSize();
 
         int bodySize = messageLength - bodyStart;
-        int blockCount = bodySize / chunk.getCipherTextBlockSize();
         assert(bodySize % chunk.getCipherTextBlockSize() == 0);
 
-        byte[] encrypted = chunkBuffer.getBytes(bodyStart, bodyStart + bodySize);
-        byte[] plainText = new byte[chunk.getCipherTextBlockSize() * blockCount];
-
-        SymmetricKeys symmetricKeys = getSymmetricKeys(conversation.getLocalNonce(), conversation.getRemoteNonce());
-        Cipher cipher = getCipher(symmetricKeys.getServerKeys(), securityPolicy.getSymmetricEncryptionAlgorithm(), Cipher.DECRYPT_MODE);
-
-        int bodyLength = cipher.doFinal(encrypted, 0, encrypted.length, plainText, 0);
+        // Symmetric ciphers don't change the size, so the body is decrypted in place.
+        byte[] body = chunkBuffer.getBytes(bodyStart, bodyStart + bodySize);
+        Cipher cipher = getCrypto().decryptor;
+        int bodyLength;
+        synchronized (cipher) {
+            bodyLength = cipher.doFinal(body, 0, body.length, body, 0);
+        }
 
         chunkBuffer.setPos(bodyStart);
-        chunkBuffer.writeByteArray("payload", plainText);
+        chunkBuffer.writeByteArray("payload", body);
         return bodyLength;
     }
 
     protected void encrypt(WriteBufferByteBased buffer, int securityHeaderSize, int plainTextBlockSize, int cipherTextBlockSize, int blockCount) throws Exception {
-        SymmetricKeys symmetricKeys = getSymmetricKeys(conversation.getLocalNonce(), conversation.getRemoteNonce());
-
         int bodyStart = 12 + securityHeaderSize;
-        byte[] copy = buffer.getBytes(bodyStart, bodyStart + (plainTextBlockSize * blockCount));
-        byte[] encrypted = new byte[cipherTextBlockSize * blockCount];
+        byte[] body = buffer.getBytes(bodyStart, bodyStart + (plainTextBlockSize * blockCount));
 
-        EncryptionAlgorithm transformation = securityPolicy.getSymmetricEncryptionAlgorithm();
-        Cipher cipher = getCipher(symmetricKeys.getClientKeys(), transformation, Cipher.ENCRYPT_MODE);
-        cipher.doFinal(copy, 0, copy.length, encrypted, 0);
+        Cipher cipher = getCrypto().encryptor;
+        synchronized (cipher) {
+            cipher.doFinal(body, 0, body.length, body, 0);
+        }
 
         buffer.setPos(bodyStart);
-        buffer.writeByteArray("encrypted", encrypted);
+        buffer.writeByteArray("encrypted", body);
     }
 
     protected byte[] sign(byte[] data)throws GeneralSecurityException {
+        Mac signature = getCrypto().clientSignature;
+        synchronized (signature) {
+            signature.update(data);
+            return signature.doFinal();
+        }
+    }
+
+    private synchronized ChannelCrypto getCrypto() throws GeneralSecurityException {
         SymmetricKeys symmetricKeys = getSymmetricKeys(conversation.getLocalNonce(), conversation.getRemoteNonce());
-        MacSignatureAlgorithm algorithm = securityPolicy.getSymmetricSignatureAlgorithm();
-        Mac signature = algorithm.getSignature();
-        signature.init(new SecretKeySpec(symmetricKeys.getClientKeys().getSignatureKey(), algorithm.getName()));
-        signature.update(data);
-        return signature.doFinal();
+        if ((crypto == null) || (crypto.keys != symmetricKeys)) {
+            crypto = new ChannelCrypto(symmetricKeys, securityPolicy);
+        }
+        return crypto;
     }
 
     private SymmetricKeys getSymmetricKeys(byte[] senderNonce, byte[] receiverNonce) {
@@ -132,4 +137,35 @@ public class SymmetricEncryptionHandler extends BaseEncryptionHandler {
         return cipher;
     }
 
+    private static Mac getSignature(SymmetricKeys.Keys symmetricKeys, MacSignatureAlgorithm algorithm) throws NoSuchAlgorithmException, InvalidKeyException {
+        Mac signature = algorithm.getSignature();
+        signature.init(new SecretKeySpec(symmetricKeys.getSignatureKey(), algorithm.getName()));
+        return signature;
+    }
+
+    /**
+     * Ciphers and MACs initialized with one set of keys. Each chunk is encrypted with the same key and IV, and
+     * {@link Cipher#doFinal} as well as {@link Mac#doFinal} reset the instance to its initialized state, so they can
+     * be reused for every chunk. The instances aren't thread safe, so they have to be used while holding their lock.
+     */
+    private static final class ChannelCrypto {
+
+        private final SymmetricKeys keys;
+        private final Cipher decryptor;
+        private final Cipher encryptor;
+        private final Mac serverSignature;
+        private final Mac clientSignature;
+
+        private ChannelCrypto(SymmetricKeys keys, SecurityPolicy securityPolicy) throws GeneralSecurityException {
+            this.keys = keys;
+            EncryptionAlgorithm transformation = securityPolicy.getSymmetricEncryptionAlgorithm();
+            MacSignatureAlgorithm algorithm = securityPolicy.getSymmetricSignatureAlgorithm();
+            this.decryptor = getCipher(keys.getServerKeys(), transformation, Cipher.DECRYPT_MODE);
+            this.encryptor = getCipher(keys.getClientKeys(), transformation, Cipher.ENCRYPT_MODE);
+            this.serverSignature = getSignature(keys.getServerKeys(), algorithm);
+            this.clientSignature = getSignature(keys.getClientKeys(), algorithm);
+        }
+
+    }
+
 }
@@ -19,34 +19,85 @@
 package org.apache.plc4x.java.opcua.optimizer;
 
 import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcWriteRequest;
 import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.types.PlcValueType;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.opcua.context.OpcuaDriverContext;
+import org.apache.plc4x.java.opcua.readwrite.OpcuaProtocolLimits;
 import org.apache.plc4x.java.opcua.tag.OpcuaTag;
 import org.apache.plc4x.java.spi.context.DriverContext;
 import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcWriteRequest;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagValueItem;
 import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagValueItem;
 import org.apache.plc4x.java.spi.optimizer.BaseOptimizer;
 
+import java.nio.charset.StandardCharsets;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 
-public class OpcuaOptimizer extends BaseOptimizer{
+/**
+ * Splits reads and writes, so every request stays within the MaxNodesPerRead/MaxNodesPerWrite operation limits
+ * of the server and, where possible, request and response each fit into one chunk of the negotiated buffer sizes.
+ * <p>
+ * The sizes of values are only estimates, as the tags usually don't tell how long strings or arrays are.
+ */
+public class OpcuaOptimizer extends BaseOptimizer {
+
+    // Transport and security headers, signature and padding of a chunk as well as the request/response header,
+    // type id and array lengths of the service message (Rounded up generously).
+    static final int MESSAGE_OVERHEAD = 256;
+    // Assumed size of values of unknown or variable length types.
+    static final int DEFAULT_VALUE_SIZE = 32;
+
+    // Attribute id, index range and data encoding of a ReadValueId.
+    private static final int READ_VALUE_ID_SIZE = 4 + 4 + 2 + 4;
+    // Attribute id and index range of a WriteValue.
+    private static final int WRITE_VALUE_SIZE = 4 + 4;
+    // DataValue encoding mask, status code and variant type.
+    private static final int DATA_VALUE_SIZE = 1 + 4 + 1;
+    private static final int STATUS_CODE_SIZE = 4;
 
     @Override
     protected List<PlcReadRequest> processReadRequest(PlcReadRequest readRequest, DriverContext driverContext) {
+        OpcuaDriverContext opcuaDriverContext = (OpcuaDriverContext) driverContext;
+        long maxNodes = opcuaDriverContext.getMaxNodesPerRead();
+        long maxRequestSize = getMaxRequestSize(opcuaDriverContext);
+        long maxResponseSize = getMaxResponseSize(opcuaDriverContext);
+
         List<PlcReadRequest> processedRequests = new LinkedList<>();
 
         // List of all items in the current request.
         LinkedHashMap<String, PlcTagItem<PlcTag>> curTags = new LinkedHashMap<>();
+        long curRequestSize = 0;
+        long curResponseSize = 0;
 
         for (String tagName : readRequest.getTagNames()) {
             OpcuaTag tag = (OpcuaTag) readRequest.getTag(tagName);
+            int requestItemSize = getNodeIdSize(tag) + READ_VALUE_ID_SIZE;
+            int responseItemSize = DATA_VALUE_SIZE + getValueSize(tag.getPlcValueType());
+
+            // If adding the item would exceed one of the limits, start a new request.
+            if (!curTags.isEmpty() && (((maxNodes > 0) && (curTags.size() >= maxNodes))
+                || (curRequestSize + requestItemSize > maxRequestSize)
+                || (curResponseSize + responseItemSize > maxResponseSize))) {
+                processedRequests.add(new DefaultPlcReadRequest(
+                    ((DefaultPlcReadRequest) readRequest).getReader(), curTags));
+                curTags = new LinkedHashMap<>();
+                curRequestSize = 0;
+                curResponseSize = 0;
+            }
             curTags.put(tagName, new DefaultPlcTagItem<>(tag));
+            curRequestSize += requestItemSize;
+            curResponseSize += responseItemSize;
         }
 
         // Create a new PlcReadRequest from the remaining tag items.
-        if(!curTags.isEmpty()) {
+        if (!curTags.isEmpty()) {
             processedRequests.add(new DefaultPlcReadRequest(
                 ((DefaultPlcReadRequest) readRequest).getReader(), curTags));
         }
@@ -54,4 +105,145 @@ public class OpcuaOptimizer extends BaseOptimizer{
         return processedRequests;
     }
 
+    @Override
+    protected List<PlcWriteRequest> processWriteRequest(PlcWriteRequest writeRequest, DriverContext driverContext) {
+        OpcuaDriverContext opcuaDriverContext = (OpcuaDriverContext) driverContext;
+        long maxNodes = opcuaDriverContext.getMaxNodesPerWrite();
+        long maxRequestSize = getMaxRequestSize(opcuaDriverContext);
+        long maxResponseSize = getMaxResponseSize(opcuaDriverContext);
+
+        List<PlcWriteRequest> processedRequests = new LinkedList<>();
+
+        // List of all items in the current request.
+        LinkedHashMap<String, PlcTagValueItem<PlcTag>> curTags = new LinkedHashMap<>();
+        long curRequestSize = 0;
+        long curResponseSize = 0;
+
+        for (String tagName : writeRequest.getTagNames()) {
+            OpcuaTag tag = (OpcuaTag) writeRequest.getTag(tagName);
+            PlcValue value = writeRequest.getPlcValue(tagName);
+            int requestItemSize = getNodeIdSize(tag) + WRITE_VALUE_SIZE + DATA_VALUE_SIZE + getValueSize(value);
+            // The response for one item is just its status code.
+            int responseItemSize = STATUS_CODE_SIZE;
+
+            // If adding the item would exceed one of the limits, start a new request.
+            if (!curTags.isEmpty() && (((maxNodes > 0) && (curTags.size() >= maxNodes))
+                || (curRequestSize + requestItemSize > maxRequestSize)
+                || (curResponseSize + responseItemSize > maxResponseSize))) {
+                processedRequests.add(new DefaultPlcWriteRequest(
+                    ((DefaultPlcWriteRequest) writeRequest).getWriter(), curTags));
+                curTags = new LinkedHashMap<>();
+                curRequestSize = 0;
+                curResponseSize = 0;
+            }
+            curTags.put(tagName, new DefaultPlcTagValueItem<>(tag, value));
+            curRequestSize += requestItemSize;
+            curResponseSize += responseItemSize;
+        }
+
+        // Create a new PlcWriteRequest from the remaining tag items.
+        if (!curTags.isEmpty()) {
+            processedRequests.add(new DefaultPlcWriteRequest(
+                ((DefaultPlcWriteRequest) writeRequest).getWriter(), curTags));
+        }
+
+        return processedRequests;
+    }
+
+    /**
+     * @return payload available in one chunk sent to the server.
+     */
+    static long getMaxRequestSize(OpcuaDriverContext driverContext) {
+        OpcuaProtocolLimits limits = driverContext.getProtocolLimits();
+        if (limits == null) {
+            return Long.MAX_VALUE;
+        }
+        return getMaxPayloadSize(limits.getSendBufferSize(), limits.getMaxMessageSize());
+    }
+
+    /**
+     * @return payload available in one chunk received from the server.
+     */
+    static long getMaxResponseSize(OpcuaDriverContext driverContext) {
+        OpcuaProtocolLimits limits = driverContext.getProtocolLimits();
+        if (limits == null) {
+            return Long.MAX_VALUE;
+        }
+        return getMaxPayloadSize(limits.getReceiveBufferSize(), limits.getMaxMessageSize());
+    }
+
+    private static long getMaxPayloadSize(long bufferSize, long maxMessageSize) {
+        // A max message size of 0 means "no limit".
+        long size = (maxMessageSize > 0) ? Math.min(bufferSize, maxMessageSize) : bufferSize;
+        return Math.max(size - MESSAGE_OVERHEAD, 1);
+    }
+
+    /**
+     * @return size of the encoded node id, as created by the protocol logic.
+     */
+    static int getNodeIdSize(OpcuaTag tag) {
+        switch (tag.getIdentifierType()) {
+            case BINARY_IDENTIFIER:
+                // Two byte node id.
+                return 2;
+            case NUMBER_IDENTIFIER:
+                // Encoding, namespace and numeric identifier.
+                return 1 + 2 + 4;
+            case GUID_IDENTIFIER:
+                return 1 + 2 + 16;
+            case STRING_IDENTIFIER:
+            default:
+                return 1 + 2 + 4 + tag.getIdentifier().getBytes(StandardCharsets.UTF_8).length;
+        }
+    }
+
+    static int getValueSize(PlcValue value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value.isList()) {
+            // Array length followed by the elements.
+            int size = 4;
+            for (PlcValue element : value.getList()) {
+                size += getValueSize(element);
+            }
+            return size;
+        }
+        PlcValueType plcValueType = value.getPlcValueType();
+        if ((plcValueType == PlcValueType.STRING) || (plcValueType == PlcValueType.WSTRING)) {
+            return 4 + value.getString().getBytes(StandardCharsets.UTF_8).length;
+        }
+        return getValueSize(plcValueType);
+    }
+
+    static int getValueSize(PlcValueType plcValueType) {
+        if (plcValueType == null) {
+            return DEFAULT_VALUE_SIZE;
+        }
+        switch (plcValueType) {
+            case BOOL:
+            case BYTE:
+            case SINT:
+            case USINT:
+                return 1;
+            case WORD:
+            case INT:
+            case UINT:
+                return 2;
+            case DWORD:
+            case DINT:
+            case UDINT:
+            case REAL:
+                return 4;
+            case LWORD:
+            case LINT:
+            case ULINT:
+            case LREAL:
+            case DATE_AND_TIME:
+                return 8;
+            default:
+                return DEFAULT_VALUE_SIZE;
+        }
+    }
+
 }
@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.opcua.protocol;
+
+import org.apache.plc4x.java.opcua.readwrite.NodeId;
+import org.apache.plc4x.java.opcua.readwrite.OpcuaIdentifierType;
+import org.apache.plc4x.java.opcua.tag.OpcuaTag;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Cache of the node ids registered with the RegisterNodes service of the server.
+ * <p>
+ * Only string and GUID nodes are registered, as resolving them is what costs the server time, and only after they
+ * have been used a configurable number of times, so one-off reads don't fill up the cache. The registered node ids
+ * are kept in LRU order, the ones evicted when exceeding the capacity have to be unregistered by the caller.
+ * Registered node ids are only valid within one session, so they have to be invalidated when the session changes.
+ */
+public class OpcuaNodeIdCache {
+
+    private final int threshold;
+    private final int capacity;
+
+    // Registered node ids in access order.
+    private final LinkedHashMap<OpcuaTag, NodeId> registeredNodeIds;
+    // Number of uses of not yet registered tags (Bounded the same way, so tags used only once don't pile up).
+    private final LinkedHashMap<OpcuaTag, Integer> useCounts;
+    // Tags, the registration of which is in progress.
+    private final Set<OpcuaTag> pending = new HashSet<>();
+    // Set, if the server doesn't support registering nodes.
+    private volatile boolean disabled;
+
+    /**
+     * @param threshold number of uses after which a tag is registered (0 disables registering).
+     * @param capacity  maximum number of registered node ids.
+     */
+    public OpcuaNodeIdCache(int threshold, int capacity) {
+        this.threshold = threshold;
+        this.capacity = capacity;
+        this.registeredNodeIds = new LinkedHashMap<>(16, 0.75f, true);
+        this.useCounts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<OpcuaTag, Integer> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    public boolean isEnabled() {
+        return !disabled && (threshold > 0) && (capacity > 0);
+    }
+
+    /**
+     * Stops registering any further tags.
+     */
+    public void disable() {
+        disabled = true;
+    }
+
+    public static boolean isRegistrable(OpcuaTag tag) {
+        return (tag.getIdentifierType() == OpcuaIdentifierType.STRING_IDENTIFIER)
+            || (tag.getIdentifierType() == OpcuaIdentifierType.GUID_IDENTIFIER);
+    }
+
+    /**
+     * @return the registered node id of the tag or null, if it isn't registered.
+     */
+    public synchronized NodeId get(OpcuaTag tag) {
+        return registeredNodeIds.get(tag);
+    }
+
+    /**
+     * Counts a use of a not registered tag.
+     *
+     * @return true, if the tag has just reached the threshold and should be registered now.
+     */
+    public synchronized boolean recordUse(OpcuaTag tag) {
+        if (!isEnabled() || !isRegistrable(tag) || pending.contains(tag) || registeredNodeIds.containsKey(tag)) {
+            return false;
+        }
+        int uses = useCounts.merge(tag, 1, Integer::sum);
+        if (uses < threshold) {
+            return false;
+        }
+        useCounts.remove(tag);
+        pending.add(tag);
+        return true;
+    }
+
+    /**
+     * Marks the given tags as being registered, regardless of how often they were used.
+     *
+     * @return the tags that actually need registering (The others are already registered or being registered).
+     */
+    public synchronized List<OpcuaTag> startRegistration(Collection<OpcuaTag> tags) {
+        List<OpcuaTag> toRegister = new ArrayList<>(tags.size());
+        if (!isEnabled()) {
+            return toRegister;
+        }
+        for (OpcuaTag tag : tags) {
+            if (isRegistrable(tag) && !pending.contains(tag) && !registeredNodeIds.containsKey(tag)) {
+                useCounts.remove(tag);
+                pending.add(tag);
+                toRegister.add(tag);
+            }
+        }
+        return toRegister;
+    }
+
+    /**
+     * Stores the registered node ids of the given tags.
+     *
+     * @return node ids evicted from the cache, which should be unregistered.
+     */
+    public synchronized List<NodeId> registered(List<OpcuaTag> tags, List<NodeId> nodeIds) {
+        for (int i = 0; i < tags.size(); i++) {
+            OpcuaTag tag = tags.get(i);
+            // Skip registrations of a previous session.
+            if (pending.remove(tag) && (i < nodeIds.size())) {
+                registeredNodeIds.put(tag, nodeIds.get(i));
+            }
+        }
+        List<NodeId> evicted = new ArrayList<>();
+        Iterator<NodeId> iterator = registeredNodeIds.values().iterator();
+        while ((registeredNodeIds.size() > capacity) && iterator.hasNext()) {
+            evicted.add(iterator.next());
+            iterator.remove();
+        }
+        return evicted;
+    }
+
+    /**
+     * Forgets about a failed registration, so the tags are tried again after reaching the threshold again.
+     */
+    public synchronized void registrationFailed(Collection<OpcuaTag> tags) {
+        pending.removeAll(tags);
+    }
+
+    /**
+     * Drops all registered node ids, as they are no longer valid.
+     *
+     * @return the tags that were registered, so they can be registered again with the new session.
+     */
+    public synchronized List<OpcuaTag> invalidate() {
+        List<OpcuaTag> tags = new ArrayList<>(registeredNodeIds.keySet());
+        registeredNodeIds.clear();
+        pending.clear();
+        return tags;
+    }
+
+    public synchronized int size() {
+        return registeredNodeIds.size();
+    }
+
+}
@@ -35,6 +35,7 @@ import org.apache.plc4x.java.api.value.PlcValue;
 import org.apache.plc4x.java.opcua.config.OpcuaConfiguration;
 import org.apache.plc4x.java.opcua.context.Conversation;
 import org.apache.plc4x.java.opcua.context.OpcuaDriverContext;
+import org.apache.plc4x.java.opcua.context.OpcuaServiceFaultException;
 import org.apache.plc4x.java.opcua.context.SecureChannel;
 import org.apache.plc4x.java.opcua.readwrite.*;
 import org.apache.plc4x.java.opcua.tag.OpcuaPlcTagHandler;
@@ -63,6 +64,7 @@ import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements HasConfiguration<OpcuaConfiguration>, PlcSubscriber {
@@ -82,6 +84,11 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
         new NullExtension());               // Body
 
     private static final long EPOCH_OFFSET = 116444736000000000L;         //Offset between OPC UA epoch time and linux epoch time.
+    // Server_ServerCapabilities_OperationLimits_MaxNodesPerRead and MaxNodesPerWrite
+    private static final long MAX_NODES_PER_READ_NODE = 11705L;
+    private static final long MAX_NODES_PER_WRITE_NODE = 11707L;
+    // Server_ServerCapabilities_OperationLimits_MaxNodesPerRegisterNodes
+    private static final long MAX_NODES_PER_REGISTER_NODES_NODE = 11711L;
     private final Map<Long, OpcuaSubscriptionHandle> subscriptions = new ConcurrentHashMap<>();
     private final RequestTransactionManager tm = new RequestTransactionManager();
 
@@ -89,10 +96,16 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
     private OpcuaDriverContext driverContext;
     private SecureChannel channel;
     private Conversation conversation;
+    private OpcuaNodeIdCache nodeIdCache = new OpcuaNodeIdCache(0, 0);
+    private OpcuaPublishPipeline publishPipeline;
+    // Longest keep-alive interval of the subscriptions, the server may hold back publish requests that long.
+    private volatile long keepAliveInterval;
 
     @Override
     public void setConfiguration(OpcuaConfiguration configuration) {
         this.configuration = configuration;
+        this.nodeIdCache = new OpcuaNodeIdCache(configuration.getNodeRegistrationThreshold(), configuration.getRegisteredNodesCacheSize());
+        tm.setExecutorMode(configuration.getTransactionExecutorMode(), configuration.getTransactionExecutorPoolSize());
     }
 
     @Override
@@ -110,6 +123,7 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
         if (channel == null) {
             return;
         }
+        publishPipeline.stop();
         for (Map.Entry<Long, OpcuaSubscriptionHandle> subscriber : subscriptions.entrySet()) {
             subscriber.getValue().stopSubscriber();
         }
@@ -154,10 +168,70 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
                 return;
             }
             LOGGER.info("Established connection to server", error);
-            context.fireConnected();
+            // Registered node ids are only valid within the session they were registered in.
+            List<OpcuaTag> previouslyRegisteredTags = nodeIdCache.invalidate();
+            driverContext.setProtocolLimits(conversation.getLimits());
+            readOperationLimits().whenComplete((limitsResponse, limitsError) -> {
+                context.fireConnected();
+                registerNodes(previouslyRegisteredTags);
+            });
         });
     }
 
+    /**
+     * Reads the MaxNodesPerRead, MaxNodesPerWrite and MaxNodesPerRegisterNodes operation limits of the server, so
+     * requests can be split accordingly. Servers not providing them are treated as having no limits.
+     */
+    private CompletableFuture<Void> readOperationLimits() {
+        List<ExtensionObjectDefinition> readValueArray = new ArrayList<>(3);
+        for (long identifier : new long[]{MAX_NODES_PER_READ_NODE, MAX_NODES_PER_WRITE_NODE, MAX_NODES_PER_REGISTER_NODES_NODE}) {
+            readValueArray.add(new ReadValueId(new NodeId(new NodeIdNumeric((short) 0, identifier)),
+                0xD,
+                NULL_STRING,
+                new QualifiedName(0, NULL_STRING)));
+        }
+        ReadRequest opcuaReadRequest = new ReadRequest(
+            conversation.createRequestHeader(),
+            0.0d,
+            TimestampsToReturn.timestampsToReturnNeither,
+            readValueArray.size(),
+            readValueArray);
+
+        CompletableFuture<ReadResponse> future = new CompletableFuture<>();
+        RequestTransaction transaction = tm.startRequest();
+        transaction.submit(() -> {
+            conversation.submit(opcuaReadRequest, ReadResponse.class).whenComplete((response, error) -> bridge(transaction, future, response, error));
+        });
+        return future.handle((response, error) -> {
+            if (error != null) {
+                LOGGER.warn("Unable to read the operation limits of the server, assuming there are none", error);
+                return null;
+            }
+            List<DataValue> results = response.getResults();
+            driverContext.setMaxNodesPerRead(getOperationLimit(results, 0));
+            driverContext.setMaxNodesPerWrite(getOperationLimit(results, 1));
+            driverContext.setMaxNodesPerRegisterNodes(getOperationLimit(results, 2));
+            LOGGER.debug("Server operation limits: MaxNodesPerRead {}, MaxNodesPerWrite {}, MaxNodesPerRegisterNodes {}",
+                driverContext.getMaxNodesPerRead(), driverContext.getMaxNodesPerWrite(), driverContext.getMaxNodesPerRegisterNodes());
+            return null;
+        });
+    }
+
+    private static long getOperationLimit(List<DataValue> results, int index) {
+        if ((results == null) || (results.size() <= index)) {
+            return 0;
+        }
+        DataValue result = results.get(index);
+        if ((result.getStatusCode() != null) && (result.getStatusCode().getStatusCode() != OpcuaStatusCode.Good.getValue())) {
+            return 0;
+        }
+        if (!(result.getValue() instanceof VariantUInt32)) {
+            return 0;
+        }
+        List<Long> value = ((VariantUInt32) result.getValue()).getValue();
+        return ((value == null) || value.isEmpty()) ? 0 : value.get(0);
+    }
+
     @Override
     public void onDiscover(ConversationContext<OpcuaAPU> context) {
         if (!configuration.isDiscovery()) {
@@ -198,6 +272,9 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
 
     private SecureChannel createSecureChannel(ConversationContext<OpcuaAPU> context, PlcAuthentication authentication) {
         this.conversation = new Conversation(context, driverContext, configuration);
+        this.publishPipeline = new OpcuaPublishPipeline(configuration.getOutstandingPublishRequests(),
+            this::sendPublishRequest, this::onPublishResponse,
+            (action, delayMs) -> SecureChannel.KEEP_ALIVE_EXECUTOR.schedule(action, delayMs, TimeUnit.MILLISECONDS));
         return new SecureChannel(conversation, tm, driverContext, configuration, authentication);
     }
 
@@ -211,13 +288,14 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
         List<ExtensionObjectDefinition> readValueArray = new ArrayList<>(request.getTagNames().size());
         Iterator<String> iterator = request.getTagNames().iterator();
         Map<String, PlcTag> tagMap = new HashMap<>();
+        List<OpcuaTag> tagsToRegister = new ArrayList<>();
         for (int i = 0; i < request.getTagNames().size(); i++) {
             String tagName = iterator.next();
             // TODO: We need to check that the tag-return-code is OK as it could also be INVALID_TAG
             OpcuaTag tag = (OpcuaTag) request.getTag(tagName);
             tagMap.put(tagName, tag);
 
-            NodeId nodeId = generateNodeId(tag);
+            NodeId nodeId = getNodeId(tag, tagsToRegister);
 
             readValueArray.add(new ReadValueId(nodeId,
                 0xD,
@@ -237,9 +315,97 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
         transaction.submit(() -> {
             conversation.submit(opcuaReadRequest, ReadResponse.class).whenComplete((response, error) -> bridge(transaction, future, response, error));
         });
+        registerNodes(tagsToRegister);
         return future.thenApply(response -> new DefaultPlcReadResponse(request, readResponse(request.getTagNames(), tagMap, response.getResults())));
     }
 
+    /**
+     * @return the registered node id of the tag, if there is one, otherwise the one generated from its address.
+     * Tags becoming eligible for registering are added to the given list.
+     */
+    private NodeId getNodeId(OpcuaTag tag, List<OpcuaTag> tagsToRegister) {
+        NodeId registeredNodeId = nodeIdCache.get(tag);
+        if (registeredNodeId != null) {
+            return registeredNodeId;
+        }
+        if (nodeIdCache.recordUse(tag)) {
+            tagsToRegister.add(tag);
+        }
+        return generateNodeId(tag);
+    }
+
+    /**
+     * Registers the nodes of the given tags with the RegisterNodes service, so following reads and writes can use the
+     * (usually numeric) node ids returned by the server, which it can resolve a lot faster. Tags which aren't string or
+     * GUID nodes or which are already registered are skipped.
+     *
+     * @param tags tags to register.
+     * @return future completed as soon as the tags are registered.
+     */
+    public CompletableFuture<Void> registerNodes(Collection<OpcuaTag> tags) {
+        List<OpcuaTag> tagsToRegister = nodeIdCache.startRegistration(tags);
+        if (tagsToRegister.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long maxNodes = driverContext.getMaxNodesPerRegisterNodes();
+        int chunkSize = (maxNodes > 0) ? (int) Math.min(maxNodes, Integer.MAX_VALUE) : tagsToRegister.size();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < tagsToRegister.size(); i += chunkSize) {
+            futures.add(sendRegisterNodes(tagsToRegister.subList(i, Math.min(i + chunkSize, tagsToRegister.size()))));
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    private CompletableFuture<Void> sendRegisterNodes(List<OpcuaTag> tags) {
+        List<NodeId> nodeIds = new ArrayList<>(tags.size());
+        for (OpcuaTag tag : tags) {
+            nodeIds.add(generateNodeId(tag));
+        }
+        RegisterNodesRequest registerNodesRequest = new RegisterNodesRequest(
+            conversation.createRequestHeader(), nodeIds.size(), nodeIds);
+
+        CompletableFuture<RegisterNodesResponse> future = new CompletableFuture<>();
+        RequestTransaction transaction = tm.startRequest();
+        transaction.submit(() -> {
+            conversation.submit(registerNodesRequest, RegisterNodesResponse.class).whenComplete((response, error) -> bridge(transaction, future, response, error));
+        });
+        return future.handle((response, error) -> {
+            if (error != null) {
+                nodeIdCache.registrationFailed(tags);
+                if (OpcuaServiceFaultException.getOpcuaStatusCode(error) == OpcuaStatusCode.BadServiceUnsupported) {
+                    LOGGER.info("Server doesn't support registering nodes, using the node ids from the tag addresses");
+                    nodeIdCache.disable();
+                } else {
+                    LOGGER.debug("Error registering {} nodes", tags.size(), error);
+                }
+                return null;
+            }
+            LOGGER.debug("Registered {} nodes", response.getRegisteredNodeIds().size());
+            unregisterNodes(nodeIdCache.registered(tags, response.getRegisteredNodeIds()));
+            return null;
+        });
+    }
+
+    private void unregisterNodes(List<NodeId> nodeIds) {
+        if (nodeIds.isEmpty()) {
+            return;
+        }
+        UnregisterNodesRequest unregisterNodesRequest = new UnregisterNodesRequest(
+            conversation.createRequestHeader(), nodeIds.size(), nodeIds);
+
+        RequestTransaction transaction = tm.startRequest();
+        transaction.submit(() -> {
+            conversation.submit(unregisterNodesRequest, UnregisterNodesResponse.class).whenComplete((response, error) -> {
+                if (error != null) {
+                    LOGGER.debug("Error unregistering {} nodes", nodeIds.size(), error);
+                    transaction.failRequest(error);
+                } else {
+                    transaction.endRequest();
+                }
+            });
+        });
+    }
+
     static NodeId generateNodeId(OpcuaTag tag) {
         NodeId nodeId = null;
         if (tag.getIdentifierType() == OpcuaIdentifierType.BINARY_IDENTIFIER) {
@@ -727,10 +893,11 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
 
         RequestHeader requestHeader = conversation.createRequestHeader();
         List<ExtensionObjectDefinition> writeValueList = new ArrayList<>(request.getTagNames().size());
+        List<OpcuaTag> tagsToRegister = new ArrayList<>();
         for (String tagName : request.getTagNames()) {
             OpcuaTag tag = (OpcuaTag) request.getTag(tagName);
 
-            NodeId nodeId = generateNodeId(tag);
+            NodeId nodeId = getNodeId(tag, tagsToRegister);
 
             writeValueList.add(new WriteValue(nodeId,
                 0xD,
@@ -757,6 +924,7 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
         transaction.submit(() -> {
             conversation.submit(opcuaWriteRequest, WriteResponse.class).whenComplete((response, error) -> bridge(transaction, future, response, error));
         });
+        registerNodes(tagsToRegister);
         return future.thenApply(response -> writeResponse(request, response));
     }
 
@@ -785,6 +953,8 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
             // bridge(transaction, future, response, error)
             onSubscribeCreateSubscription(cycleTime).thenApply(response -> {
                 long subscriptionId = response.getSubscriptionId();
+                keepAliveInterval = Math.max(keepAliveInterval,
+                    (long) (response.getRevisedPublishingInterval() * response.getRevisedMaxKeepAliveCount()));
                 OpcuaSubscriptionHandle handle = new OpcuaSubscriptionHandle(this, tm,
                     conversation, subscriptionRequest, subscriptionId, cycleTime);
                 subscriptions.put(handle.getSubscriptionId(), handle);
@@ -809,8 +979,43 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
         return future;
     }
 
+    /**
+     * Makes sure, publish requests are outstanding at the server, as there are subscriptions now.
+     */
     protected void requestSubscriptionPublish() {
+        publishPipeline.start();
+    }
+
+    private CompletableFuture<PublishResponse> sendPublishRequest(List<ExtensionObjectDefinition> acknowledgements) {
+        // With several requests outstanding, the server may only answer the last one after several keep-alive intervals.
+        long timeout = Math.max(configuration.getRequestTimeout(),
+            (publishPipeline.getMaxOutstandingRequests() + 1) * keepAliveInterval);
+        PublishRequest publishRequest = new PublishRequest(conversation.createRequestHeader(timeout),
+            acknowledgements.size(), acknowledgements);
 
+        CompletableFuture<PublishResponse> future = new CompletableFuture<>();
+        RequestTransaction transaction = tm.startRequest();
+        transaction.submit(() -> {
+            // Only sending is coordinated with the other requests, waiting for the response must not block them.
+            conversation.submit(publishRequest, PublishResponse.class, timeout).whenComplete((response, error) -> {
+                if (error != null) {
+                    future.completeExceptionally(error);
+                } else {
+                    future.complete(response);
+                }
+            });
+            transaction.endRequest();
+        });
+        return future;
+    }
+
+    private void onPublishResponse(PublishResponse response) {
+        OpcuaSubscriptionHandle handle = subscriptions.get(response.getSubscriptionId());
+        if (handle == null) {
+            LOGGER.debug("Received notifications for unknown subscription {}", response.getSubscriptionId());
+            return;
+        }
+        handle.onNotificationMessage((NotificationMessage) response.getNotificationMessage());
     }
 
     private CompletableFuture<CreateSubscriptionResponse> onSubscribeCreateSubscription(long cycleTime) {
@@ -841,6 +1046,9 @@ public class OpcuaProtocolLogic extends Plc4xProtocolBase<OpcuaAPU> implements H
 
     public void removeSubscription(Long subscriptionId) {
         subscriptions.remove(subscriptionId);
+        if (subscriptions.isEmpty()) {
+            publishPipeline.stop();
+        }
     }
 
     @Override
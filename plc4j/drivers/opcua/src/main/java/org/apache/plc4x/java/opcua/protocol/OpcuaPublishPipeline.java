@@ -0,0 +1,244 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.opcua.protocol;
+
+import org.apache.plc4x.java.api.exceptions.PlcConnectionException;
+import org.apache.plc4x.java.opcua.context.OpcuaServiceFaultException;
+import org.apache.plc4x.java.opcua.readwrite.ExtensionObjectDefinition;
+import org.apache.plc4x.java.opcua.readwrite.NotificationMessage;
+import org.apache.plc4x.java.opcua.readwrite.OpcuaStatusCode;
+import org.apache.plc4x.java.opcua.readwrite.PublishResponse;
+import org.apache.plc4x.java.opcua.readwrite.SubscriptionAcknowledgement;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Publish requests of one session.
+ * <p>
+ * Publish requests aren't bound to a subscription, the server answers them with the notifications of whichever
+ * subscription of the session has something to report. So instead of one timer driven request per subscription,
+ * the session keeps a number of publish requests outstanding at the server, as recommended by the specification,
+ * and sends a new one as soon as one gets answered. Notifications can so be delivered as soon as they are
+ * available, without waiting for the previous publish response to be processed. The acknowledgements of received
+ * notifications are collected and sent with the next publish request.
+ * <p>
+ * Failed publish requests are replaced too, after a back-off growing with every failure in a row, unless the
+ * session or connection is gone.
+ */
+public class OpcuaPublishPipeline {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OpcuaPublishPipeline.class);
+
+    static final long MIN_RETRY_DELAY_MS = 100;
+    static final long MAX_RETRY_DELAY_MS = 10_000;
+
+    // Errors after which publishing can't go on with this session.
+    private static final Set<OpcuaStatusCode> FATAL_STATUS_CODES = EnumSet.of(
+        OpcuaStatusCode.BadSessionIdInvalid, OpcuaStatusCode.BadSessionClosed,
+        OpcuaStatusCode.BadSecureChannelIdInvalid, OpcuaStatusCode.BadSecureChannelClosed,
+        OpcuaStatusCode.BadConnectionClosed, OpcuaStatusCode.BadNotConnected, OpcuaStatusCode.BadServerNotConnected,
+        OpcuaStatusCode.BadShutdown, OpcuaStatusCode.BadServerHalted);
+
+    private final Function<List<ExtensionObjectDefinition>, CompletableFuture<PublishResponse>> publisher;
+    private final Consumer<PublishResponse> dispatcher;
+    private final RetryScheduler retryScheduler;
+
+    // Number of outstanding requests the server accepts (Reduced, if it reports having too many).
+    private final AtomicInteger maxOutstandingRequests;
+    private final AtomicInteger outstandingRequests = new AtomicInteger();
+    private final Queue<SubscriptionAcknowledgement> acknowledgements = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean retryScheduled = new AtomicBoolean();
+    // Failed publish requests in a row.
+    private final AtomicInteger failures = new AtomicInteger();
+    private volatile boolean running;
+
+    /**
+     * @param maxOutstandingRequests number of publish requests kept outstanding at the server.
+     * @param publisher              sends a publish request with the given acknowledgements.
+     * @param dispatcher             forwards the notifications of a publish response to its subscription.
+     * @param retryScheduler         runs the replacement of failed publish requests after a delay.
+     */
+    public OpcuaPublishPipeline(int maxOutstandingRequests,
+                                Function<List<ExtensionObjectDefinition>, CompletableFuture<PublishResponse>> publisher,
+                                Consumer<PublishResponse> dispatcher, RetryScheduler retryScheduler) {
+        this.maxOutstandingRequests = new AtomicInteger(Math.max(maxOutstandingRequests, 1));
+        this.publisher = publisher;
+        this.dispatcher = dispatcher;
+        this.retryScheduler = retryScheduler;
+    }
+
+    /**
+     * Starts publishing, if it isn't already running, and tops up the outstanding publish requests.
+     */
+    public void start() {
+        running = true;
+        fill();
+    }
+
+    /**
+     * Stops sending publish requests (The outstanding ones are still processed, when answered).
+     */
+    public void stop() {
+        running = false;
+    }
+
+    public boolean isRunning() {
+        return running;
+    }
+
+    public int getOutstandingRequests() {
+        return outstandingRequests.get();
+    }
+
+    public int getMaxOutstandingRequests() {
+        return maxOutstandingRequests.get();
+    }
+
+    private void scheduleRetry(Throwable error) {
+        if (!running) {
+            return;
+        }
+        long delay = getRetryDelay(failures.incrementAndGet());
+        LOGGER.debug("Publish request resulted in error, retrying in {} ms", delay, error);
+        // The retry tops up all requests failed in the meantime.
+        if (retryScheduled.compareAndSet(false, true)) {
+            retryScheduler.schedule(() -> {
+                retryScheduled.set(false);
+                fill();
+            }, delay);
+        }
+    }
+
+    static long getRetryDelay(int failures) {
+        // Double the delay with every failure in a row (Shift limited to stay far from overflowing).
+        long delay = MIN_RETRY_DELAY_MS << Math.min(Math.max(failures - 1, 0), 16);
+        return Math.min(delay, MAX_RETRY_DELAY_MS);
+    }
+
+    private static boolean isFatal(Throwable cause, OpcuaStatusCode statusCode) {
+        return ((statusCode != null) && FATAL_STATUS_CODES.contains(statusCode))
+            || (cause instanceof PlcConnectionException) || (cause instanceof ClosedChannelException);
+    }
+
+    private void fill() {
+        while (running) {
+            int outstanding = outstandingRequests.get();
+            if (outstanding >= maxOutstandingRequests.get()) {
+                return;
+            }
+            if (outstandingRequests.compareAndSet(outstanding, outstanding + 1)) {
+                sendPublishRequest();
+            }
+        }
+    }
+
+    private void sendPublishRequest() {
+        // Batch up all acknowledgements collected so far.
+        List<ExtensionObjectDefinition> acks = new ArrayList<>();
+        SubscriptionAcknowledgement ack;
+        while ((ack = acknowledgements.poll()) != null) {
+            acks.add(ack);
+        }
+        LOGGER.trace("Sending publish request with {} acks", acks.size());
+        CompletableFuture<PublishResponse> future;
+        try {
+            future = publisher.apply(acks);
+        } catch (RuntimeException e) {
+            future = new CompletableFuture<>();
+            future.completeExceptionally(e);
+        }
+        future.whenComplete((response, error) -> onPublishResponse(acks, response, error));
+    }
+
+    private void onPublishResponse(List<ExtensionObjectDefinition> acks, PublishResponse response, Throwable error) {
+        outstandingRequests.decrementAndGet();
+        if (error != null) {
+            // The acknowledgements might not have been processed, sending them again doesn't hurt.
+            for (ExtensionObjectDefinition ack : acks) {
+                acknowledgements.add((SubscriptionAcknowledgement) ack);
+            }
+            Throwable cause = (error instanceof CompletionException) && (error.getCause() != null) ? error.getCause() : error;
+            OpcuaStatusCode statusCode = OpcuaServiceFaultException.getOpcuaStatusCode(cause);
+            if (statusCode == OpcuaStatusCode.BadTooManyPublishRequests) {
+                int previous = maxOutstandingRequests.getAndUpdate(max -> Math.max(max - 1, 1));
+                if (previous > 1) {
+                    LOGGER.debug("Server rejected publish request, reducing outstanding publish requests to {}", previous - 1);
+                    fill();
+                } else {
+                    // Even a single request is too much right now.
+                    scheduleRetry(error);
+                }
+            } else if (statusCode == OpcuaStatusCode.BadNoSubscription) {
+                LOGGER.debug("Server has no subscriptions for this session");
+            } else if ((cause instanceof TimeoutException) || (statusCode == OpcuaStatusCode.BadTimeout)) {
+                // The server just didn't have anything to say in time.
+                LOGGER.debug("Publish request timed out");
+                fill();
+            } else if (isFatal(cause, statusCode)) {
+                // Publishing is resumed with the next subscription (of a new session).
+                if (running) {
+                    LOGGER.warn("Publish request resulted in error, stopping publishing", error);
+                }
+            } else {
+                scheduleRetry(error);
+            }
+            return;
+        }
+        failures.set(0);
+
+        // Acknowledge the notification, unless it's just a keep-alive.
+        NotificationMessage notificationMessage = (NotificationMessage) response.getNotificationMessage();
+        if ((notificationMessage.getNotificationData() != null) && !notificationMessage.getNotificationData().isEmpty()) {
+            acknowledgements.add(new SubscriptionAcknowledgement(response.getSubscriptionId(), notificationMessage.getSequenceNumber()));
+        }
+        // Re-issue the request before processing the notifications, so the server always has requests to answer.
+        fill();
+        try {
+            dispatcher.accept(response);
+        } catch (RuntimeException e) {
+            LOGGER.warn("Error processing notifications of subscription {}", response.getSubscriptionId(), e);
+        }
+    }
+
+    /**
+     * Runs an action after a delay.
+     */
+    @FunctionalInterface
+    public interface RetryScheduler {
+
+        void schedule(Runnable action, long delayMs);
+
+    }
+
+}
@@ -18,12 +18,6 @@
  */
 package org.apache.plc4x.java.opcua.protocol;
 
-import static java.util.concurrent.Executors.newSingleThreadScheduledExecutor;
-
-import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.TimeUnit;
 import org.apache.plc4x.java.api.messages.PlcSubscriptionEvent;
 import org.apache.plc4x.java.api.messages.PlcSubscriptionRequest;
 import org.apache.plc4x.java.api.model.PlcConsumerRegistration;
@@ -54,8 +48,6 @@ public class OpcuaSubscriptionHandle extends DefaultPlcSubscriptionHandle {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(OpcuaSubscriptionHandle.class);
 
-    private final static ScheduledExecutorService EXECUTOR = newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "plc4x-opcua-subscription-scheduler"));
-
     private final Set<Consumer<PlcSubscriptionEvent>> consumers;
     private final List<String> tagNames;
     private final Conversation conversation;
@@ -68,9 +60,6 @@ public class OpcuaSubscriptionHandle extends DefaultPlcSubscriptionHandle {
     private final AtomicLong clientHandles = new AtomicLong(1L);
     private final RequestTransactionManager tm;
 
-    private final List<SubscriptionAcknowledgement> outstandingAcknowledgements = new CopyOnWriteArrayList<>();
-    private ScheduledFuture<?> publishTask;
-
     public OpcuaSubscriptionHandle(OpcuaProtocolLogic plcSubscriber, RequestTransactionManager tm,
         Conversation conversation, PlcSubscriptionRequest subscriptionRequest, Long subscriptionId, long cycleTime) {
         super(plcSubscriber);
@@ -159,72 +148,34 @@ public class OpcuaSubscriptionHandle extends DefaultPlcSubscriptionHandle {
                     }
                 }
 
-                LOGGER.trace("Scheduling publish event for subscription {}", subscriptionId);
-                publishTask = EXECUTOR.scheduleAtFixedRate(this::sendPublishRequest, revisedCycleTime / 2, revisedCycleTime, TimeUnit.MILLISECONDS);
+                LOGGER.trace("Requesting publishing for subscription {}", subscriptionId);
+                plcSubscriber.requestSubscriptionPublish();
                 return this;
             });
     }
 
     /**
-     * Main subscriber loop. For subscription, we still need to send a request the server on every cycle.
-     * Which includes a request for an update of the previously agreed upon list of tags.
-     * The server will respond at most once every cycle.
+     * Forwards the notifications of a publish response for this subscription to the consumers.
+     * Publish requests themselves are sent by the {@link OpcuaPublishPipeline} of the session.
+     *
+     * @param notificationMessage notifications received.
      */
-    private void sendPublishRequest() {
-        List<Long> outstandingRequests = new LinkedList<>();
-
-        //If we are waiting on a response and haven't received one, just wait until we do. A keep alive will be sent out eventually
-        if (outstandingRequests.size() <= 1) {
-            RequestHeader requestHeader = conversation.createRequestHeader(this.revisedCycleTime * 10);
-
-            //Make a copy of the outstanding requests, so it isn't modified while we are putting the ack list together.
-            List<ExtensionObjectDefinition> acks = new ArrayList<>(outstandingAcknowledgements);
-            // do not send -1 when requesting publish, the -1 value indicates NULL value
-            // which might result in corruption of subscription for some servers
-            int ackLength = acks.size();
-            outstandingAcknowledgements.removeAll(acks);
-
-            PublishRequest publishRequest = new PublishRequest(requestHeader, ackLength, acks);
-            // we work in external thread - we need to coordinate access to conversation pipeline
-            RequestTransaction transaction = tm.startRequest();
-            transaction.submit(() -> {
-                LOGGER.trace("Sent publish request with {} acks", ackLength);
-                //  Create Consumer for the response message, error and timeout to be sent to the Secure Channel
-                conversation.submit(publishRequest, PublishResponse.class).thenAccept(responseMessage -> {
-                    outstandingRequests.remove(((ResponseHeader) responseMessage.getResponseHeader()).getRequestHandle());
-
-                    for (long availableSequenceNumber : responseMessage.getAvailableSequenceNumbers()) {
-                        outstandingAcknowledgements.add(new SubscriptionAcknowledgement(this.subscriptionId, availableSequenceNumber));
-                    }
-
-                    for (ExtensionObject notificationMessage : ((NotificationMessage) responseMessage.getNotificationMessage()).getNotificationData()) {
-                        ExtensionObjectDefinition notification = notificationMessage.getBody();
-                        if (notification instanceof DataChangeNotification) {
-                            LOGGER.trace("Found a Data Change notification");
-                            List<ExtensionObjectDefinition> items = ((DataChangeNotification) notification).getMonitoredItems();
-                            onSubscriptionValue(items.stream()
-                                .filter(extensionObjectDefinition -> extensionObjectDefinition instanceof MonitoredItemNotification)
-                                .map(extensionObjectDefinition -> (MonitoredItemNotification) extensionObjectDefinition)
-                                .toArray(MonitoredItemNotification[]::new));
-                        } else {
-                            LOGGER.warn("Unsupported Notification type");
-                        }
-                    }
-                }).whenComplete((result, error) -> {
-                    if (error != null) {
-                        LOGGER.warn("Publish request of subscription {} resulted in error reported by server", subscriptionId, error);
-                        transaction.failRequest(error);
-                    } else {
-                        LOGGER.trace("Completed publish request for subscription {}", subscriptionId);
-                        transaction.endRequest();
-                    }
-                });
-                outstandingRequests.add(requestHeader.getRequestHandle());
-            });
+    public void onNotificationMessage(NotificationMessage notificationMessage) {
+        for (ExtensionObject notificationData : notificationMessage.getNotificationData()) {
+            ExtensionObjectDefinition notification = notificationData.getBody();
+            if (notification instanceof DataChangeNotification) {
+                LOGGER.trace("Found a Data Change notification");
+                List<ExtensionObjectDefinition> items = ((DataChangeNotification) notification).getMonitoredItems();
+                onSubscriptionValue(items.stream()
+                    .filter(extensionObjectDefinition -> extensionObjectDefinition instanceof MonitoredItemNotification)
+                    .map(extensionObjectDefinition -> (MonitoredItemNotification) extensionObjectDefinition)
+                    .toArray(MonitoredItemNotification[]::new));
+            } else {
+                LOGGER.warn("Unsupported Notification type");
+            }
         }
     }
 
-
     /**
      * Stop the subscriber either on disconnect or on error
      */
@@ -241,7 +192,6 @@ public class OpcuaSubscriptionHandle extends DefaultPlcSubscriptionHandle {
         transaction.submit(() -> {
             //  Create Consumer for the response message, error and timeout to be sent to the Secure Channel
             conversation.submit(deleteSubscriptionRequest, DeleteSubscriptionsResponse.class)
-                .thenAccept(responseMessage -> publishTask.cancel(true))
                 .whenComplete((result, error) -> {
                     if (error != null) {
                         LOGGER.error("Deletion of subscription resulted in error", error);
@@ -19,6 +19,8 @@
 
 package org.apache.plc4x.java.opcua.protocol.chunk;
 
+import org.apache.plc4x.java.spi.generation.ReadBuffer;
+
 public interface ChunkStorage {
 
     /**
@@ -42,5 +44,12 @@ public interface ChunkStorage {
      */
     byte[] get();
 
+    /**
+     * Gives access to the segmented payload without assembling it into a single array first.
+     *
+     * @return Little endian buffer reading the stored chunks in order.
+     */
+    ReadBuffer getReadBuffer();
+
     void reset();
 }
\ No newline at end of file
@@ -18,11 +18,18 @@
  */
 package org.apache.plc4x.java.opcua.protocol.chunk;
 
+import io.netty.buffer.Unpooled;
+import org.apache.plc4x.java.spi.generation.ByteOrder;
+import org.apache.plc4x.java.spi.generation.ReadBuffer;
+import org.apache.plc4x.java.spi.generation.ReadBufferByteBased;
+
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
-import java.util.function.Function;
 
+/**
+ * Keeps the (already decrypted and verified) chunk payloads as they arrive. The assembled message is either copied
+ * once into an array of the accumulated size, or read through a composite buffer spanning all chunks.
+ */
 public class MemoryChunkStorage implements ChunkStorage {
 
     private final List<byte[]> chunks = new ArrayList<>();
@@ -31,7 +38,7 @@ public class MemoryChunkStorage implements ChunkStorage {
     @Override
     public void append(byte[] frame) {
         chunks.add(frame);
-        size += chunks.get(chunks.size() - 1).length;
+        size += frame.length;
     }
 
     public long size() {
@@ -40,13 +47,21 @@ public class MemoryChunkStorage implements ChunkStorage {
 
     @Override
     public byte[] get() {
-        Optional<byte[]> collect = chunks.stream().reduce((b1, b2) -> {
-            byte[] combined = new byte[b1.length + b2.length];
-            System.arraycopy(b1, 0, combined, 0, b1.length);
-            System.arraycopy(b2, 0, combined, b1.length, b2.length);
-            return combined;
-        });
-        return collect.orElse(new byte[0]);
+        if (chunks.size() == 1) {
+            return chunks.get(0);
+        }
+        byte[] message = new byte[Math.toIntExact(size)];
+        int offset = 0;
+        for (byte[] chunk : chunks) {
+            System.arraycopy(chunk, 0, message, offset, chunk.length);
+            offset += chunk.length;
+        }
+        return message;
+    }
+
+    @Override
+    public ReadBuffer getReadBuffer() {
+        return new ReadBufferByteBased(Unpooled.wrappedBuffer(chunks.toArray(new byte[0][])), ByteOrder.LITTLE_ENDIAN);
     }
 
     @Override
@@ -55,5 +70,4 @@ public class MemoryChunkStorage implements ChunkStorage {
         size = 0;
     }
 
-
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.opcua.context;
+
+import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
+import org.apache.plc4x.java.opcua.readwrite.OpcuaStatusCode;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpcuaServiceFaultExceptionTest {
+
+    @Test
+    void findsTheStatusCodeOfWrappedFaults() {
+        OpcuaServiceFaultException fault = new OpcuaServiceFaultException(OpcuaStatusCode.BadServiceUnsupported.getValue());
+
+        assertEquals(OpcuaStatusCode.BadServiceUnsupported, OpcuaServiceFaultException.getOpcuaStatusCode(fault));
+        assertEquals(OpcuaStatusCode.BadServiceUnsupported,
+            OpcuaServiceFaultException.getOpcuaStatusCode(new CompletionException(new PlcRuntimeException(fault))));
+        assertTrue(fault.getMessage().contains("BadServiceUnsupported"));
+    }
+
+    @Test
+    void otherErrorsHaveNoStatusCode() {
+        assertNull(OpcuaServiceFaultException.getOpcuaStatusCode(new PlcRuntimeException("BadServiceUnsupported")));
+        assertNull(new OpcuaServiceFaultException(0x80FFFFFFL).getOpcuaStatusCode());
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.opcua.optimizer;
+
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcWriteRequest;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.opcua.context.OpcuaDriverContext;
+import org.apache.plc4x.java.opcua.readwrite.OpcuaProtocolLimits;
+import org.apache.plc4x.java.opcua.tag.OpcuaTag;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcWriteRequest;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagValueItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagValueItem;
+import org.apache.plc4x.java.spi.values.PlcDINT;
+import org.apache.plc4x.java.spi.values.PlcSTRING;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpcuaOptimizerTest {
+
+    @Test
+    void readsEverythingAtOnceWithoutLimits() {
+        OpcuaDriverContext driverContext = new OpcuaDriverContext();
+
+        List<PlcReadRequest> requests = new OpcuaOptimizer().processReadRequest(readRequest(100), driverContext);
+
+        assertEquals(1, requests.size());
+        assertEquals(100, requests.get(0).getNumberOfTags());
+    }
+
+    @Test
+    void splitsReadsByMaxNodesPerRead() {
+        OpcuaDriverContext driverContext = new OpcuaDriverContext();
+        driverContext.setMaxNodesPerRead(40);
+
+        List<PlcReadRequest> requests = new OpcuaOptimizer().processReadRequest(readRequest(100), driverContext);
+
+        assertEquals(List.of(40, 40, 20), requests.stream().map(PlcReadRequest::getNumberOfTags).collect(Collectors.toList()));
+        assertEquals("tag0", requests.get(0).getTagNames().iterator().next());
+        assertEquals("tag80", requests.get(2).getTagNames().iterator().next());
+    }
+
+    @Test
+    void splitsReadsSoResponsesFitIntoOneChunk() {
+        OpcuaDriverContext driverContext = new OpcuaDriverContext();
+        // Every DINT value needs 10 bytes in the response, so 10 values fit into one chunk.
+        driverContext.setProtocolLimits(new OpcuaProtocolLimits(OpcuaOptimizer.MESSAGE_OVERHEAD + 100, 65535, 0, 0));
+
+        List<PlcReadRequest> requests = new OpcuaOptimizer().processReadRequest(readRequest(25), driverContext);
+
+        assertEquals(List.of(10, 10, 5), requests.stream().map(PlcReadRequest::getNumberOfTags).collect(Collectors.toList()));
+    }
+
+    @Test
+    void oversizedWritesAreSentOnTheirOwn() {
+        OpcuaDriverContext driverContext = new OpcuaDriverContext();
+        driverContext.setProtocolLimits(new OpcuaProtocolLimits(65535, OpcuaOptimizer.MESSAGE_OVERHEAD + 100, 0, 0));
+        LinkedHashMap<String, PlcTagValueItem<PlcTag>> tags = new LinkedHashMap<>();
+        tags.put("small", new DefaultPlcTagValueItem<>(OpcuaTag.of("ns=2;i=1;DINT"), new PlcDINT(1)));
+        tags.put("huge", new DefaultPlcTagValueItem<>(OpcuaTag.of("ns=2;i=2;STRING"), new PlcSTRING("x".repeat(500))));
+        tags.put("other", new DefaultPlcTagValueItem<>(OpcuaTag.of("ns=2;i=3;DINT"), new PlcDINT(3)));
+
+        List<PlcWriteRequest> requests = new OpcuaOptimizer().processWriteRequest(new DefaultPlcWriteRequest(null, tags), driverContext);
+
+        assertEquals(3, requests.size());
+        assertEquals(List.of("huge"), requests.get(1).getTagNames().stream().collect(Collectors.toList()));
+    }
+
+    @Test
+    void splitsWritesByMaxNodesPerWrite() {
+        OpcuaDriverContext driverContext = new OpcuaDriverContext();
+        driverContext.setMaxNodesPerWrite(2);
+        LinkedHashMap<String, PlcTagValueItem<PlcTag>> tags = new LinkedHashMap<>();
+        for (int i = 0; i < 5; i++) {
+            tags.put("tag" + i, new DefaultPlcTagValueItem<>(OpcuaTag.of("ns=2;i=" + i + ";DINT"), new PlcDINT(i)));
+        }
+
+        List<PlcWriteRequest> requests = new OpcuaOptimizer().processWriteRequest(new DefaultPlcWriteRequest(null, tags), driverContext);
+
+        assertEquals(List.of(2, 2, 1), requests.stream().map(PlcWriteRequest::getNumberOfTags).collect(Collectors.toList()));
+    }
+
+    private static PlcReadRequest readRequest(int numberOfTags) {
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        for (int i = 0; i < numberOfTags; i++) {
+            tags.put("tag" + i, new DefaultPlcTagItem<>(OpcuaTag.of("ns=2;i=" + i + ";DINT")));
+        }
+        return new DefaultPlcReadRequest(null, tags);
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.opcua.protocol;
+
+import org.apache.plc4x.java.opcua.readwrite.NodeId;
+import org.apache.plc4x.java.opcua.readwrite.NodeIdNumeric;
+import org.apache.plc4x.java.opcua.tag.OpcuaTag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpcuaNodeIdCacheTest {
+
+    private static final OpcuaTag TAG_A = OpcuaTag.of("ns=2;s=Machine.A");
+    private static final OpcuaTag TAG_B = OpcuaTag.of("ns=2;s=Machine.B");
+    private static final OpcuaTag TAG_C = OpcuaTag.of("ns=2;s=Machine.C");
+
+    // The generated types don't implement value equality, so the same instances are used throughout.
+    private static final NodeId NODE_ID_1 = nodeId(1);
+    private static final NodeId NODE_ID_2 = nodeId(2);
+    private static final NodeId NODE_ID_3 = nodeId(3);
+
+    @Test
+    void registersTagsAfterReachingTheThreshold() {
+        OpcuaNodeIdCache cache = new OpcuaNodeIdCache(2, 10);
+
+        assertFalse(cache.recordUse(TAG_A));
+        assertTrue(cache.recordUse(TAG_A));
+        // Registration is in progress.
+        assertFalse(cache.recordUse(TAG_A));
+
+        cache.registered(List.of(TAG_A), List.of(NODE_ID_1));
+
+        assertSame(NODE_ID_1, cache.get(TAG_A));
+        assertFalse(cache.recordUse(TAG_A));
+    }
+
+    @Test
+    void numericNodesAreNotRegistered() {
+        OpcuaNodeIdCache cache = new OpcuaNodeIdCache(1, 10);
+
+        assertFalse(cache.recordUse(OpcuaTag.of("ns=2;i=10")));
+        assertTrue(cache.startRegistration(List.of(OpcuaTag.of("ns=2;i=10"))).isEmpty());
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedNodeIds() {
+        OpcuaNodeIdCache cache = new OpcuaNodeIdCache(1, 2);
+        cache.startRegistration(List.of(TAG_A, TAG_B));
+        assertTrue(cache.registered(List.of(TAG_A, TAG_B), List.of(NODE_ID_1, NODE_ID_2)).isEmpty());
+        // Use A, so B becomes the least recently used one.
+        cache.get(TAG_A);
+
+        cache.startRegistration(List.of(TAG_C));
+        List<NodeId> evicted = cache.registered(List.of(TAG_C), List.of(NODE_ID_3));
+
+        assertEquals(List.of(NODE_ID_2), evicted);
+        assertNull(cache.get(TAG_B));
+        assertSame(NODE_ID_1, cache.get(TAG_A));
+        assertSame(NODE_ID_3, cache.get(TAG_C));
+    }
+
+    @Test
+    void invalidateReturnsTheTagsToRegisterAgain() {
+        OpcuaNodeIdCache cache = new OpcuaNodeIdCache(1, 10);
+        cache.startRegistration(List.of(TAG_A, TAG_B));
+        cache.registered(List.of(TAG_A), List.of(NODE_ID_1));
+
+        List<OpcuaTag> tags = cache.invalidate();
+
+        assertEquals(List.of(TAG_A), tags);
+        assertNull(cache.get(TAG_A));
+        // The late response for B belongs to the old session.
+        cache.registered(List.of(TAG_B), List.of(NODE_ID_2));
+        assertNull(cache.get(TAG_B));
+        assertEquals(List.of(TAG_A, TAG_B), cache.startRegistration(List.of(TAG_A, TAG_B)));
+    }
+
+    @Test
+    void disabledCacheDoesNotRegisterAnything() {
+        OpcuaNodeIdCache cache = new OpcuaNodeIdCache(1, 10);
+        cache.disable();
+
+        assertFalse(cache.recordUse(TAG_A));
+        assertTrue(cache.startRegistration(List.of(TAG_A)).isEmpty());
+    }
+
+    private static NodeId nodeId(long identifier) {
+        return new NodeId(new NodeIdNumeric((short) 2, identifier));
+    }
+
+}
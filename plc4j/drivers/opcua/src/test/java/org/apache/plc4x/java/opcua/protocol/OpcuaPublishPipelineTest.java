@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.opcua.protocol;
+
+import org.apache.plc4x.java.api.exceptions.PlcConnectionException;
+import org.apache.plc4x.java.api.exceptions.PlcProtocolException;
+import org.apache.plc4x.java.opcua.context.OpcuaServiceFaultException;
+import org.apache.plc4x.java.opcua.readwrite.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OpcuaPublishPipelineTest {
+
+    private final List<List<ExtensionObjectDefinition>> sentAcknowledgements = new ArrayList<>();
+    private final List<CompletableFuture<PublishResponse>> outstanding = new ArrayList<>();
+    private final List<PublishResponse> dispatched = new ArrayList<>();
+    private final List<Runnable> retries = new ArrayList<>();
+    private final List<Long> retryDelays = new ArrayList<>();
+
+    private final OpcuaPublishPipeline pipeline = new OpcuaPublishPipeline(3, acks -> {
+        sentAcknowledgements.add(acks);
+        CompletableFuture<PublishResponse> future = new CompletableFuture<>();
+        outstanding.add(future);
+        return future;
+    }, dispatched::add, (action, delayMs) -> {
+        retries.add(action);
+        retryDelays.add(delayMs);
+    });
+
+    @Test
+    void keepsTheConfiguredNumberOfRequestsOutstanding() {
+        pipeline.start();
+        assertEquals(3, outstanding.size());
+
+        // Starting again (e.g. for another subscription) doesn't add more.
+        pipeline.start();
+        assertEquals(3, outstanding.size());
+
+        outstanding.get(0).complete(response(1, 1, true));
+
+        assertEquals(4, outstanding.size());
+        assertEquals(3, pipeline.getOutstandingRequests());
+        assertEquals(1, dispatched.size());
+    }
+
+    @Test
+    void acknowledgesNotificationsWithTheNextRequest() {
+        pipeline.start();
+        outstanding.get(0).complete(response(7, 41, true));
+
+        List<ExtensionObjectDefinition> acks = sentAcknowledgements.get(3);
+        assertEquals(1, acks.size());
+        SubscriptionAcknowledgement ack = (SubscriptionAcknowledgement) acks.get(0);
+        assertEquals(7, ack.getSubscriptionId());
+        assertEquals(41, ack.getSequenceNumber());
+
+        // Keep-alive messages aren't acknowledged.
+        outstanding.get(1).complete(response(7, 42, false));
+        assertTrue(sentAcknowledgements.get(4).isEmpty());
+    }
+
+    @Test
+    void stopsSendingWhenStopped() {
+        pipeline.start();
+        pipeline.stop();
+
+        outstanding.get(0).complete(response(1, 1, true));
+
+        assertEquals(3, outstanding.size());
+        // Notifications already received are still delivered.
+        assertEquals(1, dispatched.size());
+    }
+
+    @Test
+    void reducesOutstandingRequestsIfTheServerHasTooMany() {
+        pipeline.start();
+
+        outstanding.get(2).completeExceptionally(fault(OpcuaStatusCode.BadTooManyPublishRequests));
+
+        assertEquals(2, pipeline.getMaxOutstandingRequests());
+        assertEquals(2, pipeline.getOutstandingRequests());
+        assertEquals(3, outstanding.size());
+
+        outstanding.get(0).completeExceptionally(fault(OpcuaStatusCode.BadTooManyPublishRequests));
+        assertEquals(1, pipeline.getMaxOutstandingRequests());
+        assertEquals(1, pipeline.getOutstandingRequests());
+        assertTrue(retries.isEmpty());
+
+        // Even the last one is rejected, so it is replaced after a back-off.
+        outstanding.get(1).completeExceptionally(fault(OpcuaStatusCode.BadTooManyPublishRequests));
+        assertEquals(1, pipeline.getMaxOutstandingRequests());
+        assertEquals(1, retries.size());
+        retries.get(0).run();
+        assertEquals(1, pipeline.getOutstandingRequests());
+        assertEquals(4, outstanding.size());
+    }
+
+    @Test
+    void replacesFailedRequestsAfterABackOff() {
+        pipeline.start();
+
+        outstanding.get(0).completeExceptionally(fault(OpcuaStatusCode.BadInternalError));
+        outstanding.get(1).completeExceptionally(new PlcProtocolException("broken"));
+
+        // Only one retry is pending at a time, it tops up all failed requests.
+        assertEquals(1, retries.size());
+        assertEquals(OpcuaPublishPipeline.MIN_RETRY_DELAY_MS, retryDelays.get(0));
+        assertEquals(3, outstanding.size());
+        retries.get(0).run();
+        assertEquals(3, pipeline.getOutstandingRequests());
+        assertEquals(5, outstanding.size());
+
+        // Failures in a row increase the delay.
+        outstanding.get(3).completeExceptionally(fault(OpcuaStatusCode.BadInternalError));
+        assertEquals(4 * OpcuaPublishPipeline.MIN_RETRY_DELAY_MS, retryDelays.get(1));
+    }
+
+    @Test
+    void replacesRequestsTimedOutByTheServerRightAway() {
+        pipeline.start();
+
+        outstanding.get(0).completeExceptionally(fault(OpcuaStatusCode.BadTimeout));
+
+        assertEquals(4, outstanding.size());
+        assertTrue(retries.isEmpty());
+    }
+
+    @Test
+    void doesNotReplaceRequestsAfterFatalErrors() {
+        pipeline.start();
+
+        outstanding.get(0).completeExceptionally(fault(OpcuaStatusCode.BadSessionClosed));
+        outstanding.get(1).completeExceptionally(new PlcConnectionException("Connection closed"));
+
+        assertEquals(3, outstanding.size());
+        assertTrue(retries.isEmpty());
+    }
+
+    @Test
+    void retryDelayIsBounded() {
+        assertEquals(OpcuaPublishPipeline.MIN_RETRY_DELAY_MS, OpcuaPublishPipeline.getRetryDelay(1));
+        assertEquals(2 * OpcuaPublishPipeline.MIN_RETRY_DELAY_MS, OpcuaPublishPipeline.getRetryDelay(2));
+        assertEquals(OpcuaPublishPipeline.MAX_RETRY_DELAY_MS, OpcuaPublishPipeline.getRetryDelay(1000));
+    }
+
+    private static OpcuaServiceFaultException fault(OpcuaStatusCode statusCode) {
+        return new OpcuaServiceFaultException(statusCode.getValue());
+    }
+
+    private static PublishResponse response(long subscriptionId, long sequenceNumber, boolean withNotifications) {
+        List<ExtensionObject> notificationData = withNotifications
+            ? Collections.singletonList(OpcuaProtocolLogic.NULL_EXTENSION_OBJECT)
+            : Collections.emptyList();
+        NotificationMessage notificationMessage = new NotificationMessage(sequenceNumber, 0L, notificationData.size(), notificationData);
+        return new PublishResponse(null, subscriptionId, 0, Collections.emptyList(), false, notificationMessage,
+            0, Collections.emptyList(), 0, Collections.emptyList());
+    }
+
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.opcua.protocol.chunk;
+
+import org.apache.plc4x.java.spi.generation.ReadBuffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoryChunkStorageTest {
+
+    @Test
+    void assemblesChunksInOrder() {
+        MemoryChunkStorage storage = new MemoryChunkStorage();
+        storage.append(new byte[] {1, 2, 3});
+        storage.append(new byte[] {4});
+        storage.append(new byte[] {5, 6});
+
+        assertEquals(6, storage.size());
+        assertArrayEquals(new byte[] {1, 2, 3, 4, 5, 6}, storage.get());
+    }
+
+    @Test
+    void readBufferSpansChunkBoundaries() throws Exception {
+        MemoryChunkStorage storage = new MemoryChunkStorage();
+        storage.append(new byte[] {0x01, 0x02, 0x03});
+        storage.append(new byte[] {0x04, 0x05});
+
+        ReadBuffer buffer = storage.getReadBuffer();
+
+        // Little endian, as all OPC UA binary encoded data.
+        assertEquals(0x04030201, buffer.readInt(32));
+        assertEquals(0x05, buffer.readByte());
+        assertFalse(buffer.hasMore(8));
+    }
+
+    @Test
+    void resetDropsAllChunks() {
+        MemoryChunkStorage storage = new MemoryChunkStorage();
+        storage.append(new byte[] {1, 2});
+        storage.reset();
+
+        assertEquals(0, storage.size());
+        assertArrayEquals(new byte[0], storage.get());
+    }
+
+}
@@ -59,6 +59,8 @@ public class OpenProtocolMessageAlarmAcknowledgeRev1 extends OpenProtocolMessage
         sequenceNumber,
         numberOfMessageParts,
         messagePartNumber);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -76,12 +78,18 @@ public class OpenProtocolMessageAlarmAcknowledgeRev1 extends OpenProtocolMessage
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageAlarmAcknowledgeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -78,6 +78,8 @@ public class OpenProtocolMessageAlarmRev1 extends OpenProtocolMessageAlarm imple
     this.controllerReadyStatus = controllerReadyStatus;
     this.toolReadyStatus = toolReadyStatus;
     this.alarmTime = alarmTime;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getErrorCode() {
@@ -179,11 +181,16 @@ public class OpenProtocolMessageAlarmRev1 extends OpenProtocolMessageAlarm imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageAlarmRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdErrorCode)
     lengthInBits += 16;
@@ -209,6 +216,7 @@ public class OpenProtocolMessageAlarmRev1 extends OpenProtocolMessageAlarm imple
     // Simple field (alarmTime)
     lengthInBits += 152;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
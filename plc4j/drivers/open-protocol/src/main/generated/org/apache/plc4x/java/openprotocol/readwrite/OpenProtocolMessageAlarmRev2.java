@@ -82,6 +82,8 @@ public class OpenProtocolMessageAlarmRev2 extends OpenProtocolMessageAlarm imple
     this.toolReadyStatus = toolReadyStatus;
     this.alarmTime = alarmTime;
     this.alarmText = alarmText;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getErrorCode() {
@@ -202,11 +204,16 @@ public class OpenProtocolMessageAlarmRev2 extends OpenProtocolMessageAlarm imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageAlarmRev2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdErrorCode)
     lengthInBits += 16;
@@ -238,6 +245,7 @@ public class OpenProtocolMessageAlarmRev2 extends OpenProtocolMessageAlarm imple
     // Simple field (alarmText)
     lengthInBits += 400;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
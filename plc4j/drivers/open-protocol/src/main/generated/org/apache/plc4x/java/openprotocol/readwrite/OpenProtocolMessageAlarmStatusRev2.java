@@ -83,6 +83,8 @@ public class OpenProtocolMessageAlarmStatusRev2 extends OpenProtocolMessageAlarm
     this.controllerReadyStatus = controllerReadyStatus;
     this.toolReadyStatus = toolReadyStatus;
     this.alarmTime = alarmTime;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public AlarmActiveStatus getControllerAlarmStatus() {
@@ -210,11 +212,16 @@ public class OpenProtocolMessageAlarmStatusRev2 extends OpenProtocolMessageAlarm
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageAlarmStatusRev2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdAlarmStatus)
     lengthInBits += 16;
@@ -246,6 +253,7 @@ public class OpenProtocolMessageAlarmStatusRev2 extends OpenProtocolMessageAlarm
     // Simple field (alarmTime)
     lengthInBits += 152;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
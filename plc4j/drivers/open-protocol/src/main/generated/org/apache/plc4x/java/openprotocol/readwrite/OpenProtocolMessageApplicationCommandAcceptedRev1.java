@@ -64,6 +64,8 @@ public class OpenProtocolMessageApplicationCommandAcceptedRev1
         numberOfMessageParts,
         messagePartNumber);
     this.midNumberAccepted = midNumberAccepted;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Mid getMidNumberAccepted() {
@@ -93,15 +95,21 @@ public class OpenProtocolMessageApplicationCommandAcceptedRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageApplicationCommandAcceptedRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (midNumberAccepted)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
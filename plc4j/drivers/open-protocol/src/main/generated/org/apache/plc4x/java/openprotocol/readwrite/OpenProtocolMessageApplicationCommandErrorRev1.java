@@ -67,6 +67,8 @@ public class OpenProtocolMessageApplicationCommandErrorRev1
         messagePartNumber);
     this.requestMid = requestMid;
     this.error = error;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Mid getRequestMid() {
@@ -111,11 +113,16 @@ public class OpenProtocolMessageApplicationCommandErrorRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageApplicationCommandErrorRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (requestMid)
     lengthInBits += 32;
@@ -123,6 +130,7 @@ public class OpenProtocolMessageApplicationCommandErrorRev1
     // Simple field (error)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -75,6 +75,8 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev1
     this.cellId = cellId;
     this.channelId = channelId;
     this.controllerName = controllerName;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -155,11 +157,16 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -179,6 +186,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev1
     // Simple field (controllerName)
     lengthInBits += 200;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -79,6 +79,8 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev2
     this.channelId = channelId;
     this.controllerName = controllerName;
     this.supplierCode = supplierCode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -181,11 +183,16 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev2
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -211,6 +218,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev2
     // Simple field (supplierCode)
     lengthInBits += 24;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -91,6 +91,8 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev3
     this.openProtocolVersion = openProtocolVersion;
     this.controllerSoftwareVersion = controllerSoftwareVersion;
     this.toolSoftwareVersion = toolSoftwareVersion;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -259,11 +261,16 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev3
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev3 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -307,6 +314,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev3
     // Simple field (toolSoftwareVersion)
     lengthInBits += 152;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -99,6 +99,8 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev4
     this.toolSoftwareVersion = toolSoftwareVersion;
     this.rbuType = rbuType;
     this.controllerSerialNumber = controllerSerialNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -308,11 +310,16 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev4
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev4 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -368,6 +375,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev4
     // Simple field (controllerSerialNumber)
     lengthInBits += 80;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -107,6 +107,8 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev5
     this.controllerSerialNumber = controllerSerialNumber;
     this.systemType = systemType;
     this.systemSubtype = systemSubtype;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -357,11 +359,16 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev5
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev5 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -429,6 +436,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev5
     // Simple field (systemSubtype)
     lengthInBits += 24;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -127,6 +127,8 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev6
     this.stationId = stationId;
     this.stationName = stationName;
     this.clientId = clientId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -479,11 +481,16 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev6
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev6 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -587,6 +594,7 @@ public class OpenProtocolMessageApplicationCommunicationStartAcknowledgeRev6
     // Simple field (clientId)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
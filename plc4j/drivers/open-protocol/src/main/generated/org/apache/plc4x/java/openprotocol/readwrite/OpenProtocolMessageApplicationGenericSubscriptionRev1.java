@@ -70,6 +70,8 @@ public class OpenProtocolMessageApplicationGenericSubscriptionRev1
     this.subscriptionMid = subscriptionMid;
     this.wantedRevision = wantedRevision;
     this.extraData = extraData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Mid getSubscriptionMid() {
@@ -126,11 +128,16 @@ public class OpenProtocolMessageApplicationGenericSubscriptionRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageApplicationGenericSubscriptionRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (subscriptionMid)
     lengthInBits += 32;
@@ -146,6 +153,7 @@ public class OpenProtocolMessageApplicationGenericSubscriptionRev1
       lengthInBits += 8 * extraData.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -66,7 +66,10 @@ public class OpenProtocolMessageDynamicPsetSelectionRev1
         numberOfMessageParts,
         messagePartNumber);
     this.parameterSetId = parameterSetId;
-    this.dataFields = dataFields;
+    this.dataFields =
+        (dataFields == null) ? null : Collections.unmodifiableList(new ArrayList<>(dataFields));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getParameterSetId() {
@@ -112,11 +115,16 @@ public class OpenProtocolMessageDynamicPsetSelectionRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageDynamicPsetSelectionRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (parameterSetId)
     lengthInBits += 24;
@@ -133,6 +141,7 @@ public class OpenProtocolMessageDynamicPsetSelectionRev1
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -133,6 +133,8 @@ public class OpenProtocolMessageExecuteDynamicJobRequestRev1
     this.resultOfNonTightenings = resultOfNonTightenings;
     this.resetAllIdentifiersAtJobDone = resetAllIdentifiersAtJobDone;
     this.jobRepair = jobRepair;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getJobId() {
@@ -552,11 +554,16 @@ public class OpenProtocolMessageExecuteDynamicJobRequestRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageExecuteDynamicJobRequestRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdJobId)
     lengthInBits += 16;
@@ -666,6 +673,7 @@ public class OpenProtocolMessageExecuteDynamicJobRequestRev1
     // Simple field (jobRepair)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -155,6 +155,8 @@ public class OpenProtocolMessageLastTighteningResultDataRev1
     this.dateTimeOfLastChangeIndParameterSetSettings = dateTimeOfLastChangeIndParameterSetSettings;
     this.batchStatus = batchStatus;
     this.tighteningId = tighteningId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -658,11 +660,16 @@ public class OpenProtocolMessageLastTighteningResultDataRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageLastTighteningResultDataRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -802,6 +809,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev1
     // Simple field (tighteningId)
     lengthInBits += 80;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
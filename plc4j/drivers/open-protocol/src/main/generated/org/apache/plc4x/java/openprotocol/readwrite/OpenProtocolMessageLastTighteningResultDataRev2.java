@@ -247,6 +247,8 @@ public class OpenProtocolMessageLastTighteningResultDataRev2
     this.toolSerialNumber = toolSerialNumber;
     this.timeStamp = timeStamp;
     this.dateTimeOfLastChangeIndParameterSetSettings = dateTimeOfLastChangeIndParameterSetSettings;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -1728,11 +1730,16 @@ public class OpenProtocolMessageLastTighteningResultDataRev2
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageLastTighteningResultDataRev2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -2099,6 +2106,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev2
     // Simple field (dateTimeOfLastChangeIndParameterSetSettings)
     lengthInBits += 152;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
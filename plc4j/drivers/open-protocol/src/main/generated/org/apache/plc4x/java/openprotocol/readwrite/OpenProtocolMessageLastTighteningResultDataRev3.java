@@ -253,6 +253,8 @@ public class OpenProtocolMessageLastTighteningResultDataRev3
     this.parameterSetName = parameterSetName;
     this.torqueValueUnit = torqueValueUnit;
     this.resultType = resultType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -1314,11 +1316,16 @@ public class OpenProtocolMessageLastTighteningResultDataRev3
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageLastTighteningResultDataRev3 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -1608,6 +1615,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev3
     // Simple field (resultType)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
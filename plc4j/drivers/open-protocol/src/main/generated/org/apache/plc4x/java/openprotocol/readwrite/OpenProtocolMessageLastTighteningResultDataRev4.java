@@ -265,6 +265,8 @@ public class OpenProtocolMessageLastTighteningResultDataRev4
     this.identifierResultPart2 = identifierResultPart2;
     this.identifierResultPart3 = identifierResultPart3;
     this.identifierResultPart4 = identifierResultPart4;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -1392,11 +1394,16 @@ public class OpenProtocolMessageLastTighteningResultDataRev4
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageLastTighteningResultDataRev4 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -1704,6 +1711,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev4
     // Simple field (identifierResultPart4)
     lengthInBits += 200;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
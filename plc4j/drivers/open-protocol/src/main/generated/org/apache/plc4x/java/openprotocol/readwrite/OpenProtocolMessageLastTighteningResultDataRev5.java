@@ -269,6 +269,8 @@ public class OpenProtocolMessageLastTighteningResultDataRev5
     this.identifierResultPart3 = identifierResultPart3;
     this.identifierResultPart4 = identifierResultPart4;
     this.customerTighteningError = customerTighteningError;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -1418,11 +1420,16 @@ public class OpenProtocolMessageLastTighteningResultDataRev5
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageLastTighteningResultDataRev5 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -1736,6 +1743,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev5
     // Simple field (customerTighteningError)
     lengthInBits += 200;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
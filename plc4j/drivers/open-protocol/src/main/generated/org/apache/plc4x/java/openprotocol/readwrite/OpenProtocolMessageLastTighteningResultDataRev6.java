@@ -277,6 +277,8 @@ public class OpenProtocolMessageLastTighteningResultDataRev6
     this.customerTighteningError = customerTighteningError;
     this.prevailTorqueCompensateValue = prevailTorqueCompensateValue;
     this.tighteningErrorStatus2 = tighteningErrorStatus2;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -1471,11 +1473,16 @@ public class OpenProtocolMessageLastTighteningResultDataRev6
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageLastTighteningResultDataRev6 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -1801,6 +1808,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev6
     // Simple field (tighteningErrorStatus2)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
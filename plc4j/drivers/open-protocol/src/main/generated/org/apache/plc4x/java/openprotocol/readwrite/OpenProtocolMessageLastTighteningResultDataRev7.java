@@ -282,6 +282,8 @@ public class OpenProtocolMessageLastTighteningResultDataRev7
     this.prevailTorqueCompensateValue = prevailTorqueCompensateValue;
     this.compensatedAngle = compensatedAngle;
     this.finalAngleDecimal = finalAngleDecimal;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -1508,11 +1510,16 @@ public class OpenProtocolMessageLastTighteningResultDataRev7
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageLastTighteningResultDataRev7 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -1847,6 +1854,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev7
     // Simple field (finalAngleDecimal)
     lengthInBits += 56;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
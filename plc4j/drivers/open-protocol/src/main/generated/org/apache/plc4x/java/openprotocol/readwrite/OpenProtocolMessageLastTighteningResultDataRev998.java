@@ -282,7 +282,10 @@ public class OpenProtocolMessageLastTighteningResultDataRev998
     this.customerTighteningError = customerTighteningError;
     this.prevailTorqueCompensateValue = prevailTorqueCompensateValue;
     this.numberOfStagesInMultistage = numberOfStagesInMultistage;
-    this.stageResults = stageResults;
+    this.stageResults =
+        (stageResults == null) ? null : Collections.unmodifiableList(new ArrayList<>(stageResults));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getCellId() {
@@ -1526,11 +1529,16 @@ public class OpenProtocolMessageLastTighteningResultDataRev998
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageLastTighteningResultDataRev998 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdCellId)
     lengthInBits += 16;
@@ -1877,6 +1885,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev998
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
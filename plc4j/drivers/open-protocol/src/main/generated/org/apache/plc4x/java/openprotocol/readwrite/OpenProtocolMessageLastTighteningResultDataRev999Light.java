@@ -103,6 +103,8 @@ public class OpenProtocolMessageLastTighteningResultDataRev999Light
     this.timeStamp = timeStamp;
     this.dateTimeOfLastChangeIndParameterSetSettings = dateTimeOfLastChangeIndParameterSetSettings;
     this.tighteningId = tighteningId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getVinNumber() {
@@ -263,11 +265,16 @@ public class OpenProtocolMessageLastTighteningResultDataRev999Light
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageLastTighteningResultDataRev999Light _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (vinNumber)
     lengthInBits += 200;
@@ -311,6 +318,7 @@ public class OpenProtocolMessageLastTighteningResultDataRev999Light
     // Simple field (tighteningId)
     lengthInBits += 80;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
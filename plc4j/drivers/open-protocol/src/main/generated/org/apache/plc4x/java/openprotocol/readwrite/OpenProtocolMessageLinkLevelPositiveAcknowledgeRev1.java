@@ -64,6 +64,8 @@ public class OpenProtocolMessageLinkLevelPositiveAcknowledgeRev1
         numberOfMessageParts,
         messagePartNumber);
     this.midNumber = midNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Mid getMidNumber() {
@@ -93,15 +95,21 @@ public class OpenProtocolMessageLinkLevelPositiveAcknowledgeRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageLinkLevelPositiveAcknowledgeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (midNumber)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -64,6 +64,8 @@ public class OpenProtocolMessageLockAtBatchDoneUploadRev1
         numberOfMessageParts,
         messagePartNumber);
     this.relayStatus = relayStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getRelayStatus() {
@@ -92,15 +94,21 @@ public class OpenProtocolMessageLockAtBatchDoneUploadRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageLockAtBatchDoneUploadRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (relayStatus)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
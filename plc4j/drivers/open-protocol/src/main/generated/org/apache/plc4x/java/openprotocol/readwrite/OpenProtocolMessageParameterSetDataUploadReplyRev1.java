@@ -103,6 +103,8 @@ public class OpenProtocolMessageParameterSetDataUploadReplyRev1
     this.angleMin = angleMin;
     this.angleMax = angleMax;
     this.finalAngleTarget = finalAngleTarget;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getParameterSetId() {
@@ -338,11 +340,16 @@ public class OpenProtocolMessageParameterSetDataUploadReplyRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageParameterSetDataUploadReplyRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdParameterSetId)
     lengthInBits += 16;
@@ -404,6 +411,7 @@ public class OpenProtocolMessageParameterSetDataUploadReplyRev1
     // Simple field (finalAngleTarget)
     lengthInBits += 40;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -63,7 +63,10 @@ public class OpenProtocolMessageParameterSetIdUploadReplyRev1
         sequenceNumber,
         numberOfMessageParts,
         messagePartNumber);
-    this.parameters = parameters;
+    this.parameters =
+        (parameters == null) ? null : Collections.unmodifiableList(new ArrayList<>(parameters));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Integer> getParameters() {
@@ -101,11 +104,16 @@ public class OpenProtocolMessageParameterSetIdUploadReplyRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageParameterSetIdUploadReplyRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (numParameters)
     lengthInBits += 24;
@@ -115,6 +123,7 @@ public class OpenProtocolMessageParameterSetIdUploadReplyRev1
       lengthInBits += 24 * parameters.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -65,8 +65,14 @@ public class OpenProtocolMessageParameterSetIdUploadReplyRev2
         sequenceNumber,
         numberOfMessageParts,
         messagePartNumber);
-    this.parameters = parameters;
-    this.numberOfCycles = numberOfCycles;
+    this.parameters =
+        (parameters == null) ? null : Collections.unmodifiableList(new ArrayList<>(parameters));
+    this.numberOfCycles =
+        (numberOfCycles == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(numberOfCycles));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Integer> getParameters() {
@@ -115,11 +121,16 @@ public class OpenProtocolMessageParameterSetIdUploadReplyRev2
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageParameterSetIdUploadReplyRev2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (numParameters)
     lengthInBits += 24;
@@ -134,6 +145,7 @@ public class OpenProtocolMessageParameterSetIdUploadReplyRev2
       lengthInBits += 16 * numberOfCycles.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
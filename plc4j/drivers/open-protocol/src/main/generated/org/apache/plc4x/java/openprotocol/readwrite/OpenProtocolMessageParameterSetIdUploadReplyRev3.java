@@ -67,9 +67,18 @@ public class OpenProtocolMessageParameterSetIdUploadReplyRev3
         sequenceNumber,
         numberOfMessageParts,
         messagePartNumber);
-    this.parameters = parameters;
-    this.numberOfCycles = numberOfCycles;
-    this.typeOfProgram = typeOfProgram;
+    this.parameters =
+        (parameters == null) ? null : Collections.unmodifiableList(new ArrayList<>(parameters));
+    this.numberOfCycles =
+        (numberOfCycles == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(numberOfCycles));
+    this.typeOfProgram =
+        (typeOfProgram == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(typeOfProgram));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<Integer> getParameters() {
@@ -129,11 +138,16 @@ public class OpenProtocolMessageParameterSetIdUploadReplyRev3
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageParameterSetIdUploadReplyRev3 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (numParameters)
     lengthInBits += 24;
@@ -153,6 +167,7 @@ public class OpenProtocolMessageParameterSetIdUploadReplyRev3
       lengthInBits += 32 * typeOfProgram.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -115,6 +115,8 @@ public class OpenProtocolMessageParameterSetSelectedRev2
     this.finalAngleTarget = finalAngleTarget;
     this.firstTarget = firstTarget;
     this.startFinalAngle = startFinalAngle;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getParameterSetId() {
@@ -416,11 +418,16 @@ public class OpenProtocolMessageParameterSetSelectedRev2
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageParameterSetSelectedRev2 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (blockIdParameterSetId)
     lengthInBits += 16;
@@ -500,6 +507,7 @@ public class OpenProtocolMessageParameterSetSelectedRev2
     // Simple field (startFinalAngle)
     lengthInBits += 48;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -64,6 +64,8 @@ public class OpenProtocolMessageProgramPsetSelectionInDynamicJobRev1
         numberOfMessageParts,
         messagePartNumber);
     this.parameterSetId = parameterSetId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getParameterSetId() {
@@ -92,15 +94,21 @@ public class OpenProtocolMessageProgramPsetSelectionInDynamicJobRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageProgramPsetSelectionInDynamicJobRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (parameterSetId)
     lengthInBits += 24;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
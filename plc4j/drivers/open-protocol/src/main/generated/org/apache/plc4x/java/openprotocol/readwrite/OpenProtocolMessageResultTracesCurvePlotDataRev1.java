@@ -69,7 +69,10 @@ public class OpenProtocolMessageResultTracesCurvePlotDataRev1
         messagePartNumber);
     this.resultDataIdentifier = resultDataIdentifier;
     this.timeStamp = timeStamp;
-    this.dataFields = dataFields;
+    this.dataFields =
+        (dataFields == null) ? null : Collections.unmodifiableList(new ArrayList<>(dataFields));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getResultDataIdentifier() {
@@ -123,11 +126,16 @@ public class OpenProtocolMessageResultTracesCurvePlotDataRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageResultTracesCurvePlotDataRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (resultDataIdentifier)
     lengthInBits += 80;
@@ -147,6 +155,7 @@ public class OpenProtocolMessageResultTracesCurvePlotDataRev1
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
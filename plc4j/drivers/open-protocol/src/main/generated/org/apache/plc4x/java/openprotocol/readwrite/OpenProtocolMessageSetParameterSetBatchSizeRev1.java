@@ -67,6 +67,8 @@ public class OpenProtocolMessageSetParameterSetBatchSizeRev1
         messagePartNumber);
     this.parameterSetId = parameterSetId;
     this.batchSize = batchSize;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getParameterSetId() {
@@ -106,11 +108,16 @@ public class OpenProtocolMessageSetParameterSetBatchSizeRev1
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageSetParameterSetBatchSizeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (parameterSetId)
     lengthInBits += 24;
@@ -118,6 +125,7 @@ public class OpenProtocolMessageSetParameterSetBatchSizeRev1
     // Simple field (batchSize)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -63,6 +63,8 @@ public class OpenProtocolMessageSetTimeRev1 extends OpenProtocolMessageSetTime i
         numberOfMessageParts,
         messagePartNumber);
     this.timeToSet = timeToSet;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getTimeToSet() {
@@ -88,15 +90,21 @@ public class OpenProtocolMessageSetTimeRev1 extends OpenProtocolMessageSetTime i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     OpenProtocolMessageSetTimeRev1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeToSet)
     lengthInBits += 152;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
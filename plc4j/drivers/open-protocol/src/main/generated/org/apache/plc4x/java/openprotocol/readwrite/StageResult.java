@@ -45,6 +45,8 @@ public class StageResult implements Message {
     super();
     this.stageTorqueValue = stageTorqueValue;
     this.stageTurningAngleValue = stageTurningAngleValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getStageTorqueValue() {
@@ -82,11 +84,16 @@ public class StageResult implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     StageResult _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (stageTorqueValue)
     lengthInBits += 48;
@@ -94,6 +101,7 @@ public class StageResult implements Message {
     // Simple field (stageTurningAngleValue)
     lengthInBits += 40;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
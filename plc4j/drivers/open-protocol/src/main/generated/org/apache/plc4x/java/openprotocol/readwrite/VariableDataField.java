@@ -52,6 +52,8 @@ public class VariableDataField implements Message {
     this.unit = unit;
     this.stepNumber = stepNumber;
     this.dataValue = dataValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getParameterId() {
@@ -119,11 +121,16 @@ public class VariableDataField implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     VariableDataField _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (parameterId)
     lengthInBits += 40;
@@ -145,6 +152,7 @@ public class VariableDataField implements Message {
       lengthInBits += 8 * dataValue.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class Plc4xConnectRequest extends Plc4xMessage implements Message {
   public Plc4xConnectRequest(int requestId, String connectionString) {
     super(requestId);
     this.connectionString = connectionString;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getConnectionString() {
@@ -84,11 +86,16 @@ public class Plc4xConnectRequest extends Plc4xMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     Plc4xConnectRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (connectionStringLen)
     lengthInBits += 8;
@@ -96,6 +103,7 @@ public class Plc4xConnectRequest extends Plc4xMessage implements Message {
     // Simple field (connectionString)
     lengthInBits += (STR_LEN(getConnectionString())) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class Plc4xConnectResponse extends Plc4xMessage implements Message {
     super(requestId);
     this.connectionId = connectionId;
     this.responseCode = responseCode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getConnectionId() {
@@ -92,11 +94,16 @@ public class Plc4xConnectResponse extends Plc4xMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     Plc4xConnectResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (connectionId)
     lengthInBits += 16;
@@ -104,6 +111,7 @@ public class Plc4xConnectResponse extends Plc4xMessage implements Message {
     // Simple field (responseCode)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
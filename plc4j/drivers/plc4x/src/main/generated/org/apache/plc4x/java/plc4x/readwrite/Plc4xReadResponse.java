@@ -55,7 +55,9 @@ public class Plc4xReadResponse extends Plc4xMessage implements Message {
     super(requestId);
     this.connectionId = connectionId;
     this.responseCode = responseCode;
-    this.tags = tags;
+    this.tags = (tags == null) ? null : Collections.unmodifiableList(new ArrayList<>(tags));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getConnectionId() {
@@ -115,11 +117,16 @@ public class Plc4xReadResponse extends Plc4xMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     Plc4xReadResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (connectionId)
     lengthInBits += 16;
@@ -139,6 +146,7 @@ public class Plc4xReadResponse extends Plc4xMessage implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class Plc4xTag implements Message {
     super();
     this.name = name;
     this.tagQuery = tagQuery;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getName() {
@@ -84,11 +86,16 @@ public class Plc4xTag implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Plc4xTag _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (nameLen)
     lengthInBits += 8;
@@ -102,6 +109,7 @@ public class Plc4xTag implements Message {
     // Simple field (tagQuery)
     lengthInBits += (STR_LEN(getTagQuery())) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class Plc4xTagRequest implements Message {
   public Plc4xTagRequest(Plc4xTag tag) {
     super();
     this.tag = tag;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Plc4xTag getTag() {
@@ -65,15 +67,21 @@ public class Plc4xTagRequest implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Plc4xTagRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (tag)
     lengthInBits += tag.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class Plc4xTagResponse implements Message {
     super();
     this.tag = tag;
     this.responseCode = responseCode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Plc4xTag getTag() {
@@ -81,11 +83,16 @@ public class Plc4xTagResponse implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Plc4xTagResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (tag)
     lengthInBits += tag.getLengthInBits();
@@ -93,6 +100,7 @@ public class Plc4xTagResponse implements Message {
     // Simple field (responseCode)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class Plc4xTagValueResponse implements Message {
     this.responseCode = responseCode;
     this.valueType = valueType;
     this.value = value;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public Plc4xTag getTag() {
@@ -109,11 +111,16 @@ public class Plc4xTagValueResponse implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Plc4xTagValueResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (tag)
     lengthInBits += tag.getLengthInBits();
@@ -129,6 +136,7 @@ public class Plc4xTagValueResponse implements Message {
       lengthInBits += Plc4xValue.getLengthInBits(value, valueType);
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,7 +49,9 @@ public class Plc4xWriteRequest extends Plc4xMessage implements Message {
   public Plc4xWriteRequest(int requestId, int connectionId, List<Plc4xTagValueRequest> tags) {
     super(requestId);
     this.connectionId = connectionId;
-    this.tags = tags;
+    this.tags = (tags == null) ? null : Collections.unmodifiableList(new ArrayList<>(tags));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getConnectionId() {
@@ -94,11 +96,16 @@ public class Plc4xWriteRequest extends Plc4xMessage implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     Plc4xWriteRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (connectionId)
     lengthInBits += 16;
@@ -115,6 +122,7 @@ public class Plc4xWriteRequest extends Plc4xMessage implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
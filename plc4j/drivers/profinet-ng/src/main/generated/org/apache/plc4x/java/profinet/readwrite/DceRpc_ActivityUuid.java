@@ -49,6 +49,8 @@ public class DceRpc_ActivityUuid implements Message {
     this.data2 = data2;
     this.data3 = data3;
     this.data4 = data4;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getData1() {
@@ -92,11 +94,16 @@ public class DceRpc_ActivityUuid implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DceRpc_ActivityUuid _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (data1)
     lengthInBits += 32;
@@ -112,6 +119,7 @@ public class DceRpc_ActivityUuid implements Message {
       lengthInBits += 8 * data4.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,6 +45,8 @@ public class DceRpc_InterfaceUuid_ControllerInterface extends DceRpc_InterfaceUu
 
   public DceRpc_InterfaceUuid_ControllerInterface() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -62,12 +64,18 @@ public class DceRpc_InterfaceUuid_ControllerInterface extends DceRpc_InterfaceUu
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     DceRpc_InterfaceUuid_ControllerInterface _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class DceRpc_ObjectUuid implements Message {
     this.nodeNumber = nodeNumber;
     this.deviceId = deviceId;
     this.vendorId = vendorId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte getInterfaceNumber() {
@@ -146,11 +148,16 @@ public class DceRpc_ObjectUuid implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DceRpc_ObjectUuid _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (data1)
     lengthInBits += 32;
@@ -176,6 +183,7 @@ public class DceRpc_ObjectUuid implements Message {
     // Simple field (vendorId)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
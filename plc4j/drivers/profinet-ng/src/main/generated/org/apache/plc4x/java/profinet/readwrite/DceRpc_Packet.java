@@ -106,6 +106,8 @@ public class DceRpc_Packet implements Message {
     this.operation = operation;
     this.serialLow = serialLow;
     this.payload = payload;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DceRpc_PacketType getPacketType() {
@@ -503,11 +505,16 @@ public class DceRpc_Packet implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DceRpc_Packet _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (version)
     lengthInBits += 8;
@@ -605,6 +612,7 @@ public class DceRpc_Packet implements Message {
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class Ethernet_Frame implements Message {
     this.destination = destination;
     this.source = source;
     this.payload = payload;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public MacAddress getDestination() {
@@ -95,11 +97,16 @@ public class Ethernet_Frame implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Ethernet_Frame _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (destination)
     lengthInBits += destination.getLengthInBits();
@@ -110,6 +117,7 @@ public class Ethernet_Frame implements Message {
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
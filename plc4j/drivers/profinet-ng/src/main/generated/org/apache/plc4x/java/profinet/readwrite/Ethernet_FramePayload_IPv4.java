@@ -84,6 +84,8 @@ public class Ethernet_FramePayload_IPv4 extends Ethernet_FramePayload implements
     this.sourcePort = sourcePort;
     this.destinationPort = destinationPort;
     this.payload = payload;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getIdentification() {
@@ -253,11 +255,16 @@ public class Ethernet_FramePayload_IPv4 extends Ethernet_FramePayload implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     Ethernet_FramePayload_IPv4 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (version)
     lengthInBits += 4;
@@ -319,6 +326,7 @@ public class Ethernet_FramePayload_IPv4 extends Ethernet_FramePayload implements
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
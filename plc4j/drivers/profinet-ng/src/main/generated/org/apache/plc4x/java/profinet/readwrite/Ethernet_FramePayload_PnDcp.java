@@ -48,6 +48,8 @@ public class Ethernet_FramePayload_PnDcp extends Ethernet_FramePayload implement
   public Ethernet_FramePayload_PnDcp(PnDcp_Pdu pdu) {
     super();
     this.pdu = pdu;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PnDcp_Pdu getPdu() {
@@ -72,15 +74,21 @@ public class Ethernet_FramePayload_PnDcp extends Ethernet_FramePayload implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     Ethernet_FramePayload_PnDcp _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (pdu)
     lengthInBits += pdu.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
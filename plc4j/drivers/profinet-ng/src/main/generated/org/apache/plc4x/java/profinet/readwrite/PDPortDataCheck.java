@@ -64,6 +64,8 @@ public class PDPortDataCheck extends PnIoCm_Block implements Message {
     this.slotNumber = slotNumber;
     this.subSlotNumber = subSlotNumber;
     this.checkPeers = checkPeers;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -155,11 +157,16 @@ public class PDPortDataCheck extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PDPortDataCheck _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -182,6 +189,7 @@ public class PDPortDataCheck extends PnIoCm_Block implements Message {
     // Simple field (checkPeers)
     lengthInBits += checkPeers.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -43,6 +43,8 @@ public class PascalString implements Message {
   public PascalString(String stringValue) {
     super();
     this.stringValue = stringValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getStringValue() {
@@ -82,11 +84,16 @@ public class PascalString implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PascalString _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (sLength)
     lengthInBits += 8;
@@ -99,6 +106,7 @@ public class PascalString implements Message {
 
     // A virtual field doesn't have any in- or output.
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
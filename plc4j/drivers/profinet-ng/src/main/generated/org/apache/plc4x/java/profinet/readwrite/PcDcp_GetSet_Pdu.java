@@ -63,7 +63,9 @@ public class PcDcp_GetSet_Pdu extends PnDcp_Pdu implements Message {
     this.notSupported = notSupported;
     this.response = response;
     this.xid = xid;
-    this.blocks = blocks;
+    this.blocks = (blocks == null) ? null : Collections.unmodifiableList(new ArrayList<>(blocks));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getNotSupported() {
@@ -162,11 +164,16 @@ public class PcDcp_GetSet_Pdu extends PnDcp_Pdu implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PcDcp_GetSet_Pdu _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (serviceId)
     lengthInBits += 8;
@@ -199,6 +206,7 @@ public class PcDcp_GetSet_Pdu extends PnDcp_Pdu implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
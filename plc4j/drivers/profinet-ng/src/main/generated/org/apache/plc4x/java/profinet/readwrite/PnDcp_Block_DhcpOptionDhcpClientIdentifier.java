@@ -48,6 +48,8 @@ public class PnDcp_Block_DhcpOptionDhcpClientIdentifier extends PnDcp_Block impl
 
   public PnDcp_Block_DhcpOptionDhcpClientIdentifier() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -64,12 +66,18 @@ public class PnDcp_Block_DhcpOptionDhcpClientIdentifier extends PnDcp_Block impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnDcp_Block_DhcpOptionDhcpClientIdentifier _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class PnDcp_Block_DhcpOptionVendorSpecificInformation extends PnDcp_Block
 
   public PnDcp_Block_DhcpOptionVendorSpecificInformation() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -65,12 +67,18 @@ public class PnDcp_Block_DhcpOptionVendorSpecificInformation extends PnDcp_Block
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnDcp_Block_DhcpOptionVendorSpecificInformation _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -73,6 +73,8 @@ public class PnDcp_Pdu_RealTimeCyclic extends PnDcp_Pdu implements Message {
     this.dataValid = dataValid;
     this.redundancy = redundancy;
     this.statePrimary = statePrimary;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PnIo_CyclicServiceDataUnit getDataUnit() {
@@ -200,11 +202,16 @@ public class PnDcp_Pdu_RealTimeCyclic extends PnDcp_Pdu implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnDcp_Pdu_RealTimeCyclic _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Manual Field (dataUnit)
     lengthInBits += ((dataUnit.getLengthInBytes())) * (8);
@@ -239,6 +246,7 @@ public class PnDcp_Pdu_RealTimeCyclic extends PnDcp_Pdu implements Message {
     // Reserved Field (reserved)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
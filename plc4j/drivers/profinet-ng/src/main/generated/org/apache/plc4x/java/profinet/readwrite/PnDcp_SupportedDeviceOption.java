@@ -45,6 +45,8 @@ public class PnDcp_SupportedDeviceOption implements Message {
     super();
     this.option = option;
     this.suboption = suboption;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public PnDcp_BlockOptions getOption() {
@@ -86,11 +88,16 @@ public class PnDcp_SupportedDeviceOption implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnDcp_SupportedDeviceOption _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (option)
     lengthInBits += 8;
@@ -98,6 +105,7 @@ public class PnDcp_SupportedDeviceOption implements Message {
     // Simple field (suboption)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
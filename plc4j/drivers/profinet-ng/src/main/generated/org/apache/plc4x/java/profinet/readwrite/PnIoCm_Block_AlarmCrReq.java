@@ -85,6 +85,8 @@ public class PnIoCm_Block_AlarmCrReq extends PnIoCm_Block implements Message {
     this.maxAlarmDataLength = maxAlarmDataLength;
     this.alarmCtrTagHeaderHigh = alarmCtrTagHeaderHigh;
     this.alarmCtrTagHeaderLow = alarmCtrTagHeaderLow;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -253,11 +255,16 @@ public class PnIoCm_Block_AlarmCrReq extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Block_AlarmCrReq _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -301,6 +308,7 @@ public class PnIoCm_Block_AlarmCrReq extends PnIoCm_Block implements Message {
     // Simple field (alarmCtrTagHeaderLow)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -67,6 +67,8 @@ public class PnIoCm_Block_ArRes extends PnIoCm_Block implements Message {
     this.sessionKey = sessionKey;
     this.cmResponderMacAddr = cmResponderMacAddr;
     this.responderUDPRTPort = responderUDPRTPort;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -170,11 +172,16 @@ public class PnIoCm_Block_ArRes extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Block_ArRes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -200,6 +207,7 @@ public class PnIoCm_Block_ArRes extends PnIoCm_Block implements Message {
     // Simple field (responderUDPRTPort)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -115,7 +115,9 @@ public class PnIoCm_Block_IoCrReq extends PnIoCm_Block implements Message {
     this.dataHoldFactor = dataHoldFactor;
     this.ioCrTagHeader = ioCrTagHeader;
     this.ioCrMulticastMacAdr = ioCrMulticastMacAdr;
-    this.apis = apis;
+    this.apis = (apis == null) ? null : Collections.unmodifiableList(new ArrayList<>(apis));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -407,11 +409,16 @@ public class PnIoCm_Block_IoCrReq extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Block_IoCrReq _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -497,6 +504,7 @@ public class PnIoCm_Block_IoCrReq extends PnIoCm_Block implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class PnIoCm_Block_IoCrRes extends PnIoCm_Block implements Message {
     this.ioCrType = ioCrType;
     this.ioCrReference = ioCrReference;
     this.frameId = frameId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -143,11 +145,16 @@ public class PnIoCm_Block_IoCrRes extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Block_IoCrRes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -167,6 +174,7 @@ public class PnIoCm_Block_IoCrRes extends PnIoCm_Block implements Message {
     // Simple field (frameId)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
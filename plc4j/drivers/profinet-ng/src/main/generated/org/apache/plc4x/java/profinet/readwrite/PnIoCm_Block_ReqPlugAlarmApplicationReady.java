@@ -44,6 +44,8 @@ public class PnIoCm_Block_ReqPlugAlarmApplicationReady extends PnIoCm_Block impl
 
   public PnIoCm_Block_ReqPlugAlarmApplicationReady() {
     super();
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -60,12 +62,18 @@ public class PnIoCm_Block_ReqPlugAlarmApplicationReady extends PnIoCm_Block impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Block_ReqPlugAlarmApplicationReady _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -68,6 +68,8 @@ public class PnIoCm_Control_Response_ApplicationReady extends PnIoCm_Block imple
     this.sessionKey = sessionKey;
     this.controlCommand = controlCommand;
     this.controlBlockProperties = controlBlockProperties;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -173,11 +175,16 @@ public class PnIoCm_Control_Response_ApplicationReady extends PnIoCm_Block imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Control_Response_ApplicationReady _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -206,6 +213,7 @@ public class PnIoCm_Control_Response_ApplicationReady extends PnIoCm_Block imple
     // Simple field (controlBlockProperties)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
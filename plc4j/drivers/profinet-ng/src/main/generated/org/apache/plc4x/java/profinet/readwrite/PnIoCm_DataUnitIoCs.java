@@ -50,6 +50,8 @@ public class PnIoCm_DataUnitIoCs implements Message {
     this.dataState = dataState;
     this.instance = instance;
     this.extension = extension;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getDataState() {
@@ -105,11 +107,16 @@ public class PnIoCm_DataUnitIoCs implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnIoCm_DataUnitIoCs _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dataState)
     lengthInBits += 1;
@@ -123,6 +130,7 @@ public class PnIoCm_DataUnitIoCs implements Message {
     // Simple field (extension)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,7 +55,10 @@ public class PnIoCm_ExpectedSubmoduleBlockReqApi implements Message {
     this.slotNumber = slotNumber;
     this.moduleIdentNumber = moduleIdentNumber;
     this.moduleProperties = moduleProperties;
-    this.submodules = submodules;
+    this.submodules =
+        (submodules == null) ? null : Collections.unmodifiableList(new ArrayList<>(submodules));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getSlotNumber() {
@@ -132,11 +135,16 @@ public class PnIoCm_ExpectedSubmoduleBlockReqApi implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnIoCm_ExpectedSubmoduleBlockReqApi _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (api)
     lengthInBits += 32;
@@ -162,6 +170,7 @@ public class PnIoCm_ExpectedSubmoduleBlockReqApi implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,6 +47,8 @@ public class PnIoCm_IoDataObject implements Message {
     this.slotNumber = slotNumber;
     this.subSlotNumber = subSlotNumber;
     this.ioDataObjectFrameOffset = ioDataObjectFrameOffset;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getSlotNumber() {
@@ -95,11 +97,16 @@ public class PnIoCm_IoDataObject implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnIoCm_IoDataObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (slotNumber)
     lengthInBits += 16;
@@ -110,6 +117,7 @@ public class PnIoCm_IoDataObject implements Message {
     // Simple field (ioDataObjectFrameOffset)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
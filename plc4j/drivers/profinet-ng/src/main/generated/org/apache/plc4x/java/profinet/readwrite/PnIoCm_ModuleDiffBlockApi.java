@@ -45,7 +45,10 @@ public class PnIoCm_ModuleDiffBlockApi implements Message {
 
   public PnIoCm_ModuleDiffBlockApi(List<PnIoCm_ModuleDiffBlockApi_Module> modules) {
     super();
-    this.modules = modules;
+    this.modules =
+        (modules == null) ? null : Collections.unmodifiableList(new ArrayList<>(modules));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<PnIoCm_ModuleDiffBlockApi_Module> getModules() {
@@ -89,11 +92,16 @@ public class PnIoCm_ModuleDiffBlockApi implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnIoCm_ModuleDiffBlockApi _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (api)
     lengthInBits += 32;
@@ -110,6 +118,7 @@ public class PnIoCm_ModuleDiffBlockApi implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
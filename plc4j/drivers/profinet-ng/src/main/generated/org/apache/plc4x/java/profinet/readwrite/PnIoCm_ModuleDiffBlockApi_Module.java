@@ -52,7 +52,10 @@ public class PnIoCm_ModuleDiffBlockApi_Module implements Message {
     this.slotNumber = slotNumber;
     this.moduleIdentNumber = moduleIdentNumber;
     this.moduleState = moduleState;
-    this.submodules = submodules;
+    this.submodules =
+        (submodules == null) ? null : Collections.unmodifiableList(new ArrayList<>(submodules));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getSlotNumber() {
@@ -122,11 +125,16 @@ public class PnIoCm_ModuleDiffBlockApi_Module implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnIoCm_ModuleDiffBlockApi_Module _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (slotNumber)
     lengthInBits += 16;
@@ -149,6 +157,7 @@ public class PnIoCm_ModuleDiffBlockApi_Module implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
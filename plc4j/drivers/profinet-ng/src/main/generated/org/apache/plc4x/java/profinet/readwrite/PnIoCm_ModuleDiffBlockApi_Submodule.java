@@ -71,6 +71,8 @@ public class PnIoCm_ModuleDiffBlockApi_Submodule implements Message {
     this.maintenanceRequired = maintenanceRequired;
     this.qualifiedInfo = qualifiedInfo;
     this.addInfo = addInfo;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getSubslotNumber() {
@@ -201,11 +203,16 @@ public class PnIoCm_ModuleDiffBlockApi_Submodule implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnIoCm_ModuleDiffBlockApi_Submodule _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (subslotNumber)
     lengthInBits += 16;
@@ -237,6 +244,7 @@ public class PnIoCm_ModuleDiffBlockApi_Submodule implements Message {
     // Simple field (addInfo)
     lengthInBits += 3;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -66,7 +66,9 @@ public class PnIoCm_Packet_Res extends PnIoCm_Packet implements Message {
     this.errorCode = errorCode;
     this.arrayMaximumCount = arrayMaximumCount;
     this.arrayOffset = arrayOffset;
-    this.blocks = blocks;
+    this.blocks = (blocks == null) ? null : Collections.unmodifiableList(new ArrayList<>(blocks));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getErrorCode2() {
@@ -149,11 +151,16 @@ public class PnIoCm_Packet_Res extends PnIoCm_Packet implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Packet_Res _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (errorCode2)
     lengthInBits += 8;
@@ -186,6 +193,7 @@ public class PnIoCm_Packet_Res extends PnIoCm_Packet implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
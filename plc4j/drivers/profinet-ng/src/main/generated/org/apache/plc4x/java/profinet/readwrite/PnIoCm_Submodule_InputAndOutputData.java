@@ -72,6 +72,8 @@ public class PnIoCm_Submodule_InputAndOutputData extends PnIoCm_Submodule implem
         sharedInput);
     this.inputSubmoduleDataLength = inputSubmoduleDataLength;
     this.outputSubmoduleDataLength = outputSubmoduleDataLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getInputSubmoduleDataLength() {
@@ -177,11 +179,16 @@ public class PnIoCm_Submodule_InputAndOutputData extends PnIoCm_Submodule implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Submodule_InputAndOutputData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (inputDataDescription)
     lengthInBits += 16;
@@ -207,6 +214,7 @@ public class PnIoCm_Submodule_InputAndOutputData extends PnIoCm_Submodule implem
     // Const Field (ioOutputLengthIoPs)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
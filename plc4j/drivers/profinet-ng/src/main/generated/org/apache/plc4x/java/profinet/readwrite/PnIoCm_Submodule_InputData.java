@@ -66,6 +66,8 @@ public class PnIoCm_Submodule_InputData extends PnIoCm_Submodule implements Mess
         reduceInputModuleDataLength,
         sharedInput);
     this.inputSubmoduleDataLength = inputSubmoduleDataLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getInputSubmoduleDataLength() {
@@ -127,11 +129,16 @@ public class PnIoCm_Submodule_InputData extends PnIoCm_Submodule implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Submodule_InputData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (inputDataDescription)
     lengthInBits += 16;
@@ -145,6 +152,7 @@ public class PnIoCm_Submodule_InputData extends PnIoCm_Submodule implements Mess
     // Const Field (inputLengthIoPs)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,6 +62,8 @@ public class PnIoCm_Submodule_NoInputNoOutputData extends PnIoCm_Submodule imple
         reduceOutputModuleDataLength,
         reduceInputModuleDataLength,
         sharedInput);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getDataDescription() {
@@ -123,11 +125,16 @@ public class PnIoCm_Submodule_NoInputNoOutputData extends PnIoCm_Submodule imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Submodule_NoInputNoOutputData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (dataDescription)
     lengthInBits += 16;
@@ -141,6 +148,7 @@ public class PnIoCm_Submodule_NoInputNoOutputData extends PnIoCm_Submodule imple
     // Const Field (lengthIoPs)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class TlvIeee8023MacPhyConfigStatus extends TlvOrgSpecificIeee8023Unit im
     this.negotiationSupport = negotiationSupport;
     this.negotiationCapability = negotiationCapability;
     this.operationalMauType = operationalMauType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getNegotiationSupport() {
@@ -92,11 +94,16 @@ public class TlvIeee8023MacPhyConfigStatus extends TlvOrgSpecificIeee8023Unit im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvIeee8023MacPhyConfigStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (negotiationSupport)
     lengthInBits += 8;
@@ -107,6 +114,7 @@ public class TlvIeee8023MacPhyConfigStatus extends TlvOrgSpecificIeee8023Unit im
     // Simple field (operationalMauType)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class TlvOrganizationSpecific extends LldpUnit implements Message {
       short tlvIdLength, TlvOrganizationSpecificUnit organizationSpecificUnit) {
     super(tlvIdLength);
     this.organizationSpecificUnit = organizationSpecificUnit;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public TlvOrganizationSpecificUnit getOrganizationSpecificUnit() {
@@ -73,15 +75,21 @@ public class TlvOrganizationSpecific extends LldpUnit implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvOrganizationSpecific _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (organizationSpecificUnit)
     lengthInBits += organizationSpecificUnit.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class TlvPortId extends LldpUnit implements Message {
     super(tlvIdLength);
     this.portIdSubType = portIdSubType;
     this.portId = portId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getPortIdSubType() {
@@ -80,11 +82,16 @@ public class TlvPortId extends LldpUnit implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvPortId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (portIdSubType)
     lengthInBits += 8;
@@ -92,6 +99,7 @@ public class TlvPortId extends LldpUnit implements Message {
     // Simple field (portId)
     lengthInBits += (((tlvIdLength) - (1))) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
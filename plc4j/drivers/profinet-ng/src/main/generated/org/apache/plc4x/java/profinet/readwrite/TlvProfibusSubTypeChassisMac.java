@@ -48,6 +48,8 @@ public class TlvProfibusSubTypeChassisMac extends TlvOrgSpecificProfibusUnit imp
   public TlvProfibusSubTypeChassisMac(MacAddress macAddress) {
     super();
     this.macAddress = macAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public MacAddress getMacAddress() {
@@ -72,15 +74,21 @@ public class TlvProfibusSubTypeChassisMac extends TlvOrgSpecificProfibusUnit imp
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvProfibusSubTypeChassisMac _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (macAddress)
     lengthInBits += macAddress.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class TlvProfibusSubTypeMeasuredDelay extends TlvOrgSpecificProfibusUnit
     this.localPortTxDelay = localPortTxDelay;
     this.remotePortTxDelay = remotePortTxDelay;
     this.portCableDelay = portCableDelay;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getLocalPortRxDelay() {
@@ -113,11 +115,16 @@ public class TlvProfibusSubTypeMeasuredDelay extends TlvOrgSpecificProfibusUnit
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvProfibusSubTypeMeasuredDelay _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (localPortRxDelay)
     lengthInBits += 32;
@@ -134,6 +141,7 @@ public class TlvProfibusSubTypeMeasuredDelay extends TlvOrgSpecificProfibusUnit
     // Simple field (portCableDelay)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
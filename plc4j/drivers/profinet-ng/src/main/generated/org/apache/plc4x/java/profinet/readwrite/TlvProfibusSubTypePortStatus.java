@@ -59,6 +59,8 @@ public class TlvProfibusSubTypePortStatus extends TlvOrgSpecificProfibusUnit imp
     this.preample = preample;
     this.fragmentation = fragmentation;
     this.rtClass3PortStatus = rtClass3PortStatus;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getRtClass2PortStatus() {
@@ -116,11 +118,16 @@ public class TlvProfibusSubTypePortStatus extends TlvOrgSpecificProfibusUnit imp
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvProfibusSubTypePortStatus _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (rtClass2PortStatus)
     lengthInBits += 16;
@@ -140,6 +147,7 @@ public class TlvProfibusSubTypePortStatus extends TlvOrgSpecificProfibusUnit imp
     // Simple field (rtClass3PortStatus)
     lengthInBits += 3;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
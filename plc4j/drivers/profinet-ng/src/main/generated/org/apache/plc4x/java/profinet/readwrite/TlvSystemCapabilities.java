@@ -99,6 +99,8 @@ public class TlvSystemCapabilities extends LldpUnit implements Message {
     this.bridgeEnabled = bridgeEnabled;
     this.repeaterEnabled = repeaterEnabled;
     this.otherEnabled = otherEnabled;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getStationOnlyCapable() {
@@ -241,11 +243,16 @@ public class TlvSystemCapabilities extends LldpUnit implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvSystemCapabilities _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -301,6 +308,7 @@ public class TlvSystemCapabilities extends LldpUnit implements Message {
     // Simple field (otherEnabled)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class TlvSystemDescription extends LldpUnit implements Message {
   public TlvSystemDescription(short tlvIdLength, String chassisId) {
     super(tlvIdLength);
     this.chassisId = chassisId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public String getChassisId() {
@@ -71,15 +73,21 @@ public class TlvSystemDescription extends LldpUnit implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvSystemDescription _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (chassisId)
     lengthInBits += ((tlvIdLength)) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class TlvTimeToLive extends LldpUnit implements Message {
   public TlvTimeToLive(short tlvIdLength, int tlvTimeToLiveUnit) {
     super(tlvIdLength);
     this.tlvTimeToLiveUnit = tlvTimeToLiveUnit;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getTlvTimeToLiveUnit() {
@@ -71,15 +73,21 @@ public class TlvTimeToLive extends LldpUnit implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvTimeToLive _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (tlvTimeToLiveUnit)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class CheckPeers extends PnIoCm_Block implements Message {
     this.blockVersionLow = blockVersionLow;
     this.peerPortId = peerPortId;
     this.peerChassisId = peerChassisId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -141,11 +143,16 @@ public class CheckPeers extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CheckPeers _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -165,6 +172,7 @@ public class CheckPeers extends PnIoCm_Block implements Message {
     // Simple field (peerChassisId)
     lengthInBits += peerChassisId.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -82,6 +82,8 @@ public class IODReadResponseHeader extends PnIoCm_Block implements Message {
     this.recordDataLength = recordDataLength;
     this.additionalValue1 = additionalValue1;
     this.additionalValue2 = additionalValue2;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -251,11 +253,16 @@ public class IODReadResponseHeader extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IODReadResponseHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -302,6 +309,7 @@ public class IODReadResponseHeader extends PnIoCm_Block implements Message {
       lengthInBits += 8;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -79,6 +79,8 @@ public class IODWriteRequestHeader extends PnIoCm_Block implements Message {
     this.index = index;
     this.recordDataLength = recordDataLength;
     this.userData = userData;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -238,11 +240,16 @@ public class IODWriteRequestHeader extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IODWriteRequestHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -289,6 +296,7 @@ public class IODWriteRequestHeader extends PnIoCm_Block implements Message {
       lengthInBits += userData.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
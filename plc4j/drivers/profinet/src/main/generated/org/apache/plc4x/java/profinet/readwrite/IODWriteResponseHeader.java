@@ -76,6 +76,8 @@ public class IODWriteResponseHeader extends PnIoCm_Block implements Message {
     this.subSlotNumber = subSlotNumber;
     this.index = index;
     this.recordDataLength = recordDataLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -219,11 +221,16 @@ public class IODWriteResponseHeader extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     IODWriteResponseHeader _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -265,6 +272,7 @@ public class IODWriteResponseHeader extends PnIoCm_Block implements Message {
       lengthInBits += 8;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
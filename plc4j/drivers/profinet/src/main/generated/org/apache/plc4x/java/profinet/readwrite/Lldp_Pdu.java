@@ -42,7 +42,12 @@ public class Lldp_Pdu implements Message {
 
   public Lldp_Pdu(List<LldpUnit> lldpParameters) {
     super();
-    this.lldpParameters = lldpParameters;
+    this.lldpParameters =
+        (lldpParameters == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(lldpParameters));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<LldpUnit> getLldpParameters() {
@@ -71,11 +76,16 @@ public class Lldp_Pdu implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Lldp_Pdu _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Manual Array Field (lldpParameters)
     lengthInBits +=
@@ -83,6 +93,7 @@ public class Lldp_Pdu implements Message {
                 lldpParameters)
             * 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
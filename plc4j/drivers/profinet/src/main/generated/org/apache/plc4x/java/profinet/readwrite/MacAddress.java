@@ -43,6 +43,8 @@ public class MacAddress implements Message {
   public MacAddress(byte[] address) {
     super();
     this.address = address;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getAddress() {
@@ -65,17 +67,23 @@ public class MacAddress implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     MacAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (address != null) {
       lengthInBits += 8 * address.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,6 +62,8 @@ public class PcDcp_Pdu_DelayReq extends PnDcp_Pdu implements Message {
     this.sequenceId = sequenceId;
     this.delayInNs = delayInNs;
     this.portMacAddress = portMacAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getSequenceId() {
@@ -183,11 +185,16 @@ public class PcDcp_Pdu_DelayReq extends PnDcp_Pdu implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PcDcp_Pdu_DelayReq _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 32;
@@ -222,6 +229,7 @@ public class PcDcp_Pdu_DelayReq extends PnDcp_Pdu implements Message {
     // Const Field (endLength)
     lengthInBits += 9;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,8 +57,13 @@ public class PnDcp_Block_DevicePropertiesDeviceOptions extends PnDcp_Block imple
   public PnDcp_Block_DevicePropertiesDeviceOptions(
       List<PnDcp_SupportedDeviceOption> supportedOptions, Integer blockLength) {
     super();
-    this.supportedOptions = supportedOptions;
+    this.supportedOptions =
+        (supportedOptions == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(supportedOptions));
     this.blockLength = blockLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<PnDcp_SupportedDeviceOption> getSupportedOptions() {
@@ -93,11 +98,16 @@ public class PnDcp_Block_DevicePropertiesDeviceOptions extends PnDcp_Block imple
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnDcp_Block_DevicePropertiesDeviceOptions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 16;
@@ -109,6 +119,7 @@ public class PnDcp_Block_DevicePropertiesDeviceOptions extends PnDcp_Block imple
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -72,6 +72,8 @@ public class PnDcp_Block_IpParameter extends PnDcp_Block implements Message {
     this.ipAddress = ipAddress;
     this.subnetMask = subnetMask;
     this.standardGateway = standardGateway;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getIpConflictDetected() {
@@ -168,11 +170,16 @@ public class PnDcp_Block_IpParameter extends PnDcp_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnDcp_Block_IpParameter _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -204,6 +211,7 @@ public class PnDcp_Block_IpParameter extends PnDcp_Block implements Message {
       lengthInBits += 8 * standardGateway.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -71,6 +71,8 @@ public class PnDcp_Pdu_AlarmLow extends PnDcp_Pdu implements Message {
     this.senSeqNum = senSeqNum;
     this.ackSeqNum = ackSeqNum;
     this.varPart = varPart;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getAlarmDstEndpoint() {
@@ -195,11 +197,16 @@ public class PnDcp_Pdu_AlarmLow extends PnDcp_Pdu implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnDcp_Pdu_AlarmLow _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (alarmDstEndpoint)
     lengthInBits += 16;
@@ -233,6 +240,7 @@ public class PnDcp_Pdu_AlarmLow extends PnDcp_Pdu implements Message {
       lengthInBits += 8 * varPart.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -125,11 +125,16 @@ public abstract class PnDcp_Pdu_IdentifyRes_Payload implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnDcp_Pdu_IdentifyRes_Payload _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Discriminator Field (serviceId)
     lengthInBits += 8;
@@ -148,6 +153,7 @@ public abstract class PnDcp_Pdu_IdentifyRes_Payload implements Message {
 
     // Length of sub-type elements will be added by sub-type...
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -49,6 +49,8 @@ public class PnDcp_ServiceType implements Message {
     super();
     this.notSupported = notSupported;
     this.response = response;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getNotSupported() {
@@ -100,11 +102,16 @@ public class PnDcp_ServiceType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnDcp_ServiceType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 5;
@@ -118,6 +125,7 @@ public class PnDcp_ServiceType implements Message {
     // Simple field (response)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
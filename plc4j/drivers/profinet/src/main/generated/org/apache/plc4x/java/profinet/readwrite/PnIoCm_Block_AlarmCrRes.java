@@ -61,6 +61,8 @@ public class PnIoCm_Block_AlarmCrRes extends PnIoCm_Block implements Message {
     this.alarmType = alarmType;
     this.localAlarmReference = localAlarmReference;
     this.maxAlarmDataLength = maxAlarmDataLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -145,11 +147,16 @@ public class PnIoCm_Block_AlarmCrRes extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Block_AlarmCrRes _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -169,6 +176,7 @@ public class PnIoCm_Block_AlarmCrRes extends PnIoCm_Block implements Message {
     // Simple field (maxAlarmDataLength)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
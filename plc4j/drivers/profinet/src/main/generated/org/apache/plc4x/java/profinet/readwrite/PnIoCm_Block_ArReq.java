@@ -107,6 +107,8 @@ public class PnIoCm_Block_ArReq extends PnIoCm_Block implements Message {
     this.cmInitiatorActivityTimeoutFactor = cmInitiatorActivityTimeoutFactor;
     this.cmInitiatorUdpRtPort = cmInitiatorUdpRtPort;
     this.cmInitiatorStationName = cmInitiatorStationName;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -370,11 +372,16 @@ public class PnIoCm_Block_ArReq extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Block_ArReq _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -445,6 +452,7 @@ public class PnIoCm_Block_ArReq extends PnIoCm_Block implements Message {
     // Simple field (cmInitiatorStationName)
     lengthInBits += (STR_LEN(getCmInitiatorStationName())) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class PnIoCm_Block_IAndM1 extends PnIoCm_Block implements Message {
     this.blockVersionLow = blockVersionLow;
     this.tagFunction = tagFunction;
     this.tagLocation = tagLocation;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -124,11 +126,16 @@ public class PnIoCm_Block_IAndM1 extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Block_IAndM1 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -145,6 +152,7 @@ public class PnIoCm_Block_IAndM1 extends PnIoCm_Block implements Message {
     // Simple field (tagLocation)
     lengthInBits += 176;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class PnIoCm_Block_IAndM3 extends PnIoCm_Block implements Message {
     this.blockVersionHigh = blockVersionHigh;
     this.blockVersionLow = blockVersionLow;
     this.descriptor = descriptor;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -110,11 +112,16 @@ public class PnIoCm_Block_IAndM3 extends PnIoCm_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Block_IAndM3 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -128,6 +135,7 @@ public class PnIoCm_Block_IAndM3 extends PnIoCm_Block implements Message {
     // Simple field (descriptor)
     lengthInBits += 432;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
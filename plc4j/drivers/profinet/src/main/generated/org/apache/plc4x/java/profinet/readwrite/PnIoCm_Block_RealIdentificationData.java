@@ -52,7 +52,9 @@ public class PnIoCm_Block_RealIdentificationData extends PnIoCm_Block implements
     super();
     this.blockVersionHigh = blockVersionHigh;
     this.blockVersionLow = blockVersionLow;
-    this.apis = apis;
+    this.apis = (apis == null) ? null : Collections.unmodifiableList(new ArrayList<>(apis));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -117,11 +119,16 @@ public class PnIoCm_Block_RealIdentificationData extends PnIoCm_Block implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Block_RealIdentificationData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -144,6 +151,7 @@ public class PnIoCm_Block_RealIdentificationData extends PnIoCm_Block implements
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
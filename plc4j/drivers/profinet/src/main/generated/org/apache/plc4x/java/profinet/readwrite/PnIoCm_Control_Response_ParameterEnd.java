@@ -66,6 +66,8 @@ public class PnIoCm_Control_Response_ParameterEnd extends PnIoCm_Block implement
     this.arUuid = arUuid;
     this.sessionKey = sessionKey;
     this.controlCommand = controlCommand;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBlockVersionHigh() {
@@ -167,11 +169,16 @@ public class PnIoCm_Control_Response_ParameterEnd extends PnIoCm_Block implement
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnIoCm_Control_Response_ParameterEnd _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (blockLength)
     lengthInBits += 16;
@@ -200,6 +207,7 @@ public class PnIoCm_Control_Response_ParameterEnd extends PnIoCm_Block implement
     // Reserved Field (reserved)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class PnIoCm_DataUnitDataObject implements Message {
     this.dataState = dataState;
     this.iops = iops;
     this.dataObjectLength = dataObjectLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getDataState() {
@@ -84,11 +86,16 @@ public class PnIoCm_DataUnitDataObject implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnIoCm_DataUnitDataObject _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (dataState != null) {
@@ -98,6 +105,7 @@ public class PnIoCm_DataUnitDataObject implements Message {
     // Simple field (iops)
     lengthInBits += iops.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
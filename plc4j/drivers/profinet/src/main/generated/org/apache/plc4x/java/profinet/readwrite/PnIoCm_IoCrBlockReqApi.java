@@ -46,8 +46,13 @@ public class PnIoCm_IoCrBlockReqApi implements Message {
 
   public PnIoCm_IoCrBlockReqApi(List<PnIoCm_IoDataObject> ioDataObjects, List<PnIoCm_IoCs> ioCss) {
     super();
-    this.ioDataObjects = ioDataObjects;
-    this.ioCss = ioCss;
+    this.ioDataObjects =
+        (ioDataObjects == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(ioDataObjects));
+    this.ioCss = (ioCss == null) ? null : Collections.unmodifiableList(new ArrayList<>(ioCss));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<PnIoCm_IoDataObject> getIoDataObjects() {
@@ -111,11 +116,16 @@ public class PnIoCm_IoCrBlockReqApi implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnIoCm_IoCrBlockReqApi _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (api)
     lengthInBits += 32;
@@ -144,6 +154,7 @@ public class PnIoCm_IoCrBlockReqApi implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -45,7 +45,9 @@ public class PnIoCm_RealIdentificationApi implements Message {
 
   public PnIoCm_RealIdentificationApi(List<PnIoCm_RealIdentificationApi_Slot> slots) {
     super();
-    this.slots = slots;
+    this.slots = (slots == null) ? null : Collections.unmodifiableList(new ArrayList<>(slots));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<PnIoCm_RealIdentificationApi_Slot> getSlots() {
@@ -89,11 +91,16 @@ public class PnIoCm_RealIdentificationApi implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnIoCm_RealIdentificationApi _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (api)
     lengthInBits += 32;
@@ -110,6 +117,7 @@ public class PnIoCm_RealIdentificationApi implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,7 +47,10 @@ public class PnIoCm_RealIdentificationApi_Slot implements Message {
     super();
     this.slotNumber = slotNumber;
     this.moduleIdentNumber = moduleIdentNumber;
-    this.subslots = subslots;
+    this.subslots =
+        (subslots == null) ? null : Collections.unmodifiableList(new ArrayList<>(subslots));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getSlotNumber() {
@@ -102,11 +105,16 @@ public class PnIoCm_RealIdentificationApi_Slot implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnIoCm_RealIdentificationApi_Slot _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (slotNumber)
     lengthInBits += 16;
@@ -126,6 +134,7 @@ public class PnIoCm_RealIdentificationApi_Slot implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
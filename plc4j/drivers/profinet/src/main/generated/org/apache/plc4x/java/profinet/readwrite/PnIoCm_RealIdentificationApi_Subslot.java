@@ -45,6 +45,8 @@ public class PnIoCm_RealIdentificationApi_Subslot implements Message {
     super();
     this.subslotNumber = subslotNumber;
     this.submoduleIdentNumber = submoduleIdentNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getSubslotNumber() {
@@ -82,11 +84,16 @@ public class PnIoCm_RealIdentificationApi_Subslot implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     PnIoCm_RealIdentificationApi_Subslot _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (subslotNumber)
     lengthInBits += 16;
@@ -94,6 +101,7 @@ public class PnIoCm_RealIdentificationApi_Subslot implements Message {
     // Simple field (submoduleIdentNumber)
     lengthInBits += 32;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -50,6 +50,8 @@ public class TlvChassisId extends LldpUnit implements Message {
     super(tlvIdLength);
     this.chassisIdSubType = chassisIdSubType;
     this.chassisId = chassisId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getChassisIdSubType() {
@@ -81,11 +83,16 @@ public class TlvChassisId extends LldpUnit implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvChassisId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (chassisIdSubType)
     lengthInBits += 8;
@@ -93,6 +100,7 @@ public class TlvChassisId extends LldpUnit implements Message {
     // Simple field (chassisId)
     lengthInBits += (((tlvIdLength) - (1))) * (8);
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
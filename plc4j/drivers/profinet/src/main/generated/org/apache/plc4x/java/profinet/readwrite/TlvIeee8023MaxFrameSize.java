@@ -48,6 +48,8 @@ public class TlvIeee8023MaxFrameSize extends TlvOrgSpecificIeee8023Unit implemen
   public TlvIeee8023MaxFrameSize(int maxSize) {
     super();
     this.maxSize = maxSize;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getMaxSize() {
@@ -72,15 +74,21 @@ public class TlvIeee8023MaxFrameSize extends TlvOrgSpecificIeee8023Unit implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvIeee8023MaxFrameSize _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (maxSize)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -62,6 +62,8 @@ public class TlvManagementAddress extends LldpUnit implements Message {
     this.interfaceSubType = interfaceSubType;
     this.interfaceNumber = interfaceNumber;
     this.oidStringLength = oidStringLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public ManagementAddressSubType getAddressSubType() {
@@ -126,11 +128,16 @@ public class TlvManagementAddress extends LldpUnit implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvManagementAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (addressStringLength)
     lengthInBits += 8;
@@ -150,6 +157,7 @@ public class TlvManagementAddress extends LldpUnit implements Message {
     // Simple field (oidStringLength)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
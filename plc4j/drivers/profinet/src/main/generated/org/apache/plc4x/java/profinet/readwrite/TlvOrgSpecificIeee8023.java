@@ -48,6 +48,8 @@ public class TlvOrgSpecificIeee8023 extends TlvOrganizationSpecificUnit implemen
   public TlvOrgSpecificIeee8023(TlvOrgSpecificIeee8023Unit specificUnit) {
     super();
     this.specificUnit = specificUnit;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public TlvOrgSpecificIeee8023Unit getSpecificUnit() {
@@ -72,15 +74,21 @@ public class TlvOrgSpecificIeee8023 extends TlvOrganizationSpecificUnit implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     TlvOrgSpecificIeee8023 _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (specificUnit)
     lengthInBits += specificUnit.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
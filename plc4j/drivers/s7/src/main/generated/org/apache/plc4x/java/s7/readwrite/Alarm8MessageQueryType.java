@@ -58,7 +58,12 @@ public class Alarm8MessageQueryType implements Message {
     this.returnCode = returnCode;
     this.transportSize = transportSize;
     this.byteCount = byteCount;
-    this.messageObjects = messageObjects;
+    this.messageObjects =
+        (messageObjects == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(messageObjects));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getFunctionId() {
@@ -130,11 +135,16 @@ public class Alarm8MessageQueryType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Alarm8MessageQueryType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (functionId)
     lengthInBits += 8;
@@ -160,6 +170,7 @@ public class Alarm8MessageQueryType implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
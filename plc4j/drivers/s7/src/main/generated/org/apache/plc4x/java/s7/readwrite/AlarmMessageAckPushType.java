@@ -52,7 +52,12 @@ public class AlarmMessageAckPushType implements Message {
     this.timeStamp = timeStamp;
     this.functionId = functionId;
     this.numberOfObjects = numberOfObjects;
-    this.messageObjects = messageObjects;
+    this.messageObjects =
+        (messageObjects == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(messageObjects));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DateAndTime getTimeStamp() {
@@ -96,11 +101,16 @@ public class AlarmMessageAckPushType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AlarmMessageAckPushType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (timeStamp)
     lengthInBits += timeStamp.getLengthInBits();
@@ -120,6 +130,7 @@ public class AlarmMessageAckPushType implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
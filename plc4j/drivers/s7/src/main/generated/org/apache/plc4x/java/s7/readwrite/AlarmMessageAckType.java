@@ -47,7 +47,12 @@ public class AlarmMessageAckType implements Message {
     super();
     this.functionId = functionId;
     this.numberOfObjects = numberOfObjects;
-    this.messageObjects = messageObjects;
+    this.messageObjects =
+        (messageObjects == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(messageObjects));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getFunctionId() {
@@ -84,11 +89,16 @@ public class AlarmMessageAckType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AlarmMessageAckType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (functionId)
     lengthInBits += 8;
@@ -105,6 +115,7 @@ public class AlarmMessageAckType implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
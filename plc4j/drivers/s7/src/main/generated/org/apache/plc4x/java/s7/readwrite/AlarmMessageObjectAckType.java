@@ -60,6 +60,8 @@ public class AlarmMessageObjectAckType implements Message {
     this.eventId = eventId;
     this.ackStateGoing = ackStateGoing;
     this.ackStateComing = ackStateComing;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SyntaxIdType getSyntaxId() {
@@ -128,11 +130,16 @@ public class AlarmMessageObjectAckType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AlarmMessageObjectAckType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (variableSpec)
     lengthInBits += 8;
@@ -155,6 +162,7 @@ public class AlarmMessageObjectAckType implements Message {
     // Simple field (ackStateComing)
     lengthInBits += ackStateComing.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
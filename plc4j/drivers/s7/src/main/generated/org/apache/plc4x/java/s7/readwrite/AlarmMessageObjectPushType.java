@@ -70,7 +70,12 @@ public class AlarmMessageObjectPushType implements Message {
     this.localState = localState;
     this.ackStateGoing = ackStateGoing;
     this.ackStateComing = ackStateComing;
-    this.AssociatedValues = AssociatedValues;
+    this.AssociatedValues =
+        (AssociatedValues == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(AssociatedValues));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getLengthSpec() {
@@ -160,11 +165,16 @@ public class AlarmMessageObjectPushType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AlarmMessageObjectPushType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (variableSpec)
     lengthInBits += 8;
@@ -202,6 +212,7 @@ public class AlarmMessageObjectPushType implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
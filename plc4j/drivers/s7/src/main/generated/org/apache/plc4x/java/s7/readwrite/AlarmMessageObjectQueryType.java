@@ -68,6 +68,8 @@ public class AlarmMessageObjectQueryType implements Message {
     this.valueComing = valueComing;
     this.timeGoing = timeGoing;
     this.valueGoing = valueGoing;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getLengthDataset() {
@@ -149,11 +151,16 @@ public class AlarmMessageObjectQueryType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AlarmMessageObjectQueryType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (lengthDataset)
     lengthInBits += 8;
@@ -185,6 +192,7 @@ public class AlarmMessageObjectQueryType implements Message {
     // Simple field (valueGoing)
     lengthInBits += valueGoing.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
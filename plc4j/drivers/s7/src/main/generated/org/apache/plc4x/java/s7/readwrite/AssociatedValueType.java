@@ -52,7 +52,9 @@ public class AssociatedValueType implements Message {
     this.returnCode = returnCode;
     this.transportSize = transportSize;
     this.valueLength = valueLength;
-    this.data = data;
+    this.data = (data == null) ? null : Collections.unmodifiableList(new ArrayList<>(data));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DataTransportErrorCode getReturnCode() {
@@ -115,11 +117,16 @@ public class AssociatedValueType implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     AssociatedValueType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (returnCode)
     lengthInBits += 8;
@@ -135,6 +142,7 @@ public class AssociatedValueType implements Message {
       lengthInBits += 8 * data.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
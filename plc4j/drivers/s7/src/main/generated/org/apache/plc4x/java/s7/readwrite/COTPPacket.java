@@ -46,7 +46,8 @@ public abstract class COTPPacket implements Message {
 
   public COTPPacket(List<COTPParameter> parameters, S7Message payload) {
     super();
-    this.parameters = parameters;
+    this.parameters =
+        (parameters == null) ? null : Collections.unmodifiableList(new ArrayList<>(parameters));
     this.payload = payload;
   }
 
@@ -96,11 +97,16 @@ public abstract class COTPPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     COTPPacket _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (headerLength)
     lengthInBits += 8;
@@ -122,6 +128,7 @@ public abstract class COTPPacket implements Message {
       lengthInBits += payload.getLengthInBits();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -57,6 +57,8 @@ public class COTPPacketConnectionRequest extends COTPPacket implements Message {
     this.destinationReference = destinationReference;
     this.sourceReference = sourceReference;
     this.protocolClass = protocolClass;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getDestinationReference() {
@@ -102,11 +104,16 @@ public class COTPPacketConnectionRequest extends COTPPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     COTPPacketConnectionRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (destinationReference)
     lengthInBits += 16;
@@ -117,6 +124,7 @@ public class COTPPacketConnectionRequest extends COTPPacket implements Message {
     // Simple field (protocolClass)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
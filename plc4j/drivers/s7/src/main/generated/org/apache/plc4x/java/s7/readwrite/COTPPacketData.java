@@ -51,6 +51,8 @@ public class COTPPacketData extends COTPPacket implements Message {
     super(parameters, payload);
     this.eot = eot;
     this.tpduRef = tpduRef;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getEot() {
@@ -81,11 +83,16 @@ public class COTPPacketData extends COTPPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     COTPPacketData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (eot)
     lengthInBits += 1;
@@ -93,6 +100,7 @@ public class COTPPacketData extends COTPPacket implements Message {
     // Simple field (tpduRef)
     lengthInBits += 7;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class COTPPacketTpduError extends COTPPacket implements Message {
     super(parameters, payload);
     this.destinationReference = destinationReference;
     this.rejectCause = rejectCause;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getDestinationReference() {
@@ -85,11 +87,16 @@ public class COTPPacketTpduError extends COTPPacket implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     COTPPacketTpduError _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (destinationReference)
     lengthInBits += 16;
@@ -97,6 +104,7 @@ public class COTPPacketTpduError extends COTPPacket implements Message {
     // Simple field (rejectCause)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
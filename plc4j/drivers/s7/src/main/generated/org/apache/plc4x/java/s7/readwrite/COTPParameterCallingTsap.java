@@ -48,6 +48,8 @@ public class COTPParameterCallingTsap extends COTPParameter implements Message {
   public COTPParameterCallingTsap(int tsapId) {
     super();
     this.tsapId = tsapId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getTsapId() {
@@ -72,15 +74,21 @@ public class COTPParameterCallingTsap extends COTPParameter implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     COTPParameterCallingTsap _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (tsapId)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -48,6 +48,8 @@ public class COTPParameterChecksum extends COTPParameter implements Message {
   public COTPParameterChecksum(short crc) {
     super();
     this.crc = crc;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getCrc() {
@@ -72,15 +74,21 @@ public class COTPParameterChecksum extends COTPParameter implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     COTPParameterChecksum _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (crc)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
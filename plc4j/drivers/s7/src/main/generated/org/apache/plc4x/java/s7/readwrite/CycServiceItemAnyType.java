@@ -60,6 +60,8 @@ public class CycServiceItemAnyType extends CycServiceItemType implements Message
     this.dbNumber = dbNumber;
     this.memoryArea = memoryArea;
     this.address = address;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public TransportSize getTransportSize() {
@@ -120,11 +122,16 @@ public class CycServiceItemAnyType extends CycServiceItemType implements Message
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CycServiceItemAnyType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Enum Field (transportSize)
     lengthInBits += 8;
@@ -141,6 +148,7 @@ public class CycServiceItemAnyType extends CycServiceItemType implements Message
     // Simple field (address)
     lengthInBits += 24;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -47,7 +47,9 @@ public class CycServiceItemDbReadType extends CycServiceItemType implements Mess
       short byteLength, short syntaxId, short numberOfAreas, List<SubItem> items) {
     super(byteLength, syntaxId);
     this.numberOfAreas = numberOfAreas;
-    this.items = items;
+    this.items = (items == null) ? null : Collections.unmodifiableList(new ArrayList<>(items));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getNumberOfAreas() {
@@ -79,11 +81,16 @@ public class CycServiceItemDbReadType extends CycServiceItemType implements Mess
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     CycServiceItemDbReadType _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numberOfAreas)
     lengthInBits += 8;
@@ -97,6 +104,7 @@ public class CycServiceItemDbReadType extends CycServiceItemType implements Mess
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
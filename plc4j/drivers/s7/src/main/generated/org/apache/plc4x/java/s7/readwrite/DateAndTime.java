@@ -65,6 +65,8 @@ public class DateAndTime implements Message {
     this.seconds = seconds;
     this.msec = msec;
     this.dow = dow;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getYear() {
@@ -143,11 +145,16 @@ public class DateAndTime implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     DateAndTime _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (year)
     lengthInBits += 8;
@@ -173,6 +180,7 @@ public class DateAndTime implements Message {
     // Simple field (dow)
     lengthInBits += 4;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
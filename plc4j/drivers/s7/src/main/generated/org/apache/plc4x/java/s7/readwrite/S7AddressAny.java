@@ -64,6 +64,8 @@ public class S7AddressAny extends S7Address implements Message {
     this.area = area;
     this.byteAddress = byteAddress;
     this.bitAddress = bitAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public TransportSize getTransportSize() {
@@ -133,11 +135,16 @@ public class S7AddressAny extends S7Address implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7AddressAny _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Enum Field (transportSize)
     lengthInBits += 8;
@@ -160,6 +167,7 @@ public class S7AddressAny extends S7Address implements Message {
     // Simple field (bitAddress)
     lengthInBits += 3;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class S7MessageObjectRequest extends S7DataAlarmMessage implements Messag
     this.syntaxId = syntaxId;
     this.queryType = queryType;
     this.alarmType = alarmType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SyntaxIdType getSyntaxId() {
@@ -126,11 +128,16 @@ public class S7MessageObjectRequest extends S7DataAlarmMessage implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7MessageObjectRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (variableSpec)
     lengthInBits += 8;
@@ -153,6 +160,7 @@ public class S7MessageObjectRequest extends S7DataAlarmMessage implements Messag
     // Simple field (alarmType)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
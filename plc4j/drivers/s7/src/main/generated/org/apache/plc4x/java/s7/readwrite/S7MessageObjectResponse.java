@@ -51,6 +51,8 @@ public class S7MessageObjectResponse extends S7DataAlarmMessage implements Messa
     super();
     this.returnCode = returnCode;
     this.transportSize = transportSize;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DataTransportErrorCode getReturnCode() {
@@ -99,11 +101,16 @@ public class S7MessageObjectResponse extends S7DataAlarmMessage implements Messa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7MessageObjectResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (returnCode)
     lengthInBits += 8;
@@ -114,6 +121,7 @@ public class S7MessageObjectResponse extends S7DataAlarmMessage implements Messa
     // Reserved Field (reserved)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
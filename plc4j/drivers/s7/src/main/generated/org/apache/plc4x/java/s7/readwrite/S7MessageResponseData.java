@@ -55,6 +55,8 @@ public class S7MessageResponseData extends S7Message implements Message {
     super(tpduReference, parameter, payload);
     this.errorClass = errorClass;
     this.errorCode = errorCode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getErrorClass() {
@@ -85,11 +87,16 @@ public class S7MessageResponseData extends S7Message implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7MessageResponseData _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (errorClass)
     lengthInBits += 8;
@@ -97,6 +104,7 @@ public class S7MessageResponseData extends S7Message implements Message {
     // Simple field (errorCode)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -65,6 +65,8 @@ public class S7ParameterModeTransition extends S7Parameter implements Message {
     this.cpuFunctionGroup = cpuFunctionGroup;
     this.currentMode = currentMode;
     this.sequenceNumber = sequenceNumber;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getMethod() {
@@ -124,11 +126,16 @@ public class S7ParameterModeTransition extends S7Parameter implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7ParameterModeTransition _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 16;
@@ -151,6 +158,7 @@ public class S7ParameterModeTransition extends S7Parameter implements Message {
     // Simple field (sequenceNumber)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
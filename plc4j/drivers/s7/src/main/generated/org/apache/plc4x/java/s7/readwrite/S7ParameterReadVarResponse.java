@@ -52,6 +52,8 @@ public class S7ParameterReadVarResponse extends S7Parameter implements Message {
   public S7ParameterReadVarResponse(short numItems) {
     super();
     this.numItems = numItems;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getNumItems() {
@@ -75,15 +77,21 @@ public class S7ParameterReadVarResponse extends S7Parameter implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7ParameterReadVarResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (numItems)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -56,6 +56,8 @@ public class S7ParameterSetupCommunication extends S7Parameter implements Messag
     this.maxAmqCaller = maxAmqCaller;
     this.maxAmqCallee = maxAmqCallee;
     this.pduLength = pduLength;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getMaxAmqCaller() {
@@ -96,11 +98,16 @@ public class S7ParameterSetupCommunication extends S7Parameter implements Messag
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7ParameterSetupCommunication _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -114,6 +121,7 @@ public class S7ParameterSetupCommunication extends S7Parameter implements Messag
     // Simple field (pduLength)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
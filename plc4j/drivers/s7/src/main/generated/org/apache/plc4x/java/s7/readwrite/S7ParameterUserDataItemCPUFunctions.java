@@ -71,6 +71,8 @@ public class S7ParameterUserDataItemCPUFunctions extends S7ParameterUserDataItem
     this.dataUnitReferenceNumber = dataUnitReferenceNumber;
     this.lastDataUnit = lastDataUnit;
     this.errorCode = errorCode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getMethod() {
@@ -150,11 +152,16 @@ public class S7ParameterUserDataItemCPUFunctions extends S7ParameterUserDataItem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7ParameterUserDataItemCPUFunctions _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (itemLength)
     lengthInBits += 8;
@@ -189,6 +196,7 @@ public class S7ParameterUserDataItemCPUFunctions extends S7ParameterUserDataItem
       lengthInBits += 16;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -51,7 +51,9 @@ public class S7ParameterWriteVarRequest extends S7Parameter implements Message {
 
   public S7ParameterWriteVarRequest(List<S7VarRequestParameterItem> items) {
     super();
-    this.items = items;
+    this.items = (items == null) ? null : Collections.unmodifiableList(new ArrayList<>(items));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<S7VarRequestParameterItem> getItems() {
@@ -80,11 +82,16 @@ public class S7ParameterWriteVarRequest extends S7Parameter implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7ParameterWriteVarRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (numItems)
     lengthInBits += 8;
@@ -98,6 +105,7 @@ public class S7ParameterWriteVarRequest extends S7Parameter implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -60,6 +60,8 @@ public class S7PayloadAlarmSQ extends S7PayloadUserDataItem implements Message {
       AlarmMessagePushType alarmMessage) {
     super(returnCode, transportSize, dataLength);
     this.alarmMessage = alarmMessage;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public AlarmMessagePushType getAlarmMessage() {
@@ -84,15 +86,21 @@ public class S7PayloadAlarmSQ extends S7PayloadUserDataItem implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadAlarmSQ _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (alarmMessage)
     lengthInBits += alarmMessage.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -78,6 +78,8 @@ public class S7PayloadDiagnosticMessage extends S7PayloadUserDataItem implements
     this.info1 = info1;
     this.info2 = info2;
     this.timeStamp = timeStamp;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getEventId() {
@@ -144,11 +146,16 @@ public class S7PayloadDiagnosticMessage extends S7PayloadUserDataItem implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadDiagnosticMessage _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (eventId)
     lengthInBits += 16;
@@ -171,6 +178,7 @@ public class S7PayloadDiagnosticMessage extends S7PayloadUserDataItem implements
     // Simple field (timeStamp)
     lengthInBits += timeStamp.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
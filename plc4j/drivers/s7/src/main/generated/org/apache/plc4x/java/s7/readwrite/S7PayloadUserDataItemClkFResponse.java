@@ -66,6 +66,8 @@ public class S7PayloadUserDataItemClkFResponse extends S7PayloadUserDataItem imp
     this.res = res;
     this.year1 = year1;
     this.timeStamp = timeStamp;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getRes() {
@@ -104,11 +106,16 @@ public class S7PayloadUserDataItemClkFResponse extends S7PayloadUserDataItem imp
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadUserDataItemClkFResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (res)
     lengthInBits += 8;
@@ -119,6 +126,7 @@ public class S7PayloadUserDataItemClkFResponse extends S7PayloadUserDataItem imp
     // Simple field (timeStamp)
     lengthInBits += timeStamp.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -60,6 +60,8 @@ public class S7PayloadUserDataItemClkSetRequest extends S7PayloadUserDataItem im
       DateAndTime timeStamp) {
     super(returnCode, transportSize, dataLength);
     this.timeStamp = timeStamp;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DateAndTime getTimeStamp() {
@@ -90,11 +92,16 @@ public class S7PayloadUserDataItemClkSetRequest extends S7PayloadUserDataItem im
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadUserDataItemClkSetRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 8;
@@ -105,6 +112,7 @@ public class S7PayloadUserDataItemClkSetRequest extends S7PayloadUserDataItem im
     // Simple field (timeStamp)
     lengthInBits += timeStamp.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -53,6 +53,8 @@ public class S7PayloadUserDataItemClkSetResponse extends S7PayloadUserDataItem i
   public S7PayloadUserDataItemClkSetResponse(
       DataTransportErrorCode returnCode, DataTransportSize transportSize, int dataLength) {
     super(returnCode, transportSize, dataLength);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -70,12 +72,18 @@ public class S7PayloadUserDataItemClkSetResponse extends S7PayloadUserDataItem i
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadUserDataItemClkSetResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -63,7 +63,12 @@ public class S7PayloadUserDataItemCpuFunctionAlarmAckRequest extends S7PayloadUs
       int dataLength,
       List<AlarmMessageObjectAckType> messageObjects) {
     super(returnCode, transportSize, dataLength);
-    this.messageObjects = messageObjects;
+    this.messageObjects =
+        (messageObjects == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(messageObjects));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<AlarmMessageObjectAckType> getMessageObjects() {
@@ -100,11 +105,16 @@ public class S7PayloadUserDataItemCpuFunctionAlarmAckRequest extends S7PayloadUs
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadUserDataItemCpuFunctionAlarmAckRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (functionId)
     lengthInBits += 8;
@@ -121,6 +131,7 @@ public class S7PayloadUserDataItemCpuFunctionAlarmAckRequest extends S7PayloadUs
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -63,7 +63,12 @@ public class S7PayloadUserDataItemCpuFunctionAlarmAckResponse extends S7PayloadU
       List<Short> messageObjects) {
     super(returnCode, transportSize, dataLength);
     this.functionId = functionId;
-    this.messageObjects = messageObjects;
+    this.messageObjects =
+        (messageObjects == null)
+            ? null
+            : Collections.unmodifiableList(new ArrayList<>(messageObjects));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getFunctionId() {
@@ -100,11 +105,16 @@ public class S7PayloadUserDataItemCpuFunctionAlarmAckResponse extends S7PayloadU
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadUserDataItemCpuFunctionAlarmAckResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (functionId)
     lengthInBits += 8;
@@ -117,6 +127,7 @@ public class S7PayloadUserDataItemCpuFunctionAlarmAckResponse extends S7PayloadU
       lengthInBits += 8 * messageObjects.size();
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -73,6 +73,8 @@ public class S7PayloadUserDataItemCpuFunctionAlarmQueryRequest extends S7Payload
     this.syntaxId = syntaxId;
     this.queryType = queryType;
     this.alarmType = alarmType;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SyntaxIdType getSyntaxId() {
@@ -157,11 +159,16 @@ public class S7PayloadUserDataItemCpuFunctionAlarmQueryRequest extends S7Payload
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadUserDataItemCpuFunctionAlarmQueryRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (functionId)
     lengthInBits += 8;
@@ -190,6 +197,7 @@ public class S7PayloadUserDataItemCpuFunctionAlarmQueryRequest extends S7Payload
     // Simple field (alarmType)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -61,6 +61,8 @@ public class S7PayloadUserDataItemCpuFunctionAlarmQueryResponse extends S7Payloa
       byte[] items) {
     super(returnCode, transportSize, dataLength);
     this.items = items;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getItems() {
@@ -85,17 +87,23 @@ public class S7PayloadUserDataItemCpuFunctionAlarmQueryResponse extends S7Payloa
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadUserDataItemCpuFunctionAlarmQueryResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (items != null) {
       lengthInBits += 8 * items.length;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
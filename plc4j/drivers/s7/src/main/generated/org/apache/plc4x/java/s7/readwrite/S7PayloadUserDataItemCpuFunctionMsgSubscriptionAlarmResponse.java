@@ -73,6 +73,8 @@ public class S7PayloadUserDataItemCpuFunctionMsgSubscriptionAlarmResponse
     this.alarmType = alarmType;
     this.reserved02 = reserved02;
     this.reserved03 = reserved03;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getResult() {
@@ -129,11 +131,16 @@ public class S7PayloadUserDataItemCpuFunctionMsgSubscriptionAlarmResponse
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadUserDataItemCpuFunctionMsgSubscriptionAlarmResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (result)
     lengthInBits += 8;
@@ -150,6 +157,7 @@ public class S7PayloadUserDataItemCpuFunctionMsgSubscriptionAlarmResponse
     // Simple field (reserved03)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
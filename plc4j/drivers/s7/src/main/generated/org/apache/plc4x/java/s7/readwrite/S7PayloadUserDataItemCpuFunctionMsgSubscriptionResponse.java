@@ -54,6 +54,8 @@ public class S7PayloadUserDataItemCpuFunctionMsgSubscriptionResponse extends S7P
   public S7PayloadUserDataItemCpuFunctionMsgSubscriptionResponse(
       DataTransportErrorCode returnCode, DataTransportSize transportSize, int dataLength) {
     super(returnCode, transportSize, dataLength);
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   @Override
@@ -71,12 +73,18 @@ public class S7PayloadUserDataItemCpuFunctionMsgSubscriptionResponse extends S7P
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadUserDataItemCpuFunctionMsgSubscriptionResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
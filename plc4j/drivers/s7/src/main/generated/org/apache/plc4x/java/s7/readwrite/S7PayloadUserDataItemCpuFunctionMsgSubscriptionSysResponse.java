@@ -64,6 +64,8 @@ public class S7PayloadUserDataItemCpuFunctionMsgSubscriptionSysResponse
     super(returnCode, transportSize, dataLength);
     this.result = result;
     this.reserved01 = reserved01;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getResult() {
@@ -95,11 +97,16 @@ public class S7PayloadUserDataItemCpuFunctionMsgSubscriptionSysResponse
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadUserDataItemCpuFunctionMsgSubscriptionSysResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (result)
     lengthInBits += 8;
@@ -107,6 +114,7 @@ public class S7PayloadUserDataItemCpuFunctionMsgSubscriptionSysResponse
     // Simple field (reserved01)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -63,7 +63,9 @@ public class S7PayloadUserDataItemCyclicServicesPush extends S7PayloadUserDataIt
       List<AssociatedValueType> items) {
     super(returnCode, transportSize, dataLength);
     this.itemsCount = itemsCount;
-    this.items = items;
+    this.items = (items == null) ? null : Collections.unmodifiableList(new ArrayList<>(items));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getItemsCount() {
@@ -95,11 +97,16 @@ public class S7PayloadUserDataItemCyclicServicesPush extends S7PayloadUserDataIt
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadUserDataItemCyclicServicesPush _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (itemsCount)
     lengthInBits += 16;
@@ -113,6 +120,7 @@ public class S7PayloadUserDataItemCyclicServicesPush extends S7PayloadUserDataIt
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
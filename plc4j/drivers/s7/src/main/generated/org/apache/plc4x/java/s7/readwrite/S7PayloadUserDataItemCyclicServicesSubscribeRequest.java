@@ -69,7 +69,9 @@ public class S7PayloadUserDataItemCyclicServicesSubscribeRequest extends S7Paylo
     this.itemsCount = itemsCount;
     this.timeBase = timeBase;
     this.timeFactor = timeFactor;
-    this.item = item;
+    this.item = (item == null) ? null : Collections.unmodifiableList(new ArrayList<>(item));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getItemsCount() {
@@ -119,11 +121,16 @@ public class S7PayloadUserDataItemCyclicServicesSubscribeRequest extends S7Paylo
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadUserDataItemCyclicServicesSubscribeRequest _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (itemsCount)
     lengthInBits += 16;
@@ -143,6 +150,7 @@ public class S7PayloadUserDataItemCyclicServicesSubscribeRequest extends S7Paylo
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
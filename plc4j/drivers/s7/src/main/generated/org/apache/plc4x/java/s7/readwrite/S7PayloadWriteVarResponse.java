@@ -51,7 +51,9 @@ public class S7PayloadWriteVarResponse extends S7Payload implements Message {
 
   public S7PayloadWriteVarResponse(List<S7VarPayloadStatusItem> items) {
     super();
-    this.items = items;
+    this.items = (items == null) ? null : Collections.unmodifiableList(new ArrayList<>(items));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public List<S7VarPayloadStatusItem> getItems() {
@@ -75,11 +77,16 @@ public class S7PayloadWriteVarResponse extends S7Payload implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7PayloadWriteVarResponse _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Array field
     if (items != null) {
@@ -90,6 +97,7 @@ public class S7PayloadWriteVarResponse extends S7Payload implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
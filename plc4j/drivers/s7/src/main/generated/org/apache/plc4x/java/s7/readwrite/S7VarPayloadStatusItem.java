@@ -43,6 +43,8 @@ public class S7VarPayloadStatusItem implements Message {
   public S7VarPayloadStatusItem(DataTransportErrorCode returnCode) {
     super();
     this.returnCode = returnCode;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public DataTransportErrorCode getReturnCode() {
@@ -72,15 +74,21 @@ public class S7VarPayloadStatusItem implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     S7VarPayloadStatusItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (returnCode)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
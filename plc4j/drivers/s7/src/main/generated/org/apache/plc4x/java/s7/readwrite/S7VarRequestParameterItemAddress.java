@@ -48,6 +48,8 @@ public class S7VarRequestParameterItemAddress extends S7VarRequestParameterItem
   public S7VarRequestParameterItemAddress(S7Address address) {
     super();
     this.address = address;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public S7Address getAddress() {
@@ -77,11 +79,16 @@ public class S7VarRequestParameterItemAddress extends S7VarRequestParameterItem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     S7VarRequestParameterItemAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Implicit Field (itemLength)
     lengthInBits += 8;
@@ -89,6 +96,7 @@ public class S7VarRequestParameterItemAddress extends S7VarRequestParameterItem
     // Simple field (address)
     lengthInBits += address.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
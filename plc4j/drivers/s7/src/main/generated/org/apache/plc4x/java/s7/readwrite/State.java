@@ -65,6 +65,8 @@ public class State implements Message {
     this.SIG_3 = SIG_3;
     this.SIG_2 = SIG_2;
     this.SIG_1 = SIG_1;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getSIG_8() {
@@ -136,11 +138,16 @@ public class State implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     State _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (SIG_8)
     lengthInBits += 1;
@@ -166,6 +173,7 @@ public class State implements Message {
     // Simple field (SIG_1)
     lengthInBits += 1;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
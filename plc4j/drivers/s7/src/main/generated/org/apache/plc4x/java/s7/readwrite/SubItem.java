@@ -47,6 +47,8 @@ public class SubItem implements Message {
     this.bytesToRead = bytesToRead;
     this.dbNumber = dbNumber;
     this.startAddress = startAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getBytesToRead() {
@@ -83,11 +85,16 @@ public class SubItem implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SubItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (bytesToRead)
     lengthInBits += 8;
@@ -98,6 +105,7 @@ public class SubItem implements Message {
     // Simple field (startAddress)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
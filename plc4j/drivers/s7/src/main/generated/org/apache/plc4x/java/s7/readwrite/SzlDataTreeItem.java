@@ -51,6 +51,8 @@ public class SzlDataTreeItem implements Message {
     this.moduleTypeId = moduleTypeId;
     this.ausbg = ausbg;
     this.ausbe = ausbe;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getItemIndex() {
@@ -101,11 +103,16 @@ public class SzlDataTreeItem implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SzlDataTreeItem _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (itemIndex)
     lengthInBits += 16;
@@ -124,6 +131,7 @@ public class SzlDataTreeItem implements Message {
     // Simple field (ausbe)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
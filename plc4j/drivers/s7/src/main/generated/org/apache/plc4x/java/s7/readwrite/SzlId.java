@@ -47,6 +47,8 @@ public class SzlId implements Message {
     this.typeClass = typeClass;
     this.sublistExtract = sublistExtract;
     this.sublistList = sublistList;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public SzlModuleTypeClass getTypeClass() {
@@ -94,11 +96,16 @@ public class SzlId implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     SzlId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (typeClass)
     lengthInBits += 4;
@@ -109,6 +116,7 @@ public class SzlId implements Message {
     // Simple field (sublistList)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class Ethernet_FramePayload_VirtualLan extends Ethernet_FramePayload impl
     this.ineligible = ineligible;
     this.id = id;
     this.payload = payload;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public VirtualLanPriority getPriority() {
@@ -107,11 +109,16 @@ public class Ethernet_FramePayload_VirtualLan extends Ethernet_FramePayload impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     Ethernet_FramePayload_VirtualLan _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (priority)
     lengthInBits += 3;
@@ -125,6 +132,7 @@ public class Ethernet_FramePayload_VirtualLan extends Ethernet_FramePayload impl
     // Simple field (payload)
     lengthInBits += payload.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,6 +54,8 @@ public class PnDcp_Block_DevicePropertiesDeviceId extends PnDcp_Block implements
     super();
     this.vendorId = vendorId;
     this.deviceId = deviceId;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getVendorId() {
@@ -99,11 +101,16 @@ public class PnDcp_Block_DevicePropertiesDeviceId extends PnDcp_Block implements
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnDcp_Block_DevicePropertiesDeviceId _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 16;
@@ -114,6 +121,7 @@ public class PnDcp_Block_DevicePropertiesDeviceId extends PnDcp_Block implements
     // Simple field (deviceId)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -55,6 +55,8 @@ public class PnDcp_Block_DevicePropertiesDeviceInstance extends PnDcp_Block impl
     super();
     this.deviceInstanceHigh = deviceInstanceHigh;
     this.deviceInstanceLow = deviceInstanceLow;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public short getDeviceInstanceHigh() {
@@ -100,11 +102,16 @@ public class PnDcp_Block_DevicePropertiesDeviceInstance extends PnDcp_Block impl
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnDcp_Block_DevicePropertiesDeviceInstance _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 16;
@@ -115,6 +122,7 @@ public class PnDcp_Block_DevicePropertiesDeviceInstance extends PnDcp_Block impl
     // Simple field (deviceInstanceLow)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
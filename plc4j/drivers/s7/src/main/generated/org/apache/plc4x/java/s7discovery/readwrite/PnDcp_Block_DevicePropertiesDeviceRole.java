@@ -59,6 +59,8 @@ public class PnDcp_Block_DevicePropertiesDeviceRole extends PnDcp_Block implemen
     this.pnioMultidevive = pnioMultidevive;
     this.pnioController = pnioController;
     this.pnioDevice = pnioDevice;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public boolean getPnioSupervisor() {
@@ -133,11 +135,16 @@ public class PnDcp_Block_DevicePropertiesDeviceRole extends PnDcp_Block implemen
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnDcp_Block_DevicePropertiesDeviceRole _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 20;
@@ -157,6 +164,7 @@ public class PnDcp_Block_DevicePropertiesDeviceRole extends PnDcp_Block implemen
     // Reserved Field (reserved)
     lengthInBits += 8;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -52,6 +52,8 @@ public class PnDcp_Block_DevicePropertiesDeviceVendor extends PnDcp_Block implem
   public PnDcp_Block_DevicePropertiesDeviceVendor(byte[] deviceVendorValue) {
     super();
     this.deviceVendorValue = deviceVendorValue;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public byte[] getDeviceVendorValue() {
@@ -97,11 +99,16 @@ public class PnDcp_Block_DevicePropertiesDeviceVendor extends PnDcp_Block implem
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnDcp_Block_DevicePropertiesDeviceVendor _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 16;
@@ -121,6 +128,7 @@ public class PnDcp_Block_DevicePropertiesDeviceVendor extends PnDcp_Block implem
       lengthInBits += 8;
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
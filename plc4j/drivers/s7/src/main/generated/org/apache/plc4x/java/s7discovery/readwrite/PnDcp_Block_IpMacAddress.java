@@ -52,6 +52,8 @@ public class PnDcp_Block_IpMacAddress extends PnDcp_Block implements Message {
   public PnDcp_Block_IpMacAddress(MacAddress macAddress) {
     super();
     this.macAddress = macAddress;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public MacAddress getMacAddress() {
@@ -86,11 +88,16 @@ public class PnDcp_Block_IpMacAddress extends PnDcp_Block implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnDcp_Block_IpMacAddress _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Reserved Field (reserved)
     lengthInBits += 16;
@@ -98,6 +105,7 @@ public class PnDcp_Block_IpMacAddress extends PnDcp_Block implements Message {
     // Simple field (macAddress)
     lengthInBits += macAddress.getLengthInBits();
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -54,7 +54,9 @@ public class PnDcp_Pdu_IdentifyReq extends PnDcp_Pdu implements Message {
     super(frameIdValue);
     this.xid = xid;
     this.responseDelay = responseDelay;
-    this.blocks = blocks;
+    this.blocks = (blocks == null) ? null : Collections.unmodifiableList(new ArrayList<>(blocks));
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public long getXid() {
@@ -157,11 +159,16 @@ public class PnDcp_Pdu_IdentifyReq extends PnDcp_Pdu implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = super.getLengthInBits();
     PnDcp_Pdu_IdentifyReq _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Const Field (serviceId)
     lengthInBits += 8;
@@ -194,6 +201,7 @@ public class PnDcp_Pdu_IdentifyReq extends PnDcp_Pdu implements Message {
       }
     }
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -26,6 +26,7 @@ import org.apache.plc4x.java.spi.configuration.annotations.Since;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.BooleanDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.IntDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.StringDefaultValue;
+import org.apache.plc4x.java.spi.transaction.TransactionExecutorMode;
 
 public class S7Configuration implements PlcConnectionConfiguration {
 
@@ -126,6 +127,28 @@ public class S7Configuration implements PlcConnectionConfiguration {
     @Description("Time value in seconds at which the execution of the PING will be scheduled. Generally set by developer experience, but generally should be the same as (read-timeout / 2).")
     public int retryTime = 0;
 
+    @ConfigurationParameter("transaction-executor")
+    @StringDefaultValue("DEDICATED")
+    @Description("Defines which threads requests are processed on (Defaults to DEDICATED).\n" +
+        "Allowed values are: \n" +
+        " - DEDICATED (every connection uses its own small thread pool)\n" +
+        " - SHARED (all connections share one bounded thread pool)\n" +
+        " - VIRTUAL (every request runs on its own virtual thread, requires Java 21)\n")
+    @Since("0.13.0")
+    public TransactionExecutorMode transactionExecutorMode = TransactionExecutorMode.DEDICATED;
+
+    @ConfigurationParameter("transaction-executor-pool-size")
+    @IntDefaultValue(0)
+    @Description("Number of threads of the shared thread pool used by 'transaction-executor=SHARED' (Defaults to the number of available processors).")
+    @Since("0.13.0")
+    public int transactionExecutorPoolSize = 0;
+
+    @ConfigurationParameter("write-coalescing")
+    @BooleanDefaultValue(false)
+    @Description("If enabled, requests sent at the same time (e.g. the parts of a split up read request) are flushed to the network together.")
+    @Since("0.13.0")
+    public boolean writeCoalescing = false;
+
     public int getLocalRack() {
         return localRack;
     }
@@ -277,6 +300,33 @@ public class S7Configuration implements PlcConnectionConfiguration {
     public void setRetryTime(int retryTime) {
         this.retryTime = retryTime;
     }
+
+    @Override
+    public TransactionExecutorMode getTransactionExecutorMode() {
+        return transactionExecutorMode;
+    }
+
+    public void setTransactionExecutorMode(TransactionExecutorMode transactionExecutorMode) {
+        this.transactionExecutorMode = transactionExecutorMode;
+    }
+
+    @Override
+    public int getTransactionExecutorPoolSize() {
+        return transactionExecutorPoolSize;
+    }
+
+    public void setTransactionExecutorPoolSize(int transactionExecutorPoolSize) {
+        this.transactionExecutorPoolSize = transactionExecutorPoolSize;
+    }
+
+    @Override
+    public boolean isWriteCoalescing() {
+        return writeCoalescing;
+    }
+
+    public void setWriteCoalescing(boolean writeCoalescing) {
+        this.writeCoalescing = writeCoalescing;
+    }
     
     @Override
     public String toString() {
@@ -24,6 +24,7 @@ import org.apache.plc4x.java.s7.readwrite.configuration.S7Configuration;
 import org.apache.plc4x.java.s7.readwrite.utils.S7TsapIdEncoder;
 import org.apache.plc4x.java.spi.configuration.HasConfiguration;
 import org.apache.plc4x.java.spi.context.DriverContext;
+import org.apache.plc4x.java.spi.transaction.TransactionExecutorMode;
 
 public class S7DriverContext implements DriverContext, HasConfiguration<S7Configuration> {
 
@@ -42,6 +43,8 @@ public class S7DriverContext implements DriverContext, HasConfiguration<S7Config
     private boolean ping;
     private int pingTime;
     private int retryTime;
+    private TransactionExecutorMode transactionExecutorMode;
+    private int transactionExecutorPoolSize;
 
     @Override
     public void setConfiguration(S7Configuration configuration) {
@@ -84,6 +87,9 @@ public class S7DriverContext implements DriverContext, HasConfiguration<S7Config
         this.ping = configuration.ping;
         this.pingTime = (configuration.pingTime == 0) ? 10 : configuration.pingTime;
         this.retryTime = configuration.retryTime;
+
+        this.transactionExecutorMode = configuration.transactionExecutorMode;
+        this.transactionExecutorPoolSize = configuration.transactionExecutorPoolSize;
     }
 
     public boolean isPassiveMode() {
@@ -190,6 +196,14 @@ public class S7DriverContext implements DriverContext, HasConfiguration<S7Config
         this.retryTime = retryTime;
     }
 
+    public TransactionExecutorMode getTransactionExecutorMode() {
+        return transactionExecutorMode;
+    }
+
+    public int getTransactionExecutorPoolSize() {
+        return transactionExecutorPoolSize;
+    }
+
     /**
      * Iterate over all values until one is found that the given tpdu size will fit.
      *
@@ -21,6 +21,7 @@ package org.apache.plc4x.java.s7.readwrite.optimizer;
 import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
 import org.apache.plc4x.java.api.messages.PlcReadRequest;
 import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.messages.PlcRequest;
 import org.apache.plc4x.java.api.messages.PlcWriteRequest;
 import org.apache.plc4x.java.api.model.PlcTag;
 import org.apache.plc4x.java.api.types.PlcResponseCode;
@@ -28,6 +29,7 @@ import org.apache.plc4x.java.api.types.PlcValueType;
 import org.apache.plc4x.java.api.value.PlcValue;
 import org.apache.plc4x.java.s7.readwrite.*;
 import org.apache.plc4x.java.s7.readwrite.context.S7DriverContext;
+import org.apache.plc4x.java.s7.readwrite.protocol.S7ProtocolLogic;
 import org.apache.plc4x.java.s7.readwrite.tag.*;
 import org.apache.plc4x.java.spi.context.DriverContext;
 import org.apache.plc4x.java.spi.generation.SerializationException;
@@ -50,11 +52,15 @@ import org.apache.plc4x.java.spi.values.PlcValueAdapter;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 public class S7Optimizer extends BaseOptimizer {
@@ -70,9 +76,133 @@ public class S7Optimizer extends BaseOptimizer {
     public static final int S7_ADDRESS_ANY_SIZE = 2 +
         new S7AddressAny(TransportSize.INT, 1, 1, MemoryArea.DATA_BLOCKS, 1, (byte) 0).getLengthInBytes();
 
+    /**
+     * Maximum number of unused bytes between two tags, for them to still be read as one byte range. Every item
+     * read separately costs an additional S7AddressAny in the request, so reading up to this number of unneeded
+     * bytes in the response is the cheaper option.
+     */
+    public static final int MAX_COALESCING_GAP = S7_ADDRESS_ANY_SIZE;
+
+    private static final String RANGE_TAG_NAME_PREFIX = "__s7_range_";
+
+    private static final Set<MemoryArea> COALESCABLE_MEMORY_AREAS = EnumSet.of(
+        MemoryArea.DATA_BLOCKS, MemoryArea.INPUTS, MemoryArea.OUTPUTS, MemoryArea.FLAGS_MARKERS);
+
+    /**
+     * Never send more sub-requests in parallel than the PLC accepts (As negotiated during the connection process).
+     */
+    @Override
+    protected int getMaxInFlightSubRequests(DriverContext driverContext) {
+        return Math.max(1, ((S7DriverContext) driverContext).getMaxAmqCallee());
+    }
+
+    /**
+     * Byte ranges read the data of multiple tags (If one of them is invalid, the range fails as a whole).
+     */
+    @Override
+    protected List<String> getCoveredTagNames(PlcReadRequest readRequest, PlcReadRequest subRequest, String subTagName) {
+        if (subRequest.getTag(subTagName) instanceof S7RangeTag) {
+            return new ArrayList<>(((S7RangeTag) subRequest.getTag(subTagName)).getTags().keySet());
+        }
+        return super.getCoveredTagNames(readRequest, subRequest, subTagName);
+    }
+
+    @Override
+    protected int getExpectedSubRequestSize(PlcRequest subRequest, DriverContext driverContext) {
+        // For reads the response is what makes a sub-request big.
+        if (subRequest instanceof PlcReadRequest) {
+            int responseSize = 0;
+            for (PlcTag tag : ((PlcReadRequest) subRequest).getTags()) {
+                responseSize += (tag instanceof S7Tag) ? getReadResponseItemSize((S7Tag) tag) : S7_ADDRESS_ANY_SIZE;
+            }
+            return responseSize;
+        }
+        return super.getExpectedSubRequestSize(subRequest, driverContext);
+    }
+
+    /**
+     * Splits up the read request into as few sub-requests as possible:
+     * <ul>
+     *     <li>Tags located close to each other in the same memory area (and data block) are read as one byte range
+     *     ({@link S7RangeTag}), from which the values of the individual tags are decoded again when processing the
+     *     responses.</li>
+     *     <li>The resulting items are packed into sub-requests biggest first, each one going to the first
+     *     sub-request, it still fits into (Neither exceeding the PDU size in the request, nor in the response).</li>
+     *     <li>Arrays too big for one response are split up into multiple sub-requests.</li>
+     * </ul>
+     */
     @Override
     protected List<PlcReadRequest> processReadRequest(PlcReadRequest readRequest, DriverContext driverContext) {
         S7DriverContext s7DriverContext = (S7DriverContext) driverContext;
+
+        //TODO: Individual processing of these types of tags. like S7StringTag
+        for (String tagName : readRequest.getTagNames()) {
+            if ((readRequest.getTag(tagName) instanceof S7SzlTag) ||
+                (readRequest.getTag(tagName) instanceof S7ClkTag)) {
+                return processReadRequestInOrder(readRequest, s7DriverContext);
+            }
+        }
+
+        int pduSize = s7DriverContext.getPduSize();
+        List<PlcReadRequest> processedRequests = new LinkedList<>();
+        List<ReadItem> readItems = new ArrayList<>();
+        // Tags that could be read as part of a byte range, grouped by memory area and block number.
+        Map<MemoryArea, Map<Integer, List<ReadItem>>> coalescableItems = new LinkedHashMap<>();
+        for (String tagName : readRequest.getTagNames()) {
+            S7Tag tag = (S7Tag) readRequest.getTag(tagName);
+            int readResponseItemSize = getReadResponseItemSize(tag);
+
+            // If the item would exceed the PDU size in the response, even if this is a new request, split it up.
+            if (EMPTY_READ_RESPONSE_SIZE + readResponseItemSize > pduSize) {
+                processedRequests.addAll(splitReadRequest(readRequest, tagName, tag, pduSize));
+                continue;
+            }
+
+            ReadItem readItem = new ReadItem(tagName, tag, readResponseItemSize);
+            if (isCoalescable(tag)) {
+                coalescableItems.computeIfAbsent(tag.getMemoryArea(), memoryArea -> new LinkedHashMap<>())
+                    .computeIfAbsent(tag.getBlockNumber(), blockNumber -> new ArrayList<>()).add(readItem);
+            } else {
+                readItems.add(readItem);
+            }
+        }
+
+        Set<String> usedTagNames = new HashSet<>(readRequest.getTagNames());
+        for (Map<Integer, List<ReadItem>> blocks : coalescableItems.values()) {
+            for (List<ReadItem> blockItems : blocks.values()) {
+                readItems.addAll(coalesce(blockItems, pduSize, usedTagNames));
+            }
+        }
+
+        // Pack the items into sub-requests (first-fit-decreasing by the response size, which usually is the limit).
+        readItems.sort(Comparator.comparingInt((ReadItem readItem) -> readItem.responseSize).reversed());
+        List<SubRequest> subRequests = new ArrayList<>();
+        for (ReadItem readItem : readItems) {
+            SubRequest subRequest = null;
+            for (SubRequest curSubRequest : subRequests) {
+                if (curSubRequest.fits(readItem, pduSize)) {
+                    subRequest = curSubRequest;
+                    break;
+                }
+            }
+            if (subRequest == null) {
+                subRequest = new SubRequest();
+                subRequests.add(subRequest);
+            }
+            subRequest.add(readItem);
+        }
+        for (SubRequest subRequest : subRequests) {
+            processedRequests.add(new DefaultPlcReadRequest(
+                ((DefaultPlcReadRequest) readRequest).getReader(), subRequest.tagItems));
+        }
+
+        return processedRequests;
+    }
+
+    /**
+     * Packs the tags into sub-requests in the order of the request (Used for requests containing special tags).
+     */
+    private List<PlcReadRequest> processReadRequestInOrder(PlcReadRequest readRequest, S7DriverContext s7DriverContext) {
         List<PlcReadRequest> processedRequests = new LinkedList<>();
 
         // This calculates the size of the header for the request and response.
@@ -86,7 +216,6 @@ public class S7Optimizer extends BaseOptimizer {
 
         for (String tagName : readRequest.getTagNames()) {
 
-            //TODO: Individual processing of these types of tags. like S7StringTag
             if ((readRequest.getTag(tagName) instanceof S7SzlTag) ||
                 (readRequest.getTag(tagName) instanceof S7ClkTag)) {
                 // We are only expecting valid tagValueItems being passed in.
@@ -100,21 +229,7 @@ public class S7Optimizer extends BaseOptimizer {
             S7Tag tag = (S7Tag) readRequest.getTag(tagName);
 
             int readRequestItemSize = S7_ADDRESS_ANY_SIZE;
-            // If we're reading var-length strings, then we'll read the sizes of the strings instead
-            // and the S7ProtocolLogic will handle reading the actual strings in an additional request.
-            int readResponseItemElementSize = tag.getDataType().getSizeInBytes();
-            if(readRequest.getTag(tagName) instanceof S7StringVarLengthTag) {
-                if(((S7StringVarLengthTag) readRequest.getTag(tagName)).getDataType() == TransportSize.STRING) {
-                    readResponseItemElementSize = 2;
-                } else if(((S7StringVarLengthTag) readRequest.getTag(tagName)).getDataType() == TransportSize.WSTRING) {
-                    readResponseItemElementSize = 4;
-                }
-            }
-            int readResponseItemSize = 4 + (tag.getNumberOfElements() * readResponseItemElementSize);
-            // If it's an odd number of bytes, add one to make it even
-            if (readResponseItemSize % 2 == 1) {
-                readResponseItemSize++;
-            }
+            int readResponseItemSize = getReadResponseItemSize(tag);
 
             // If adding the item would not exceed the sizes, add it to the current request.
             if (((curRequestSize + readRequestItemSize) <= s7DriverContext.getPduSize()) &&
@@ -130,20 +245,7 @@ public class S7Optimizer extends BaseOptimizer {
             // If the current item would exceed the PDU size in the response, even if this is a new request, split
             // up the array to fill up the last request and create so many sub-requests that read all in total.
             else if (EMPTY_READ_RESPONSE_SIZE + readResponseItemSize > s7DriverContext.getPduSize()){
-                int maxPayloadSize = s7DriverContext.getPduSize() - (EMPTY_READ_RESPONSE_SIZE + 4);
-                int numRequests = (int) Math.ceil(((double) tag.getNumberOfElements() * (double) tag.getDataType().getSizeInBytes()) / (double) maxPayloadSize);
-                int curByteOffset = tag.getByteOffset();
-                int numItemsPerRequest = (int) Math.ceil((double) tag.getNumberOfElements() / (double) numRequests);
-                int itemsLeft = tag.getNumberOfElements();
-                for(int curRequest = 0; curRequest < numRequests; curRequest++) {
-                    int numCurRequestItems = Math.min(numItemsPerRequest, itemsLeft);
-                    S7Tag tagFragment = new S7Tag(tag.getDataType(), tag.getMemoryArea(), tag.getBlockNumber(), curByteOffset, (byte) 0, numCurRequestItems);
-                    LinkedHashMap<String, PlcTagItem<PlcTag>> tagFragments = new LinkedHashMap<>();
-                    tagFragments.put(tagName, new DefaultPlcTagItem<>(tagFragment));
-                    processedRequests.add(new DefaultPlcReadRequest(((DefaultPlcReadRequest) readRequest).getReader(), tagFragments));
-                    curByteOffset += numItemsPerRequest * tag.getDataType().getSizeInBytes();
-                    itemsLeft -= numCurRequestItems;
-                }
+                processedRequests.addAll(splitReadRequest(readRequest, tagName, tag, s7DriverContext.getPduSize()));
             }
             // If adding the current item would exceed the PDU size in the request or the response, start a new request.
             else {
@@ -177,12 +279,128 @@ public class S7Optimizer extends BaseOptimizer {
         return processedRequests;
     }
 
+    private static int getReadResponseItemSize(S7Tag tag) {
+        // If we're reading var-length strings, then we'll read the sizes of the strings instead
+        // and the S7ProtocolLogic will handle reading the actual strings in an additional request.
+        int readResponseItemElementSize = tag.getDataType().getSizeInBytes();
+        if(tag instanceof S7StringVarLengthTag) {
+            if(tag.getDataType() == TransportSize.STRING) {
+                readResponseItemElementSize = 2;
+            } else if(tag.getDataType() == TransportSize.WSTRING) {
+                readResponseItemElementSize = 4;
+            }
+        }
+        int readResponseItemSize = 4 + (tag.getNumberOfElements() * readResponseItemElementSize);
+        // If it's an odd number of bytes, add one to make it even
+        if (readResponseItemSize % 2 == 1) {
+            readResponseItemSize++;
+        }
+        return readResponseItemSize;
+    }
+
+    /**
+     * Splits up an array too big for one response into so many sub-requests that read all in total.
+     */
+    private static List<PlcReadRequest> splitReadRequest(PlcReadRequest readRequest, String tagName, S7Tag tag, int pduSize) {
+        List<PlcReadRequest> processedRequests = new ArrayList<>();
+        int maxPayloadSize = pduSize - (EMPTY_READ_RESPONSE_SIZE + 4);
+        int numRequests = (int) Math.ceil(((double) tag.getNumberOfElements() * (double) tag.getDataType().getSizeInBytes()) / (double) maxPayloadSize);
+        int curByteOffset = tag.getByteOffset();
+        int numItemsPerRequest = (int) Math.ceil((double) tag.getNumberOfElements() / (double) numRequests);
+        int itemsLeft = tag.getNumberOfElements();
+        for(int curRequest = 0; curRequest < numRequests; curRequest++) {
+            int numCurRequestItems = Math.min(numItemsPerRequest, itemsLeft);
+            S7Tag tagFragment = new S7Tag(tag.getDataType(), tag.getMemoryArea(), tag.getBlockNumber(), curByteOffset, (byte) 0, numCurRequestItems);
+            LinkedHashMap<String, PlcTagItem<PlcTag>> tagFragments = new LinkedHashMap<>();
+            tagFragments.put(tagName, new DefaultPlcTagItem<>(tagFragment));
+            processedRequests.add(new DefaultPlcReadRequest(((DefaultPlcReadRequest) readRequest).getReader(), tagFragments));
+            curByteOffset += numItemsPerRequest * tag.getDataType().getSizeInBytes();
+            itemsLeft -= numCurRequestItems;
+        }
+        return processedRequests;
+    }
+
+    /**
+     * Only plain byte-aligned tags with a fixed size are read as part of byte ranges.
+     * (Strings, bits and special memory areas are always read on their own)
+     */
+    private static boolean isCoalescable(S7Tag tag) {
+        return (tag.getClass() == S7Tag.class) &&
+            COALESCABLE_MEMORY_AREAS.contains(tag.getMemoryArea()) &&
+            (tag.getBitOffset() == 0) &&
+            (tag.getDataType() != TransportSize.BOOL) &&
+            (tag.getDataType() != TransportSize.STRING) &&
+            (tag.getDataType() != TransportSize.WSTRING) &&
+            (tag.getDataType().getSizeInBytes() > 0);
+    }
+
+    /**
+     * Merges tags of one block into byte ranges, as long as the gap between them is not bigger than
+     * {@link #MAX_COALESCING_GAP} and the range still fits into one response.
+     */
+    private static List<ReadItem> coalesce(List<ReadItem> blockItems, int pduSize, Set<String> usedTagNames) {
+        int maxRangeSize = (pduSize - (EMPTY_READ_RESPONSE_SIZE + 4)) & ~1;
+        blockItems.sort(Comparator.comparingInt(readItem -> readItem.tag.getByteOffset()));
+
+        List<ReadItem> coalescedItems = new ArrayList<>();
+        List<ReadItem> curRange = new ArrayList<>();
+        int curRangeStart = 0;
+        int curRangeEnd = 0;
+        for (ReadItem readItem : blockItems) {
+            int itemStart = readItem.tag.getByteOffset();
+            int itemEnd = itemStart + (readItem.tag.getNumberOfElements() * readItem.tag.getDataType().getSizeInBytes());
+            if (!curRange.isEmpty() && ((itemStart - curRangeEnd) <= MAX_COALESCING_GAP) &&
+                ((Math.max(curRangeEnd, itemEnd) - curRangeStart) <= maxRangeSize)) {
+                curRange.add(readItem);
+                curRangeEnd = Math.max(curRangeEnd, itemEnd);
+                continue;
+            }
+            coalescedItems.addAll(createRange(curRange, curRangeStart, curRangeEnd, usedTagNames));
+            curRange = new ArrayList<>();
+            curRange.add(readItem);
+            curRangeStart = itemStart;
+            curRangeEnd = itemEnd;
+        }
+        coalescedItems.addAll(createRange(curRange, curRangeStart, curRangeEnd, usedTagNames));
+        return coalescedItems;
+    }
+
+    private static List<ReadItem> createRange(List<ReadItem> range, int rangeStart, int rangeEnd, Set<String> usedTagNames) {
+        // Single tags are read as they are.
+        if ((range.size() < 2) || ((rangeEnd - rangeStart) < 2)) {
+            return range;
+        }
+        Map<String, S7Tag> tags = new LinkedHashMap<>();
+        for (ReadItem readItem : range) {
+            tags.put(readItem.tagName, readItem.tag);
+        }
+        S7Tag firstTag = range.get(0).tag;
+        S7RangeTag rangeTag = new S7RangeTag(firstTag.getMemoryArea(), firstTag.getBlockNumber(),
+            rangeStart, rangeEnd - rangeStart, tags);
+
+        // Make sure the name of the range doesn't collide with the name of any other tag.
+        String rangeTagName;
+        int index = 0;
+        do {
+            rangeTagName = RANGE_TAG_NAME_PREFIX + index++;
+        } while (!usedTagNames.add(rangeTagName));
+
+        return Collections.singletonList(new ReadItem(rangeTagName, rangeTag, getReadResponseItemSize(rangeTag)));
+    }
+
     protected PlcReadResponse processReadResponses(PlcReadRequest readRequest, Map<PlcReadRequest, SubResponse<PlcReadResponse>> readResponses, DriverContext driverContext) {
+        ControllerType controllerType = ((S7DriverContext) driverContext).getControllerType();
         Map<String, PlcResponseItem<PlcValue>> tagValues = new HashMap<>();
         for (Map.Entry<PlcReadRequest, SubResponse<PlcReadResponse>> requestsEntries : readResponses.entrySet()) {
             PlcReadRequest curRequest = requestsEntries.getKey();
             SubResponse<PlcReadResponse> readResponse = requestsEntries.getValue();
             for (String tagName : curRequest.getTagNames()) {
+                // Tags read as part of a byte range have to be decoded from the data of the range.
+                if (curRequest.getTag(tagName) instanceof S7RangeTag) {
+                    processRangeResponse(tagName, (S7RangeTag) curRequest.getTag(tagName), readResponse,
+                        controllerType, tagValues);
+                    continue;
+                }
                 if (readResponse.isSuccess()) {
                     PlcReadResponse subReadResponse = readResponse.getResponse();
                     PlcResponseCode responseCode = subReadResponse.getResponseCode(tagName);
@@ -243,13 +461,49 @@ public class S7Optimizer extends BaseOptimizer {
                         tagValues.put(tagName, new DefaultPlcResponseItem<>(responseCode, value));
                     }
                 } else {
-                    tagValues.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.INTERNAL_ERROR, null));
+                    tagValues.put(tagName, new DefaultPlcResponseItem<>(getResponseCode(readResponse.getThrowable()), null));
                 }
             }
         }
         return new DefaultPlcReadResponse(readRequest, tagValues);
     }
 
+    private void processRangeResponse(String rangeTagName, S7RangeTag rangeTag, SubResponse<PlcReadResponse> readResponse,
+                                      ControllerType controllerType, Map<String, PlcResponseItem<PlcValue>> tagValues) {
+        // If reading the range failed, reading all tags in it failed.
+        if (!readResponse.isSuccess()) {
+            PlcResponseCode responseCode = getResponseCode(readResponse.getThrowable());
+            rangeTag.getTags().keySet().forEach(tagName ->
+                tagValues.put(tagName, new DefaultPlcResponseItem<>(responseCode, null)));
+            return;
+        }
+        PlcReadResponse subReadResponse = readResponse.getResponse();
+        PlcResponseCode responseCode = subReadResponse.getResponseCode(rangeTagName);
+        PlcValue value = subReadResponse.getPlcValue(rangeTagName);
+        if ((responseCode != PlcResponseCode.OK) || (value == null)) {
+            PlcResponseCode tagResponseCode = (responseCode != PlcResponseCode.OK) ? responseCode : PlcResponseCode.INTERNAL_ERROR;
+            rangeTag.getTags().keySet().forEach(tagName ->
+                tagValues.put(tagName, new DefaultPlcResponseItem<>(tagResponseCode, null)));
+            return;
+        }
+
+        byte[] rangeData = value.getRaw();
+        for (Map.Entry<String, S7Tag> tagEntry : rangeTag.getTags().entrySet()) {
+            S7Tag tag = tagEntry.getValue();
+            int start = tag.getByteOffset() - rangeTag.getByteOffset();
+            int end = start + (tag.getNumberOfElements() * tag.getDataType().getSizeInBytes());
+            PlcValue tagValue = null;
+            if (end <= rangeData.length) {
+                tagValue = S7ProtocolLogic.parsePlcValue(tag, Arrays.copyOfRange(rangeData, start, end), controllerType);
+            }
+            if (tagValue != null) {
+                tagValues.put(tagEntry.getKey(), new DefaultPlcResponseItem<>(PlcResponseCode.OK, tagValue));
+            } else {
+                tagValues.put(tagEntry.getKey(), new DefaultPlcResponseItem<>(PlcResponseCode.INTERNAL_ERROR, null));
+            }
+        }
+    }
+
 
     @Override
     protected List<PlcWriteRequest> processWriteRequest(PlcWriteRequest writeRequest, DriverContext driverContext) {
@@ -346,6 +600,43 @@ public class S7Optimizer extends BaseOptimizer {
         return processedRequests;
     }
 
+    /**
+     * One item of a read request (A tag or a byte range) together with the size of its response.
+     */
+    private static class ReadItem {
+
+        private final String tagName;
+        private final S7Tag tag;
+        private final int responseSize;
+
+        private ReadItem(String tagName, S7Tag tag, int responseSize) {
+            this.tagName = tagName;
+            this.tag = tag;
+            this.responseSize = responseSize;
+        }
+    }
+
+    /**
+     * Items of one sub-request currently being packed.
+     */
+    private static class SubRequest {
+
+        private final LinkedHashMap<String, PlcTagItem<PlcTag>> tagItems = new LinkedHashMap<>();
+        private int requestSize = EMPTY_READ_REQUEST_SIZE;
+        private int responseSize = EMPTY_READ_RESPONSE_SIZE;
+
+        private boolean fits(ReadItem readItem, int pduSize) {
+            return ((requestSize + S7_ADDRESS_ANY_SIZE) <= pduSize) &&
+                ((responseSize + readItem.responseSize) <= pduSize);
+        }
+
+        private void add(ReadItem readItem) {
+            tagItems.put(readItem.tagName, new DefaultPlcTagItem<>(readItem.tag));
+            requestSize += S7_ADDRESS_ANY_SIZE;
+            responseSize += readItem.responseSize;
+        }
+    }
+
     /**
      * Little helper that helps avoid the problem, that the elements of a PlcList
      * cannot be modified after being created.
@@ -119,6 +119,7 @@ public class S7HSingleProtocolStackConfigurer<BASE_PACKET_CLASS extends Message>
             pipeline.addLast(new EventListenerMessageCodec(listeners));
             Plc4xNettyWrapper<BASE_PACKET_CLASS> context = new Plc4xNettyWrapper<>(new NettyHashTimerTimeoutManager(), pipeline, passive, protocol,
                 authentication, basePacketClass);
+            context.setWriteCoalescing((configuration != null) && configuration.isWriteCoalescing());
             pipeline.addLast("WRAPPER", context);
         }
 
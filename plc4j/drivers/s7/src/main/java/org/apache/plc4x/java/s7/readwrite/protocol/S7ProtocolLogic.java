@@ -53,6 +53,7 @@ import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
 import org.apache.plc4x.java.spi.messages.utils.PlcTagValueItem;
 import org.apache.plc4x.java.spi.model.DefaultPlcSubscriptionTag;
 import org.apache.plc4x.java.spi.transaction.RequestTransactionManager;
+import org.apache.plc4x.java.spi.transaction.TransactionPriority;
 import org.apache.plc4x.java.spi.values.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -142,7 +143,8 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
         // maximum of only one request being able to be sent at a time. During the login process
         // No concurrent requests can be sent anyway. It will be updated when receiving the
         // S7ParameterSetupCommunication response.
-        this.tm = new RequestTransactionManager(1);
+        this.tm = new RequestTransactionManager(1, s7DriverContext.getTransactionExecutorMode(),
+            s7DriverContext.getTransactionExecutorPoolSize());
         eventLogic.start();
     }
 
@@ -955,9 +957,10 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
                 messageObjects);
         payloadItems.add(payload);
 
+        // Acknowledging alarms shouldn't have to wait for pending polling requests.
         return sendInternal(new S7MessageUserData(getTpduId(),
             new S7ParameterUserData(parameterItems),
-            new S7PayloadUserData(payloadItems)));
+            new S7PayloadUserData(payloadItems)), TransactionPriority.HIGH);
     }
 
     private S7Message encodeAlarmQueryRequest(S7PlcSubscriptionRequest request, int tpduId) {
@@ -1486,7 +1489,7 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
             new S7MessageRequest(getTpduId(),
                 new S7ParameterWriteVarRequest(parameterItems),
                 new S7PayloadWriteVarRequest(payloadItems)
-            ));
+            ), TransactionPriority.HIGH);
     }
 
     /**
@@ -1497,6 +1500,10 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
      * and does not further check that!
      */
     private CompletableFuture<S7Message> sendInternal(S7Message request) {
+        return sendInternal(request, TransactionPriority.NORMAL);
+    }
+
+    private CompletableFuture<S7Message> sendInternal(S7Message request, TransactionPriority priority) {
         CompletableFuture<S7Message> future = new CompletableFuture<>();
 
         // Get the tpduId from the S7 message.
@@ -1505,7 +1512,7 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
         TPKTPacket tpktPacket = new TPKTPacket(new COTPPacketData(null, request, true, (byte) 0));
 
         // Start a new request-transaction (Is ended in the response-handler)
-        RequestTransactionManager.RequestTransaction transaction = tm.startRequest();
+        RequestTransactionManager.RequestTransaction transaction = tm.startRequest(priority);
         // Send the request.
         transaction.submit(() -> conversationContext.sendRequest(tpktPacket)
             .onTimeout(new TransactionErrorCallback<>(future, transaction))
@@ -1525,6 +1532,15 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
         return future;
     }
 
+    @Override
+    protected Object getCorrelationKey(TPKTPacket msg) {
+        // Responses carry the tpdu reference of their request, COTP only messages have no key.
+        if ((msg.getPayload() == null) || (msg.getPayload().getPayload() == null)) {
+            return null;
+        }
+        return msg.getPayload().getPayload().getTpduReference();
+    }
+
     /**
      * DECODE:
      * This method is called when there is no handler for the message. 
@@ -1917,7 +1933,7 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
 
             if (responseCode == PlcResponseCode.OK) {
                 try {
-                    plcValue = parsePlcValue(tag, payloadItem.getData());
+                    plcValue = parsePlcValue(tag, payloadItem.getData(), s7DriverContext.getControllerType());
                 } catch (Exception e) {
                     throw new PlcProtocolException("Error decoding PlcValue", e);
                 }
@@ -2045,14 +2061,23 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
         return null;
     }
 
-    private PlcValue parsePlcValue(S7Tag tag, byte[] data) {
+    /**
+     * Decodes the data read for a tag.
+     * (Also used by the S7Optimizer to decode tags, which were read as part of a bigger byte range)
+     *
+     * @param tag tag the data was read for.
+     * @param data raw data returned by the PLC.
+     * @param controllerType type of the PLC the data was read from.
+     * @return decoded value or null, if the data couldn't be parsed.
+     */
+    public static PlcValue parsePlcValue(S7Tag tag, byte[] data, ControllerType controllerType) {
         ReadBuffer readBuffer = new ReadBufferByteBased(data);
         try {
             int stringLength = (tag instanceof S7StringFixedLengthTag) ? ((S7StringFixedLengthTag) tag).getStringLength() : 254;
             if (tag.getNumberOfElements() == 1) {
                 // TODO: Pass the type of plc into the parse function ...
                 return DataItem.staticParse(readBuffer, tag.getDataType().getDataProtocolId(),
-                    s7DriverContext.getControllerType(), stringLength);
+                    controllerType, stringLength);
             } else {
                 // In case of reading an array of bytes, make use of our simpler PlcRawByteArray as the user is
                 // probably expecting to process the read raw data.
@@ -2063,7 +2088,7 @@ public class S7ProtocolLogic extends Plc4xProtocolBase<TPKTPacket> {
                     final PlcValue[] resultItems = IntStream.range(0, tag.getNumberOfElements()).mapToObj(i -> {
                         try {
                             return DataItem.staticParse(readBuffer, tag.getDataType().getDataProtocolId(),
-                                s7DriverContext.getControllerType(), stringLength);
+                                controllerType, stringLength);
                         } catch (ParseException e) {
                             logger.warn("Error parsing tag item of type: '{}' (at position {}})", tag.getDataType().name(), i, e);
                         }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.tag;
+
+import org.apache.plc4x.java.s7.readwrite.MemoryArea;
+import org.apache.plc4x.java.s7.readwrite.TransportSize;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Tag used by the S7Optimizer to read the data of multiple tags located close to each other in one request item.
+ * It's only used internally and reads the covered byte range as BYTE array, from which the values of the
+ * individual tags are decoded.
+ */
+public class S7RangeTag extends S7Tag {
+
+    private final Map<String, S7Tag> tags;
+
+    public S7RangeTag(MemoryArea memoryArea, int blockNumber, int byteOffset, int numBytes, Map<String, S7Tag> tags) {
+        super(TransportSize.BYTE, memoryArea, blockNumber, byteOffset, (byte) 0, numBytes);
+        this.tags = Collections.unmodifiableMap(new LinkedHashMap<>(tags));
+    }
+
+    /**
+     * @return the tags covered by this range (by the names used in the original request).
+     */
+    public Map<String, S7Tag> getTags() {
+        return tags;
+    }
+
+    @Override
+    public String toString() {
+        return "S7RangeTag{" +
+            "memoryArea=" + getMemoryArea() +
+            ", blockNumber=" + getBlockNumber() +
+            ", byteOffset=" + getByteOffset() +
+            ", numBytes=" + getNumberOfElements() +
+            ", tags=" + tags.keySet() +
+            '}';
+    }
+
+}
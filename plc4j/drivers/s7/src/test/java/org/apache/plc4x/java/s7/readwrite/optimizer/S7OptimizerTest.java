@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.s7.readwrite.optimizer;
+
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.s7.readwrite.ControllerType;
+import org.apache.plc4x.java.s7.readwrite.context.S7DriverContext;
+import org.apache.plc4x.java.s7.readwrite.tag.S7RangeTag;
+import org.apache.plc4x.java.s7.readwrite.tag.S7Tag;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.optimizer.BaseOptimizer;
+import org.apache.plc4x.java.spi.values.PlcRawByteArray;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class S7OptimizerTest {
+
+    private S7Optimizer optimizer;
+    private S7DriverContext driverContext;
+
+    @BeforeEach
+    void setUp() {
+        optimizer = new S7Optimizer();
+        driverContext = new S7DriverContext();
+        driverContext.setPduSize(240);
+        driverContext.setControllerType(ControllerType.S7_1500);
+    }
+
+    @Test
+    void coalescesNeighbouringTags() {
+        PlcReadRequest readRequest = readRequest(
+            "real1", "%DB100.DBD0:REAL",
+            "real2", "%DB100.DBD4:REAL",
+            "real3", "%DB100.DBD12:REAL",
+            "farAway", "%DB100.DBD200:REAL",
+            "otherBlock", "%DB101.DBW2:INT",
+            "bool", "%DB100.DBX2.0:BOOL");
+
+        List<PlcReadRequest> subRequests = optimizer.processReadRequest(readRequest, driverContext);
+
+        assertEquals(1, subRequests.size());
+        PlcReadRequest subRequest = subRequests.get(0);
+        // The three REALs are read as one item, all others on their own.
+        assertEquals(4, subRequest.getNumberOfTags());
+        S7RangeTag rangeTag = subRequest.getTags().stream()
+            .filter(S7RangeTag.class::isInstance).map(S7RangeTag.class::cast).findFirst().orElseThrow();
+        assertEquals(0, rangeTag.getByteOffset());
+        assertEquals(16, rangeTag.getNumberOfElements());
+        assertEquals(100, rangeTag.getBlockNumber());
+        assertEquals(List.of("real1", "real2", "real3"), List.copyOf(rangeTag.getTags().keySet()));
+        assertTrue(subRequest.getTagNames().containsAll(List.of("farAway", "otherBlock", "bool")));
+    }
+
+    @Test
+    void packsScatteredTagsIntoPdus() {
+        String[] tags = new String[600];
+        for (int i = 0; i < 300; i++) {
+            tags[2 * i] = "tag" + i;
+            tags[(2 * i) + 1] = "%DB100.DBD" + (i * 8) + ":REAL";
+        }
+        PlcReadRequest readRequest = readRequest(tags);
+
+        List<PlcReadRequest> subRequests = optimizer.processReadRequest(readRequest, driverContext);
+
+        // 2400 bytes in total, with every response being able to hold a bit more than 200 bytes.
+        assertTrue(subRequests.size() <= 12, "Expected at most 12 sub-requests, got " + subRequests.size());
+        int numTags = 0;
+        for (PlcReadRequest subRequest : subRequests) {
+            int requestSize = S7Optimizer.EMPTY_READ_REQUEST_SIZE;
+            int responseSize = S7Optimizer.EMPTY_READ_RESPONSE_SIZE;
+            for (PlcTag tag : subRequest.getTags()) {
+                S7Tag s7Tag = (S7Tag) tag;
+                requestSize += S7Optimizer.S7_ADDRESS_ANY_SIZE;
+                responseSize += 4 + s7Tag.getNumberOfElements() * s7Tag.getDataType().getSizeInBytes();
+                numTags += (tag instanceof S7RangeTag) ? ((S7RangeTag) tag).getTags().size() : 1;
+            }
+            assertTrue(requestSize <= driverContext.getPduSize());
+            assertTrue(responseSize <= driverContext.getPduSize());
+        }
+        assertEquals(300, numTags);
+    }
+
+    @Test
+    void decodesTagsFromRangeResponse() {
+        PlcReadRequest readRequest = readRequest(
+            "real1", "%DB100.DBD0:REAL",
+            "int1", "%DB100.DBW6:INT",
+            "real2", "%DB100.DBD8:REAL");
+        List<PlcReadRequest> subRequests = optimizer.processReadRequest(readRequest, driverContext);
+        assertEquals(1, subRequests.size());
+        PlcReadRequest subRequest = subRequests.get(0);
+        String rangeTagName = subRequest.getTagNames().iterator().next();
+
+        byte[] data = ByteBuffer.allocate(12).putFloat(0, 1.5f).putShort(6, (short) 42).putFloat(8, -2.25f).array();
+        Map<PlcReadRequest, BaseOptimizer.SubResponse<PlcReadResponse>> subResponses = new HashMap<>();
+        subResponses.put(subRequest, new BaseOptimizer.SubResponse<>(response(subRequest,
+            rangeTagName, PlcResponseCode.OK, new PlcRawByteArray(data))));
+
+        PlcReadResponse readResponse = optimizer.processReadResponses(readRequest, subResponses, driverContext);
+
+        assertEquals(PlcResponseCode.OK, readResponse.getResponseCode("real1"));
+        assertEquals(1.5f, readResponse.getFloat("real1"));
+        assertEquals(42, readResponse.getInteger("int1"));
+        assertEquals(-2.25f, readResponse.getFloat("real2"));
+    }
+
+    @Test
+    void failedRangeFailsAllCoveredTags() {
+        PlcReadRequest readRequest = readRequest(
+            "real1", "%DB100.DBD0:REAL",
+            "real2", "%DB100.DBD4:REAL");
+        PlcReadRequest subRequest = optimizer.processReadRequest(readRequest, driverContext).get(0);
+        String rangeTagName = subRequest.getTagNames().iterator().next();
+
+        Map<PlcReadRequest, BaseOptimizer.SubResponse<PlcReadResponse>> subResponses = new HashMap<>();
+        subResponses.put(subRequest, new BaseOptimizer.SubResponse<>(response(subRequest,
+            rangeTagName, PlcResponseCode.INVALID_ADDRESS, null)));
+
+        PlcReadResponse readResponse = optimizer.processReadResponses(readRequest, subResponses, driverContext);
+
+        assertEquals(PlcResponseCode.INVALID_ADDRESS, readResponse.getResponseCode("real1"));
+        assertEquals(PlcResponseCode.INVALID_ADDRESS, readResponse.getResponseCode("real2"));
+    }
+
+    private static PlcReadRequest readRequest(String... namesAndAddresses) {
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndAddresses.length; i += 2) {
+            tags.put(namesAndAddresses[i], new DefaultPlcTagItem<>(S7Tag.of(namesAndAddresses[i + 1])));
+        }
+        return new DefaultPlcReadRequest(null, tags);
+    }
+
+    private static PlcReadResponse response(PlcReadRequest request, String tagName, PlcResponseCode responseCode, PlcValue value) {
+        Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
+        values.put(tagName, new DefaultPlcResponseItem<>(responseCode, value));
+        return new DefaultPlcReadResponse(request, values);
+    }
+
+}
@@ -43,6 +43,8 @@ public class Dummy implements Message {
   public Dummy(int dummy) {
     super();
     this.dummy = dummy;
+    // All fields are set, so the length can be computed right away.
+    getLengthInBits();
   }
 
   public int getDummy() {
@@ -69,15 +71,21 @@ public class Dummy implements Message {
     return (int) Math.ceil((float) getLengthInBits() / 8.0);
   }
 
+  // Messages are immutable, so the length is only computed once (-1 = not computed yet).
+  private int _lengthInBits = -1;
+
   @Override
   public int getLengthInBits() {
+    if (_lengthInBits >= 0) {
+      return _lengthInBits;
+    }
     int lengthInBits = 0;
     Dummy _value = this;
-    boolean _lastItem = ThreadLocalHelper.lastItemThreadLocal.get();
 
     // Simple field (dummy)
     lengthInBits += 16;
 
+    _lengthInBits = lengthInBits;
     return lengthInBits;
   }
 
@@ -40,8 +40,29 @@ public interface ConversationContext<T> {
 
     boolean isPassive();
 
+    /**
+     * Sends the message and blocks until it was written to the wire.
+     * Must not be called from the channels event loop.
+     *
+     * @param msg message to send
+     */
     void sendToWire(T msg);
 
+    /**
+     * Sends the message without waiting for it to be written.
+     *
+     * @param msg message to send
+     * @return future completed as soon as the message was written to the wire, or completed exceptionally if writing failed
+     */
+    default CompletableFuture<Void> sendToWireAsync(T msg) {
+        try {
+            sendToWire(msg);
+            return CompletableFuture.completedFuture(null);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
     void fireConnected();
 
     void fireDisconnected();
@@ -50,6 +71,18 @@ public interface ConversationContext<T> {
 
     SendRequestContext<T> sendRequest(T packet);
 
+    /**
+     * Returns the key which correlates a request with its response (e.g. an invoke id or transaction id).
+     * Responses to requests with a correlation key are looked up directly instead of checking all
+     * pending handlers.
+     *
+     * @param msg message to get the key for
+     * @return correlation key or null if the message doesn't contain one
+     */
+    default Object getCorrelationKey(T msg) {
+        return null;
+    }
+
     interface SendRequestContext<T> {
 
         /**
@@ -60,6 +93,15 @@ public interface ConversationContext<T> {
          */
         SendRequestContext<T> name(String name);
 
+        /**
+         * registers the expected response under the given correlation key, overriding
+         * the one derived from the request by {@link ConversationContext#getCorrelationKey(Object)}
+         *
+         * @param correlationKey the key the response will be looked up with (null disables the lookup)
+         * @return this
+         */
+        SendRequestContext<T> correlationKey(Object correlationKey);
+
         /**
          * defines a response type to be expected with an additional timeout
          *
@@ -19,10 +19,11 @@
 package org.apache.plc4x.java.spi;
 
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageCodec;
-import org.apache.commons.codec.binary.Hex;
 import org.apache.plc4x.java.spi.generation.*;
+import org.apache.plc4x.java.spi.utils.MessageDescriptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,10 +33,19 @@ public abstract class GeneratedDriverByteToMessageCodec<T extends Message> exten
 
     private static final Logger LOGGER = LoggerFactory.getLogger(GeneratedDriverByteToMessageCodec.class);
 
+    /**
+     * With debug logging enabled, only every n-th frame sent is logged as hex-dump (Defaults to 1, every frame).
+     */
+    public static final String PROPERTY_PLC4X_HEX_DUMP_SAMPLE_RATE = "PLC4X_HEX_DUMP_SAMPLE_RATE";
+
     private final ByteOrder byteOrder;
     private final MessageInput<T> messageInput;
     private final MessageOutput<T> messageOutput;
 
+    private int hexDumpSampleRate = Math.max(1, Integer.getInteger(PROPERTY_PLC4X_HEX_DUMP_SAMPLE_RATE, 1));
+    // Only accessed from the event loop of the channel.
+    private long numFramesSent;
+
     protected GeneratedDriverByteToMessageCodec(MessageInput<T> messageInput, MessageOutput<T> messageOutput,
                                                 Class<T> outboundMessageType, ByteOrder byteOrder) {
         super(outboundMessageType);
@@ -44,21 +54,40 @@ public abstract class GeneratedDriverByteToMessageCodec<T extends Message> exten
         this.byteOrder = byteOrder;
     }
 
+    /**
+     * @param hexDumpSampleRate with debug logging enabled, only every n-th frame sent is logged as hex-dump.
+     */
+    public void setHexDumpSampleRate(int hexDumpSampleRate) {
+        this.hexDumpSampleRate = Math.max(1, hexDumpSampleRate);
+    }
+
     @Override
     protected void encode(ChannelHandlerContext ctx, T packet, ByteBuf byteBuf) {
+        int startIndex = byteBuf.writerIndex();
         try {
-            WriteBufferByteBased buffer;
             if(messageOutput != null) {
-                buffer = messageOutput.serialize(packet);
+                WriteBufferByteBased buffer = messageOutput.serialize(packet);
+                byteBuf.writeBytes(buffer.getBytes());
             } else {
-                buffer = new WriteBufferByteBased(packet.getLengthInBytes(), byteOrder);
-                packet.serialize(buffer);
+                // Serialize the packet directly into the (pooled) outbound buffer, which is grown upfront,
+                // so it doesn't have to be reallocated while serializing.
+                byteBuf.ensureWritable(packet.getLengthInBytes());
+                packet.serialize(new WriteBufferByteBased(byteBuf, byteOrder));
             }
-            byteBuf.writeBytes(buffer.getBytes());
             if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Sending bytes to PLC for message {} as data {}", packet, Hex.encodeHexString(buffer.getBytes()));
+                if (numFramesSent++ % hexDumpSampleRate == 0) {
+                    LOGGER.debug("Sending bytes to PLC for message {} as data {}", MessageDescriptions.summary(packet),
+                        ByteBufUtil.hexDump(byteBuf, startIndex, byteBuf.writerIndex() - startIndex));
+                } else {
+                    LOGGER.debug("Sending bytes to PLC for message {}", MessageDescriptions.summary(packet));
+                }
+                if (LOGGER.isTraceEnabled()) {
+                    LOGGER.trace("Message content {}", MessageDescriptions.box(packet));
+                }
             }
         } catch (Exception e) {
+            // Don't send partially serialized packets.
+            byteBuf.writerIndex(startIndex);
             LOGGER.warn("Error encoding package [{}]: {}", packet, e.getMessage(), e);
         }
     }
@@ -68,7 +97,7 @@ public abstract class GeneratedDriverByteToMessageCodec<T extends Message> exten
         LOGGER.trace("Receiving bytes, trying to decode Message...");
         // As long as there is data available, continue checking the content.
         while (byteBuf.readableBytes() > 0) {
-            byte[] bytes = null;
+            ByteBuf packetBuffer = null;
             try {
                 // Check if enough data is present to process the entire package.
                 int packetSize = getPacketSize(byteBuf);
@@ -76,10 +105,9 @@ public abstract class GeneratedDriverByteToMessageCodec<T extends Message> exten
                     return;
                 }
 
-                // Read the packet data into a new ReadBuffer
-                bytes = new byte[packetSize];
-                byteBuf.readBytes(bytes);
-                ReadBuffer readBuffer = new ReadBufferByteBased(bytes, byteOrder);
+                // Parse the packet directly from the received data (The slice is only used while parsing).
+                packetBuffer = byteBuf.readSlice(packetSize);
+                ReadBuffer readBuffer = new ReadBufferByteBased(packetBuffer, byteOrder);
 
                 // Parse the packet.
                 T packet = messageInput.parse(readBuffer);
@@ -93,9 +121,9 @@ public abstract class GeneratedDriverByteToMessageCodec<T extends Message> exten
                     return;
                 }
             } catch (Exception e) {
-                if (bytes != null) {
+                if (packetBuffer != null) {
                     LOGGER.warn("Error decoding package with content [{}]: {}",
-                        Hex.encodeHexString(bytes), e.getMessage(), e);
+                        ByteBufUtil.hexDump(packetBuffer), e.getMessage(), e);
                 }
                 // Just remove any trailing junk ... if there is any.
                 removeRestOfCorruptPackage(byteBuf);
@@ -25,6 +25,7 @@ import io.netty.channel.ChannelPromise;
 import io.netty.handler.codec.MessageToMessageCodec;
 import io.vavr.control.Either;
 
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
@@ -36,7 +37,9 @@ import org.apache.plc4x.java.spi.internal.DefaultConversationContext;
 import org.apache.plc4x.java.spi.internal.DefaultExpectRequestContext;
 import org.apache.plc4x.java.spi.internal.DefaultSendRequestContext;
 import org.apache.plc4x.java.spi.internal.HandlerRegistration;
+import org.apache.plc4x.java.spi.netty.ChannelWriter;
 import org.apache.plc4x.java.spi.netty.NettyHashTimerTimeoutManager;
+import org.apache.plc4x.java.spi.utils.MessageDescriptions;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,7 +47,9 @@ import java.time.Duration;
 import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -59,8 +64,11 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
     private final PlcAuthentication authentication;
 
     private final Queue<HandlerRegistration> registeredHandlers;
+    /** Registrations with a correlation key, responses carrying the same key are dispatched without a scan */
+    private final Map<Object, HandlerRegistration> correlatedHandlers;
     private final boolean passive;
     private final TimeoutManager timeoutManager;
+    private volatile ChannelWriter channelWriter = new ChannelWriter(false);
 
     public Plc4xNettyWrapper(ChannelPipeline pipeline, boolean passive, Plc4xProtocolBase<T> protocol,
         PlcAuthentication authentication, Class<T> clazz) {
@@ -72,6 +80,7 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
         super(clazz, Object.class);
         this.passive = passive;
         this.registeredHandlers = new ConcurrentLinkedQueue<>();
+        this.correlatedHandlers = new ConcurrentHashMap<>();
         this.protocolBase = protocol;
         this.authentication = authentication;
         this.timeoutManager = timeoutManager;
@@ -94,7 +103,12 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
 
             @Override
             public void sendToWire(T msg) {
-                pipeline.writeAndFlush(msg).syncUninterruptibly();
+                channelWriter.write(pipeline.channel(), msg).syncUninterruptibly();
+            }
+
+            @Override
+            public CompletableFuture<Void> sendToWireAsync(T msg) {
+                return ChannelWriter.toCompletableFuture(channelWriter.write(pipeline.channel(), msg));
             }
 
             @Override
@@ -112,6 +126,11 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
                 pipeline.fireUserEventTriggered(DiscoveredEvent.class);
             }
 
+            @Override
+            public Object getCorrelationKey(T msg) {
+                return Plc4xNettyWrapper.this.getCorrelationKey(msg);
+            }
+
             @Override
             public SendRequestContext<T> sendRequest(T packet) {
                 return new DefaultSendRequestContext<>(null, Plc4xNettyWrapper.this::registerHandler, packet, this);
@@ -125,6 +144,13 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
         });
     }
 
+    /**
+     * @param writeCoalescing if enabled, messages sent within one event-loop iteration are flushed together.
+     */
+    public void setWriteCoalescing(boolean writeCoalescing) {
+        this.channelWriter = new ChannelWriter(writeCoalescing);
+    }
+
     @Override
     public void close(ChannelHandlerContext ctx, ChannelPromise promise) throws Exception {
         super.close(ctx, promise);
@@ -133,16 +159,31 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
 
     @Override
     protected void encode(ChannelHandlerContext channelHandlerContext, Object msg, List<Object> list) throws Exception {
-        logger.debug("Forwarding request to plc {}", msg);
+        if (logger.isDebugEnabled()) {
+            // Only a summary, the codec logs the full content with trace logging enabled.
+            logger.debug("Forwarding request to plc {}", MessageDescriptions.summary(msg));
+        }
         list.add(msg);
     }
 
     @Override
     protected void decode(ChannelHandlerContext channelHandlerContext, T payload, List<Object> list) throws Exception {
         logger.trace("Decoding {}", payload);
-        // Just iterate the list to find a suitable  Handler
+        // If the message carries a correlation key, try the registration waiting for it first
+        Object correlationKey = getCorrelationKey(payload);
+        if (correlationKey != null) {
+            HandlerRegistration registration = this.correlatedHandlers.get(correlationKey);
+            if (registration != null) {
+                if (registration.isCancelled() || registration.isDone()) {
+                    logger.debug("Removing {} as it was cancelled or is already done. Timed out?", registration);
+                    this.correlatedHandlers.remove(correlationKey, registration);
+                } else if (tryHandle(registration, payload)) {
+                    return;
+                }
+            }
+        }
 
-        registrations:
+        // Just iterate the list to find a suitable  Handler
         for (Iterator<HandlerRegistration> iter = this.registeredHandlers.iterator(); iter.hasNext(); ) {
             HandlerRegistration registration = iter.next();
             // Check if the handler can still be used or should be removed
@@ -158,46 +199,88 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
                 iter.remove();
                 continue;
             }
-            logger.trace("Checking handler {} for Object of type {}", registration, payload.getClass().getSimpleName());
-            if (registration.getExpectClazz().isInstance(payload)) {
-                logger.trace("Handler {} has right expected type {}, checking condition", registration, registration.getExpectClazz().getSimpleName());
-                Object message = payload;
-                try {
-                    // Check all Commands / Functions
-                    Deque<Either<Function<?, ?>, Predicate<?>>> commands = registration.getCommands();
-                    for (Either<Function<?, ?>, Predicate<?>> either : commands) {
-                        if (either.isLeft()) {
-                            Function unwrap = either.getLeft();
-                            message = unwrap.apply(message);
-                        } else {
-                            Predicate predicate = either.get();
-                            if (!predicate.test(message)) {
-                                // We do not match -> cannot handle
-                                logger.trace("Registration {} with predicate {} does not match object {} (currently wrapped to {})", registration, predicate,
-                                    payload.getClass().getSimpleName(), message.getClass().getSimpleName());
-                                continue registrations;
-                            }
-                        }
-                    }
-                    logger.trace("Handler {} accepts element {}, calling handle method", registration, payload);
-                    this.registeredHandlers.remove(registration);
-                    Consumer handler = registration.getPacketConsumer();
-                    handler.accept(message);
-                    // Confirm that it was handled!
-                    registration.confirmHandled();
-                } catch (Exception e) {
-                    logger.trace("Failure while processing payload {} with handler {}", message, registration, e);
-                    BiConsumer biConsumer = registration.getErrorConsumer();
-                    if(biConsumer != null) {
-                        biConsumer.accept(message, e);
+            if (tryHandle(registration, payload)) {
+                return;
+            }
+        }
+
+        // Responses not carrying the key of their request (or none at all) might still match a correlated registration
+        for (Iterator<HandlerRegistration> iter = this.correlatedHandlers.values().iterator(); iter.hasNext(); ) {
+            HandlerRegistration registration = iter.next();
+            if (registration.isCancelled() || registration.isDone()) {
+                logger.debug("Removing {} as it was cancelled or is already done. Timed out?", registration);
+                iter.remove();
+                continue;
+            }
+            if (tryHandle(registration, payload)) {
+                return;
+            }
+        }
+        logger.trace("None of {} registered handlers could handle message {}, using default decode method",
+            this.registeredHandlers.size() + this.correlatedHandlers.size(), payload);
+        protocolBase.decode(newConversationContext(channelHandlerContext), payload);
+    }
+
+    /**
+     * Checks if the given registration accepts the payload and if so, passes the payload to it.
+     *
+     * @param registration registration to check.
+     * @param payload      message received.
+     * @return true, if the registration accepted (and consumed) the payload.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean tryHandle(HandlerRegistration registration, T payload) {
+        logger.trace("Checking handler {} for Object of type {}", registration, payload.getClass().getSimpleName());
+        if (!registration.getExpectClazz().isInstance(payload)) {
+            return false;
+        }
+        logger.trace("Handler {} has right expected type {}, checking condition", registration, registration.getExpectClazz().getSimpleName());
+        Object message = payload;
+        try {
+            // Check all Commands / Functions
+            Deque<Either<Function<?, ?>, Predicate<?>>> commands = registration.getCommands();
+            for (Either<Function<?, ?>, Predicate<?>> either : commands) {
+                if (either.isLeft()) {
+                    Function unwrap = either.getLeft();
+                    message = unwrap.apply(message);
+                } else {
+                    Predicate predicate = either.get();
+                    if (!predicate.test(message)) {
+                        // We do not match -> cannot handle
+                        logger.trace("Registration {} with predicate {} does not match object {} (currently wrapped to {})", registration, predicate,
+                            payload.getClass().getSimpleName(), message.getClass().getSimpleName());
+                        return false;
                     }
-                    registration.confirmError();
                 }
-                return;
             }
+            logger.trace("Handler {} accepts element {}, calling handle method", registration, payload);
+            unregister(registration);
+            Consumer handler = registration.getPacketConsumer();
+            handler.accept(message);
+            // Confirm that it was handled!
+            registration.confirmHandled();
+        } catch (Exception e) {
+            logger.trace("Failure while processing payload {} with handler {}", message, registration, e);
+            BiConsumer biConsumer = registration.getErrorConsumer();
+            if(biConsumer != null) {
+                biConsumer.accept(message, e);
+            }
+            registration.confirmError();
         }
-        logger.trace("None of {} registered handlers could handle message {}, using default decode method", this.registeredHandlers.size(), payload);
-        protocolBase.decode(new DefaultConversationContext<>(this::registerHandler, channelHandlerContext, authentication, passive), payload);
+        return true;
+    }
+
+    private Object getCorrelationKey(T msg) {
+        try {
+            return protocolBase.getCorrelationKey(msg);
+        } catch (RuntimeException e) {
+            logger.debug("Error getting correlation key of {}", msg, e);
+            return null;
+        }
+    }
+
+    private DefaultConversationContext<T> newConversationContext(ChannelHandlerContext ctx) {
+        return new DefaultConversationContext<>(this::registerHandler, ctx, authentication, passive, this::getCorrelationKey, channelWriter);
     }
 
     @Override
@@ -206,13 +289,13 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
         // by sending a connection request to the plc.
         logger.debug("User Event triggered {}", evt);
         if (evt instanceof ConnectEvent) {
-            this.protocolBase.onConnect(new DefaultConversationContext<>(this::registerHandler, ctx, authentication, passive));
+            this.protocolBase.onConnect(newConversationContext(ctx));
         } else if (evt instanceof DisconnectEvent) {
-            this.protocolBase.onDisconnect(new DefaultConversationContext<>(this::registerHandler, ctx, authentication, passive));
+            this.protocolBase.onDisconnect(newConversationContext(ctx));
         } else if (evt instanceof DiscoverEvent) {
-            this.protocolBase.onDiscover(new DefaultConversationContext<>(this::registerHandler, ctx, authentication, passive));
+            this.protocolBase.onDiscover(newConversationContext(ctx));
         } else if (evt instanceof CloseConnectionEvent) {
-            this.protocolBase.close(new DefaultConversationContext<>(this::registerHandler, ctx, authentication, passive));
+            this.protocolBase.close(newConversationContext(ctx));
         } else {
             super.userEventTriggered(ctx, evt);
         }
@@ -249,16 +332,33 @@ public class Plc4xNettyWrapper<T> extends MessageToMessageCodec<T, Object> {
             handler::confirmHandled,
             handler::confirmError,
             handler::cancel,
-            handler.getTimeout()
+            handler.getTimeout(),
+            handler.getCorrelationKey()
         );
         deferred.set(registration);
-        registeredHandlers.add(registration);
+        // Cancelled requests (e.g. ones that couldn't be sent) won't be answered, so stop waiting for them.
+        handler.whenCancelled(() -> {
+            unregister(registration);
+            completionCallback.complete();
+        });
+        Object correlationKey = registration.getCorrelationKey();
+        // If another request is still waiting for the same key, fall back to checking the registration one by one.
+        if ((correlationKey == null) || (correlatedHandlers.putIfAbsent(correlationKey, registration) != null)) {
+            registeredHandlers.add(registration);
+        }
+    }
+
+    private void unregister(HandlerRegistration registration) {
+        Object correlationKey = registration.getCorrelationKey();
+        if ((correlationKey == null) || !correlatedHandlers.remove(correlationKey, registration)) {
+            registeredHandlers.remove(registration);
+        }
     }
 
     private Consumer<TimeoutException> onTimeout(AtomicReference<HandlerRegistration> reference, Consumer<TimeoutException> onTimeoutConsumer) {
         return timeoutException -> {
             final HandlerRegistration registration = reference.get();
-            registeredHandlers.remove(registration);
+            unregister(registration);
             onTimeoutConsumer.accept(timeoutException);
             registration.confirmError();
         };
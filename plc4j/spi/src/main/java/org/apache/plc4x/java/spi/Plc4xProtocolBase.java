@@ -71,6 +71,18 @@ public abstract class Plc4xProtocolBase<T> {
     protected void decode(ConversationContext<T> context, T msg) throws Exception {
     }
 
+    /**
+     * Returns the key correlating a request with its response (such as an invoke id), if the protocol has one.
+     * It is used for requests sent as well as incoming messages, so a response can be matched with its pending
+     * request without checking every registered handler. Messages without a key fall back to checking all handlers.
+     *
+     * @param msg message to get the key for.
+     * @return key (which needs to implement equals and hashCode) or null, if the message doesn't carry one.
+     */
+    protected Object getCorrelationKey(T msg) {
+        return null;
+    }
+
     public CompletableFuture<PlcPingResponse> ping(PlcPingRequest pingRequest) {
         throw new NotImplementedException("");
     }
@@ -19,5 +19,31 @@
 
 package org.apache.plc4x.java.spi.configuration;
 
+import org.apache.plc4x.java.spi.transaction.TransactionExecutorMode;
+
 public interface PlcConnectionConfiguration extends PlcConfiguration {
+
+    /**
+     * @return mode defining which threads the connections request transactions are executed on.
+     * Drivers supporting this expose it as "transaction-executor" connection parameter.
+     */
+    default TransactionExecutorMode getTransactionExecutorMode() {
+        return TransactionExecutorMode.DEDICATED;
+    }
+
+    /**
+     * @return size of the shared transaction thread pool (values less than 1 select the number of available processors).
+     */
+    default int getTransactionExecutorPoolSize() {
+        return 0;
+    }
+
+    /**
+     * @return true, if messages sent within one event-loop iteration should be flushed to the wire together.
+     * Drivers supporting this expose it as "write-coalescing" connection parameter.
+     */
+    default boolean isWriteCoalescing() {
+        return false;
+    }
+
 }
@@ -207,8 +207,24 @@ public abstract class AbstractPlcConnection implements PlcConnection, PlcConnect
 
     @Override
     public CompletableFuture<PlcReadResponse> read(PlcReadRequest readRequest) {
+        return read(readRequest, null);
+    }
+
+    /**
+     * Same as {@link #read(PlcReadRequest)}, but if the driver splits the request up into multiple sub-requests,
+     * the results of every sub-request are passed to the given consumer as soon as they are available, instead of
+     * only being returned after the last one finished.
+     * <p>
+     * The partial responses only contain the tags of one sub-request (and never invalid tags). Tags split up
+     * over multiple sub-requests are only contained in the final response.
+     *
+     * @param readRequest             read request.
+     * @param partialResponseConsumer consumer for the partial responses (Can be null).
+     * @return future completed with the full response.
+     */
+    public CompletableFuture<PlcReadResponse> read(PlcReadRequest readRequest, Consumer<PlcReadResponse> partialResponseConsumer) {
         PlcReadRequest filteredReadRequest = getFilteredReadRequest((DefaultPlcReadRequest) readRequest);
-        return internalRead(filteredReadRequest)
+        return internalRead(filteredReadRequest, partialResponseConsumer)
             .thenApply(filteredReadResponse -> {
                 // Shortcut for the case that all tags were valid.
                 if(readRequest.getNumberOfTags() == filteredReadRequest.getNumberOfTags()) {
@@ -231,8 +247,19 @@ public abstract class AbstractPlcConnection implements PlcConnection, PlcConnect
     }
 
     protected CompletableFuture<PlcReadResponse> internalRead(PlcReadRequest readRequest) {
+        return internalRead(readRequest, null);
+    }
+
+    protected CompletableFuture<PlcReadResponse> internalRead(PlcReadRequest readRequest, Consumer<PlcReadResponse> partialResponseConsumer) {
         if(optimizer != null) {
-            return optimizer.optimizedRead(readRequest, protocol);
+            return optimizer.optimizedRead(readRequest, protocol, partialResponseConsumer);
+        }
+        if(partialResponseConsumer != null) {
+            // Without optimizer, the only partial response is the full one.
+            return protocol.read(readRequest).thenApply(readResponse -> {
+                partialResponseConsumer.accept(readResponse);
+                return readResponse;
+            });
         }
         return protocol.read(readRequest);
     }
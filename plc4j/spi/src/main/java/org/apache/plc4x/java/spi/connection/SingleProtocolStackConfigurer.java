@@ -113,6 +113,7 @@ public class SingleProtocolStackConfigurer<BASE_PACKET_CLASS extends Message> im
         pipeline.addLast(new EventListenerMessageCodec(listeners));
         Plc4xNettyWrapper<BASE_PACKET_CLASS> context = new Plc4xNettyWrapper<>(new NettyHashTimerTimeoutManager(), pipeline, passive, protocol,
             authentication, basePacketClass);
+        context.setWriteCoalescing((configuration != null) && configuration.isWriteCoalescing());
         pipeline.addLast(context);
         return protocol;
     }
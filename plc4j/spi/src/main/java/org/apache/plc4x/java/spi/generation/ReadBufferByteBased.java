@@ -18,52 +18,70 @@
  */
 package org.apache.plc4x.java.spi.generation;
 
-import com.github.jinahya.bit.io.ArrayByteInput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
-import org.apache.plc4x.java.spi.generation.io.MyDefaultBitInput;
 
-import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Objects;
 
+/**
+ * Reads from a netty {@link ByteBuf}. Byte arrays are wrapped and buffers passed in are only sliced, so the
+ * data is never copied. Byte-aligned reads of 8, 16, 32 and 64 bits and byte arrays are read in one go,
+ * everything else is read bit by bit.
+ */
 public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
 
-    private final MyDefaultBitInput bi;
+    private final ByteBuf buffer;
     private ByteOrder byteOrder;
     private final int totalBytes;
-    private int bitPos; // This is useful when debugging so you can see the actual bit position
+    /** Index of the byte currently read */
+    private int bytePos;
+    /** Number of bits already read from the current byte */
+    private int bitOffset;
 
     public ReadBufferByteBased(byte[] input) {
         this(input, ByteOrder.BIG_ENDIAN);
     }
 
     public ReadBufferByteBased(byte[] input, ByteOrder byteOrder) {
+        this(Unpooled.wrappedBuffer(Objects.requireNonNull(input)), byteOrder);
+    }
+
+    /**
+     * Reads the readable bytes of the given buffer, without modifying its reader index.
+     * The buffer must not be modified or released while this read buffer is in use.
+     *
+     * @param input     buffer to read from.
+     * @param byteOrder byte order of the data.
+     */
+    public ReadBufferByteBased(ByteBuf input, ByteOrder byteOrder) {
         Objects.requireNonNull(input);
         Objects.requireNonNull(byteOrder);
-        ArrayByteInput abi = new ArrayByteInput(input);
-        this.bi = new MyDefaultBitInput(abi);
+        this.buffer = input.slice();
         this.byteOrder = byteOrder;
-        this.totalBytes = input.length;
+        this.totalBytes = buffer.capacity();
     }
 
     @Override
     public int getPos() {
-        return (int) bi.getPos();
+        // A partially read byte counts as read.
+        return (bitOffset == 0) ? bytePos : bytePos + 1;
     }
 
     @Override
     public void reset(int pos) {
-        bi.reset(pos);
-        bitPos = pos*8;
+        bytePos = pos;
+        bitOffset = 0;
     }
 
     public byte[] getBytes(int startPos, int endPos) {
         int numBytes = endPos - startPos;
         byte[] data = new byte[numBytes];
-        System.arraycopy(bi.getDelegate().getSource(), startPos, data, 0, numBytes);
+        buffer.getBytes(startPos, data);
         return data;
     }
 
@@ -87,19 +105,11 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
     }
 
     public byte peekByte(int offset) throws ParseException {
-        // Remember the old index.
-        int oldIndex = bi.getDelegate().getIndex();
-        try {
-            // Set the delegate to the desired position.
-            bi.getDelegate().index(oldIndex + offset);
-            // Read the byte.
-            return bi.readByte(false, 8);
-        } catch (IOException e) {
-            throw new ParseException("Error peeking byte", e);
-        } finally {
-            // Reset the delegate to the old index.
-            bi.getDelegate().index(oldIndex);
+        int index = getPos() + offset;
+        if ((index < 0) || (index >= totalBytes)) {
+            throw new ParseException("Error peeking byte", new ArrayIndexOutOfBoundsException(index));
         }
+        return buffer.getByte(index);
     }
 
     @Override
@@ -109,24 +119,37 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
 
     @Override
     public boolean readBit(String logicalName, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos++;
-        try {
-            return bi.readBoolean();
-        } catch (IOException e) {
-            throw new ParseException("Error reading bit", e);
-        }
+        return readBit(logicalName);
+    }
+
+    /*
+     * The overloads without reader arguments always use the default encoding and byte order of this buffer.
+     * As they don't need a varargs array, parsers generated with the "generate-fast-path-parsers" option
+     * use them to read fields without any allocation.
+     */
+
+    public boolean readBit(String logicalName) throws ParseException {
+        return readBits(true, 1) != 0;
     }
 
     @Override
     public byte readByte(String logicalName, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=8;
         return readSignedByte(logicalName, 8, readerArgs);
     }
 
+    public byte readByte(String logicalName) throws ParseException {
+        return readSignedByte(logicalName, 8);
+    }
+
     @Override
     public byte[] readByteArray(String logicalName, int numberOfBytes, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=numberOfBytes*8;
         byte[] bytes = new byte[numberOfBytes];
+        if (bitOffset == 0) {
+            checkAvailable(numberOfBytes);
+            buffer.getBytes(bytePos, bytes);
+            bytePos += numberOfBytes;
+            return bytes;
+        }
         for (int i = 0; i < numberOfBytes; i++) {
             bytes[i] = readByte();
         }
@@ -135,199 +158,218 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
 
     @Override
     public byte readUnsignedByte(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
         if (bitLength <= 0) {
             throw new ParseException("unsigned byte must contain at least 1 bit");
         }
         if (bitLength > 7) {
             throw new ParseException("unsigned byte can only contain max 4 bits");
         }
-        try {
-            String encoding = extractEncoding(readerArgs).orElse("default");
-            switch (encoding) {
-                case "default":
-                    return bi.readByte(true, bitLength);
-                // BCD = Binary Encoded Decimal (A decimal number is represented by a sequence of 4 bit hexadecimal values from 0-9.
-                // https://www.elektronik-kompendium.de/sites/dig/1010311.htm
-                case "BCD":
-                    if (bitLength % 4 != 0) {
-                        throw new ParseException("'BCD' encoded fields must have a length that is a multiple of 4 bits long");
-                    }
-                    byte digit = bi.readByte(true, 4);
-                    if ((digit < 0) || (digit > 9)) {
-                        throw new ParseException("'BCD' encoded value is not a correctly encoded BCD value");
-                    }
-                    return digit;
-                default:
-                    throw new ParseException("unsupported encoding '" + encoding + "'");
-            }
-        } catch (IOException e) {
-            throw new ParseException("Error reading unsigned byte", e);
+        String encoding = extractEncoding(readerArgs).orElse("default");
+        switch (encoding) {
+            case "default":
+                return readUnsignedByte(logicalName, bitLength);
+            // BCD = Binary Encoded Decimal (A decimal number is represented by a sequence of 4 bit hexadecimal values from 0-9.
+            // https://www.elektronik-kompendium.de/sites/dig/1010311.htm
+            case "BCD":
+                if (bitLength % 4 != 0) {
+                    throw new ParseException("'BCD' encoded fields must have a length that is a multiple of 4 bits long");
+                }
+                byte digit = (byte) readBits(true, 4);
+                if ((digit < 0) || (digit > 9)) {
+                    throw new ParseException("'BCD' encoded value is not a correctly encoded BCD value");
+                }
+                return digit;
+            default:
+                throw new ParseException("unsupported encoding '" + encoding + "'");
+        }
+    }
+
+    public byte readUnsignedByte(String logicalName, int bitLength) throws ParseException {
+        if (bitLength <= 0) {
+            throw new ParseException("unsigned byte must contain at least 1 bit");
+        }
+        if (bitLength > 7) {
+            throw new ParseException("unsigned byte can only contain max 4 bits");
         }
+        return (byte) readBits(true, bitLength);
     }
 
     @Override
     public short readUnsignedShort(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
         if (bitLength <= 0) {
             throw new ParseException("unsigned short must contain at least 1 bit");
         }
         if (bitLength > 15) {
             throw new ParseException("unsigned short can only contain max 8 bits");
         }
-        try {
-            String encoding = extractEncoding(readerArgs).orElse("default");
-            switch (encoding) {
-                case "ASCII":
-                    // AsciiUint can only decode values that have a multiple of 8 length.
-                    if (bitLength % 8 != 0) {
-                        throw new ParseException("'ASCII' encoded fields must have a length that is a multiple of 8 bits long");
-                    }
-                    int charLen = bitLength / 8;
-                    byte[] stringBytes = new byte[charLen];
-                    for (int i = 0; i < charLen; i++) {
-                        stringBytes[i] = bi.readByte(false, 8);
-                    }
-                    String stringValue = new String(stringBytes, StandardCharsets.US_ASCII);
-                    stringValue = stringValue.trim();
-                    return Short.parseShort(stringValue);
-                case "BCD":
-                    if (bitLength % 4 != 0) {
-                        throw new ParseException("'BCD' encoded fields must have a length that is a multiple of 4 bits long");
-                    }
-                    int numDigits = bitLength / 4;
-                    short value = 0;
-                    for (int i = numDigits - 1; i >= 0; i--) {
-                        byte digit = bi.readByte(true, 4);
-                        if ((digit < 0) || (digit > 9)) {
-                            throw new ParseException("'BCD' encoded value is not a correctly encoded BCD value");
-                        }
-                        // Shift the current digit to the required position and add it to the rest.
-                        value += (short) (digit * Math.pow(10, i));
+        String encoding = extractEncoding(readerArgs).orElse("default");
+        switch (encoding) {
+            case "ASCII":
+                // AsciiUint can only decode values that have a multiple of 8 length.
+                if (bitLength % 8 != 0) {
+                    throw new ParseException("'ASCII' encoded fields must have a length that is a multiple of 8 bits long");
+                }
+                int charLen = bitLength / 8;
+                byte[] stringBytes = new byte[charLen];
+                for (int i = 0; i < charLen; i++) {
+                    stringBytes[i] = (byte) readBits(false, 8);
+                }
+                String stringValue = new String(stringBytes, StandardCharsets.US_ASCII);
+                stringValue = stringValue.trim();
+                return Short.parseShort(stringValue);
+            case "BCD":
+                if (bitLength % 4 != 0) {
+                    throw new ParseException("'BCD' encoded fields must have a length that is a multiple of 4 bits long");
+                }
+                int numDigits = bitLength / 4;
+                short value = 0;
+                for (int i = numDigits - 1; i >= 0; i--) {
+                    byte digit = (byte) readBits(true, 4);
+                    if ((digit < 0) || (digit > 9)) {
+                        throw new ParseException("'BCD' encoded value is not a correctly encoded BCD value");
                     }
-                    return value;
-                case "default":
-                    // No need to flip here as we're only reading one byte.
-                    return bi.readShort(true, bitLength);
-                default:
-                    throw new ParseException("unsupported encoding '" + encoding + "'");
-            }
-        } catch (IOException e) {
-            throw new ParseException("Error reading unsigned short", e);
+                    // Shift the current digit to the required position and add it to the rest.
+                    value += (short) (digit * Math.pow(10, i));
+                }
+                return value;
+            case "default":
+                return readUnsignedShort(logicalName, bitLength);
+            default:
+                throw new ParseException("unsupported encoding '" + encoding + "'");
+        }
+    }
+
+    public short readUnsignedShort(String logicalName, int bitLength) throws ParseException {
+        if (bitLength <= 0) {
+            throw new ParseException("unsigned short must contain at least 1 bit");
         }
+        if (bitLength > 15) {
+            throw new ParseException("unsigned short can only contain max 8 bits");
+        }
+        // No need to flip here as we're only reading one byte.
+        return (short) readBits(true, bitLength);
     }
 
     @Override
     public int readUnsignedInt(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
         if (bitLength <= 0) {
             throw new ParseException("unsigned int must contain at least 1 bit");
         }
         if (bitLength > 31) {
             throw new ParseException("unsigned int can only contain max 16 bits");
         }
-        try {
-            String encoding = extractEncoding(readerArgs).orElse("default");
-            switch (encoding) {
-                case "ASCII":
-                    // AsciiUint can only decode values that have a multiple of 8 length.
-                    if (bitLength % 8 != 0) {
-                        throw new ParseException("'ASCII' encoded fields must have a length that is a multiple of 8 bits long");
-                    }
-                    int charLen = bitLength / 8;
-                    byte[] stringBytes = new byte[charLen];
-                    for (int i = 0; i < charLen; i++) {
-                        stringBytes[i] = bi.readByte(false, 8);
-                    }
-                    String stringValue = new String(stringBytes, StandardCharsets.US_ASCII);
-                    stringValue = stringValue.trim();
-                    return Integer.parseInt(stringValue);
-                case "BCD":
-                    if (bitLength % 4 != 0) {
-                        throw new ParseException("'BCD' encoded fields must have a length that is a multiple of 4 bits long");
-                    }
-                    int numDigits = bitLength / 4;
-                    int value = 0;
-                    for (int i = numDigits - 1; i >= 0; i--) {
-                        byte digit = bi.readByte(true, 4);
-                        if ((digit < 0) || (digit > 9)) {
-                            throw new ParseException("'BCD' encoded value is not a correctly encoded BCD value");
-                        }
-                        // Shift the current digit to the required position and add it to the rest.
-                        value += (int) (digit * Math.pow(10, i));
-                    }
-                    return value;
-                case "default":
-                    if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
-                        final int longValue = bi.readInt(true, bitLength);
-                        return Integer.reverseBytes(longValue) >>> (32 - bitLength);
+        String encoding = extractEncoding(readerArgs).orElse("default");
+        switch (encoding) {
+            case "ASCII":
+                // AsciiUint can only decode values that have a multiple of 8 length.
+                if (bitLength % 8 != 0) {
+                    throw new ParseException("'ASCII' encoded fields must have a length that is a multiple of 8 bits long");
+                }
+                int charLen = bitLength / 8;
+                byte[] stringBytes = new byte[charLen];
+                for (int i = 0; i < charLen; i++) {
+                    stringBytes[i] = (byte) readBits(false, 8);
+                }
+                String stringValue = new String(stringBytes, StandardCharsets.US_ASCII);
+                stringValue = stringValue.trim();
+                return Integer.parseInt(stringValue);
+            case "BCD":
+                if (bitLength % 4 != 0) {
+                    throw new ParseException("'BCD' encoded fields must have a length that is a multiple of 4 bits long");
+                }
+                int numDigits = bitLength / 4;
+                int value = 0;
+                for (int i = numDigits - 1; i >= 0; i--) {
+                    byte digit = (byte) readBits(true, 4);
+                    if ((digit < 0) || (digit > 9)) {
+                        throw new ParseException("'BCD' encoded value is not a correctly encoded BCD value");
                     }
-                    return bi.readInt(true, bitLength);
-                default:
-                    throw new ParseException("unsupported encoding '" + encoding + "'");
-            }
-        } catch (IOException e) {
-            throw new ParseException("Error reading unsigned int", e);
+                    // Shift the current digit to the required position and add it to the rest.
+                    value += (int) (digit * Math.pow(10, i));
+                }
+                return value;
+            case "default":
+                return readUnsignedInt(logicalName, bitLength);
+            default:
+                throw new ParseException("unsupported encoding '" + encoding + "'");
+        }
+    }
+
+    public int readUnsignedInt(String logicalName, int bitLength) throws ParseException {
+        if (bitLength <= 0) {
+            throw new ParseException("unsigned int must contain at least 1 bit");
+        }
+        if (bitLength > 31) {
+            throw new ParseException("unsigned int can only contain max 16 bits");
+        }
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            final int longValue = (int) readBits(true, bitLength);
+            return Integer.reverseBytes(longValue) >>> (32 - bitLength);
         }
+        return (int) readBits(true, bitLength);
     }
 
     @Override
     public long readUnsignedLong(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
         if (bitLength <= 0) {
             throw new ParseException("unsigned long must contain at least 1 bit");
         }
         if (bitLength > 63) {
             throw new ParseException("unsigned long can only contain max 32 bits");
         }
-        try {
-            String encoding = extractEncoding(readerArgs).orElse("default");
-            switch (encoding) {
-                case "ASCII":
-                    // AsciiUint can only decode values that have a multiple of 8 length.
-                    if (bitLength % 8 != 0) {
-                        throw new ParseException("'ASCII' encoded fields must have a length that is a multiple of 8 bits long");
-                    }
-                    int charLen = bitLength / 8;
-                    byte[] stringBytes = new byte[charLen];
-                    for (int i = 0; i < charLen; i++) {
-                        stringBytes[i] = bi.readByte(false, 8);
-                    }
-                    String stringValue = new String(stringBytes, StandardCharsets.US_ASCII);
-                    stringValue = stringValue.trim();
-                    return Long.parseLong(stringValue);
-                case "BCD":
-                    if (bitLength % 4 != 0) {
-                        throw new ParseException("'BCD' encoded fields must have a length that is a multiple of 4 bits long");
-                    }
-                    int numDigits = bitLength / 4;
-                    long value = 0;
-                    for (int i = numDigits - 1; i >= 0; i--) {
-                        byte digit = bi.readByte(true, 4);
-                        if ((digit < 0) || (digit > 9)) {
-                            throw new ParseException("'BCD' encoded value is not a correctly encoded BCD value");
-                        }
-                        // Shift the current digit to the required position and add it to the rest.
-                        value += (long) (digit * Math.pow(10, i));
-                    }
-                    return value;
-                case "default":
-                    if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
-                        final long longValue = bi.readLong(true, bitLength);
-                        return Long.reverseBytes(longValue) >>> 32;
+        String encoding = extractEncoding(readerArgs).orElse("default");
+        switch (encoding) {
+            case "ASCII":
+                // AsciiUint can only decode values that have a multiple of 8 length.
+                if (bitLength % 8 != 0) {
+                    throw new ParseException("'ASCII' encoded fields must have a length that is a multiple of 8 bits long");
+                }
+                int charLen = bitLength / 8;
+                byte[] stringBytes = new byte[charLen];
+                for (int i = 0; i < charLen; i++) {
+                    stringBytes[i] = (byte) readBits(false, 8);
+                }
+                String stringValue = new String(stringBytes, StandardCharsets.US_ASCII);
+                stringValue = stringValue.trim();
+                return Long.parseLong(stringValue);
+            case "BCD":
+                if (bitLength % 4 != 0) {
+                    throw new ParseException("'BCD' encoded fields must have a length that is a multiple of 4 bits long");
+                }
+                int numDigits = bitLength / 4;
+                long value = 0;
+                for (int i = numDigits - 1; i >= 0; i--) {
+                    byte digit = (byte) readBits(true, 4);
+                    if ((digit < 0) || (digit > 9)) {
+                        throw new ParseException("'BCD' encoded value is not a correctly encoded BCD value");
                     }
-                    return bi.readLong(true, bitLength);
-                default:
-                    throw new ParseException("unsupported encoding '" + encoding + "'");
-            }
-        } catch (IOException e) {
-            throw new ParseException("Error reading unsigned long", e);
+                    // Shift the current digit to the required position and add it to the rest.
+                    value += (long) (digit * Math.pow(10, i));
+                }
+                return value;
+            case "default":
+                return readUnsignedLong(logicalName, bitLength);
+            default:
+                throw new ParseException("unsupported encoding '" + encoding + "'");
+        }
+    }
+
+    public long readUnsignedLong(String logicalName, int bitLength) throws ParseException {
+        if (bitLength <= 0) {
+            throw new ParseException("unsigned long must contain at least 1 bit");
+        }
+        if (bitLength > 63) {
+            throw new ParseException("unsigned long can only contain max 32 bits");
+        }
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            final long longValue = readBits(true, bitLength);
+            return Long.reverseBytes(longValue) >>> 32;
         }
+        return readBits(true, bitLength);
     }
 
     @Override
     public BigInteger readUnsignedBigInteger(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
         //Support specific case where value less than 64 bits and big endian.
         if (bitLength <= 0) {
             throw new ParseException("unsigned long must contain at least 1 bit");
@@ -335,173 +377,162 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
         if (bitLength > 64) {
             throw new ParseException("unsigned long can only contain max 64 bits");
         }
-        try {
-            String encoding = extractEncoding(readerArgs).orElse("default");
-            switch (encoding) {
-                case "ASCII":
-                    // AsciiUint can only decode values that have a multiple of 8 length.
-                    if (bitLength % 8 != 0) {
-                        throw new ParseException("'ASCII' encoded fields must have a length that is a multiple of 8 bits long");
-                    }
-                    int charLen = bitLength / 8;
-                    byte[] stringBytes = new byte[charLen];
-                    for (int i = 0; i < charLen; i++) {
-                        stringBytes[i] = bi.readByte(false, 8);
-                    }
-                    String stringValue = new String(stringBytes, StandardCharsets.US_ASCII);
-                    stringValue = stringValue.trim();
-                    return new BigInteger(stringValue);
-                case "BCD":
-                    if (bitLength % 4 != 0) {
-                        throw new ParseException("'BCD' encoded fields must have a length that is a multiple of 4 bits long");
-                    }
-                    int numDigits = bitLength / 4;
-                    BigInteger value = BigInteger.ZERO;
-                    for (int i = numDigits - 1; i >= 0; i--) {
-                        byte digit = bi.readByte(true, 4);
-                        if ((digit < 0) || (digit > 9)) {
-                            throw new ParseException("'BCD' encoded value is not a correctly encoded BCD value");
-                        }
-                        // Shift the current digit to the required position and add it to the rest.
-                        value = value.add(BigInteger.valueOf(digit).multiply(BigInteger.valueOf(10).pow(i)));
-                    }
-                    return value;
-                case "default":
-                    // Read as signed value
-                    long val = bi.readLong(false, bitLength);
-                    if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
-                        val = Long.reverseBytes(val);
-                    }
-                    if (val >= 0) {
-                        return BigInteger.valueOf(val);
-                    } else {
-                        BigInteger constant = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(2)).add(BigInteger.valueOf(2));
-                        return BigInteger.valueOf(val).add(constant);
+        String encoding = extractEncoding(readerArgs).orElse("default");
+        switch (encoding) {
+            case "ASCII":
+                // AsciiUint can only decode values that have a multiple of 8 length.
+                if (bitLength % 8 != 0) {
+                    throw new ParseException("'ASCII' encoded fields must have a length that is a multiple of 8 bits long");
+                }
+                int charLen = bitLength / 8;
+                byte[] stringBytes = new byte[charLen];
+                for (int i = 0; i < charLen; i++) {
+                    stringBytes[i] = (byte) readBits(false, 8);
+                }
+                String stringValue = new String(stringBytes, StandardCharsets.US_ASCII);
+                stringValue = stringValue.trim();
+                return new BigInteger(stringValue);
+            case "BCD":
+                if (bitLength % 4 != 0) {
+                    throw new ParseException("'BCD' encoded fields must have a length that is a multiple of 4 bits long");
+                }
+                int numDigits = bitLength / 4;
+                BigInteger value = BigInteger.ZERO;
+                for (int i = numDigits - 1; i >= 0; i--) {
+                    byte digit = (byte) readBits(true, 4);
+                    if ((digit < 0) || (digit > 9)) {
+                        throw new ParseException("'BCD' encoded value is not a correctly encoded BCD value");
                     }
-                default:
-                    throw new ParseException("unsupported encoding '" + encoding + "'");
-            }
-        } catch (IOException e) {
-            throw new ParseException("Error reading unsigned big integer", e);
+                    // Shift the current digit to the required position and add it to the rest.
+                    value = value.add(BigInteger.valueOf(digit).multiply(BigInteger.valueOf(10).pow(i)));
+                }
+                return value;
+            case "default":
+                // Read as signed value
+                long val = readBits(false, bitLength);
+                if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+                    val = Long.reverseBytes(val);
+                }
+                if (val >= 0) {
+                    return BigInteger.valueOf(val);
+                } else {
+                    BigInteger constant = BigInteger.valueOf(Long.MAX_VALUE).multiply(BigInteger.valueOf(2)).add(BigInteger.valueOf(2));
+                    return BigInteger.valueOf(val).add(constant);
+                }
+            default:
+                throw new ParseException("unsupported encoding '" + encoding + "'");
         }
     }
 
     @Override
     public byte readSignedByte(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
+        return readSignedByte(logicalName, bitLength);
+    }
+
+    public byte readSignedByte(String logicalName, int bitLength) throws ParseException {
         if (bitLength <= 0) {
             throw new ParseException("byte must contain at least 1 bit");
         }
         if (bitLength > 8) {
             throw new ParseException("byte can only contain max 8 bits");
         }
-        try {
-            return bi.readByte(false, bitLength);
-        } catch (IOException e) {
-            throw new ParseException("Error reading signed byte", e);
-        }
+        return (byte) readBits(false, bitLength);
     }
 
     @Override
     public short readShort(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
+        return readShort(logicalName, bitLength);
+    }
+
+    public short readShort(String logicalName, int bitLength) throws ParseException {
         if (bitLength <= 0) {
             throw new ParseException("short must contain at least 1 bit");
         }
         if (bitLength > 16) {
             throw new ParseException("short can only contain max 16 bits");
         }
-        try {
-            if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
-                return Short.reverseBytes(bi.readShort(false, bitLength));
-            }
-            return bi.readShort(false, bitLength);
-        } catch (IOException e) {
-            throw new ParseException("Error reading signed short", e);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            return Short.reverseBytes((short) readBits(false, bitLength));
         }
+        return (short) readBits(false, bitLength);
     }
 
     @Override
     public int readInt(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
+        return readInt(logicalName, bitLength);
+    }
+
+    public int readInt(String logicalName, int bitLength) throws ParseException {
         if (bitLength <= 0) {
             throw new ParseException("int must contain at least 1 bit");
         }
         if (bitLength > 32) {
             throw new ParseException("int can only contain max 32 bits");
         }
-        try {
-            if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
-                return Integer.reverseBytes(bi.readInt(false, bitLength));
-            }
-            return bi.readInt(false, bitLength);
-        } catch (IOException e) {
-            throw new ParseException("Error reading signed int", e);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            return Integer.reverseBytes((int) readBits(false, bitLength));
         }
+        return (int) readBits(false, bitLength);
     }
 
     @Override
     public long readLong(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
+        return readLong(logicalName, bitLength);
+    }
+
+    public long readLong(String logicalName, int bitLength) throws ParseException {
         if (bitLength <= 0) {
             throw new ParseException("long must contain at least 1 bit");
         }
         if (bitLength > 64) {
             throw new ParseException("long can only contain max 64 bits");
         }
-        try {
-            if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
-                return Long.reverseBytes(bi.readLong(false, bitLength));
-            }
-            return bi.readLong(false, bitLength);
-        } catch (IOException e) {
-            throw new ParseException("Error reading signed long", e);
+        if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
+            return Long.reverseBytes(readBits(false, bitLength));
         }
+        return readBits(false, bitLength);
     }
 
     @Override
     public BigInteger readBigInteger(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
         throw new UnsupportedOperationException("not implemented yet");
     }
 
     @Override
     public float readFloat(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
         String encoding = extractEncoding(readerArgs).orElse("UTF-8");
-        try {
-            if (bitLength == 16) {
-                if ("KNXFloat".equals(encoding)) {
-                    return readKnxFloat16();
-                } else {
-                    return readFloat16();
-                }
-            } else if (bitLength == 32) {
-                return readFloat32(logicalName);
-            } else {
-                throw new UnsupportedOperationException("unsupported bit length (only 16 and 32 supported)");
-            }
-        } catch (IOException e) {
-            throw new ParseException("Error reading float", e);
+        if ((bitLength == 16) && "KNXFloat".equals(encoding)) {
+            return readKnxFloat16();
+        }
+        return readFloat(logicalName, bitLength);
+    }
+
+    public float readFloat(String logicalName, int bitLength) throws ParseException {
+        if (bitLength == 16) {
+            return readFloat16();
+        } else if (bitLength == 32) {
+            return readFloat32(logicalName);
+        } else {
+            throw new UnsupportedOperationException("unsupported bit length (only 16 and 32 supported)");
         }
     }
 
-    private float readKnxFloat16() throws IOException {
+    private float readKnxFloat16() throws ParseException {
         // NOTE: KNX uses 4 bits as exponent and 11 as fraction
-        final boolean sign = bi.readBoolean();
-        final byte exponent = bi.readByte(true, 4);
-        short fraction = bi.readShort(true, 11);
+        final boolean sign = (readBits(true, 1) != 0);
+        final byte exponent = (byte) readBits(true, 4);
+        short fraction = (short) readBits(true, 11);
         if (sign) {
             fraction = (short) (fraction | 0xF800);
         }
         return (float) (0.01 * fraction * Math.pow(2, exponent));
     }
 
-    private float readFloat16() throws IOException {
+    private float readFloat16() throws ParseException {
         // https://en.wikipedia.org/wiki/Half-precision_floating-point_format
-        final boolean sign = bi.readBoolean();
-        final byte exponent = bi.readByte(true, 5);
-        final short fraction = bi.readShort(true, 10);
+        final boolean sign = (readBits(true, 1) != 0);
+        final byte exponent = (byte) readBits(true, 5);
+        final short fraction = (short) readBits(true, 10);
         final int signMultiplication = sign ? 1 : -1;
         if ((exponent >= 1) && (exponent <= 30)) {
             return signMultiplication * (2 ^ (exponent - 15)) * (1 + (fraction / 10f));
@@ -524,14 +555,16 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
     }
 
     private float readFloat32(String logicalName) throws ParseException {
-        bitPos+=32;
         int intValue = readInt(logicalName, 32);
         return Float.intBitsToFloat(intValue);
     }
 
     @Override
     public double readDouble(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
+        return readDouble(logicalName, bitLength);
+    }
+
+    public double readDouble(String logicalName, int bitLength) throws ParseException {
         if (bitLength == 64) {
             long longValue = readLong(logicalName, 64);
             return Double.longBitsToDouble(longValue);
@@ -542,7 +575,6 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
 
     @Override
     public BigDecimal readBigDecimal(String logicalName, int bitLength, WithReaderArgs... readerArgs) {
-        bitPos+=bitLength;
         throw new UnsupportedOperationException("not implemented yet");
     }
 
@@ -553,7 +585,6 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
      */
     @Override
     public String readString(String logicalName, int bitLength, WithReaderArgs... readerArgs) throws ParseException {
-        bitPos+=bitLength;
         String encoding = extractEncoding(readerArgs).orElse("UTF-8");
         encoding = encoding.replaceAll("[^a-zA-Z0-9]", "");
         encoding = encoding.toUpperCase();
@@ -639,4 +670,63 @@ public class ReadBufferByteBased implements ReadBuffer, BufferCommons {
         return Boolean.parseBoolean(System.getProperty("disable-string-0-termination", "false"));
     }
 
+    /**
+     * Reads up to 64 bits (most significant bit first).
+     *
+     * @param unsigned  if false, the value is sign-extended.
+     * @param bitLength number of bits to read.
+     * @return the bits read.
+     */
+    private long readBits(boolean unsigned, int bitLength) {
+        if (bitOffset == 0) {
+            // Fast path for byte-aligned reads
+            switch (bitLength) {
+                case 8:
+                    checkAvailable(1);
+                    bytePos += 1;
+                    return unsigned ? buffer.getUnsignedByte(bytePos - 1) : buffer.getByte(bytePos - 1);
+                case 16:
+                    checkAvailable(2);
+                    bytePos += 2;
+                    return unsigned ? buffer.getUnsignedShort(bytePos - 2) : buffer.getShort(bytePos - 2);
+                case 32:
+                    checkAvailable(4);
+                    bytePos += 4;
+                    return unsigned ? buffer.getUnsignedInt(bytePos - 4) : buffer.getInt(bytePos - 4);
+                case 64:
+                    checkAvailable(8);
+                    bytePos += 8;
+                    return buffer.getLong(bytePos - 8);
+                default:
+                    break;
+            }
+        }
+        long value = 0;
+        int remaining = bitLength;
+        while (remaining > 0) {
+            checkAvailable(1);
+            int availableBits = 8 - bitOffset;
+            int numBits = Math.min(availableBits, remaining);
+            int bits = (buffer.getUnsignedByte(bytePos) >>> (availableBits - numBits)) & ((1 << numBits) - 1);
+            value = (value << numBits) | bits;
+            remaining -= numBits;
+            bitOffset += numBits;
+            if (bitOffset == 8) {
+                bitOffset = 0;
+                bytePos++;
+            }
+        }
+        if (!unsigned && (bitLength < 64)) {
+            value = (value << (64 - bitLength)) >> (64 - bitLength);
+        }
+        return value;
+    }
+
+    private void checkAvailable(int numBytes) {
+        // Parsers of optional fields rely on this exception, when running out of data.
+        if (bytePos + numBytes > totalBytes) {
+            throw new ArrayIndexOutOfBoundsException("Index " + totalBytes + " out of bounds for length " + totalBytes);
+        }
+    }
+
 }
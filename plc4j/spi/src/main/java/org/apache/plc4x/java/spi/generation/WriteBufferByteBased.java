@@ -18,30 +18,51 @@
  */
 package org.apache.plc4x.java.spi.generation;
 
-import com.github.jinahya.bit.io.BufferByteOutput;
-import org.apache.commons.lang3.ArrayUtils;
-import org.apache.plc4x.java.spi.generation.io.MyDefaultBitOutput;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
+/**
+ * {@link WriteBuffer} writing into a Netty {@link ByteBuf}.
+ * <p>
+ * Either the buffer allocates its own fixed-size heap buffer, or it writes directly into a provided
+ * (usually pooled and direct) buffer, starting at its current writer index. Byte-aligned values are
+ * written using the accessors of the buffer, only values not starting at a byte boundary are assembled
+ * bit by bit.
+ */
 public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
 
-    private final ByteBuffer bb;
-    private final MyDefaultBitOutput bo;
+    private final ByteBuf buffer;
+    /** Index in the buffer, position 0 of this write buffer refers to */
+    private final int startIndex;
     private ByteOrder byteOrder;
+    /** Number of completely written bytes */
+    private int bytePos;
+    /** Number of bits already written into the byte at bytePos */
+    private int bitOffset;
 
     public WriteBufferByteBased(int size) {
         this(size, ByteOrder.BIG_ENDIAN);
     }
 
     public WriteBufferByteBased(int size, ByteOrder byteOrder) {
-        bb = ByteBuffer.allocate(size);
-        BufferByteOutput<ByteBuffer> bbo = new BufferByteOutput<>(bb);
-        bo = new MyDefaultBitOutput(bbo);
+        this(Unpooled.buffer(size, size), byteOrder);
+    }
+
+    /**
+     * Creates a write buffer writing into the given buffer, starting at its current writer index.
+     * The writer index of the buffer is advanced as data is written.
+     *
+     * @param output    buffer to write to.
+     * @param byteOrder byte order used for multi-byte values.
+     */
+    public WriteBufferByteBased(ByteBuf output, ByteOrder byteOrder) {
+        this.buffer = output;
+        this.startIndex = output.writerIndex();
         this.byteOrder = byteOrder;
     }
 
@@ -54,20 +75,29 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
     }
 
     public void setPos(int position) {
-        bb.position(position);
+        bytePos = position;
+        bitOffset = 0;
     }
 
     public byte[] getBytes() {
-        return ArrayUtils.subarray(bb.array(), 0, getPos());
+        return getBytes(0, getPos());
     }
 
     public byte[] getBytes(int start, int end) {
-        return ArrayUtils.subarray(bb.array(), start, end);
+        // Same semantics as ArrayUtils.subarray on the underlying array used to have.
+        start = Math.max(start, 0);
+        end = Math.min(end, buffer.capacity() - startIndex);
+        if (end <= start) {
+            return new byte[0];
+        }
+        byte[] bytes = new byte[end - start];
+        buffer.getBytes(startIndex + start, bytes);
+        return bytes;
     }
 
     @Override
     public int getPos() {
-        return (int) bo.getPos();
+        return bytePos;
     }
 
     @Override
@@ -78,7 +108,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
     @Override
     public void writeBit(String logicalName, boolean value, WithWriterArgs... writerArgs) throws SerializationException {
         try {
-            bo.writeBoolean(value);
+            writeBits(1, value ? 1 : 0);
         } catch (Exception e) {
             throw new SerializationException("Error writing bit", e);
         }
@@ -91,9 +121,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
 
     @Override
     public void writeByteArray(String logicalName, byte[] bytes, WithWriterArgs... writerArgs) throws SerializationException {
-        for (byte aByte : bytes) {
-            writeSignedByte(logicalName, 8, aByte, writerArgs);
-        }
+        writeBytes(bytes, bytes.length);
     }
 
     @Override
@@ -114,10 +142,10 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
                     if((value < 0) || (value > 9)) {
                         throw new SerializationException("'BCD' encoded value must be only one hexadecimal digit long");
                     }
-                    bo.writeByte(true, bitLength, value);
+                    writeBits(bitLength, value);
                     break;
                 case "default":
-                    bo.writeByte(true, bitLength, value);
+                    writeBits(bitLength, value);
                     break;
                 default:
                     throw new ParseException("unsupported encoding '" + encoding + "'");
@@ -150,7 +178,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
                     }
                     String stringValue = String.format("%0" + charLen + "d", value);
                     for (byte curByte : stringValue.getBytes(StandardCharsets.US_ASCII)) {
-                        bo.writeByte(false, 8, curByte);
+                        writeBits(8, curByte);
                     }
                     break;
                 }
@@ -167,12 +195,12 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
                     // by powers of 10 and writing the last number.
                     for(int i = numDigits - 1; i >= 0; i--) {
                         short divisor = (short) Math.pow(10, i);
-                        bo.writeByte(false, 4, (byte) ((value / divisor) % 10));
+                        writeBits(4, (byte) ((value / divisor) % 10));
                     }
                     break;
                 }
                 case "default":
-                    bo.writeShort(true, bitLength, value);
+                    writeBits(bitLength, value);
                     break;
                 default:
                     throw new SerializationException("unsupported encoding '" + encoding + "'");
@@ -205,7 +233,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
                     }
                     String stringValue = String.format("%0" + charLen + "d", value);
                     for (byte curByte : stringValue.getBytes(StandardCharsets.US_ASCII)) {
-                        bo.writeByte(false, 8, curByte);
+                        writeBits(8, curByte);
                     }
                     break;
                 }
@@ -222,7 +250,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
                     // by powers of 10 and writing the last number.
                     for(int i = numDigits - 1; i >= 0; i--) {
                         int divisor = (int) Math.pow(10, i);
-                        bo.writeByte(false, 4, (byte) ((value / divisor) % 10));
+                        writeBits(4, (byte) ((value / divisor) % 10));
                     }
                     break;
                 }
@@ -230,7 +258,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
                     if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
                         value = Integer.reverseBytes(value) >> (32 - bitLength);
                     }
-                    bo.writeInt(true, bitLength, value);
+                    writeBits(bitLength, value);
                     break;
                 default:
                     throw new SerializationException("unsupported encoding '" + encoding + "'");
@@ -263,7 +291,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
                     }
                     String stringValue = String.format("%0" + charLen + "d", value);
                     for (byte curByte : stringValue.getBytes(StandardCharsets.US_ASCII)) {
-                        bo.writeByte(false, 8, curByte);
+                        writeBits(8, curByte);
                     }
                     break;
                 }
@@ -280,7 +308,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
                     // by powers of 10 and writing the last number.
                     for(int i = numDigits - 1; i >= 0; i--) {
                         long divisor = (long) Math.pow(10, i);
-                        bo.writeByte(false, 4, (byte) ((value / divisor) % 10));
+                        writeBits(4, (byte) ((value / divisor) % 10));
                     }
                     break;
                 }
@@ -288,7 +316,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
                     if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
                         value = Long.reverseBytes(value) >> 32;
                     }
-                    bo.writeLong(true, bitLength, value);
+                    writeBits(bitLength, value);
                     break;
                 default:
                     throw new SerializationException("unsupported encoding '" + encoding + "'");
@@ -337,7 +365,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
             throw new SerializationException("byte can only contain max 8 bits");
         }
         try {
-            bo.writeByte(false, bitLength, value);
+            writeBits(bitLength, value);
         } catch (Exception e) {
             throw new SerializationException("Error writing signed byte", e);
         }
@@ -355,7 +383,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
             if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
                 value = Short.reverseBytes(value);
             }
-            bo.writeShort(false, bitLength, value);
+            writeBits(bitLength, value);
         } catch (Exception e) {
             throw new SerializationException("Error writing signed short", e);
         }
@@ -373,7 +401,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
             if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
                 value = Integer.reverseBytes(value);
             }
-            bo.writeInt(false, bitLength, value);
+            writeBits(bitLength, value);
         } catch (Exception e) {
             throw new SerializationException("Error writing signed int", e);
         }
@@ -391,7 +419,7 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
             if (byteOrder == ByteOrder.LITTLE_ENDIAN) {
                 value = Long.reverseBytes(value);
             }
-            bo.writeLong(false, bitLength, value);
+            writeBits(bitLength, value);
         } catch (Exception e) {
             throw new SerializationException("Error writing signed long", e);
         }
@@ -481,13 +509,9 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
             int numStringBytes = Math.min(bytes.length, fixedByteLength);
             int numZeroBytes = fixedByteLength - numStringBytes;
             // Output the string data
-            for (int i = 0; i < numStringBytes; i++) {
-                bo.writeByte(false, 8, bytes[i]);
-            }
+            writeBytes(bytes, numStringBytes);
             // Fill up with empty bytes
-            for (int i = 0; i < numZeroBytes; i++) {
-                bo.writeByte(false, 8, (byte) 0x00);
-            }
+            writeZeroBytes(numZeroBytes);
         } catch (Exception e) {
             throw new SerializationException("Error writing string", e);
         }
@@ -498,4 +522,91 @@ public class WriteBufferByteBased implements WriteBuffer, BufferCommons {
         // byte buffer need no context handling
     }
 
+    private void writeBytes(byte[] bytes, int length) throws SerializationException {
+        if (bitOffset == 0) {
+            ensureWritable(length);
+            buffer.setBytes(startIndex + bytePos, bytes, 0, length);
+            bytePos += length;
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            writeBits(8, bytes[i]);
+        }
+    }
+
+    private void writeZeroBytes(int length) throws SerializationException {
+        if (bitOffset == 0) {
+            ensureWritable(length);
+            buffer.setZero(startIndex + bytePos, length);
+            bytePos += length;
+            return;
+        }
+        for (int i = 0; i < length; i++) {
+            writeBits(8, 0);
+        }
+    }
+
+    /**
+     * Writes the lowest bitLength bits of the given value (most significant bit first).
+     */
+    private void writeBits(int bitLength, long value) throws SerializationException {
+        if (bitOffset == 0) {
+            // Fast path for byte-aligned values.
+            switch (bitLength) {
+                case 8:
+                    ensureWritable(1);
+                    buffer.setByte(startIndex + bytePos, (int) value);
+                    bytePos += 1;
+                    return;
+                case 16:
+                    ensureWritable(2);
+                    buffer.setShort(startIndex + bytePos, (int) value);
+                    bytePos += 2;
+                    return;
+                case 32:
+                    ensureWritable(4);
+                    buffer.setInt(startIndex + bytePos, (int) value);
+                    bytePos += 4;
+                    return;
+                case 64:
+                    ensureWritable(8);
+                    buffer.setLong(startIndex + bytePos, value);
+                    bytePos += 8;
+                    return;
+                default:
+                    break;
+            }
+        }
+        int remaining = bitLength;
+        while (remaining > 0) {
+            int current = 0;
+            if (bitOffset == 0) {
+                ensureWritable(1);
+            } else {
+                current = buffer.getByte(startIndex + bytePos);
+            }
+            int chunk = Math.min(8 - bitOffset, remaining);
+            int bits = (int) (value >>> (remaining - chunk)) & ((1 << chunk) - 1);
+            current |= bits << (8 - bitOffset - chunk);
+            buffer.setByte(startIndex + bytePos, current);
+            remaining -= chunk;
+            bitOffset += chunk;
+            if (bitOffset == 8) {
+                bitOffset = 0;
+                bytePos++;
+            }
+        }
+    }
+
+    private void ensureWritable(int numBytes) throws SerializationException {
+        int end = startIndex + bytePos + numBytes;
+        if (end > buffer.writerIndex()) {
+            if (end > buffer.maxCapacity()) {
+                throw new SerializationException("Buffer overflow: can't write " + numBytes + " bytes at position " + bytePos);
+            }
+            buffer.ensureWritable(end - buffer.writerIndex());
+            buffer.writerIndex(end);
+        }
+    }
+
 }
@@ -22,13 +22,16 @@ package org.apache.plc4x.java.spi.internal;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelHandlerContext;
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import org.apache.plc4x.java.api.authentication.PlcAuthentication;
 import org.apache.plc4x.java.spi.configuration.PlcConnectionConfiguration;
 import org.apache.plc4x.java.spi.ConversationContext;
 import org.apache.plc4x.java.spi.events.ConnectedEvent;
 import org.apache.plc4x.java.spi.events.DisconnectedEvent;
 import org.apache.plc4x.java.spi.events.DiscoveredEvent;
+import org.apache.plc4x.java.spi.netty.ChannelWriter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -40,15 +43,28 @@ public class DefaultConversationContext<T1> implements ConversationContext<T1> {
     private final ChannelHandlerContext channelHandlerContext;
     private final PlcAuthentication authentication;
     private final boolean passive;
+    private final Function<T1, Object> correlationKeyExtractor;
+    private final ChannelWriter channelWriter;
 
     public DefaultConversationContext(Consumer<HandlerRegistration> handlerRegistrar,
                                       ChannelHandlerContext channelHandlerContext,
                                       PlcAuthentication authentication,
                                       boolean passive) {
+        this(handlerRegistrar, channelHandlerContext, authentication, passive, msg -> null, new ChannelWriter(false));
+    }
+
+    public DefaultConversationContext(Consumer<HandlerRegistration> handlerRegistrar,
+                                      ChannelHandlerContext channelHandlerContext,
+                                      PlcAuthentication authentication,
+                                      boolean passive,
+                                      Function<T1, Object> correlationKeyExtractor,
+                                      ChannelWriter channelWriter) {
         this.handlerRegistrar = handlerRegistrar;
         this.channelHandlerContext = channelHandlerContext;
         this.authentication = authentication;
         this.passive = passive;
+        this.correlationKeyExtractor = correlationKeyExtractor;
+        this.channelWriter = channelWriter;
     }
     @Override
     public Channel getChannel() {
@@ -67,7 +83,13 @@ public class DefaultConversationContext<T1> implements ConversationContext<T1> {
     @Override
     public void sendToWire(T1 msg) {
         logger.trace("Sending to wire {}", msg);
-        channelHandlerContext.channel().writeAndFlush(msg).syncUninterruptibly();
+        channelWriter.write(channelHandlerContext.channel(), msg).syncUninterruptibly();
+    }
+
+    @Override
+    public CompletableFuture<Void> sendToWireAsync(T1 msg) {
+        logger.trace("Sending to wire {}", msg);
+        return ChannelWriter.toCompletableFuture(channelWriter.write(channelHandlerContext.channel(), msg));
     }
 
     @Override
@@ -88,6 +110,11 @@ public class DefaultConversationContext<T1> implements ConversationContext<T1> {
         channelHandlerContext.pipeline().fireUserEventTriggered(new DiscoveredEvent(c));
     }
 
+    @Override
+    public Object getCorrelationKey(T1 msg) {
+        return correlationKeyExtractor.apply(msg);
+    }
+
     @Override
     public SendRequestContext<T1> sendRequest(T1 packet) {
         return new DefaultSendRequestContext<>(null, handler -> {
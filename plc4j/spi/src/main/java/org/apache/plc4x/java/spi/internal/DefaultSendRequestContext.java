@@ -53,6 +53,10 @@ public class DefaultSendRequestContext<T> implements ConversationContext.SendReq
 
     protected Duration timeout = Duration.ofMillis(1000);
 
+    protected Object correlationKey;
+
+    protected boolean correlationKeySet;
+
     public DefaultSendRequestContext(String name, Consumer<HandlerRegistration> finisher, T request, ConversationContext<T> context) {
         this.name = name;
         this.finisher = finisher;
@@ -61,6 +65,10 @@ public class DefaultSendRequestContext<T> implements ConversationContext.SendReq
     }
 
     protected DefaultSendRequestContext(String name, Deque<Either<Function<?, ?>, Predicate<?>>> commands, Duration timeout, Consumer<HandlerRegistration> finisher, T request, ConversationContext<T> context, Class<?> expectClazz, Consumer<?> packetConsumer, Consumer<TimeoutException> onTimeoutConsumer, BiConsumer<?, ? extends Throwable> errorConsumer) {
+        this(name, commands, timeout, finisher, request, context, expectClazz, packetConsumer, onTimeoutConsumer, errorConsumer, null, false);
+    }
+
+    protected DefaultSendRequestContext(String name, Deque<Either<Function<?, ?>, Predicate<?>>> commands, Duration timeout, Consumer<HandlerRegistration> finisher, T request, ConversationContext<T> context, Class<?> expectClazz, Consumer<?> packetConsumer, Consumer<TimeoutException> onTimeoutConsumer, BiConsumer<?, ? extends Throwable> errorConsumer, Object correlationKey, boolean correlationKeySet) {
         this.name = name;
         this.commands = commands;
         this.timeout = timeout;
@@ -71,6 +79,8 @@ public class DefaultSendRequestContext<T> implements ConversationContext.SendReq
         this.packetConsumer = packetConsumer;
         this.onTimeoutConsumer = onTimeoutConsumer;
         this.errorConsumer = errorConsumer;
+        this.correlationKey = correlationKey;
+        this.correlationKeySet = correlationKeySet;
     }
 
     @Override
@@ -90,6 +100,13 @@ public class DefaultSendRequestContext<T> implements ConversationContext.SendReq
         return this;
     }
 
+    @Override
+    public ConversationContext.SendRequestContext<T> correlationKey(Object correlationKey) {
+        this.correlationKey = correlationKey;
+        this.correlationKeySet = true;
+        return this;
+    }
+
     @Override
     public ConversationContext.SendRequestContext<T> check(Predicate<T> checker) {
         commands.addLast(Either.right(checker));
@@ -102,13 +119,31 @@ public class DefaultSendRequestContext<T> implements ConversationContext.SendReq
             throw new ConversationContext.PlcWiringException("can't handle multiple consumers");
         }
         this.packetConsumer = packetConsumer;
+        // Unless explicitly set, let the protocol derive the key from the request itself.
+        Object key = correlationKeySet ? correlationKey : context.getCorrelationKey(request);
         final HandlerRegistration registration = new HandlerRegistration(name, commands, expectClazz, packetConsumer,
-            onTimeoutConsumer, errorConsumer, timeout);
+            onTimeoutConsumer, errorConsumer, timeout, key);
         finisher.accept(registration);
-        context.sendToWire(request);
+        context.sendToWireAsync(request).whenComplete((ignored, throwable) -> {
+            if (throwable != null) {
+                onSendFailure(registration, throwable);
+            }
+        });
         return new DefaultContextHandler(registration, registration::cancel);
     }
 
+    @SuppressWarnings("unchecked")
+    private void onSendFailure(HandlerRegistration registration, Throwable throwable) {
+        if (registration.isDone()) {
+            return;
+        }
+        // The request never made it to the wire, so there is no point in waiting for a response.
+        registration.cancel();
+        if (errorConsumer != null) {
+            ((BiConsumer<Object, Throwable>) errorConsumer).accept(null, throwable);
+        }
+    }
+
     @Override
     public CompletableFuture<T> toFuture() {
         CompletableFuture<T> future = new CompletableFuture<>();
@@ -143,7 +178,7 @@ public class DefaultSendRequestContext<T> implements ConversationContext.SendReq
             onTimeoutConsumer = new NoopTimeoutConsumer();
         }
         commands.addLast(Either.left(unwrapper));
-        return new DefaultSendRequestContext<>(name, commands, timeout, finisher, (R) request, (ConversationContext<R>) context, expectClazz, packetConsumer, onTimeoutConsumer, errorConsumer);
+        return new DefaultSendRequestContext<>(name, commands, timeout, finisher, (R) request, (ConversationContext<R>) context, expectClazz, packetConsumer, onTimeoutConsumer, errorConsumer, correlationKey, correlationKeySet);
     }
 
     @Override
@@ -53,10 +53,15 @@ public class HandlerRegistration implements Future<Void> {
     private final Runnable onError;
     private final Runnable onCancelled;
     private final Duration timeout;
+    private final Object correlationKey;
 
     private final CompletableFuture<Void> handled = new CompletableFuture<>();
 
     public HandlerRegistration(String name, Deque<Either<Function<?, ?>, Predicate<?>>> commands, Class<?> expectClazz, Consumer<?> packetConsumer, Consumer<TimeoutException> onTimeoutConsumer, BiConsumer<?, ? extends Throwable> errorConsumer, Duration timeout) {
+        this(name, commands, expectClazz, packetConsumer, onTimeoutConsumer, errorConsumer, timeout, null);
+    }
+
+    public HandlerRegistration(String name, Deque<Either<Function<?, ?>, Predicate<?>>> commands, Class<?> expectClazz, Consumer<?> packetConsumer, Consumer<TimeoutException> onTimeoutConsumer, BiConsumer<?, ? extends Throwable> errorConsumer, Duration timeout, Object correlationKey) {
         this(
             name,
             commands,
@@ -67,11 +72,16 @@ public class HandlerRegistration implements Future<Void> {
             () -> {},
             () -> {},
             () -> {},
-            timeout
+            timeout,
+            correlationKey
         );
     }
 
     public HandlerRegistration(String name, Deque<Either<Function<?, ?>, Predicate<?>>> commands, Class<?> expectClazz, Consumer<?> packetConsumer, Consumer<TimeoutException> onTimeoutConsumer, BiConsumer<?, ? extends Throwable> errorConsumer, Runnable onHandled, Runnable onError, Runnable onCancelled, Duration timeout) {
+        this(name, commands, expectClazz, packetConsumer, onTimeoutConsumer, errorConsumer, onHandled, onError, onCancelled, timeout, null);
+    }
+
+    public HandlerRegistration(String name, Deque<Either<Function<?, ?>, Predicate<?>>> commands, Class<?> expectClazz, Consumer<?> packetConsumer, Consumer<TimeoutException> onTimeoutConsumer, BiConsumer<?, ? extends Throwable> errorConsumer, Runnable onHandled, Runnable onError, Runnable onCancelled, Duration timeout, Object correlationKey) {
         this.name = name;
         this.commands = commands;
         this.expectClazz = expectClazz;
@@ -82,6 +92,7 @@ public class HandlerRegistration implements Future<Void> {
         this.onError = onError;
         this.onCancelled = onCancelled;
         this.timeout = timeout;
+        this.correlationKey = correlationKey;
     }
 
     public String getName() {
@@ -112,6 +123,14 @@ public class HandlerRegistration implements Future<Void> {
         return timeout;
     }
 
+    /**
+     * @return key the expected response can be looked up with (e.g. an invoke id) or null, if the
+     * response can only be found by checking the registrations predicates.
+     */
+    public Object getCorrelationKey() {
+        return correlationKey;
+    }
+
     public void cancel() {
         handled.cancel(true);
         onCancelled.run();
@@ -127,6 +146,17 @@ public class HandlerRegistration implements Future<Void> {
         }
     }
 
+    /**
+     * @param action action to run as soon as this registration is cancelled.
+     */
+    public void whenCancelled(Runnable action) {
+        handled.whenComplete((ignored, throwable) -> {
+            if (handled.isCancelled()) {
+                action.run();
+            }
+        });
+    }
+
     public boolean isCancelled() {
         return handled.isCancelled();
     }
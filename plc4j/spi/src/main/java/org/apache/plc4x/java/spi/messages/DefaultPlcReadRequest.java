@@ -49,11 +49,19 @@ public class DefaultPlcReadRequest implements PlcReadRequest, PlcTagRequest, Ser
     private final PlcReader reader;
     // This is intentionally a linked hash map in order to keep the order of how elements were added.
     private final LinkedHashMap<String, PlcTagItem<PlcTag>> tags;
+    private final boolean prepared;
 
     public DefaultPlcReadRequest(PlcReader reader,
                                  LinkedHashMap<String, PlcTagItem<PlcTag>> tags) {
+        this(reader, tags, false);
+    }
+
+    public DefaultPlcReadRequest(PlcReader reader,
+                                 LinkedHashMap<String, PlcTagItem<PlcTag>> tags,
+                                 boolean prepared) {
         this.reader = reader;
         this.tags = tags;
+        this.prepared = prepared;
     }
 
     @Override
@@ -95,6 +103,11 @@ public class DefaultPlcReadRequest implements PlcReadRequest, PlcTagRequest, Ser
         return reader;
     }
 
+    @Override
+    public boolean isPrepared() {
+        return prepared;
+    }
+
     @Override
     public void serialize(WriteBuffer writeBuffer) throws SerializationException {
         writeBuffer.pushContext("PlcReadRequest");
@@ -158,12 +171,21 @@ public class DefaultPlcReadRequest implements PlcReadRequest, PlcTagRequest, Ser
 
         @Override
         public PlcReadRequest build() {
+            return new DefaultPlcReadRequest(reader, parseTags());
+        }
+
+        @Override
+        public PlcReadRequest prepare() {
+            return new DefaultPlcReadRequest(reader, parseTags(), true);
+        }
+
+        private LinkedHashMap<String, PlcTagItem<PlcTag>> parseTags() {
             LinkedHashMap<String, PlcTagItem<PlcTag>> parsedTags = new LinkedHashMap<>();
             tagItems.forEach((name, tagItemSupplier) -> {
                 PlcTagItem<PlcTag> plcTagItem = tagItemSupplier.get();
                 parsedTags.put(name, plcTagItem);
             });
-            return new DefaultPlcReadRequest(reader, parsedTags);
+            return parsedTags;
         }
     }
 
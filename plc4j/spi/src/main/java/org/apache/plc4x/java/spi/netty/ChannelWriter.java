@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.netty;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.EventLoop;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Writes messages to a channel without waiting for the write to complete.
+ * <p>
+ * In coalescing mode messages are only written and a single flush is scheduled on the channels event loop,
+ * so a burst of requests sent within one event-loop iteration leaves in as few syscalls as possible.
+ * Otherwise, every message is flushed immediately.
+ */
+public class ChannelWriter {
+
+    private final boolean coalescing;
+
+    /** Only accessed from the event loop */
+    private boolean flushScheduled;
+
+    public ChannelWriter(boolean coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    public boolean isCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * @param channel channel to write to.
+     * @param msg     message to write.
+     * @return future completed as soon as the message was written (and flushed) to the channel.
+     */
+    public ChannelFuture write(Channel channel, Object msg) {
+        if (!coalescing) {
+            return channel.writeAndFlush(msg);
+        }
+        ChannelPromise promise = channel.newPromise();
+        EventLoop eventLoop = channel.eventLoop();
+        if (eventLoop.inEventLoop()) {
+            writeAndScheduleFlush(channel, msg, promise);
+        } else {
+            // Writing and scheduling the flush has to happen on the event loop, otherwise a write could slip in after
+            // the scheduled flush already ran.
+            eventLoop.execute(() -> writeAndScheduleFlush(channel, msg, promise));
+        }
+        return promise;
+    }
+
+    private void writeAndScheduleFlush(Channel channel, Object msg, ChannelPromise promise) {
+        channel.pipeline().write(msg, promise);
+        if (!flushScheduled) {
+            flushScheduled = true;
+            channel.eventLoop().execute(() -> {
+                flushScheduled = false;
+                channel.pipeline().flush();
+            });
+        }
+    }
+
+    /**
+     * Adapts a netty future to a {@link CompletableFuture}.
+     *
+     * @param channelFuture future of a write operation.
+     * @return future completed, as soon as the write operation completes.
+     */
+    public static CompletableFuture<Void> toCompletableFuture(ChannelFuture channelFuture) {
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        channelFuture.addListener(f -> {
+            if (f.isSuccess()) {
+                future.complete(null);
+            } else if (f.isCancelled()) {
+                future.cancel(false);
+            } else {
+                future.completeExceptionally(f.cause());
+            }
+        });
+        return future;
+    }
+
+}
@@ -18,25 +18,56 @@
  */
 package org.apache.plc4x.java.spi.optimizer;
 
+import org.apache.plc4x.java.api.exceptions.*;
 import org.apache.plc4x.java.api.messages.*;
+import org.apache.plc4x.java.api.model.PlcTag;
 import org.apache.plc4x.java.api.types.PlcResponseCode;
 import org.apache.plc4x.java.api.value.PlcValue;
 import org.apache.plc4x.java.spi.Plc4xProtocolBase;
 import org.apache.plc4x.java.spi.context.DriverContext;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
 import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
 import org.apache.plc4x.java.spi.messages.DefaultPlcWriteResponse;
 import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
 import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 public abstract class BaseOptimizer {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(BaseOptimizer.class);
+
+    // Maximum number of sub-request plans of prepared read requests kept.
+    static final int MAX_PREPARED_READ_PLANS = 64;
+
+    // Plans of prepared read requests (least recently used first).
+    private final Map<PlanKey, ReadPlan> preparedReadPlans = new LinkedHashMap<PlanKey, ReadPlan>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PlanKey, ReadPlan> eldest) {
+            return size() > MAX_PREPARED_READ_PLANS;
+        }
+    };
+
     protected List<PlcReadRequest> processReadRequest(PlcReadRequest readRequest, DriverContext driverContext) {
         return Collections.singletonList(readRequest);
     }
@@ -53,7 +84,7 @@ public abstract class BaseOptimizer {
                     PlcValue value = subReadResponse.getAsPlcValue().getValue(tagName);
                     tags.put(tagName, new DefaultPlcResponseItem<>(responseCode, value));
                 } else {
-                    tags.put(tagName, new DefaultPlcResponseItem<>(PlcResponseCode.INTERNAL_ERROR, null));
+                    tags.put(tagName, new DefaultPlcResponseItem<>(getResponseCode(readResponse.getThrowable()), null));
                 }
             }
         }
@@ -76,7 +107,7 @@ public abstract class BaseOptimizer {
                     PlcWriteResponse subWriteResponse = writeResponse.getResponse();
                     tags.put(tagName, subWriteResponse.getResponseCode(tagName));
                 } else {
-                    tags.put(tagName, PlcResponseCode.INTERNAL_ERROR);
+                    tags.put(tagName, getResponseCode(writeResponse.getThrowable()));
                 }
             }
         }
@@ -107,37 +138,291 @@ public abstract class BaseOptimizer {
         return null;
     }
 
+    /**
+     * @param driverContext driver context.
+     * @return maximum number of sub-requests sent in parallel (Drivers should return the number of parallel
+     * requests negotiated with the remote device).
+     */
+    protected int getMaxInFlightSubRequests(DriverContext driverContext) {
+        return Integer.MAX_VALUE;
+    }
+
+    /**
+     * Read sub-requests are sent biggest first. As the optimizers know best, what's expensive for their protocol,
+     * they can override this estimate (Defaults to the number of tags). All other sub-requests are sent in the order
+     * they were created in, as e.g. writes have to reach the device in the order requested.
+     *
+     * @param subRequest    sub-request.
+     * @param driverContext driver context.
+     * @return expected size of the sub-request (Only used for ordering, so the unit doesn't matter).
+     */
+    protected int getExpectedSubRequestSize(PlcRequest subRequest, DriverContext driverContext) {
+        if (subRequest instanceof PlcTagRequest) {
+            return ((PlcTagRequest) subRequest).getNumberOfTags();
+        }
+        return 1;
+    }
+
+    /**
+     * @param readRequest original read request.
+     * @param subRequest  sub-request.
+     * @param subTagName  name of one item of the sub-request.
+     * @return names of the tags of the original request, the data of which is read by the given item of the
+     * sub-request (Optimizers reading multiple tags with one item have to override this).
+     */
+    protected List<String> getCoveredTagNames(PlcReadRequest readRequest, PlcReadRequest subRequest, String subTagName) {
+        if (readRequest.getTagNames().contains(subTagName)) {
+            return Collections.singletonList(subTagName);
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * If one item of a sub-request reads the data of multiple tags (See {@link #getCoveredTagNames}) and this item
+     * fails, one invalid tag fails all the others too. With bisecting retries enabled, the tags of such an item
+     * are read again in two halves (and these again, if they fail as a whole) in order to find the invalid tags.
+     *
+     * @param driverContext driver context.
+     * @return true, if failed items covering multiple tags should be retried in smaller chunks.
+     */
+    protected boolean isBisectingRetryEnabled(DriverContext driverContext) {
+        return true;
+    }
+
+    /**
+     * @param throwable reason a sub-request failed.
+     * @return response code for all tags of the failed sub-request.
+     */
+    protected PlcResponseCode getResponseCode(Throwable throwable) {
+        while (((throwable instanceof CompletionException) || (throwable instanceof ExecutionException)) &&
+            (throwable.getCause() != null)) {
+            throwable = throwable.getCause();
+        }
+        if ((throwable instanceof TimeoutException) || (throwable instanceof PlcTimeoutException) ||
+            (throwable instanceof PlcProtocolTimeoutException)) {
+            return PlcResponseCode.REMOTE_BUSY;
+        }
+        if (throwable instanceof PlcTagNotFoundException) {
+            return PlcResponseCode.NOT_FOUND;
+        }
+        if (throwable instanceof PlcInvalidTagException) {
+            return PlcResponseCode.INVALID_ADDRESS;
+        }
+        if (throwable instanceof PlcUnsupportedDataTypeException) {
+            return PlcResponseCode.INVALID_DATATYPE;
+        }
+        if ((throwable instanceof PlcUnsupportedOperationException) || (throwable instanceof PlcNotImplementedException)) {
+            return PlcResponseCode.UNSUPPORTED;
+        }
+        if ((throwable instanceof PlcProtocolException) || (throwable instanceof PlcIoException) ||
+            (throwable instanceof PlcConnectionException)) {
+            return PlcResponseCode.REMOTE_ERROR;
+        }
+        return PlcResponseCode.INTERNAL_ERROR;
+    }
+
     public CompletableFuture<PlcReadResponse> optimizedRead(PlcReadRequest readRequest, Plc4xProtocolBase<?> reader) {
-        List<PlcReadRequest> subRequests = processReadRequest(readRequest, reader.getDriverContext());
-        return send(readRequest, subRequests, reader::read, response -> processReadResponses(readRequest, response, reader.getDriverContext()));
+        return optimizedRead(readRequest, reader, null);
+    }
+
+    /**
+     * Same as {@link #optimizedRead(PlcReadRequest, Plc4xProtocolBase)}, but additionally passes partial responses
+     * to the given consumer as soon as the sub-requests finish.
+     * <p>
+     * Every partial response only contains the tags of one sub-request. Tags split up over multiple sub-requests
+     * (huge arrays) are only contained in the final response.
+     *
+     * @param readRequest             read request.
+     * @param reader                  protocol used for sending the sub-requests.
+     * @param partialResponseConsumer consumer for the partial responses (Can be null).
+     * @return future completed with the full response.
+     */
+    public CompletableFuture<PlcReadResponse> optimizedRead(PlcReadRequest readRequest, Plc4xProtocolBase<?> reader,
+                                                            Consumer<PlcReadResponse> partialResponseConsumer) {
+        DriverContext driverContext = reader.getDriverContext();
+        ReadPlan readPlan = getReadPlan(readRequest, driverContext);
+        List<PlcReadRequest> subRequests = readPlan.getSubRequests(readRequest);
+        BiConsumer<PlcReadRequest, SubResponse<PlcReadResponse>> subResponseListener = null;
+        if (partialResponseConsumer != null) {
+            Set<String> splitTagNames = readPlan.getSplitTagNames(readRequest);
+            subResponseListener = (subRequest, subResponse) -> partialResponseConsumer.accept(getPartialReadResponse(
+                readRequest, subRequest,
+                processReadResponses(readRequest, Collections.singletonMap(subRequest, subResponse), driverContext),
+                splitTagNames));
+        }
+        if (!isBisectingRetryEnabled(driverContext)) {
+            return send(readRequest, subRequests, reader::read,
+                response -> processReadResponses(readRequest, response, driverContext),
+                subRequest -> getExpectedSubRequestSize(subRequest, driverContext), driverContext, subResponseListener);
+        }
+        // Sub-requests which didn't reach the device at all, retrying parts of them won't help.
+        Set<PlcReadRequest> unanswered = ConcurrentHashMap.newKeySet();
+        Function<PlcReadRequest, CompletableFuture<PlcReadResponse>> sender = subRequest -> reader.read(subRequest)
+            .whenComplete((subResponse, throwable) -> {
+                if ((throwable != null) && isLinkFailure(throwable)) {
+                    unanswered.add(subRequest);
+                }
+            });
+        CompletableFuture<PlcReadResponse> future = send(readRequest, subRequests, sender,
+            response -> processReadResponses(readRequest, response, driverContext),
+            subRequest -> getExpectedSubRequestSize(subRequest, driverContext), driverContext, subResponseListener);
+        return future.thenCompose(readResponse -> retryFailedChunks(readRequest, subRequests, unanswered, readResponse, reader));
+    }
+
+    /**
+     * @return true, if the given error was caused by the connection instead of the device's response.
+     */
+    private static boolean isLinkFailure(Throwable throwable) {
+        for (Throwable cause = throwable; cause != null; cause = cause.getCause()) {
+            if ((cause instanceof PlcConnectionException) || (cause instanceof PlcIoException)) {
+                return true;
+            }
+            if (!(cause instanceof CompletionException) && !(cause instanceof ExecutionException)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the sub-requests for the given read request. For prepared requests the plan is only made once and
+     * reused for as long as the driver context stays the same. The plan is shared by all prepared requests with the
+     * same tags (names and instances), so requests built anew for every poll from already parsed tags use it too.
+     */
+    private ReadPlan getReadPlan(PlcReadRequest readRequest, DriverContext driverContext) {
+        if (!readRequest.isPrepared()) {
+            return new ReadPlan(readRequest, processReadRequest(readRequest, driverContext), driverContext);
+        }
+        PlanKey planKey = new PlanKey(readRequest);
+        synchronized (preparedReadPlans) {
+            ReadPlan readPlan = preparedReadPlans.get(planKey);
+            if ((readPlan != null) && (readPlan.driverContext == driverContext)) {
+                return readPlan;
+            }
+        }
+        ReadPlan readPlan = new ReadPlan(readRequest, processReadRequest(readRequest, driverContext), driverContext);
+        synchronized (preparedReadPlans) {
+            preparedReadPlans.put(planKey, readPlan);
+        }
+        return readPlan;
+    }
+
+    /**
+     * Reads the tags of items, which failed as a whole, again in two halves and replaces their values in the response
+     * with the results of these reads. (The partial response consumer doesn't get these results)
+     * Sub-requests which failed because of the connection (e.g. a dead link) are not retried, as all of their
+     * halves would fail the same way.
+     */
+    private CompletableFuture<PlcReadResponse> retryFailedChunks(PlcReadRequest readRequest, List<PlcReadRequest> subRequests,
+                                                                 Set<PlcReadRequest> unanswered, PlcReadResponse readResponse,
+                                                                 Plc4xProtocolBase<?> reader) {
+        if (!(readResponse instanceof DefaultPlcReadResponse) || !(readRequest instanceof DefaultPlcReadRequest)) {
+            return CompletableFuture.completedFuture(readResponse);
+        }
+        Map<String, PlcResponseItem<PlcValue>> values = ((DefaultPlcReadResponse) readResponse).getValues();
+
+        List<CompletableFuture<PlcReadResponse>> retries = new ArrayList<>();
+        for (PlcReadRequest subRequest : subRequests) {
+            if (unanswered.contains(subRequest)) {
+                continue;
+            }
+            for (String subTagName : subRequest.getTagNames()) {
+                List<String> coveredTagNames = getCoveredTagNames(readRequest, subRequest, subTagName);
+                if ((coveredTagNames.size() < 2) || !failedAsChunk(coveredTagNames, values)) {
+                    continue;
+                }
+                int half = coveredTagNames.size() / 2;
+                for (List<String> tagNames : Arrays.asList(coveredTagNames.subList(0, half), coveredTagNames.subList(half, coveredTagNames.size()))) {
+                    LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+                    for (String tagName : tagNames) {
+                        tags.put(tagName, ((DefaultPlcReadRequest) readRequest).getTagItem(tagName));
+                    }
+                    // Not prepared, as the plans of the retries would push the ones of the polled requests out of the cache.
+                    PlcReadRequest retryRequest = new DefaultPlcReadRequest(((DefaultPlcReadRequest) readRequest).getReader(), tags);
+                    // If the retry fails too, the tags simply keep the result of the first try.
+                    retries.add(optimizedRead(retryRequest, reader, null).exceptionally(throwable -> {
+                        LOGGER.debug("Error retrying tags {}", tagNames, throwable);
+                        return null;
+                    }));
+                }
+            }
+        }
+        if (retries.isEmpty()) {
+            return CompletableFuture.completedFuture(readResponse);
+        }
+
+        return CompletableFuture.allOf(retries.toArray(new CompletableFuture[0])).thenApply(aVoid -> {
+            Map<String, PlcResponseItem<PlcValue>> mergedValues = new HashMap<>(values);
+            for (CompletableFuture<PlcReadResponse> retry : retries) {
+                PlcReadResponse retryResponse = retry.join();
+                if (retryResponse instanceof DefaultPlcReadResponse) {
+                    mergedValues.putAll(((DefaultPlcReadResponse) retryResponse).getValues());
+                }
+            }
+            return new DefaultPlcReadResponse(readRequest, mergedValues);
+        });
+    }
+
+    /**
+     * @return true, if all the given tags failed with the same response code, that might have been caused by only
+     * one of them (A busy device is not retried, as this would only increase its load).
+     */
+    private static boolean failedAsChunk(List<String> tagNames, Map<String, PlcResponseItem<PlcValue>> values) {
+        PlcResponseCode responseCode = null;
+        for (String tagName : tagNames) {
+            PlcResponseItem<PlcValue> responseItem = values.get(tagName);
+            if ((responseItem == null) || ((responseCode != null) && (responseItem.getResponseCode() != responseCode))) {
+                return false;
+            }
+            responseCode = responseItem.getResponseCode();
+        }
+        return (responseCode != null) && (responseCode != PlcResponseCode.OK) &&
+            (responseCode != PlcResponseCode.REMOTE_BUSY) && (responseCode != PlcResponseCode.RESPONSE_PENDING);
     }
 
     public CompletableFuture<PlcWriteResponse> optimizedWrite(PlcWriteRequest writeRequest, Plc4xProtocolBase<?> writer) {
         List<PlcWriteRequest> subRequests = processWriteRequest(writeRequest, writer.getDriverContext());
-        return send(writeRequest, subRequests, writer::write, response -> processWriteResponses(writeRequest, response, writer.getDriverContext()));
+        // Writes are never reordered (e.g. parameters have to be written before the trigger bit).
+        return send(writeRequest, subRequests, writer::write, response -> processWriteResponses(writeRequest, response, writer.getDriverContext()),
+            null, writer.getDriverContext(), null);
     }
 
     public CompletableFuture<PlcSubscriptionResponse> optimizedSubscribe(
         PlcSubscriptionRequest subscriptionRequest, Plc4xProtocolBase<?> subscriber) {
         List<PlcSubscriptionRequest> subRequests = processSubscriptionRequest(subscriptionRequest, subscriber.getDriverContext());
-        return send(subscriptionRequest, subRequests, subscriber::subscribe, response -> processSubscriptionResponses(subscriptionRequest, response, subscriber.getDriverContext()));
+        return send(subscriptionRequest, subRequests, subscriber::subscribe, response -> processSubscriptionResponses(subscriptionRequest, response, subscriber.getDriverContext()),
+            null, subscriber.getDriverContext(), null);
     }
 
     public CompletableFuture<PlcUnsubscriptionResponse> optimizedUnsubscribe(
         PlcUnsubscriptionRequest unsubscriptionRequest, Plc4xProtocolBase<?> subscriber) {
         List<PlcUnsubscriptionRequest> subRequests = processUnsubscriptionRequest(unsubscriptionRequest, subscriber.getDriverContext());
-        return send(unsubscriptionRequest, subRequests, subscriber::unsubscribe, response -> processUnsubscriptionResponses(unsubscriptionRequest, response, subscriber.getDriverContext()));
+        return send(unsubscriptionRequest, subRequests, subscriber::unsubscribe, response -> processUnsubscriptionResponses(unsubscriptionRequest, response, subscriber.getDriverContext()),
+            null, subscriber.getDriverContext(), null);
     }
 
     private <REQ extends PlcRequest, RES extends PlcResponse> CompletableFuture<RES> send(
         REQ originalRequest,
         List<REQ> requests,
         Function<REQ, CompletableFuture<RES>> sender,
-        Function<Map<REQ, SubResponse<RES>>, RES> responseProcessor) {
+        Function<Map<REQ, SubResponse<RES>>, RES> responseProcessor,
+        ToIntFunction<REQ> expectedSize,
+        DriverContext driverContext,
+        BiConsumer<REQ, SubResponse<RES>> subResponseListener) {
         // If this send has only one sub-request and this matches the original one, don't do any special handling
         // and just forward the request to the normal sending method.
         if ((requests.size() == 1) && (requests.get(0) == originalRequest)) {
-            return sender.apply(requests.get(0));
+            if (subResponseListener == null) {
+                return sender.apply(requests.get(0));
+            }
+            return sender.apply(requests.get(0)).thenApply(response -> {
+                try {
+                    subResponseListener.accept(originalRequest, new SubResponse<>(response));
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Error processing sub-response", e);
+                }
+                return response;
+            });
         }
         // If at least one sub request is requested, split up each tag request into a separate sub-request
         // And have the reader process each one independently. After the last sub-request is finished,
@@ -146,43 +431,134 @@ public abstract class BaseOptimizer {
             return CompletableFuture.completedFuture(responseProcessor.apply(Collections.emptyMap()));
         }
 
-        // Create a new future which will be used to return the aggregated response back to the application.
-        CompletableFuture<RES> parentFuture = new CompletableFuture<>();
+        // Send the sub-requests, with never more than the allowed number in flight, and as soon as all are done,
+        // merge the individual responses back to one big response (Without expected size, in the given order).
+        SubRequestScheduler<REQ, RES> scheduler = new SubRequestScheduler<>(requests, expectedSize,
+            getMaxInFlightSubRequests(driverContext), sender, subResponseListener);
+        return scheduler.start().thenApply(responseProcessor);
+    }
 
-        // Create one sub-request for every single tag and store the futures in a map.
-        Map<REQ, CompletableFuture<RES>> subFutures = new HashMap<>();
-        for (REQ subRequest : requests) {
-            subFutures.put(subRequest, sender.apply(subRequest));
+    /**
+     * @return names of the tags, which are contained in more than one sub-request.
+     */
+    private Set<String> getSplitTagNames(PlcReadRequest readRequest, List<PlcReadRequest> subRequests) {
+        Set<String> tagNames = new HashSet<>();
+        Set<String> splitTagNames = new HashSet<>();
+        for (PlcReadRequest subRequest : subRequests) {
+            for (String subTagName : subRequest.getTagNames()) {
+                for (String tagName : getCoveredTagNames(readRequest, subRequest, subTagName)) {
+                    if (!tagNames.add(tagName)) {
+                        splitTagNames.add(tagName);
+                    }
+                }
+            }
         }
+        return splitTagNames;
+    }
 
-        // As soon as all sub-futures are done, merge the individual responses back to one big response.
-        CompletableFuture.allOf(subFutures.values().toArray(new CompletableFuture[0])).handle((aVoid, t) -> {
-            if (t != null) {
-                parentFuture.completeExceptionally(t);
+    private PlcReadResponse getPartialReadResponse(PlcReadRequest readRequest, PlcReadRequest subRequest,
+                                                   PlcReadResponse response, Set<String> splitTagNames) {
+        if (!(response instanceof DefaultPlcReadResponse) || !(readRequest instanceof DefaultPlcReadRequest)) {
+            return response;
+        }
+        Set<String> coveredTagNames = new HashSet<>();
+        for (String subTagName : subRequest.getTagNames()) {
+            coveredTagNames.addAll(getCoveredTagNames(readRequest, subRequest, subTagName));
+        }
+        // Build a response for a request only containing the tags this sub-request read.
+        Map<String, PlcResponseItem<PlcValue>> values = ((DefaultPlcReadResponse) response).getValues();
+        LinkedHashMap<String, PlcTagItem<PlcTag>> partialTags = new LinkedHashMap<>();
+        Map<String, PlcResponseItem<PlcValue>> partialValues = new HashMap<>();
+        for (String tagName : readRequest.getTagNames()) {
+            if (coveredTagNames.contains(tagName) && values.containsKey(tagName) && !splitTagNames.contains(tagName)) {
+                partialTags.put(tagName, ((DefaultPlcReadRequest) readRequest).getTagItem(tagName));
+                partialValues.put(tagName, values.get(tagName));
             }
-            Map<REQ, SubResponse<RES>> results = new HashMap<>();
-            for (Map.Entry<REQ, CompletableFuture<RES>> subFutureEntry : subFutures.entrySet()) {
-                REQ subRequest = subFutureEntry.getKey();
-                CompletableFuture<RES> subFuture = subFutureEntry.getValue();
-                try {
-                    final RES subResponse = subFuture.get();
-                    results.put(subRequest, new SubResponse<>(subResponse));
-                } catch (InterruptedException e) {
-                    Thread.currentThread().interrupt();
-                    results.put(subRequest, new SubResponse<>(new Exception("Something went wrong")));
-                } catch (Exception e) {
-                    results.put(subRequest, new SubResponse<>(new Exception("Something went wrong")));
+        }
+        return new DefaultPlcReadResponse(new DefaultPlcReadRequest(
+            ((DefaultPlcReadRequest) readRequest).getReader(), partialTags), partialValues);
+    }
+
+    /**
+     * Sub-requests planned for a read request.
+     */
+    private class ReadPlan {
+
+        private final List<PlcReadRequest> subRequests;
+        private final DriverContext driverContext;
+        // The request is just passed on as it is.
+        private final boolean passThrough;
+        private volatile Set<String> splitTagNames;
+
+        private ReadPlan(PlcReadRequest readRequest, List<PlcReadRequest> subRequests, DriverContext driverContext) {
+            this.subRequests = subRequests;
+            this.driverContext = driverContext;
+            this.passThrough = (subRequests.size() == 1) && (subRequests.get(0) == readRequest);
+        }
+
+        private List<PlcReadRequest> getSubRequests(PlcReadRequest readRequest) {
+            // Plans are shared by equivalent requests, so make sure the request itself is passed on.
+            return passThrough ? Collections.singletonList(readRequest) : subRequests;
+        }
+
+        private Set<String> getSplitTagNames(PlcReadRequest readRequest) {
+            if (splitTagNames == null) {
+                splitTagNames = BaseOptimizer.this.getSplitTagNames(readRequest, getSubRequests(readRequest));
+            }
+            return splitTagNames;
+        }
+
+    }
+
+    /**
+     * Identifies prepared read requests with the same tags, comparing the tags by identity (Tags aren't required
+     * to implement equals and a request built anew from the same tags is what's to be found).
+     */
+    private static final class PlanKey {
+
+        private final List<String> tagNames;
+        private final List<Object> tags;
+        private final int hashCode;
+
+        private PlanKey(PlcReadRequest readRequest) {
+            tagNames = new ArrayList<>(readRequest.getTagNames());
+            tags = new ArrayList<>(tagNames.size());
+            int hash = tagNames.hashCode();
+            for (String tagName : tagNames) {
+                PlcTag tag = readRequest.getTag(tagName);
+                // Tags which couldn't be parsed are only known by their response code.
+                Object identity = (tag != null) ? tag : readRequest.getTagResponseCode(tagName);
+                tags.add(identity);
+                hash = 31 * hash + System.identityHashCode(identity);
+            }
+            hashCode = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PlanKey)) {
+                return false;
+            }
+            PlanKey that = (PlanKey) o;
+            if ((hashCode != that.hashCode) || !tagNames.equals(that.tagNames)) {
+                return false;
+            }
+            for (int i = 0; i < tags.size(); i++) {
+                if (tags.get(i) != that.tags.get(i)) {
+                    return false;
                 }
             }
-            RES response = responseProcessor.apply(results);
-            parentFuture.complete(response);
-            return Void.TYPE;
-        }).exceptionally(throwable -> {
-            // TODO: If would be cool if we could still process all of the successful ones ...
-            parentFuture.completeExceptionally(throwable);
-            return null;
-        });
-        return parentFuture;
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
     }
 
     public static class SubResponse<T extends PlcResponse> {
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.optimizer;
+
+import org.apache.plc4x.java.api.messages.PlcRequest;
+import org.apache.plc4x.java.api.messages.PlcResponse;
+import org.apache.plc4x.java.spi.optimizer.BaseOptimizer.SubResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Sends the sub-requests an optimizer split a request up into, keeping at most {@code maxInFlight} of them
+ * in flight at the same time.
+ * <p>
+ * If their expected size is given, sub-requests are sent in the order of it (biggest first), so the small ones fill
+ * the gaps at the end instead of one big sub-request being sent last and delaying the aggregated response. Otherwise
+ * they are sent in the given order (Required for writes, as the device has to see them in the order requested).
+ * As soon as one sub-request is finished the next one is sent, and its result is passed to the (optional)
+ * sub-response listener.
+ *
+ * @param <REQ> type of the sub-requests.
+ * @param <RES> type of the sub-responses.
+ */
+public class SubRequestScheduler<REQ extends PlcRequest, RES extends PlcResponse> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubRequestScheduler.class);
+
+    private final Function<REQ, CompletableFuture<RES>> sender;
+    private final int maxInFlight;
+    private final BiConsumer<REQ, SubResponse<RES>> subResponseListener;
+
+    private final Queue<REQ> pendingRequests;
+    private final Map<REQ, SubResponse<RES>> results;
+    private final CompletableFuture<Map<REQ, SubResponse<RES>>> future;
+    private int numInFlight;
+    private int numOutstanding;
+    private boolean dispatching;
+
+    /**
+     * @param subRequests         sub-requests to send.
+     * @param expectedSize        function estimating the size of a sub-request (Used for ordering only, can be null
+     *                            to send the sub-requests in the given order).
+     * @param maxInFlight         maximum number of sub-requests in flight at the same time.
+     * @param sender              function sending one sub-request.
+     * @param subResponseListener listener called with the result of every sub-request as soon as it's available
+     *                            (Can be null).
+     */
+    public SubRequestScheduler(List<REQ> subRequests, ToIntFunction<REQ> expectedSize, int maxInFlight,
+                               Function<REQ, CompletableFuture<RES>> sender,
+                               BiConsumer<REQ, SubResponse<RES>> subResponseListener) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be at least 1");
+        }
+        this.sender = sender;
+        this.maxInFlight = maxInFlight;
+        this.subResponseListener = subResponseListener;
+        List<REQ> sortedRequests = new ArrayList<>(subRequests);
+        if (expectedSize != null) {
+            // The sort is stable, so sub-requests of the same size keep their order.
+            sortedRequests.sort(Comparator.comparingInt(expectedSize).reversed());
+        }
+        this.pendingRequests = new ArrayDeque<>(sortedRequests);
+        this.results = new HashMap<>();
+        this.future = new CompletableFuture<>();
+        this.numOutstanding = sortedRequests.size();
+    }
+
+    /**
+     * Starts sending the sub-requests.
+     *
+     * @return future completed with the results of all sub-requests, as soon as the last one is finished.
+     * Failed sub-requests don't fail the future, but are contained as failed {@link SubResponse}.
+     */
+    public CompletableFuture<Map<REQ, SubResponse<RES>>> start() {
+        if (numOutstanding == 0) {
+            future.complete(results);
+            return future;
+        }
+        dispatch();
+        return future;
+    }
+
+    private void dispatch() {
+        synchronized (this) {
+            // If sub-requests complete synchronously, the thread already dispatching continues sending them.
+            if (dispatching) {
+                return;
+            }
+            dispatching = true;
+        }
+        while (true) {
+            REQ subRequest;
+            synchronized (this) {
+                if ((numInFlight >= maxInFlight) || pendingRequests.isEmpty()) {
+                    dispatching = false;
+                    return;
+                }
+                subRequest = pendingRequests.poll();
+                numInFlight++;
+            }
+            send(subRequest);
+        }
+    }
+
+    private void send(REQ subRequest) {
+        CompletableFuture<RES> subFuture;
+        try {
+            subFuture = sender.apply(subRequest);
+        } catch (RuntimeException e) {
+            subFuture = CompletableFuture.failedFuture(e);
+        }
+        subFuture.whenComplete((subResponse, throwable) -> {
+            SubResponse<RES> result = (throwable == null) ? new SubResponse<>(subResponse)
+                : new SubResponse<>((throwable instanceof CompletionException) && (throwable.getCause() != null) ? throwable.getCause() : throwable);
+            if (subResponseListener != null) {
+                try {
+                    subResponseListener.accept(subRequest, result);
+                } catch (RuntimeException e) {
+                    LOGGER.warn("Error processing sub-response", e);
+                }
+            }
+            boolean done;
+            synchronized (this) {
+                results.put(subRequest, result);
+                numInFlight--;
+                numOutstanding--;
+                done = numOutstanding == 0;
+            }
+            if (done) {
+                future.complete(results);
+            } else {
+                dispatch();
+            }
+        });
+    }
+
+}
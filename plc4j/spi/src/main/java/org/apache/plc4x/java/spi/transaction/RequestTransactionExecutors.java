@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.transaction;
+
+import org.apache.commons.lang3.concurrent.BasicThreadFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Factory for the executors a {@link RequestTransactionManager} can run its transactions on.
+ * <p>
+ * Shared pools and the virtual thread executor live for the whole lifetime of the JVM and
+ * are never shut down by a transaction manager.
+ */
+public final class RequestTransactionExecutors {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestTransactionExecutors.class);
+
+    /** Number of threads each dedicated executor uses (this used to be hard-coded in the manager) */
+    static final int DEDICATED_POOL_SIZE = 4;
+
+    /** Shared pools, one per requested pool size */
+    private static final Map<Integer, ExecutorService> sharedPools = new ConcurrentHashMap<>();
+
+    private static volatile ExecutorService virtualThreadExecutor;
+    private static volatile boolean virtualThreadsChecked;
+
+    private RequestTransactionExecutors() {
+    }
+
+    /**
+     * Returns an executor for the given mode.
+     *
+     * @param mode     executor mode.
+     * @param poolSize size of the shared pool (only used for {@link TransactionExecutorMode#SHARED}),
+     *                 values less than 1 select the number of available processors.
+     * @return executor to run transactions on.
+     */
+    public static ExecutorService forMode(TransactionExecutorMode mode, int poolSize) {
+        switch (mode) {
+            case SHARED:
+                return sharedPool(poolSize);
+            case VIRTUAL:
+                return virtualThreadPerTask(poolSize);
+            case DEDICATED:
+            default:
+                return newDedicatedExecutor();
+        }
+    }
+
+    /**
+     * @return a new thread pool only used by a single transaction manager, which is responsible for shutting it down.
+     */
+    public static ExecutorService newDedicatedExecutor() {
+        return Executors.newFixedThreadPool(DEDICATED_POOL_SIZE, new BasicThreadFactory.Builder()
+            .namingPattern("plc4x-tm-thread-%d")
+            .daemon(true)
+            .priority(Thread.MAX_PRIORITY)
+            .build());
+    }
+
+    /**
+     * @param poolSize number of threads in the pool, values less than 1 select the number of available processors.
+     * @return the bounded pool shared by all transaction managers using the same pool size.
+     */
+    public static ExecutorService sharedPool(int poolSize) {
+        int effectivePoolSize = (poolSize > 0) ? poolSize : Runtime.getRuntime().availableProcessors();
+        return sharedPools.computeIfAbsent(effectivePoolSize, size ->
+            Executors.newFixedThreadPool(size, new BasicThreadFactory.Builder()
+                .namingPattern("plc4x-tm-shared-" + size + "-thread-%d")
+                .daemon(true)
+                .priority(Thread.MAX_PRIORITY)
+                .build()));
+    }
+
+    /**
+     * @param fallbackPoolSize pool size of the shared pool used, if the runtime doesn't support virtual threads.
+     * @return an executor starting a new virtual thread for every transaction.
+     */
+    public static ExecutorService virtualThreadPerTask(int fallbackPoolSize) {
+        if (!virtualThreadsChecked) {
+            synchronized (RequestTransactionExecutors.class) {
+                if (!virtualThreadsChecked) {
+                    virtualThreadExecutor = createVirtualThreadExecutor();
+                    virtualThreadsChecked = true;
+                }
+            }
+        }
+        if (virtualThreadExecutor != null) {
+            return virtualThreadExecutor;
+        }
+        return sharedPool(fallbackPoolSize);
+    }
+
+    private static ExecutorService createVirtualThreadExecutor() {
+        // Virtual threads are only available with Java 21 and above, as we're compiling against
+        // an older version, we have to look them up via reflection.
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            logger.warn("Virtual threads are not supported by this runtime, falling back to a shared thread pool.");
+            return null;
+        }
+    }
+
+}
@@ -23,15 +23,12 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Objects;
 import java.util.Queue;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.function.Consumer;
-import org.apache.commons.lang3.concurrent.BasicThreadFactory;
 
 /**
  * This is a limited Queue of Requests, a Protocol can use.
@@ -42,32 +39,59 @@ import org.apache.commons.lang3.concurrent.BasicThreadFactory;
  *     <li>Pass Runnable</li>
  *     <li>On Request or Response unregister Slot</li>
  * </ul>
+ * <p>
+ * The number of running transactions is tracked by an atomic permit counter, so concurrent calls to
+ * {@link RequestTransaction#submit(Runnable)} and {@link RequestTransaction#endRequest()} can never
+ * exceed the configured number of concurrent requests. Waiting transactions are kept in one FIFO lane
+ * per {@link TransactionPriority}, higher priority lanes are always drained first.
  */
 public class RequestTransactionManager {
 
     private static final Logger logger = LoggerFactory.getLogger(RequestTransactionManager.class);
 
-    /** Executor that performs all operations */
-    //static final ExecutorService executor = Executors.newScheduledThreadPool(4);
+    private static final TransactionPriority[] PRIORITIES = TransactionPriority.values();
 
-    final ExecutorService executor = Executors.newFixedThreadPool(4, new BasicThreadFactory.Builder()
-                                                    .namingPattern("plc4x-tm-thread-%d")
-                                                    .daemon(true)
-                                                    .priority(Thread.MAX_PRIORITY)
-                                                    .build());    
-    
-    private final Set<RequestTransaction> runningRequests;
+    /** Executor that performs all operations, the dedicated default executor is created lazily on first use */
+    private volatile ExecutorService executor;
+    /** Only executors created by this manager are shut down together with it */
+    private volatile boolean ownsExecutor;
+
+    /** Number of currently running transactions (the permits currently handed out) */
+    private final AtomicInteger activeRequests = new AtomicInteger(0);
     /** How many Transactions are allowed to run at the same time? */
-    private int numberOfConcurrentRequests;
+    private volatile int numberOfConcurrentRequests;
     /** Assigns each request a Unique Transaction Id, especially important for failure handling */
     private final AtomicInteger transactionId = new AtomicInteger(0);
-    /** Important, this is a FIFO Queue for Fairness! */
-    private final Queue<RequestTransaction> workLog = new ConcurrentLinkedQueue<>();
+    /** Important, these are FIFO Queues for Fairness (one per priority, indexed by the priorities ordinal)! */
+    private final Queue<RequestTransaction>[] workLog;
 
+    @SuppressWarnings("unchecked")
     public RequestTransactionManager(int numberOfConcurrentRequests) {
         this.numberOfConcurrentRequests = numberOfConcurrentRequests;
-        // Immutable Map
-        runningRequests = ConcurrentHashMap.newKeySet();
+        this.workLog = new Queue[PRIORITIES.length];
+        for (int i = 0; i < workLog.length; i++) {
+            workLog[i] = new ConcurrentLinkedQueue<>();
+        }
+    }
+
+    /**
+     * @param numberOfConcurrentRequests number of transactions allowed to run at the same time.
+     * @param executor                   executor to run the transactions on. As it is provided externally,
+     *                                   it is not shut down when shutting down this manager.
+     */
+    public RequestTransactionManager(int numberOfConcurrentRequests, ExecutorService executor) {
+        this(numberOfConcurrentRequests);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    /**
+     * @param numberOfConcurrentRequests number of transactions allowed to run at the same time.
+     * @param executorMode               defines which threads the transactions are run on.
+     * @param executorPoolSize           size of the shared pool (values less than 1 select the number of available processors).
+     */
+    public RequestTransactionManager(int numberOfConcurrentRequests, TransactionExecutorMode executorMode, int executorPoolSize) {
+        this(numberOfConcurrentRequests);
+        setExecutorMode(executorMode, executorPoolSize);
     }
 
     public RequestTransactionManager() {
@@ -81,7 +105,7 @@ public class RequestTransactionManager {
     public void setNumberOfConcurrentRequests(int numberOfConcurrentRequests) {
         // If we reduced the number of concurrent requests and more requests are in-flight
         // than should be, at least log a warning.
-        if(numberOfConcurrentRequests < runningRequests.size()) {
+        if(numberOfConcurrentRequests < activeRequests.get()) {
             logger.warn("The number of concurrent requests was reduced and currently more requests are in flight.");
         }
 
@@ -91,74 +115,179 @@ public class RequestTransactionManager {
         processWorkLog();
     }
     
+    /**
+     * Switches the threads transactions are executed on. Transactions already running are not affected.
+     *
+     * @param executorMode     defines which threads the transactions are run on.
+     * @param executorPoolSize size of the shared pool (values less than 1 select the number of available processors).
+     */
+    public synchronized void setExecutorMode(TransactionExecutorMode executorMode, int executorPoolSize) {
+        ExecutorService oldExecutor = executor;
+        boolean ownedOldExecutor = ownsExecutor;
+        if ((executorMode == null) || (executorMode == TransactionExecutorMode.DEDICATED)) {
+            // Created lazily, so managers that never send anything don't start any threads.
+            executor = null;
+            ownsExecutor = false;
+        } else {
+            executor = RequestTransactionExecutors.forMode(executorMode, executorPoolSize);
+            ownsExecutor = false;
+        }
+        if (ownedOldExecutor && (oldExecutor != null)) {
+            oldExecutor.shutdown();
+        }
+    }
+
     /*
     * It allows the sequential shutdown of the associated driver.
     */
-    public void shutdown(){
-        executor.shutdown();
-    }    
+    public synchronized void shutdown(){
+        if (ownsExecutor && (executor != null)) {
+            executor.shutdown();
+        }
+    }
+
+    ExecutorService getExecutor() {
+        ExecutorService currentExecutor = executor;
+        if (currentExecutor == null) {
+            synchronized (this) {
+                if (executor == null) {
+                    executor = RequestTransactionExecutors.newDedicatedExecutor();
+                    ownsExecutor = true;
+                }
+                currentExecutor = executor;
+            }
+        }
+        return currentExecutor;
+    }
 
     public void submit(Consumer<RequestTransaction> context) {
-        RequestTransaction transaction = startRequest();
+        submit(context, TransactionPriority.NORMAL);
+    }
+
+    public void submit(Consumer<RequestTransaction> context, TransactionPriority priority) {
+        RequestTransaction transaction = startRequest(priority);
         context.accept(transaction);
     }
 
     void submit(RequestTransaction handle) {
         assert handle.operation != null;
-        // Add this Request with this handle i the work-log
-        // Put Transaction into work-log
-        workLog.add(handle);
+        if (!handle.compareAndSetState(RequestTransaction.STATE_NEW, RequestTransaction.STATE_QUEUED)) {
+            throw new IllegalStateException("Transaction " + handle.transactionId + " was already submitted");
+        }
+        // Put Transaction into the work-log of its priority
+        workLog[handle.priority.ordinal()].add(handle);
         // Try to Process the work-log
         processWorkLog();
     }
 
     private void processWorkLog() {
-        while (runningRequests.size() < getNumberOfConcurrentRequests() && !workLog.isEmpty()) {
-            RequestTransaction next = workLog.poll();
-            if (next != null) {
-                runningRequests.add(next);
-                Future<?> completionFuture = executor.submit(next.operation);
-                next.setCompletionFuture(completionFuture);
+        while (hasQueuedRequests()) {
+            // Try to get a permit, if all are handed out, the next call to endRequest will continue processing.
+            int active = activeRequests.get();
+            if (active >= numberOfConcurrentRequests) {
+                return;
+            }
+            if (!activeRequests.compareAndSet(active, active + 1)) {
+                continue;
+            }
+            RequestTransaction next = pollNext();
+            if (next == null) {
+                // Somebody else took the work, give back the permit. As another thread might have queued
+                // something and given up as we were holding the permit, the loop checks the queues again.
+                activeRequests.decrementAndGet();
+                continue;
+            }
+            Future<?> completionFuture = getExecutor().submit(next);
+            next.setCompletionFuture(completionFuture);
+        }
+    }
+
+    private boolean hasQueuedRequests() {
+        for (Queue<RequestTransaction> lane : workLog) {
+            if (!lane.isEmpty()) {
+                return true;
             }
         }
+        return false;
+    }
+
+    private RequestTransaction pollNext() {
+        for (Queue<RequestTransaction> lane : workLog) {
+            RequestTransaction next;
+            while ((next = lane.poll()) != null) {
+                // Transactions failed while waiting in the queue are just skipped.
+                if (next.compareAndSetState(RequestTransaction.STATE_QUEUED, RequestTransaction.STATE_RUNNING)) {
+                    return next;
+                }
+            }
+        }
+        return null;
     }
 
     public RequestTransaction startRequest() {
-        return new RequestTransaction(this, transactionId.getAndIncrement());
+        return startRequest(TransactionPriority.NORMAL);
+    }
+
+    public RequestTransaction startRequest(TransactionPriority priority) {
+        return new RequestTransaction(this, transactionId.getAndIncrement(), priority);
     }
 
     public int getNumberOfActiveRequests() {
-        return runningRequests.size();
+        return activeRequests.get();
     }
 
     private void failRequest(RequestTransaction transaction) {
+        // If it's still waiting, it's enough to make sure it's never started.
+        if (transaction.compareAndSetState(RequestTransaction.STATE_QUEUED, RequestTransaction.STATE_FINISHED)) {
+            workLog[transaction.priority.ordinal()].remove(transaction);
+            return;
+        }
         // Try to fail it!
-        transaction.getCompletionFuture().cancel(true);
+        Future<?> completionFuture = transaction.getCompletionFuture();
+        if (completionFuture != null) {
+            completionFuture.cancel(true);
+        }
         // End it
         endRequest(transaction);
     }
 
     private void endRequest(RequestTransaction transaction) {
-        if (!runningRequests.contains(transaction)) {
+        if ((transaction.parent != this) ||
+            !transaction.compareAndSetState(RequestTransaction.STATE_RUNNING, RequestTransaction.STATE_FINISHED)) {
             throw new IllegalArgumentException("Unknown Transaction or Transaction already finished!");
         }
-        runningRequests.remove(transaction);
+        activeRequests.decrementAndGet();
         // Process the work-log, a slot should be free now
         processWorkLog();
     }
 
-    public static class RequestTransaction {
+    public static class RequestTransaction implements Runnable {
+
+        static final int STATE_NEW = 0;
+        static final int STATE_QUEUED = 1;
+        static final int STATE_RUNNING = 2;
+        static final int STATE_FINISHED = 3;
+
+        private static final AtomicIntegerFieldUpdater<RequestTransaction> STATE_UPDATER =
+            AtomicIntegerFieldUpdater.newUpdater(RequestTransaction.class, "state");
 
         private final RequestTransactionManager parent;
         private final int transactionId;
+        private final TransactionPriority priority;
 
         /** The initial operation to perform to kick off the request */
         private Runnable operation;
-        private Future<?> completionFuture;
+        private volatile Future<?> completionFuture;
+        private volatile int state = STATE_NEW;
 
         public RequestTransaction(RequestTransactionManager parent, int transactionId) {
+            this(parent, transactionId, TransactionPriority.NORMAL);
+        }
+
+        public RequestTransaction(RequestTransactionManager parent, int transactionId, TransactionPriority priority) {
             this.parent = parent;
             this.transactionId = transactionId;
+            this.priority = Objects.requireNonNull(priority);
         }
 
         public void start() {
@@ -174,6 +303,10 @@ public class RequestTransactionManager {
             parent.endRequest(this);
         }
 
+        public TransactionPriority getPriority() {
+            return priority;
+        }
+
         public void setOperation(Runnable operation) {
             this.operation = operation;
         }
@@ -188,10 +321,34 @@ public class RequestTransactionManager {
 
         public void submit(Runnable operation) {
             logger.trace("Submission of transaction {}", transactionId);
-            setOperation(new TransactionOperation(transactionId, operation));
+            setOperation(operation);
             parent.submit(this);
         }
 
+        boolean compareAndSetState(int expected, int newState) {
+            return STATE_UPDATER.compareAndSet(this, expected, newState);
+        }
+
+        /**
+         * Executes the operation of this transaction, this is called by the executor of the transaction manager.
+         */
+        //TODO: Check MDC used. Created exception in Hop application
+        @Override
+        public void run() {
+            // The transaction might have been failed before the executor got to run it.
+            if (state != STATE_RUNNING) {
+                return;
+            }
+            //try (final MDC.MDCCloseable closeable = MDC.putCloseable("plc4x.transactionId", Integer.toString(transactionId))) {
+            try{
+                logger.trace("Start execution of transaction {}", transactionId);
+                operation.run();
+                logger.trace("Completed execution of transaction {}", transactionId);
+            }  catch (Exception ex) {
+                logger.info(ex.getMessage());
+            }
+        }
+
         @Override
         public boolean equals(Object o) {
             if (this == o) return true;
@@ -207,26 +364,4 @@ public class RequestTransactionManager {
 
     }
 
-    static class TransactionOperation implements Runnable {
-        private final int transactionId;
-        private final Runnable delegate;
-
-        public TransactionOperation(int transactionId, Runnable delegate) {
-            this.transactionId = transactionId;
-            this.delegate = delegate;
-        }
-
-        //TODO: Check MDC used. Created exception in Hop application        
-        @Override
-        public void run() {
-            //try (final MDC.MDCCloseable closeable = MDC.putCloseable("plc4x.transactionId", Integer.toString(transactionId))) {
-            try{    
-                logger.trace("Start execution of transaction {}", transactionId);
-                delegate.run();
-                logger.trace("Completed execution of transaction {}", transactionId);
-            }  catch (Exception ex) {
-                logger.info(ex.getMessage());
-            }
-        }
-    }
 }
@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.transaction;
+
+/**
+ * Defines on which threads a {@link RequestTransactionManager} executes its transactions.
+ */
+public enum TransactionExecutorMode {
+
+    /**
+     * Every transaction manager (and therefore every connection) gets its own small thread pool.
+     */
+    DEDICATED,
+
+    /**
+     * All transaction managers configured with the same pool size share one bounded thread pool.
+     */
+    SHARED,
+
+    /**
+     * Every transaction runs on its own virtual thread.
+     * On runtimes without virtual thread support, this falls back to {@link #SHARED}.
+     */
+    VIRTUAL
+
+}
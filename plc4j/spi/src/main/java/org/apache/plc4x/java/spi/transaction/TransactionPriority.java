@@ -0,0 +1,43 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.transaction;
+
+/**
+ * Priority lanes of the {@link RequestTransactionManager}.
+ * Waiting transactions of a higher priority are always started before any of a lower priority.
+ * The order of the constants defines the priority, the first one being the highest.
+ */
+public enum TransactionPriority {
+
+    /**
+     * Time-critical requests, such as writes or alarm acknowledgements.
+     */
+    HIGH,
+
+    /**
+     * Default priority for all requests.
+     */
+    NORMAL,
+
+    /**
+     * Bulk requests, such as cyclic polling reads, which may be delayed.
+     */
+    LOW
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.utils;
+
+import org.apache.plc4x.java.spi.generation.Message;
+import org.apache.plc4x.java.spi.generation.SerializationException;
+import org.apache.plc4x.java.spi.generation.WriteBufferBoxBased;
+
+/**
+ * Descriptions of messages to be passed as log arguments.
+ * <p>
+ * The returned objects only render the message, when the logging framework calls their {@code toString()}, which
+ * only happens if the log level is actually enabled. Still, as creating them allocates a (tiny) object, calls in hot
+ * paths should additionally be guarded by checking the log level.
+ * <ul>
+ *     <li>{@link #summary(Object)} renders a compact one-line summary (type and size), meant for debug logging</li>
+ *     <li>{@link #box(Serializable)} renders the full ASCII box of the message (just as the generated
+ *     {@code toString()} does), so it should only be used if the full content is explicitly needed</li>
+ * </ul>
+ */
+public final class MessageDescriptions {
+
+    private MessageDescriptions() {
+    }
+
+    /**
+     * @param message message to describe.
+     * @return object rendering a one-line summary of the message.
+     */
+    public static Object summary(Object message) {
+        return new Summary(message);
+    }
+
+    /**
+     * @param message message to describe.
+     * @return object rendering the full ASCII box of the message.
+     */
+    public static Object box(Serializable message) {
+        return new Box(message);
+    }
+
+    /**
+     * @param message message to describe.
+     * @return one-line summary of the given message. Generated messages are only described by their type and size,
+     * as their {@code toString()} renders their full content. All other objects are rendered as they are.
+     */
+    public static String summarize(Object message) {
+        if (message instanceof Message) {
+            return message.getClass().getSimpleName() + "[" + ((Message) message).getLengthInBytes() + " bytes]";
+        }
+        return String.valueOf(message);
+    }
+
+    private static final class Summary {
+
+        private final Object message;
+
+        private Summary(Object message) {
+            this.message = message;
+        }
+
+        @Override
+        public String toString() {
+            return summarize(message);
+        }
+
+    }
+
+    private static final class Box {
+
+        private final Serializable message;
+
+        private Box(Serializable message) {
+            this.message = message;
+        }
+
+        @Override
+        public String toString() {
+            WriteBufferBoxBased writeBufferBoxBased = new WriteBufferBoxBased(true, true);
+            try {
+                writeBufferBoxBased.writeSerializable(message);
+            } catch (SerializationException e) {
+                return message.getClass().getSimpleName() + "[error rendering message: " + e.getMessage() + "]";
+            }
+            return "\n" + writeBufferBoxBased.getBox().toString() + "\n";
+        }
+
+    }
+
+}
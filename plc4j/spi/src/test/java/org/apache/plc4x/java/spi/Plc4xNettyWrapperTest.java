@@ -22,9 +22,12 @@ import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.DefaultChannelPromise;
+import io.netty.util.concurrent.ImmediateEventExecutor;
 import org.apache.plc4x.java.spi.ConversationContext.ContextHandler;
 import org.apache.plc4x.java.spi.ConversationContext.SendRequestContext;
 import org.apache.plc4x.java.spi.events.ConnectEvent;
+import org.apache.plc4x.java.spi.netty.NettyHashTimerTimeoutManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,10 +35,14 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
@@ -61,10 +68,13 @@ class Plc4xNettyWrapperTest {
     private AtomicBoolean timeout;
     private AtomicBoolean handled;
     private AtomicBoolean error;
+    // Completed as soon as the timeout of a request is cancelled.
+    private CompletableFuture<Void> timeoutCancelled;
 
     @BeforeEach
     void setUp() throws Exception {
-        wrapper = new Plc4xNettyWrapper<>(channelPipeline, false, protocol, null, Date.class);
+        timeoutCancelled = new CompletableFuture<>();
+        wrapper = new Plc4xNettyWrapper<>(new RecordingTimeoutManager(), channelPipeline, false, protocol, null, Date.class);
 
         ArgumentCaptor<ConversationContext<Date>> captor = ArgumentCaptor.forClass(ConversationContext.class);
         doNothing().when(protocol).onConnect(captor.capture());
@@ -151,6 +161,41 @@ class Plc4xNettyWrapperTest {
         verify(false, true, false);
     }
 
+    @Test
+    void conversationWithSendError() throws Exception {
+        when(channel.writeAndFlush(any())).thenReturn(
+            new DefaultChannelPromise(channel, ImmediateEventExecutor.INSTANCE).setFailure(new IOException("Connection reset")));
+        ConversationContext.ContextHandler handler = wrap(conversationContext.sendRequest(new Date())
+            .expectResponse(Date.class, Duration.ofMillis(200)));
+
+        // The request was never sent, so it must not time out either.
+        timeoutCancelled.get(1, TimeUnit.SECONDS);
+        assertThat(handler.isDone()).isTrue();
+        verify(false, true, false);
+        // Nor is it waiting for a response anymore.
+        wrapper.decode(channelHandlerContext, new Date(), new ArrayList<>());
+        verify(false, true, false);
+    }
+
+    @Test
+    void conversationWithCorrelationKey() throws Exception {
+        when(protocol.getCorrelationKey(any())).thenAnswer(invocation -> ((Date) invocation.getArgument(0)).getTime());
+        AtomicReference<Date> first = new AtomicReference<>();
+        AtomicReference<Date> second = new AtomicReference<>();
+        conversationContext.sendRequest(new Date(1))
+            .expectResponse(Date.class, Duration.ofMillis(500))
+            .handle(first::set);
+        ConversationContext.ContextHandler handler = conversationContext.sendRequest(new Date(2))
+            .expectResponse(Date.class, Duration.ofMillis(500))
+            .handle(second::set);
+
+        // Without the key, the first registration would accept any date.
+        wrapper.decode(channelHandlerContext, new Date(2), new ArrayList<>());
+        handler.await();
+        assertThat(first.get()).isNull();
+        assertThat(second.get()).isEqualTo(new Date(2));
+    }
+
     void verify(boolean isTimeout, boolean isError, boolean isHandled) {
         assertThat(timeout.get()).describedAs("Expected timeout state %b", isTimeout)
             .isEqualTo(isTimeout);
@@ -170,4 +215,27 @@ class Plc4xNettyWrapperTest {
             .onError((value, throwable) -> error.set(true))
             .handle((answer) -> handled.set(true));
     }
-}
\ No newline at end of file
+
+    /**
+     * Records the timeouts being cancelled (completed before they expire).
+     */
+    private class RecordingTimeoutManager implements TimeoutManager {
+
+        private final TimeoutManager delegate = new NettyHashTimerTimeoutManager();
+
+        @Override
+        public CompletionCallback<?> register(TimedOperation operation) {
+            CompletionCallback<?> callback = delegate.register(operation);
+            return () -> {
+                callback.complete();
+                timeoutCancelled.complete(null);
+            };
+        }
+
+        @Override
+        public void stop() {
+            delegate.stop();
+        }
+    }
+
+}
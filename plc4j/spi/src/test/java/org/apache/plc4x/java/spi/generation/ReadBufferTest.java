@@ -19,11 +19,20 @@
 package org.apache.plc4x.java.spi.generation;
 
 import org.apache.plc4x.java.spi.codegen.WithOption;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.junit.jupiter.api.Test;
 
 import java.nio.charset.StandardCharsets;
+import java.util.Random;
 
+import static org.apache.plc4x.java.spi.codegen.fields.FieldReaderFactory.readSimpleField;
+import static org.apache.plc4x.java.spi.codegen.io.DataReaderFactory.*;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ReadBufferTest {
 
@@ -51,4 +60,108 @@ class ReadBufferTest {
 
         assertEquals(value, answer);
     }
-}
\ No newline at end of file
+
+    @Test
+    void readUnalignedBits() throws ParseException {
+        final ReadBuffer buffer = new ReadBufferByteBased(new byte[]{(byte) 0b1011_0110, (byte) 0b0101_1100, (byte) 0xFF});
+        assertTrue(buffer.readBit(""));
+        assertEquals(0b011, buffer.readUnsignedByte("", 3));
+        assertEquals(1, buffer.getPos());
+        // Crosses the byte boundary: 0110 0101
+        assertEquals(0b0110_0101, buffer.readUnsignedShort("", 8));
+        // Signed values are sign-extended: 1100 -> -4
+        assertEquals(-4, buffer.readSignedByte("", 4));
+        assertEquals(-1, buffer.readByte(""));
+        assertFalse(buffer.hasMore(8));
+    }
+
+    @Test
+    void readAlignedValues() throws ParseException {
+        byte[] data = new byte[]{0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, (byte) 0xFF, (byte) 0xFE};
+        ReadBuffer buffer = new ReadBufferByteBased(data);
+        assertEquals(0x01020304, buffer.readInt("", 32));
+        buffer.reset(0);
+        assertEquals(0x0102030405060708L, buffer.readLong("", 64));
+        assertEquals(0xFFFE, buffer.readUnsignedInt("", 16));
+
+        buffer = new ReadBufferByteBased(data, ByteOrder.LITTLE_ENDIAN);
+        assertEquals(0x04030201, buffer.readInt("", 32));
+        assertEquals(0x0605, buffer.readShort("", 16));
+    }
+
+    @Test
+    void readWithoutReaderArgs() throws ParseException {
+        byte[] data = new byte[]{(byte) 0b1010_0000, 0x01, 0x02, 0x03, 0x04, 0x3F, (byte) 0x80, 0x00, 0x00};
+        // Same values as read through the varargs versions, but without any reader args array.
+        final ReadBufferByteBased buffer = new ReadBufferByteBased(data);
+        assertTrue(buffer.readBit(""));
+        assertEquals(0b010, buffer.readUnsignedByte("", 3));
+        assertEquals(0, buffer.readUnsignedShort("", 4));
+        assertEquals(0x0102, buffer.readUnsignedInt("", 16));
+        assertEquals(0x0304, buffer.readShort("", 16));
+        assertEquals(1.0f, buffer.readFloat("", 32));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> buffer.readByte(""));
+
+        final ReadBufferByteBased littleEndianBuffer = new ReadBufferByteBased(data, ByteOrder.LITTLE_ENDIAN);
+        littleEndianBuffer.reset(1);
+        assertEquals(0x04030201, littleEndianBuffer.readInt("", 32));
+        littleEndianBuffer.reset(1);
+        assertEquals(0x0201, littleEndianBuffer.readUnsignedInt("", 16));
+    }
+
+    /**
+     * The fast path of the generated parsers reads fields directly, the generic path through the field- and
+     * data-readers. Both have to return the same values and leave the buffer at the same position.
+     */
+    @Test
+    void readWithoutReaderArgsMatchesGenericReaders() throws ParseException {
+        byte[] data = new byte[64];
+        new Random(4711).nextBytes(data);
+        for (ByteOrder byteOrder : ByteOrder.values()) {
+            final ReadBufferByteBased fast = new ReadBufferByteBased(data, byteOrder);
+            final ReadBufferByteBased generic = new ReadBufferByteBased(data, byteOrder);
+
+            assertEquals(readSimpleField("bit", readBoolean(generic)), fast.readBit("bit"));
+            assertEquals(readSimpleField("uint3", readUnsignedByte(generic, 3)), fast.readUnsignedByte("uint3", 3));
+            assertEquals(readSimpleField("uint4", readUnsignedShort(generic, 4)), fast.readUnsignedShort("uint4", 4));
+            assertEquals(readSimpleField("byte", readByte(generic, 8)), fast.readByte("byte"));
+            assertEquals(readSimpleField("uint12", readUnsignedShort(generic, 12)), fast.readUnsignedShort("uint12", 12));
+            assertEquals(readSimpleField("uint20", readUnsignedInt(generic, 20)), fast.readUnsignedInt("uint20", 20));
+            assertEquals(readSimpleField("uint32", readUnsignedLong(generic, 32)), fast.readUnsignedLong("uint32", 32));
+            assertEquals(readSimpleField("int8", readSignedByte(generic, 8)), fast.readSignedByte("int8", 8));
+            assertEquals(readSimpleField("int16", readSignedShort(generic, 16)), fast.readShort("int16", 16));
+            assertEquals(readSimpleField("int32", readSignedInt(generic, 32)), fast.readInt("int32", 32));
+            assertEquals(readSimpleField("int64", readSignedLong(generic, 64)), fast.readLong("int64", 64));
+            assertEquals(readSimpleField("float32", readFloat(generic, 32)), fast.readFloat("float32", 32));
+            assertEquals(readSimpleField("float64", readDouble(generic, 64)), fast.readDouble("float64", 64));
+            assertEquals(generic.getPos(), fast.getPos());
+        }
+    }
+
+    @Test
+    void readByteArray() throws ParseException {
+        final ReadBuffer buffer = new ReadBufferByteBased(new byte[]{0x01, 0x23, 0x45, 0x67});
+        assertArrayEquals(new byte[]{0x01, 0x23}, buffer.readByteArray("", 2));
+        // Unaligned
+        buffer.reset(0);
+        buffer.readUnsignedByte("", 4);
+        assertArrayEquals(new byte[]{0x12, 0x34}, buffer.readByteArray("", 2));
+        assertThrows(ArrayIndexOutOfBoundsException.class, () -> buffer.readByteArray("", 2));
+    }
+
+    @Test
+    void readFromByteBuf() throws ParseException {
+        ByteBuf byteBuf = Unpooled.directBuffer();
+        byteBuf.writeBytes(new byte[]{0x00, 0x00, 0x12, 0x34, 0x56});
+        byteBuf.skipBytes(2);
+
+        final ReadBufferByteBased buffer = new ReadBufferByteBased(byteBuf, ByteOrder.BIG_ENDIAN);
+        assertEquals(3, buffer.getTotalBytes());
+        assertEquals(0x1234, buffer.readUnsignedInt("", 16));
+        assertArrayEquals(new byte[]{0x34, 0x56}, buffer.getBytes(1, 3));
+        // The buffer passed in is not modified
+        assertEquals(2, byteBuf.readerIndex());
+        byteBuf.release();
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.generation;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.apache.plc4x.java.spi.codegen.WithOption;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WriteBufferTest {
+
+    @Test
+    void writeUnalignedBits() throws SerializationException {
+        WriteBufferByteBased buffer = new WriteBufferByteBased(3);
+        buffer.writeBit("", true);
+        buffer.writeUnsignedByte("", 3, (byte) 0b011);
+        assertEquals(0, buffer.getPos());
+        // Crosses the byte boundary
+        buffer.writeUnsignedShort("", 8, (short) 0b0110_0101);
+        buffer.writeSignedByte("", 4, (byte) -4);
+        buffer.writeByte("", (byte) -1);
+        assertArrayEquals(new byte[]{(byte) 0b1011_0110, (byte) 0b0101_1100, (byte) 0xFF}, buffer.getBytes());
+    }
+
+    @Test
+    void writeAlignedValues() throws SerializationException {
+        WriteBufferByteBased buffer = new WriteBufferByteBased(14);
+        buffer.writeInt("", 32, 0x01020304);
+        buffer.writeLong("", 64, 0x05060708090A0B0CL);
+        buffer.setByteOrder(ByteOrder.LITTLE_ENDIAN);
+        buffer.writeShort("", 16, (short) 0x0D0E);
+        assertArrayEquals(new byte[]{0x01, 0x02, 0x03, 0x04, 0x05, 0x06, 0x07, 0x08, 0x09, 0x0A, 0x0B, 0x0C, 0x0E, 0x0D},
+            buffer.getBytes());
+    }
+
+    @Test
+    void writeStringIsZeroPadded() throws SerializationException {
+        WriteBufferByteBased buffer = new WriteBufferByteBased(6);
+        buffer.writeString("", 48, "abc", WithOption.WithEncoding("ASCII"));
+        assertArrayEquals(new byte[]{'a', 'b', 'c', 0, 0, 0}, buffer.getBytes());
+    }
+
+    @Test
+    void writeBeyondSize() throws SerializationException {
+        WriteBufferByteBased buffer = new WriteBufferByteBased(2);
+        buffer.writeByteArray("", new byte[]{1, 2});
+        assertThrows(SerializationException.class, () -> buffer.writeByte("", (byte) 3));
+    }
+
+    @Test
+    void overwriteAfterSetPos() throws SerializationException {
+        WriteBufferByteBased buffer = new WriteBufferByteBased(4);
+        buffer.writeInt("", 32, 0);
+        buffer.setPos(1);
+        buffer.writeUnsignedShort("", 16, (short) 0x0102);
+        buffer.setPos(4);
+        assertArrayEquals(new byte[]{0, 1, 2, 0}, buffer.getBytes());
+        assertArrayEquals(new byte[]{1, 2}, buffer.getBytes(1, 3));
+    }
+
+    @Test
+    void writeIntoByteBuf() throws SerializationException {
+        ByteBuf byteBuf = PooledByteBufAllocator.DEFAULT.directBuffer(2);
+        try {
+            byteBuf.writeByte(0x42);
+            WriteBufferByteBased buffer = new WriteBufferByteBased(byteBuf, ByteOrder.BIG_ENDIAN);
+            buffer.writeByteArray("", new byte[]{1, 2, 3});
+            buffer.writeInt("", 32, 0x04050607);
+            // Positions are relative to the writer index the buffer was created with.
+            assertEquals(7, buffer.getPos());
+            assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7}, buffer.getBytes());
+            // The target buffer grew and its writer index was advanced.
+            assertEquals(8, byteBuf.writerIndex());
+            assertEquals(0x42, byteBuf.getByte(0));
+        } finally {
+            byteBuf.release();
+        }
+    }
+
+}
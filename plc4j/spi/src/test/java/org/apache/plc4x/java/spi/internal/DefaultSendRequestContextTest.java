@@ -27,6 +27,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
 import static org.hamcrest.Matchers.*;
@@ -34,6 +35,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @SuppressWarnings({"rawtypes", "unchecked"})
 @ExtendWith(MockitoExtension.class)
@@ -70,6 +72,7 @@ class DefaultSendRequestContextTest {
 
     @Test
     void handle() {
+        when(context.sendToWireAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
         assertThat(SUT.packetConsumer, nullValue());
         SUT.handle(Object::notify);
         assertThat(SUT.commands, hasSize(0));
@@ -109,6 +112,7 @@ class DefaultSendRequestContextTest {
 
     @Test
     void finish() {
+        when(context.sendToWireAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
         SUT.handle(o -> {
         });
         verify(finisher).accept(any());
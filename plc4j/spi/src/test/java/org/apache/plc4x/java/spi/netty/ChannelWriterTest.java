@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.netty;
+
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChannelWriterTest {
+
+    @Test
+    void flushesEveryMessage() {
+        WireRecorder wire = new WireRecorder();
+        EmbeddedChannel channel = new EmbeddedChannel(wire);
+        ChannelWriter writer = new ChannelWriter(false);
+
+        writer.write(channel, "a");
+        writer.write(channel, "b");
+
+        assertThat(wire.flushed).containsExactly(Collections.singletonList("a"), Collections.singletonList("b"));
+    }
+
+    @Test
+    void coalescesFlushesWithinOneEventLoopIteration() {
+        WireRecorder wire = new WireRecorder();
+        EmbeddedChannel channel = new EmbeddedChannel(wire);
+        ChannelWriter writer = new ChannelWriter(true);
+
+        CompletableFuture<Void> first = ChannelWriter.toCompletableFuture(writer.write(channel, "a"));
+        writer.write(channel, "b");
+        CompletableFuture<Void> last = ChannelWriter.toCompletableFuture(writer.write(channel, "c"));
+        assertThat(wire.flushed).isEmpty();
+
+        channel.runPendingTasks();
+
+        assertThat(wire.flushed).containsExactly(Arrays.asList("a", "b", "c"));
+        assertThat(first).isCompleted();
+        assertThat(last).isCompleted();
+
+        // The next burst gets its own flush
+        writer.write(channel, "d");
+        channel.runPendingTasks();
+        assertThat(wire.flushed).containsExactly(Arrays.asList("a", "b", "c"), Collections.singletonList("d"));
+    }
+
+    @Test
+    void reportsFailedWrites() {
+        EmbeddedChannel channel = new EmbeddedChannel();
+        channel.close();
+
+        CompletableFuture<Void> written = ChannelWriter.toCompletableFuture(new ChannelWriter(false).write(channel, "a"));
+
+        assertThat(written).isCompletedExceptionally();
+    }
+
+    /**
+     * Records the messages on each flush. Writes are completed on flush and not passed on to the
+     * embedded channel, as it processes pending tasks on every write.
+     */
+    private static class WireRecorder extends ChannelOutboundHandlerAdapter {
+
+        private final List<List<Object>> flushed = new ArrayList<>();
+        private final List<Object> pending = new ArrayList<>();
+        private final List<ChannelPromise> pendingPromises = new ArrayList<>();
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            pending.add(msg);
+            pendingPromises.add(promise);
+        }
+
+        @Override
+        public void flush(ChannelHandlerContext ctx) {
+            flushed.add(new ArrayList<>(pending));
+            pending.clear();
+            pendingPromises.forEach(ChannelPromise::setSuccess);
+            pendingPromises.clear();
+        }
+
+    }
+
+}
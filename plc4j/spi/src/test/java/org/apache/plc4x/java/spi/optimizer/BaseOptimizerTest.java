@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.optimizer;
+
+import org.apache.plc4x.java.api.exceptions.PlcConnectionException;
+import org.apache.plc4x.java.api.exceptions.PlcProtocolException;
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.messages.PlcWriteRequest;
+import org.apache.plc4x.java.api.messages.PlcWriteResponse;
+import org.apache.plc4x.java.api.model.PlcTag;
+import org.apache.plc4x.java.api.types.PlcResponseCode;
+import org.apache.plc4x.java.api.value.PlcValue;
+import org.apache.plc4x.java.spi.ConversationContext;
+import org.apache.plc4x.java.spi.Plc4xProtocolBase;
+import org.apache.plc4x.java.spi.connection.PlcTagHandler;
+import org.apache.plc4x.java.spi.context.DriverContext;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
+import org.apache.plc4x.java.spi.messages.DefaultPlcWriteRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcWriteResponse;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.DefaultPlcTagValueItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcResponseItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagItem;
+import org.apache.plc4x.java.spi.messages.utils.PlcTagValueItem;
+import org.apache.plc4x.java.spi.values.PlcDINT;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseOptimizerTest {
+
+    @Test
+    void bisectsChunksToFindInvalidTags() {
+        ChunkReader reader = new ChunkReader();
+        PlcReadRequest readRequest = readRequest("a", "b", "bad", "c");
+
+        PlcReadResponse readResponse = new ChunkOptimizer().optimizedRead(readRequest, reader).join();
+
+        assertEquals(PlcResponseCode.OK, readResponse.getResponseCode("a"));
+        assertEquals(PlcResponseCode.OK, readResponse.getResponseCode("b"));
+        assertEquals(PlcResponseCode.INVALID_ADDRESS, readResponse.getResponseCode("bad"));
+        assertEquals(PlcResponseCode.OK, readResponse.getResponseCode("c"));
+        assertEquals(3, readResponse.getInteger("c"));
+        // The full chunk, both halves and both quarters of the failing half.
+        assertEquals(5, reader.numReads);
+    }
+
+    @Test
+    void chunksWhichDidNotReachTheDeviceAreNotBisected() {
+        ChunkReader reader = new ChunkReader();
+        reader.linkDown = true;
+        PlcReadRequest readRequest = readRequest("a", "b", "bad", "c");
+
+        PlcReadResponse readResponse = new ChunkOptimizer().optimizedRead(readRequest, reader).join();
+
+        assertEquals(PlcResponseCode.REMOTE_ERROR, readResponse.getResponseCode("a"));
+        assertEquals(PlcResponseCode.REMOTE_ERROR, readResponse.getResponseCode("c"));
+        assertEquals(1, reader.numReads);
+    }
+
+    @Test
+    void failedSubRequestsAreMappedToResponseCodes() {
+        ChunkOptimizer optimizer = new ChunkOptimizer();
+        assertEquals(PlcResponseCode.REMOTE_BUSY, optimizer.getResponseCode(new TimeoutException()));
+        assertEquals(PlcResponseCode.REMOTE_ERROR, optimizer.getResponseCode(new PlcProtocolException("broken")));
+        assertEquals(PlcResponseCode.INTERNAL_ERROR, optimizer.getResponseCode(new IllegalStateException()));
+    }
+
+    @Test
+    void preparedRequestsArePlannedOnce() {
+        ChunkReader reader = new ChunkReader();
+        ChunkOptimizer optimizer = new ChunkOptimizer();
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = tags("a", "b", "c");
+
+        // Requests built anew for every poll from the same parsed tags share the plan.
+        for (int i = 0; i < 3; i++) {
+            PlcReadResponse readResponse = optimizer.optimizedRead(new DefaultPlcReadRequest(null, tags, true), reader).join();
+            assertEquals(3, readResponse.getInteger("c"));
+        }
+        assertEquals(1, optimizer.numPlans);
+        assertEquals(3, reader.numReads);
+
+        // Parsing the tags again makes them different tags.
+        optimizer.optimizedRead(new DefaultPlcReadRequest(null, tags("a", "b", "c"), true), reader).join();
+        assertEquals(2, optimizer.numPlans);
+    }
+
+    @Test
+    void retriesOfPreparedRequestsAreNotCached() {
+        ChunkReader reader = new ChunkReader();
+        ChunkOptimizer optimizer = new ChunkOptimizer();
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = tags("a", "b", "bad", "c");
+
+        optimizer.optimizedRead(new DefaultPlcReadRequest(null, tags, true), reader).join();
+        optimizer.optimizedRead(new DefaultPlcReadRequest(null, tags, true), reader).join();
+
+        // The request itself once, its four retries (halves and quarters) every time.
+        assertEquals(1 + 2 * 4, optimizer.numPlans);
+    }
+
+    @Test
+    void requestsWhichAreNotPreparedArePlannedEveryTime() {
+        ChunkReader reader = new ChunkReader();
+        ChunkOptimizer optimizer = new ChunkOptimizer();
+        PlcReadRequest readRequest = readRequest("a", "b", "c");
+
+        optimizer.optimizedRead(readRequest, reader).join();
+        optimizer.optimizedRead(readRequest, reader).join();
+
+        assertEquals(2, optimizer.numPlans);
+    }
+
+    @Test
+    void writesAreSentInTheOrderRequested() {
+        List<List<String>> written = new ArrayList<>();
+        ChunkReader writer = new ChunkReader() {
+            @Override
+            public CompletableFuture<PlcWriteResponse> write(PlcWriteRequest writeRequest) {
+                written.add(new ArrayList<>(writeRequest.getTagNames()));
+                Map<String, PlcResponseCode> responseCodes = new HashMap<>();
+                writeRequest.getTagNames().forEach(tagName -> responseCodes.put(tagName, PlcResponseCode.OK));
+                return CompletableFuture.completedFuture(new DefaultPlcWriteResponse(writeRequest, responseCodes));
+            }
+        };
+        LinkedHashMap<String, PlcTagValueItem<PlcTag>> tags = new LinkedHashMap<>();
+        for (String tagName : new String[]{"parameter", "block-1", "block-2", "block-3", "trigger"}) {
+            tags.put(tagName, new DefaultPlcTagValueItem<>(() -> tagName, new PlcDINT(1)));
+        }
+
+        PlcWriteResponse writeResponse = new ChunkOptimizer().optimizedWrite(new DefaultPlcWriteRequest(null, tags), writer).join();
+
+        // The block is bigger than the single tags, but must not be written first.
+        assertEquals(List.of(List.of("parameter"), List.of("block-1", "block-2", "block-3"), List.of("trigger")), written);
+        assertEquals(PlcResponseCode.OK, writeResponse.getResponseCode("trigger"));
+    }
+
+    private static PlcReadRequest readRequest(String... tagNames) {
+        return new DefaultPlcReadRequest(null, tags(tagNames));
+    }
+
+    private static LinkedHashMap<String, PlcTagItem<PlcTag>> tags(String... tagNames) {
+        LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+        for (String tagName : tagNames) {
+            tags.put(tagName, new DefaultPlcTagItem<>(() -> tagName));
+        }
+        return tags;
+    }
+
+    /**
+     * Tag reading the data of multiple other tags at once.
+     */
+    private static class ChunkTag implements PlcTag {
+
+        private final List<String> tagNames;
+
+        private ChunkTag(List<String> tagNames) {
+            this.tagNames = tagNames;
+        }
+
+        @Override
+        public String getAddressString() {
+            return String.join(",", tagNames);
+        }
+    }
+
+    /**
+     * Reads all tags of a request with one chunk.
+     */
+    private static class ChunkOptimizer extends BaseOptimizer {
+
+        private int numPlans;
+
+        @Override
+        protected List<PlcReadRequest> processReadRequest(PlcReadRequest readRequest, DriverContext driverContext) {
+            numPlans++;
+            LinkedHashMap<String, PlcTagItem<PlcTag>> tags = new LinkedHashMap<>();
+            tags.put("chunk", new DefaultPlcTagItem<>(new ChunkTag(new ArrayList<>(readRequest.getTagNames()))));
+            return Collections.singletonList(new DefaultPlcReadRequest(null, tags));
+        }
+
+        @Override
+        protected PlcReadResponse processReadResponses(PlcReadRequest readRequest, Map<PlcReadRequest, SubResponse<PlcReadResponse>> readResponses, DriverContext driverContext) {
+            Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
+            for (Map.Entry<PlcReadRequest, SubResponse<PlcReadResponse>> entry : readResponses.entrySet()) {
+                ChunkTag chunkTag = (ChunkTag) entry.getKey().getTag("chunk");
+                SubResponse<PlcReadResponse> chunkResponse = entry.getValue();
+                PlcResponseCode responseCode = chunkResponse.isSuccess()
+                    ? chunkResponse.getResponse().getResponseCode("chunk")
+                    : getResponseCode(chunkResponse.getThrowable());
+                for (String tagName : chunkTag.tagNames) {
+                    PlcValue value = (responseCode == PlcResponseCode.OK) ? new PlcDINT(tagName.equals("c") ? 3 : 1) : null;
+                    values.put(tagName, new DefaultPlcResponseItem<>(responseCode, value));
+                }
+            }
+            return new DefaultPlcReadResponse(readRequest, values);
+        }
+
+        @Override
+        protected List<PlcWriteRequest> processWriteRequest(PlcWriteRequest writeRequest, DriverContext driverContext) {
+            // Tags with the same prefix are written together.
+            Map<String, LinkedHashMap<String, PlcTagValueItem<PlcTag>>> blocks = new LinkedHashMap<>();
+            for (String tagName : writeRequest.getTagNames()) {
+                blocks.computeIfAbsent(tagName.split("-")[0], prefix -> new LinkedHashMap<>())
+                    .put(tagName, new DefaultPlcTagValueItem<>(writeRequest.getTag(tagName), writeRequest.getPlcValue(tagName)));
+            }
+            List<PlcWriteRequest> subRequests = new ArrayList<>();
+            blocks.values().forEach(blockTags -> subRequests.add(new DefaultPlcWriteRequest(null, blockTags)));
+            return subRequests;
+        }
+
+        @Override
+        protected int getMaxInFlightSubRequests(DriverContext driverContext) {
+            return 1;
+        }
+
+        @Override
+        protected List<String> getCoveredTagNames(PlcReadRequest readRequest, PlcReadRequest subRequest, String subTagName) {
+            return ((ChunkTag) subRequest.getTag(subTagName)).tagNames;
+        }
+    }
+
+    /**
+     * Fails every chunk containing the tag named "bad" (or every chunk, if the link is down).
+     */
+    private static class ChunkReader extends Plc4xProtocolBase<Object> {
+
+        private int numReads;
+        private boolean linkDown;
+
+        @Override
+        public CompletableFuture<PlcReadResponse> read(PlcReadRequest readRequest) {
+            numReads++;
+            if (linkDown) {
+                CompletableFuture<PlcReadResponse> future = new CompletableFuture<>();
+                future.completeExceptionally(new PlcConnectionException("Connection lost"));
+                return future;
+            }
+            ChunkTag chunkTag = (ChunkTag) readRequest.getTag("chunk");
+            PlcResponseCode responseCode = chunkTag.tagNames.contains("bad") ? PlcResponseCode.INVALID_ADDRESS : PlcResponseCode.OK;
+            Map<String, PlcResponseItem<PlcValue>> values = new HashMap<>();
+            values.put("chunk", new DefaultPlcResponseItem<>(responseCode, null));
+            return CompletableFuture.completedFuture(new DefaultPlcReadResponse(readRequest, values));
+        }
+
+        @Override
+        public PlcTagHandler getTagHandler() {
+            return null;
+        }
+
+        @Override
+        public void close(ConversationContext<Object> context) {
+        }
+    }
+
+}
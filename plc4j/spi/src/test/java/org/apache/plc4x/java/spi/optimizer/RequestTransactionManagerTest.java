@@ -19,15 +19,27 @@
 package org.apache.plc4x.java.spi.optimizer;
 
 import org.apache.plc4x.java.spi.transaction.RequestTransactionManager;
+import org.apache.plc4x.java.spi.transaction.TransactionExecutorMode;
+import org.apache.plc4x.java.spi.transaction.TransactionPriority;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class RequestTransactionManagerTest {
@@ -123,6 +135,111 @@ public class RequestTransactionManagerTest {
         assertEquals(0, tm.getNumberOfActiveRequests());
     }
 
+    @Test
+    public void sharedExecutor() throws ExecutionException, InterruptedException {
+        ExecutorService sharedExecutor = Executors.newSingleThreadExecutor();
+        try {
+            RequestTransactionManager tm1 = new RequestTransactionManager(1, sharedExecutor);
+            RequestTransactionManager tm2 = new RequestTransactionManager(1, sharedExecutor);
+            for (RequestTransactionManager tm : List.of(tm1, tm2)) {
+                CompletableFuture<Void> sendRequest = new CompletableFuture<>();
+                CompletableFuture<Void> receiveResponse = new CompletableFuture<>();
+                CompletableFuture<Void> transactionIsFinished = new CompletableFuture<>();
+                sendRequest(tm, sendRequest, receiveResponse, transactionIsFinished);
+                sendRequest.get();
+                receiveResponse.complete(null);
+                transactionIsFinished.get();
+                assertEquals(0, tm.getNumberOfActiveRequests());
+            }
+
+            // Shutting down a manager must not shut down an executor it doesn't own.
+            tm1.shutdown();
+            assertFalse(sharedExecutor.isShutdown());
+        } finally {
+            sharedExecutor.shutdown();
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(TransactionExecutorMode.class)
+    public void executorModes(TransactionExecutorMode executorMode) throws ExecutionException, InterruptedException {
+        CompletableFuture<Void> sendRequest = new CompletableFuture<>();
+        CompletableFuture<Void> receiveResponse = new CompletableFuture<>();
+        CompletableFuture<Void> transactionIsFinished = new CompletableFuture<>();
+
+        RequestTransactionManager tm = new RequestTransactionManager(1, executorMode, 2);
+        sendRequest(tm, sendRequest, receiveResponse, transactionIsFinished);
+        sendRequest.get();
+        assertEquals(1, tm.getNumberOfActiveRequests());
+        receiveResponse.complete(null);
+        transactionIsFinished.get();
+        assertEquals(0, tm.getNumberOfActiveRequests());
+        tm.shutdown();
+    }
+
+    @Test
+    public void higherPriorityOvertakesWaitingRequests() throws ExecutionException, InterruptedException {
+        CompletableFuture<Void> sendRequest = new CompletableFuture<>();
+        CompletableFuture<Void> receiveResponse = new CompletableFuture<>();
+        CompletableFuture<Void> transactionIsFinished = new CompletableFuture<>();
+
+        RequestTransactionManager tm = new RequestTransactionManager(1);
+        // Occupy the only slot.
+        sendRequest(tm, sendRequest, receiveResponse, transactionIsFinished);
+        sendRequest.get();
+
+        List<TransactionPriority> executionOrder = new CopyOnWriteArrayList<>();
+        CompletableFuture<Void> allFinished = new CompletableFuture<>();
+        for (TransactionPriority priority : List.of(TransactionPriority.LOW, TransactionPriority.NORMAL, TransactionPriority.HIGH)) {
+            RequestTransactionManager.RequestTransaction handle = tm.startRequest(priority);
+            handle.submit(() -> {
+                executionOrder.add(priority);
+                handle.endRequest();
+                if (executionOrder.size() == 3) {
+                    allFinished.complete(null);
+                }
+            });
+        }
+        assertEquals(1, tm.getNumberOfActiveRequests());
+
+        // Free the slot, now the waiting requests should be processed in order of their priority.
+        receiveResponse.complete(null);
+        transactionIsFinished.get();
+        allFinished.get();
+        assertEquals(List.of(TransactionPriority.HIGH, TransactionPriority.NORMAL, TransactionPriority.LOW), executionOrder);
+        assertEquals(0, tm.getNumberOfActiveRequests());
+    }
+
+    @Test
+    public void concurrencyLimitIsNeverExceeded() throws InterruptedException {
+        int numberOfConcurrentRequests = 4;
+        int numberOfRequests = 1000;
+        ExecutorService responseExecutor = Executors.newFixedThreadPool(8);
+        try {
+            RequestTransactionManager tm = new RequestTransactionManager(numberOfConcurrentRequests);
+            AtomicInteger inFlight = new AtomicInteger();
+            AtomicInteger maxInFlight = new AtomicInteger();
+            CountDownLatch finished = new CountDownLatch(numberOfRequests);
+            for (int i = 0; i < numberOfRequests; i++) {
+                // Submit from multiple threads at the same time.
+                responseExecutor.submit(() -> tm.submit(handle -> handle.submit(() -> {
+                    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                    // Respond asynchronously.
+                    responseExecutor.submit(() -> {
+                        inFlight.decrementAndGet();
+                        handle.endRequest();
+                        finished.countDown();
+                    });
+                })));
+            }
+            assertTrue(finished.await(30, TimeUnit.SECONDS));
+            assertTrue(maxInFlight.get() <= numberOfConcurrentRequests);
+            assertEquals(0, tm.getNumberOfActiveRequests());
+        } finally {
+            responseExecutor.shutdown();
+        }
+    }
+
     @Test
     @Disabled("This test seems to be very flaky, investigating in PR #1396")
     public void abortTransactionFromExternally() throws ExecutionException, InterruptedException {
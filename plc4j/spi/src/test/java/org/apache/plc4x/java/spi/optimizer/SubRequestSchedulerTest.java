@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.optimizer;
+
+import org.apache.plc4x.java.api.messages.PlcReadRequest;
+import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadRequest;
+import org.apache.plc4x.java.spi.messages.DefaultPlcReadResponse;
+import org.apache.plc4x.java.spi.optimizer.BaseOptimizer.SubResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SubRequestSchedulerTest {
+
+    @Test
+    void sendsBiggestFirstAndLimitsRequestsInFlight() {
+        Map<PlcReadRequest, Integer> sizes = new HashMap<>();
+        List<PlcReadRequest> subRequests = new ArrayList<>();
+        for (int size : new int[]{1, 5, 3, 4, 2}) {
+            PlcReadRequest subRequest = new DefaultPlcReadRequest(null, new LinkedHashMap<>());
+            sizes.put(subRequest, size);
+            subRequests.add(subRequest);
+        }
+        List<PlcReadRequest> sent = new ArrayList<>();
+        Map<PlcReadRequest, CompletableFuture<PlcReadResponse>> inFlight = new LinkedHashMap<>();
+        List<PlcReadRequest> listenedTo = new ArrayList<>();
+
+        SubRequestScheduler<PlcReadRequest, PlcReadResponse> scheduler = new SubRequestScheduler<>(
+            subRequests, sizes::get, 2,
+            subRequest -> {
+                sent.add(subRequest);
+                CompletableFuture<PlcReadResponse> future = new CompletableFuture<>();
+                inFlight.put(subRequest, future);
+                return future;
+            },
+            (subRequest, subResponse) -> listenedTo.add(subRequest));
+        CompletableFuture<Map<PlcReadRequest, SubResponse<PlcReadResponse>>> future = scheduler.start();
+
+        while (!inFlight.isEmpty()) {
+            assertTrue(inFlight.size() <= 2);
+            PlcReadRequest subRequest = inFlight.keySet().iterator().next();
+            inFlight.remove(subRequest).complete(new DefaultPlcReadResponse(subRequest, Collections.emptyMap()));
+        }
+
+        assertEquals(List.of(5, 4, 3, 2, 1), sent.stream().map(sizes::get).collect(Collectors.toList()));
+        assertEquals(5, listenedTo.size());
+        assertTrue(future.isDone());
+        assertEquals(5, future.join().size());
+    }
+
+    @Test
+    void keepsTheOrderWithoutExpectedSize() {
+        List<PlcReadRequest> subRequests = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            subRequests.add(new DefaultPlcReadRequest(null, new LinkedHashMap<>()));
+        }
+        List<PlcReadRequest> sent = new ArrayList<>();
+
+        new SubRequestScheduler<PlcReadRequest, PlcReadResponse>(subRequests, null, 1,
+            subRequest -> {
+                sent.add(subRequest);
+                return CompletableFuture.completedFuture(new DefaultPlcReadResponse(subRequest, Collections.emptyMap()));
+            },
+            null).start().join();
+
+        assertEquals(subRequests, sent);
+    }
+
+    @Test
+    void failedSubRequestsDontFailTheOthers() {
+        PlcReadRequest failing = new DefaultPlcReadRequest(null, new LinkedHashMap<>());
+        PlcReadRequest succeeding = new DefaultPlcReadRequest(null, new LinkedHashMap<>());
+
+        SubRequestScheduler<PlcReadRequest, PlcReadResponse> scheduler = new SubRequestScheduler<>(
+            List.of(failing, succeeding), subRequest -> 1, 1,
+            subRequest -> {
+                if (subRequest == failing) {
+                    throw new IllegalStateException("broken");
+                }
+                return CompletableFuture.completedFuture(new DefaultPlcReadResponse(subRequest, Collections.emptyMap()));
+            },
+            null);
+        Map<PlcReadRequest, SubResponse<PlcReadResponse>> results = scheduler.start().join();
+
+        assertFalse(results.get(failing).isSuccess());
+        assertInstanceOf(IllegalStateException.class, results.get(failing).getThrowable());
+        assertTrue(results.get(succeeding).isSuccess());
+    }
+
+}
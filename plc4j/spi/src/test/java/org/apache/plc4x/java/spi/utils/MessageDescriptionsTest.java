@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.spi.utils;
+
+import org.apache.plc4x.java.spi.generation.Message;
+import org.apache.plc4x.java.spi.generation.SerializationException;
+import org.apache.plc4x.java.spi.generation.WriteBuffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MessageDescriptionsTest {
+
+    @Test
+    void summaryIsRenderedLazily() {
+        TestMessage message = new TestMessage();
+        Object summary = MessageDescriptions.summary(message);
+        assertEquals(0, message.serializations);
+        assertEquals("TestMessage[2 bytes]", summary.toString());
+        // The summary never serializes the message.
+        assertEquals(0, message.serializations);
+    }
+
+    @Test
+    void summaryOfOtherObjects() {
+        assertEquals("null", MessageDescriptions.summary(null).toString());
+        assertEquals("some request", MessageDescriptions.summary("some request").toString());
+    }
+
+    @Test
+    void boxIsRenderedLazily() {
+        TestMessage message = new TestMessage();
+        Object box = MessageDescriptions.box(message);
+        assertEquals(0, message.serializations);
+        String rendered = box.toString();
+        assertEquals(1, message.serializations);
+        assertTrue(rendered.contains("TestMessage"), rendered);
+        assertTrue(rendered.contains("value"), rendered);
+    }
+
+    private static class TestMessage implements Message {
+
+        private int serializations;
+
+        @Override
+        public int getLengthInBytes() {
+            return 2;
+        }
+
+        @Override
+        public int getLengthInBits() {
+            return 16;
+        }
+
+        @Override
+        public void serialize(WriteBuffer writeBuffer) throws SerializationException {
+            serializations++;
+            writeBuffer.pushContext("TestMessage");
+            writeBuffer.writeUnsignedInt("value", 16, 0x1234);
+            writeBuffer.popContext("TestMessage");
+        }
+
+    }
+
+}
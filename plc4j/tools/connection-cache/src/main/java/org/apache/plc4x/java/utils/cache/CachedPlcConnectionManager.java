@@ -29,12 +29,21 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+/**
+ * Connection manager keeping the connections it handed out open after they are returned, so they can be reused.
+ * <p>
+ * For every connection url up to {@code maxConnectionsPerUrl} physical connections are kept (Defaults to 1,
+ * as most PLCs only accept a very limited number of connections). Leases to different urls never block each other.
+ */
 public class CachedPlcConnectionManager implements PlcConnectionManager, AutoCloseable {
 
     private static final Logger LOG = LoggerFactory.getLogger(CachedPlcConnectionManager.class);
@@ -43,8 +52,11 @@ public class CachedPlcConnectionManager implements PlcConnectionManager, AutoClo
     private final Duration maxLeaseTime;
     private final Duration maxWaitTime;
     private final Duration maxIdleTime;
+    private final int maxConnectionsPerUrl;
 
     private final Map<String, ConnectionContainer> connectionContainers;
+    /** Handles the lease- and idle-timeouts of all connections */
+    private final ScheduledExecutorService scheduler;
 
     private final AtomicBoolean closed = new AtomicBoolean(false);
 
@@ -57,20 +69,31 @@ public class CachedPlcConnectionManager implements PlcConnectionManager, AutoClo
     }
 
     public CachedPlcConnectionManager(PlcConnectionManager connectionManager, Duration maxLeaseTime, Duration maxWaitTime, Duration maxIdleTime) {
+        this(connectionManager, maxLeaseTime, maxWaitTime, maxIdleTime, 1);
+    }
+
+    public CachedPlcConnectionManager(PlcConnectionManager connectionManager, Duration maxLeaseTime, Duration maxWaitTime, Duration maxIdleTime, int maxConnectionsPerUrl) {
+        if (maxConnectionsPerUrl < 1) {
+            throw new IllegalArgumentException("maxConnectionsPerUrl must be at least 1");
+        }
         this.connectionManager = connectionManager;
         this.maxLeaseTime = maxLeaseTime;
         this.maxWaitTime = maxWaitTime;
         this.maxIdleTime = maxIdleTime;
-        this.connectionContainers = new HashMap<>();
+        this.maxConnectionsPerUrl = maxConnectionsPerUrl;
+        this.connectionContainers = new ConcurrentHashMap<>();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "plc4x-connection-cache");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     /**
      * @return set of connection-urls the CachedPlcConnectionManager is currently managing.
      */
     public Set<String> getCachedConnections() {
-        synchronized (connectionContainers) {
-            return connectionContainers.keySet();
-        }
+        return Collections.unmodifiableSet(new HashSet<>(connectionContainers.keySet()));
     }
 
     /**
@@ -78,9 +101,24 @@ public class CachedPlcConnectionManager implements PlcConnectionManager, AutoClo
      * @param url url of the connection that should be removed.
      */
     public void removeCachedConnection(String url) {
-        synchronized (connectionContainers) {
-            connectionContainers.remove(url);
-        }
+        connectionContainers.remove(url);
+    }
+
+    /**
+     * @param url connection url.
+     * @return metrics of the connections kept for the given url (Empty, if there are currently none).
+     */
+    public Optional<ConnectionPoolMetrics> getMetrics(String url) {
+        return Optional.ofNullable(connectionContainers.get(url)).map(ConnectionContainer::getMetrics);
+    }
+
+    /**
+     * @return metrics of the connections of all connection urls currently managed.
+     */
+    public Map<String, ConnectionPoolMetrics> getMetrics() {
+        Map<String, ConnectionPoolMetrics> metrics = new HashMap<>();
+        connectionContainers.forEach((url, connectionContainer) -> metrics.put(url, connectionContainer.getMetrics()));
+        return metrics;
     }
 
     public PlcConnection getConnection(String url) throws PlcConnectionException {
@@ -89,34 +127,65 @@ public class CachedPlcConnectionManager implements PlcConnectionManager, AutoClo
             throw new PlcConnectionManagerClosedException();
         }
 
-        // Get a connection container for the given url.
-        ConnectionContainer connectionContainer;
-        synchronized (connectionContainers) {
-            connectionContainer = connectionContainers.get(url);
-            if (connectionContainer == null) {
-                LOG.debug("Creating new connection");
-
-                // Crate a connection container to manage handling this connection
-                connectionContainer = new ConnectionContainer(connectionManager, url, maxLeaseTime, maxIdleTime,
-                    closeConnection -> {
-                        removeCachedConnection(closeConnection);
-                        return null;
-                    });
-                connectionContainers.put(url, connectionContainer);
-            } else {
-                LOG.debug("Reusing exising connection");
-            }
-        }
-
         // Get a lease (a future for a connection)
-        Future<PlcConnection> leaseFuture = connectionContainer.lease();
+        CompletableFuture<PlcConnection> leaseFuture = lease(url);
         try {
             return leaseFuture.get(this.maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
         } catch (ExecutionException | InterruptedException | TimeoutException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            // Make sure the request is not served anymore. If it was in the meantime, give the lease back.
+            if (!leaseFuture.completeExceptionally(e) && !leaseFuture.isCompletedExceptionally()) {
+                try {
+                    leaseFuture.join().close();
+                } catch (Exception closeException) {
+                    LOG.debug("Error returning lease for connection {}", url, closeException);
+                }
+            }
             throw new PlcConnectionException("Error acquiring lease for connection", e);
         }
     }
 
+    /**
+     * Leases a connection without blocking the calling thread while waiting for a connection to be returned.
+     * (New physical connections are however still established on the calling thread)
+     *
+     * @param url connection url.
+     * @return future completed with the leased connection, or exceptionally, if no connection could be leased within
+     * the maximum wait time.
+     */
+    public CompletableFuture<PlcConnection> getConnectionAsync(String url) {
+        // If the connection manager is already closed, abort.
+        if(closed.get()) {
+            return CompletableFuture.failedFuture(new PlcConnectionManagerClosedException());
+        }
+        return lease(url).orTimeout(this.maxWaitTime.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private CompletableFuture<PlcConnection> lease(String url) {
+        while (true) {
+            // Get a connection container for the given url.
+            ConnectionContainer connectionContainer = connectionContainers.computeIfAbsent(url, this::createConnectionContainer);
+            CompletableFuture<PlcConnection> leaseFuture = connectionContainer.lease();
+            if (leaseFuture != null) {
+                return leaseFuture;
+            }
+            // The container was closed as it was idle for too long, make sure it's removed and try again.
+            connectionContainers.remove(url, connectionContainer);
+            if (closed.get()) {
+                return CompletableFuture.failedFuture(new PlcConnectionManagerClosedException());
+            }
+        }
+    }
+
+    private ConnectionContainer createConnectionContainer(String url) {
+        LOG.debug("Creating new connection container for {}", url);
+        // Crate a connection container to manage handling the connections to this url
+        return new ConnectionContainer(connectionManager, url, maxLeaseTime, maxIdleTime, maxConnectionsPerUrl, scheduler,
+            closedContainer -> connectionContainers.remove(closedContainer.getConnectionUrl(), closedContainer));
+    }
+
     public PlcConnection getConnection(String url, PlcAuthentication authentication) throws PlcConnectionException {
         throw new PlcConnectionException("the cached driver manager currently doesn't support authentication");
     }
@@ -130,6 +199,9 @@ public class CachedPlcConnectionManager implements PlcConnectionManager, AutoClo
         connectionContainers.forEach((connectionString, connectionContainer) -> {
             connectionContainer.close();
         });
+        connectionContainers.clear();
+
+        scheduler.shutdownNow();
     }
 
     public static class Builder {
@@ -138,17 +210,19 @@ public class CachedPlcConnectionManager implements PlcConnectionManager, AutoClo
         private Duration maxLeaseTime;
         private Duration maxWaitTime;
         private Duration maxIdleTime;
+        private int maxConnectionsPerUrl;
 
         public Builder(PlcConnectionManager connectionManager) {
             this.connectionManager = connectionManager;
             this.maxLeaseTime = Duration.ofSeconds(4);
             this.maxWaitTime = Duration.ofSeconds(20);
             this.maxIdleTime = Duration.ofMinutes(5);
+            this.maxConnectionsPerUrl = 1;
         }
 
         public CachedPlcConnectionManager build() {
             return new CachedPlcConnectionManager(
-                this.connectionManager, this.maxLeaseTime, this.maxWaitTime, this.maxIdleTime);
+                this.connectionManager, this.maxLeaseTime, this.maxWaitTime, this.maxIdleTime, this.maxConnectionsPerUrl);
         }
 
         public CachedPlcConnectionManager.Builder withMaxLeaseTime(Duration maxLeaseTime) {
@@ -165,6 +239,18 @@ public class CachedPlcConnectionManager implements PlcConnectionManager, AutoClo
             this.maxIdleTime = maxIdleTime;
             return this;
         }
+
+        /**
+         * Only use values greater than 1 for PLCs that support multiple parallel sessions
+         * (Like S7 PLCs with multiple PUT/GET slots or Modbus TCP gateways).
+         *
+         * @param maxConnectionsPerUrl maximum number of physical connections kept for each connection url.
+         * @return the builder.
+         */
+        public CachedPlcConnectionManager.Builder withMaxConnectionsPerUrl(int maxConnectionsPerUrl) {
+            this.maxConnectionsPerUrl = maxConnectionsPerUrl;
+            return this;
+        }
     }
 
 }
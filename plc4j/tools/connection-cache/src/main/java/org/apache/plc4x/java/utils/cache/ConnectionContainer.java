@@ -18,171 +18,309 @@
  */
 package org.apache.plc4x.java.utils.cache;
 
-import org.apache.plc4x.java.api.EventPlcConnection;
 import org.apache.plc4x.java.api.PlcConnection;
 import org.apache.plc4x.java.api.PlcConnectionManager;
-import org.apache.plc4x.java.api.exceptions.PlcConnectionException;
 import org.apache.plc4x.java.api.exceptions.PlcRuntimeException;
-import org.apache.plc4x.java.api.listener.EventListener;
 import org.apache.plc4x.java.utils.cache.exceptions.PlcConnectionManagerClosedException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
-import java.util.LinkedList;
-import java.util.Queue;
-import java.util.Timer;
-import java.util.TimerTask;
+import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.Future;
-import java.util.function.Function;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
+/**
+ * Manages up to {@code maxConnections} physical connections to one connection url.
+ * <p>
+ * Lease requests are served in the order they came in: as long as requests are waiting, returned connections
+ * are handed to the oldest one and new requests queue up behind them, even if a connection is idle.
+ */
 class ConnectionContainer {
     private static final Logger LOGGER = LoggerFactory.getLogger(ConnectionContainer.class);
     private final PlcConnectionManager connectionManager;
     private final String connectionUrl;
     private final Duration maxLeaseTime;
     private final Duration maxIdleTime;
-    private final Function<String, Void> closeConnectionHandler;
-    private final Queue<CompletableFuture<PlcConnection>> queue;
+    private final int maxConnections;
+    private final ScheduledExecutorService scheduler;
+    private final Consumer<ConnectionContainer> closeConnectionHandler;
+
+    private final Queue<LeaseRequest> queue;
+    private final Deque<PlcConnection> idleConnections;
+    private final Set<LeasedPlcConnection> leasedConnections;
+    /** Number of open physical connections (including the ones currently being opened) */
+    private int openConnections;
+    private boolean closed;
+    private ScheduledFuture<?> idleTimeout;
 
-    private PlcConnection connection;
-    private LeasedPlcConnection leasedConnection;
+    private long totalLeases;
+    private long saturatedLeases;
+    private long totalLeaseWaitNanos;
+    private long maxLeaseWaitNanos;
 
     public ConnectionContainer(PlcConnectionManager connectionManager, String connectionUrl,
-                               Duration maxLeaseTime, Duration maxIdleTime,
-                               Function<String, Void> closeConnectionHandler) {
+                               Duration maxLeaseTime, Duration maxIdleTime, int maxConnections,
+                               ScheduledExecutorService scheduler, Consumer<ConnectionContainer> closeConnectionHandler) {
         this.connectionManager = connectionManager;
         this.connectionUrl = connectionUrl;
         this.maxLeaseTime = maxLeaseTime;
         this.maxIdleTime = maxIdleTime;
+        this.maxConnections = maxConnections;
+        this.scheduler = scheduler;
         this.closeConnectionHandler = closeConnectionHandler;
-        this.queue = new LinkedList<>();
-        this.connection = null;
-        this.leasedConnection = null;
+        this.queue = new ArrayDeque<>();
+        this.idleConnections = new ArrayDeque<>();
+        this.leasedConnections = Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    public String getConnectionUrl() {
+        return connectionUrl;
     }
 
-    public synchronized void close() {
+    public void close() {
+        List<LeaseRequest> waitingRequests;
+        List<LeasedPlcConnection> leases;
+        List<PlcConnection> connections;
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            cancelIdleTimeout();
+            waitingRequests = new ArrayList<>(queue);
+            queue.clear();
+            leases = new ArrayList<>(leasedConnections);
+            leasedConnections.clear();
+            connections = new ArrayList<>(idleConnections);
+            idleConnections.clear();
+        }
+
         // Close all waiting clients exceptionally.
-        queue.forEach(plcConnectionCompletableFuture ->
-            plcConnectionCompletableFuture.completeExceptionally(new PlcConnectionManagerClosedException()));
+        waitingRequests.forEach(leaseRequest ->
+            leaseRequest.future.completeExceptionally(new PlcConnectionManagerClosedException()));
 
-        // Clear the queue.
-        queue.clear();
+        // Close the connections currently used (If a lease is returned concurrently, it's closed when returned).
+        for (LeasedPlcConnection lease : leases) {
+            closeQuietly(lease.revoke());
+        }
 
-        // If the connection is currently used, close it.
-        if(leasedConnection != null) {
-            try {
-                leasedConnection.closeConnection();
-                leasedConnection = null;
-            } catch (Exception e) {
-                // Ignore this ...
+        // Close all idle connections.
+        connections.forEach(this::closeQuietly);
+    }
+
+    /**
+     * @return a future completed with a lease as soon as a connection is available or null, if this container
+     * was already closed (as it was idle for too long) and a new one has to be used instead.
+     */
+    public CompletableFuture<PlcConnection> lease() {
+        LeaseRequest leaseRequest = new LeaseRequest();
+        synchronized (this) {
+            if (closed) {
+                return null;
             }
-        } else {
-            try {
-                connection.close();
-            } catch (Exception e) {
-                // Ignore this ...
+            cancelIdleTimeout();
+
+            // Requests already waiting are served first.
+            if (queue.isEmpty()) {
+                // If a connection is idle, return a lease for it immediately.
+                PlcConnection connection = idleConnections.pollFirst();
+                if (connection != null) {
+                    completeLease(leaseRequest, connection);
+                    return leaseRequest.future;
+                }
             }
+
+            // Otherwise queue the request up for completion as soon as a connection is returned,
+            // unless we're still allowed to open another connection.
+            if (!queue.isEmpty() || (openConnections >= maxConnections)) {
+                saturatedLeases++;
+                queue.add(leaseRequest);
+                return leaseRequest.future;
+            }
+            openConnections++;
         }
+
+        // Connect outside the lock, so connections can still be returned and leased in the meantime.
+        openConnection(leaseRequest);
+        return leaseRequest.future;
     }
 
-    public synchronized Future<PlcConnection> lease() {
-        CompletableFuture<PlcConnection> connectionFuture = new CompletableFuture<>();
+    public void returnConnection(LeasedPlcConnection returnedLeasedConnection, PlcConnection connection,
+                                 boolean invalidateConnection) {
+        LeaseRequest replacementRequest = null;
+        synchronized (this) {
+            // If the container was closed in the meantime, the connection is not needed anymore.
+            if (closed) {
+                leasedConnections.remove(returnedLeasedConnection);
+                closeQuietly(connection);
+                return;
+            }
+
+            if (!leasedConnections.remove(returnedLeasedConnection)) {
+                LOGGER.error("Error trying to return lease from invalid connection: returned={}", returnedLeasedConnection);
+                throw new PlcRuntimeException("Error trying to return lease from invalid connection");
+            }
 
-        // Try to get a new connection, if we haven't got one yet.
-        if(connection == null) {
-            try {
-                connection = connectionManager.getConnection(connectionUrl);
-            } catch (PlcConnectionException e) {
-                LOGGER.warn("Exception while getting connection for lease", e);
-                connectionFuture.completeExceptionally(e);
-                return connectionFuture;
+            if (!invalidateConnection) {
+                releaseConnection(connection);
+                return;
+            }
+
+            // If something happened while using the connection, invalidate this one and create a new connection,
+            // if somebody is waiting for one.
+            openConnections--;
+            replacementRequest = pollWaitingRequest();
+            if (replacementRequest != null) {
+                openConnections++;
+            } else {
+                scheduleIdleTimeoutIfIdle();
             }
         }
 
-        // If the connection is currently idle, return the connection immediately.
-        if (leasedConnection == null) {
-            leasedConnection = new LeasedPlcConnection(this, connection, maxLeaseTime);
-            connectionFuture.complete(leasedConnection);
+        // Close the old connection.
+        try {
+            connection.close();
+        } catch (Exception e) {
+            // We're ignoring this as we have no idea, what state the connection is in.
+            // Nevertheless, it is polite to say something in logs about this situation.
+            LOGGER.warn("Exception while closing connection", e);
         }
-        // Otherwise queue the future up for completion as soon as the connection is returned.
-        else {
-            queue.add(connectionFuture);
+
+        if (replacementRequest != null) {
+            openConnection(replacementRequest);
         }
-        return connectionFuture;
     }
 
-    public synchronized void returnConnection(LeasedPlcConnection returnedLeasedConnection, boolean invalidateConnection) {
-        if(returnedLeasedConnection != leasedConnection) {
-            LOGGER.error("Error trying to return lease from invalid connection: returned={} leased={}",
-                returnedLeasedConnection, leasedConnection);
-            throw new PlcRuntimeException("Error trying to return lease from invalid connection");
+    public synchronized ConnectionPoolMetrics getMetrics() {
+        return new ConnectionPoolMetrics(maxConnections, openConnections, leasedConnections.size(), queue.size(),
+            totalLeases, saturatedLeases, Duration.ofNanos(totalLeaseWaitNanos), Duration.ofNanos(maxLeaseWaitNanos));
+    }
+
+    private void openConnection(LeaseRequest leaseRequest) {
+        PlcConnection connection;
+        try {
+            connection = connectionManager.getConnection(connectionUrl);
+        } catch (Exception e) {
+            LOGGER.warn("Exception while getting connection for lease", e);
+            List<LeaseRequest> failedRequests = Collections.emptyList();
+            synchronized (this) {
+                openConnections--;
+                // If there's no other connection that could serve the waiting requests, fail them too.
+                if (openConnections == 0) {
+                    failedRequests = new ArrayList<>(queue);
+                    queue.clear();
+                }
+                scheduleIdleTimeoutIfIdle();
+            }
+            leaseRequest.future.completeExceptionally(e);
+            failedRequests.forEach(failedRequest -> failedRequest.future.completeExceptionally(e));
+            return;
         }
 
-        // If something happened while using the connection, invalidate this one and create a new connection.
-        if(invalidateConnection) {
-            // Close the old connection.
-            try {
-                connection.close();
-            } catch (Exception e) {
-                // We're ignoring this as we have no idea, what state the connection is in.
-                // Nevertheless, it is polite to say something in logs about this situation.
-                LOGGER.warn("Exception while closing connection", e);
+        synchronized (this) {
+            if (!closed) {
+                // If the request was given up in the meantime, the next one gets the connection.
+                if (!completeLease(leaseRequest, connection)) {
+                    releaseConnection(connection);
+                }
+                return;
             }
+        }
+        closeQuietly(connection);
+        leaseRequest.future.completeExceptionally(new PlcConnectionManagerClosedException());
+    }
 
-            // Try to get a new connection.
-            try {
-                connection = connectionManager.getConnection(connectionUrl);
-            } catch (PlcConnectionException e) {
-                // If something goes wrong, close all waiting futures exceptionally.
-                LOGGER.warn("Can't get connection for {} complete queue items exceptionally", connectionUrl, e);
-                queue.forEach(future -> future.completeExceptionally(e));
-                connection = null;
+    /**
+     * Hands the connection to the oldest waiting request or keeps it as idle connection (Requires the lock).
+     */
+    private void releaseConnection(PlcConnection connection) {
+        LeaseRequest leaseRequest;
+        while ((leaseRequest = pollWaitingRequest()) != null) {
+            if (completeLease(leaseRequest, connection)) {
+                return;
             }
         }
+        idleConnections.addFirst(connection);
+        scheduleIdleTimeoutIfIdle();
+    }
 
-        // If the queue is empty, simply return.
-        if(queue.isEmpty()) {
-            leasedConnection = null;
-
-            // Start a timer to invalidate this connection if it's idle for too long.
-            Timer idleTimer = new Timer();
-            idleTimer.schedule(new TimerTask() {
-                @Override
-                public void run() {
-                    if(connection != null) {
-                        try {
-                            connection.close();
-                        } catch (Exception e) {
-                            // Ignore ...
-                        }
-                    }
-                    closeConnectionHandler.apply(connectionUrl);
-                }
-            }, maxIdleTime.toMillis());
-            return;
+    /**
+     * @return true, if the request was completed with a lease for the connection, false if it was given up
+     * (timed out or cancelled) before (Requires the lock).
+     */
+    private boolean completeLease(LeaseRequest leaseRequest, PlcConnection connection) {
+        if (leaseRequest.future.isDone()) {
+            return false;
         }
+        LeasedPlcConnection leasedConnection = new LeasedPlcConnection(this, connection, maxLeaseTime, scheduler);
+        leasedConnections.add(leasedConnection);
+        if (!leaseRequest.future.complete(leasedConnection)) {
+            leasedConnections.remove(leasedConnection);
+            leasedConnection.revoke();
+            return false;
+        }
+        long waitNanos = System.nanoTime() - leaseRequest.requestedAt;
+        totalLeases++;
+        totalLeaseWaitNanos += waitNanos;
+        maxLeaseWaitNanos = Math.max(maxLeaseWaitNanos, waitNanos);
+        return true;
+    }
+
+    private LeaseRequest pollWaitingRequest() {
+        LeaseRequest leaseRequest;
+        do {
+            leaseRequest = queue.poll();
+        } while ((leaseRequest != null) && leaseRequest.future.isDone());
+        return leaseRequest;
+    }
 
-        // Create a new lease and complete the next future in the queue with this.
-        leasedConnection = new LeasedPlcConnection(this, connection, maxLeaseTime);
-        CompletableFuture<PlcConnection> leaseFuture = queue.poll();
-        if(leaseFuture != null) {
-            leaseFuture.complete(leasedConnection);
+    private void scheduleIdleTimeoutIfIdle() {
+        if (leasedConnections.isEmpty() && (openConnections == idleConnections.size())) {
+            cancelIdleTimeout();
+            // Invalidate the connections, if they are idle for too long.
+            idleTimeout = scheduler.schedule(this::closeIfIdle, maxIdleTime.toMillis(), TimeUnit.MILLISECONDS);
         }
     }
 
+    private void cancelIdleTimeout() {
+        if (idleTimeout != null) {
+            idleTimeout.cancel(false);
+            idleTimeout = null;
+        }
+    }
 
-    public void addEventListener(EventListener listener) {
-        if((connection != null) && (connection instanceof EventPlcConnection)) {
-            ((EventPlcConnection) connection).addEventListener(listener);
+    private void closeIfIdle() {
+        List<PlcConnection> connections;
+        synchronized (this) {
+            if (closed || !leasedConnections.isEmpty() || (openConnections != idleConnections.size())) {
+                return;
+            }
+            closed = true;
+            connections = new ArrayList<>(idleConnections);
+            idleConnections.clear();
+            openConnections = 0;
         }
+        connections.forEach(this::closeQuietly);
+        closeConnectionHandler.accept(this);
     }
 
-    public void removeEventListener(EventListener listener) {
-        if((connection != null) && (connection instanceof EventPlcConnection)) {
-            ((EventPlcConnection) connection).removeEventListener(listener);
+    private void closeQuietly(PlcConnection connection) {
+        if (connection != null) {
+            try {
+                connection.close();
+            } catch (Exception e) {
+                // Ignore ...
+            }
         }
     }
 
+    private static class LeaseRequest {
+        private final CompletableFuture<PlcConnection> future = new CompletableFuture<>();
+        private final long requestedAt = System.nanoTime();
+    }
+
 }
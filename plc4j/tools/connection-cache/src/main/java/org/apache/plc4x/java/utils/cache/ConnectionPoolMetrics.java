@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.utils.cache;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of the state and usage statistics of the connections the {@link CachedPlcConnectionManager}
+ * keeps for one connection url.
+ */
+public class ConnectionPoolMetrics {
+
+    private final int maxConnections;
+    private final int openConnections;
+    private final int leasedConnections;
+    private final int waitingLeaseRequests;
+    private final long totalLeases;
+    private final long saturatedLeases;
+    private final Duration totalLeaseWaitTime;
+    private final Duration maxLeaseWaitTime;
+
+    ConnectionPoolMetrics(int maxConnections, int openConnections, int leasedConnections, int waitingLeaseRequests,
+                          long totalLeases, long saturatedLeases, Duration totalLeaseWaitTime, Duration maxLeaseWaitTime) {
+        this.maxConnections = maxConnections;
+        this.openConnections = openConnections;
+        this.leasedConnections = leasedConnections;
+        this.waitingLeaseRequests = waitingLeaseRequests;
+        this.totalLeases = totalLeases;
+        this.saturatedLeases = saturatedLeases;
+        this.totalLeaseWaitTime = totalLeaseWaitTime;
+        this.maxLeaseWaitTime = maxLeaseWaitTime;
+    }
+
+    /**
+     * @return maximum number of physical connections kept for this url.
+     */
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * @return number of physical connections currently open (or being opened).
+     */
+    public int getOpenConnections() {
+        return openConnections;
+    }
+
+    /**
+     * @return number of connections currently leased.
+     */
+    public int getLeasedConnections() {
+        return leasedConnections;
+    }
+
+    /**
+     * @return number of lease requests currently waiting for a connection to be returned.
+     */
+    public int getWaitingLeaseRequests() {
+        return waitingLeaseRequests;
+    }
+
+    /**
+     * @return number of leases handed out so far.
+     */
+    public long getTotalLeases() {
+        return totalLeases;
+    }
+
+    /**
+     * @return number of lease requests, that had to wait, as all connections were leased.
+     */
+    public long getSaturatedLeases() {
+        return saturatedLeases;
+    }
+
+    /**
+     * @return ratio of leased connections to the maximum number of connections (1.0 = new lease requests have to wait).
+     */
+    public double getSaturation() {
+        return (maxConnections == 0) ? 0 : ((double) leasedConnections) / maxConnections;
+    }
+
+    /**
+     * @return average time lease requests had to wait for their connection.
+     */
+    public Duration getAverageLeaseWaitTime() {
+        return (totalLeases == 0) ? Duration.ZERO : totalLeaseWaitTime.dividedBy(totalLeases);
+    }
+
+    /**
+     * @return longest time a lease request had to wait for its connection.
+     */
+    public Duration getMaxLeaseWaitTime() {
+        return maxLeaseWaitTime;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolMetrics{" +
+            "maxConnections=" + maxConnections +
+            ", openConnections=" + openConnections +
+            ", leasedConnections=" + leasedConnections +
+            ", waitingLeaseRequests=" + waitingLeaseRequests +
+            ", totalLeases=" + totalLeases +
+            ", saturatedLeases=" + saturatedLeases +
+            ", averageLeaseWaitTime=" + getAverageLeaseWaitTime() +
+            ", maxLeaseWaitTime=" + maxLeaseWaitTime +
+            '}';
+    }
+
+}
@@ -35,10 +35,10 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -49,21 +49,16 @@ public class LeasedPlcConnection implements EventPlcConnection {
     private final ConnectionContainer connectionContainer;
     private final AtomicReference<PlcConnection> connection;
     private boolean invalidateConnection;
-    private final Timer usageTimer;
+    private final ScheduledFuture<?> usageTimeout;
     private final Duration maxUseDuration;
 
-    LeasedPlcConnection(ConnectionContainer connectionContainer, PlcConnection connection, Duration maxUseTime) {
+    LeasedPlcConnection(ConnectionContainer connectionContainer, PlcConnection connection, Duration maxUseTime,
+                        ScheduledExecutorService scheduler) {
         this.connectionContainer = connectionContainer;
         this.connection = new AtomicReference<>(connection);
         this.invalidateConnection = false;
-        this.usageTimer = new Timer();
         this.maxUseDuration = maxUseTime;
-        this.usageTimer.schedule(new TimerTask() {
-            @Override
-            public void run() {
-                close();
-            }
-        }, Date.from(LocalDateTime.now().plusNanos(maxUseTime.toNanos()).atZone(ZoneId.systemDefault()).toInstant()));
+        this.usageTimeout = scheduler.schedule(this::close, maxUseTime.toNanos(), TimeUnit.NANOSECONDS);
     }
 
     public synchronized void closeConnection() throws Exception {
@@ -79,19 +74,31 @@ public class LeasedPlcConnection implements EventPlcConnection {
 
     @Override
     public synchronized void close() {
+        // Make the connection unusable.
+        PlcConnection plcConnection = connection.getAndSet(null);
+
         // In this case the connection was already closed (possibly by the timer)
-        if(connection.get() == null) {
+        if(plcConnection == null) {
             return;
         }
 
-        // Cancel automatically timing out.
-        usageTimer.cancel();
-
-        // Make the connection unusable.
-        connection.set(null);
+        // Cancel automatically timing out (If this is called by the timeout itself, it's not yet assigned).
+        if(usageTimeout != null) {
+            usageTimeout.cancel(false);
+        }
 
         // Tell the connection container that the connection is free to be reused.
-        connectionContainer.returnConnection(this, invalidateConnection);
+        connectionContainer.returnConnection(this, plcConnection, invalidateConnection);
+    }
+
+    /**
+     * Makes the lease unusable without returning the connection to the container.
+     *
+     * @return the connection, or null if it was already returned.
+     */
+    PlcConnection revoke() {
+        usageTimeout.cancel(false);
+        return connection.getAndSet(null);
     }
 
     @Override
@@ -154,7 +161,15 @@ public class LeasedPlcConnection implements EventPlcConnection {
         return new PlcReadRequest.Builder() {
             @Override
             public PlcReadRequest build() {
-                final PlcReadRequest innerPlcReadRequest = innerBuilder.build();
+                return wrap(innerBuilder.build());
+            }
+
+            @Override
+            public PlcReadRequest prepare() {
+                return wrap(innerBuilder.prepare());
+            }
+
+            private PlcReadRequest wrap(PlcReadRequest innerPlcReadRequest) {
                 return new PlcReadRequest(){
                     @Override
                     public CompletableFuture<? extends PlcReadResponse> execute() {
@@ -200,6 +215,11 @@ public class LeasedPlcConnection implements EventPlcConnection {
                     public List<PlcTag> getTags() {
                         return innerPlcReadRequest.getTags();
                     }
+
+                    @Override
+                    public boolean isPrepared() {
+                        return innerPlcReadRequest.isPrepared();
+                    }
                 };
             }
 
@@ -546,12 +566,18 @@ public class LeasedPlcConnection implements EventPlcConnection {
 
     @Override
     public void addEventListener(EventListener listener) {
-        connectionContainer.addEventListener(listener);
+        PlcConnection plcConnection = connection.get();
+        if(plcConnection instanceof EventPlcConnection) {
+            ((EventPlcConnection) plcConnection).addEventListener(listener);
+        }
     }
 
     @Override
     public void removeEventListener(EventListener listener) {
-        connectionContainer.removeEventListener(listener);
+        PlcConnection plcConnection = connection.get();
+        if(plcConnection instanceof EventPlcConnection) {
+            ((EventPlcConnection) plcConnection).removeEventListener(listener);
+        }
     }
 
 }
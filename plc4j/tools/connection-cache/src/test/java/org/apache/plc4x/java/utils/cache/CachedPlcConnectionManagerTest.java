@@ -32,6 +32,8 @@ import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 public class CachedPlcConnectionManagerTest {
 
@@ -309,4 +311,89 @@ public class CachedPlcConnectionManagerTest {
         Assertions.assertEquals(0, connectionManager.getCachedConnections().size());
     }
 
+    /**
+     * With multiple connections per url, parallel leases get their own physical connection, until the maximum
+     * number of connections is reached.
+     */
+    @Test
+    public void testMultipleConnectionsPerUrl() throws Exception {
+        PlcConnectionManager mockConnectionManager = Mockito.mock(PlcConnectionManager.class);
+        Mockito.when(mockConnectionManager.getConnection("test")).thenAnswer(invocation -> Mockito.mock(PlcConnection.class));
+        CachedPlcConnectionManager connectionManager = CachedPlcConnectionManager.getBuilder(mockConnectionManager)
+            .withMaxConnectionsPerUrl(2).withMaxWaitTime(Duration.ofMillis(50)).build();
+
+        PlcConnection first = connectionManager.getConnection("test");
+        PlcConnection second = connectionManager.getConnection("test");
+        Mockito.verify(mockConnectionManager, Mockito.times(2)).getConnection("test");
+
+        // The third one has to wait, as both connections are leased.
+        CompletableFuture<PlcConnection> third = connectionManager.getConnectionAsync("test");
+        Assertions.assertFalse(third.isDone());
+        ConnectionPoolMetrics metrics = connectionManager.getMetrics("test").orElseThrow();
+        Assertions.assertEquals(2, metrics.getOpenConnections());
+        Assertions.assertEquals(2, metrics.getLeasedConnections());
+        Assertions.assertEquals(1, metrics.getWaitingLeaseRequests());
+        Assertions.assertEquals(1.0, metrics.getSaturation());
+
+        // Returning one connection hands it to the waiting request.
+        first.close();
+        Assertions.assertInstanceOf(LeasedPlcConnection.class, third.get(1, TimeUnit.SECONDS));
+        second.close();
+        third.get().close();
+
+        metrics = connectionManager.getMetrics("test").orElseThrow();
+        Assertions.assertEquals(2, metrics.getOpenConnections());
+        Assertions.assertEquals(0, metrics.getLeasedConnections());
+        Assertions.assertEquals(3, metrics.getTotalLeases());
+        Assertions.assertEquals(1, metrics.getSaturatedLeases());
+        Mockito.verify(mockConnectionManager, Mockito.times(2)).getConnection("test");
+        connectionManager.close();
+    }
+
+    /**
+     * Waiting lease requests are served in the order they came in and requests that timed out are skipped.
+     */
+    @Test
+    public void testAsyncLeasesAreServedInOrder() throws Exception {
+        PlcConnectionManager mockConnectionManager = Mockito.mock(PlcConnectionManager.class);
+        Mockito.when(mockConnectionManager.getConnection("test")).thenReturn(Mockito.mock(PlcConnection.class));
+        CachedPlcConnectionManager connectionManager = CachedPlcConnectionManager.getBuilder(mockConnectionManager)
+            .withMaxWaitTime(Duration.ofMillis(200)).build();
+
+        PlcConnection connection = connectionManager.getConnectionAsync("test").get(1, TimeUnit.SECONDS);
+        CompletableFuture<PlcConnection> timedOut = connectionManager.getConnectionAsync("test");
+        // Give up on this one before the connection is returned.
+        timedOut.cancel(false);
+        CompletableFuture<PlcConnection> second = connectionManager.getConnectionAsync("test");
+        CompletableFuture<PlcConnection> third = connectionManager.getConnectionAsync("test");
+
+        connection.close();
+        PlcConnection secondConnection = second.get(1, TimeUnit.SECONDS);
+        Assertions.assertFalse(third.isDone());
+        secondConnection.close();
+        third.get(1, TimeUnit.SECONDS).close();
+
+        Assertions.assertEquals(3, connectionManager.getMetrics("test").orElseThrow().getTotalLeases());
+        connectionManager.close();
+    }
+
+    @Test
+    public void testAsyncLeaseTimeout() throws Exception {
+        PlcConnectionManager mockConnectionManager = Mockito.mock(PlcConnectionManager.class);
+        Mockito.when(mockConnectionManager.getConnection("test")).thenReturn(Mockito.mock(PlcConnection.class));
+        CachedPlcConnectionManager connectionManager = CachedPlcConnectionManager.getBuilder(mockConnectionManager)
+            .withMaxWaitTime(Duration.ofMillis(50)).build();
+
+        PlcConnection connection = connectionManager.getConnection("test");
+        CompletableFuture<PlcConnection> waiting = connectionManager.getConnectionAsync("test");
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> waiting.get(1, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(TimeoutException.class, exception.getCause());
+
+        // The connection can still be returned and leased again.
+        connection.close();
+        connectionManager.getConnection("test").close();
+        Mockito.verify(mockConnectionManager, Mockito.times(1)).getConnection("test");
+        connectionManager.close();
+    }
+
 }
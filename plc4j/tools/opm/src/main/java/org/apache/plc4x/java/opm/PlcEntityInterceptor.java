@@ -43,7 +43,11 @@ import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -65,6 +69,14 @@ public class PlcEntityInterceptor {
     private static final Configuration CONF = new SystemConfiguration();
     private static final long READ_TIMEOUT = CONF.getLong("org.apache.plc4x.java.opm.entity_manager.read_timeout", 1_000);
 
+    // Maximum number of parsed tags kept per connection manager.
+    static final int MAX_PARSED_TAGS = 1000;
+
+    // Tags already parsed (Entities are read over and over again), per connection manager, as only its connections
+    // may be handed the tags of its drivers.
+    private static final Map<PlcConnectionManager, Map<String, org.apache.plc4x.java.api.model.PlcTag>> PARSED_TAGS =
+        Collections.synchronizedMap(new WeakHashMap<>());
+
     private PlcEntityInterceptor() {
         throw new UnsupportedOperationException("This class is not to be instantiated");
     }
@@ -224,13 +236,13 @@ public class PlcEntityInterceptor {
                 .filter(field -> field.isAnnotationPresent(PlcTag.class))
                 .filter(field -> needsToBeSynced(lastFetched, field))
                 .forEach(field ->
-                    requestBuilder.addTagAddress(
+                    addTag(requestBuilder, connectionManager, connection, address,
                         getFqn(field),
                         OpmUtils.getOrResolveAddress(registry, field.getAnnotation(PlcTag.class).value())
                     )
                 );
 
-            PlcReadRequest request = requestBuilder.build();
+            PlcReadRequest request = requestBuilder.prepare();
 
             LOGGER.trace("Request for refetch of {} was build and is {}", entityClass, request);
 
@@ -368,9 +380,9 @@ public class PlcEntityInterceptor {
         try (PlcConnection connection = connectionManager.getConnection(address)) {
             // Catch the exception, if no reader present (see below)
 
-            PlcReadRequest request = connection.readRequestBuilder()
-                .addTagAddress(fqn, OpmUtils.getOrResolveAddress(registry, annotation.value()))
-                .build();
+            PlcReadRequest.Builder requestBuilder = connection.readRequestBuilder();
+            addTag(requestBuilder, connectionManager, connection, address, fqn, OpmUtils.getOrResolveAddress(registry, annotation.value()));
+            PlcReadRequest request = requestBuilder.prepare();
 
             PlcReadResponse response = getPlcReadResponse(request);
 
@@ -528,6 +540,45 @@ public class PlcEntityInterceptor {
         throw new ClassCastException("Unable to return response item " + responseObject + "(" + responseObject.getClass() + ") as instance of " + clazz);
     }
 
+    /**
+     * Adds the tag to the request, parsing its address only the first time it is used with the connection address
+     * of the connection manager. Addresses which can't be parsed are added as they are, so the request reports the
+     * error.
+     */
+    private static void addTag(PlcReadRequest.Builder requestBuilder, PlcConnectionManager connectionManager, PlcConnection connection,
+                               String address, String name, String tagAddress) {
+        Map<String, org.apache.plc4x.java.api.model.PlcTag> parsedTags = getParsedTags(connectionManager);
+        String key = address + "|" + tagAddress;
+        org.apache.plc4x.java.api.model.PlcTag tag = parsedTags.get(key);
+        if (tag == null) {
+            try {
+                Optional<org.apache.plc4x.java.api.model.PlcTag> parsedTag = connection.parseTagAddress(tagAddress);
+                if ((parsedTag != null) && parsedTag.isPresent()) {
+                    tag = parsedTag.get();
+                    parsedTags.put(key, tag);
+                }
+            } catch (RuntimeException e) {
+                LOGGER.trace("Unable to parse tag address {}", tagAddress, e);
+            }
+        }
+        if (tag != null) {
+            requestBuilder.addTag(name, tag);
+        } else {
+            requestBuilder.addTagAddress(name, tagAddress);
+        }
+    }
+
+    static Map<String, org.apache.plc4x.java.api.model.PlcTag> getParsedTags(PlcConnectionManager connectionManager) {
+        return PARSED_TAGS.computeIfAbsent(connectionManager, manager -> Collections.synchronizedMap(
+            // Least recently used first
+            new LinkedHashMap<String, org.apache.plc4x.java.api.model.PlcTag>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, org.apache.plc4x.java.api.model.PlcTag> eldest) {
+                    return size() > MAX_PARSED_TAGS;
+                }
+            }));
+    }
+
     /**
      * Fetch the request and do appropriate error handling
      *
@@ -133,6 +133,24 @@ public class PlcEntityInterceptorTest implements WithAssertions {
             .hasMessage("Unable to identify tag with name 'tag1' for call to 'getTag1'");
     }
 
+    @Test
+    public void getParsedTags_perConnectionManager_bounded() {
+        PlcConnectionManager otherManager = mock(PlcConnectionManager.class);
+        Map<String, org.apache.plc4x.java.api.model.PlcTag> parsedTags = PlcEntityInterceptor.getParsedTags(driverManager);
+
+        assertThat(PlcEntityInterceptor.getParsedTags(driverManager)).isSameAs(parsedTags);
+        assertThat(PlcEntityInterceptor.getParsedTags(otherManager)).isNotSameAs(parsedTags);
+
+        org.apache.plc4x.java.api.model.PlcTag tag = mock(org.apache.plc4x.java.api.model.PlcTag.class);
+        for (int i = 0; i <= PlcEntityInterceptor.MAX_PARSED_TAGS; i++) {
+            parsedTags.put("mock:test|tag" + i, tag);
+        }
+        assertThat(parsedTags)
+            .hasSize(PlcEntityInterceptor.MAX_PARSED_TAGS)
+            .doesNotContainKey("mock:test|tag0");
+        assertThat(PlcEntityInterceptor.getParsedTags(otherManager)).isEmpty();
+    }
+
     @Nested
     class Misc {
 
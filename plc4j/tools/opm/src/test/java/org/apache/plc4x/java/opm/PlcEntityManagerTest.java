@@ -54,7 +54,7 @@ public class PlcEntityManagerTest implements WithAssertions {
         @Test
         public void throwsInvalidTagException_rethrows() throws PlcConnectionException {
             // Prepare the Mock
-            when(driverManager.getConnection(any()).readRequestBuilder().build())
+            when(driverManager.getConnection(any()).readRequestBuilder().prepare())
                 .thenThrow(new PlcInvalidTagException("tag1"));
 
             // Create Entity Manager
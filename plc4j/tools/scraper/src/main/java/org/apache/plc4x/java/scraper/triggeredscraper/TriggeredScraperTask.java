@@ -24,6 +24,7 @@ import org.apache.plc4x.java.api.PlcConnection;
 import org.apache.plc4x.java.api.PlcConnectionManager;
 import org.apache.plc4x.java.api.messages.PlcReadRequest;
 import org.apache.plc4x.java.api.messages.PlcReadResponse;
+import org.apache.plc4x.java.api.model.PlcTag;
 import org.apache.plc4x.java.api.types.PlcResponseCode;
 import org.apache.plc4x.java.scraper.ResultHandler;
 import org.apache.plc4x.java.scraper.ScraperTask;
@@ -34,7 +35,10 @@ import org.apache.plc4x.java.scraper.triggeredscraper.triggerhandler.collector.T
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -58,6 +62,8 @@ public class TriggeredScraperTask implements ScraperTask, TriggeredScraperTaskMB
     private final ExecutorService executorService;
     private final ResultHandler resultHandler;
     private final TriggerHandler triggerHandler;
+    // Tags parsed with the first scrape, so they don't have to be parsed again with every request.
+    private volatile Map<String, PlcTag> parsedTags;
 
     private final AtomicLong requestCounter = new AtomicLong(0);
     private final AtomicLong successCounter = new AtomicLong(0);
@@ -116,16 +122,24 @@ public class TriggeredScraperTask implements ScraperTask, TriggeredScraperTaskMB
 
                 PlcReadResponse plcReadResponse;
                 try {
+                    Map<String, PlcTag> plcTags = getParsedTags(connection);
                     PlcReadRequest.Builder readRequestBuilder = connection.readRequestBuilder();
                     for (Map.Entry<String, String> entry : tags.entrySet()) {
                         if (LOGGER.isTraceEnabled()) {
                             LOGGER.trace("Requesting: {} -> {}", entry.getKey(), entry.getValue());
                         }
-                        readRequestBuilder.addTagAddress(entry.getKey(), entry.getValue());
+                        PlcTag plcTag = plcTags.get(entry.getKey());
+                        if (plcTag != null) {
+                            readRequestBuilder.addTag(entry.getKey(), plcTag);
+                        } else {
+                            // Let the request report the invalid address.
+                            readRequestBuilder.addTagAddress(entry.getKey(), entry.getValue());
+                        }
                     }
-                    //build and send request and store result in read response
+                    //prepare and send request and store result in read response
+                    //(the same tags are requested every time, so the driver can reuse the request planning)
                     plcReadResponse = readRequestBuilder
-                        .build()
+                        .prepare()
                         .execute()
                         .orTimeout(requestTimeoutMs, TimeUnit.MILLISECONDS)
                         .get();
@@ -161,6 +175,30 @@ public class TriggeredScraperTask implements ScraperTask, TriggeredScraperTaskMB
         }
     }
 
+    /**
+     * Parses the tags of the task with the first scrape.
+     *
+     * @param connection connection used for parsing the tag addresses
+     * @return the parsed tags by name (Tags which couldn't be parsed are missing)
+     */
+    private Map<String, PlcTag> getParsedTags(PlcConnection connection) {
+        Map<String, PlcTag> plcTags = parsedTags;
+        if (plcTags == null) {
+            Map<String, PlcTag> parsed = new HashMap<>();
+            for (Map.Entry<String, String> entry : tags.entrySet()) {
+                try {
+                    Optional<PlcTag> plcTag = connection.parseTagAddress(entry.getValue());
+                    plcTag.ifPresent(tag -> parsed.put(entry.getKey(), tag));
+                } catch (Exception e) {
+                    LOGGER.debug("Error parsing tag address {} of job {}", entry.getValue(), jobName, e);
+                }
+            }
+            plcTags = Collections.unmodifiableMap(parsed);
+            parsedTags = plcTags;
+        }
+        return plcTags;
+    }
+
     /**
      * detects if {@link PlcReadResponse} is valid
      *
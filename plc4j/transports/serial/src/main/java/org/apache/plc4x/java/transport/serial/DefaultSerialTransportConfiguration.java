@@ -21,6 +21,8 @@ package org.apache.plc4x.java.transport.serial;
 
 import org.apache.plc4x.java.spi.configuration.annotations.ConfigurationParameter;
 import org.apache.plc4x.java.spi.configuration.annotations.Description;
+import org.apache.plc4x.java.spi.configuration.annotations.Since;
+import org.apache.plc4x.java.spi.configuration.annotations.defaults.BooleanDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.IntDefaultValue;
 import org.apache.plc4x.java.spi.configuration.annotations.defaults.StringDefaultValue;
 
@@ -73,6 +75,43 @@ public class DefaultSerialTransportConfiguration implements SerialTransportConfi
         "- SPACE_PARITY")
     private SerialChannelOptionsParity parity;
 
+    @ConfigurationParameter("shared-bus")
+    @BooleanDefaultValue(false)
+    @Description("Share the serial port with all other connections using it with this option enabled.\n" +
+        "Used for multi-drop buses (e.g. Modbus RTU/ASCII over RS-485), where every connection talks to a\n" +
+        "different device and all requests have to be sent one after another.")
+    @Since("0.13.0")
+    private boolean sharedBus;
+
+    @ConfigurationParameter("bus-priority")
+    @IntDefaultValue(0)
+    @Description("Priority of this connection on a shared bus.\n" +
+        "Requests of connections with a higher priority are sent first, connections with the same priority take turns.")
+    @Since("0.13.0")
+    private int busPriority;
+
+    @ConfigurationParameter("bus-response-timeout")
+    @IntDefaultValue(1000)
+    @Description("Time in milliseconds to wait for a device on a shared bus to start responding.")
+    @Since("0.13.0")
+    private int busResponseTimeout;
+
+    @ConfigurationParameter("bus-frame-gap")
+    @IntDefaultValue(0)
+    @Description("Silent time in microseconds after which a response on a shared bus is considered complete\n" +
+        "and the next request may be sent.\n" +
+        "If set to 0, 3.5 character times (at least 1750 microseconds) are used, as with Modbus RTU.\n" +
+        "USB adapters might need a larger value.")
+    @Since("0.13.0")
+    private int busFrameGap;
+
+    @ConfigurationParameter("bus-backoff-time")
+    @IntDefaultValue(1000)
+    @Description("Time in milliseconds requests of this connection are dropped after its device didn't respond.\n" +
+        "Doubles with every further timeout (up to 16 times this value), so a dead device doesn't hold up the others.")
+    @Since("0.13.0")
+    private int busBackoffTime;
+
     @Override
     public int getBaudRate() {
         return baudRate;
@@ -109,4 +148,49 @@ public class DefaultSerialTransportConfiguration implements SerialTransportConfi
         this.parity = parity;
     }
 
+    @Override
+    public boolean isSharedBus() {
+        return sharedBus;
+    }
+
+    public void setSharedBus(boolean sharedBus) {
+        this.sharedBus = sharedBus;
+    }
+
+    @Override
+    public int getBusPriority() {
+        return busPriority;
+    }
+
+    public void setBusPriority(int busPriority) {
+        this.busPriority = busPriority;
+    }
+
+    @Override
+    public int getBusResponseTimeout() {
+        return busResponseTimeout;
+    }
+
+    public void setBusResponseTimeout(int busResponseTimeout) {
+        this.busResponseTimeout = busResponseTimeout;
+    }
+
+    @Override
+    public int getBusFrameGap() {
+        return busFrameGap;
+    }
+
+    public void setBusFrameGap(int busFrameGap) {
+        this.busFrameGap = busFrameGap;
+    }
+
+    @Override
+    public int getBusBackoffTime() {
+        return busBackoffTime;
+    }
+
+    public void setBusBackoffTime(int busBackoffTime) {
+        this.busBackoffTime = busBackoffTime;
+    }
+
 }
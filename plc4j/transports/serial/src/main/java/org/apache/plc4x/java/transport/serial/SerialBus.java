@@ -0,0 +1,498 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.transport.serial;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufHolder;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoop;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.local.LocalAddress;
+import io.netty.channel.local.LocalChannel;
+import io.netty.channel.local.LocalServerChannel;
+import io.netty.util.ReferenceCountUtil;
+import io.netty.util.concurrent.ScheduledFuture;
+import org.apache.plc4x.java.api.exceptions.PlcConnectionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.SocketAddress;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Arbiter for a serial port shared by several connections (multi-drop bus, e.g. Modbus RTU/ASCII over RS-485).
+ * <p>
+ * Every connection gets a local channel to the bus, the physical port is opened once by the first connection and
+ * closed again, when the last one is closed. Every buffer written by a connection is treated as one request frame.
+ * Only one request is on the wire at a time: after sending a frame, all bytes received are passed to the connection
+ * which sent it, until the line has been silent for the frame gap. Then the next frame is sent. If there are frames
+ * of several connections waiting, the one with the highest priority goes first, connections with the same priority
+ * take turns.
+ * <p>
+ * If a device doesn't start responding within the response timeout, its connection is suspended for the back-off
+ * time (doubling with every further timeout) and all its frames are dropped in the meantime, so one dead device
+ * doesn't hold up all the others. The driver of the connection sees this as a normal request timeout.
+ */
+public class SerialBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(SerialBus.class);
+
+    // A device not responding is suspended for at most this multiple of its back-off time.
+    static final int MAX_BACKOFF_FACTOR = 16;
+
+    // Silent time marking the end of a frame, if it can't be derived from the baud-rate (Same as Modbus RTU).
+    static final long MIN_FRAME_GAP_MICROS = 1750;
+
+    private static final Map<String, SerialBus> buses = new HashMap<>();
+    private static final AtomicInteger memberCounter = new AtomicInteger();
+
+    private final SerialSocketAddress portAddress;
+    private final SerialTransportConfiguration configuration;
+    private final long frameGapNanos;
+    private final EventLoopGroup busGroup = new DefaultEventLoopGroup(1);
+    private final EventLoop busLoop = busGroup.next();
+    private final Map<SocketAddress, SerialTransportConfiguration> expectedMembers = new ConcurrentHashMap<>();
+
+    // Guarded by buses
+    private int references;
+
+    private Channel serverChannel;
+    private volatile Channel portChannel;
+
+    // Only accessed from the bus event-loop
+    private final List<Member> members = new ArrayList<>();
+    private Member current;
+    private Member lastServed;
+    private boolean busy;
+    private ScheduledFuture<?> timer;
+
+    /**
+     * Returns the bus of the given port, opening the port, if no other connection is using it (or it was closed).
+     * Every call has to be matched by a call to {@link #release()}.
+     *
+     * @param portAddress   address of the serial port.
+     * @param configuration used for opening the port (If it is already open, the settings of the first connection
+     *                      are used).
+     * @return bus of the port.
+     * @throws PlcConnectionException if the port couldn't be opened.
+     */
+    public static SerialBus acquire(SerialSocketAddress portAddress, SerialTransportConfiguration configuration) throws PlcConnectionException {
+        synchronized (buses) {
+            SerialBus bus = buses.get(portAddress.getIdentifier());
+            if ((bus != null) && !bus.isPortOpen()) {
+                // The port was closed, but not all connections released the bus yet.
+                bus.detach();
+                bus = null;
+            }
+            if (bus == null) {
+                bus = new SerialBus(portAddress, configuration);
+                bus.open();
+                buses.put(portAddress.getIdentifier(), bus);
+            }
+            bus.references++;
+            return bus;
+        }
+    }
+
+    /**
+     * @param identifier of the serial port.
+     * @return local address the connections to the bus of the given port connect to.
+     */
+    public static LocalAddress getBusAddress(String identifier) {
+        return new LocalAddress("plc4x-serial-bus:" + identifier);
+    }
+
+    /**
+     * @param identifier of the serial port.
+     * @return new unique local address for a connection to the bus of the given port.
+     */
+    public static LocalAddress createMemberAddress(String identifier) {
+        return new LocalAddress("plc4x-serial-bus:" + identifier + ":" + memberCounter.incrementAndGet());
+    }
+
+    SerialBus(SerialSocketAddress portAddress, SerialTransportConfiguration configuration) {
+        this.portAddress = portAddress;
+        this.configuration = configuration;
+        this.frameGapNanos = TimeUnit.MICROSECONDS.toNanos(getFrameGapMicros(configuration));
+    }
+
+    /**
+     * @param configuration of the port.
+     * @return configured frame gap or 3.5 character times (of 11 bits) at the configured baud-rate.
+     */
+    static long getFrameGapMicros(SerialTransportConfiguration configuration) {
+        if (configuration == null) {
+            return MIN_FRAME_GAP_MICROS;
+        }
+        if (configuration.getBusFrameGap() > 0) {
+            return configuration.getBusFrameGap();
+        }
+        if (configuration.getBaudRate() <= 0) {
+            return MIN_FRAME_GAP_MICROS;
+        }
+        return Math.max((long) Math.ceil(3.5 * 11 * 1_000_000 / configuration.getBaudRate()), MIN_FRAME_GAP_MICROS);
+    }
+
+    /**
+     * Announces a connection, which is about to connect to the bus from the given address.
+     *
+     * @param memberAddress local address the connection connects from.
+     * @param configuration of the connection (priority, timeouts).
+     */
+    public void expectMember(SocketAddress memberAddress, SerialTransportConfiguration configuration) {
+        if (configuration != null) {
+            expectedMembers.put(memberAddress, configuration);
+        }
+    }
+
+    /**
+     * Releases the bus, closing the port, if this was the last connection using it.
+     */
+    public void release() {
+        synchronized (buses) {
+            references--;
+            if (references > 0) {
+                return;
+            }
+            // Unless the port was closed and it has been replaced by a new bus already.
+            buses.remove(portAddress.getIdentifier(), this);
+        }
+        close();
+    }
+
+    /**
+     * Removes this bus (its port being closed) from the registry, so the next connection opens the port again.
+     * The bus itself is only closed, once released by all connections. Has to be called with buses locked.
+     */
+    private void detach() {
+        buses.remove(portAddress.getIdentifier(), this);
+        // Free the bus address for the new bus.
+        if (serverChannel != null) {
+            serverChannel.close().awaitUninterruptibly();
+        }
+    }
+
+    boolean isPortOpen() {
+        Channel channel = portChannel;
+        return (channel != null) && channel.isOpen();
+    }
+
+    Channel getPortChannel() {
+        return portChannel;
+    }
+
+    public String getIdentifier() {
+        return portAddress.getIdentifier();
+    }
+
+    private void open() throws PlcConnectionException {
+        try {
+            serverChannel = new ServerBootstrap()
+                .group(busGroup)
+                .channel(LocalServerChannel.class)
+                .childHandler(new ChannelInitializer<LocalChannel>() {
+                    @Override
+                    protected void initChannel(LocalChannel channel) {
+                        channel.pipeline().addLast(new MemberHandler());
+                    }
+                })
+                .bind(getBusAddress(portAddress.getIdentifier())).sync().channel();
+
+            SerialChannelFactory portChannelFactory = new SerialChannelFactory(portAddress);
+            if (configuration != null) {
+                portChannelFactory.setConfiguration(configuration);
+            }
+            portChannel = portChannelFactory.createChannel(new PortHandler());
+            logger.info("Opened shared serial bus on port {} (frame gap {} µs)",
+                portAddress.getIdentifier(), TimeUnit.NANOSECONDS.toMicros(frameGapNanos));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new PlcConnectionException("Error opening shared serial bus.", e);
+        } catch (PlcConnectionException e) {
+            close();
+            throw e;
+        } catch (Exception e) {
+            close();
+            throw new PlcConnectionException("Error opening shared serial bus.", e);
+        }
+    }
+
+    private void close() {
+        logger.info("Closing shared serial bus on port {}", portAddress.getIdentifier());
+        if (portChannel != null) {
+            portChannel.close();
+        }
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+        busGroup.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+    }
+
+    private void enqueue(Member member, ByteBuf frame) {
+        if (!isPortOpen()) {
+            logger.debug("Dropping frame of {}, as serial port {} is closed", member, portAddress.getIdentifier());
+            frame.release();
+            return;
+        }
+        if (member.isSuspended(System.nanoTime())) {
+            logger.debug("Dropping frame of {}, as its device isn't responding", member);
+            frame.release();
+            return;
+        }
+        member.frames.add(frame);
+        sendNext();
+    }
+
+    private void sendNext() {
+        if (!isPortOpen()) {
+            members.forEach(Member::dropFrames);
+            return;
+        }
+        if (busy) {
+            return;
+        }
+        Member next = selectNext(System.nanoTime());
+        if (next == null) {
+            return;
+        }
+        busy = true;
+        current = next;
+        lastServed = next;
+        portChannel.writeAndFlush(next.frames.poll()).addListener(future -> {
+            if (!future.isSuccess()) {
+                logger.warn("Error writing frame to serial port {}", portAddress.getIdentifier(), future.cause());
+            }
+        });
+        timer = busLoop.schedule(this::onResponseTimeout, next.responseTimeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Picks the member with the highest priority, which has frames to send, starting with the one following the
+     * last one served, so members with equal priority take turns.
+     */
+    private Member selectNext(long now) {
+        Member selected = null;
+        int numMembers = members.size();
+        int lastServedIndex = members.indexOf(lastServed);
+        for (int i = 1; i <= numMembers; i++) {
+            Member member = members.get((lastServedIndex + i) % numMembers);
+            if (member.frames.isEmpty() || member.isSuspended(now)) {
+                continue;
+            }
+            if ((selected == null) || (member.priority > selected.priority)) {
+                selected = member;
+            }
+        }
+        return selected;
+    }
+
+    private void onReceived(ByteBuf data) {
+        if (timer != null) {
+            timer.cancel(false);
+        }
+        if ((current != null) && current.channel.isActive()) {
+            current.resetBackoff();
+            current.channel.writeAndFlush(data);
+        } else {
+            logger.debug("Dropping {} unexpected bytes received on serial port {}", data.readableBytes(), portAddress.getIdentifier());
+            data.release();
+        }
+        // Even unexpected bytes mean someone is talking, so wait for silence before sending anything.
+        busy = true;
+        timer = busLoop.schedule(this::onFrameEnd, frameGapNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void onFrameEnd() {
+        timer = null;
+        busy = false;
+        sendNext();
+    }
+
+    private void onResponseTimeout() {
+        timer = null;
+        Member member = current;
+        current = null;
+        busy = false;
+        if (member != null) {
+            member.suspend(System.nanoTime());
+        }
+        sendNext();
+    }
+
+    private void onPortClosed() {
+        logger.warn("Serial port {} of shared bus closed", portAddress.getIdentifier());
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+        // The bus is replaced with the next connection to the port (see acquire()).
+        if (serverChannel != null) {
+            serverChannel.close();
+        }
+        // Let the drivers notice (and reconnect).
+        for (Member member : new ArrayList<>(members)) {
+            member.dropFrames();
+            member.channel.close();
+        }
+    }
+
+    /**
+     * Bus side of a connection.
+     */
+    private class MemberHandler extends ChannelInboundHandlerAdapter {
+
+        private Member member;
+
+        @Override
+        public void channelActive(ChannelHandlerContext ctx) throws Exception {
+            SerialTransportConfiguration memberConfiguration = expectedMembers.remove(ctx.channel().remoteAddress());
+            member = new Member(ctx.channel(), (memberConfiguration != null) ? memberConfiguration : configuration);
+            members.add(member);
+            logger.debug("{} joined shared serial bus on port {}", member, portAddress.getIdentifier());
+            super.channelActive(ctx);
+        }
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if ((member == null) || !(msg instanceof ByteBufHolder)) {
+                ReferenceCountUtil.release(msg);
+                return;
+            }
+            enqueue(member, ((ByteBufHolder) msg).content());
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            if (member != null) {
+                members.remove(member);
+                member.dropFrames();
+                if (current == member) {
+                    current = null;
+                }
+                logger.debug("{} left shared serial bus on port {}", member, portAddress.getIdentifier());
+            }
+            super.channelInactive(ctx);
+        }
+
+    }
+
+    /**
+     * Handler of the physical port.
+     */
+    private class PortHandler extends ChannelInboundHandlerAdapter {
+
+        @Override
+        public void channelRead(ChannelHandlerContext ctx, Object msg) {
+            if (!(msg instanceof ByteBuf)) {
+                ReferenceCountUtil.release(msg);
+                return;
+            }
+            busLoop.execute(() -> onReceived((ByteBuf) msg));
+        }
+
+        @Override
+        public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+            busLoop.execute(SerialBus.this::onPortClosed);
+            super.channelInactive(ctx);
+        }
+
+        @Override
+        public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
+            logger.warn("Error on serial port {} of shared bus", portAddress.getIdentifier(), cause);
+        }
+
+    }
+
+    private static class Member {
+
+        private final Channel channel;
+        private final int priority;
+        private final long responseTimeoutNanos;
+        private final long backoffNanos;
+        private final Queue<ByteBuf> frames = new ArrayDeque<>();
+
+        private long currentBackoffNanos;
+        private long suspendedUntil;
+        private boolean suspended;
+
+        private Member(Channel channel, SerialTransportConfiguration configuration) {
+            this.channel = channel;
+            if (configuration != null) {
+                this.priority = configuration.getBusPriority();
+                this.responseTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(configuration.getBusResponseTimeout(), 1));
+                this.backoffNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(configuration.getBusBackoffTime(), 0));
+            } else {
+                this.priority = 0;
+                this.responseTimeoutNanos = TimeUnit.SECONDS.toNanos(1);
+                this.backoffNanos = TimeUnit.SECONDS.toNanos(1);
+            }
+            this.currentBackoffNanos = backoffNanos;
+        }
+
+        private boolean isSuspended(long now) {
+            if (suspended && (now - suspendedUntil >= 0)) {
+                suspended = false;
+            }
+            return suspended;
+        }
+
+        private void suspend(long now) {
+            logger.warn("No response for {}, suspending it for {} ms", this, TimeUnit.NANOSECONDS.toMillis(currentBackoffNanos));
+            dropFrames();
+            if (currentBackoffNanos == 0) {
+                return;
+            }
+            suspended = true;
+            suspendedUntil = now + currentBackoffNanos;
+            currentBackoffNanos = Math.min(currentBackoffNanos * 2, backoffNanos * MAX_BACKOFF_FACTOR);
+        }
+
+        private void resetBackoff() {
+            currentBackoffNanos = backoffNanos;
+        }
+
+        private void dropFrames() {
+            ByteBuf frame;
+            while ((frame = frames.poll()) != null) {
+                frame.release();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "Member{" + channel.remoteAddress() + ", priority=" + priority + "}";
+        }
+
+    }
+
+}
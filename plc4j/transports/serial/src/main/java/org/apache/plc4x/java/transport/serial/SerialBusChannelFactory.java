@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.transport.serial;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.DefaultByteBufHolder;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.local.LocalChannel;
+import org.apache.plc4x.java.api.exceptions.PlcConnectionException;
+import org.apache.plc4x.java.spi.configuration.HasConfiguration;
+import org.apache.plc4x.java.spi.connection.NettyChannelFactory;
+
+import java.net.SocketAddress;
+
+/**
+ * Channel factory for connections sharing a serial port with other connections, see {@link SerialBus}.
+ */
+public class SerialBusChannelFactory extends NettyChannelFactory implements HasConfiguration<SerialTransportConfiguration> {
+
+    private final SerialSocketAddress portAddress;
+    private final SocketAddress memberAddress;
+
+    private SerialTransportConfiguration configuration;
+
+    public SerialBusChannelFactory(SerialSocketAddress portAddress) {
+        this(portAddress, SerialBus.createMemberAddress(portAddress.getIdentifier()));
+    }
+
+    private SerialBusChannelFactory(SerialSocketAddress portAddress, SocketAddress memberAddress) {
+        super(memberAddress, SerialBus.getBusAddress(portAddress.getIdentifier()));
+        this.portAddress = portAddress;
+        this.memberAddress = memberAddress;
+    }
+
+    @Override
+    public void setConfiguration(SerialTransportConfiguration configuration) {
+        this.configuration = configuration;
+    }
+
+    @Override
+    public Class<? extends Channel> getChannel() {
+        return LocalChannel.class;
+    }
+
+    @Override
+    public boolean isPassive() {
+        return false;
+    }
+
+    @Override
+    public void configureBootstrap(Bootstrap bootstrap) {
+        // Nothing to configure, the serial port itself is configured by the bus.
+    }
+
+    @Override
+    public EventLoopGroup getEventLoopGroup() {
+        return new DefaultEventLoopGroup(1);
+    }
+
+    @Override
+    public Channel createChannel(ChannelHandler channelHandler) throws PlcConnectionException {
+        SerialBus bus = SerialBus.acquire(portAddress, configuration);
+        bus.expectMember(memberAddress, configuration);
+        Channel channel;
+        try {
+            channel = super.createChannel(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel channel) {
+                    channel.pipeline().addLast(new FrameEncoder());
+                    channel.pipeline().addLast(channelHandler);
+                }
+            });
+        } catch (PlcConnectionException e) {
+            bus.release();
+            throw e;
+        }
+        channel.closeFuture().addListener(future -> bus.release());
+        return channel;
+    }
+
+    /**
+     * Local channels merge consecutive buffers, so every buffer written by the driver is wrapped to keep it
+     * as one frame on its way to the bus.
+     */
+    private static class FrameEncoder extends ChannelOutboundHandlerAdapter {
+
+        @Override
+        public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+            ctx.write((msg instanceof ByteBuf) ? new DefaultByteBufHolder((ByteBuf) msg) : msg, promise);
+        }
+
+    }
+
+}
@@ -106,4 +106,11 @@ public class SerialChannelConfig extends DefaultChannelConfig implements Channel
         this.parity = parity;
     }
 
+    @Override
+    protected void autoReadCleared() {
+        if (channel instanceof SerialChannel) {
+            ((SerialChannel) channel).clearReadPending();
+        }
+    }
+
 }
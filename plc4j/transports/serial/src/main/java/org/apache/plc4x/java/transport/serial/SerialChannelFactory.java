@@ -20,15 +20,14 @@ package org.apache.plc4x.java.transport.serial;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
+import io.netty.channel.DefaultEventLoopGroup;
 import io.netty.channel.EventLoopGroup;
-import io.netty.channel.nio.NioEventLoopGroup;
 import org.apache.plc4x.java.spi.configuration.HasConfiguration;
 import org.apache.plc4x.java.spi.connection.NettyChannelFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.net.SocketAddress;
-import java.util.concurrent.Executor;
 
 public class SerialChannelFactory extends NettyChannelFactory implements HasConfiguration<SerialTransportConfiguration> {
 
@@ -68,7 +67,8 @@ public class SerialChannelFactory extends NettyChannelFactory implements HasConf
 
     @Override
     public EventLoopGroup getEventLoopGroup() {
-        return new NioEventLoopGroup(0, (Executor) null, new SerialSelectorProvider());
+        // The channel is notified about new data, so the event-loop doesn't need to poll anything.
+        return new DefaultEventLoopGroup(1);
     }
 
 }
@@ -24,11 +24,9 @@ import com.fazecast.jSerialComm.SerialPortEvent;
 import io.netty.buffer.ByteBuf;
 
 import java.net.SocketAddress;
-import java.nio.channels.SelectionKey;
 
 /**
- * This is a wrapper mostly for testing {@link SerialChannel}, @{@link SerialPollingSelector},
- * {@link SerialSelectionKey}, @{@link SerialSelectorProvider} and @{@link SerialSocketChannel}.
+ * This is a wrapper mostly for testing {@link SerialChannel}.
  */
 public abstract class SerialChannelHandler {
 
@@ -43,23 +41,25 @@ public abstract class SerialChannelHandler {
     abstract String getIdentifier();
 
     /**
-     * This method registers the Callback to the SelectionKey / {@link java.nio.channels.Selector}
-     * which is necessary to notify the {@link java.nio.channels.Selector} about
-     * available data.
+     * This method registers the Callback, which has to be called whenever new data is available,
+     * so the {@link SerialChannel} reads it. The callback may be called from any thread.
      */
-    abstract void registerSelectionKey(SerialSelectionKey selectionKey);
+    abstract void registerDataListener(Runnable dataAvailable);
 
     public abstract void close();
 
     /**
+     * Reads the available data (at most as much as fits into the buffer), without blocking.
      *
-     * @param buf
-     * @return Return the amoubnt of bytes written into the buffer
+     * @param buf buffer to read into
+     * @return Return the amount of bytes written into the buffer (0 if nothing is available, -1 if the port was closed)
      */
     public abstract int read(ByteBuf buf);
 
     /**
+     * Writes the readable bytes of the buffer (as far as possible) and advances its reader index accordingly.
      *
+     * @param buf buffer to write
      * @return Number of bytes written to wire
      */
     public abstract int write(ByteBuf buf);
@@ -93,7 +93,7 @@ public abstract class SerialChannelHandler {
         }
 
         @Override
-        public void registerSelectionKey(SerialSelectionKey selectionKey) {
+        public void registerDataListener(Runnable dataAvailable) {
             comPort.addDataListener(new SerialPortDataListener() {
                 @Override
                 public int getListeningEvents() {
@@ -102,8 +102,7 @@ public abstract class SerialChannelHandler {
 
                 @Override
                 public void serialEvent(SerialPortEvent event) {
-                    ((SerialPollingSelector) selectionKey.selector())
-                        .addEvent(new SerialPollingSelector.SelectorEvent(selectionKey, SelectionKey.OP_READ));
+                    dataAvailable.run();
                 }
             });
         }
@@ -115,20 +114,42 @@ public abstract class SerialChannelHandler {
 
         @Override
         public int read(ByteBuf buf) {
-            int bytesToRead = comPort.bytesAvailable();
-            assert bytesToRead > 0;
-            byte[] buffer = new byte[bytesToRead];
-            comPort.readBytes(buffer, bytesToRead);
-            buf.writeBytes(buffer);
-            return bytesToRead;
+            int bytesAvailable = comPort.bytesAvailable();
+            if (bytesAvailable <= 0) {
+                return bytesAvailable;
+            }
+            int bytesToRead = Math.min(bytesAvailable, buf.writableBytes());
+            int bytesRead;
+            if (buf.hasArray()) {
+                // Read directly into the buffer.
+                bytesRead = comPort.readBytes(buf.array(), bytesToRead, buf.arrayOffset() + buf.writerIndex());
+                if (bytesRead > 0) {
+                    buf.writerIndex(buf.writerIndex() + bytesRead);
+                }
+            } else {
+                byte[] bytes = new byte[bytesToRead];
+                bytesRead = comPort.readBytes(bytes, bytesToRead);
+                if (bytesRead > 0) {
+                    buf.writeBytes(bytes, 0, bytesRead);
+                }
+            }
+            return bytesRead;
         }
 
         @Override
         public int write(ByteBuf buf) {
-            int expectedToWrite = buf.readableBytes();
-            byte[] bytes = new byte[expectedToWrite];
-            buf.readBytes(bytes);
-            int bytesWritten = comPort.writeBytes(bytes, expectedToWrite);
+            int bytesToWrite = buf.readableBytes();
+            int bytesWritten;
+            if (buf.hasArray()) {
+                bytesWritten = comPort.writeBytes(buf.array(), bytesToWrite, buf.arrayOffset() + buf.readerIndex());
+            } else {
+                byte[] bytes = new byte[bytesToWrite];
+                buf.getBytes(buf.readerIndex(), bytes);
+                bytesWritten = comPort.writeBytes(bytes, bytesToWrite);
+            }
+            if (bytesWritten > 0) {
+                buf.skipBytes(bytesWritten);
+            }
             return bytesWritten;
         }
     }
@@ -45,6 +45,11 @@ public class SerialTransport implements Transport, HasConfiguration<SerialTransp
     @Override
     public ChannelFactory createChannelFactory(String transportConfig) {
         SerialSocketAddress socketAddress = new SerialSocketAddress(transportConfig);
+        if ((configuration != null) && configuration.isSharedBus()) {
+            SerialBusChannelFactory serialBusChannelFactory = new SerialBusChannelFactory(socketAddress);
+            serialBusChannelFactory.setConfiguration(configuration);
+            return serialBusChannelFactory;
+        }
         SerialChannelFactory serialChannelFactory = new SerialChannelFactory(socketAddress);
         if(configuration != null) {
             serialChannelFactory.setConfiguration(configuration);
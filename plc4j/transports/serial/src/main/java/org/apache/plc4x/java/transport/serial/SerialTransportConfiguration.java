@@ -30,4 +30,39 @@ public interface SerialTransportConfiguration extends PlcTransportConfiguration
 
     SerialChannelOptionsParity getParity();
 
+    /**
+     * @return true, if the port is shared by all connections using it (multi-drop bus), see {@link SerialBus}.
+     */
+    default boolean isSharedBus() {
+        return false;
+    }
+
+    /**
+     * @return priority of this connection on a shared bus (Higher values are polled first).
+     */
+    default int getBusPriority() {
+        return 0;
+    }
+
+    /**
+     * @return time in milliseconds to wait for the first byte of a response on a shared bus.
+     */
+    default int getBusResponseTimeout() {
+        return 1000;
+    }
+
+    /**
+     * @return silent time in microseconds marking the end of a frame on a shared bus (0 = derived from the baud-rate).
+     */
+    default int getBusFrameGap() {
+        return 0;
+    }
+
+    /**
+     * @return time in milliseconds a connection is suspended on a shared bus after its device didn't respond.
+     */
+    default int getBusBackoffTime() {
+        return 1000;
+    }
+
 }
@@ -64,7 +64,7 @@ public class SerialChannelFactoryTest {
         Thread.sleep(100);
         for (int i = 1; i <= 10; i++) {
             Thread.sleep(10);
-            DummyHandler.INSTANCE.fireEvent(1);
+            DummyHandler.INSTANCE.fireDataAvailable();
         }
         Thread.sleep(100);
         channel.close().sync();
@@ -26,7 +26,7 @@ public class DummyHandler extends SerialChannelHandler {
 
     public static final DummyHandler INSTANCE = new DummyHandler(null);
 
-    private SerialSelectionKey selectionKey;
+    private Runnable dataAvailable;
 
     public DummyHandler(SocketAddress address) {
         super(address);
@@ -43,8 +43,8 @@ public class DummyHandler extends SerialChannelHandler {
     }
 
     @Override
-    public void registerSelectionKey(SerialSelectionKey selectionKey) {
-        this.selectionKey = selectionKey;
+    public void registerDataListener(Runnable dataAvailable) {
+        this.dataAvailable = dataAvailable;
     }
 
     @Override
@@ -61,11 +61,12 @@ public class DummyHandler extends SerialChannelHandler {
     @Override
     public int write(ByteBuf buf) {
         System.out.println("Haha i wrote something");
-        return 1;
+        int bytesWritten = buf.readableBytes();
+        buf.skipBytes(bytesWritten);
+        return bytesWritten;
     }
 
-    public void fireEvent(int readyOp) {
-        ((SerialPollingSelector) this.selectionKey.selector())
-            .addEvent(new SerialPollingSelector.SelectorEvent(this.selectionKey, readyOp));
+    public void fireDataAvailable() {
+        this.dataAvailable.run();
     }
 }
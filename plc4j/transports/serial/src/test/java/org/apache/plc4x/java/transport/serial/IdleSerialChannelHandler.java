@@ -37,9 +37,9 @@ class IdleSerialChannelHandler extends SerialChannelHandler {
     }
 
     @Override
-    void registerSelectionKey(SerialSelectionKey selectionKey) {
+    void registerDataListener(Runnable dataAvailable) {
         /*
-         * We can ignore registration as we will neven trigger events
+         * We can ignore registration as we will never have any data
          */
     }
 
@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.transport.serial;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import org.apache.plc4x.java.api.exceptions.PlcConnectionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerialBusTest {
+
+    private final List<Channel> channels = new ArrayList<>();
+
+    @AfterEach
+    void closeChannels() {
+        channels.forEach(channel -> channel.close().awaitUninterruptibly());
+    }
+
+    @Test
+    void responsesAreRoutedToTheRequestingConnection() throws Exception {
+        SerialSocketAddress port = new SerialSocketAddress("bus-routing", new VirtualSlavesHandler(Set.of()));
+        BlockingQueue<byte[]> responses1 = new LinkedBlockingQueue<>();
+        BlockingQueue<byte[]> responses2 = new LinkedBlockingQueue<>();
+        Channel channel1 = connect(port, configuration(0, 500, 1000), responses1);
+        Channel channel2 = connect(port, configuration(0, 500, 1000), responses2);
+
+        for (int i = 0; i < 5; i++) {
+            channel1.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1, (byte) i}));
+            channel2.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{2, (byte) i}));
+        }
+
+        for (int i = 0; i < 5; i++) {
+            assertArrayEquals(new byte[]{1, (byte) i}, responses1.poll(5, TimeUnit.SECONDS));
+            assertArrayEquals(new byte[]{2, (byte) i}, responses2.poll(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void deadDeviceDoesNotStarveTheOthers() throws Exception {
+        VirtualSlavesHandler slaves = new VirtualSlavesHandler(Set.of(9));
+        SerialSocketAddress port = new SerialSocketAddress("bus-dead-device", slaves);
+        BlockingQueue<byte[]> deadResponses = new LinkedBlockingQueue<>();
+        BlockingQueue<byte[]> aliveResponses = new LinkedBlockingQueue<>();
+        Channel dead = connect(port, configuration(0, 100, 5000), deadResponses);
+        Channel alive = connect(port, configuration(0, 100, 5000), aliveResponses);
+
+        for (int i = 0; i < 3; i++) {
+            dead.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{9, (byte) i})).sync();
+        }
+        for (int i = 0; i < 3; i++) {
+            alive.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1, (byte) i}));
+        }
+
+        for (int i = 0; i < 3; i++) {
+            assertArrayEquals(new byte[]{1, (byte) i}, aliveResponses.poll(2, TimeUnit.SECONDS));
+        }
+        // After the first timeout the frames of the dead device were dropped.
+        dead.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{9, 3})).sync();
+        alive.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1, 3}));
+        assertArrayEquals(new byte[]{1, 3}, aliveResponses.poll(2, TimeUnit.SECONDS));
+        assertEquals(1, slaves.getNumberOfFramesReceived(9));
+        assertTrue(deadResponses.isEmpty());
+    }
+
+    @Test
+    void higherPriorityConnectionsGoFirst() throws Exception {
+        VirtualSlavesHandler slaves = new VirtualSlavesHandler(Set.of(9));
+        SerialSocketAddress port = new SerialSocketAddress("bus-priority", slaves);
+        BlockingQueue<byte[]> blockerResponses = new LinkedBlockingQueue<>();
+        BlockingQueue<byte[]> lowResponses = new LinkedBlockingQueue<>();
+        BlockingQueue<byte[]> highResponses = new LinkedBlockingQueue<>();
+        // Keeps the bus busy, while the other frames are queued.
+        Channel blocker = connect(port, configuration(0, 300, 0), blockerResponses);
+        Channel low = connect(port, configuration(0, 500, 1000), lowResponses);
+        Channel high = connect(port, configuration(10, 500, 1000), highResponses);
+
+        blocker.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{9, 0})).sync();
+        List<byte[]> frames = slaves.getReceivedFrames();
+        while (frames.isEmpty()) {
+            Thread.sleep(10);
+        }
+        low.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1, 0})).sync();
+        high.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{2, 0})).sync();
+
+        assertNotNull(lowResponses.poll(5, TimeUnit.SECONDS));
+        assertNotNull(highResponses.poll(5, TimeUnit.SECONDS));
+        assertEquals(3, frames.size());
+        assertEquals(9, frames.get(0)[0]);
+        assertEquals(2, frames.get(1)[0]);
+        assertEquals(1, frames.get(2)[0]);
+    }
+
+    @Test
+    void closedPortIsReopenedByTheNextConnection() throws Exception {
+        SerialSocketAddress port = new SerialSocketAddress("bus-reopen", new VirtualSlavesHandler(Set.of()));
+        BlockingQueue<byte[]> responses = new LinkedBlockingQueue<>();
+        Channel channel = connect(port, configuration(0, 500, 1000), responses);
+        // Some other connection, which didn't release the bus yet.
+        SerialBus oldBus = SerialBus.acquire(port, configuration(0, 500, 1000));
+
+        oldBus.getPortChannel().close().sync();
+        assertTrue(channel.closeFuture().await(5, TimeUnit.SECONDS));
+
+        Channel reconnected = connect(port, configuration(0, 500, 1000), responses);
+        reconnected.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1, 0}));
+        assertArrayEquals(new byte[]{1, 0}, responses.poll(5, TimeUnit.SECONDS));
+
+        // Releasing the old bus doesn't affect the new one.
+        oldBus.release();
+        reconnected.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{1, 1}));
+        assertArrayEquals(new byte[]{1, 1}, responses.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void frameGapIsDerivedFromTheBaudRate() {
+        DefaultSerialTransportConfiguration configuration = new DefaultSerialTransportConfiguration();
+        configuration.setBaudRate(9600);
+        assertEquals(4011, SerialBus.getFrameGapMicros(configuration));
+        configuration.setBaudRate(115200);
+        assertEquals(SerialBus.MIN_FRAME_GAP_MICROS, SerialBus.getFrameGapMicros(configuration));
+        configuration.setBusFrameGap(20000);
+        assertEquals(20000, SerialBus.getFrameGapMicros(configuration));
+    }
+
+    private Channel connect(SerialSocketAddress port, SerialTransportConfiguration configuration,
+                            BlockingQueue<byte[]> responses) throws PlcConnectionException {
+        SerialBusChannelFactory channelFactory = new SerialBusChannelFactory(port);
+        channelFactory.setConfiguration(configuration);
+        Channel channel = channelFactory.createChannel(new SimpleChannelInboundHandler<ByteBuf>() {
+            @Override
+            protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                responses.add(ByteBufUtil.getBytes(msg));
+            }
+        });
+        channels.add(channel);
+        return channel;
+    }
+
+    private static SerialTransportConfiguration configuration(int priority, int responseTimeout, int backoffTime) {
+        DefaultSerialTransportConfiguration configuration = new DefaultSerialTransportConfiguration();
+        configuration.setSharedBus(true);
+        configuration.setBaudRate(57600);
+        configuration.setBusPriority(priority);
+        configuration.setBusResponseTimeout(responseTimeout);
+        configuration.setBusBackoffTime(backoffTime);
+        return configuration;
+    }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.transport.serial;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import org.apache.plc4x.java.api.exceptions.PlcConnectionException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerialChannelTest {
+
+    private final RecordingHandler port = new RecordingHandler();
+    private final BlockingQueue<byte[]> received = new LinkedBlockingQueue<>();
+    private final AtomicInteger heapBuffers = new AtomicInteger();
+    private Channel channel;
+
+    @AfterEach
+    void closeChannel() {
+        if (channel != null) {
+            channel.close().awaitUninterruptibly();
+        }
+    }
+
+    @Test
+    void dataIsReadWhenTheHandlerReportsIt() throws Exception {
+        connect();
+
+        // Reported from the thread of the serial library.
+        Thread thread = new Thread(() -> port.receive(new byte[]{1, 2, 3}));
+        thread.start();
+        thread.join();
+
+        assertArrayEquals(new byte[]{1, 2, 3}, received.poll(5, TimeUnit.SECONDS));
+        assertEquals(1, heapBuffers.get());
+    }
+
+    @Test
+    void dataLargerThanTheReceiveBufferIsReadCompletely() throws Exception {
+        connect();
+        byte[] data = new byte[100_000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) i;
+        }
+
+        // Reported only once, like an edge-triggered event.
+        port.receive(data);
+
+        ByteArrayOutputStream all = new ByteArrayOutputStream();
+        while (all.size() < data.length) {
+            byte[] chunk = received.poll(5, TimeUnit.SECONDS);
+            assertNotNull(chunk, "Only received " + all.size() + " bytes");
+            all.write(chunk, 0, chunk.length);
+        }
+        assertArrayEquals(data, all.toByteArray());
+    }
+
+    @Test
+    void portIsNotReadWhileIdle() throws Exception {
+        connect();
+
+        Thread.sleep(200);
+
+        assertEquals(0, port.reads.get());
+    }
+
+    @Test
+    void dataIsHeldBackWithoutAutoRead() throws Exception {
+        connect();
+        channel.config().setAutoRead(false);
+
+        port.receive(new byte[]{4, 5});
+        assertNull(received.poll(200, TimeUnit.MILLISECONDS));
+
+        channel.read();
+        assertArrayEquals(new byte[]{4, 5}, received.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void writtenBytesArePassedToTheHandler() throws Exception {
+        connect();
+
+        channel.writeAndFlush(Unpooled.wrappedBuffer(new byte[]{6, 7, 8})).sync();
+
+        assertArrayEquals(new byte[]{6, 7, 8}, port.written.toByteArray());
+    }
+
+    private void connect() throws PlcConnectionException {
+        channel = new SerialChannelFactory(new SerialSocketAddress("test", port))
+            .createChannel(new SimpleChannelInboundHandler<ByteBuf>() {
+                @Override
+                protected void channelRead0(ChannelHandlerContext ctx, ByteBuf msg) {
+                    if (msg.hasArray()) {
+                        heapBuffers.incrementAndGet();
+                    }
+                    received.add(ByteBufUtil.getBytes(msg));
+                }
+            });
+    }
+
+    private static class RecordingHandler extends SerialChannelHandler {
+
+        private final Deque<byte[]> data = new ConcurrentLinkedDeque<>();
+        private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+        private final AtomicInteger reads = new AtomicInteger();
+        private Runnable dataAvailable;
+
+        RecordingHandler() {
+            super(null);
+        }
+
+        void receive(byte[] bytes) {
+            data.add(bytes);
+            dataAvailable.run();
+        }
+
+        @Override
+        boolean open() {
+            return true;
+        }
+
+        @Override
+        String getIdentifier() {
+            return "Recording Com Port";
+        }
+
+        @Override
+        void registerDataListener(Runnable dataAvailable) {
+            this.dataAvailable = dataAvailable;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public synchronized int read(ByteBuf buf) {
+            reads.incrementAndGet();
+            byte[] bytes = data.peek();
+            if (bytes == null) {
+                return 0;
+            }
+            // Like a real port, only read as much as fits into the buffer.
+            int length = Math.min(bytes.length, buf.writableBytes());
+            buf.writeBytes(bytes, 0, length);
+            data.poll();
+            if (length < bytes.length) {
+                data.addFirst(Arrays.copyOfRange(bytes, length, bytes.length));
+            }
+            return length;
+        }
+
+        @Override
+        public int write(ByteBuf buf) {
+            byte[] bytes = new byte[buf.readableBytes()];
+            buf.readBytes(bytes);
+            written.write(bytes, 0, bytes.length);
+            return bytes.length;
+        }
+
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.transport.serial;
+
+import com.sun.management.OperatingSystemMXBean;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.handler.codec.ByteToMessageDecoder;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the round-trip latency of Modbus RTU sized frames through a {@link SerialChannel} with a device
+ * emulated in memory, as well as the CPU used by an idle channel.
+ */
+public class SerialLoopbackBenchmarkTest {
+
+    // Read Holding Registers, unit 1, address 0, 10 registers
+    private static final byte[] REQUEST = {0x01, 0x03, 0x00, 0x00, 0x00, 0x0A, (byte) 0xC5, (byte) 0xCD};
+    // Response with 10 registers (CRC isn't checked here)
+    private static final byte[] RESPONSE = new byte[25];
+
+    static {
+        RESPONSE[0] = 0x01;
+        RESPONSE[1] = 0x03;
+        RESPONSE[2] = 0x14;
+    }
+
+    @Disabled("Benchmark, best executed manually")
+    @Test
+    public void modbusRtuRoundTrip() throws Exception {
+        SynchronousQueue<Long> responses = new SynchronousQueue<>();
+        Channel channel = new SerialChannelFactory(new SerialSocketAddress("loopback", new LoopbackHandler()))
+            .createChannel(new ChannelInitializer<Channel>() {
+                @Override
+                protected void initChannel(Channel ch) {
+                    ch.pipeline().addLast(new ByteToMessageDecoder() {
+                        @Override
+                        protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception {
+                            if (in.readableBytes() >= RESPONSE.length) {
+                                in.skipBytes(RESPONSE.length);
+                                responses.put(System.nanoTime());
+                            }
+                        }
+                    });
+                }
+            });
+        try {
+            // Idle CPU
+            OperatingSystemMXBean os = (OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean();
+            long cpuStart = os.getProcessCpuTime();
+            long wallStart = System.nanoTime();
+            Thread.sleep(5000);
+            double idleCpu = 100.0 * (os.getProcessCpuTime() - cpuStart) / (System.nanoTime() - wallStart);
+
+            // Round-trip latency
+            int warmup = 2_000;
+            int iterations = 20_000;
+            long[] latencies = new long[iterations];
+            for (int i = 0; i < warmup + iterations; i++) {
+                long start = System.nanoTime();
+                channel.writeAndFlush(Unpooled.wrappedBuffer(REQUEST));
+                Long end = responses.poll(5, TimeUnit.SECONDS);
+                if (end == null) {
+                    throw new IllegalStateException("No response");
+                }
+                if (i >= warmup) {
+                    latencies[i - warmup] = end - start;
+                }
+            }
+            Arrays.sort(latencies);
+            System.out.printf("Idle CPU: %.2f%%%n", idleCpu);
+            System.out.printf("Round-trip: mean %.1f µs, p50 %.1f µs, p99 %.1f µs%n",
+                Arrays.stream(latencies).average().orElse(0) / 1000.0,
+                latencies[iterations / 2] / 1000.0, latencies[iterations * 99 / 100] / 1000.0);
+        } finally {
+            channel.close().sync();
+        }
+    }
+
+    /**
+     * Answers every request with a response as if a device was attached.
+     */
+    private static class LoopbackHandler extends SerialChannelHandler {
+
+        private volatile byte[] pending;
+        private Runnable dataAvailable;
+
+        LoopbackHandler() {
+            super(null);
+        }
+
+        @Override
+        boolean open() {
+            return true;
+        }
+
+        @Override
+        String getIdentifier() {
+            return "Loopback";
+        }
+
+        @Override
+        void registerDataListener(Runnable dataAvailable) {
+            this.dataAvailable = dataAvailable;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public int read(ByteBuf buf) {
+            byte[] response = pending;
+            if (response == null) {
+                return 0;
+            }
+            pending = null;
+            buf.writeBytes(response);
+            return response.length;
+        }
+
+        @Override
+        public int write(ByteBuf buf) {
+            int length = buf.readableBytes();
+            buf.skipBytes(length);
+            pending = RESPONSE;
+            dataAvailable.run();
+            return length;
+        }
+
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.plc4x.java.transport.serial;
+
+import io.netty.buffer.ByteBuf;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Emulates devices on a multi-drop bus: every frame starts with the address of the device, which answers by
+ * echoing the frame back. Devices in the set of dead devices don't answer at all.
+ */
+class VirtualSlavesHandler extends SerialChannelHandler {
+
+    private final Set<Integer> deadDevices;
+    private final List<byte[]> receivedFrames = new CopyOnWriteArrayList<>();
+    private final Queue<byte[]> responses = new ConcurrentLinkedQueue<>();
+    private Runnable dataAvailable;
+
+    VirtualSlavesHandler(Set<Integer> deadDevices) {
+        super(null);
+        this.deadDevices = deadDevices;
+    }
+
+    List<byte[]> getReceivedFrames() {
+        return receivedFrames;
+    }
+
+    long getNumberOfFramesReceived(int device) {
+        return receivedFrames.stream().filter(frame -> frame[0] == device).count();
+    }
+
+    @Override
+    boolean open() {
+        return true;
+    }
+
+    @Override
+    String getIdentifier() {
+        return "Virtual Bus";
+    }
+
+    @Override
+    void registerDataListener(Runnable dataAvailable) {
+        this.dataAvailable = dataAvailable;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public int read(ByteBuf buf) {
+        byte[] response = responses.poll();
+        if (response == null) {
+            return 0;
+        }
+        buf.writeBytes(response);
+        return response.length;
+    }
+
+    @Override
+    public int write(ByteBuf buf) {
+        byte[] frame = new byte[buf.readableBytes()];
+        buf.readBytes(frame);
+        receivedFrames.add(frame);
+        if (!deadDevices.contains((int) frame[0])) {
+            responses.add(frame);
+            dataAvailable.run();
+        }
+        return frame.length;
+    }
+
+}